@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Sobe um replica set (rs0) de três mongod no mesmo contêiner, nas portas 27018-27020.
+# Os membros são anunciados como localhost, acessíveis do host pelas mesmas portas:
+# MONGODB_URI=mongodb://localhost:27018,localhost:27019,localhost:27020/tc-customer?replicaSet=rs0
+set -euo pipefail
+
+for porta in 27018 27019 27020; do
+	mkdir -p "/data/rs/${porta}"
+	mongod --replSet rs0 --port "${porta}" --bind_ip_all --dbpath "/data/rs/${porta}" \
+		--logpath "/data/rs/${porta}.log" --fork
+done
+
+mongosh --quiet --port 27018 --eval '
+try {
+	rs.status();
+} catch (e) {
+	rs.initiate({
+		_id: "rs0",
+		members: [
+			{ _id: 0, host: "localhost:27018", priority: 2 },
+			{ _id: 1, host: "localhost:27019" },
+			{ _id: 2, host: "localhost:27020" }
+		]
+	});
+}
+'
+
+exec tail -F /data/rs/27018.log /data/rs/27019.log /data/rs/27020.log
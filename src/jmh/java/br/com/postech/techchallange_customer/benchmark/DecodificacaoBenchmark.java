@@ -0,0 +1,105 @@
+package br.com.postech.techchallange_customer.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.infrastructure.persistence.codec.ClienteCodec;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteDocumentMapper;
+
+/**
+ * Decodificação de uma página da listagem a partir dos bytes BSON recebidos do
+ * servidor: caminho atual (Document → MappingMongoConverter → ClienteDocument →
+ * Cliente) contra ClienteCodec (BSON → Cliente). Rodar com -prof gc para
+ * comparar a alocação por operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodificacaoBenchmark {
+
+	private static final DecoderContext DECODER = DecoderContext.builder().build();
+
+	/**
+	 * Itens por página (busca pontual, padrão da listagem e máximo)
+	 */
+	@Param({ "1", "20", "100" })
+	private int tamanhoPagina;
+
+	private byte[][] documentos;
+	private DocumentCodec documentCodec;
+	private MappingMongoConverter converter;
+	private ClienteCodec clienteCodec;
+
+	@Setup
+	public void setUp() {
+		documentCodec = new DocumentCodec();
+		converter = MassaClientes.converterPadrao();
+		clienteCodec = new ClienteCodec();
+
+		List<Cliente> clientes = MassaClientes.clientes(tamanhoPagina, 5);
+		documentos = new byte[clientes.size()][];
+		for (int i = 0; i < clientes.size(); i++) {
+			Document gravado = new Document();
+			converter.write(ClienteDocumentMapper.toDocument(clientes.get(i)), gravado);
+			documentos[i] = codificar(gravado);
+		}
+	}
+
+	@Benchmark
+	public List<Cliente> mappingMongoConverter() {
+		List<Cliente> pagina = new ArrayList<>(documentos.length);
+		for (byte[] bytes : documentos) {
+			Document documento = documentCodec.decode(leitor(bytes), DECODER);
+			pagina.add(ClienteDocumentMapper.toDomain(converter.read(ClienteDocument.class, documento)));
+		}
+		return pagina;
+	}
+
+	@Benchmark
+	public List<Cliente> clienteCodec() {
+		List<Cliente> pagina = new ArrayList<>(documentos.length);
+		for (byte[] bytes : documentos) {
+			pagina.add(clienteCodec.decode(leitor(bytes), DECODER));
+		}
+		return pagina;
+	}
+
+	private static BsonBinaryReader leitor(byte[] bytes) {
+		return new BsonBinaryReader(ByteBuffer.wrap(bytes));
+	}
+
+	private byte[] codificar(Document documento) {
+		BasicOutputBuffer buffer = new BasicOutputBuffer();
+		try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+			documentCodec.encode(writer, documento, EncoderContext.builder().build());
+		}
+		return buffer.toByteArray();
+	}
+}
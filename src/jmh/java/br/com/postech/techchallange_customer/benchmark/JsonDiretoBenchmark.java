@@ -0,0 +1,82 @@
+package br.com.postech.techchallange_customer.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJsonTranscoder;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteDocumentMapper;
+
+/**
+ * Resposta de uma busca pontual a partir dos bytes BSON recebidos do
+ * servidor: caminho mapeado (Document → ClienteDocument → Cliente → ClienteDTO
+ * → Jackson) contra a transcodificação direta de ClienteJsonTranscoder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonDiretoBenchmark {
+
+	private static final DecoderContext DECODER = DecoderContext.builder().build();
+
+	/**
+	 * Quantidade de tags no metadata (sem tags, típico e cliente muito segmentado)
+	 */
+	@Param({ "0", "5", "50" })
+	private int tags;
+
+	private byte[] bson;
+	private DocumentCodec documentCodec;
+	private MappingMongoConverter converter;
+	private ObjectMapper objectMapper;
+	private ClienteJsonTranscoder transcoder;
+
+	@Setup
+	public void setUp() {
+		documentCodec = new DocumentCodec();
+		converter = MassaClientes.converterPadrao();
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		transcoder = new ClienteJsonTranscoder(objectMapper.getFactory());
+
+		Document gravado = new Document();
+		converter.write(ClienteDocumentMapper.toDocument(MassaClientes.cliente(1, tags)), gravado);
+		RawBsonDocument raw = new RawBsonDocument(gravado, documentCodec);
+		bson = new byte[raw.getByteBuffer().remaining()];
+		raw.getByteBuffer().get(bson);
+	}
+
+	@Benchmark
+	public byte[] caminhoMapeado() throws Exception {
+		Document documento = documentCodec.decode(new RawBsonDocument(bson).asBsonReader(), DECODER);
+		ClienteDocument clienteDocument = converter.read(ClienteDocument.class, documento);
+		return objectMapper.writeValueAsBytes(ClienteMapper.toDTO(ClienteDocumentMapper.toDomain(clienteDocument)));
+	}
+
+	@Benchmark
+	public byte[] jsonDireto() {
+		return transcoder.toJson(new RawBsonDocument(bson));
+	}
+}
@@ -0,0 +1,71 @@
+package br.com.postech.techchallange_customer.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteDocumentMapper;
+
+/**
+ * Mapeamentos percorridos em toda requisição: DTO ↔ domínio (ClienteMapper) e
+ * domínio ↔ documento (ClienteDocumentMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+	/**
+	 * Quantidade de tags no metadata (sem tags, típico e cliente muito segmentado)
+	 */
+	@Param({ "0", "5", "50" })
+	private int tags;
+
+	private ClienteDTO dto;
+	private Cliente cliente;
+	private ClienteDocument documento;
+
+	@Setup
+	public void setUp() {
+		dto = MassaClientes.dto(1, tags);
+		cliente = MassaClientes.cliente(1, tags);
+		documento = ClienteDocumentMapper.toDocument(cliente);
+	}
+
+	@Benchmark
+	public Cliente dtoParaDominio() {
+		return ClienteMapper.toDomain(dto);
+	}
+
+	@Benchmark
+	public ClienteDTO dominioParaDto() {
+		return ClienteMapper.toDTO(cliente);
+	}
+
+	@Benchmark
+	public ClienteDocument dominioParaDocumento() {
+		return ClienteDocumentMapper.toDocument(cliente);
+	}
+
+	@Benchmark
+	public Cliente documentoParaDominio() {
+		return ClienteDocumentMapper.toDomain(documento);
+	}
+}
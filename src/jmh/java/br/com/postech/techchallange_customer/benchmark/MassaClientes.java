@@ -0,0 +1,105 @@
+package br.com.postech.techchallange_customer.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+
+/**
+ * Massa de clientes para os benchmarks
+ * Cadastros completos (endereço, metadata e tags) com o tamanho típico dos
+ * documentos da coleção; o índice torna cada cliente distinto
+ */
+final class MassaClientes {
+
+	private static final LocalDateTime CADASTRO = LocalDateTime.of(2024, 3, 15, 10, 30, 45);
+
+	private MassaClientes() {
+	}
+
+	static Cliente cliente(int indice, int quantidadeTags) {
+		Cliente cliente = new Cliente("Maria Aparecida dos Santos Oliveira " + indice,
+				"maria.oliveira" + indice + "@exemplo.com.br", cpf(indice));
+		cliente.setId(String.format("65f4a1c2e4b0%012x", indice));
+		cliente.setClienteId("7b9e2c4a-1f3d-4e8b-9a6c-" + String.format("%012d", indice));
+		cliente.setTelefone("11987654321");
+		cliente.setAtivo(true);
+		cliente.setDataCadastro(CADASTRO);
+		cliente.setDataUltimaAtualizacao(CADASTRO.plusDays(indice % 30));
+		cliente.setVersao(3);
+
+		Endereco endereco = new Endereco("Avenida Paulista", String.valueOf(1000 + indice), "São Paulo", "SP",
+				"01310100");
+		endereco.setComplemento("Conjunto 42, Bloco B");
+		endereco.setBairro("Bela Vista");
+		cliente.setEndereco(endereco);
+
+		Metadata metadata = new Metadata("site", "web");
+		List<String> tags = new ArrayList<>(quantidadeTags);
+		for (int i = 0; i < quantidadeTags; i++) {
+			tags.add("segmento-" + i);
+		}
+		metadata.setTags(tags);
+		metadata.setNotas("Cliente migrado do sistema legado; preferência de contato por e-mail");
+		cliente.setMetadata(metadata);
+		return cliente;
+	}
+
+	/**
+	 * CPF com dígitos verificadores válidos a partir do índice
+	 */
+	static String cpf(int indice) {
+		String base = String.valueOf(390533447 + indice);
+		int primeiro = digitoVerificador(base, 10);
+		int segundo = digitoVerificador(base + primeiro, 11);
+		return base + primeiro + segundo;
+	}
+
+	private static int digitoVerificador(String digitos, int pesoInicial) {
+		int soma = 0;
+		for (int i = 0; i < digitos.length(); i++) {
+			soma += (digitos.charAt(i) - '0') * (pesoInicial - i);
+		}
+		int resto = soma % 11;
+		return resto < 2 ? 0 : 11 - resto;
+	}
+
+	static ClienteDTO dto(int indice, int quantidadeTags) {
+		return ClienteMapper.toDTO(cliente(indice, quantidadeTags));
+	}
+
+	static List<Cliente> clientes(int quantidade, int quantidadeTags) {
+		List<Cliente> clientes = new ArrayList<>(quantidade);
+		for (int i = 0; i < quantidade; i++) {
+			clientes.add(cliente(i, quantidadeTags));
+		}
+		return clientes;
+	}
+
+	/**
+	 * Conversor com a mesma configuração do padrão do MongoTemplate criado em
+	 * MongoConfig
+	 */
+	static MappingMongoConverter converterPadrao() {
+		MongoCustomConversions conversions = new MongoCustomConversions(Collections.emptyList());
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.setCustomConversions(conversions);
+		converter.afterPropertiesSet();
+		return converter;
+	}
+}
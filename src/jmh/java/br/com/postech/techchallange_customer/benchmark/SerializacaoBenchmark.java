@@ -0,0 +1,99 @@
+package br.com.postech.techchallange_customer.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.infrastructure.rest.json.ClienteJacksonModule;
+
+/**
+ * Serialização JSON de ClienteDTO com um ObjectMapper nos padrões do Spring
+ * (o mesmo builder usado pela auto-configuração): cliente individual nos dois
+ * sentidos e páginas da listagem por tamanho, por reflexão e com os
+ * serializadores dedicados de ClienteJacksonModule (métodos *Dedicado)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+	private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+	private static final ObjectMapper MAPPER_DEDICADO = Jackson2ObjectMapperBuilder.json()
+			.modulesToInstall(new ClienteJacksonModule())
+			.build();
+
+	@State(Scope.Benchmark)
+	public static class Individual {
+
+		private ClienteDTO dto;
+		private byte[] json;
+
+		@Setup
+		public void setUp() throws Exception {
+			dto = MassaClientes.dto(1, 5);
+			json = MAPPER.writeValueAsBytes(dto);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Paginado {
+
+		/**
+		 * Itens por página (busca pontual, padrão da listagem e máximo)
+		 */
+		@Param({ "1", "20", "100" })
+		private int tamanhoPagina;
+
+		private PaginaDTO<ClienteDTO> pagina;
+
+		@Setup
+		public void setUp() {
+			pagina = ClienteMapper.toPaginaDTO(new Pagina<>(MassaClientes.clientes(tamanhoPagina, 5), "cursor"));
+		}
+	}
+
+	@Benchmark
+	public byte[] serializarCliente(Individual estado) throws Exception {
+		return MAPPER.writeValueAsBytes(estado.dto);
+	}
+
+	@Benchmark
+	public ClienteDTO desserializarCliente(Individual estado) throws Exception {
+		return MAPPER.readValue(estado.json, ClienteDTO.class);
+	}
+
+	@Benchmark
+	public byte[] serializarPagina(Paginado estado) throws Exception {
+		return MAPPER.writeValueAsBytes(estado.pagina);
+	}
+
+	@Benchmark
+	public byte[] serializarClienteDedicado(Individual estado) throws Exception {
+		return MAPPER_DEDICADO.writeValueAsBytes(estado.dto);
+	}
+
+	@Benchmark
+	public byte[] serializarPaginaDedicado(Paginado estado) throws Exception {
+		return MAPPER_DEDICADO.writeValueAsBytes(estado.pagina);
+	}
+}
@@ -0,0 +1,110 @@
+package br.com.postech.techchallange_customer.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.infrastructure.rest.json.ClienteJacksonModule;
+
+/**
+ * Rajada de requisições que esperam pelo MongoDB: pool de threads de
+ * plataforma do tamanho padrão do Tomcat (200) contra uma thread virtual por
+ * requisição (spring.threads.virtual.enabled)
+ *
+ * Cada requisição pega uma conexão do pool (semáforo com maxPoolSize
+ * permissões), espera a latência do comando sem ocupar CPU e serializa a
+ * resposta. Com o pool do MongoDB menor que o de threads, a espera pela conexão
+ * limita as duas variantes; o ganho das threads virtuais aparece quando o pool
+ * comporta mais operações simultâneas que o Tomcat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadsVirtuaisBenchmark {
+
+	private static final int THREADS_TOMCAT = 200;
+	private static final int REQUISICOES = 2_000;
+	private static final long LATENCIA_MONGO_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+	private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json()
+			.modulesToInstall(new ClienteJacksonModule())
+			.build();
+
+	/**
+	 * Onde cada requisição roda: pool fixo de plataforma ou thread virtual
+	 */
+	@Param({ "plataforma", "virtual" })
+	private String executor;
+
+	/**
+	 * maxPoolSize do MongoClient (100 é o padrão do driver)
+	 */
+	@Param({ "100", "1000" })
+	private int conexoes;
+
+	private ExecutorService servidor;
+	private Semaphore pool;
+	private ClienteDTO resposta;
+
+	@Setup
+	public void setUp() {
+		servidor = "virtual".equals(executor) ? Executors.newVirtualThreadPerTaskExecutor()
+				: Executors.newFixedThreadPool(THREADS_TOMCAT);
+		pool = new Semaphore(conexoes, true);
+		resposta = MassaClientes.dto(1, 5);
+	}
+
+	@TearDown
+	public void tearDown() {
+		servidor.shutdownNow();
+	}
+
+	@Benchmark
+	public long rajada() throws Exception {
+		List<Future<Integer>> respostas = new ArrayList<>(REQUISICOES);
+		for (int i = 0; i < REQUISICOES; i++) {
+			respostas.add(servidor.submit(this::requisicao));
+		}
+
+		long bytes = 0;
+		for (Future<Integer> enviada : respostas) {
+			bytes += enviada.get();
+		}
+		return bytes;
+	}
+
+	private int requisicao() throws Exception {
+		pool.acquire();
+		try {
+			LockSupport.parkNanos(LATENCIA_MONGO_NANOS);
+		} finally {
+			pool.release();
+		}
+		return MAPPER.writeValueAsBytes(resposta).length;
+	}
+}
@@ -0,0 +1,88 @@
+package br.com.postech.techchallange_customer.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.validation.ValidadorFormato;
+
+/**
+ * Validações de formato da entidade (isCpfValido, isEmailValido e isValido),
+ * com dados válidos e inválidos
+ *
+ * Os métodos *Regex reproduzem a implementação anterior (String.matches, que
+ * compila o Pattern a cada chamada) como referência para ValidadorFormato
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidacaoBenchmark {
+
+	private Cliente valido;
+	private Cliente invalido;
+
+	@Setup
+	public void setUp() {
+		valido = MassaClientes.cliente(1, 0);
+		// CPF com máscara e e-mail sem domínio: falham no formato
+		invalido = new Cliente("João da Silva", "joao.silva.exemplo.com.br", "390.533.447-05");
+	}
+
+	@Benchmark
+	public boolean cpfValido() {
+		return ValidadorFormato.isCpfValido(valido.getCpfCliente());
+	}
+
+	@Benchmark
+	public boolean cpfValidoRegex() {
+		return valido.getCpfCliente().matches("\\d{11}");
+	}
+
+	@Benchmark
+	public boolean cpfInvalido() {
+		return ValidadorFormato.isCpfValido(invalido.getCpfCliente());
+	}
+
+	@Benchmark
+	public boolean cpfInvalidoRegex() {
+		return invalido.getCpfCliente().matches("\\d{11}");
+	}
+
+	@Benchmark
+	public boolean emailValido() {
+		return ValidadorFormato.isEmailValido(valido.getEmailCliente());
+	}
+
+	@Benchmark
+	public boolean emailValidoRegex() {
+		return valido.getEmailCliente().matches("^[A-Za-z0-9+_.-]+@(.+)$");
+	}
+
+	@Benchmark
+	public boolean emailInvalido() {
+		return ValidadorFormato.isEmailValido(invalido.getEmailCliente());
+	}
+
+	@Benchmark
+	public boolean emailInvalidoRegex() {
+		return invalido.getEmailCliente().matches("^[A-Za-z0-9+_.-]+@(.+)$");
+	}
+
+	@Benchmark
+	public boolean clienteValido() {
+		return valido.isValido();
+	}
+}
@@ -0,0 +1,38 @@
+package br.com.postech.techchallange_customer.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO da alteração em massa aplicada aos clientes de um filtro
+ */
+public class AlteracaoEmMassaDTO {
+
+	@NotBlank(message = "A operação é obrigatória")
+	private String operacao;
+
+	private String tag;
+
+	public AlteracaoEmMassaDTO() {
+	}
+
+	public AlteracaoEmMassaDTO(String operacao, String tag) {
+		this.operacao = operacao;
+		this.tag = tag;
+	}
+
+	public String getOperacao() {
+		return operacao;
+	}
+
+	public void setOperacao(String operacao) {
+		this.operacao = operacao;
+	}
+
+	public String getTag() {
+		return tag;
+	}
+
+	public void setTag(String tag) {
+		this.tag = tag;
+	}
+}
@@ -4,10 +4,10 @@ import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import br.com.postech.techchallange_customer.application.validation.CpfValido;
+import br.com.postech.techchallange_customer.application.validation.EmailValido;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 
 /**
  * DTO para representação de Cliente na camada de aplicação
@@ -21,11 +21,11 @@ public class ClienteDTO {
 	private String nomeCliente;
 
 	@NotBlank(message = "O e-mail é obrigatório")
-	@Email(message = "Formato de e-mail inválido")
+	@EmailValido
 	private String emailCliente;
 
 	@NotBlank(message = "O CPF é obrigatório")
-	@Pattern(regexp = "\\d{11}", message = "O CPF deve conter exatamente 11 dígitos numéricos")
+	@CpfValido
 	private String cpfCliente;
 
 	private String telefone;
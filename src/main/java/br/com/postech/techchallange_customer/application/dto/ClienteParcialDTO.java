@@ -0,0 +1,16 @@
+package br.com.postech.techchallange_customer.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO de uma resposta parcial (fields=)
+ * Só os campos da projeção são preenchidos; os nulos são omitidos para que os
+ * campos não pedidos não apareçam. Respostas completas usam ClienteDTO, que
+ * mantém todas as chaves
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClienteParcialDTO extends ClienteDTO {
+
+	public ClienteParcialDTO() {
+	}
+}
@@ -0,0 +1,46 @@
+package br.com.postech.techchallange_customer.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para representação de uma página de resultados paginados por cursor
+ */
+public class PaginaDTO<T> {
+
+	private List<T> itens;
+	private String proximoCursor;
+	private boolean temProxima;
+
+	public PaginaDTO() {
+	}
+
+	public PaginaDTO(List<T> itens, String proximoCursor) {
+		this.itens = itens;
+		this.proximoCursor = proximoCursor;
+		this.temProxima = proximoCursor != null;
+	}
+
+	public List<T> getItens() {
+		return itens;
+	}
+
+	public void setItens(List<T> itens) {
+		this.itens = itens;
+	}
+
+	public String getProximoCursor() {
+		return proximoCursor;
+	}
+
+	public void setProximoCursor(String proximoCursor) {
+		this.proximoCursor = proximoCursor;
+	}
+
+	public boolean isTemProxima() {
+		return temProxima;
+	}
+
+	public void setTemProxima(boolean temProxima) {
+		this.temProxima = temProxima;
+	}
+}
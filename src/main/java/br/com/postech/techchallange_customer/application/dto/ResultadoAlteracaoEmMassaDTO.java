@@ -0,0 +1,44 @@
+package br.com.postech.techchallange_customer.application.dto;
+
+/**
+ * DTO com as contagens de uma alteração em massa
+ */
+public class ResultadoAlteracaoEmMassaDTO {
+
+	private long encontrados;
+	private long alterados;
+	private boolean simulacao;
+
+	public ResultadoAlteracaoEmMassaDTO() {
+	}
+
+	public ResultadoAlteracaoEmMassaDTO(long encontrados, long alterados, boolean simulacao) {
+		this.encontrados = encontrados;
+		this.alterados = alterados;
+		this.simulacao = simulacao;
+	}
+
+	public long getEncontrados() {
+		return encontrados;
+	}
+
+	public void setEncontrados(long encontrados) {
+		this.encontrados = encontrados;
+	}
+
+	public long getAlterados() {
+		return alterados;
+	}
+
+	public void setAlterados(long alterados) {
+		this.alterados = alterados;
+	}
+
+	public boolean isSimulacao() {
+		return simulacao;
+	}
+
+	public void setSimulacao(boolean simulacao) {
+		this.simulacao = simulacao;
+	}
+}
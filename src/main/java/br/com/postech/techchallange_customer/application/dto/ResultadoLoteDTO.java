@@ -0,0 +1,56 @@
+package br.com.postech.techchallange_customer.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO com o resumo e os resultados item a item de uma criação em lote
+ */
+public class ResultadoLoteDTO {
+
+	private int total;
+	private int criados;
+	private int rejeitados;
+	private List<ItemLoteDTO> itens;
+
+	public ResultadoLoteDTO() {
+	}
+
+	public ResultadoLoteDTO(List<ItemLoteDTO> itens, int criados) {
+		this.itens = itens;
+		this.total = itens.size();
+		this.criados = criados;
+		this.rejeitados = this.total - criados;
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+	public void setTotal(int total) {
+		this.total = total;
+	}
+
+	public int getCriados() {
+		return criados;
+	}
+
+	public void setCriados(int criados) {
+		this.criados = criados;
+	}
+
+	public int getRejeitados() {
+		return rejeitados;
+	}
+
+	public void setRejeitados(int rejeitados) {
+		this.rejeitados = rejeitados;
+	}
+
+	public List<ItemLoteDTO> getItens() {
+		return itens;
+	}
+
+	public void setItens(List<ItemLoteDTO> itens) {
+		this.itens = itens;
+	}
+}
@@ -1,11 +1,26 @@
 package br.com.postech.techchallange_customer.application.mapper;
 
+import br.com.postech.techchallange_customer.application.dto.AlteracaoEmMassaDTO;
 import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.ClienteParcialDTO;
 import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
+import br.com.postech.techchallange_customer.application.dto.ItemLoteDTO;
 import br.com.postech.techchallange_customer.application.dto.MetadataDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoAlteracaoEmMassaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoLoteDTO;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
 import br.com.postech.techchallange_customer.domain.entity.Endereco;
 import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.TipoAlteracaoEmMassa;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class ClienteMapper {
 
@@ -40,6 +55,134 @@ public class ClienteMapper {
 		return dto;
 	}
 
+	/**
+	 * Converte de Domain Entity para DTO preenchendo apenas os campos da projeção
+	 * Projeções parciais geram ClienteParcialDTO, que omite os campos nulos
+	 */
+	public static ClienteDTO toDTO(Cliente cliente, ProjecaoCliente projecao) {
+		if (cliente == null || projecao == null || projecao.isCompleta()) {
+			return toDTO(cliente);
+		}
+
+		ClienteDTO dto = new ClienteParcialDTO();
+		if (projecao.inclui("id")) {
+			dto.setId(cliente.getId());
+		}
+		if (projecao.inclui("clienteId")) {
+			dto.setClienteId(cliente.getClienteId());
+		}
+		if (projecao.inclui("nomeCliente")) {
+			dto.setNomeCliente(cliente.getNomeCliente());
+		}
+		if (projecao.inclui("emailCliente")) {
+			dto.setEmailCliente(cliente.getEmailCliente());
+		}
+		if (projecao.inclui("cpfCliente")) {
+			dto.setCpfCliente(cliente.getCpfCliente());
+		}
+		if (projecao.inclui("telefone")) {
+			dto.setTelefone(cliente.getTelefone());
+		}
+		if (projecao.inclui("ativo")) {
+			dto.setAtivo(cliente.getAtivo());
+		}
+		if (projecao.inclui("dataCadastro")) {
+			dto.setDataCadastro(cliente.getDataCadastro());
+		}
+		if (projecao.inclui("dataUltimaAtualizacao")) {
+			dto.setDataUltimaAtualizacao(cliente.getDataUltimaAtualizacao());
+		}
+		if (projecao.inclui("versao")) {
+			dto.setVersao(cliente.getVersao());
+		}
+		if (projecao.inclui("endereco") && cliente.getEndereco() != null) {
+			dto.setEndereco(toEnderecoDTO(cliente.getEndereco()));
+		}
+		if (projecao.inclui("metadata") && cliente.getMetadata() != null) {
+			dto.setMetadata(toMetadataDTO(cliente.getMetadata()));
+		}
+
+		return dto;
+	}
+
+	/**
+	 * Converte uma página de Domain Entities para DTO
+	 */
+	public static PaginaDTO<ClienteDTO> toPaginaDTO(Pagina<Cliente> pagina) {
+		if (pagina == null) {
+			return null;
+		}
+
+		return new PaginaDTO<>(pagina.map(ClienteMapper::toDTO).getItens(), pagina.getProximoCursor());
+	}
+
+	/**
+	 * Converte uma página de Domain Entities para DTO com os campos da projeção
+	 */
+	public static PaginaDTO<ClienteDTO> toPaginaDTO(Pagina<Cliente> pagina, ProjecaoCliente projecao) {
+		if (pagina == null) {
+			return null;
+		}
+
+		return new PaginaDTO<>(pagina.map(cliente -> toDTO(cliente, projecao)).getItens(), pagina.getProximoCursor());
+	}
+
+	/**
+	 * Converte os resultados de uma criação em lote para DTO, numerando os itens
+	 * pela posição na requisição
+	 */
+	public static ResultadoLoteDTO toResultadoLoteDTO(List<ResultadoItemLote> resultados) {
+		if (resultados == null) {
+			return null;
+		}
+
+		List<ItemLoteDTO> itens = new ArrayList<>(resultados.size());
+		int criados = 0;
+		for (int i = 0; i < resultados.size(); i++) {
+			ResultadoItemLote resultado = resultados.get(i);
+			ItemLoteDTO item = new ItemLoteDTO();
+			item.setIndice(i);
+			item.setStatus(resultado.getStatus().name());
+			item.setMensagem(resultado.getMensagem());
+
+			Cliente cliente = resultado.getCliente();
+			if (cliente != null) {
+				item.setClienteId(resultado.isCriado() ? cliente.getClienteId() : null);
+				item.setCpfCliente(cliente.getCpfCliente());
+				item.setEmailCliente(cliente.getEmailCliente());
+			}
+
+			if (resultado.isCriado()) {
+				criados++;
+			}
+			itens.add(item);
+		}
+		return new ResultadoLoteDTO(itens, criados);
+	}
+
+	/**
+	 * Converte a alteração em massa recebida na API
+	 */
+	public static AlteracaoEmMassa toAlteracaoEmMassa(AlteracaoEmMassaDTO dto) {
+		if (dto == null) {
+			return null;
+		}
+
+		return new AlteracaoEmMassa(TipoAlteracaoEmMassa.fromParametro(dto.getOperacao()), dto.getTag());
+	}
+
+	/**
+	 * Converte o resultado de uma alteração em massa para DTO
+	 */
+	public static ResultadoAlteracaoEmMassaDTO toResultadoAlteracaoEmMassaDTO(ResultadoAlteracaoEmMassa resultado) {
+		if (resultado == null) {
+			return null;
+		}
+
+		return new ResultadoAlteracaoEmMassaDTO(resultado.getEncontrados(), resultado.getAlterados(),
+				resultado.isSimulacao());
+	}
+
 	/**
 	 * Converte de DTO para Domain Entity
 	 */
@@ -0,0 +1,77 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+/**
+ * Alteração parcial com controle otimista de concorrência
+ * A validação roda sobre o cliente lido com a alteração aplicada, e a escrita
+ * grava só os campos alterados, condicionada à versão lida. Sem If-Match, uma
+ * colisão com escrita que mudou outros campos é refeita sobre a nova leitura.
+ */
+public class AlterarClienteService implements AlterarClienteUseCase {
+
+	private final ClienteRepositoryPort clienteRepository;
+	private final ClienteAutocompletarPort autocompletar;
+	private final int retentativas;
+
+	public AlterarClienteService(ClienteRepositoryPort clienteRepository, ClienteAutocompletarPort autocompletar,
+			int retentativas) {
+		this.clienteRepository = clienteRepository;
+		this.autocompletar = autocompletar;
+		this.retentativas = Math.max(0, retentativas);
+	}
+
+	@Override
+	public Cliente execute(String clienteId, AlteracaoCliente alteracao, Integer versaoEsperada) {
+		Cliente atual = buscar(clienteId);
+		if (versaoEsperada != null && !versaoEsperada.equals(atual.getVersao())) {
+			throw new VersaoDivergenteException(clienteId, versaoEsperada);
+		}
+		if (alteracao.isVazia()) {
+			return atual;
+		}
+
+		for (int tentativa = 0;; tentativa++) {
+			Map<String, Object> lidos = AlteracaoCliente.valoresEditaveis(atual);
+			alteracao.aplicar(atual);
+			ValidadorCliente.validarAtualizacao(atual);
+
+			Optional<Cliente> alterado = clienteRepository.updateCampos(clienteId, atual.getVersao(), alteracao,
+					LocalDateTime.now());
+			if (alterado.isPresent()) {
+				autocompletar.registrar(alterado.get());
+				return alterado.get();
+			}
+
+			Cliente relido = buscar(clienteId);
+			if (versaoEsperada != null) {
+				throw new VersaoDivergenteException(clienteId, versaoEsperada);
+			}
+			if (tentativa >= retentativas || Objects.equals(relido.getVersao(), atual.getVersao())
+					|| alteracao.sobrepoe(AlteracaoCliente.camposDiferentes(lidos,
+							AlteracaoCliente.valoresEditaveis(relido)))) {
+				throw new AlteracaoConcorrenteException(clienteId);
+			}
+			atual = relido;
+		}
+	}
+
+	// Funções auxiliares
+
+	private Cliente buscar(String clienteId) {
+		return clienteRepository.findByClienteId(clienteId)
+				.orElseThrow(() -> new ClienteNotFoundException(clienteId));
+	}
+}
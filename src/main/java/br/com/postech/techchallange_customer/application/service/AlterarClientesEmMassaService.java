@@ -0,0 +1,61 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClientesEmMassaUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+public class AlterarClientesEmMassaService implements AlterarClientesEmMassaUseCase {
+
+	private final ClienteRepositoryPort clienteRepository;
+	private final ClienteAutocompletarPort clienteAutocompletar;
+
+	/**
+	 * Sem change stream, nada mais avisa o autocompletar dos clientes
+	 * desativados ou reativados pelo filtro
+	 */
+	private final boolean reconstruirAutocompletar;
+
+	public AlterarClientesEmMassaService(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar, boolean reconstruirAutocompletar) {
+		this.clienteRepository = clienteRepository;
+		this.clienteAutocompletar = clienteAutocompletar;
+		this.reconstruirAutocompletar = reconstruirAutocompletar;
+	}
+
+	@Override
+	public ResultadoAlteracaoEmMassa execute(FiltroCliente filtro, AlteracaoEmMassa alteracao, boolean simulacao) {
+		validar(filtro, alteracao);
+
+		if (simulacao) {
+			return ResultadoAlteracaoEmMassa.simulado(clienteRepository.countParaAlteracao(filtro, alteracao));
+		}
+		ResultadoAlteracaoEmMassa resultado = clienteRepository.updateByFiltro(filtro, alteracao, LocalDateTime.now());
+
+		// Os clientes alterados não são conhecidos um a um: o índice é recarregado inteiro
+		if (reconstruirAutocompletar && alteracao.isAlteracaoDeStatus() && resultado.getAlterados() > 0) {
+			clienteAutocompletar.reconstruirEmSegundoPlano();
+		}
+		return resultado;
+	}
+
+	private void validar(FiltroCliente filtro, AlteracaoEmMassa alteracao) {
+		// Sem filtro a alteração atingiria a base inteira
+		if (filtro == null || filtro.isVazio()) {
+			throw new InvalidClienteException("Filtro", "informe ao menos um critério (ativo, cidade, estado ou tag)");
+		}
+
+		if (alteracao == null || alteracao.getTipo() == null) {
+			throw new InvalidClienteException("Operação", "obrigatória");
+		}
+
+		if (alteracao.isAlteracaoDeTag() && alteracao.getTag() == null) {
+			throw new InvalidClienteException("Tag", "obrigatória para adicionar ou remover tags");
+		}
+	}
+}
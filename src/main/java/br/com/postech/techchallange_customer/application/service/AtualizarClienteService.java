@@ -1,25 +1,32 @@
 package br.com.postech.techchallange_customer.application.service;
 
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
-import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
 import br.com.postech.techchallange_customer.domain.port.in.AtualizarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 public class AtualizarClienteService implements AtualizarClienteUseCase {
 
 	private final ClienteRepositoryPort clienteRepository;
+	private final ClienteAutocompletarPort autocompletar;
 
-	public AtualizarClienteService(ClienteRepositoryPort clienteRepository) {
+	public AtualizarClienteService(ClienteRepositoryPort clienteRepository, ClienteAutocompletarPort autocompletar) {
 		this.clienteRepository = clienteRepository;
+		this.autocompletar = autocompletar;
 	}
 
 	@Override
-	public Cliente execute(String clienteId, Cliente clienteAtualizado) {
+	public Cliente execute(String clienteId, Cliente clienteAtualizado, Integer versaoEsperada) {
 		Cliente clienteExistente = clienteRepository.findByClienteId(clienteId)
 				.orElseThrow(() -> new ClienteNotFoundException(clienteId));
+		if (versaoEsperada != null && !versaoEsperada.equals(clienteExistente.getVersao())) {
+			throw new VersaoDivergenteException(clienteId, versaoEsperada);
+		}
 
-		this.validarAtualizacao(clienteAtualizado);
+		ValidadorCliente.validarAtualizacao(clienteAtualizado);
 
 		clienteExistente.setNomeCliente(clienteAtualizado.getNomeCliente());
 		clienteExistente.setEmailCliente(clienteAtualizado.getEmailCliente());
@@ -29,24 +36,14 @@ public class AtualizarClienteService implements AtualizarClienteUseCase {
 
 		clienteExistente.updateTimestamp();
 
-		return clienteRepository.update(clienteExistente);
-	}
-
-	private void validarAtualizacao(Cliente cliente) {
-		if (cliente == null) {
-			throw new InvalidClienteException("Cliente não pode ser nulo");
-		}
-
-		if (cliente.getNomeCliente() == null || cliente.getNomeCliente().isEmpty()) {
-			throw new InvalidClienteException("nome", "não pode ser vazio");
-		}
-
-		if (cliente.getEmailCliente() == null || cliente.getEmailCliente().isEmpty()) {
-			throw new InvalidClienteException("e-mail", "não pode ser vazio");
-		}
-
-		if (!cliente.isEmailValido()) {
-			throw new InvalidClienteException("e-mail", "formato inválido");
+		Cliente atualizado;
+		try {
+			atualizado = clienteRepository.update(clienteExistente);
+		} catch (AlteracaoConcorrenteException e) {
+			// com If-Match, a escrita concorrente significa que a versão esperada já passou
+			throw versaoEsperada != null ? new VersaoDivergenteException(clienteId, versaoEsperada) : e;
 		}
+		autocompletar.registrar(atualizado);
+		return atualizado;
 	}
 }
@@ -0,0 +1,32 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.util.List;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.in.AutocompletarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+
+public class AutocompletarClienteService implements AutocompletarClienteUseCase {
+
+	private final ClienteAutocompletarPort autocompletar;
+
+	public AutocompletarClienteService(ClienteAutocompletarPort autocompletar) {
+		this.autocompletar = autocompletar;
+	}
+
+	@Override
+	public List<Cliente> sugerir(String texto, Integer limite) {
+		if (texto == null || texto.isBlank()) {
+			throw new InvalidClienteException("q", "informe o início do nome ou e-mail");
+		}
+		return autocompletar.sugerir(texto.trim(), normalizarLimite(limite));
+	}
+
+	private static int normalizarLimite(Integer limite) {
+		if (limite == null || limite <= 0) {
+			return LIMITE_PADRAO;
+		}
+		return Math.min(limite, LIMITE_MAXIMO);
+	}
+}
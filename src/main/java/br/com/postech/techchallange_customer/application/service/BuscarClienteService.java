@@ -3,6 +3,7 @@ package br.com.postech.techchallange_customer.application.service;
 import java.util.Optional;
 
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
 import br.com.postech.techchallange_customer.domain.port.in.BuscarClienteUseCase;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
@@ -28,4 +29,19 @@ public class BuscarClienteService implements BuscarClienteUseCase {
 	public Optional<Cliente> porEmail(String email) {
 		return clienteRepository.findByEmail(email);
 	}
+
+	@Override
+	public Optional<Cliente> porClienteId(String clienteId, ProjecaoCliente projecao) {
+		return clienteRepository.findByClienteId(clienteId, projecao);
+	}
+
+	@Override
+	public Optional<Cliente> porCpf(String cpf, ProjecaoCliente projecao) {
+		return clienteRepository.findByCpf(cpf, projecao);
+	}
+
+	@Override
+	public Optional<Cliente> porEmail(String email, ProjecaoCliente projecao) {
+		return clienteRepository.findByEmail(email, projecao);
+	}
 }
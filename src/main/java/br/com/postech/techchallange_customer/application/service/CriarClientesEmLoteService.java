@@ -0,0 +1,83 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.in.CriarClientesEmLoteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+public class CriarClientesEmLoteService implements CriarClientesEmLoteUseCase {
+
+	private final ClienteRepositoryPort clienteRepository;
+	private final ClienteAutocompletarPort autocompletar;
+	private final int limiteItens;
+
+	public CriarClientesEmLoteService(ClienteRepositoryPort clienteRepository, ClienteAutocompletarPort autocompletar,
+			int limiteItens) {
+		this.clienteRepository = clienteRepository;
+		this.autocompletar = autocompletar;
+		this.limiteItens = limiteItens;
+	}
+
+	@Override
+	public List<ResultadoItemLote> execute(List<Cliente> clientes) {
+		return execute(clientes, Map.of());
+	}
+
+	@Override
+	public List<ResultadoItemLote> execute(List<Cliente> clientes, Map<Integer, String> invalidos) {
+		if (clientes == null || clientes.isEmpty()) {
+			throw new InvalidClienteException("O lote deve conter ao menos um cliente");
+		}
+		if (clientes.size() > limiteItens) {
+			throw new InvalidClienteException("Lote",
+					String.format("máximo de %d clientes por requisição", limiteItens));
+		}
+
+		ResultadoItemLote[] resultados = new ResultadoItemLote[clientes.size()];
+		List<Cliente> validos = new ArrayList<>(clientes.size());
+		List<Integer> posicoes = new ArrayList<>(clientes.size());
+		LocalDateTime agora = LocalDateTime.now();
+
+		for (int i = 0; i < clientes.size(); i++) {
+			Cliente cliente = clientes.get(i);
+			if (invalidos.containsKey(i)) {
+				resultados[i] = ResultadoItemLote.rejeitado(StatusItemLote.INVALIDO, cliente, invalidos.get(i));
+				continue;
+			}
+			try {
+				ValidadorCliente.validar(cliente);
+			} catch (InvalidClienteException e) {
+				resultados[i] = ResultadoItemLote.rejeitado(StatusItemLote.INVALIDO, cliente, e.getMessage());
+				continue;
+			}
+
+			cliente.generateClienteIdIfNeeded();
+			cliente.setAtivo(true);
+			cliente.setDataCadastro(agora);
+			cliente.setDataUltimaAtualizacao(agora);
+			validos.add(cliente);
+			posicoes.add(i);
+		}
+
+		if (!validos.isEmpty()) {
+			// CPF e e-mail duplicados (no banco ou no próprio lote) são rejeitados item a item pelos índices únicos
+			List<ResultadoItemLote> inseridos = clienteRepository.insertAll(validos);
+			for (int i = 0; i < inseridos.size(); i++) {
+				resultados[posicoes.get(i)] = inseridos.get(i);
+				if (inseridos.get(i).isCriado()) {
+					autocompletar.registrar(inseridos.get(i).getCliente());
+				}
+			}
+		}
+		return Arrays.asList(resultados);
+	}
+}
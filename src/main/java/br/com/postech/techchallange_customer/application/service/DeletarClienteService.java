@@ -2,22 +2,24 @@ package br.com.postech.techchallange_customer.application.service;
 
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
 import br.com.postech.techchallange_customer.domain.port.in.DeletarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 public class DeletarClienteService implements DeletarClienteUseCase {
 
 	private final ClienteRepositoryPort clienteRepository;
+	private final ClienteAutocompletarPort autocompletar;
 
-	public DeletarClienteService(ClienteRepositoryPort clienteRepository) {
+	public DeletarClienteService(ClienteRepositoryPort clienteRepository, ClienteAutocompletarPort autocompletar) {
 		this.clienteRepository = clienteRepository;
+		this.autocompletar = autocompletar;
 	}
 
 	@Override
 	public void execute(String clienteId) {
-		if (!clienteRepository.findByClienteId(clienteId).isPresent()) {
+		if (!clienteRepository.deleteByClienteId(clienteId)) {
 			throw new ClienteNotFoundException(clienteId);
 		}
-
-		clienteRepository.deleteByClienteId(clienteId);
+		autocompletar.remover(clienteId);
 	}
 }
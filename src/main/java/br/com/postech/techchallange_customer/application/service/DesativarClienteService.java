@@ -1,25 +1,27 @@
 package br.com.postech.techchallange_customer.application.service;
 
-import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import java.time.LocalDateTime;
+
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
 import br.com.postech.techchallange_customer.domain.port.in.DesativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 public class DesativarClienteService implements DesativarClienteUseCase {
 
 	private final ClienteRepositoryPort clienteRepository;
+	private final ClienteAutocompletarPort autocompletar;
 
-	public DesativarClienteService(ClienteRepositoryPort clienteRepository) {
+	public DesativarClienteService(ClienteRepositoryPort clienteRepository, ClienteAutocompletarPort autocompletar) {
 		this.clienteRepository = clienteRepository;
+		this.autocompletar = autocompletar;
 	}
 
 	@Override
 	public void execute(String clienteId) {
-		Cliente cliente = clienteRepository.findByClienteId(clienteId)
-				.orElseThrow(() -> new ClienteNotFoundException(clienteId));
-
-		cliente.desativar();
-
-		clienteRepository.update(cliente);
+		if (!clienteRepository.desativarByClienteId(clienteId, LocalDateTime.now())) {
+			throw new ClienteNotFoundException(clienteId);
+		}
+		autocompletar.remover(clienteId);
 	}
 }
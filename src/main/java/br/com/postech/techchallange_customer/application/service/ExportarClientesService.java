@@ -0,0 +1,23 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.util.function.Consumer;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.port.in.ExportarClientesUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+public class ExportarClientesService implements ExportarClientesUseCase {
+
+	private final ClienteRepositoryPort clienteRepository;
+
+	public ExportarClientesService(ClienteRepositoryPort clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	@Override
+	public long execute(FiltroCliente filtro, Consumer<Cliente> consumidor) {
+		FiltroCliente filtroEfetivo = filtro != null ? filtro : FiltroCliente.todos();
+		return clienteRepository.streamByFiltro(filtroEfetivo, consumidor);
+	}
+}
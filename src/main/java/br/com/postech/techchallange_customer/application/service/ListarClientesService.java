@@ -1,8 +1,10 @@
 package br.com.postech.techchallange_customer.application.service;
 
-import java.util.List;
-
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
 import br.com.postech.techchallange_customer.domain.port.in.ListarClientesUseCase;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
@@ -15,38 +17,46 @@ public class ListarClientesService implements ListarClientesUseCase {
 	}
 
 	@Override
-	public List<Cliente> todos() {
-		return clienteRepository.findAll();
+	public Pagina<Cliente> todos(ConsultaPaginada consulta) {
+		return clienteRepository.findAll(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> ativos(ConsultaPaginada consulta) {
+		return clienteRepository.findAllAtivos(consulta);
 	}
 
 	@Override
-	public List<Cliente> ativos() {
-		return clienteRepository.findAllAtivos();
+	public Pagina<Cliente> inativos(ConsultaPaginada consulta) {
+		return clienteRepository.findAllInativos(consulta);
 	}
 
 	@Override
-	public List<Cliente> inativos() {
-		return clienteRepository.findAllInativos();
+	public Pagina<Cliente> porCidade(String cidade, ConsultaPaginada consulta) {
+		return clienteRepository.findClientesAtivosPorCidade(cidade, consulta);
 	}
 
 	@Override
-	public List<Cliente> porCidade(String cidade) {
-		return clienteRepository.findClientesAtivosPorCidade(cidade);
+	public Pagina<Cliente> vipAtivos(ConsultaPaginada consulta) {
+		return clienteRepository.findClientesVipAtivos(consulta);
 	}
 
 	@Override
-	public List<Cliente> vipAtivos() {
-		return clienteRepository.findClientesVipAtivos();
+	public Pagina<Cliente> porCidadeEEstado(String cidade, String estado, ConsultaPaginada consulta) {
+		return clienteRepository.findByCidadeAndEstado(cidade, estado, consulta);
 	}
 
 	@Override
-	public List<Cliente> porCidadeEEstado(String cidade, String estado) {
-		return clienteRepository.findByCidadeAndEstado(cidade, estado);
+	public Pagina<Cliente> porTag(String tag, ConsultaPaginada consulta) {
+		return clienteRepository.findByTag(tag, consulta);
 	}
 
 	@Override
-	public List<Cliente> porTag(String tag) {
-		return clienteRepository.findByTag(tag);
+	public Pagina<Cliente> porNome(String texto, FiltroCliente filtro, ConsultaPaginada consulta) {
+		if (texto == null || texto.isBlank()) {
+			throw new InvalidClienteException("q", "informe o texto da busca");
+		}
+		return clienteRepository.searchByNome(texto.trim(), filtro, consulta);
 	}
 
 	@Override
@@ -0,0 +1,36 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveAtualizarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+
+public class ReactiveAtualizarClienteService implements ReactiveAtualizarClienteUseCase {
+
+	private final ReactiveClienteRepositoryPort clienteRepository;
+
+	public ReactiveAtualizarClienteService(ReactiveClienteRepositoryPort clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	@Override
+	public Mono<Cliente> execute(String clienteId, Cliente clienteAtualizado) {
+		return clienteRepository.findByClienteId(clienteId, ProjecaoCliente.completa())
+				.switchIfEmpty(Mono.error(() -> new ClienteNotFoundException(clienteId)))
+				.flatMap(clienteExistente -> {
+					ValidadorCliente.validarAtualizacao(clienteAtualizado);
+
+					clienteExistente.setNomeCliente(clienteAtualizado.getNomeCliente());
+					clienteExistente.setEmailCliente(clienteAtualizado.getEmailCliente());
+					clienteExistente.setTelefone(clienteAtualizado.getTelefone());
+					clienteExistente.setEndereco(clienteAtualizado.getEndereco());
+					clienteExistente.setMetadata(clienteAtualizado.getMetadata());
+
+					clienteExistente.updateTimestamp();
+
+					return clienteRepository.update(clienteExistente);
+				});
+	}
+}
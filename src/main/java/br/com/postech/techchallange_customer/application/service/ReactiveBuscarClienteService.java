@@ -0,0 +1,31 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveBuscarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+
+public class ReactiveBuscarClienteService implements ReactiveBuscarClienteUseCase {
+
+	private final ReactiveClienteRepositoryPort clienteRepository;
+
+	public ReactiveBuscarClienteService(ReactiveClienteRepositoryPort clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	@Override
+	public Mono<Cliente> porClienteId(String clienteId, ProjecaoCliente projecao) {
+		return clienteRepository.findByClienteId(clienteId, projecao);
+	}
+
+	@Override
+	public Mono<Cliente> porCpf(String cpf, ProjecaoCliente projecao) {
+		return clienteRepository.findByCpf(cpf, projecao);
+	}
+
+	@Override
+	public Mono<Cliente> porEmail(String email, ProjecaoCliente projecao) {
+		return clienteRepository.findByEmail(email, projecao);
+	}
+}
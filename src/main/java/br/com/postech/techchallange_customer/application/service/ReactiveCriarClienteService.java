@@ -0,0 +1,33 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveCriarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+
+public class ReactiveCriarClienteService implements ReactiveCriarClienteUseCase {
+
+	private final ReactiveClienteRepositoryPort clienteRepository;
+
+	public ReactiveCriarClienteService(ReactiveClienteRepositoryPort clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	@Override
+	public Mono<Cliente> execute(Cliente cliente) {
+		// validação na assinatura: dados inválidos viram sinal de erro, não exceção na montagem
+		return Mono.defer(() -> {
+			ValidadorCliente.validar(cliente);
+
+			cliente.generateClienteIdIfNeeded();
+			cliente.setAtivo(true);
+			cliente.setDataCadastro(LocalDateTime.now());
+			cliente.setDataUltimaAtualizacao(LocalDateTime.now());
+
+			// CPF e e-mail duplicados são rejeitados pelos índices únicos (ClienteAlreadyExistsException)
+			return clienteRepository.insert(cliente);
+		});
+	}
+}
@@ -0,0 +1,22 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDeletarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+
+public class ReactiveDeletarClienteService implements ReactiveDeletarClienteUseCase {
+
+	private final ReactiveClienteRepositoryPort clienteRepository;
+
+	public ReactiveDeletarClienteService(ReactiveClienteRepositoryPort clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	@Override
+	public Mono<Void> execute(String clienteId) {
+		return clienteRepository.deleteByClienteId(clienteId)
+				.flatMap(removido -> removido ? Mono.<Void>empty()
+						: Mono.error(new ClienteNotFoundException(clienteId)));
+	}
+}
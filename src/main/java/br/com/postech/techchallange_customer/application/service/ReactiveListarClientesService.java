@@ -0,0 +1,52 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveListarClientesUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveListarClientesService implements ReactiveListarClientesUseCase {
+
+	private final ReactiveClienteRepositoryPort clienteRepository;
+
+	public ReactiveListarClientesService(ReactiveClienteRepositoryPort clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> todos(ConsultaPaginada consulta) {
+		return clienteRepository.findAll(consulta);
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> ativos(ConsultaPaginada consulta) {
+		return clienteRepository.findAllAtivos(consulta);
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> porCidade(String cidade, ConsultaPaginada consulta) {
+		return clienteRepository.findClientesAtivosPorCidade(cidade, consulta);
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> vipAtivos(ConsultaPaginada consulta) {
+		return clienteRepository.findClientesVipAtivos(consulta);
+	}
+
+	@Override
+	public Flux<Cliente> fluxo(FiltroCliente filtro, ProjecaoCliente projecao) {
+		FiltroCliente filtroEfetivo = filtro != null ? filtro : FiltroCliente.todos();
+		ProjecaoCliente projecaoEfetiva = projecao != null ? projecao : ProjecaoCliente.completa();
+		return clienteRepository.streamByFiltro(filtroEfetivo, projecaoEfetiva);
+	}
+
+	@Override
+	public Mono<Long> contarAtivos() {
+		return clienteRepository.countAtivos();
+	}
+}
@@ -0,0 +1,24 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveReativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+
+public class ReactiveReativarClienteService implements ReactiveReativarClienteUseCase {
+
+	private final ReactiveClienteRepositoryPort clienteRepository;
+
+	public ReactiveReativarClienteService(ReactiveClienteRepositoryPort clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	@Override
+	public Mono<Void> execute(String clienteId) {
+		return Mono.defer(() -> clienteRepository.reativarByClienteId(clienteId, LocalDateTime.now()))
+				.flatMap(encontrado -> encontrado ? Mono.<Void>empty()
+						: Mono.error(new ClienteNotFoundException(clienteId)));
+	}
+}
@@ -1,25 +1,27 @@
 package br.com.postech.techchallange_customer.application.service;
 
-import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import java.time.LocalDateTime;
+
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
 import br.com.postech.techchallange_customer.domain.port.in.ReativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 public class ReativarClienteService implements ReativarClienteUseCase {
 
 	private final ClienteRepositoryPort clienteRepository;
+	private final ClienteAutocompletarPort autocompletar;
 
-	public ReativarClienteService(ClienteRepositoryPort clienteRepository) {
+	public ReativarClienteService(ClienteRepositoryPort clienteRepository, ClienteAutocompletarPort autocompletar) {
 		this.clienteRepository = clienteRepository;
+		this.autocompletar = autocompletar;
 	}
 
 	@Override
 	public void execute(String clienteId) {
-		Cliente cliente = clienteRepository.findByClienteId(clienteId)
-				.orElseThrow(() -> new ClienteNotFoundException(clienteId));
-
-		cliente.reativar();
-
-		clienteRepository.update(cliente);
+		if (!clienteRepository.reativarByClienteId(clienteId, LocalDateTime.now())) {
+			throw new ClienteNotFoundException(clienteId);
+		}
+		autocompletar.recarregar(clienteId);
 	}
 }
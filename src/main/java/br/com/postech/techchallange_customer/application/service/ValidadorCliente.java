@@ -0,0 +1,74 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Regras de validação de cliente, compartilhadas pela criação individual,
+ * pela criação em lote e pelas variantes reativas dos casos de uso
+ */
+final class ValidadorCliente {
+
+	private ValidadorCliente() {
+	}
+
+	static void validar(Cliente cliente) {
+		if (cliente == null) {
+			throw new InvalidClienteException("Cliente não pode ser nulo");
+		}
+
+		if (!cliente.isValido()) {
+			throw new InvalidClienteException("Dados do cliente inválidos");
+		}
+
+		if (!cliente.isCpfValido()) {
+			throw new InvalidClienteException("CPF", "formato inválido (11 dígitos com verificadores válidos)");
+		}
+
+		if (!cliente.isEmailValido()) {
+			throw new InvalidClienteException("E-mail", "formato inválido");
+		}
+	}
+
+	static void validarAtualizacao(Cliente cliente) {
+		if (cliente == null) {
+			throw new InvalidClienteException("Cliente não pode ser nulo");
+		}
+
+		if (cliente.getNomeCliente() == null || cliente.getNomeCliente().isEmpty()) {
+			throw new InvalidClienteException("nome", "não pode ser vazio");
+		}
+
+		if (cliente.getEmailCliente() == null || cliente.getEmailCliente().isEmpty()) {
+			throw new InvalidClienteException("e-mail", "não pode ser vazio");
+		}
+
+		if (!cliente.isEmailValido()) {
+			throw new InvalidClienteException("e-mail", "formato inválido");
+		}
+
+		validarOpcionais(cliente);
+	}
+
+	/**
+	 * Campos opcionais, quando presentes, seguem o schema da coleção; a
+	 * atualização parcial não passa pelo Bean Validation dos DTOs
+	 */
+	private static void validarOpcionais(Cliente cliente) {
+		if (cliente.getTelefone() != null && !cliente.isTelefoneValido()) {
+			throw new InvalidClienteException("telefone", "deve ter 10 ou 11 dígitos");
+		}
+
+		Endereco endereco = cliente.getEndereco();
+		if (endereco == null) {
+			return;
+		}
+		if (endereco.getEstado() != null && !endereco.isEstadoValido()) {
+			throw new InvalidClienteException("endereco.estado", "deve ser a sigla com 2 letras maiúsculas");
+		}
+		if (endereco.getCep() != null && !endereco.isCepValido()) {
+			throw new InvalidClienteException("endereco.cep", "deve conter 8 dígitos");
+		}
+	}
+}
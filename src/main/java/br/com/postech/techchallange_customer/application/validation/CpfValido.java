@@ -0,0 +1,27 @@
+package br.com.postech.techchallange_customer.application.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * CPF com 11 dígitos e dígitos verificadores válidos
+ * Valores nulos ou vazios são aceitos; a obrigatoriedade fica com @NotBlank
+ */
+@Documented
+@Constraint(validatedBy = CpfValidoValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CpfValido {
+
+	String message() default "O CPF deve conter 11 dígitos numéricos com dígitos verificadores válidos";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,16 @@
+package br.com.postech.techchallange_customer.application.validation;
+
+import br.com.postech.techchallange_customer.domain.validation.ValidadorFormato;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Aplica ValidadorFormato.isCpfValido na validação dos DTOs
+ */
+public class CpfValidoValidator implements ConstraintValidator<CpfValido, CharSequence> {
+
+	@Override
+	public boolean isValid(CharSequence valor, ConstraintValidatorContext context) {
+		return valor == null || valor.length() == 0 || ValidadorFormato.isCpfValido(valor);
+	}
+}
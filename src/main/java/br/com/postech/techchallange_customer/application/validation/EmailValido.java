@@ -0,0 +1,27 @@
+package br.com.postech.techchallange_customer.application.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * E-mail no formato aceito pelo domínio (mesma regra de Cliente.isEmailValido)
+ * Valores nulos ou vazios são aceitos; a obrigatoriedade fica com @NotBlank
+ */
+@Documented
+@Constraint(validatedBy = EmailValidoValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EmailValido {
+
+	String message() default "Formato de e-mail inválido";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
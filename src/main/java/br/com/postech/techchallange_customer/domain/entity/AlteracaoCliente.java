@@ -0,0 +1,181 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Alteração parcial de um cliente (JSON Merge Patch)
+ * Cada campo editável recebe um novo valor ou, quando nulo, é removido; os
+ * demais campos do cliente ficam como estão. Subcampos de endereço e metadata
+ * são alterados individualmente, e o endereço também pode ser removido inteiro.
+ */
+public class AlteracaoCliente {
+
+	/**
+	 * Campos que aceitam alteração parcial, com a notação de ponto do documento
+	 */
+	public static final List<String> CAMPOS = List.of(
+			"nomeCliente", "emailCliente", "telefone",
+			"endereco.rua", "endereco.numero", "endereco.complemento", "endereco.bairro",
+			"endereco.cidade", "endereco.estado", "endereco.cep",
+			"metadata.origem", "metadata.canal", "metadata.tags", "metadata.notas");
+
+	public static final String ENDERECO = "endereco";
+
+	private final Map<String, Object> valores = new LinkedHashMap<>();
+
+	/**
+	 * Define o novo valor de um campo de texto; nulo remove o campo
+	 */
+	public AlteracaoCliente definir(String campo, String valor) {
+		if (!CAMPOS.contains(campo) || "metadata.tags".equals(campo)) {
+			throw new InvalidClienteException(campo, "não pode ser alterado parcialmente");
+		}
+		valores.put(campo, valor);
+		return this;
+	}
+
+	/**
+	 * Substitui a lista de tags (listas não são mescladas); nulo remove as tags
+	 */
+	public AlteracaoCliente definirTags(List<String> tags) {
+		valores.put("metadata.tags", tags == null ? null : List.copyOf(tags));
+		return this;
+	}
+
+	/**
+	 * Remove o endereço inteiro
+	 */
+	public AlteracaoCliente removerEndereco() {
+		valores.put(ENDERECO, null);
+		return this;
+	}
+
+	public boolean isVazia() {
+		return valores.isEmpty();
+	}
+
+	/**
+	 * Aplica a alteração ao cliente informado, criando endereço ou metadata
+	 * quando um subcampo é definido e eles ainda não existem
+	 */
+	public void aplicar(Cliente cliente) {
+		valores.forEach((campo, valor) -> definirNoCliente(cliente, campo, valor));
+	}
+
+	/**
+	 * Verifica se algum dos campos informados é alterado aqui, considerando
+	 * endereco e endereco.* como sobrepostos
+	 */
+	public boolean sobrepoe(Collection<String> campos) {
+		for (String alterado : valores.keySet()) {
+			for (String campo : campos) {
+				if (alterado.equals(campo) || alterado.startsWith(campo + ".") || campo.startsWith(alterado + ".")) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Valores atuais dos campos editáveis do cliente, para comparar duas
+	 * leituras do mesmo cliente
+	 */
+	public static Map<String, Object> valoresEditaveis(Cliente cliente) {
+		Map<String, Object> atuais = new LinkedHashMap<>();
+		for (String campo : CAMPOS) {
+			Object valor = lerDoCliente(cliente, campo);
+			atuais.put(campo, valor instanceof List<?> lista ? new ArrayList<>(lista) : valor);
+		}
+		return atuais;
+	}
+
+	/**
+	 * Campos editáveis cujo valor difere entre as duas leituras
+	 */
+	public static Set<String> camposDiferentes(Map<String, Object> antes, Map<String, Object> depois) {
+		Set<String> diferentes = new HashSet<>();
+		for (String campo : CAMPOS) {
+			if (!Objects.equals(antes.get(campo), depois.get(campo))) {
+				diferentes.add(campo);
+			}
+		}
+		return diferentes;
+	}
+
+	// Getters
+
+	/**
+	 * Campos alterados, na ordem recebida, com o novo valor (nulo para remoção)
+	 */
+	public Map<String, Object> getValores() {
+		return Collections.unmodifiableMap(valores);
+	}
+
+	// Funções auxiliares
+
+	@SuppressWarnings("unchecked")
+	private static void definirNoCliente(Cliente cliente, String campo, Object valor) {
+		if (ENDERECO.equals(campo)) {
+			cliente.setEndereco(null);
+			return;
+		}
+		if (campo.startsWith("endereco.") && cliente.getEndereco() == null) {
+			cliente.setEndereco(new Endereco());
+		}
+		if (campo.startsWith("metadata.") && cliente.getMetadata() == null) {
+			cliente.setMetadata(new Metadata());
+		}
+
+		String texto = valor instanceof String valorTexto ? valorTexto : null;
+		switch (campo) {
+			case "nomeCliente" -> cliente.setNomeCliente(texto);
+			case "emailCliente" -> cliente.setEmailCliente(texto);
+			case "telefone" -> cliente.setTelefone(texto);
+			case "endereco.rua" -> cliente.getEndereco().setRua(texto);
+			case "endereco.numero" -> cliente.getEndereco().setNumero(texto);
+			case "endereco.complemento" -> cliente.getEndereco().setComplemento(texto);
+			case "endereco.bairro" -> cliente.getEndereco().setBairro(texto);
+			case "endereco.cidade" -> cliente.getEndereco().setCidade(texto);
+			case "endereco.estado" -> cliente.getEndereco().setEstado(texto);
+			case "endereco.cep" -> cliente.getEndereco().setCep(texto);
+			case "metadata.origem" -> cliente.getMetadata().setOrigem(texto);
+			case "metadata.canal" -> cliente.getMetadata().setCanal(texto);
+			case "metadata.tags" -> cliente.getMetadata().setTags(valor == null ? null : new ArrayList<>((List<String>) valor));
+			case "metadata.notas" -> cliente.getMetadata().setNotas(texto);
+			default -> throw new IllegalStateException("Campo não editável: " + campo);
+		}
+	}
+
+	private static Object lerDoCliente(Cliente cliente, String campo) {
+		Endereco endereco = cliente.getEndereco();
+		Metadata metadata = cliente.getMetadata();
+		return switch (campo) {
+			case "nomeCliente" -> cliente.getNomeCliente();
+			case "emailCliente" -> cliente.getEmailCliente();
+			case "telefone" -> cliente.getTelefone();
+			case "endereco.rua" -> endereco == null ? null : endereco.getRua();
+			case "endereco.numero" -> endereco == null ? null : endereco.getNumero();
+			case "endereco.complemento" -> endereco == null ? null : endereco.getComplemento();
+			case "endereco.bairro" -> endereco == null ? null : endereco.getBairro();
+			case "endereco.cidade" -> endereco == null ? null : endereco.getCidade();
+			case "endereco.estado" -> endereco == null ? null : endereco.getEstado();
+			case "endereco.cep" -> endereco == null ? null : endereco.getCep();
+			case "metadata.origem" -> metadata == null ? null : metadata.getOrigem();
+			case "metadata.canal" -> metadata == null ? null : metadata.getCanal();
+			case "metadata.tags" -> metadata == null ? null : metadata.getTags();
+			case "metadata.notas" -> metadata == null ? null : metadata.getNotas();
+			default -> throw new IllegalStateException("Campo não editável: " + campo);
+		};
+	}
+}
@@ -0,0 +1,55 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+/**
+ * Alteração aplicada de uma só vez aos clientes selecionados por um filtro
+ */
+public class AlteracaoEmMassa {
+
+	private final TipoAlteracaoEmMassa tipo;
+	private final String tag;
+
+	public AlteracaoEmMassa(TipoAlteracaoEmMassa tipo, String tag) {
+		this.tipo = tipo;
+		this.tag = tag == null || tag.isBlank() ? null : tag;
+	}
+
+	public static AlteracaoEmMassa desativar() {
+		return new AlteracaoEmMassa(TipoAlteracaoEmMassa.DESATIVAR, null);
+	}
+
+	public static AlteracaoEmMassa reativar() {
+		return new AlteracaoEmMassa(TipoAlteracaoEmMassa.REATIVAR, null);
+	}
+
+	public static AlteracaoEmMassa adicionarTag(String tag) {
+		return new AlteracaoEmMassa(TipoAlteracaoEmMassa.ADICIONAR_TAG, tag);
+	}
+
+	public static AlteracaoEmMassa removerTag(String tag) {
+		return new AlteracaoEmMassa(TipoAlteracaoEmMassa.REMOVER_TAG, tag);
+	}
+
+	/**
+	 * Verifica se a alteração é sobre tags (e portanto exige uma tag)
+	 */
+	public boolean isAlteracaoDeTag() {
+		return tipo == TipoAlteracaoEmMassa.ADICIONAR_TAG || tipo == TipoAlteracaoEmMassa.REMOVER_TAG;
+	}
+
+	/**
+	 * Verifica se a alteração muda o status (ativo) dos clientes
+	 */
+	public boolean isAlteracaoDeStatus() {
+		return tipo == TipoAlteracaoEmMassa.DESATIVAR || tipo == TipoAlteracaoEmMassa.REATIVAR;
+	}
+
+	// Getters
+
+	public TipoAlteracaoEmMassa getTipo() {
+		return tipo;
+	}
+
+	public String getTag() {
+		return tag;
+	}
+}
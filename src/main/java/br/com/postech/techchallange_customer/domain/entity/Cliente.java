@@ -3,6 +3,8 @@ package br.com.postech.techchallange_customer.domain.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import br.com.postech.techchallange_customer.domain.validation.ValidadorFormato;
+
 public class Cliente {
 
 	private String id;
@@ -79,17 +81,24 @@ public class Cliente {
 	}
 
 	/**
-	 * Valida se o CPF tem formato válido
+	 * Valida se o CPF tem 11 dígitos e dígitos verificadores corretos
 	 */
 	public boolean isCpfValido() {
-		return this.cpfCliente != null && this.cpfCliente.matches("\\d{11}");
+		return ValidadorFormato.isCpfValido(this.cpfCliente);
 	}
 
 	/**
 	 * Valida se o email tem formato válido
 	 */
 	public boolean isEmailValido() {
-		return this.emailCliente != null && this.emailCliente.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+		return ValidadorFormato.isEmailValido(this.emailCliente);
+	}
+
+	/**
+	 * Valida se o telefone tem 10 ou 11 dígitos
+	 */
+	public boolean isTelefoneValido() {
+		return ValidadorFormato.isTelefoneValido(this.telefone);
 	}
 
 	/**
@@ -0,0 +1,66 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+/**
+ * Parâmetros de uma consulta paginada por cursor (keyset)
+ * O cursor é opaco para o domínio e interpretado pelo adaptador de persistência
+ */
+public class ConsultaPaginada {
+
+	public static final int LIMITE_PADRAO = 20;
+	public static final int LIMITE_MAXIMO = 100;
+
+	private final int limite;
+	private final String cursor;
+	private final OrdenacaoCliente ordenacao;
+	private final ProjecaoCliente projecao;
+
+	public ConsultaPaginada(Integer limite, String cursor, OrdenacaoCliente ordenacao) {
+		this(limite, cursor, ordenacao, null);
+	}
+
+	public ConsultaPaginada(Integer limite, String cursor, OrdenacaoCliente ordenacao, ProjecaoCliente projecao) {
+		this.limite = normalizarLimite(limite);
+		this.cursor = cursor == null || cursor.isBlank() ? null : cursor;
+		this.ordenacao = ordenacao == null ? OrdenacaoCliente.ID : ordenacao;
+		this.projecao = projecao == null ? ProjecaoCliente.completa() : projecao;
+	}
+
+	/**
+	 * Primeira página com limite e ordenação padrão
+	 */
+	public static ConsultaPaginada primeiraPagina() {
+		return new ConsultaPaginada(null, null, null);
+	}
+
+	private static int normalizarLimite(Integer limite) {
+		if (limite == null || limite <= 0) {
+			return LIMITE_PADRAO;
+		}
+		return Math.min(limite, LIMITE_MAXIMO);
+	}
+
+	/**
+	 * Verifica se a consulta parte do início da coleção
+	 */
+	public boolean isPrimeiraPagina() {
+		return this.cursor == null;
+	}
+
+	// Getters
+
+	public int getLimite() {
+		return limite;
+	}
+
+	public String getCursor() {
+		return cursor;
+	}
+
+	public OrdenacaoCliente getOrdenacao() {
+		return ordenacao;
+	}
+
+	public ProjecaoCliente getProjecao() {
+		return projecao;
+	}
+}
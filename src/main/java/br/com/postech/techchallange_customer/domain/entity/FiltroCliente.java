@@ -0,0 +1,56 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+/**
+ * Filtro de clientes com o mesmo vocabulário das listagens
+ * (ativo, cidade, estado e tag). Campos nulos não restringem a consulta
+ */
+public class FiltroCliente {
+
+	private final Boolean ativo;
+	private final String cidade;
+	private final String estado;
+	private final String tag;
+
+	public FiltroCliente(Boolean ativo, String cidade, String estado, String tag) {
+		this.ativo = ativo;
+		this.cidade = normalizar(cidade);
+		this.estado = normalizar(estado);
+		this.tag = normalizar(tag);
+	}
+
+	/**
+	 * Filtro sem restrições (todos os clientes)
+	 */
+	public static FiltroCliente todos() {
+		return new FiltroCliente(null, null, null, null);
+	}
+
+	private static String normalizar(String valor) {
+		return valor == null || valor.isBlank() ? null : valor;
+	}
+
+	/**
+	 * Verifica se nenhum critério foi informado
+	 */
+	public boolean isVazio() {
+		return ativo == null && cidade == null && estado == null && tag == null;
+	}
+
+	// Getters
+
+	public Boolean getAtivo() {
+		return ativo;
+	}
+
+	public String getCidade() {
+		return cidade;
+	}
+
+	public String getEstado() {
+		return estado;
+	}
+
+	public String getTag() {
+		return tag;
+	}
+}
@@ -0,0 +1,42 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Ordenações suportadas nas listagens paginadas de clientes
+ * Todas são cobertas por índice (_id ou dataCadastro + _id)
+ */
+public enum OrdenacaoCliente {
+
+	ID("id"),
+	DATA_CADASTRO_ASC("dataCadastro"),
+	DATA_CADASTRO_DESC("-dataCadastro");
+
+	private final String parametro;
+
+	OrdenacaoCliente(String parametro) {
+		this.parametro = parametro;
+	}
+
+	public String getParametro() {
+		return parametro;
+	}
+
+	/**
+	 * Converte o parâmetro de ordenação recebido na API
+	 * Valor nulo ou vazio resulta na ordenação padrão por ID
+	 */
+	public static OrdenacaoCliente fromParametro(String parametro) {
+		if (parametro == null || parametro.isBlank()) {
+			return ID;
+		}
+
+		for (OrdenacaoCliente ordenacao : values()) {
+			if (ordenacao.parametro.equals(parametro)) {
+				return ordenacao;
+			}
+		}
+
+		throw new InvalidClienteException("sort", "valores aceitos: id, dataCadastro, -dataCadastro");
+	}
+}
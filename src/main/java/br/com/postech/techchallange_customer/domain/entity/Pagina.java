@@ -0,0 +1,53 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados de uma consulta por cursor (keyset)
+ */
+public class Pagina<T> {
+
+	private final List<T> itens;
+	private final String proximoCursor;
+
+	public Pagina(List<T> itens, String proximoCursor) {
+		this.itens = itens == null ? Collections.emptyList() : itens;
+		this.proximoCursor = proximoCursor;
+	}
+
+	/**
+	 * Página sem resultados
+	 */
+	public static <T> Pagina<T> vazia() {
+		return new Pagina<>(Collections.emptyList(), null);
+	}
+
+	/**
+	 * Converte os itens da página preservando o cursor
+	 */
+	public <R> Pagina<R> map(Function<? super T, ? extends R> mapper) {
+		List<R> convertidos = this.itens.stream()
+				.<R>map(mapper)
+				.toList();
+		return new Pagina<>(convertidos, this.proximoCursor);
+	}
+
+	/**
+	 * Verifica se existe uma próxima página
+	 */
+	public boolean temProxima() {
+		return this.proximoCursor != null;
+	}
+
+	// Getters
+
+	public List<T> getItens() {
+		return itens;
+	}
+
+	public String getProximoCursor() {
+		return proximoCursor;
+	}
+}
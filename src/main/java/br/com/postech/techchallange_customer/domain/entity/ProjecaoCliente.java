@@ -0,0 +1,108 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Campos do cliente solicitados em uma leitura (sparse fieldset)
+ * A projeção completa devolve todos os campos; uma projeção parcial é
+ * repassada ao banco para que apenas os campos pedidos sejam lidos
+ */
+public class ProjecaoCliente {
+
+	/**
+	 * Campos de primeiro nível aceitos no parâmetro fields
+	 */
+	public static final List<String> CAMPOS = List.of(
+			"id", "clienteId", "nomeCliente", "emailCliente", "cpfCliente", "telefone", "endereco",
+			"ativo", "dataCadastro", "dataUltimaAtualizacao", "versao", "metadata");
+
+	private static final ProjecaoCliente COMPLETA = new ProjecaoCliente(Collections.emptySet());
+
+	private final Set<String> campos;
+
+	private ProjecaoCliente(Set<String> campos) {
+		this.campos = campos;
+	}
+
+	/**
+	 * Projeção com todos os campos
+	 */
+	public static ProjecaoCliente completa() {
+		return COMPLETA;
+	}
+
+	/**
+	 * Projeção com os campos informados
+	 */
+	public static ProjecaoCliente of(String... campos) {
+		return fromParametro(String.join(",", campos));
+	}
+
+	/**
+	 * Converte o parâmetro fields recebido na API (campos separados por vírgula)
+	 * Valor nulo ou vazio resulta na projeção completa
+	 */
+	public static ProjecaoCliente fromParametro(String parametro) {
+		if (parametro == null || parametro.isBlank()) {
+			return COMPLETA;
+		}
+
+		Set<String> campos = new LinkedHashSet<>();
+		for (String campo : parametro.split(",")) {
+			String nome = campo.trim();
+			if (nome.isEmpty()) {
+				continue;
+			}
+			if (!CAMPOS.contains(nome)) {
+				throw new InvalidClienteException("fields", "valores aceitos: " + String.join(", ", CAMPOS));
+			}
+			campos.add(nome);
+		}
+		return campos.isEmpty() ? COMPLETA : new ProjecaoCliente(Collections.unmodifiableSet(campos));
+	}
+
+	/**
+	 * Projeção com os campos desta e os da outra (ex.: campos pedidos mais os
+	 * necessários à resposta); se uma delas for completa, o resultado também é
+	 */
+	public ProjecaoCliente com(ProjecaoCliente outra) {
+		if (isCompleta() || outra.isCompleta()) {
+			return COMPLETA;
+		}
+		if (this.campos.containsAll(outra.campos)) {
+			return this;
+		}
+
+		Set<String> uniao = new LinkedHashSet<>(this.campos);
+		uniao.addAll(outra.campos);
+		return new ProjecaoCliente(Collections.unmodifiableSet(uniao));
+	}
+
+	/**
+	 * Verifica se todos os campos foram solicitados
+	 */
+	public boolean isCompleta() {
+		return this.campos.isEmpty();
+	}
+
+	/**
+	 * Verifica se o campo deve ser devolvido
+	 */
+	public boolean inclui(String campo) {
+		return isCompleta() || this.campos.contains(campo);
+	}
+
+	// Getters
+
+	/**
+	 * Campos solicitados, na ordem informada; vazio na projeção completa
+	 */
+	public Set<String> getCampos() {
+		return campos;
+	}
+}
@@ -0,0 +1,40 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+/**
+ * Contagens de uma alteração em massa
+ * Em uma simulação nada é gravado e as duas contagens indicam quantos
+ * clientes seriam alterados
+ */
+public class ResultadoAlteracaoEmMassa {
+
+	private final long encontrados;
+	private final long alterados;
+	private final boolean simulacao;
+
+	public ResultadoAlteracaoEmMassa(long encontrados, long alterados, boolean simulacao) {
+		this.encontrados = encontrados;
+		this.alterados = alterados;
+		this.simulacao = simulacao;
+	}
+
+	/**
+	 * Resultado de uma simulação (dry-run)
+	 */
+	public static ResultadoAlteracaoEmMassa simulado(long total) {
+		return new ResultadoAlteracaoEmMassa(total, total, true);
+	}
+
+	// Getters
+
+	public long getEncontrados() {
+		return encontrados;
+	}
+
+	public long getAlterados() {
+		return alterados;
+	}
+
+	public boolean isSimulacao() {
+		return simulacao;
+	}
+}
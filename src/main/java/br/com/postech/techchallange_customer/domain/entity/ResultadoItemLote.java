@@ -0,0 +1,50 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+/**
+ * Resultado da criação de um cliente dentro de um lote
+ * Um item rejeitado não impede a gravação dos demais
+ */
+public class ResultadoItemLote {
+
+	private final StatusItemLote status;
+	private final Cliente cliente;
+	private final String mensagem;
+
+	private ResultadoItemLote(StatusItemLote status, Cliente cliente, String mensagem) {
+		this.status = status;
+		this.cliente = cliente;
+		this.mensagem = mensagem;
+	}
+
+	/**
+	 * Cliente gravado com sucesso
+	 */
+	public static ResultadoItemLote criado(Cliente cliente) {
+		return new ResultadoItemLote(StatusItemLote.CRIADO, cliente, null);
+	}
+
+	/**
+	 * Cliente rejeitado; o cliente enviado é mantido para identificação
+	 */
+	public static ResultadoItemLote rejeitado(StatusItemLote status, Cliente cliente, String mensagem) {
+		return new ResultadoItemLote(status, cliente, mensagem);
+	}
+
+	public boolean isCriado() {
+		return this.status == StatusItemLote.CRIADO;
+	}
+
+	// Getters
+
+	public StatusItemLote getStatus() {
+		return status;
+	}
+
+	public Cliente getCliente() {
+		return cliente;
+	}
+
+	public String getMensagem() {
+		return mensagem;
+	}
+}
@@ -0,0 +1,12 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+/**
+ * Situação de cada cliente enviado em uma criação em lote
+ */
+public enum StatusItemLote {
+	CRIADO,
+	CPF_DUPLICADO,
+	EMAIL_DUPLICADO,
+	INVALIDO,
+	FALHA
+}
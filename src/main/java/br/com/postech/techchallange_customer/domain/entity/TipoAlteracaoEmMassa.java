@@ -0,0 +1,40 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Alterações que podem ser aplicadas a todos os clientes de um filtro
+ */
+public enum TipoAlteracaoEmMassa {
+
+	DESATIVAR("desativar"),
+	REATIVAR("reativar"),
+	ADICIONAR_TAG("adicionar-tag"),
+	REMOVER_TAG("remover-tag");
+
+	private final String parametro;
+
+	TipoAlteracaoEmMassa(String parametro) {
+		this.parametro = parametro;
+	}
+
+	public String getParametro() {
+		return parametro;
+	}
+
+	/**
+	 * Converte a operação recebida na API
+	 */
+	public static TipoAlteracaoEmMassa fromParametro(String parametro) {
+		if (parametro != null) {
+			for (TipoAlteracaoEmMassa tipo : values()) {
+				if (tipo.parametro.equals(parametro)) {
+					return tipo;
+				}
+			}
+		}
+
+		throw new InvalidClienteException("operacao",
+				"valores aceitos: desativar, reativar, adicionar-tag, remover-tag");
+	}
+}
@@ -0,0 +1,12 @@
+package br.com.postech.techchallange_customer.domain.exception;
+
+/**
+ * Exceção quando outra escrita alterou o cliente entre a leitura e a
+ * gravação (controle otimista pela versão) e a alteração não pôde ser refeita
+ */
+public class AlteracaoConcorrenteException extends DomainException {
+
+	public AlteracaoConcorrenteException(String clienteId) {
+		super("Cliente " + clienteId + " foi alterado por outra requisição; releia o cliente e tente novamente");
+	}
+}
@@ -0,0 +1,21 @@
+package br.com.postech.techchallange_customer.domain.exception;
+
+/**
+ * Exceção quando o cliente não está na versão esperada pela requisição
+ * (If-Match); a alteração não é aplicada
+ */
+public class VersaoDivergenteException extends DomainException {
+
+	public VersaoDivergenteException(String clienteId, Integer versaoEsperada) {
+		super(String.format("Cliente %s não está na versão %s; releia o cliente e tente novamente",
+				clienteId, versaoEsperada));
+	}
+
+	/**
+	 * ETag informada que não identifica uma versão deste cliente
+	 */
+	public VersaoDivergenteException(String clienteId, String etagInformada) {
+		super(String.format("A ETag %s não corresponde a uma versão do cliente %s; releia o cliente e tente novamente",
+				etagInformada, clienteId));
+	}
+}
@@ -0,0 +1,26 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case
+ * Alterar parcialmente os dados de um cliente (JSON Merge Patch)
+ */
+public interface AlterarClienteUseCase {
+
+	/**
+	 * Grava apenas os campos alterados, desde que o cliente não tenha mudado
+	 * desde a leitura
+	 * 
+	 * @param clienteId      UUID do cliente
+	 * @param alteracao      campos a definir ou remover
+	 * @param versaoEsperada versão informada em If-Match; nula para aceitar a atual
+	 * @return cliente alterado
+	 * @throws br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException      se o cliente não existir
+	 * @throws br.com.postech.techchallange_customer.domain.exception.InvalidClienteException       se o resultado for inválido
+	 * @throws br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException     se a versão não for a esperada
+	 * @throws br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException se outra escrita alterar os mesmos campos
+	 */
+	Cliente execute(String clienteId, AlteracaoCliente alteracao, Integer versaoEsperada);
+}
@@ -0,0 +1,31 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case
+ * Desativar, reativar ou alterar tags de todos os clientes de um filtro
+ */
+public interface AlterarClientesEmMassaUseCase {
+
+	/**
+	 * Aplica a alteração aos clientes do filtro em uma única operação no banco
+	 * 
+	 * @param filtro     critérios de seleção; ao menos um deve ser informado
+	 * @param alteracao  alteração a aplicar
+	 * @param simulacao  quando true apenas conta os clientes que seriam alterados
+	 * @return clientes encontrados e alterados
+	 * @throws br.com.postech.techchallange_customer.domain.exception.InvalidClienteException se
+	 *                                                                                        o
+	 *                                                                                        filtro
+	 *                                                                                        estiver
+	 *                                                                                        vazio
+	 *                                                                                        ou
+	 *                                                                                        faltar
+	 *                                                                                        a
+	 *                                                                                        tag
+	 */
+	ResultadoAlteracaoEmMassa execute(FiltroCliente filtro, AlteracaoEmMassa alteracao, boolean simulacao);
+}
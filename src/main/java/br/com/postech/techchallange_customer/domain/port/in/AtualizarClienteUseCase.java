@@ -23,5 +23,19 @@ public interface AtualizarClienteUseCase {
 	 *                                                                                         forem
 	 *                                                                                         inválidos
 	 */
-	Cliente execute(String clienteId, Cliente clienteAtualizado);
+	default Cliente execute(String clienteId, Cliente clienteAtualizado) {
+		return execute(clienteId, clienteAtualizado, null);
+	}
+
+	/**
+	 * Atualiza os dados de um cliente somente se ele estiver na versão esperada
+	 * 
+	 * @param clienteId         UUID do cliente a ser atualizado
+	 * @param clienteAtualizado dados atualizados do cliente
+	 * @param versaoEsperada    versão informada em If-Match; nula para aceitar a atual
+	 * @return cliente atualizado
+	 * @throws br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException     se a versão não for a esperada
+	 * @throws br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException se outra escrita alterar o cliente
+	 */
+	Cliente execute(String clienteId, Cliente clienteAtualizado, Integer versaoEsperada);
 }
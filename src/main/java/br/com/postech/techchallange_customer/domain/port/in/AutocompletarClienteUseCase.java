@@ -0,0 +1,26 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import java.util.List;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case
+ * Sugestões de clientes ativos enquanto o nome ou e-mail é digitado
+ */
+public interface AutocompletarClienteUseCase {
+
+	int LIMITE_PADRAO = 10;
+	int LIMITE_MAXIMO = 20;
+
+	/**
+	 * Sugere clientes ativos cujo nome ou e-mail começa pelo texto digitado,
+	 * tolerando um erro de digitação
+	 * 
+	 * @param texto  início do nome (uma ou mais palavras) ou do e-mail
+	 * @param limite quantidade máxima de sugestões (padrão 10, máximo 20)
+	 * @return clientes com clienteId, nomeCliente e emailCliente, dos mais
+	 *         próximos do texto para os menos próximos
+	 */
+	List<Cliente> sugerir(String texto, Integer limite);
+}
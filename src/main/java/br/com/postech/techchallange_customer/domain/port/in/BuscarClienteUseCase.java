@@ -3,6 +3,7 @@ package br.com.postech.techchallange_customer.domain.port.in;
 import java.util.Optional;
 
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
 
 /**
  * Porta de entrada (Inbound Port) - Use Case
@@ -33,4 +34,31 @@ public interface BuscarClienteUseCase {
 	 * @return Optional com cliente encontrado
 	 */
 	Optional<Cliente> porEmail(String email);
+
+	/**
+	 * Busca cliente por clienteId lendo apenas os campos da projeção
+	 * 
+	 * @param clienteId UUID do cliente
+	 * @param projecao  campos solicitados
+	 * @return Optional com cliente (possivelmente parcial) encontrado
+	 */
+	Optional<Cliente> porClienteId(String clienteId, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por CPF lendo apenas os campos da projeção
+	 * 
+	 * @param cpf      CPF do cliente (11 dígitos)
+	 * @param projecao campos solicitados
+	 * @return Optional com cliente (possivelmente parcial) encontrado
+	 */
+	Optional<Cliente> porCpf(String cpf, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por e-mail lendo apenas os campos da projeção
+	 * 
+	 * @param email    e-mail do cliente
+	 * @param projecao campos solicitados
+	 * @return Optional com cliente (possivelmente parcial) encontrado
+	 */
+	Optional<Cliente> porEmail(String email, ProjecaoCliente projecao);
 }
@@ -0,0 +1,39 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import java.util.List;
+import java.util.Map;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case
+ * Criar vários clientes em uma única requisição
+ */
+public interface CriarClientesEmLoteUseCase {
+
+	/**
+	 * Valida e grava os clientes, sem interromper o lote por itens rejeitados
+	 * 
+	 * @param clientes dados dos clientes a serem criados
+	 * @return um resultado por cliente, na mesma ordem da lista recebida
+	 * @throws br.com.postech.techchallange_customer.domain.exception.InvalidClienteException se
+	 *                                                                                        o
+	 *                                                                                        lote
+	 *                                                                                        estiver
+	 *                                                                                        vazio
+	 *                                                                                        ou
+	 *                                                                                        exceder
+	 *                                                                                        o
+	 *                                                                                        limite
+	 */
+	List<ResultadoItemLote> execute(List<Cliente> clientes);
+
+	/**
+	 * Como execute(clientes), com os itens já rejeitados pela validação da
+	 * entrada, que voltam como INVALIDO sem serem gravados
+	 *
+	 * @param invalidos motivo da rejeição por posição do item no lote
+	 */
+	List<ResultadoItemLote> execute(List<Cliente> clientes, Map<Integer, String> invalidos);
+}
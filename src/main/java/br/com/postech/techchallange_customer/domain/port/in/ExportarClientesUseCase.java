@@ -0,0 +1,22 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import java.util.function.Consumer;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case
+ * Exportar clientes em fluxo contínuo, sem materializar a coleção em memória
+ */
+public interface ExportarClientesUseCase {
+
+	/**
+	 * Entrega cada cliente que atende ao filtro ao consumidor, na ordem do cursor
+	 * 
+	 * @param filtro     critérios de seleção (campos nulos não filtram)
+	 * @param consumidor destino de cada cliente lido
+	 * @return quantidade de clientes exportados
+	 */
+	long execute(FiltroCliente filtro, Consumer<Cliente> consumidor);
+}
@@ -1,8 +1,9 @@
 package br.com.postech.techchallange_customer.domain.port.in;
 
-import java.util.List;
-
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
 
 /**
  * Porta de entrada (Inbound Port) - Use Case
@@ -11,39 +12,45 @@ import br.com.postech.techchallange_customer.domain.entity.Cliente;
 public interface ListarClientesUseCase {
 
 	/**
-	 * Lista todos os clientes
+	 * Lista todos os clientes paginados por cursor
+	 */
+	Pagina<Cliente> todos(ConsultaPaginada consulta);
+
+	/**
+	 * Lista clientes ativos paginados por cursor
 	 */
-	List<Cliente> todos();
+	Pagina<Cliente> ativos(ConsultaPaginada consulta);
 
 	/**
-	 * Lista apenas clientes ativos
+	 * Lista clientes inativos paginados por cursor
 	 */
-	List<Cliente> ativos();
+	Pagina<Cliente> inativos(ConsultaPaginada consulta);
 
 	/**
-	 * Lista apenas clientes inativos
+	 * Lista clientes ativos de uma cidade paginados por cursor
 	 */
-	List<Cliente> inativos();
+	Pagina<Cliente> porCidade(String cidade, ConsultaPaginada consulta);
 
 	/**
-	 * Lista clientes por cidade
+	 * Lista clientes VIP ativos paginados por cursor
 	 */
-	List<Cliente> porCidade(String cidade);
+	Pagina<Cliente> vipAtivos(ConsultaPaginada consulta);
 
 	/**
-	 * Lista clientes VIP ativos
+	 * Lista clientes por cidade e estado paginados por cursor
 	 */
-	List<Cliente> vipAtivos();
+	Pagina<Cliente> porCidadeEEstado(String cidade, String estado, ConsultaPaginada consulta);
 
 	/**
-	 * Lista clientes por cidade e estado
+	 * Lista clientes por tag paginados por cursor
 	 */
-	List<Cliente> porCidadeEEstado(String cidade, String estado);
+	Pagina<Cliente> porTag(String tag, ConsultaPaginada consulta);
 
 	/**
-	 * Lista clientes por tag
+	 * Busca clientes pelo nome, ordenados por relevância e paginados por cursor
+	 * Lança InvalidClienteException se o texto estiver vazio
 	 */
-	List<Cliente> porTag(String tag);
+	Pagina<Cliente> porNome(String texto, FiltroCliente filtro, ConsultaPaginada consulta);
 
 	/**
 	 * Conta clientes ativos
@@ -0,0 +1,21 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import reactor.core.publisher.Mono;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case reativo
+ * Atualizar dados de um cliente existente
+ */
+public interface ReactiveAtualizarClienteUseCase {
+
+	/**
+	 * Atualiza dados de um cliente
+	 * 
+	 * @param clienteId          UUID do cliente
+	 * @param clienteAtualizado  dados atualizados
+	 * @return Mono com o cliente atualizado; sinaliza ClienteNotFoundException
+	 *         ou InvalidClienteException
+	 */
+	Mono<Cliente> execute(String clienteId, Cliente clienteAtualizado);
+}
@@ -0,0 +1,39 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import reactor.core.publisher.Mono;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case reativo
+ * Buscar cliente por diferentes critérios
+ */
+public interface ReactiveBuscarClienteUseCase {
+
+	/**
+	 * Busca cliente por clienteId lendo apenas os campos da projeção
+	 * 
+	 * @param clienteId UUID do cliente
+	 * @param projecao  campos solicitados
+	 * @return Mono com o cliente (possivelmente parcial), vazio se não existir
+	 */
+	Mono<Cliente> porClienteId(String clienteId, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por CPF lendo apenas os campos da projeção
+	 * 
+	 * @param cpf      CPF do cliente (11 dígitos)
+	 * @param projecao campos solicitados
+	 * @return Mono com o cliente (possivelmente parcial), vazio se não existir
+	 */
+	Mono<Cliente> porCpf(String cpf, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por e-mail lendo apenas os campos da projeção
+	 * 
+	 * @param email    e-mail do cliente
+	 * @param projecao campos solicitados
+	 * @return Mono com o cliente (possivelmente parcial), vazio se não existir
+	 */
+	Mono<Cliente> porEmail(String email, ProjecaoCliente projecao);
+}
@@ -0,0 +1,20 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import reactor.core.publisher.Mono;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case reativo
+ * Criar um novo cliente
+ */
+public interface ReactiveCriarClienteUseCase {
+
+	/**
+	 * Cria um novo cliente
+	 * 
+	 * @param cliente dados do cliente
+	 * @return Mono com o cliente criado; sinaliza InvalidClienteException ou
+	 *         ClienteAlreadyExistsException
+	 */
+	Mono<Cliente> execute(Cliente cliente);
+}
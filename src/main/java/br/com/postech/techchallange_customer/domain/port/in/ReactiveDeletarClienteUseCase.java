@@ -0,0 +1,20 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case reativo
+ * Deletar permanentemente um cliente (hard delete)
+ */
+public interface ReactiveDeletarClienteUseCase {
+
+	/**
+	 * Deleta permanentemente um cliente do sistema
+	 * CUIDADO: Esta operação é irreversível!
+	 * 
+	 * @param clienteId UUID do cliente
+	 * @return Mono que completa vazio; sinaliza ClienteNotFoundException se o
+	 *         cliente não existir
+	 */
+	Mono<Void> execute(String clienteId);
+}
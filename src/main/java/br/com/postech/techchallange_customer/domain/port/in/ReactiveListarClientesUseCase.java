@@ -0,0 +1,50 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case reativo
+ * Listar clientes em páginas ou em fluxo contínuo
+ */
+public interface ReactiveListarClientesUseCase {
+
+	/**
+	 * Página de todos os clientes (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> todos(ConsultaPaginada consulta);
+
+	/**
+	 * Página de clientes ativos (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> ativos(ConsultaPaginada consulta);
+
+	/**
+	 * Página de clientes ativos de uma cidade (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> porCidade(String cidade, ConsultaPaginada consulta);
+
+	/**
+	 * Página de clientes VIP ativos (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> vipAtivos(ConsultaPaginada consulta);
+
+	/**
+	 * Todos os clientes do filtro, em ordem de _id, emitidos conforme a demanda
+	 * do assinante; nenhuma página é acumulada em memória
+	 * 
+	 * @param filtro   critérios de seleção (campos nulos não filtram)
+	 * @param projecao campos solicitados
+	 */
+	Flux<Cliente> fluxo(FiltroCliente filtro, ProjecaoCliente projecao);
+
+	/**
+	 * Conta clientes ativos
+	 */
+	Mono<Long> contarAtivos();
+}
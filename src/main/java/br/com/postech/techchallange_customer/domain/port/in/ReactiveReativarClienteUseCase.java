@@ -0,0 +1,19 @@
+package br.com.postech.techchallange_customer.domain.port.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Porta de entrada (Inbound Port) - Use Case reativo
+ * Reativar um cliente desativado
+ */
+public interface ReactiveReativarClienteUseCase {
+
+	/**
+	 * Reativa um cliente previamente desativado
+	 * 
+	 * @param clienteId UUID do cliente
+	 * @return Mono que completa vazio; sinaliza ClienteNotFoundException se o
+	 *         cliente não existir
+	 */
+	Mono<Void> execute(String clienteId);
+}
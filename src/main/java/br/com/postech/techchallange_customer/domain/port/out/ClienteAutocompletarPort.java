@@ -0,0 +1,40 @@
+package br.com.postech.techchallange_customer.domain.port.out;
+
+import java.util.List;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+
+/**
+ * Porta de saída (Outbound Port) para o índice de autocompletar
+ * Mantém nome e e-mail dos clientes ativos em memória; os casos de uso de
+ * escrita o avisam das alterações que fizeram
+ */
+public interface ClienteAutocompletarPort {
+
+	/**
+	 * Sugestões para o texto, das mais próximas para as menos próximas
+	 */
+	List<Cliente> sugerir(String texto, int limite);
+
+	/**
+	 * Inclui ou atualiza o cliente; clientes inativos são removidos
+	 */
+	void registrar(Cliente cliente);
+
+	/**
+	 * Remove o cliente (desativado ou excluído)
+	 */
+	void remover(String clienteId);
+
+	/**
+	 * Relê o cliente do banco, para alterações em que o caso de uso não tem o
+	 * cadastro completo (ex.: reativação)
+	 */
+	void recarregar(String clienteId);
+
+	/**
+	 * Recarrega o índice inteiro em segundo plano, para alterações que atingem
+	 * clientes não identificados um a um (ex.: alteração em massa por filtro)
+	 */
+	void reconstruirEmSegundoPlano();
+}
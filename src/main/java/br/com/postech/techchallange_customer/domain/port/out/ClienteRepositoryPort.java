@@ -1,9 +1,19 @@
 package br.com.postech.techchallange_customer.domain.port.out;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
 
 /**
  * Porta de saída (Outbound Port) para persistência de Cliente
@@ -17,11 +27,34 @@ public interface ClienteRepositoryPort {
 	 */
 	Cliente save(Cliente cliente);
 
+	/**
+	 * Insere um novo cliente em uma única escrita, contando com os índices únicos
+	 * Lança ClienteAlreadyExistsException se CPF ou e-mail já estiverem cadastrados
+	 */
+	Cliente insert(Cliente cliente);
+
+	/**
+	 * Insere vários clientes novos com escritas em lote não ordenadas
+	 * CPF ou e-mail duplicados rejeitam apenas o próprio item
+	 * 
+	 * @return um resultado por cliente, na mesma ordem da lista recebida
+	 */
+	List<ResultadoItemLote> insertAll(List<Cliente> clientes);
+
 	/**
 	 * Atualiza um cliente existente
+	 * Lança AlteracaoConcorrenteException se a versão gravada mudou desde a leitura
 	 */
 	Cliente update(Cliente cliente);
 
+	/**
+	 * Grava apenas os campos da alteração ($set/$unset), incrementando a versão,
+	 * se o cliente ainda estiver na versão informada
+	 * Retorna vazio se o cliente não existir mais nessa versão
+	 */
+	Optional<Cliente> updateCampos(String clienteId, Integer versao, AlteracaoCliente alteracao,
+			LocalDateTime dataAtualizacao);
+
 	/**
 	 * Busca cliente por clienteId (UUID)
 	 */
@@ -37,45 +70,75 @@ public interface ClienteRepositoryPort {
 	 */
 	Optional<Cliente> findByEmail(String email);
 
+	/**
+	 * Busca cliente por clienteId lendo do banco apenas os campos da projeção
+	 */
+	Optional<Cliente> findByClienteId(String clienteId, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por CPF lendo do banco apenas os campos da projeção
+	 */
+	Optional<Cliente> findByCpf(String cpf, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por e-mail lendo do banco apenas os campos da projeção
+	 */
+	Optional<Cliente> findByEmail(String email, ProjecaoCliente projecao);
+
 	/**
 	 * Busca cliente por ID do MongoDB
 	 */
 	Optional<Cliente> findById(String id);
 
 	/**
-	 * Lista todos os clientes
+	 * Lista todos os clientes, uma página por vez
+	 * As consultas paginadas leem apenas os campos da projeção da consulta
 	 */
-	List<Cliente> findAll();
+	Pagina<Cliente> findAll(ConsultaPaginada consulta);
 
 	/**
-	 * Lista apenas clientes ativos
+	 * Lista clientes ativos, uma página por vez
 	 */
-	List<Cliente> findAllAtivos();
+	Pagina<Cliente> findAllAtivos(ConsultaPaginada consulta);
 
 	/**
-	 * Lista apenas clientes inativos
+	 * Lista clientes inativos, uma página por vez
 	 */
-	List<Cliente> findAllInativos();
+	Pagina<Cliente> findAllInativos(ConsultaPaginada consulta);
 
 	/**
-	 * Busca clientes por cidade e estado
+	 * Busca clientes por cidade e estado, uma página por vez
 	 */
-	List<Cliente> findByCidadeAndEstado(String cidade, String estado);
+	Pagina<Cliente> findByCidadeAndEstado(String cidade, String estado, ConsultaPaginada consulta);
 
 	/**
-	 * Busca clientes por tag
+	 * Busca clientes por tag, uma página por vez
 	 */
-	List<Cliente> findByTag(String tag);
+	Pagina<Cliente> findByTag(String tag, ConsultaPaginada consulta);
 
 	/**
-	 * Busca clientes ativos por cidade
+	 * Busca clientes ativos por cidade, uma página por vez
 	 */
-	List<Cliente> findClientesAtivosPorCidade(String cidade);
+	Pagina<Cliente> findClientesAtivosPorCidade(String cidade, ConsultaPaginada consulta);
 
 	/**
-	 * Busca clientes VIP ativos
+	 * Busca clientes VIP ativos, uma página por vez
 	 */
-	List<Cliente> findClientesVipAtivos();
+	Pagina<Cliente> findClientesVipAtivos(ConsultaPaginada consulta);
+
+	/**
+	 * Busca textual no nome, da maior para a menor relevância, uma página por vez
+	 * Os campos do filtro restringem o resultado; campos nulos não filtram
+	 */
+	Pagina<Cliente> searchByNome(String texto, FiltroCliente filtro, ConsultaPaginada consulta);
+
+	/**
+	 * Percorre os clientes que atendem ao filtro com um cursor do banco,
+	 * entregando um por vez ao consumidor
+	 * 
+	 * @return quantidade de clientes entregues
+	 */
+	long streamByFiltro(FiltroCliente filtro, Consumer<Cliente> consumidor);
 
 	/**
 	 * Conta clientes ativos
@@ -98,7 +161,33 @@ public interface ClienteRepositoryPort {
 	void delete(Cliente cliente);
 
 	/**
-	 * Deleta cliente por clienteId
+	 * Deleta cliente por clienteId em uma única operação
+	 * Retorna false se nenhum cliente foi encontrado
+	 */
+	boolean deleteByClienteId(String clienteId);
+
+	/**
+	 * Desativa o cliente no próprio banco, sem regravar o documento inteiro
+	 * Retorna false se nenhum cliente foi encontrado
+	 */
+	boolean desativarByClienteId(String clienteId, LocalDateTime dataDesativacao);
+
+	/**
+	 * Reativa o cliente no próprio banco, sem regravar o documento inteiro
+	 * Retorna false se nenhum cliente foi encontrado
+	 */
+	boolean reativarByClienteId(String clienteId, LocalDateTime dataAtualizacao);
+
+	/**
+	 * Conta os clientes do filtro que seriam alterados (os que ainda não estão
+	 * no estado pretendido), sem gravar nada
+	 */
+	long countParaAlteracao(FiltroCliente filtro, AlteracaoEmMassa alteracao);
+
+	/**
+	 * Aplica a alteração a todos os clientes do filtro em uma única operação
+	 * (updateMany); clientes que já estão no estado pretendido não são regravados
 	 */
-	void deleteByClienteId(String clienteId);
+	ResultadoAlteracaoEmMassa updateByFiltro(FiltroCliente filtro, AlteracaoEmMassa alteracao,
+			LocalDateTime dataAtualizacao);
 }
@@ -0,0 +1,94 @@
+package br.com.postech.techchallange_customer.domain.port.out;
+
+import java.time.LocalDateTime;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Porta de saída (Outbound Port) reativa para persistência de Cliente
+ * Mesmo contrato de ClienteRepositoryPort para as operações expostas pela
+ * API, sem bloquear a thread chamadora: o resultado chega pelo Mono/Flux
+ */
+public interface ReactiveClienteRepositoryPort {
+
+	/**
+	 * Insere um novo cliente em uma única escrita, contando com os índices únicos
+	 * Sinaliza ClienteAlreadyExistsException se CPF ou e-mail já estiverem cadastrados
+	 */
+	Mono<Cliente> insert(Cliente cliente);
+
+	/**
+	 * Atualiza um cliente existente
+	 */
+	Mono<Cliente> update(Cliente cliente);
+
+	/**
+	 * Busca cliente por clienteId lendo do banco apenas os campos da projeção
+	 */
+	Mono<Cliente> findByClienteId(String clienteId, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por CPF lendo do banco apenas os campos da projeção
+	 */
+	Mono<Cliente> findByCpf(String cpf, ProjecaoCliente projecao);
+
+	/**
+	 * Busca cliente por e-mail lendo do banco apenas os campos da projeção
+	 */
+	Mono<Cliente> findByEmail(String email, ProjecaoCliente projecao);
+
+	/**
+	 * Página de todos os clientes (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> findAll(ConsultaPaginada consulta);
+
+	/**
+	 * Página de clientes ativos (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> findAllAtivos(ConsultaPaginada consulta);
+
+	/**
+	 * Página de clientes ativos de uma cidade (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> findClientesAtivosPorCidade(String cidade, ConsultaPaginada consulta);
+
+	/**
+	 * Página de clientes VIP ativos (paginação por cursor)
+	 */
+	Mono<Pagina<Cliente>> findClientesVipAtivos(ConsultaPaginada consulta);
+
+	/**
+	 * Percorre os clientes do filtro em ordem de _id; os documentos são lidos do
+	 * cursor conforme a demanda do assinante (backpressure)
+	 */
+	Flux<Cliente> streamByFiltro(FiltroCliente filtro, ProjecaoCliente projecao);
+
+	/**
+	 * Conta clientes ativos
+	 */
+	Mono<Long> countAtivos();
+
+	/**
+	 * Deleta cliente por clienteId em uma única operação
+	 * Emite false se nenhum cliente foi encontrado
+	 */
+	Mono<Boolean> deleteByClienteId(String clienteId);
+
+	/**
+	 * Desativa o cliente no próprio banco, sem regravar o documento inteiro
+	 * Emite false se nenhum cliente foi encontrado
+	 */
+	Mono<Boolean> desativarByClienteId(String clienteId, LocalDateTime dataDesativacao);
+
+	/**
+	 * Reativa o cliente no próprio banco, sem regravar o documento inteiro
+	 * Emite false se nenhum cliente foi encontrado
+	 */
+	Mono<Boolean> reativarByClienteId(String clienteId, LocalDateTime dataAtualizacao);
+}
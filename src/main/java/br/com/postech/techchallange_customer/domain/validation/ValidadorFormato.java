@@ -0,0 +1,166 @@
+package br.com.postech.techchallange_customer.domain.validation;
+
+/**
+ * Validação de formato de CPF, e-mail e telefone
+ * Percorre o texto uma única vez, sem expressões regulares e sem alocação,
+ * pois roda em toda criação e atualização de cliente e na validação dos DTOs
+ */
+public final class ValidadorFormato {
+
+	private static final int DIGITOS_CPF = 11;
+	private static final int DIGITOS_BASE_CPF = 9;
+	private static final int DIGITOS_MINIMOS_TELEFONE = 10;
+	private static final int DIGITOS_MAXIMOS_TELEFONE = 11;
+
+	private static final int TAMANHO_MAXIMO_EMAIL = 254;
+	private static final int TAMANHO_MAXIMO_LOCAL = 64;
+	private static final int TAMANHO_MAXIMO_ROTULO = 63;
+	private static final int TAMANHO_MINIMO_TLD = 2;
+
+	private ValidadorFormato() {
+	}
+
+	/**
+	 * CPF com 11 dígitos, sem máscara, e dígitos verificadores corretos
+	 * Sequências repetidas (000.000.000-00, 111.111.111-11...) passam no
+	 * cálculo, mas não são CPFs emitidos e são rejeitadas
+	 */
+	public static boolean isCpfValido(CharSequence cpf) {
+		if (cpf == null || cpf.length() != DIGITOS_CPF) {
+			return false;
+		}
+
+		int somaPrimeiro = 0;
+		int somaSegundo = 0;
+		boolean repetido = true;
+		char primeiro = cpf.charAt(0);
+		for (int i = 0; i < DIGITOS_BASE_CPF; i++) {
+			char c = cpf.charAt(i);
+			if (!isDigito(c)) {
+				return false;
+			}
+			int digito = c - '0';
+			somaPrimeiro += digito * (10 - i);
+			somaSegundo += digito * (11 - i);
+			repetido &= c == primeiro;
+		}
+
+		char verificador1 = cpf.charAt(9);
+		char verificador2 = cpf.charAt(10);
+		// com a base repetida, os únicos verificadores que fecham o cálculo repetem o mesmo dígito
+		if (repetido || !isDigito(verificador1) || !isDigito(verificador2)) {
+			return false;
+		}
+
+		int primeiroDigito = digitoVerificador(somaPrimeiro);
+		int segundoDigito = digitoVerificador(somaSegundo + primeiroDigito * 2);
+		return verificador1 - '0' == primeiroDigito && verificador2 - '0' == segundoDigito;
+	}
+
+	/**
+	 * E-mail no formato local@dominio
+	 * Parte local com letras, dígitos e + _ . - (sem ponto no início, no fim ou
+	 * repetido); domínio com ao menos dois rótulos ASCII de letras, dígitos e
+	 * hífen, sem hífen nas pontas, e TLD só de letras com 2 ou mais, como o
+	 * schema da coleção; limites de tamanho da RFC 5321
+	 */
+	public static boolean isEmailValido(CharSequence email) {
+		if (email == null || email.length() == 0 || email.length() > TAMANHO_MAXIMO_EMAIL) {
+			return false;
+		}
+
+		int arroba = -1;
+		char anterior = '.';
+		for (int i = 0; i < email.length(); i++) {
+			char c = email.charAt(i);
+			if (c == '@') {
+				arroba = i;
+				break;
+			}
+			if (!isCaractereLocal(c) || (c == '.' && anterior == '.')) {
+				return false;
+			}
+			anterior = c;
+		}
+
+		if (arroba < 1 || arroba > TAMANHO_MAXIMO_LOCAL || anterior == '.') {
+			return false;
+		}
+		return isDominioValido(email, arroba + 1);
+	}
+
+	/**
+	 * Telefone com DDD, só dígitos: 10 (fixo) ou 11 (celular), como o schema da coleção
+	 */
+	public static boolean isTelefoneValido(CharSequence telefone) {
+		if (telefone == null || telefone.length() < DIGITOS_MINIMOS_TELEFONE
+				|| telefone.length() > DIGITOS_MAXIMOS_TELEFONE) {
+			return false;
+		}
+		for (int i = 0; i < telefone.length(); i++) {
+			if (!isDigito(telefone.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDominioValido(CharSequence email, int inicio) {
+		int fim = email.length();
+		if (inicio == fim) {
+			return false;
+		}
+
+		int inicioRotulo = inicio;
+		boolean rotuloSoLetras = true;
+		for (int i = inicio; i < fim; i++) {
+			char c = email.charAt(i);
+			if (c == '.') {
+				if (!isRotuloValido(email, inicioRotulo, i)) {
+					return false;
+				}
+				inicioRotulo = i + 1;
+				rotuloSoLetras = true;
+			} else if (!isCaractereDominio(c)) {
+				return false;
+			} else {
+				rotuloSoLetras &= isLetraAscii(c);
+			}
+		}
+		// o último rótulo é o TLD; domínio de um rótulo só (ex.: localhost) não tem TLD
+		return inicioRotulo > inicio && isRotuloValido(email, inicioRotulo, fim) && rotuloSoLetras
+				&& fim - inicioRotulo >= TAMANHO_MINIMO_TLD;
+	}
+
+	private static boolean isRotuloValido(CharSequence email, int inicio, int fim) {
+		int tamanho = fim - inicio;
+		return tamanho > 0 && tamanho <= TAMANHO_MAXIMO_ROTULO
+				&& email.charAt(inicio) != '-' && email.charAt(fim - 1) != '-';
+	}
+
+	private static int digitoVerificador(int soma) {
+		int resto = soma % 11;
+		return resto < 2 ? 0 : 11 - resto;
+	}
+
+	private static boolean isDigito(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLetraAscii(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isLetraOuDigitoAscii(char c) {
+		return isDigito(c) || isLetraAscii(c);
+	}
+
+	private static boolean isCaractereLocal(char c) {
+		return isLetraOuDigitoAscii(c) || c == '.' || c == '+' || c == '_' || c == '-';
+	}
+
+	private static boolean isCaractereDominio(char c) {
+		// domínios internacionalizados (ex.: ação.com.br) são recusados pelo schema da coleção
+		return isLetraOuDigitoAscii(c) || c == '-';
+	}
+}
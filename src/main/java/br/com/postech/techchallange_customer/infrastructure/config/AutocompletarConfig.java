@@ -0,0 +1,41 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.ClienteAutocompletarChangeStreamHandler;
+import br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.ClienteAutocompletarIndice;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuração do índice de autocompletar de nome e e-mail
+ * Com o change stream ligado o índice é carregado quando o stream é aberto;
+ * sem ele, na inicialização
+ */
+@Configuration
+public class AutocompletarConfig {
+
+	/**
+	 * Bean com o índice em memória dos clientes ativos
+	 */
+	@Bean
+	public ClienteAutocompletarIndice clienteAutocompletarIndice(MongoTemplate mongoTemplate,
+			AutocompletarProperties properties, MeterRegistry meterRegistry,
+			@Value("${clientes.change-stream.enabled:true}") boolean changeStream) {
+		return new ClienteAutocompletarIndice(mongoTemplate, properties, meterRegistry, !changeStream);
+	}
+
+	/**
+	 * Bean que aplica ao índice as escritas recebidas pelo change stream
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "clientes.change-stream", name = "enabled", havingValue = "true",
+			matchIfMissing = true)
+	public ClienteAutocompletarChangeStreamHandler clienteAutocompletarChangeStreamHandler(
+			ClienteAutocompletarIndice clienteAutocompletarIndice) {
+		return new ClienteAutocompletarChangeStreamHandler(clienteAutocompletarIndice);
+	}
+}
@@ -0,0 +1,50 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.autocompletar")
+public class AutocompletarProperties {
+
+	/**
+	 * Clientes trazidos por lote (getMore) na carga do índice
+	 */
+	private int batchSize = 5_000;
+
+	/**
+	 * Erros de digitação tolerados por termo (inserção, remoção, troca ou
+	 * transposição de letras); 0 desliga a busca aproximada
+	 */
+	private int errosTolerados = 1;
+
+	/**
+	 * Tamanho mínimo do termo digitado para tolerar erros; termos mais curtos
+	 * casam só por prefixo exato
+	 */
+	private int tamanhoMinimoErro = 4;
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public int getErrosTolerados() {
+		return errosTolerados;
+	}
+
+	public void setErrosTolerados(int errosTolerados) {
+		this.errosTolerados = errosTolerados;
+	}
+
+	public int getTamanhoMinimoErro() {
+		return tamanhoMinimoErro;
+	}
+
+	public void setTamanhoMinimoErro(int tamanhoMinimoErro) {
+		this.tamanhoMinimoErro = tamanhoMinimoErro;
+	}
+}
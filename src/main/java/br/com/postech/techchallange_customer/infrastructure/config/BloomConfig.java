@@ -0,0 +1,59 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.adapter.ClienteRepositoryAdapter;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteBloomChangeStreamHandler;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteBloomEndpoint;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteBloomRepositoryAdapter;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteExistenciaFiltro;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuração do filtro de existência (Bloom) de CPF e e-mail
+ * Depende do change stream para receber cadastros de outros pods; o filtro é
+ * carregado quando o stream é aberto
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes", name = { "bloom.enabled", "change-stream.enabled" }, havingValue = "true",
+		matchIfMissing = true)
+public class BloomConfig {
+
+	/**
+	 * Bean com os filtros de CPF e e-mail
+	 */
+	@Bean
+	public ClienteExistenciaFiltro clienteExistenciaFiltro(MongoTemplate mongoTemplate, BloomProperties properties,
+			MeterRegistry meterRegistry) {
+		return new ClienteExistenciaFiltro(mongoTemplate, properties, meterRegistry);
+	}
+
+	/**
+	 * Bean do repositório que responde negativos definitivos sem ir ao banco
+	 */
+	@Bean
+	public ClienteBloomRepositoryAdapter clienteBloomRepositoryAdapter(ClienteRepositoryAdapter clienteRepositoryAdapter,
+			ClienteExistenciaFiltro clienteExistenciaFiltro) {
+		return new ClienteBloomRepositoryAdapter(clienteRepositoryAdapter, clienteExistenciaFiltro);
+	}
+
+	/**
+	 * Bean que registra no filtro os cadastros recebidos pelo change stream
+	 */
+	@Bean
+	public ClienteBloomChangeStreamHandler clienteBloomChangeStreamHandler(
+			ClienteExistenciaFiltro clienteExistenciaFiltro) {
+		return new ClienteBloomChangeStreamHandler(clienteExistenciaFiltro);
+	}
+
+	/**
+	 * Bean do endpoint de estatísticas e reconstrução do filtro
+	 */
+	@Bean
+	public ClienteBloomEndpoint clienteBloomEndpoint(ClienteExistenciaFiltro clienteExistenciaFiltro) {
+		return new ClienteBloomEndpoint(clienteExistenciaFiltro);
+	}
+}
@@ -0,0 +1,62 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.bloom")
+public class BloomProperties {
+
+	/**
+	 * Habilita o filtro de Bloom para respostas negativas de CPF e e-mail
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Quantidade de clientes para a qual o filtro é dimensionado; na reconstrução
+	 * é usado o maior valor entre este e o dobro do total atual da coleção
+	 */
+	private long expectedInsertions = 1_000_000;
+
+	/**
+	 * Taxa de falso positivo desejada na capacidade dimensionada
+	 */
+	private double falsePositiveRate = 0.01;
+
+	/**
+	 * Chaves trazidas por lote (getMore) na leitura dos índices
+	 */
+	private int batchSize = 5_000;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public long getExpectedInsertions() {
+		return expectedInsertions;
+	}
+
+	public void setExpectedInsertions(long expectedInsertions) {
+		this.expectedInsertions = expectedInsertions;
+	}
+
+	public double getFalsePositiveRate() {
+		return falsePositiveRate;
+	}
+
+	public void setFalsePositiveRate(double falsePositiveRate) {
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+}
@@ -0,0 +1,49 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.persistence.adapter.ClienteRepositoryAdapter;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteBloomRepositoryAdapter;
+import br.com.postech.techchallange_customer.infrastructure.persistence.cache.ClienteCacheChangeStreamHandler;
+import br.com.postech.techchallange_customer.infrastructure.persistence.cache.ClienteCacheRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Configuração do cache local de clientes
+ * O adaptador com cache é registrado como ClienteRepositoryPort primário,
+ * decorando o filtro de existência (quando habilitado) ou o adaptador MongoDB
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+	/**
+	 * Bean do repositório com cache (read-through) para consultas pontuais
+	 */
+	@Bean
+	@Primary
+	public ClienteCacheRepositoryAdapter clienteCacheRepositoryAdapter(ClienteRepositoryAdapter clienteRepositoryAdapter,
+			ObjectProvider<ClienteBloomRepositoryAdapter> clienteBloomRepositoryAdapter, CacheProperties properties,
+			MeterRegistry meterRegistry) {
+		ClienteBloomRepositoryAdapter bloom = clienteBloomRepositoryAdapter.getIfAvailable();
+		ClienteRepositoryPort delegate = bloom != null ? bloom : clienteRepositoryAdapter;
+		ClienteCacheRepositoryAdapter adapter = new ClienteCacheRepositoryAdapter(delegate, properties);
+		CaffeineCacheMetrics.monitor(meterRegistry, adapter.getCache(), "clientes");
+		return adapter;
+	}
+
+	/**
+	 * Bean que invalida o cache a partir do change stream da coleção
+	 */
+	@Bean
+	public ClienteCacheChangeStreamHandler clienteCacheChangeStreamHandler(
+			ClienteCacheRepositoryAdapter clienteCacheRepositoryAdapter) {
+		return new ClienteCacheChangeStreamHandler(clienteCacheRepositoryAdapter);
+	}
+}
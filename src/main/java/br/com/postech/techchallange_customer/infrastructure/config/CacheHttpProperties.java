@@ -0,0 +1,37 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.cache-http")
+public class CacheHttpProperties {
+
+	/**
+	 * Envia ETag e Last-Modified nas buscas por clienteId, CPF e e-mail e
+	 * responde 304 a If-None-Match/If-Modified-Since
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Valor do Cache-Control dessas respostas; o padrão permite guardar a
+	 * resposta apenas no cliente e exige revalidação a cada uso
+	 */
+	private String cacheControl = "private, no-cache";
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public String getCacheControl() {
+		return cacheControl;
+	}
+
+	public void setCacheControl(String cacheControl) {
+		this.cacheControl = cacheControl;
+	}
+}
@@ -0,0 +1,50 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.cache")
+public class CacheProperties {
+
+	/**
+	 * Habilita o cache local de consultas pontuais (clienteId, CPF, e-mail)
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Quantidade máxima de clientes mantidos em memória por pod
+	 */
+	private long maximumSize = 10_000;
+
+	/**
+	 * Tempo máximo de vida de uma entrada desde a escrita
+	 */
+	private Duration ttl = Duration.ofMinutes(5);
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(Duration ttl) {
+		this.ttl = ttl;
+	}
+}
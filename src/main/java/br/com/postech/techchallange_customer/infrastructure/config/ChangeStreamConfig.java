@@ -0,0 +1,27 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.changestream.ClienteChangeStreamHandler;
+import br.com.postech.techchallange_customer.infrastructure.persistence.changestream.ClienteChangeStreamListener;
+
+/**
+ * Configuração do change stream da coleção de clientes (requer replica set)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes.change-stream", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeStreamConfig {
+
+	/**
+	 * Bean que repassa os eventos da coleção aos handlers registrados
+	 */
+	@Bean
+	public ClienteChangeStreamListener clienteChangeStreamListener(MongoTemplate mongoTemplate,
+			ObjectProvider<ClienteChangeStreamHandler> handlers) {
+		return new ClienteChangeStreamListener(mongoTemplate, handlers.orderedStream().toList());
+	}
+}
@@ -0,0 +1,31 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.codec.ClienteCodecRepositoryAdapter;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import br.com.postech.techchallange_customer.infrastructure.persistence.repository.ClienteMongoRepository;
+
+/**
+ * Configuração do adaptador de persistência com ClienteCodec
+ * Por ser um ClienteRepositoryAdapter, substitui o adaptador padrão
+ * (registrado como @Fallback) também como base do cache e do filtro de Bloom
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes.codec", name = "enabled", havingValue = "true")
+public class CodecConfig {
+
+	/**
+	 * Bean do repositório que decodifica os documentos direto em Cliente
+	 */
+	@Bean
+	public ClienteCodecRepositoryAdapter clienteCodecRepositoryAdapter(ClienteMongoRepository mongoRepository,
+			MongoTemplate mongoTemplate, ExportProperties exportProperties, LoteProperties loteProperties,
+			RoteamentoLeitura roteamentoLeitura) {
+		return new ClienteCodecRepositoryAdapter(mongoRepository, mongoTemplate, exportProperties, loteProperties,
+				roteamentoLeitura);
+	}
+}
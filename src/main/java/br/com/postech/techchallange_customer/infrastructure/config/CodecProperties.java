@@ -0,0 +1,23 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.codec")
+public class CodecProperties {
+
+	/**
+	 * Lê e cadastra clientes com ClienteCodec, decodificando o BSON direto na
+	 * entidade de domínio (sem MappingMongoConverter nem ClienteDocument)
+	 */
+	private boolean enabled = false;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+}
@@ -0,0 +1,36 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.export")
+public class ExportProperties {
+
+	/**
+	 * Documentos trazidos por lote (getMore) do cursor de exportação
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * Lê a exportação com read concern "snapshot" (MongoDB 5.0+), garantindo
+	 * uma visão consistente da coleção durante todo o cursor
+	 */
+	private boolean snapshotRead = false;
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public boolean isSnapshotRead() {
+		return snapshotRead;
+	}
+
+	public void setSnapshotRead(boolean snapshotRead) {
+		this.snapshotRead = snapshotRead;
+	}
+}
@@ -0,0 +1,35 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndiceGerenciador;
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndices;
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndicesEndpoint;
+
+/**
+ * Configuração do gerenciamento de índices da coleção de clientes
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes.indices", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IndiceConfig {
+
+	/**
+	 * Bean que cria os índices de consulta ausentes e compara o banco com o
+	 * catálogo (os únicos são garantidos em MongoConfig)
+	 */
+	@Bean
+	public ClienteIndiceGerenciador clienteIndiceGerenciador(MongoTemplate mongoTemplate, IndiceProperties properties) {
+		return new ClienteIndiceGerenciador(mongoTemplate, ClienteIndices.DECLARADOS, properties.isCreateOnStartup());
+	}
+
+	/**
+	 * Bean do endpoint de relatório e criação de índices
+	 */
+	@Bean
+	public ClienteIndicesEndpoint clienteIndicesEndpoint(ClienteIndiceGerenciador clienteIndiceGerenciador) {
+		return new ClienteIndicesEndpoint(clienteIndiceGerenciador);
+	}
+}
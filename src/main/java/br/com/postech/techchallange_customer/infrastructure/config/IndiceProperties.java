@@ -0,0 +1,38 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.indices")
+public class IndiceProperties {
+
+	/**
+	 * Habilita o gerenciamento (verificação e relatório) dos índices da coleção
+	 * Não afeta os índices únicos, sempre garantidos na inicialização
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Cria em segundo plano os índices de consulta ausentes na inicialização;
+	 * desligado, a criação fica a cargo da migração manual
+	 * (POST /actuator/clientesindices)
+	 */
+	private boolean createOnStartup = true;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public boolean isCreateOnStartup() {
+		return createOnStartup;
+	}
+
+	public void setCreateOnStartup(boolean createOnStartup) {
+		this.createOnStartup = createOnStartup;
+	}
+}
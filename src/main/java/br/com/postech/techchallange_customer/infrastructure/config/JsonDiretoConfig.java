@@ -0,0 +1,32 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJsonReader;
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJsonTranscoder;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+
+/**
+ * Configuração das buscas pontuais respondidas com o BSON transcodificado
+ * direto em JSON; sem este bean o controller usa o caminho mapeado
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes.json-direto", name = "enabled", havingValue = "true")
+public class JsonDiretoConfig {
+
+	/**
+	 * Bean das consultas que devolvem o JSON de ClienteDTO, com o JsonFactory
+	 * do ObjectMapper da aplicação
+	 */
+	@Bean
+	public ClienteJsonReader clienteJsonReader(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+			RoteamentoLeitura roteamentoLeitura) {
+		return new ClienteJsonReader(mongoTemplate, new ClienteJsonTranscoder(objectMapper.getFactory()),
+				roteamentoLeitura);
+	}
+}
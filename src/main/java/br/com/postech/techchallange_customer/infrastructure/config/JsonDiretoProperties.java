@@ -0,0 +1,23 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.json-direto")
+public class JsonDiretoProperties {
+
+	/**
+	 * Responde as buscas por clienteId, CPF e e-mail transcodificando o BSON
+	 * lido do banco direto em JSON, sem converter para Cliente e ClienteDTO
+	 */
+	private boolean enabled = false;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+}
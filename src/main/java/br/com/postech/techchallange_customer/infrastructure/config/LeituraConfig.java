@@ -0,0 +1,53 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.ConsistenciaCausal;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import br.com.postech.techchallange_customer.infrastructure.rest.filter.ConsistenciaCausalFilter;
+
+/**
+ * Configuração do roteamento das leituras entre primary e secundários
+ */
+@Configuration
+public class LeituraConfig {
+
+	/**
+	 * Bean com a última escrita conhecida e o token da requisição
+	 */
+	@Bean
+	public ConsistenciaCausal consistenciaCausal() {
+		return new ConsistenciaCausal();
+	}
+
+	/**
+	 * Bean com a read preference de listagens e buscas pontuais
+	 */
+	@Bean
+	public RoteamentoLeitura roteamentoLeitura(LeituraProperties properties, ConsistenciaCausal consistenciaCausal) {
+		return new RoteamentoLeitura(
+				RoteamentoLeitura.preferencia(properties.getListagem(), properties.getMaxStaleness(),
+						properties.isHedged()),
+				RoteamentoLeitura.preferencia(properties.getPontual(), properties.getMaxStaleness(),
+						properties.isHedged()),
+				consistenciaCausal);
+	}
+
+	/**
+	 * Filtro do token de consistência causal; só é registrado quando as buscas
+	 * pontuais saem do primary
+	 */
+	@Bean
+	@ConditionalOnWebApplication(type = Type.SERVLET)
+	public FilterRegistrationBean<ConsistenciaCausalFilter> consistenciaCausalFilter(
+			ConsistenciaCausal consistenciaCausal, RoteamentoLeitura roteamentoLeitura) {
+		FilterRegistrationBean<ConsistenciaCausalFilter> registro = new FilterRegistrationBean<>(
+				new ConsistenciaCausalFilter(consistenciaCausal));
+		registro.setEnabled(!roteamentoLeitura.isPontualNoPrimario());
+		return registro;
+	}
+}
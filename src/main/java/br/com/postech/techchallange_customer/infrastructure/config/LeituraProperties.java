@@ -0,0 +1,66 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.leitura")
+public class LeituraProperties {
+
+	/**
+	 * Read preference das listagens, contagens e exportações
+	 */
+	private String listagem = "secondaryPreferred";
+
+	/**
+	 * Read preference das buscas pontuais (clienteId, CPF, e-mail); fora do
+	 * primary elas usam sessões causalmente consistentes
+	 */
+	private String pontual = "primary";
+
+	/**
+	 * Atraso máximo de replicação aceito de um secundário (mínimo 90s); zero
+	 * não limita
+	 */
+	private Duration maxStaleness = Duration.ofSeconds(90);
+
+	/**
+	 * Hedged reads nas leituras fora do primary (só em cluster shardado, via
+	 * mongos)
+	 */
+	private boolean hedged = false;
+
+	public String getListagem() {
+		return listagem;
+	}
+
+	public void setListagem(String listagem) {
+		this.listagem = listagem;
+	}
+
+	public String getPontual() {
+		return pontual;
+	}
+
+	public void setPontual(String pontual) {
+		this.pontual = pontual;
+	}
+
+	public Duration getMaxStaleness() {
+		return maxStaleness;
+	}
+
+	public void setMaxStaleness(Duration maxStaleness) {
+		this.maxStaleness = maxStaleness;
+	}
+
+	public boolean isHedged() {
+		return hedged;
+	}
+
+	public void setHedged(boolean hedged) {
+		this.hedged = hedged;
+	}
+}
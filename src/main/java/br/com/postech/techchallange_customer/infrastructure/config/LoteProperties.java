@@ -0,0 +1,35 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.batch")
+public class LoteProperties {
+
+	/**
+	 * Clientes enviados ao banco por comando de escrita em lote (insertMany)
+	 */
+	private int chunkSize = 500;
+
+	/**
+	 * Quantidade máxima de clientes aceita em uma requisição de criação em lote
+	 */
+	private int maxItens = 5000;
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	public int getMaxItens() {
+		return maxItens;
+	}
+
+	public void setMaxItens(int maxItens) {
+		this.maxItens = maxItens;
+	}
+}
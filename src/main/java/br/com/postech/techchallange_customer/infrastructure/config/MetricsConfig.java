@@ -0,0 +1,27 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.postech.techchallange_customer.infrastructure.metrics.CasoDeUsoMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuração das métricas dos casos de uso
+ * Os beans de UseCaseConfig são decorados com timers e distribuição de itens
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+	/**
+	 * Post-processor estático para não antecipar a criação dos demais beans
+	 */
+	@Bean
+	public static CasoDeUsoMetricsPostProcessor casoDeUsoMetricsPostProcessor(
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return new CasoDeUsoMetricsPostProcessor(meterRegistry);
+	}
+}
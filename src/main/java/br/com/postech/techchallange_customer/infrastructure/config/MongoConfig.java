@@ -1,6 +1,10 @@
 package br.com.postech.techchallange_customer.infrastructure.config;
 
-import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -9,9 +13,27 @@ import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
+import br.com.postech.techchallange_customer.infrastructure.metrics.MongoComandoLentoListener;
+import br.com.postech.techchallange_customer.infrastructure.metrics.MongoEsperaConexaoListener;
+import br.com.postech.techchallange_customer.infrastructure.persistence.codec.ClienteCodec;
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndices;
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndicesUnicos;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.ConsistenciaCausal;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.EscritaCausalListener;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import br.com.postech.techchallange_customer.infrastructure.persistence.pool.MongoConfiguracaoEndpoint;
+import br.com.postech.techchallange_customer.infrastructure.persistence.pool.MongoPoolAquecedor;
+import br.com.postech.techchallange_customer.infrastructure.persistence.pool.MongoPoolConexoes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -24,9 +46,75 @@ public class MongoConfig {
 
 	private final MongoProperties properties;
 
+	/**
+	 * Configuração do cliente do MongoDB: URI, ajustes de mongodb.* (pool,
+	 * timeouts, heartbeat e compressão), listeners de métricas por comando, do
+	 * pool de conexões, de log de comandos lentos e, com buscas pontuais fora do
+	 * primary, do operationTime das escritas e, com clientes.codec.enabled, o
+	 * ClienteCodec no registro de codecs; usada também pelo cliente reativo do
+	 * perfil reactive (ReactiveConfig)
+	 */
+	@Bean
+	public MongoClientSettings mongoClientSettings(MeterRegistry meterRegistry,
+			MongoMonitoramentoProperties monitoramento, CodecProperties codec, MongoPoolConexoes mongoPoolConexoes,
+			RoteamentoLeitura roteamentoLeitura, ConsistenciaCausal consistenciaCausal) {
+		MongoClientSettings.Builder settings = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(properties.getUri()));
+		aplicarAjustes(settings, properties);
+		settings.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(mongoPoolConexoes));
+
+		if (codec.isEnabled()) {
+			settings.codecRegistry(CodecRegistries.fromRegistries(CodecRegistries.fromCodecs(new ClienteCodec()),
+					MongoClientSettings.getDefaultCodecRegistry()));
+		}
+
+		if (monitoramento.isMetricsEnabled()) {
+			settings.addCommandListener(new MongoMetricsCommandListener(meterRegistry))
+					.applyToConnectionPoolSettings(pool -> pool
+							.addConnectionPoolListener(new MongoMetricsConnectionPoolListener(meterRegistry))
+							.addConnectionPoolListener(new MongoEsperaConexaoListener(meterRegistry)));
+		}
+		if (!monitoramento.getSlowCommandThreshold().isNegative() && !monitoramento.getSlowCommandThreshold().isZero()) {
+			settings.addCommandListener(new MongoComandoLentoListener(monitoramento.getSlowCommandThreshold()));
+		}
+		if (!roteamentoLeitura.isPontualNoPrimario()) {
+			settings.addCommandListener(new EscritaCausalListener(consistenciaCausal));
+		}
+
+		return settings.build();
+	}
+
+	@Bean
+	public MongoClient mongoClient(MongoClientSettings mongoClientSettings) {
+		return MongoClients.create(mongoClientSettings);
+	}
+
+	/**
+	 * Bean que acompanha as conexões abertas no pool de cada servidor
+	 */
 	@Bean
-	public MongoClient mongoClient() {
-		return MongoClients.create(properties.getUri());
+	public MongoPoolConexoes mongoPoolConexoes() {
+		return new MongoPoolConexoes();
+	}
+
+	/**
+	 * Bean que segura a inicialização até o pool ter minPoolSize conexões
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "mongodb.pool", name = "prewarm", havingValue = "true", matchIfMissing = true)
+	public MongoPoolAquecedor mongoPoolAquecedor(MongoPoolConexoes mongoPoolConexoes,
+			MongoClientSettings mongoClientSettings) {
+		return new MongoPoolAquecedor(mongoPoolConexoes, mongoClientSettings.getConnectionPoolSettings().getMinSize(),
+				properties.getPool().getPrewarmTimeout());
+	}
+
+	/**
+	 * Bean do endpoint com a configuração efetiva do cliente
+	 */
+	@Bean
+	public MongoConfiguracaoEndpoint mongoConfiguracaoEndpoint(MongoClientSettings mongoClientSettings,
+			MongoPoolConexoes mongoPoolConexoes) {
+		return new MongoConfiguracaoEndpoint(mongoClientSettings, mongoPoolConexoes);
 	}
 
 	@Bean
@@ -35,9 +123,72 @@ public class MongoConfig {
 		return new MongoTemplate(mongoClient, properties.getDatabase());
 	}
 
+	/**
+	 * Bean que garante os índices únicos de clientes antes de a aplicação subir;
+	 * independe de clientes.indices.*, pois o cadastro depende deles
+	 */
+	@Bean
+	public ClienteIndicesUnicos clienteIndicesUnicos(MongoTemplate mongoTemplate) {
+		return new ClienteIndicesUnicos(mongoTemplate, ClienteIndices.UNICOS);
+	}
+
 	@Bean
 	public MongoTransactionManager mongoTransactionManager(MongoDatabaseFactory dbFactory) {
 		return new MongoTransactionManager(dbFactory);
 	}
 
+	/**
+	 * Aplica os ajustes preenchidos em mongodb.*, que prevalecem sobre as
+	 * opções da URI
+	 */
+	static void aplicarAjustes(MongoClientSettings.Builder settings, MongoProperties properties) {
+		MongoProperties.Pool pool = properties.getPool();
+		settings.applyToConnectionPoolSettings(conexoes -> {
+			if (pool.getMinSize() != null) {
+				conexoes.minSize(pool.getMinSize());
+			}
+			if (pool.getMaxSize() != null) {
+				conexoes.maxSize(pool.getMaxSize());
+			}
+			if (pool.getMaxConnectionIdleTime() != null) {
+				conexoes.maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS);
+			}
+			if (pool.getWaitQueueTimeout() != null) {
+				conexoes.maxWaitTime(pool.getWaitQueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			}
+		});
+		settings.applyToSocketSettings(socket -> {
+			if (properties.getConnectTimeout() != null) {
+				socket.connectTimeout(properties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			}
+			if (properties.getSocketTimeout() != null) {
+				socket.readTimeout(properties.getSocketTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			}
+		});
+		if (properties.getServerSelectionTimeout() != null) {
+			settings.applyToClusterSettings(cluster -> cluster
+					.serverSelectionTimeout(properties.getServerSelectionTimeout().toMillis(), TimeUnit.MILLISECONDS));
+		}
+		if (properties.getHeartbeatFrequency() != null) {
+			settings.applyToServerSettings(servidor -> servidor
+					.heartbeatFrequency(properties.getHeartbeatFrequency().toMillis(), TimeUnit.MILLISECONDS));
+		}
+		if (properties.getCompressors() != null && !properties.getCompressors().isEmpty()) {
+			settings.compressorList(properties.getCompressors().stream().map(MongoConfig::compressor).toList());
+		}
+	}
+
+	/**
+	 * Compressor do driver pelo nome; zstd e snappy dependem de zstd-jni e
+	 * snappy-java no classpath
+	 */
+	static MongoCompressor compressor(String nome) {
+		return switch (nome.trim().toLowerCase(Locale.ROOT)) {
+			case "zstd" -> MongoCompressor.createZstdCompressor();
+			case "snappy" -> MongoCompressor.createSnappyCompressor();
+			case "zlib" -> MongoCompressor.createZlibCompressor();
+			default -> throw new IllegalArgumentException(
+					"Compressor do MongoDB desconhecido: " + nome + " (use zstd, snappy ou zlib)");
+		};
+	}
 }
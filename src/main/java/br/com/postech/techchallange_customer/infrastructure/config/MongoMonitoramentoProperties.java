@@ -0,0 +1,38 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.mongo")
+public class MongoMonitoramentoProperties {
+
+	/**
+	 * Registra métricas por comando (mongodb.driver.commands) e do pool de conexões
+	 */
+	private boolean metricsEnabled = true;
+
+	/**
+	 * Comandos que levam pelo menos este tempo são registrados em log com o
+	 * formato do filtro; zero ou negativo desliga o log
+	 */
+	private Duration slowCommandThreshold = Duration.ofMillis(200);
+
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	public void setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+
+	public Duration getSlowCommandThreshold() {
+		return slowCommandThreshold;
+	}
+
+	public void setSlowCommandThreshold(Duration slowCommandThreshold) {
+		this.slowCommandThreshold = slowCommandThreshold;
+	}
+}
@@ -1,8 +1,18 @@
 package br.com.postech.techchallange_customer.infrastructure.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+/**
+ * Conexão com o MongoDB e ajustes do MongoClientSettings
+ *
+ * Os ajustes nulos (ou lista vazia) mantêm o valor da URI ou o padrão do
+ * driver; os preenchidos prevalecem sobre as opções da URI
+ */
 @Component
 @ConfigurationProperties(prefix = "mongodb")
 public class MongoProperties {
@@ -10,6 +20,36 @@ public class MongoProperties {
 	private String uri = "mongodb://localhost:27017/tc-customer";
 	private String database = "tc-customer";
 
+	/**
+	 * Tempo máximo para abrir uma conexão (connectTimeoutMS)
+	 */
+	private Duration connectTimeout;
+
+	/**
+	 * Tempo máximo de leitura no socket (socketTimeoutMS); zero espera
+	 * indefinidamente
+	 */
+	private Duration socketTimeout;
+
+	/**
+	 * Tempo máximo para encontrar um servidor compatível com a operação
+	 * (serverSelectionTimeoutMS)
+	 */
+	private Duration serverSelectionTimeout;
+
+	/**
+	 * Intervalo entre as verificações de cada servidor (heartbeatFrequencyMS)
+	 */
+	private Duration heartbeatFrequency;
+
+	/**
+	 * Compressores oferecidos ao servidor, em ordem de preferência: zstd,
+	 * snappy e zlib
+	 */
+	private List<String> compressors = new ArrayList<>();
+
+	private final Pool pool = new Pool();
+
 	public String getUri() {
 		return uri;
 	}
@@ -25,4 +65,135 @@ public class MongoProperties {
 	public void setDatabase(String database) {
 		this.database = database;
 	}
+
+	public Duration getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	public void setConnectTimeout(Duration connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	public Duration getSocketTimeout() {
+		return socketTimeout;
+	}
+
+	public void setSocketTimeout(Duration socketTimeout) {
+		this.socketTimeout = socketTimeout;
+	}
+
+	public Duration getServerSelectionTimeout() {
+		return serverSelectionTimeout;
+	}
+
+	public void setServerSelectionTimeout(Duration serverSelectionTimeout) {
+		this.serverSelectionTimeout = serverSelectionTimeout;
+	}
+
+	public Duration getHeartbeatFrequency() {
+		return heartbeatFrequency;
+	}
+
+	public void setHeartbeatFrequency(Duration heartbeatFrequency) {
+		this.heartbeatFrequency = heartbeatFrequency;
+	}
+
+	public List<String> getCompressors() {
+		return compressors;
+	}
+
+	public void setCompressors(List<String> compressors) {
+		this.compressors = compressors;
+	}
+
+	public Pool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Pool de conexões de cada servidor
+	 */
+	public static class Pool {
+
+		/**
+		 * Conexões mantidas abertas mesmo ociosas (minPoolSize)
+		 */
+		private Integer minSize;
+
+		/**
+		 * Limite de conexões simultâneas (maxPoolSize)
+		 */
+		private Integer maxSize;
+
+		/**
+		 * Tempo ocioso após o qual a conexão é fechada (maxIdleTimeMS)
+		 */
+		private Duration maxConnectionIdleTime;
+
+		/**
+		 * Espera máxima por uma conexão livre quando o pool está cheio
+		 * (waitQueueTimeoutMS)
+		 */
+		private Duration waitQueueTimeout;
+
+		/**
+		 * Na inicialização, aguarda o driver abrir min-size conexões antes de
+		 * a aplicação receber tráfego
+		 */
+		private boolean prewarm = true;
+
+		/**
+		 * Espera máxima pelo pré-aquecimento; esgotada, a aplicação sobe
+		 * mesmo assim
+		 */
+		private Duration prewarmTimeout = Duration.ofSeconds(10);
+
+		public Integer getMinSize() {
+			return minSize;
+		}
+
+		public void setMinSize(Integer minSize) {
+			this.minSize = minSize;
+		}
+
+		public Integer getMaxSize() {
+			return maxSize;
+		}
+
+		public void setMaxSize(Integer maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Duration getMaxConnectionIdleTime() {
+			return maxConnectionIdleTime;
+		}
+
+		public void setMaxConnectionIdleTime(Duration maxConnectionIdleTime) {
+			this.maxConnectionIdleTime = maxConnectionIdleTime;
+		}
+
+		public Duration getWaitQueueTimeout() {
+			return waitQueueTimeout;
+		}
+
+		public void setWaitQueueTimeout(Duration waitQueueTimeout) {
+			this.waitQueueTimeout = waitQueueTimeout;
+		}
+
+		public boolean isPrewarm() {
+			return prewarm;
+		}
+
+		public void setPrewarm(boolean prewarm) {
+			this.prewarm = prewarm;
+		}
+
+		public Duration getPrewarmTimeout() {
+			return prewarmTimeout;
+		}
+
+		public void setPrewarmTimeout(Duration prewarmTimeout) {
+			this.prewarmTimeout = prewarmTimeout;
+		}
+	}
 }
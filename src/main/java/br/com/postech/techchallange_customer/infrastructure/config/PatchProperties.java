@@ -0,0 +1,23 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.patch")
+public class PatchProperties {
+
+	/**
+	 * Novas tentativas de uma alteração parcial sem If-Match quando outra escrita
+	 * muda apenas campos diferentes dos alterados; 0 devolve 409 na primeira colisão
+	 */
+	private int retentativas = 2;
+
+	public int getRetentativas() {
+		return retentativas;
+	}
+
+	public void setRetentativas(int retentativas) {
+		this.retentativas = retentativas;
+	}
+}
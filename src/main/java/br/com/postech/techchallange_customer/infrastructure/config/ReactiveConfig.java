@@ -0,0 +1,141 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import br.com.postech.techchallange_customer.application.service.ReactiveAtualizarClienteService;
+import br.com.postech.techchallange_customer.application.service.ReactiveBuscarClienteService;
+import br.com.postech.techchallange_customer.application.service.ReactiveCriarClienteService;
+import br.com.postech.techchallange_customer.application.service.ReactiveDeletarClienteService;
+import br.com.postech.techchallange_customer.application.service.ReactiveDesativarClienteService;
+import br.com.postech.techchallange_customer.application.service.ReactiveListarClientesService;
+import br.com.postech.techchallange_customer.application.service.ReactiveReativarClienteService;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveAtualizarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveBuscarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveCriarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDeletarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDesativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveListarClientesUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveReativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.persistence.adapter.ReactiveClienteRepositoryAdapter;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuração da variante reativa da API (perfil reactive)
+ * Cria o cliente do driver reactive streams, com a mesma configuração do
+ * cliente bloqueante, a porta de saída reativa e os casos de uso Mono/Flux
+ * usados por ReactiveClienteRestAdapter. O cliente bloqueante continua
+ * atendendo índices, change streams e as rotas de lote
+ */
+@Configuration
+@Profile(ReactiveConfig.PERFIL)
+@RequiredArgsConstructor
+public class ReactiveConfig {
+
+	/**
+	 * Perfil que troca o Spring MVC (Tomcat) pelo WebFlux (Netty)
+	 */
+	public static final String PERFIL = "reactive";
+
+	private final MongoProperties properties;
+
+	/**
+	 * Cliente do MongoDB reativo (driver reactive streams)
+	 */
+	@Bean
+	public MongoClient reactiveMongoClient(MongoClientSettings mongoClientSettings) {
+		return MongoClients.create(mongoClientSettings);
+	}
+
+	/**
+	 * Template reativo com o conversor do template bloqueante, para que os
+	 * documentos sejam lidos e gravados no mesmo formato
+	 */
+	@Bean
+	public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient, MongoTemplate mongoTemplate) {
+		return new ReactiveMongoTemplate(
+				new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, properties.getDatabase()),
+				mongoTemplate.getConverter());
+	}
+
+	/**
+	 * Bean da porta de saída reativa
+	 */
+	@Bean
+	public ReactiveClienteRepositoryPort reactiveClienteRepository(ReactiveMongoTemplate reactiveMongoTemplate,
+			ExportProperties exportProperties, RoteamentoLeitura roteamentoLeitura) {
+		return new ReactiveClienteRepositoryAdapter(reactiveMongoTemplate, exportProperties, roteamentoLeitura);
+	}
+
+	/**
+	 * Bean para criar cliente
+	 */
+	@Bean
+	public ReactiveCriarClienteUseCase reactiveCriarClienteUseCase(ReactiveClienteRepositoryPort clienteRepository) {
+		return new ReactiveCriarClienteService(clienteRepository);
+	}
+
+	/**
+	 * Bean para buscar cliente
+	 */
+	@Bean
+	public ReactiveBuscarClienteUseCase reactiveBuscarClienteUseCase(ReactiveClienteRepositoryPort clienteRepository) {
+		return new ReactiveBuscarClienteService(clienteRepository);
+	}
+
+	/**
+	 * Bean para listar clientes
+	 */
+	@Bean
+	public ReactiveListarClientesUseCase reactiveListarClientesUseCase(
+			ReactiveClienteRepositoryPort clienteRepository) {
+		return new ReactiveListarClientesService(clienteRepository);
+	}
+
+	/**
+	 * Bean para atualizar cliente
+	 */
+	@Bean
+	public ReactiveAtualizarClienteUseCase reactiveAtualizarClienteUseCase(
+			ReactiveClienteRepositoryPort clienteRepository) {
+		return new ReactiveAtualizarClienteService(clienteRepository);
+	}
+
+	/**
+	 * Bean para desativar cliente
+	 */
+	@Bean
+	public ReactiveDesativarClienteUseCase reactiveDesativarClienteUseCase(
+			ReactiveClienteRepositoryPort clienteRepository) {
+		return new ReactiveDesativarClienteService(clienteRepository);
+	}
+
+	/**
+	 * Bean para reativar cliente
+	 */
+	@Bean
+	public ReactiveReativarClienteUseCase reactiveReativarClienteUseCase(
+			ReactiveClienteRepositoryPort clienteRepository) {
+		return new ReactiveReativarClienteService(clienteRepository);
+	}
+
+	/**
+	 * Bean para deletar cliente
+	 */
+	@Bean
+	public ReactiveDeletarClienteUseCase reactiveDeletarClienteUseCase(
+			ReactiveClienteRepositoryPort clienteRepository) {
+		return new ReactiveDeletarClienteService(clienteRepository);
+	}
+}
@@ -0,0 +1,25 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.postech.techchallange_customer.infrastructure.rest.json.ClienteJacksonModule;
+
+/**
+ * Configuração da serialização JSON dos DTOs de cliente
+ * O Spring Boot registra os beans de Module no ObjectMapper da aplicação,
+ * usado pelos controllers e pela exportação
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "clientes.serializacao", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SerializacaoConfig {
+
+	/**
+	 * Bean do módulo com os serializadores dedicados dos DTOs
+	 */
+	@Bean
+	public ClienteJacksonModule clienteJacksonModule() {
+		return new ClienteJacksonModule();
+	}
+}
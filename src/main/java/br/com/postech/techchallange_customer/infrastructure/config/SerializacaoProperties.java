@@ -0,0 +1,24 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.serializacao")
+public class SerializacaoProperties {
+
+	/**
+	 * Serializa ClienteDTO, EnderecoDTO e MetadataDTO com serializadores
+	 * dedicados (nomes pré-codificados, sem reflexão); desligado, volta à
+	 * serialização padrão do Jackson com a mesma saída
+	 */
+	private boolean enabled = true;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+}
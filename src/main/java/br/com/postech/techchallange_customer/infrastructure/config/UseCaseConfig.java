@@ -2,7 +2,9 @@ package br.com.postech.techchallange_customer.infrastructure.config;
 
 import br.com.postech.techchallange_customer.application.service.*;
 import br.com.postech.techchallange_customer.domain.port.in.*;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,8 +19,18 @@ public class UseCaseConfig {
 	 * Bean para criar cliente
 	 */
 	@Bean
-	public CriarClienteUseCase criarClienteUseCase(ClienteRepositoryPort clienteRepository) {
-		return new CriarClienteService(clienteRepository);
+	public CriarClienteUseCase criarClienteUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar) {
+		return new CriarClienteService(clienteRepository, clienteAutocompletar);
+	}
+
+	/**
+	 * Bean para criar clientes em lote
+	 */
+	@Bean
+	public CriarClientesEmLoteUseCase criarClientesEmLoteUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar, LoteProperties loteProperties) {
+		return new CriarClientesEmLoteService(clienteRepository, clienteAutocompletar, loteProperties.getMaxItens());
 	}
 
 	/**
@@ -37,35 +49,75 @@ public class UseCaseConfig {
 		return new ListarClientesService(clienteRepository);
 	}
 
+	/**
+	 * Bean para sugerir clientes por início do nome ou e-mail
+	 */
+	@Bean
+	public AutocompletarClienteUseCase autocompletarClienteUseCase(ClienteAutocompletarPort clienteAutocompletar) {
+		return new AutocompletarClienteService(clienteAutocompletar);
+	}
+
+	/**
+	 * Bean para exportar clientes
+	 */
+	@Bean
+	public ExportarClientesUseCase exportarClientesUseCase(ClienteRepositoryPort clienteRepository) {
+		return new ExportarClientesService(clienteRepository);
+	}
+
 	/**
 	 * Bean para atualizar cliente
 	 */
 	@Bean
-	public AtualizarClienteUseCase atualizarClienteUseCase(ClienteRepositoryPort clienteRepository) {
-		return new AtualizarClienteService(clienteRepository);
+	public AtualizarClienteUseCase atualizarClienteUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar) {
+		return new AtualizarClienteService(clienteRepository, clienteAutocompletar);
+	}
+
+	/**
+	 * Bean para alterar parcialmente um cliente (JSON Merge Patch)
+	 */
+	@Bean
+	public AlterarClienteUseCase alterarClienteUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar, PatchProperties patchProperties) {
+		return new AlterarClienteService(clienteRepository, clienteAutocompletar, patchProperties.getRetentativas());
+	}
+
+	/**
+	 * Bean para alterar clientes em massa por filtro
+	 * Sem change stream, desativações e reativações recarregam o autocompletar
+	 */
+	@Bean
+	public AlterarClientesEmMassaUseCase alterarClientesEmMassaUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar,
+			@Value("${clientes.change-stream.enabled:true}") boolean changeStream) {
+		return new AlterarClientesEmMassaService(clienteRepository, clienteAutocompletar, !changeStream);
 	}
 
 	/**
 	 * Bean para desativar cliente
 	 */
 	@Bean
-	public DesativarClienteUseCase desativarClienteUseCase(ClienteRepositoryPort clienteRepository) {
-		return new DesativarClienteService(clienteRepository);
+	public DesativarClienteUseCase desativarClienteUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar) {
+		return new DesativarClienteService(clienteRepository, clienteAutocompletar);
 	}
 
 	/**
 	 * Bean para reativar cliente
 	 */
 	@Bean
-	public ReativarClienteUseCase reativarClienteUseCase(ClienteRepositoryPort clienteRepository) {
-		return new ReativarClienteService(clienteRepository);
+	public ReativarClienteUseCase reativarClienteUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar) {
+		return new ReativarClienteService(clienteRepository, clienteAutocompletar);
 	}
 
 	/**
 	 * Bean para deletar cliente
 	 */
 	@Bean
-	public DeletarClienteUseCase deletarClienteUseCase(ClienteRepositoryPort clienteRepository) {
-		return new DeletarClienteService(clienteRepository);
+	public DeletarClienteUseCase deletarClienteUseCase(ClienteRepositoryPort clienteRepository,
+			ClienteAutocompletarPort clienteAutocompletar) {
+		return new DeletarClienteService(clienteRepository, clienteAutocompletar);
 	}
 }
@@ -0,0 +1,31 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.postech.techchallange_customer.infrastructure.metrics.ThreadVirtualFixadaMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Diagnóstico do modo de threads virtuais (spring.threads.virtual.enabled)
+ * Com o modo ligado o Tomcat atende cada requisição em uma thread virtual, e as
+ * chamadas bloqueantes ao MongoDB liberam a thread portadora enquanto esperam;
+ * o monitor registra os casos em que isso não acontece
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+	/**
+	 * Bean que acompanha as fixações de threads virtuais na portadora
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "clientes.virtual-threads", name = "pinning-monitor-enabled", havingValue = "true", matchIfMissing = true)
+	public ThreadVirtualFixadaMonitor threadVirtualFixadaMonitor(MeterRegistry meterRegistry,
+			VirtualThreadsProperties properties) {
+		return new ThreadVirtualFixadaMonitor(meterRegistry, properties.getPinningThreshold());
+	}
+}
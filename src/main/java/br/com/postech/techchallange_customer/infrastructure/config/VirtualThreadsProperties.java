@@ -0,0 +1,39 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "clientes.virtual-threads")
+public class VirtualThreadsProperties {
+
+	/**
+	 * Acompanha, via JFR (jdk.VirtualThreadPinned), as threads virtuais que
+	 * bloqueiam presas à thread portadora; só vale com
+	 * spring.threads.virtual.enabled=true
+	 */
+	private boolean pinningMonitorEnabled = true;
+
+	/**
+	 * Fixações mais curtas que este tempo não são registradas
+	 */
+	private Duration pinningThreshold = Duration.ofMillis(20);
+
+	public boolean isPinningMonitorEnabled() {
+		return pinningMonitorEnabled;
+	}
+
+	public void setPinningMonitorEnabled(boolean pinningMonitorEnabled) {
+		this.pinningMonitorEnabled = pinningMonitorEnabled;
+	}
+
+	public Duration getPinningThreshold() {
+		return pinningThreshold;
+	}
+
+	public void setPinningThreshold(Duration pinningThreshold) {
+		this.pinningThreshold = pinningThreshold;
+	}
+}
@@ -0,0 +1,136 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorador que mede cada chamada a um caso de uso
+ *
+ * Registra a duração em clientes.caso_de_uso (por caso de uso, método e
+ * resultado) e, para retornos paginados ou coleções, a quantidade de itens em
+ * clientes.caso_de_uso.itens. Nos casos de uso reativos (Mono/Flux) a duração
+ * vai da assinatura ao término do fluxo e os itens de um Flux são os emitidos.
+ * Percentis e histogramas são configurados por nome da métrica em
+ * management.metrics.distribution.
+ */
+public class CasoDeUsoInstrumentado implements InvocationHandler {
+
+	public static final String METRICA_DURACAO = "clientes.caso_de_uso";
+	public static final String METRICA_ITENS = "clientes.caso_de_uso.itens";
+
+	private static final String SEM_EXCECAO = "none";
+
+	private final Object alvo;
+	private final String casoDeUso;
+	private final MeterRegistry registry;
+
+	private CasoDeUsoInstrumentado(Object alvo, MeterRegistry registry) {
+		this.alvo = alvo;
+		this.casoDeUso = alvo.getClass().getSimpleName();
+		this.registry = registry;
+	}
+
+	/**
+	 * Envolve o caso de uso em um proxy que expõe as mesmas interfaces
+	 */
+	public static Object instrumentar(Object alvo, MeterRegistry registry) {
+		return Proxy.newProxyInstance(alvo.getClass().getClassLoader(), alvo.getClass().getInterfaces(),
+				new CasoDeUsoInstrumentado(alvo, registry));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			return method.invoke(alvo, args);
+		}
+
+		Timer.Sample sample = Timer.start(registry);
+		Object resultado;
+		try {
+			resultado = method.invoke(alvo, args);
+		} catch (InvocationTargetException e) {
+			registrarDuracao(sample, method, e.getCause());
+			throw e.getCause();
+		}
+
+		if (resultado instanceof Mono<?> mono) {
+			return medir(method, mono);
+		}
+		if (resultado instanceof Flux<?> flux) {
+			return medir(method, flux);
+		}
+		registrarItens(method, resultado);
+		registrarDuracao(sample, method, null);
+		return resultado;
+	}
+
+	private Mono<?> medir(Method method, Mono<?> mono) {
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start(registry);
+			return mono
+					.doOnSuccess(valor -> {
+						registrarItens(method, valor);
+						registrarDuracao(sample, method, null);
+					})
+					.doOnError(erro -> registrarDuracao(sample, method, erro));
+		});
+	}
+
+	private Flux<?> medir(Method method, Flux<?> flux) {
+		return Flux.defer(() -> {
+			Timer.Sample sample = Timer.start(registry);
+			AtomicInteger emitidos = new AtomicInteger();
+			return flux
+					.doOnNext(valor -> emitidos.incrementAndGet())
+					.doOnComplete(() -> {
+						registrarQuantidade(method, emitidos.get());
+						registrarDuracao(sample, method, null);
+					})
+					.doOnError(erro -> registrarDuracao(sample, method, erro));
+		});
+	}
+
+	private void registrarDuracao(Timer.Sample sample, Method method, Throwable erro) {
+		String excecao = erro == null ? SEM_EXCECAO : erro.getClass().getSimpleName();
+		sample.stop(Timer.builder(METRICA_DURACAO)
+				.description("Duração das chamadas aos casos de uso")
+				.tag("caso_de_uso", casoDeUso)
+				.tag("metodo", method.getName())
+				.tag("resultado", erro == null ? "sucesso" : "erro")
+				.tag("excecao", excecao)
+				.register(registry));
+	}
+
+	private void registrarItens(Method method, Object resultado) {
+		int itens;
+		if (resultado instanceof Pagina<?> pagina) {
+			itens = pagina.getItens().size();
+		} else if (resultado instanceof Collection<?> colecao) {
+			itens = colecao.size();
+		} else {
+			return;
+		}
+		registrarQuantidade(method, itens);
+	}
+
+	private void registrarQuantidade(Method method, int itens) {
+		DistributionSummary.builder(METRICA_ITENS)
+				.description("Itens devolvidos por chamada (páginas e lotes)")
+				.baseUnit("itens")
+				.tag("caso_de_uso", casoDeUso)
+				.tag("metodo", method.getName())
+				.register(registry)
+				.record(itens);
+	}
+}
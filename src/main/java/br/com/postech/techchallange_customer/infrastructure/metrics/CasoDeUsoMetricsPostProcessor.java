@@ -0,0 +1,41 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Aplica {@link CasoDeUsoInstrumentado} a todo bean que implementa uma porta
+ * de entrada (domain.port.in), sem alterar os serviços nem as configurações
+ * que os criam
+ */
+public class CasoDeUsoMetricsPostProcessor implements BeanPostProcessor {
+
+	private static final String PACOTE_PORTAS_ENTRADA = "br.com.postech.techchallange_customer.domain.port.in";
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	public CasoDeUsoMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!isCasoDeUso(bean)) {
+			return bean;
+		}
+
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		return registry == null ? bean : CasoDeUsoInstrumentado.instrumentar(bean, registry);
+	}
+
+	private static boolean isCasoDeUso(Object bean) {
+		for (Class<?> interfaceImplementada : bean.getClass().getInterfaces()) {
+			if (PACOTE_PORTAS_ENTRADA.equals(interfaceImplementada.getPackageName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,184 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Registra em log os comandos do MongoDB mais lentos que o limite configurado
+ *
+ * O log traz o formato do filtro (campos e operadores) com todos os valores
+ * literais trocados por "?", para que CPFs, e-mails e nomes não cheguem aos
+ * logs. No início do comando só é guardada uma cópia dos bytes do documento
+ * (o do driver deixa de ser válido quando o evento termina), e apenas para
+ * comandos que carregam filtro; o formato é extraído e redigido somente
+ * quando o comando passa do limite. Comandos sem evento de conclusão são
+ * descartados quando a quantidade em andamento chega ao máximo.
+ */
+public class MongoComandoLentoListener implements CommandListener {
+
+	private static final Logger log = LoggerFactory.getLogger(MongoComandoLentoListener.class);
+
+	private static final BsonString REDIGIDO = new BsonString("?");
+
+	/**
+	 * Comandos com filtro e o campo (ou lista de instruções) onde ele fica
+	 */
+	private static final Map<String, String> CAMPO_FILTRO = Map.of(
+			"find", "filter",
+			"aggregate", "pipeline",
+			"count", "query",
+			"distinct", "query",
+			"findAndModify", "query",
+			"update", "updates",
+			"delete", "deletes");
+
+	/**
+	 * Campos copiados sem redação (não contêm dados de clientes)
+	 */
+	private static final Set<String> CAMPOS_SEM_DADOS = Set.of("sort", "hint", "projection", "limit");
+
+	private static final int MAXIMO_EM_ANDAMENTO = 10_000;
+	private static final Duration IDADE_MAXIMA = Duration.ofMinutes(10);
+
+	private final long limiteNanos;
+	private final int maximoEmAndamento;
+	private final long idadeMaximaNanos;
+	private final Map<Integer, EmAndamento> emAndamento = new ConcurrentHashMap<>();
+
+	public MongoComandoLentoListener(Duration limite) {
+		this(limite, MAXIMO_EM_ANDAMENTO, IDADE_MAXIMA);
+	}
+
+	MongoComandoLentoListener(Duration limite, int maximoEmAndamento, Duration idadeMaxima) {
+		this.limiteNanos = limite.toNanos();
+		this.maximoEmAndamento = maximoEmAndamento;
+		this.idadeMaximaNanos = idadeMaxima.toNanos();
+	}
+
+	@Override
+	public void commandStarted(CommandStartedEvent event) {
+		String campoFiltro = CAMPO_FILTRO.get(event.getCommandName());
+		if (campoFiltro == null) {
+			return;
+		}
+
+		long agora = System.nanoTime();
+		if (emAndamento.size() >= maximoEmAndamento) {
+			descartarAbandonados(agora);
+			if (emAndamento.size() >= maximoEmAndamento) {
+				return;
+			}
+		}
+		// clone de um documento do driver é uma cópia dos bytes, sem decodificação
+		emAndamento.put(event.getRequestId(), new EmAndamento(agora, campoFiltro, event.getCommand().clone()));
+	}
+
+	@Override
+	public void commandSucceeded(CommandSucceededEvent event) {
+		concluir(event, event.getElapsedTime(TimeUnit.NANOSECONDS), "concluído");
+	}
+
+	@Override
+	public void commandFailed(CommandFailedEvent event) {
+		concluir(event, event.getElapsedTime(TimeUnit.NANOSECONDS), "falhou");
+	}
+
+	private void concluir(CommandEvent event, long nanos, String situacao) {
+		EmAndamento comando = emAndamento.remove(event.getRequestId());
+		if (nanos < limiteNanos) {
+			return;
+		}
+
+		log.warn("Comando MongoDB lento ({}): {} em {} levou {} ms; formato: {}", situacao, event.getCommandName(),
+				event.getDatabaseName(), TimeUnit.NANOSECONDS.toMillis(nanos),
+				comando == null ? "-" : formato(comando.comando(), comando.campoFiltro()).toJson());
+	}
+
+	/**
+	 * Remove comandos iniciados há pelo menos a idade máxima, cujo evento de
+	 * conclusão não chegou (ex.: conexão encerrada no meio do comando)
+	 */
+	private void descartarAbandonados(long agora) {
+		emAndamento.values().removeIf(comando -> agora - comando.inicioNanos() >= idadeMaximaNanos);
+	}
+
+	int getQuantidadeEmAndamento() {
+		return emAndamento.size();
+	}
+
+	private record EmAndamento(long inicioNanos, String campoFiltro, BsonDocument comando) {
+	}
+
+	// Formato do comando
+
+	/**
+	 * Extrai coleção, filtro redigido e campos sem dados do comando
+	 */
+	static BsonDocument formato(BsonDocument comando, String campoFiltro) {
+		BsonDocument formato = new BsonDocument();
+		String nomeComando = comando.getFirstKey();
+		formato.append(nomeComando, comando.get(nomeComando));
+
+		BsonValue filtro = comando.get(campoFiltro);
+		if (filtro != null) {
+			formato.append(campoFiltro, filtroDeInstrucoes(filtro));
+		}
+		for (String campo : CAMPOS_SEM_DADOS) {
+			if (comando.containsKey(campo)) {
+				formato.append(campo, comando.get(campo));
+			}
+		}
+		return formato;
+	}
+
+	/**
+	 * Em update/delete o filtro fica em cada instrução (campo q); as instruções
+	 * de um mesmo lote têm o mesmo formato, então só a primeira é usada
+	 */
+	private static BsonValue filtroDeInstrucoes(BsonValue filtro) {
+		if (filtro.isArray() && !filtro.asArray().isEmpty() && filtro.asArray().get(0).isDocument()) {
+			BsonDocument primeira = filtro.asArray().get(0).asDocument();
+			if (primeira.containsKey("q")) {
+				return redigir(primeira.get("q"));
+			}
+		}
+		return redigir(filtro);
+	}
+
+	/**
+	 * Mantém chaves e operadores, trocando valores literais por "?"
+	 */
+	static BsonValue redigir(BsonValue valor) {
+		if (valor.isDocument()) {
+			BsonDocument redigido = new BsonDocument();
+			valor.asDocument().forEach((chave, item) -> redigido.append(chave, redigir(item)));
+			return redigido;
+		}
+		if (valor.isArray()) {
+			BsonArray array = valor.asArray();
+			// arrays de documentos ($and, $or, pipeline) mantêm a estrutura; listas de literais ($in) viram "?"
+			if (!array.isEmpty() && array.get(0).isDocument()) {
+				BsonArray redigido = new BsonArray();
+				array.forEach(item -> redigido.add(redigir(item)));
+				return redigido;
+			}
+		}
+		return REDIGIDO;
+	}
+}
@@ -0,0 +1,48 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mede quanto tempo as operações esperam por uma conexão do pool do driver
+ * Complementa as métricas de tamanho e uso do pool do Micrometer
+ * (mongodb.driver.pool.*): espera alta com pool cheio indica maxPoolSize
+ * subdimensionado
+ */
+public class MongoEsperaConexaoListener implements ConnectionPoolListener {
+
+	public static final String METRICA_ESPERA = "mongodb.driver.pool.checkout";
+
+	private final MeterRegistry registry;
+
+	public MongoEsperaConexaoListener(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+		registrar(event.getConnectionId().getServerId(), "sucesso", event.getElapsedTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Override
+	public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+		registrar(event.getServerId(), event.getReason().name().toLowerCase(),
+				event.getElapsedTime(TimeUnit.NANOSECONDS));
+	}
+
+	private void registrar(ServerId servidor, String resultado, long nanos) {
+		Timer.builder(METRICA_ESPERA)
+				.description("Espera por uma conexão do pool do MongoDB")
+				.tag("server.address", servidor.getAddress().toString())
+				.tag("resultado", resultado)
+				.register(registry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+}
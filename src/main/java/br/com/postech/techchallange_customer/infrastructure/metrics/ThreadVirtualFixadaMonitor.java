@@ -0,0 +1,122 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Acompanha pelo JFR (evento jdk.VirtualThreadPinned) as threads virtuais que
+ * bloquearam sem liberar a thread portadora, em geral por esperarem dentro de
+ * um bloco synchronized ou de código nativo
+ *
+ * Cada fixação é medida em clientes.threads.virtuais.fixacao, com a origem
+ * (aplicação, driver do MongoDB ou outra biblioteca) decidida pelo quadro mais
+ * interno de um desses pacotes. A pilha é registrada em log uma única vez por
+ * ponto de fixação, para não inundar o log sob carga.
+ */
+public class ThreadVirtualFixadaMonitor implements SmartLifecycle {
+
+	public static final String METRICA_FIXACAO = "clientes.threads.virtuais.fixacao";
+
+	static final String EVENTO = "jdk.VirtualThreadPinned";
+
+	private static final Logger log = LoggerFactory.getLogger(ThreadVirtualFixadaMonitor.class);
+
+	private static final String PACOTE_APLICACAO = "br.com.postech.";
+	private static final String PACOTE_DRIVER = "com.mongodb.";
+	private static final int QUADROS_NO_LOG = 12;
+	private static final int PONTOS_REGISTRADOS_MAXIMO = 100;
+
+	private final MeterRegistry registry;
+	private final Duration limite;
+	private final Set<String> pontosRegistrados = ConcurrentHashMap.newKeySet();
+
+	private volatile RecordingStream stream;
+
+	public ThreadVirtualFixadaMonitor(MeterRegistry registry, Duration limite) {
+		this.registry = registry;
+		this.limite = limite;
+	}
+
+	@Override
+	public void start() {
+		RecordingStream novo = new RecordingStream();
+		novo.enable(EVENTO).withThreshold(limite).withStackTrace();
+		novo.onEvent(EVENTO, this::aoFixar);
+		novo.startAsync();
+		stream = novo;
+		log.info("Monitor de threads virtuais fixadas iniciado (limite {} ms)", limite.toMillis());
+	}
+
+	@Override
+	public void stop() {
+		RecordingStream atual = stream;
+		stream = null;
+		if (atual != null) {
+			atual.close();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return stream != null;
+	}
+
+	private void aoFixar(RecordedEvent evento) {
+		List<String> quadros = evento.getStackTrace() == null ? List.of()
+				: evento.getStackTrace().getFrames().stream().map(ThreadVirtualFixadaMonitor::descrever).toList();
+		registrar(evento.getDuration(), quadros);
+	}
+
+	/**
+	 * Mede a fixação e registra a pilha na primeira ocorrência de cada ponto
+	 *
+	 * @param quadros pilha da thread virtual, do quadro mais interno ao mais externo
+	 */
+	void registrar(Duration duracao, List<String> quadros) {
+		String origem = origem(quadros);
+		Timer.builder(METRICA_FIXACAO)
+				.description("Tempo em que threads virtuais bloquearam presas à thread portadora")
+				.tag("origem", origem)
+				.register(registry)
+				.record(duracao);
+
+		List<String> resumo = quadros.subList(0, Math.min(QUADROS_NO_LOG, quadros.size()));
+		String ponto = String.join("\n\tat ", resumo);
+		if (pontosRegistrados.size() < PONTOS_REGISTRADOS_MAXIMO && pontosRegistrados.add(ponto)) {
+			log.warn("Thread virtual fixada na portadora por {} ms (origem: {}):\n\tat {}", duracao.toMillis(),
+					origem, ponto);
+		}
+	}
+
+	/**
+	 * Classifica a fixação pelo quadro mais interno da aplicação ou do driver
+	 */
+	static String origem(List<String> quadros) {
+		for (String quadro : quadros) {
+			if (quadro.startsWith(PACOTE_DRIVER)) {
+				return "mongodb-driver";
+			}
+			if (quadro.startsWith(PACOTE_APLICACAO)) {
+				return "aplicacao";
+			}
+		}
+		return "outra";
+	}
+
+	private static String descrever(RecordedFrame quadro) {
+		return quadro.getMethod().getType().getName() + "." + quadro.getMethod().getName()
+				+ ":" + quadro.getLineNumber();
+	}
+}
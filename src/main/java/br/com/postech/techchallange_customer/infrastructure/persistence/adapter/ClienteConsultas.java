@@ -0,0 +1,335 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.ReadConcern;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.infrastructure.config.ExportProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteBuscaDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteCursorMapper;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteDocumentMapper;
+
+/**
+ * Consultas e alterações da coleção de clientes, compartilhadas pelos
+ * adaptadores bloqueante (MongoTemplate) e reativo (ReactiveMongoTemplate)
+ * para que as duas variantes enviem exatamente os mesmos comandos ao servidor
+ */
+final class ClienteConsultas {
+
+	static final String CAMPO_ID = "_id";
+	static final String CAMPO_DATA_CADASTRO = "dataCadastro";
+	static final String CAMPO_CPF = "cpfCliente";
+	static final String CAMPO_EMAIL = "emailCliente";
+	static final String CAMPO_CLIENTE_ID = "clienteId";
+	static final String CAMPO_ATIVO = "ativo";
+	static final String CAMPO_DATA_DESATIVACAO = "metadata.dataDesativacao";
+	static final String CAMPO_DATA_ULTIMA_ATUALIZACAO = "dataUltimaAtualizacao";
+	static final String CAMPO_VERSAO = "versao";
+	static final String CAMPO_TAGS = "metadata.tags";
+	static final String CAMPO_PONTUACAO = "pontuacao";
+
+	private ClienteConsultas() {
+	}
+
+	// Filtros das listagens
+
+	static Criteria ativos() {
+		return Criteria.where("ativo").is(true);
+	}
+
+	static Criteria inativos() {
+		return Criteria.where("ativo").is(false);
+	}
+
+	static Criteria porCidadeEEstado(String cidade, String estado) {
+		return Criteria.where("endereco.cidade").is(cidade).and("endereco.estado").is(estado);
+	}
+
+	static Criteria porTag(String tag) {
+		return Criteria.where("metadata.tags").is(tag);
+	}
+
+	static Criteria ativosPorCidade(String cidade) {
+		return Criteria.where("ativo").is(true).and("endereco.cidade").is(cidade);
+	}
+
+	static Criteria vipAtivos() {
+		return Criteria.where("ativo").is(true).and("metadata.tags").is("vip");
+	}
+
+	/**
+	 * Converte o filtro de domínio em critério; campos nulos não restringem
+	 */
+	static Criteria toCriteria(FiltroCliente filtro) {
+		Criteria criteria = new Criteria();
+		if (filtro == null) {
+			return criteria;
+		}
+		if (filtro.getAtivo() != null) {
+			criteria.and("ativo").is(filtro.getAtivo());
+		}
+		if (filtro.getCidade() != null) {
+			criteria.and("endereco.cidade").is(filtro.getCidade());
+		}
+		if (filtro.getEstado() != null) {
+			criteria.and("endereco.estado").is(filtro.getEstado());
+		}
+		if (filtro.getTag() != null) {
+			criteria.and("metadata.tags").is(filtro.getTag());
+		}
+		return criteria;
+	}
+
+	// Consultas
+
+	/**
+	 * Consulta pontual por um campo indexado, trazendo só os campos da projeção
+	 */
+	static Query porCampo(String campo, String valor, ProjecaoCliente projecao) {
+		Query query = new Query(Criteria.where(campo).is(valor));
+		projetar(query, projecao);
+		return query;
+	}
+
+	static Query porClienteId(String clienteId) {
+		return new Query(Criteria.where(CAMPO_CLIENTE_ID).is(clienteId));
+	}
+
+	/**
+	 * Consulta por keyset: filtra a partir da posição do cursor, ordena pela
+	 * chave indexada e lê um documento a mais para saber se há próxima página
+	 * (ver {@link #toPagina(List, ConsultaPaginada)})
+	 */
+	static Query pagina(Criteria filtro, ConsultaPaginada consulta) {
+		OrdenacaoCliente ordenacao = consulta.getOrdenacao();
+
+		Query query = new Query();
+		if (filtro != null) {
+			query.addCriteria(filtro);
+		}
+		ClienteCursorMapper.Posicao posicao = ClienteCursorMapper.toPosicao(consulta.getCursor(), ordenacao);
+		if (posicao != null) {
+			query.addCriteria(criterioAposPosicao(posicao, ordenacao));
+		}
+		query.with(ordenacaoIndexada(ordenacao)).limit(consulta.getLimite() + 1);
+		if (ordenacao == OrdenacaoCliente.ID) {
+			projetar(query, consulta.getProjecao());
+		} else {
+			projetar(query, consulta.getProjecao(), CAMPO_DATA_CADASTRO);
+		}
+		return query;
+	}
+
+	/**
+	 * Monta a página a partir do resultado de {@link #pagina(Criteria, ConsultaPaginada)}:
+	 * o documento excedente é descartado e indica que há próximo cursor
+	 */
+	static Pagina<Cliente> toPagina(List<Cliente> clientes, ConsultaPaginada consulta) {
+		int limite = consulta.getLimite();
+		if (clientes.size() <= limite) {
+			return new Pagina<>(clientes, null);
+		}
+
+		List<Cliente> itens = new ArrayList<>(clientes.subList(0, limite));
+		return new Pagina<>(itens, ClienteCursorMapper.toCursor(itens.get(limite - 1), consulta.getOrdenacao()));
+	}
+
+	/**
+	 * Busca textual no nome ($text, índice nomeCliente_text) por keyset sobre
+	 * (relevância decrescente, _id): a relevância só existe depois do $match de
+	 * texto, por isso a consulta é uma agregação e o critério do cursor vem após
+	 * o $addFields; lê um documento a mais para saber se há próxima página
+	 */
+	static Aggregation buscaPorNome(String texto, FiltroCliente filtro, ConsultaPaginada consulta) {
+		Document filtroTexto = new Document("$text", new Document("$search", texto));
+		filtroTexto.putAll(toCriteria(filtro).getCriteriaObject());
+
+		List<AggregationOperation> etapas = new ArrayList<>();
+		etapas.add(etapa("$match", filtroTexto));
+		etapas.add(etapa("$addFields", new Document(CAMPO_PONTUACAO, new Document("$meta", "textScore"))));
+		ClienteCursorMapper.PosicaoBusca posicao = ClienteCursorMapper.toPosicaoBusca(consulta.getCursor());
+		if (posicao != null) {
+			Object id = ObjectId.isValid(posicao.getId()) ? new ObjectId(posicao.getId()) : posicao.getId();
+			etapas.add(etapa("$match", new Document("$or", List.of(
+					new Document(CAMPO_PONTUACAO, new Document("$lt", posicao.getPontuacao())),
+					new Document(CAMPO_PONTUACAO, posicao.getPontuacao()).append(CAMPO_ID, new Document("$gt", id))))));
+		}
+		etapas.add(etapa("$sort", new Document(CAMPO_PONTUACAO, -1).append(CAMPO_ID, 1)));
+		etapas.add(etapa("$limit", consulta.getLimite() + 1));
+		ProjecaoCliente projecao = consulta.getProjecao();
+		if (!projecao.isCompleta()) {
+			Document campos = new Document();
+			for (String campo : projecao.getCampos()) {
+				campos.append("id".equals(campo) ? CAMPO_ID : campo, 1);
+			}
+			etapas.add(etapa("$project", campos.append(CAMPO_PONTUACAO, 1)));
+		}
+		return Aggregation.newAggregation(etapas);
+	}
+
+	/**
+	 * Monta a página a partir do resultado de
+	 * {@link #buscaPorNome(String, FiltroCliente, ConsultaPaginada)}, como em
+	 * {@link #toPagina(List, ConsultaPaginada)}
+	 */
+	static Pagina<Cliente> toPaginaBusca(List<ClienteBuscaDocument> documentos, ConsultaPaginada consulta) {
+		int limite = consulta.getLimite();
+		List<ClienteBuscaDocument> itens = documentos.size() <= limite ? documentos : documentos.subList(0, limite);
+		String proximoCursor = null;
+		if (documentos.size() > limite) {
+			ClienteBuscaDocument ultimo = itens.get(limite - 1);
+			proximoCursor = ClienteCursorMapper.toCursorBusca(ultimo.getPontuacao(), ultimo.getId());
+		}
+		List<Cliente> clientes = itens.stream().map(ClienteDocumentMapper::toDomain).toList();
+		return new Pagina<>(clientes, proximoCursor);
+	}
+
+	/**
+	 * Percurso do filtro em ordem de _id, lido do cursor em lotes de
+	 * clientes.export.batch-size
+	 */
+	static Query percurso(FiltroCliente filtro, ProjecaoCliente projecao, ExportProperties exportProperties) {
+		Query query = new Query(toCriteria(filtro))
+				.with(Sort.by(Sort.Direction.ASC, CAMPO_ID))
+				.cursorBatchSize(exportProperties.getBatchSize());
+		if (exportProperties.isSnapshotRead()) {
+			query.withReadConcern(ReadConcern.SNAPSHOT);
+		}
+		projetar(query, projecao);
+		return query;
+	}
+
+	// Alterações
+
+	/**
+	 * Cliente pelo clienteId, somente se ainda estiver na versão lida
+	 * (documentos antigos sem versão casam com null)
+	 */
+	static Query porClienteIdEVersao(String clienteId, Integer versao) {
+		return new Query(Criteria.where(CAMPO_CLIENTE_ID).is(clienteId).and(CAMPO_VERSAO).is(versao));
+	}
+
+	/**
+	 * $set dos campos definidos e $unset dos removidos, com a mesma data de
+	 * atualização e incremento de versão das demais alterações
+	 */
+	static Update alteracao(AlteracaoCliente alteracao, LocalDateTime dataAtualizacao) {
+		Update update = new Update();
+		alteracao.getValores().forEach((campo, valor) -> {
+			if (valor == null) {
+				update.unset(campo);
+			} else {
+				update.set(campo, valor);
+			}
+		});
+		return update.set(CAMPO_DATA_ULTIMA_ATUALIZACAO, dataAtualizacao).inc(CAMPO_VERSAO, 1);
+	}
+
+	static Update desativacao(LocalDateTime dataDesativacao) {
+		return new Update()
+				.set(CAMPO_ATIVO, false)
+				.set(CAMPO_DATA_DESATIVACAO, dataDesativacao)
+				.set(CAMPO_DATA_ULTIMA_ATUALIZACAO, dataDesativacao)
+				.inc(CAMPO_VERSAO, 1);
+	}
+
+	static Update reativacao(LocalDateTime dataAtualizacao) {
+		return new Update()
+				.set(CAMPO_ATIVO, true)
+				.unset(CAMPO_DATA_DESATIVACAO)
+				.set(CAMPO_DATA_ULTIMA_ATUALIZACAO, dataAtualizacao)
+				.inc(CAMPO_VERSAO, 1);
+	}
+
+	static Update alteracaoEmMassa(AlteracaoEmMassa alteracao, LocalDateTime dataAtualizacao) {
+		Update update = switch (alteracao.getTipo()) {
+			case DESATIVAR -> new Update()
+					.set(CAMPO_ATIVO, false)
+					.set(CAMPO_DATA_DESATIVACAO, dataAtualizacao);
+			case REATIVAR -> new Update()
+					.set(CAMPO_ATIVO, true)
+					.unset(CAMPO_DATA_DESATIVACAO);
+			case ADICIONAR_TAG -> new Update().addToSet(CAMPO_TAGS, alteracao.getTag());
+			case REMOVER_TAG -> new Update().pull(CAMPO_TAGS, alteracao.getTag());
+		};
+		return update.set(CAMPO_DATA_ULTIMA_ATUALIZACAO, dataAtualizacao).inc(CAMPO_VERSAO, 1);
+	}
+
+	/**
+	 * Combina o filtro com a condição de que o cliente ainda não esteja no estado
+	 * pretendido, para que versão e data de atualização só mudem quando algo muda
+	 */
+	static Query paraAlteracao(FiltroCliente filtro, AlteracaoEmMassa alteracao) {
+		Criteria pendente = switch (alteracao.getTipo()) {
+			case DESATIVAR -> Criteria.where(CAMPO_ATIVO).ne(false);
+			case REATIVAR -> Criteria.where(CAMPO_ATIVO).is(false);
+			case ADICIONAR_TAG -> Criteria.where(CAMPO_TAGS).ne(alteracao.getTag());
+			case REMOVER_TAG -> Criteria.where(CAMPO_TAGS).is(alteracao.getTag());
+		};
+		return new Query(new Criteria().andOperator(toCriteria(filtro), pendente));
+	}
+
+	/**
+	 * Restringe os campos lidos do banco; campos obrigatórios (chaves de
+	 * ordenação do cursor) são incluídos mesmo que não tenham sido pedidos
+	 */
+	private static void projetar(Query query, ProjecaoCliente projecao, String... obrigatorios) {
+		if (projecao.isCompleta()) {
+			return;
+		}
+
+		Field fields = query.fields();
+		for (String campo : projecao.getCampos()) {
+			fields.include("id".equals(campo) ? CAMPO_ID : campo);
+		}
+		for (String campo : obrigatorios) {
+			fields.include(campo);
+		}
+	}
+
+	private static AggregationOperation etapa(String operador, Object valor) {
+		return contexto -> new Document(operador, valor);
+	}
+
+	private static Sort ordenacaoIndexada(OrdenacaoCliente ordenacao) {
+		return switch (ordenacao) {
+			case ID -> Sort.by(Sort.Direction.ASC, CAMPO_ID);
+			case DATA_CADASTRO_ASC -> Sort.by(Sort.Direction.ASC, CAMPO_DATA_CADASTRO, CAMPO_ID);
+			case DATA_CADASTRO_DESC -> Sort.by(Sort.Direction.DESC, CAMPO_DATA_CADASTRO, CAMPO_ID);
+		};
+	}
+
+	private static Criteria criterioAposPosicao(ClienteCursorMapper.Posicao posicao, OrdenacaoCliente ordenacao) {
+		Object id = ObjectId.isValid(posicao.getId()) ? new ObjectId(posicao.getId()) : posicao.getId();
+
+		return switch (ordenacao) {
+			case ID -> Criteria.where(CAMPO_ID).gt(id);
+			case DATA_CADASTRO_ASC -> new Criteria().orOperator(
+					Criteria.where(CAMPO_DATA_CADASTRO).gt(posicao.getDataCadastro()),
+					Criteria.where(CAMPO_DATA_CADASTRO).is(posicao.getDataCadastro()).and(CAMPO_ID).gt(id));
+			case DATA_CADASTRO_DESC -> new Criteria().orOperator(
+					Criteria.where(CAMPO_DATA_CADASTRO).lt(posicao.getDataCadastro()),
+					Criteria.where(CAMPO_DATA_CADASTRO).is(posicao.getDataCadastro()).and(CAMPO_ID).lt(id));
+		};
+	}
+}
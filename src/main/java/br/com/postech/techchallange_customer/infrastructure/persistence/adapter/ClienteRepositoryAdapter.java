@@ -1,27 +1,89 @@
 package br.com.postech.techchallange_customer.infrastructure.persistence.adapter;
 
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.config.ExportProperties;
+import br.com.postech.techchallange_customer.infrastructure.config.LoteProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteBuscaDocument;
 import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
 import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteDocumentMapper;
 import br.com.postech.techchallange_customer.infrastructure.persistence.repository.ClienteMongoRepository;
+import com.mongodb.MongoServerException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Fallback;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistência MongoDB
- * Implementa a porta de saída ClienteRepositoryPort
+ * Implementa a porta de saída ClienteRepositoryPort; quando há decoradores
+ * (cache, filtro de existência) registrados, eles têm precedência na injeção.
+ * Listagens, contagens e buscas pontuais seguem a read preference de
+ * RoteamentoLeitura; verificações de existência e escritas vão ao primary
  */
 @Component
+@Fallback
 public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 
+	private static final int CODIGO_CHAVE_DUPLICADA = 11000;
+	private static final int CODIGO_VALIDACAO_DOCUMENTO = 121;
+	private static final String MENSAGEM_VALIDACAO_DOCUMENTO = "Cliente rejeitado pela validação de schema da coleção";
+	private static final String MENSAGEM_DUPLICADO = "Já existe um cliente cadastrado com %s: %s";
+	private static final Pattern CAMPO_CHAVE_DUPLICADA = Pattern.compile("dup key: \\{ ?([A-Za-z_][\\w.]*) ?:");
+	private static final Pattern INDICE_VIOLADO = Pattern.compile("index: (\\S+)");
+	private static final Pattern SUFIXO_INDICE_PADRAO = Pattern.compile("_-?1$");
+
 	private final ClienteMongoRepository mongoRepository;
+	private final MongoTemplate mongoTemplate;
+	private final ExportProperties exportProperties;
+	private final LoteProperties loteProperties;
+	private final RoteamentoLeitura roteamento;
 
-	public ClienteRepositoryAdapter(ClienteMongoRepository mongoRepository) {
+	public ClienteRepositoryAdapter(ClienteMongoRepository mongoRepository, MongoTemplate mongoTemplate,
+			ExportProperties exportProperties, LoteProperties loteProperties, RoteamentoLeitura roteamento) {
 		this.mongoRepository = mongoRepository;
+		this.mongoTemplate = mongoTemplate;
+		this.exportProperties = exportProperties;
+		this.loteProperties = loteProperties;
+		this.roteamento = roteamento;
 	}
 
 	@Override
@@ -31,29 +93,97 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 		return ClienteDocumentMapper.toDomain(saved);
 	}
 
+	@Override
+	public Cliente insert(Cliente cliente) {
+		ClienteDocument document = ClienteDocumentMapper.toDocument(cliente);
+		try {
+			ClienteDocument inserted = mongoRepository.insert(document);
+			return ClienteDocumentMapper.toDomain(inserted);
+		} catch (DuplicateKeyException e) {
+			RuntimeException existente = toClienteAlreadyExists(e.getMessage(), cliente);
+			throw existente != null ? existente : e;
+		} catch (DataAccessException e) {
+			throw toDocumentoRejeitado(e);
+		}
+	}
+
+	@Override
+	public List<ResultadoItemLote> insertAll(List<Cliente> clientes) {
+		int tamanho = Math.max(1, loteProperties.getChunkSize());
+		List<ResultadoItemLote> resultados = new ArrayList<>(clientes.size());
+		for (int inicio = 0; inicio < clientes.size(); inicio += tamanho) {
+			resultados.addAll(inserirParte(clientes.subList(inicio, Math.min(inicio + tamanho, clientes.size()))));
+		}
+		return resultados;
+	}
+
 	@Override
 	public Cliente update(Cliente cliente) {
 		ClienteDocument document = ClienteDocumentMapper.toDocument(cliente);
-		ClienteDocument updated = mongoRepository.save(document);
-		return ClienteDocumentMapper.toDomain(updated);
+		try {
+			ClienteDocument updated = mongoRepository.save(document);
+			return ClienteDocumentMapper.toDomain(updated);
+		} catch (OptimisticLockingFailureException e) {
+			throw new AlteracaoConcorrenteException(cliente.getClienteId());
+		} catch (DuplicateKeyException e) {
+			RuntimeException existente = toClienteAlreadyExists(e.getMessage(), cliente);
+			throw existente != null ? existente : e;
+		} catch (DataAccessException e) {
+			throw toDocumentoRejeitado(e);
+		}
+	}
+
+	/**
+	 * findAndModify filtrado por clienteId e versão, devolvendo o documento já
+	 * alterado; só os campos da alteração trafegam para o servidor
+	 */
+	@Override
+	public Optional<Cliente> updateCampos(String clienteId, Integer versao, AlteracaoCliente alteracao,
+			LocalDateTime dataAtualizacao) {
+		try {
+			ClienteDocument alterado = mongoTemplate.findAndModify(
+					ClienteConsultas.porClienteIdEVersao(clienteId, versao),
+					ClienteConsultas.alteracao(alteracao, dataAtualizacao),
+					FindAndModifyOptions.options().returnNew(true), ClienteDocument.class);
+			return Optional.ofNullable(alterado).map(ClienteDocumentMapper::toDomain);
+		} catch (DuplicateKeyException e) {
+			Cliente alterado = new Cliente();
+			alterado.setEmailCliente((String) alteracao.getValores().get(ClienteConsultas.CAMPO_EMAIL));
+			RuntimeException existente = toClienteAlreadyExists(e.getMessage(), alterado);
+			throw existente != null ? existente : e;
+		} catch (DataAccessException e) {
+			throw toDocumentoRejeitado(e);
+		}
 	}
 
 	@Override
 	public Optional<Cliente> findByClienteId(String clienteId) {
-		return mongoRepository.findByClienteId(clienteId)
-				.map(ClienteDocumentMapper::toDomain);
+		return findByClienteId(clienteId, ProjecaoCliente.completa());
 	}
 
 	@Override
 	public Optional<Cliente> findByCpf(String cpf) {
-		return mongoRepository.findByCpfCliente(cpf)
-				.map(ClienteDocumentMapper::toDomain);
+		return findByCpf(cpf, ProjecaoCliente.completa());
 	}
 
 	@Override
 	public Optional<Cliente> findByEmail(String email) {
-		return mongoRepository.findByEmailCliente(email)
-				.map(ClienteDocumentMapper::toDomain);
+		return findByEmail(email, ProjecaoCliente.completa());
+	}
+
+	@Override
+	public Optional<Cliente> findByClienteId(String clienteId, ProjecaoCliente projecao) {
+		return buscarUm(ClienteConsultas.porCampo(ClienteConsultas.CAMPO_CLIENTE_ID, clienteId, projecao));
+	}
+
+	@Override
+	public Optional<Cliente> findByCpf(String cpf, ProjecaoCliente projecao) {
+		return buscarUm(ClienteConsultas.porCampo(ClienteConsultas.CAMPO_CPF, cpf, projecao));
+	}
+
+	@Override
+	public Optional<Cliente> findByEmail(String email, ProjecaoCliente projecao) {
+		return buscarUm(ClienteConsultas.porCampo(ClienteConsultas.CAMPO_EMAIL, email, projecao));
 	}
 
 	@Override
@@ -63,57 +193,58 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 	}
 
 	@Override
-	public List<Cliente> findAll() {
-		return mongoRepository.findAll().stream()
-				.map(ClienteDocumentMapper::toDomain)
-				.collect(Collectors.toList());
+	public Pagina<Cliente> findAll(ConsultaPaginada consulta) {
+		return buscarPagina(null, consulta);
 	}
 
 	@Override
-	public List<Cliente> findAllAtivos() {
-		return mongoRepository.findByAtivoTrue().stream()
-				.map(ClienteDocumentMapper::toDomain)
-				.collect(Collectors.toList());
+	public Pagina<Cliente> findAllAtivos(ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.ativos(), consulta);
 	}
 
 	@Override
-	public List<Cliente> findAllInativos() {
-		return mongoRepository.findByAtivoFalse().stream()
-				.map(ClienteDocumentMapper::toDomain)
-				.collect(Collectors.toList());
+	public Pagina<Cliente> findAllInativos(ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.inativos(), consulta);
 	}
 
 	@Override
-	public List<Cliente> findByCidadeAndEstado(String cidade, String estado) {
-		return mongoRepository.findByEnderecoCidadeAndEnderecoEstado(cidade, estado).stream()
-				.map(ClienteDocumentMapper::toDomain)
-				.collect(Collectors.toList());
+	public Pagina<Cliente> findByCidadeAndEstado(String cidade, String estado, ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.porCidadeEEstado(cidade, estado), consulta);
 	}
 
 	@Override
-	public List<Cliente> findByTag(String tag) {
-		return mongoRepository.findByMetadataTagsContaining(tag).stream()
-				.map(ClienteDocumentMapper::toDomain)
-				.collect(Collectors.toList());
+	public Pagina<Cliente> findByTag(String tag, ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.porTag(tag), consulta);
 	}
 
 	@Override
-	public List<Cliente> findClientesAtivosPorCidade(String cidade) {
-		return mongoRepository.findClientesAtivosPorCidade(cidade).stream()
-				.map(ClienteDocumentMapper::toDomain)
-				.collect(Collectors.toList());
+	public Pagina<Cliente> findClientesAtivosPorCidade(String cidade, ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.ativosPorCidade(cidade), consulta);
 	}
 
 	@Override
-	public List<Cliente> findClientesVipAtivos() {
-		return mongoRepository.findClientesVipAtivos().stream()
-				.map(ClienteDocumentMapper::toDomain)
-				.collect(Collectors.toList());
+	public Pagina<Cliente> findClientesVipAtivos(ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.vipAtivos(), consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> searchByNome(String texto, FiltroCliente filtro, ConsultaPaginada consulta) {
+		List<ClienteBuscaDocument> documentos = mongoTemplate.aggregate(
+				roteamento.listagem(ClienteConsultas.buscaPorNome(texto, filtro, consulta)),
+				ClienteDocument.class, ClienteBuscaDocument.class).getMappedResults();
+		return ClienteConsultas.toPaginaBusca(documentos, consulta);
+	}
+
+	@Override
+	public long streamByFiltro(FiltroCliente filtro, Consumer<Cliente> consumidor) {
+		return percorrer(
+				roteamento.listagem(ClienteConsultas.percurso(filtro, ProjecaoCliente.completa(), exportProperties)),
+				consumidor);
 	}
 
 	@Override
 	public long countAtivos() {
-		return mongoRepository.countByAtivoTrue();
+		return mongoTemplate.count(roteamento.listagem(new Query(ClienteConsultas.ativos())), ClienteDocument.class);
 	}
 
 	@Override
@@ -133,7 +264,201 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
 	}
 
 	@Override
-	public void deleteByClienteId(String clienteId) {
-		mongoRepository.deleteByClienteId(clienteId);
+	public boolean deleteByClienteId(String clienteId) {
+		return mongoRepository.deleteByClienteId(clienteId) > 0;
+	}
+
+	@Override
+	public boolean desativarByClienteId(String clienteId, LocalDateTime dataDesativacao) {
+		return atualizarPorClienteId(clienteId, ClienteConsultas.desativacao(dataDesativacao));
+	}
+
+	@Override
+	public boolean reativarByClienteId(String clienteId, LocalDateTime dataAtualizacao) {
+		return atualizarPorClienteId(clienteId, ClienteConsultas.reativacao(dataAtualizacao));
+	}
+
+	@Override
+	public long countParaAlteracao(FiltroCliente filtro, AlteracaoEmMassa alteracao) {
+		return mongoTemplate.count(ClienteConsultas.paraAlteracao(filtro, alteracao), ClienteDocument.class);
+	}
+
+	@Override
+	public ResultadoAlteracaoEmMassa updateByFiltro(FiltroCliente filtro, AlteracaoEmMassa alteracao,
+			LocalDateTime dataAtualizacao) {
+		UpdateResult resultado = mongoTemplate.updateMulti(ClienteConsultas.paraAlteracao(filtro, alteracao),
+				ClienteConsultas.alteracaoEmMassa(alteracao, dataAtualizacao), ClienteDocument.class);
+		return new ResultadoAlteracaoEmMassa(resultado.getMatchedCount(), resultado.getModifiedCount(), false);
+	}
+
+	/**
+	 * Aplica a alteração no servidor (updateOne), sem ler nem regravar o documento
+	 */
+	private boolean atualizarPorClienteId(String clienteId, Update update) {
+		UpdateResult resultado = mongoTemplate.updateFirst(ClienteConsultas.porClienteId(clienteId), update,
+				ClienteDocument.class);
+		return resultado.getMatchedCount() > 0;
+	}
+
+	/**
+	 * Envia uma parte do lote em um único insertMany não ordenado: o servidor
+	 * grava todos os documentos válidos e informa o índice de cada um rejeitado
+	 */
+	private List<ResultadoItemLote> inserirParte(List<Cliente> clientes) {
+		List<ClienteDocument> documentos = new ArrayList<>(clientes.size());
+		for (Cliente cliente : clientes) {
+			documentos.add(toDocumentoNovo(cliente));
+		}
+
+		Map<Integer, BulkWriteError> erros = new HashMap<>();
+		try {
+			mongoTemplate.bulkOps(BulkMode.UNORDERED, ClienteDocument.class)
+					.insert(documentos)
+					.execute();
+		} catch (BulkOperationException e) {
+			for (BulkWriteError erro : e.getErrors()) {
+				erros.put(erro.getIndex(), erro);
+			}
+		}
+
+		List<ResultadoItemLote> resultados = new ArrayList<>(clientes.size());
+		for (int i = 0; i < clientes.size(); i++) {
+			BulkWriteError erro = erros.get(i);
+			resultados.add(erro == null
+					? ResultadoItemLote.criado(ClienteDocumentMapper.toDomain(documentos.get(i)))
+					: toResultadoRejeitado(erro, clientes.get(i)));
+		}
+		return resultados;
+	}
+
+	/**
+	 * O _id e a versão são atribuídos antes do envio para que o documento
+	 * devolvido ao chamador corresponda ao gravado
+	 */
+	private ClienteDocument toDocumentoNovo(Cliente cliente) {
+		ClienteDocument document = ClienteDocumentMapper.toDocument(cliente);
+		if (document.getId() == null) {
+			document.setId(new ObjectId().toHexString());
+		}
+		if (document.getVersao() == null) {
+			document.setVersao(0);
+		}
+		return document;
+	}
+
+	private ResultadoItemLote toResultadoRejeitado(BulkWriteError erro, Cliente cliente) {
+		String mensagem = erro.getMessage() != null ? erro.getMessage() : "";
+		if (erro.getCode() == CODIGO_CHAVE_DUPLICADA) {
+			String campo = campoDuplicado(mensagem);
+			if (ClienteConsultas.CAMPO_CPF.equals(campo)) {
+				return ResultadoItemLote.rejeitado(StatusItemLote.CPF_DUPLICADO, cliente,
+						String.format(MENSAGEM_DUPLICADO, "CPF", cliente.getCpfCliente()));
+			}
+			if (ClienteConsultas.CAMPO_EMAIL.equals(campo)) {
+				return ResultadoItemLote.rejeitado(StatusItemLote.EMAIL_DUPLICADO, cliente,
+						String.format(MENSAGEM_DUPLICADO, "e-mail", cliente.getEmailCliente()));
+			}
+		}
+		return ResultadoItemLote.rejeitado(StatusItemLote.FALHA, cliente, mensagem);
+	}
+
+	/**
+	 * Identifica pela chave duplicada (informada na mensagem do servidor) qual
+	 * campo único já está cadastrado; null quando a mensagem não aponta um deles
+	 */
+	protected static ClienteAlreadyExistsException toClienteAlreadyExists(String mensagemServidor, Cliente cliente) {
+		String campo = campoDuplicado(mensagemServidor);
+		if (ClienteConsultas.CAMPO_CPF.equals(campo)) {
+			return new ClienteAlreadyExistsException("CPF", cliente.getCpfCliente());
+		}
+		if (ClienteConsultas.CAMPO_EMAIL.equals(campo)) {
+			return new ClienteAlreadyExistsException("e-mail", cliente.getEmailCliente());
+		}
+		if (ClienteConsultas.CAMPO_CLIENTE_ID.equals(campo)) {
+			return new ClienteAlreadyExistsException("clienteId", cliente.getClienteId());
+		}
+		return null;
+	}
+
+	/**
+	 * Documento recusado pelo $jsonSchema da coleção (erro 121) vira erro de
+	 * validação do cliente; as demais falhas seguem como estão
+	 */
+	protected static RuntimeException toDocumentoRejeitado(RuntimeException erro) {
+		for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+			if (causa instanceof MongoServerException servidor && servidor.getCode() == CODIGO_VALIDACAO_DOCUMENTO) {
+				return new InvalidClienteException(MENSAGEM_VALIDACAO_DOCUMENTO);
+			}
+		}
+		return erro;
+	}
+
+	/**
+	 * Campo da chave duplicada do erro 11000, lido do trecho
+	 * "dup key: { <campo>: ... }" (o keyValue), que independe do nome do índice:
+	 * índices criados antes do catálogo podem ter o nome padrão (cpfCliente_1)
+	 * Servidores que omitem o campo ("dup key: { : ... }") são atendidos pelo nome
+	 * do índice, sem o sufixo padrão. A mensagem inteira não serve, pois o valor
+	 * duplicado pode conter o nome de outro campo
+	 */
+	private static String campoDuplicado(String mensagemServidor) {
+		if (mensagemServidor == null) {
+			return null;
+		}
+		Matcher chave = CAMPO_CHAVE_DUPLICADA.matcher(mensagemServidor);
+		if (chave.find()) {
+			return chave.group(1);
+		}
+		Matcher indice = INDICE_VIOLADO.matcher(mensagemServidor);
+		return indice.find() ? SUFIXO_INDICE_PADRAO.matcher(indice.group(1)).replaceFirst("") : null;
+	}
+
+	// Leitura dos documentos (sobrescrita por adaptadores com outra decodificação)
+
+	/**
+	 * Executa a consulta pontual, com a read preference (e, fora do primary, a
+	 * sessão causal) de RoteamentoLeitura, e converte o documento encontrado
+	 */
+	protected Optional<Cliente> buscarUm(Query query) {
+		return roteamento.pontual(mongoTemplate, (sessao, preferencia) -> Optional
+				.ofNullable(operacoes(sessao).findOne(query.withReadPreference(preferencia), ClienteDocument.class))
+				.map(ClienteDocumentMapper::toDomain));
+	}
+
+	/**
+	 * Executa a consulta e converte todos os documentos, na ordem devolvida; a
+	 * read preference é a da própria consulta
+	 */
+	protected List<Cliente> buscar(Query query) {
+		return mongoTemplate.find(query, ClienteDocument.class).stream()
+				.map(ClienteDocumentMapper::toDomain)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Percorre o resultado da consulta com um cursor, entregando um cliente por
+	 * vez ao consumidor
+	 *
+	 * @return quantidade de clientes entregues
+	 */
+	protected long percorrer(Query query, Consumer<Cliente> consumidor) {
+		long total = 0;
+		try (Stream<ClienteDocument> documentos = mongoTemplate.stream(query, ClienteDocument.class)) {
+			Iterator<ClienteDocument> iterator = documentos.iterator();
+			while (iterator.hasNext()) {
+				consumidor.accept(ClienteDocumentMapper.toDomain(iterator.next()));
+				total++;
+			}
+		}
+		return total;
+	}
+
+	private MongoTemplate operacoes(ClientSession sessao) {
+		return sessao == null ? mongoTemplate : mongoTemplate.withSession(sessao);
+	}
+
+	private Pagina<Cliente> buscarPagina(Criteria filtro, ConsultaPaginada consulta) {
+		return ClienteConsultas.toPagina(buscar(roteamento.listagem(ClienteConsultas.pagina(filtro, consulta))),
+				consulta);
 	}
 }
@@ -0,0 +1,156 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.config.ExportProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteDocumentMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptador de persistência MongoDB reativo (driver reactive streams)
+ * Implementa a porta de saída ReactiveClienteRepositoryPort com as mesmas
+ * consultas do adaptador bloqueante (ClienteConsultas); não há decoradores de
+ * cache nem filtro de existência nesta variante. Listagens, contagens e
+ * exportações seguem a read preference de RoteamentoLeitura; as buscas
+ * pontuais ficam sempre no primary, pois o token causal é guardado por thread
+ */
+public class ReactiveClienteRepositoryAdapter implements ReactiveClienteRepositoryPort {
+
+	private final ReactiveMongoTemplate mongoTemplate;
+	private final ExportProperties exportProperties;
+	private final RoteamentoLeitura roteamento;
+
+	public ReactiveClienteRepositoryAdapter(ReactiveMongoTemplate mongoTemplate, ExportProperties exportProperties,
+			RoteamentoLeitura roteamento) {
+		this.mongoTemplate = mongoTemplate;
+		this.exportProperties = exportProperties;
+		this.roteamento = roteamento;
+	}
+
+	@Override
+	public Mono<Cliente> insert(Cliente cliente) {
+		return mongoTemplate.insert(ClienteDocumentMapper.toDocument(cliente))
+				.map(ClienteDocumentMapper::toDomain)
+				.onErrorMap(DuplicateKeyException.class, e -> {
+					ClienteAlreadyExistsException existente = ClienteRepositoryAdapter
+							.toClienteAlreadyExists(e.getMessage(), cliente);
+					return existente != null ? existente : e;
+				});
+	}
+
+	@Override
+	public Mono<Cliente> update(Cliente cliente) {
+		return mongoTemplate.save(ClienteDocumentMapper.toDocument(cliente))
+				.map(ClienteDocumentMapper::toDomain);
+	}
+
+	@Override
+	public Mono<Cliente> findByClienteId(String clienteId, ProjecaoCliente projecao) {
+		return buscarUm(ClienteConsultas.porCampo(ClienteConsultas.CAMPO_CLIENTE_ID, clienteId, projecao));
+	}
+
+	@Override
+	public Mono<Cliente> findByCpf(String cpf, ProjecaoCliente projecao) {
+		return buscarUm(ClienteConsultas.porCampo(ClienteConsultas.CAMPO_CPF, cpf, projecao));
+	}
+
+	@Override
+	public Mono<Cliente> findByEmail(String email, ProjecaoCliente projecao) {
+		return buscarUm(ClienteConsultas.porCampo(ClienteConsultas.CAMPO_EMAIL, email, projecao));
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> findAll(ConsultaPaginada consulta) {
+		return buscarPagina(null, consulta);
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> findAllAtivos(ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.ativos(), consulta);
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> findClientesAtivosPorCidade(String cidade, ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.ativosPorCidade(cidade), consulta);
+	}
+
+	@Override
+	public Mono<Pagina<Cliente>> findClientesVipAtivos(ConsultaPaginada consulta) {
+		return buscarPagina(ClienteConsultas.vipAtivos(), consulta);
+	}
+
+	@Override
+	public Flux<Cliente> streamByFiltro(FiltroCliente filtro, ProjecaoCliente projecao) {
+		// o driver pede ao servidor um novo lote (getMore) apenas quando o assinante sinaliza demanda
+		return mongoTemplate
+				.find(roteamento.listagem(ClienteConsultas.percurso(filtro, projecao, exportProperties)),
+						ClienteDocument.class)
+				.map(ClienteDocumentMapper::toDomain);
+	}
+
+	@Override
+	public Mono<Long> countAtivos() {
+		return mongoTemplate.count(roteamento.listagem(new Query(ClienteConsultas.ativos())), ClienteDocument.class);
+	}
+
+	@Override
+	public Mono<Boolean> deleteByClienteId(String clienteId) {
+		return mongoTemplate.remove(ClienteConsultas.porClienteId(clienteId), ClienteDocument.class)
+				.map(DeleteResult::getDeletedCount)
+				.map(removidos -> removidos > 0);
+	}
+
+	@Override
+	public Mono<Boolean> desativarByClienteId(String clienteId, LocalDateTime dataDesativacao) {
+		return atualizarPorClienteId(clienteId, ClienteConsultas.desativacao(dataDesativacao));
+	}
+
+	@Override
+	public Mono<Boolean> reativarByClienteId(String clienteId, LocalDateTime dataAtualizacao) {
+		return atualizarPorClienteId(clienteId, ClienteConsultas.reativacao(dataAtualizacao));
+	}
+
+	/**
+	 * Aplica a alteração no servidor (updateOne), sem ler nem regravar o documento
+	 */
+	private Mono<Boolean> atualizarPorClienteId(String clienteId, Update update) {
+		return mongoTemplate.updateFirst(ClienteConsultas.porClienteId(clienteId), update, ClienteDocument.class)
+				.map(UpdateResult::getMatchedCount)
+				.map(encontrados -> encontrados > 0);
+	}
+
+	private Mono<Cliente> buscarUm(Query query) {
+		return mongoTemplate.findOne(query, ClienteDocument.class)
+				.map(ClienteDocumentMapper::toDomain);
+	}
+
+	/**
+	 * Lê a página (limite + 1 documentos, ver ClienteConsultas.pagina) e monta o
+	 * cursor da próxima quando o documento excedente chega
+	 */
+	private Mono<Pagina<Cliente>> buscarPagina(Criteria filtro, ConsultaPaginada consulta) {
+		return mongoTemplate.find(roteamento.listagem(ClienteConsultas.pagina(filtro, consulta)), ClienteDocument.class)
+				.map(ClienteDocumentMapper::toDomain)
+				.collectList()
+				.map(clientes -> ClienteConsultas.toPagina(clientes, consulta));
+	}
+}
@@ -0,0 +1,105 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar;
+
+import static br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.ClienteAutocompletarIndice.CAMPO_ATIVO;
+import static br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.ClienteAutocompletarIndice.CAMPO_EMAIL;
+import static br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.ClienteAutocompletarIndice.CAMPO_ID;
+import static br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.ClienteAutocompletarIndice.CAMPO_NOME;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.changestream.ClienteChangeStreamHandler;
+
+/**
+ * Mantém o índice de autocompletar atualizado com escritas de outros pods
+ * (e com as alterações em massa, que não passam pelos casos de uso de um
+ * cliente)
+ *
+ * Eventos de update trazem só os campos alterados: nome e e-mail são aplicados
+ * direto à entrada existente; só a reativação precisa reler o cliente.
+ */
+public class ClienteAutocompletarChangeStreamHandler implements ClienteChangeStreamHandler {
+
+	private final ClienteAutocompletarIndice indice;
+
+	public ClienteAutocompletarChangeStreamHandler(ClienteAutocompletarIndice indice) {
+		this.indice = indice;
+	}
+
+	@Override
+	public void aoReceber(ChangeStreamDocument<Document> evento) {
+		switch (evento.getOperationType()) {
+			case INSERT, REPLACE -> {
+				if (evento.getFullDocument() != null) {
+					indice.registrar(evento.getFullDocument());
+				}
+			}
+			case UPDATE -> atualizar(evento.getDocumentKey(), evento.getUpdateDescription());
+			case DELETE -> indice.removerPorId(id(evento.getDocumentKey()));
+			default -> {
+				// drop, rename e invalidate reabrem o stream, que pede a reconstrução
+			}
+		}
+	}
+
+	@Override
+	public void aoPerderEventos() {
+		indice.reconstruirEmSegundoPlano();
+	}
+
+	@Override
+	public void aoEncerrar() {
+		// Sem replica set não há outros pods a acompanhar: basta a carga inicial
+		if (!indice.isPronto()) {
+			indice.reconstruirEmSegundoPlano();
+		}
+	}
+
+	private void atualizar(BsonDocument chave, UpdateDescription descricao) {
+		if (chave == null || descricao == null) {
+			return;
+		}
+
+		BsonDocument alterados = descricao.getUpdatedFields() == null ? new BsonDocument()
+				: descricao.getUpdatedFields();
+		List<String> removidos = descricao.getRemovedFields() == null ? List.of() : descricao.getRemovedFields();
+		BsonValue ativo = alterados.get(CAMPO_ATIVO);
+
+		if (ativo != null && ativo.isBoolean() && !ativo.asBoolean().getValue()) {
+			indice.removerPorId(id(chave));
+		} else if (ativo != null || removidos.contains(CAMPO_NOME) || removidos.contains(CAMPO_EMAIL)) {
+			indice.recarregarPorId(valor(chave.get(CAMPO_ID)));
+		} else if (alterados.containsKey(CAMPO_NOME) || alterados.containsKey(CAMPO_EMAIL)) {
+			indice.atualizarPorId(id(chave), texto(alterados.get(CAMPO_NOME)), texto(alterados.get(CAMPO_EMAIL)));
+		}
+	}
+
+	private static String id(BsonDocument chave) {
+		Object valor = chave == null ? null : valor(chave.get(CAMPO_ID));
+		if (valor instanceof ObjectId objectId) {
+			return objectId.toHexString();
+		}
+		return valor == null ? null : valor.toString();
+	}
+
+	private static Object valor(BsonValue valor) {
+		if (valor == null) {
+			return null;
+		}
+		if (valor.isObjectId()) {
+			return valor.asObjectId().getValue();
+		}
+		return valor.isString() ? valor.asString().getValue() : valor.toString();
+	}
+
+	private static String texto(BsonValue valor) {
+		return valor != null && valor.isString() ? valor.asString().getValue() : null;
+	}
+}
@@ -0,0 +1,297 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.infrastructure.config.AutocompletarProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.IndiceAutocompletar.Entrada;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Índice de autocompletar com nome e e-mail de todos os clientes ativos
+ *
+ * É carregado percorrendo a coleção (só os campos indexados) e mantido pelos
+ * casos de uso de escrita deste pod e, quando o change stream está ligado,
+ * pelas escritas dos demais. Até a primeira carga terminar as sugestões vêm
+ * vazias. A reconstrução monta um índice novo que substitui o atual ao final;
+ * alterações feitas durante a leitura entram nos dois.
+ */
+public class ClienteAutocompletarIndice implements ClienteAutocompletarPort, SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(ClienteAutocompletarIndice.class);
+
+	private static final String COLECAO = "clientes";
+	static final String CAMPO_ID = "_id";
+	static final String CAMPO_CLIENTE_ID = "clienteId";
+	static final String CAMPO_NOME = "nomeCliente";
+	static final String CAMPO_EMAIL = "emailCliente";
+	static final String CAMPO_ATIVO = "ativo";
+
+	private final MongoTemplate mongoTemplate;
+	private final AutocompletarProperties properties;
+	private final boolean carregarNaInicializacao;
+
+	private final ReentrantLock reconstrucao = new ReentrantLock();
+	private final AtomicBoolean reconstrucaoPendente = new AtomicBoolean();
+	private final AtomicBoolean reconstrucaoAgendada = new AtomicBoolean();
+
+	private volatile IndiceAutocompletar atual = new IndiceAutocompletar();
+	private volatile IndiceAutocompletar emConstrucao;
+	private volatile LocalDateTime ultimaReconstrucao;
+	private volatile boolean running;
+
+	/**
+	 * @param carregarNaInicializacao carrega o índice ao subir a aplicação; com
+	 *                                o change stream ligado a carga acontece
+	 *                                quando o stream é aberto
+	 */
+	public ClienteAutocompletarIndice(MongoTemplate mongoTemplate, AutocompletarProperties properties,
+			MeterRegistry registry, boolean carregarNaInicializacao) {
+		this.mongoTemplate = mongoTemplate;
+		this.properties = properties;
+		this.carregarNaInicializacao = carregarNaInicializacao;
+
+		Gauge.builder("clientes.autocompletar.entradas", this, indice -> indice.atual.getQuantidadeEntradas())
+				.description("Clientes ativos no índice de autocompletar")
+				.register(registry);
+		Gauge.builder("clientes.autocompletar.nos", this, indice -> indice.atual.getQuantidadeNos())
+				.description("Nós da trie do índice de autocompletar")
+				.register(registry);
+	}
+
+	// Consultas
+
+	@Override
+	public List<Cliente> sugerir(String texto, int limite) {
+		return atual.buscar(texto, limite, properties.getErrosTolerados(), properties.getTamanhoMinimoErro())
+				.stream()
+				.map(ClienteAutocompletarIndice::toCliente)
+				.toList();
+	}
+
+	public boolean isPronto() {
+		return ultimaReconstrucao != null;
+	}
+
+	// Alterações
+
+	@Override
+	public void registrar(Cliente cliente) {
+		if (cliente == null) {
+			return;
+		}
+		if (Boolean.FALSE.equals(cliente.getAtivo())) {
+			remover(cliente.getClienteId());
+			return;
+		}
+		aplicar(indice -> indice.adicionar(cliente.getId(), cliente.getClienteId(), cliente.getNomeCliente(),
+				cliente.getEmailCliente()));
+	}
+
+	@Override
+	public void remover(String clienteId) {
+		if (clienteId != null) {
+			aplicar(indice -> indice.remover(clienteId));
+		}
+	}
+
+	@Override
+	public void recarregar(String clienteId) {
+		if (clienteId != null) {
+			recarregar(CAMPO_CLIENTE_ID, clienteId);
+		}
+	}
+
+	/**
+	 * Registra o documento completo recebido do change stream (insert/replace)
+	 */
+	public void registrar(Document documento) {
+		String id = id(documento.get(CAMPO_ID));
+		String clienteId = documento.getString(CAMPO_CLIENTE_ID);
+		if (Boolean.FALSE.equals(documento.getBoolean(CAMPO_ATIVO))) {
+			removerPorId(id);
+			return;
+		}
+		aplicar(indice -> indice.adicionar(id, clienteId, documento.getString(CAMPO_NOME),
+				documento.getString(CAMPO_EMAIL)));
+	}
+
+	/**
+	 * Aplica nome e/ou e-mail alterados a um cliente já indexado, sem ir ao banco
+	 */
+	public void atualizarPorId(String id, String nome, String email) {
+		aplicar(indice -> indice.atualizarPorId(id, nome, email));
+	}
+
+	public void removerPorId(String id) {
+		if (id != null) {
+			aplicar(indice -> indice.removerPorId(id));
+		}
+	}
+
+	/**
+	 * Relê do banco o cliente de _id informado (ex.: reativado por outro pod)
+	 */
+	public void recarregarPorId(Object id) {
+		recarregar(CAMPO_ID, id);
+	}
+
+	// Ciclo de vida
+
+	@Override
+	public void start() {
+		running = true;
+		if (carregarNaInicializacao) {
+			reconstruirEmSegundoPlano();
+		}
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Recarrega o índice com os clientes ativos da coleção
+	 */
+	public void reconstruir() {
+		reconstrucao.lock();
+		try {
+			IndiceAutocompletar novo = new IndiceAutocompletar();
+			emConstrucao = novo;
+			try {
+				carregar(novo);
+				atual = novo;
+			} finally {
+				emConstrucao = null;
+			}
+
+			ultimaReconstrucao = LocalDateTime.now();
+			log.info("Índice de autocompletar de clientes carregado: {} clientes, {} nós",
+					novo.getQuantidadeEntradas(), novo.getQuantidadeNos());
+		} finally {
+			reconstrucao.unlock();
+		}
+	}
+
+	/**
+	 * Agenda a reconstrução em uma thread própria; pedidos feitos durante uma
+	 * reconstrução em andamento geram uma nova rodada ao final dela
+	 */
+	@Override
+	public void reconstruirEmSegundoPlano() {
+		reconstrucaoPendente.set(true);
+		if (!reconstrucaoAgendada.compareAndSet(false, true)) {
+			return;
+		}
+
+		Thread thread = new Thread(() -> {
+			try {
+				while (reconstrucaoPendente.getAndSet(false)) {
+					reconstruir();
+				}
+			} catch (RuntimeException e) {
+				log.warn("Falha ao carregar o índice de autocompletar de clientes: {}", e.getMessage());
+			} finally {
+				reconstrucaoAgendada.set(false);
+				if (reconstrucaoPendente.get()) {
+					reconstruirEmSegundoPlano();
+				}
+			}
+		}, "clientes-autocompletar-rebuild");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	// Funções auxiliares
+
+	/**
+	 * Percorre os clientes ativos lendo apenas os campos indexados
+	 */
+	private void carregar(IndiceAutocompletar indice) {
+		Query query = new Query(Criteria.where(CAMPO_ATIVO).is(true)).cursorBatchSize(properties.getBatchSize());
+		query.fields().include(CAMPO_CLIENTE_ID, CAMPO_NOME, CAMPO_EMAIL);
+
+		try (Stream<Document> documentos = mongoTemplate.stream(query, Document.class, COLECAO)) {
+			Iterator<Document> iterator = documentos.iterator();
+			while (iterator.hasNext()) {
+				Document documento = iterator.next();
+				indice.adicionar(id(documento.get(CAMPO_ID)), documento.getString(CAMPO_CLIENTE_ID),
+						documento.getString(CAMPO_NOME), documento.getString(CAMPO_EMAIL));
+			}
+		}
+	}
+
+	private void recarregar(String campo, Object valor) {
+		Query query = new Query(Criteria.where(campo).is(valor));
+		query.fields().include(CAMPO_CLIENTE_ID, CAMPO_NOME, CAMPO_EMAIL, CAMPO_ATIVO);
+
+		try {
+			Document documento = mongoTemplate.findOne(query, Document.class, COLECAO);
+			if (documento != null) {
+				registrar(documento);
+			} else if (CAMPO_ID.equals(campo)) {
+				removerPorId(id(valor));
+			} else {
+				remover((String) valor);
+			}
+		} catch (RuntimeException e) {
+			// a escrita já foi confirmada; o cliente volta ao índice na próxima reconstrução
+			log.warn("Falha ao recarregar cliente no índice de autocompletar: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Aplica a alteração ao índice em construção e ao atual; emConstrucao é lido
+	 * antes de atual porque, na troca, atual é publicado antes de emConstrucao
+	 * ser limpo
+	 */
+	private void aplicar(Consumer<IndiceAutocompletar> alteracao) {
+		IndiceAutocompletar novo = emConstrucao;
+		IndiceAutocompletar indice = atual;
+		if (novo != null) {
+			alteracao.accept(novo);
+		}
+		if (indice != novo) {
+			alteracao.accept(indice);
+		}
+	}
+
+	private static String id(Object id) {
+		if (id instanceof ObjectId objectId) {
+			return objectId.toHexString();
+		}
+		return id == null ? null : id.toString();
+	}
+
+	private static Cliente toCliente(Entrada entrada) {
+		Cliente cliente = new Cliente();
+		cliente.setId(entrada.getId());
+		cliente.setClienteId(entrada.getClienteId());
+		cliente.setNomeCliente(entrada.getNome());
+		cliente.setEmailCliente(entrada.getEmail());
+		return cliente;
+	}
+}
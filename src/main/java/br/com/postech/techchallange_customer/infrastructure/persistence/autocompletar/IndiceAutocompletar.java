@@ -0,0 +1,497 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Trie com os termos normalizados (sem acentos, minúsculos) de nome e e-mail
+ * dos clientes ativos
+ *
+ * Cada palavra do nome e o e-mail completo são termos; o nó em que um termo
+ * termina guarda os clientes que o possuem. A busca desce pelo termo mais
+ * longo digitado (o mais seletivo) e confere os demais em cada candidato: um
+ * cliente é sugerido quando cada termo digitado é início de algum de seus
+ * termos, com até distanciaMaxima edições (inserção, remoção, troca ou
+ * transposição de letras vizinhas). Prefixos exatos são percorridos primeiro
+ * e em ordem alfabética, de modo que completamentos mais curtos aparecem
+ * antes; a leitura para em {@link #MAX_CANDIDATOS} clientes.
+ *
+ * Leituras concorrentes não se bloqueiam; alterações são exclusivas.
+ */
+public class IndiceAutocompletar {
+
+	/**
+	 * Clientes examinados por busca, limitando a latência de prefixos curtos
+	 * que casam com boa parte da base
+	 */
+	public static final int MAX_CANDIDATOS = 5_000;
+
+	private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+	private static final Pattern SEPARADORES_NOME = Pattern.compile("[\\s\\-]+");
+	private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final No raiz = new No();
+	private final Map<String, Entrada> porClienteId = new HashMap<>();
+	private final Map<String, Entrada> porId = new HashMap<>();
+	private int quantidadeNos = 1;
+
+	/**
+	 * Cliente indexado
+	 */
+	public static final class Entrada {
+		private final String id;
+		private final String clienteId;
+		private final String nome;
+		private final String email;
+		private final String[] termos;
+
+		Entrada(String id, String clienteId, String nome, String email) {
+			this.id = id;
+			this.clienteId = clienteId;
+			this.nome = nome;
+			this.email = email;
+			this.termos = termos(nome, email);
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public String getClienteId() {
+			return clienteId;
+		}
+
+		public String getNome() {
+			return nome;
+		}
+
+		public String getEmail() {
+			return email;
+		}
+	}
+
+	// Alterações
+
+	/**
+	 * Inclui o cliente, substituindo a entrada anterior de mesmo clienteId ou _id
+	 */
+	public void adicionar(String id, String clienteId, String nome, String email) {
+		if (clienteId == null) {
+			return;
+		}
+
+		Entrada entrada = new Entrada(id, clienteId, nome, email);
+		lock.writeLock().lock();
+		try {
+			retirar(porClienteId.get(clienteId));
+			if (id != null) {
+				retirar(porId.get(id));
+				porId.put(id, entrada);
+			}
+			porClienteId.put(clienteId, entrada);
+			for (String termo : entrada.termos) {
+				No no = raiz;
+				for (int i = 0; i < termo.length(); i++) {
+					no = no.filhoOuNovo(termo.charAt(i), this);
+				}
+				if (no.entradas == null) {
+					no.entradas = new LinkedHashSet<>(2);
+				}
+				no.entradas.add(entrada);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Altera nome e/ou e-mail (nulo mantém o atual) de um cliente já indexado,
+	 * identificado pelo _id; retorna false quando ele não está no índice
+	 */
+	public boolean atualizarPorId(String id, String nome, String email) {
+		Entrada atual;
+		lock.readLock().lock();
+		try {
+			atual = porId.get(id);
+		} finally {
+			lock.readLock().unlock();
+		}
+		if (atual == null) {
+			return false;
+		}
+		adicionar(id, atual.clienteId, nome != null ? nome : atual.nome, email != null ? email : atual.email);
+		return true;
+	}
+
+	public boolean remover(String clienteId) {
+		lock.writeLock().lock();
+		try {
+			return retirar(porClienteId.get(clienteId));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean removerPorId(String id) {
+		lock.writeLock().lock();
+		try {
+			return retirar(porId.get(id));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Consultas
+
+	/**
+	 * Até limite clientes cujos termos começam pelos termos do texto, do menor
+	 * para o maior número de edições; termos digitados com menos de
+	 * tamanhoMinimoErro caracteres só casam sem edições
+	 */
+	public List<Entrada> buscar(String texto, int limite, int distanciaMaxima, int tamanhoMinimoErro) {
+		String[] termos = termosBusca(texto);
+		if (termos.length == 0 || limite <= 0) {
+			return List.of();
+		}
+
+		int guia = 0;
+		for (int i = 1; i < termos.length; i++) {
+			if (termos[i].length() > termos[guia].length()) {
+				guia = i;
+			}
+		}
+		int[] tolerancias = new int[termos.length];
+		for (int i = 0; i < termos.length; i++) {
+			tolerancias[i] = termos[i].length() >= tamanhoMinimoErro ? distanciaMaxima : 0;
+		}
+
+		Coleta coleta = new Coleta(termos, tolerancias, guia, limite);
+		char[] termoGuia = termos[guia].toCharArray();
+		lock.readLock().lock();
+		try {
+			No prefixo = raiz;
+			for (int i = 0; prefixo != null && i < termoGuia.length; i++) {
+				prefixo = prefixo.filho(termoGuia[i]);
+			}
+			boolean continuar = prefixo == null || coletar(prefixo, 0, coleta);
+			if (continuar && tolerancias[guia] > 0) {
+				int[] linha = new int[termoGuia.length + 1];
+				for (int j = 0; j < linha.length; j++) {
+					linha[j] = j;
+				}
+				percorrerAproximado(raiz, termoGuia, null, linha, (char) 0, tolerancias[guia], coleta);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return coleta.resultado();
+	}
+
+	public int getQuantidadeEntradas() {
+		lock.readLock().lock();
+		try {
+			return porClienteId.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int getQuantidadeNos() {
+		lock.readLock().lock();
+		try {
+			return quantidadeNos;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Remove acentos, converte para minúsculas e apara os espaços
+	 */
+	public static String normalizar(String texto) {
+		if (texto == null) {
+			return "";
+		}
+		String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+		return semAcentos.toLowerCase(Locale.ROOT).trim();
+	}
+
+	// Funções auxiliares
+
+	private static String[] termos(String nome, String email) {
+		Set<String> termos = new LinkedHashSet<>();
+		for (String palavra : SEPARADORES_NOME.split(normalizar(nome))) {
+			if (!palavra.isEmpty()) {
+				termos.add(palavra);
+			}
+		}
+		String emailNormalizado = normalizar(email);
+		if (!emailNormalizado.isEmpty()) {
+			termos.add(emailNormalizado);
+		}
+		return termos.toArray(String[]::new);
+	}
+
+	private static String[] termosBusca(String texto) {
+		String normalizado = normalizar(texto);
+		return normalizado.isEmpty() ? new String[0] : ESPACOS.split(normalizado);
+	}
+
+	private boolean retirar(Entrada entrada) {
+		if (entrada == null) {
+			return false;
+		}
+		porClienteId.remove(entrada.clienteId, entrada);
+		if (entrada.id != null) {
+			porId.remove(entrada.id, entrada);
+		}
+		for (String termo : entrada.termos) {
+			retirar(raiz, termo, 0, entrada);
+		}
+		return true;
+	}
+
+	/**
+	 * Retira a entrada do nó final do termo e poda os nós que ficaram vazios;
+	 * retorna true quando o próprio nó ficou vazio
+	 */
+	private boolean retirar(No no, String termo, int posicao, Entrada entrada) {
+		if (posicao == termo.length()) {
+			if (no.entradas != null) {
+				no.entradas.remove(entrada);
+				if (no.entradas.isEmpty()) {
+					no.entradas = null;
+				}
+			}
+		} else {
+			char rotulo = termo.charAt(posicao);
+			No filho = no.filho(rotulo);
+			if (filho != null && retirar(filho, termo, posicao + 1, entrada)) {
+				no.removerFilho(rotulo);
+				quantidadeNos--;
+			}
+		}
+		return no.entradas == null && no.rotulos.length == 0;
+	}
+
+	/**
+	 * Percorre a subárvore em ordem alfabética entregando cada cliente à coleta;
+	 * retorna false quando a coleta foi encerrada
+	 */
+	private static boolean coletar(No no, int distancia, Coleta coleta) {
+		if (no.entradas != null) {
+			for (Entrada entrada : no.entradas) {
+				if (!coleta.aceitar(entrada, distancia)) {
+					return false;
+				}
+			}
+		}
+		for (No filho : no.filhos) {
+			if (!coletar(filho, distancia, coleta)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Desce pela trie calculando, a cada nó, a linha da distância de edição
+	 * (Damerau restrita) entre o termo digitado e o caminho até o nó; quando o
+	 * termo inteiro cabe na tolerância, a subárvore toda é coletada, e ramos
+	 * cuja menor distância já a excede são descartados
+	 */
+	private static boolean percorrerAproximado(No no, char[] termo, int[] linhaAnterior, int[] linha, char rotulo,
+			int tolerancia, Coleta coleta) {
+		for (int i = 0; i < no.rotulos.length; i++) {
+			char atual = no.rotulos[i];
+			int[] nova = new int[termo.length + 1];
+			nova[0] = linha[0] + 1;
+			int menor = nova[0];
+			for (int j = 1; j <= termo.length; j++) {
+				int custo = termo[j - 1] == atual ? 0 : 1;
+				nova[j] = Math.min(Math.min(linha[j] + 1, nova[j - 1] + 1), linha[j - 1] + custo);
+				if (linhaAnterior != null && j > 1 && termo[j - 1] == rotulo && termo[j - 2] == atual) {
+					nova[j] = Math.min(nova[j], linhaAnterior[j - 2] + 1);
+				}
+				menor = Math.min(menor, nova[j]);
+			}
+
+			No filho = no.filhos[i];
+			if (nova[termo.length] <= tolerancia) {
+				if (!coletar(filho, nova[termo.length], coleta)) {
+					return false;
+				}
+			} else if (menor <= tolerancia
+					&& !percorrerAproximado(filho, termo, linha, nova, atual, tolerancia, coleta)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Menor distância de edição entre o termo digitado e algum início de termo
+	 * do cliente, ou tolerancia + 1 quando nenhum cabe nela
+	 */
+	static int distanciaPrefixo(String termoCliente, String digitado, int tolerancia) {
+		int n = termoCliente.length();
+		int m = digitado.length();
+		int[] anterior = null;
+		int[] linha = new int[m + 1];
+		for (int j = 0; j <= m; j++) {
+			linha[j] = j;
+		}
+		int melhor = linha[m];
+		for (int i = 1; i <= n && melhor > 0; i++) {
+			int[] nova = new int[m + 1];
+			nova[0] = i;
+			int menor = nova[0];
+			char atual = termoCliente.charAt(i - 1);
+			for (int j = 1; j <= m; j++) {
+				int custo = digitado.charAt(j - 1) == atual ? 0 : 1;
+				nova[j] = Math.min(Math.min(linha[j] + 1, nova[j - 1] + 1), linha[j - 1] + custo);
+				if (anterior != null && j > 1 && digitado.charAt(j - 1) == termoCliente.charAt(i - 2)
+						&& digitado.charAt(j - 2) == atual) {
+					nova[j] = Math.min(nova[j], anterior[j - 2] + 1);
+				}
+				menor = Math.min(menor, nova[j]);
+			}
+			melhor = Math.min(melhor, nova[m]);
+			if (menor > tolerancia) {
+				break;
+			}
+			anterior = linha;
+			linha = nova;
+		}
+		return Math.min(melhor, tolerancia + 1);
+	}
+
+	/**
+	 * Candidatos vindos do termo guia, conferidos contra os demais termos
+	 * digitados; encerra ao reunir limite clientes sem edições ou ao examinar
+	 * MAX_CANDIDATOS
+	 */
+	private static final class Coleta {
+		private final String[] termos;
+		private final int[] tolerancias;
+		private final int guia;
+		private final int limite;
+		private final Set<Entrada> vistos = new HashSet<>();
+		private final List<Sugestao> sugestoes = new ArrayList<>();
+		private int exatas;
+
+		Coleta(String[] termos, int[] tolerancias, int guia, int limite) {
+			this.termos = termos;
+			this.tolerancias = tolerancias;
+			this.guia = guia;
+			this.limite = limite;
+		}
+
+		boolean aceitar(Entrada entrada, int distanciaGuia) {
+			if (!vistos.add(entrada)) {
+				return true;
+			}
+
+			int distancia = distanciaGuia;
+			for (int i = 0; i < termos.length && distancia >= 0; i++) {
+				if (i != guia) {
+					int menor = tolerancias[i] + 1;
+					for (String termo : entrada.termos) {
+						menor = Math.min(menor, distanciaPrefixo(termo, termos[i], tolerancias[i]));
+					}
+					distancia = menor > tolerancias[i] ? -1 : distancia + menor;
+				}
+			}
+			if (distancia >= 0) {
+				sugestoes.add(new Sugestao(entrada, distancia, sugestoes.size()));
+				if (distancia == 0) {
+					exatas++;
+				}
+			}
+			return exatas < limite && vistos.size() < MAX_CANDIDATOS;
+		}
+
+		List<Entrada> resultado() {
+			return sugestoes.stream()
+					.sorted(Comparator.comparingInt(Sugestao::distancia).thenComparingInt(Sugestao::ordem))
+					.limit(limite)
+					.map(Sugestao::entrada)
+					.toList();
+		}
+	}
+
+	private record Sugestao(Entrada entrada, int distancia, int ordem) {
+	}
+
+	/**
+	 * Nó da trie com os filhos em vetores ordenados pelo caractere
+	 */
+	private static final class No {
+		private static final char[] SEM_ROTULOS = new char[0];
+		private static final No[] SEM_FILHOS = new No[0];
+
+		private char[] rotulos = SEM_ROTULOS;
+		private No[] filhos = SEM_FILHOS;
+		private Set<Entrada> entradas;
+
+		No filho(char rotulo) {
+			int posicao = Arrays.binarySearch(rotulos, rotulo);
+			return posicao >= 0 ? filhos[posicao] : null;
+		}
+
+		No filhoOuNovo(char rotulo, IndiceAutocompletar indice) {
+			int posicao = Arrays.binarySearch(rotulos, rotulo);
+			if (posicao >= 0) {
+				return filhos[posicao];
+			}
+
+			int insercao = -posicao - 1;
+			char[] novosRotulos = new char[rotulos.length + 1];
+			No[] novosFilhos = new No[filhos.length + 1];
+			System.arraycopy(rotulos, 0, novosRotulos, 0, insercao);
+			System.arraycopy(filhos, 0, novosFilhos, 0, insercao);
+			System.arraycopy(rotulos, insercao, novosRotulos, insercao + 1, rotulos.length - insercao);
+			System.arraycopy(filhos, insercao, novosFilhos, insercao + 1, filhos.length - insercao);
+			No novo = new No();
+			novosRotulos[insercao] = rotulo;
+			novosFilhos[insercao] = novo;
+			rotulos = novosRotulos;
+			filhos = novosFilhos;
+			indice.quantidadeNos++;
+			return novo;
+		}
+
+		void removerFilho(char rotulo) {
+			int posicao = Arrays.binarySearch(rotulos, rotulo);
+			if (posicao < 0) {
+				return;
+			}
+			if (rotulos.length == 1) {
+				rotulos = SEM_ROTULOS;
+				filhos = SEM_FILHOS;
+				return;
+			}
+			char[] novosRotulos = new char[rotulos.length - 1];
+			No[] novosFilhos = new No[filhos.length - 1];
+			System.arraycopy(rotulos, 0, novosRotulos, 0, posicao);
+			System.arraycopy(filhos, 0, novosFilhos, 0, posicao);
+			System.arraycopy(rotulos, posicao + 1, novosRotulos, posicao, rotulos.length - posicao - 1);
+			System.arraycopy(filhos, posicao + 1, novosFilhos, posicao, filhos.length - posicao - 1);
+			rotulos = novosRotulos;
+			filhos = novosFilhos;
+		}
+	}
+}
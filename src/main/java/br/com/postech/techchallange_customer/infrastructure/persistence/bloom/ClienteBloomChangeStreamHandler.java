@@ -0,0 +1,63 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteExistenciaFiltro.Campo;
+import br.com.postech.techchallange_customer.infrastructure.persistence.changestream.ClienteChangeStreamHandler;
+
+/**
+ * Mantém o filtro de existência atualizado com clientes gravados por outros pods
+ */
+public class ClienteBloomChangeStreamHandler implements ClienteChangeStreamHandler {
+
+	private final ClienteExistenciaFiltro filtro;
+
+	public ClienteBloomChangeStreamHandler(ClienteExistenciaFiltro filtro) {
+		this.filtro = filtro;
+	}
+
+	@Override
+	public void aoReceber(ChangeStreamDocument<Document> evento) {
+		switch (evento.getOperationType()) {
+			case INSERT, REPLACE -> {
+				Document documento = evento.getFullDocument();
+				if (documento != null) {
+					filtro.registrar(documento.getString(Campo.CPF.getCampoDocumento()),
+							documento.getString(Campo.EMAIL.getCampoDocumento()));
+				}
+			}
+			case UPDATE -> {
+				if (evento.getUpdateDescription() != null) {
+					BsonDocument alterados = evento.getUpdateDescription().getUpdatedFields();
+					filtro.registrar(texto(alterados, Campo.CPF), texto(alterados, Campo.EMAIL));
+				}
+			}
+			default -> {
+				// Remoções não alteram o filtro
+			}
+		}
+	}
+
+	@Override
+	public void aoPerderEventos() {
+		filtro.reconstruirEmSegundoPlano();
+	}
+
+	@Override
+	public void aoEncerrar() {
+		// Sem change stream, inserções de outros pods nunca chegariam ao filtro
+		filtro.desativar();
+	}
+
+	private static String texto(BsonDocument documento, Campo campo) {
+		if (documento == null) {
+			return null;
+		}
+		BsonValue valor = documento.get(campo.getCampoDocumento());
+		return valor != null && valor.isString() ? valor.asString().getValue() : null;
+	}
+}
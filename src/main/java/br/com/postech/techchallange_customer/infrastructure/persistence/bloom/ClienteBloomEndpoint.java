@@ -0,0 +1,33 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Endpoint de administração do filtro de existência de clientes
+ * GET /actuator/clientesbloom: ocupação e taxas de falso positivo
+ * POST /actuator/clientesbloom: reconstrói o filtro a partir dos índices
+ */
+@Endpoint(id = "clientesbloom")
+public class ClienteBloomEndpoint {
+
+	private final ClienteExistenciaFiltro filtro;
+
+	public ClienteBloomEndpoint(ClienteExistenciaFiltro filtro) {
+		this.filtro = filtro;
+	}
+
+	@ReadOperation
+	public Map<String, Object> estatisticas() {
+		return filtro.getEstatisticas();
+	}
+
+	@WriteOperation
+	public Map<String, Object> reconstruir() {
+		filtro.reconstruir();
+		return filtro.getEstatisticas();
+	}
+}
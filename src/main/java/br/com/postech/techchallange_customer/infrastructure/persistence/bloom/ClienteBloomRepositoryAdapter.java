@@ -0,0 +1,248 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteExistenciaFiltro.Campo;
+
+/**
+ * Decorador de ClienteRepositoryPort que responde sem ir ao banco quando o
+ * filtro de Bloom garante que o CPF ou e-mail não está cadastrado
+ */
+public class ClienteBloomRepositoryAdapter implements ClienteRepositoryPort {
+
+	private final ClienteRepositoryPort delegate;
+	private final ClienteExistenciaFiltro filtro;
+
+	public ClienteBloomRepositoryAdapter(ClienteRepositoryPort delegate, ClienteExistenciaFiltro filtro) {
+		this.delegate = delegate;
+		this.filtro = filtro;
+	}
+
+	// Consultas por CPF e e-mail (negativos definitivos não vão ao banco)
+
+	@Override
+	public boolean existsByCpf(String cpf) {
+		if (!filtro.podeExistir(Campo.CPF, cpf)) {
+			return false;
+		}
+		return confirmar(Campo.CPF, delegate.existsByCpf(cpf));
+	}
+
+	@Override
+	public boolean existsByEmail(String email) {
+		if (!filtro.podeExistir(Campo.EMAIL, email)) {
+			return false;
+		}
+		return confirmar(Campo.EMAIL, delegate.existsByEmail(email));
+	}
+
+	@Override
+	public Optional<Cliente> findByCpf(String cpf) {
+		if (!filtro.podeExistir(Campo.CPF, cpf)) {
+			return Optional.empty();
+		}
+		Optional<Cliente> cliente = delegate.findByCpf(cpf);
+		confirmar(Campo.CPF, cliente.isPresent());
+		return cliente;
+	}
+
+	@Override
+	public Optional<Cliente> findByEmail(String email) {
+		if (!filtro.podeExistir(Campo.EMAIL, email)) {
+			return Optional.empty();
+		}
+		Optional<Cliente> cliente = delegate.findByEmail(email);
+		confirmar(Campo.EMAIL, cliente.isPresent());
+		return cliente;
+	}
+
+	@Override
+	public Optional<Cliente> findByCpf(String cpf, ProjecaoCliente projecao) {
+		if (!filtro.podeExistir(Campo.CPF, cpf)) {
+			return Optional.empty();
+		}
+		Optional<Cliente> cliente = delegate.findByCpf(cpf, projecao);
+		confirmar(Campo.CPF, cliente.isPresent());
+		return cliente;
+	}
+
+	@Override
+	public Optional<Cliente> findByEmail(String email, ProjecaoCliente projecao) {
+		if (!filtro.podeExistir(Campo.EMAIL, email)) {
+			return Optional.empty();
+		}
+		Optional<Cliente> cliente = delegate.findByEmail(email, projecao);
+		confirmar(Campo.EMAIL, cliente.isPresent());
+		return cliente;
+	}
+
+	// Escritas (registram as chaves após a gravação)
+
+	@Override
+	public Cliente save(Cliente cliente) {
+		Cliente salvo = delegate.save(cliente);
+		registrar(salvo);
+		return salvo;
+	}
+
+	@Override
+	public Cliente insert(Cliente cliente) {
+		Cliente inserido = delegate.insert(cliente);
+		registrar(inserido);
+		return inserido;
+	}
+
+	@Override
+	public List<ResultadoItemLote> insertAll(List<Cliente> clientes) {
+		List<ResultadoItemLote> resultados = delegate.insertAll(clientes);
+		for (ResultadoItemLote resultado : resultados) {
+			if (resultado.isCriado()) {
+				registrar(resultado.getCliente());
+			}
+		}
+		return resultados;
+	}
+
+	@Override
+	public Cliente update(Cliente cliente) {
+		Cliente atualizado = delegate.update(cliente);
+		registrar(atualizado);
+		return atualizado;
+	}
+
+	@Override
+	public Optional<Cliente> updateCampos(String clienteId, Integer versao, AlteracaoCliente alteracao,
+			LocalDateTime dataAtualizacao) {
+		Optional<Cliente> alterado = delegate.updateCampos(clienteId, versao, alteracao, dataAtualizacao);
+		alterado.ifPresent(this::registrar);
+		return alterado;
+	}
+
+	@Override
+	public void delete(Cliente cliente) {
+		// O filtro não suporta remoção; a chave vira falso positivo até a próxima reconstrução
+		delegate.delete(cliente);
+	}
+
+	@Override
+	public boolean deleteByClienteId(String clienteId) {
+		return delegate.deleteByClienteId(clienteId);
+	}
+
+	@Override
+	public boolean desativarByClienteId(String clienteId, LocalDateTime dataDesativacao) {
+		return delegate.desativarByClienteId(clienteId, dataDesativacao);
+	}
+
+	@Override
+	public boolean reativarByClienteId(String clienteId, LocalDateTime dataAtualizacao) {
+		return delegate.reativarByClienteId(clienteId, dataAtualizacao);
+	}
+
+	@Override
+	public ResultadoAlteracaoEmMassa updateByFiltro(FiltroCliente filtro, AlteracaoEmMassa alteracao,
+			LocalDateTime dataAtualizacao) {
+		// Alterações em massa não tocam CPF nem e-mail
+		return delegate.updateByFiltro(filtro, alteracao, dataAtualizacao);
+	}
+
+	// Demais consultas
+
+	@Override
+	public long countParaAlteracao(FiltroCliente filtro, AlteracaoEmMassa alteracao) {
+		return delegate.countParaAlteracao(filtro, alteracao);
+	}
+
+	@Override
+	public Optional<Cliente> findByClienteId(String clienteId) {
+		return delegate.findByClienteId(clienteId);
+	}
+
+	@Override
+	public Optional<Cliente> findByClienteId(String clienteId, ProjecaoCliente projecao) {
+		return delegate.findByClienteId(clienteId, projecao);
+	}
+
+	@Override
+	public Optional<Cliente> findById(String id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public Pagina<Cliente> findAll(ConsultaPaginada consulta) {
+		return delegate.findAll(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findAllAtivos(ConsultaPaginada consulta) {
+		return delegate.findAllAtivos(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findAllInativos(ConsultaPaginada consulta) {
+		return delegate.findAllInativos(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findByCidadeAndEstado(String cidade, String estado, ConsultaPaginada consulta) {
+		return delegate.findByCidadeAndEstado(cidade, estado, consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findByTag(String tag, ConsultaPaginada consulta) {
+		return delegate.findByTag(tag, consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findClientesAtivosPorCidade(String cidade, ConsultaPaginada consulta) {
+		return delegate.findClientesAtivosPorCidade(cidade, consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findClientesVipAtivos(ConsultaPaginada consulta) {
+		return delegate.findClientesVipAtivos(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> searchByNome(String texto, FiltroCliente filtro, ConsultaPaginada consulta) {
+		return delegate.searchByNome(texto, filtro, consulta);
+	}
+
+	@Override
+	public long streamByFiltro(FiltroCliente filtro, Consumer<Cliente> consumidor) {
+		return delegate.streamByFiltro(filtro, consumidor);
+	}
+
+	@Override
+	public long countAtivos() {
+		return delegate.countAtivos();
+	}
+
+	// Funções auxiliares
+
+	private boolean confirmar(Campo campo, boolean existe) {
+		if (!existe) {
+			filtro.registrarFalsoPositivo(campo);
+		}
+		return existe;
+	}
+
+	private void registrar(Cliente cliente) {
+		if (cliente != null) {
+			filtro.registrar(cliente.getCpfCliente(), cliente.getEmailCliente());
+		}
+	}
+}
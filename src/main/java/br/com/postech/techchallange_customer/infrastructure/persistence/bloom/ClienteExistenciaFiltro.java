@@ -0,0 +1,293 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import br.com.postech.techchallange_customer.infrastructure.config.BloomProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Filtros de Bloom com todos os CPFs e e-mails cadastrados
+ *
+ * Enquanto o filtro não foi carregado (ou após perda de eventos do change
+ * stream) toda chave é tratada como "talvez exista" e a consulta segue para o
+ * banco. A reconstrução lê apenas os índices únicos de CPF e e-mail, montando
+ * um filtro novo que substitui o atual ao final; chaves registradas durante a
+ * leitura entram nos dois.
+ */
+public class ClienteExistenciaFiltro {
+
+	private static final Logger log = LoggerFactory.getLogger(ClienteExistenciaFiltro.class);
+
+	private static final String COLECAO = "clientes";
+	private static final String METRICA_CONSULTAS = "clientes.bloom.consultas";
+
+	/**
+	 * Campos indexados cobertos pelo filtro
+	 */
+	public enum Campo {
+		CPF("cpfCliente", "cpf"),
+		EMAIL("emailCliente", "email");
+
+		private final String campoDocumento;
+		private final String tag;
+
+		Campo(String campoDocumento, String tag) {
+			this.campoDocumento = campoDocumento;
+			this.tag = tag;
+		}
+
+		public String getCampoDocumento() {
+			return campoDocumento;
+		}
+	}
+
+	private final MongoTemplate mongoTemplate;
+	private final BloomProperties properties;
+
+	private final Map<Campo, Counter> negativos = new EnumMap<>(Campo.class);
+	private final Map<Campo, Counter> positivos = new EnumMap<>(Campo.class);
+	private final Map<Campo, Counter> falsosPositivos = new EnumMap<>(Campo.class);
+
+	private final ReentrantLock reconstrucao = new ReentrantLock();
+	private final AtomicBoolean reconstrucaoPendente = new AtomicBoolean();
+	private final AtomicBoolean reconstrucaoAgendada = new AtomicBoolean();
+
+	private volatile Map<Campo, FiltroBloom> atual;
+	private volatile Map<Campo, FiltroBloom> emConstrucao;
+	private volatile LocalDateTime ultimaReconstrucao;
+	private volatile boolean desativado;
+
+	public ClienteExistenciaFiltro(MongoTemplate mongoTemplate, BloomProperties properties, MeterRegistry registry) {
+		this.mongoTemplate = mongoTemplate;
+		this.properties = properties;
+
+		for (Campo campo : Campo.values()) {
+			negativos.put(campo, contador(registry, campo, "negativo"));
+			positivos.put(campo, contador(registry, campo, "positivo"));
+			falsosPositivos.put(campo, contador(registry, campo, "falso_positivo"));
+
+			Gauge.builder("clientes.bloom.fpp.estimada", this, filtro -> filtro.getTaxaFalsoPositivoEstimada(campo))
+					.description("Taxa de falso positivo esperada para a ocupação atual do filtro")
+					.tag("campo", campo.tag)
+					.register(registry);
+			Gauge.builder("clientes.bloom.elementos", this, filtro -> filtro.getQuantidadeElementos(campo))
+					.description("Chaves distintas (aproximadas) no filtro")
+					.tag("campo", campo.tag)
+					.register(registry);
+		}
+	}
+
+	// Consultas
+
+	/**
+	 * Retorna false apenas quando a chave com certeza não existe na coleção
+	 */
+	public boolean podeExistir(Campo campo, String chave) {
+		Map<Campo, FiltroBloom> filtros = atual;
+		if (filtros == null || chave == null) {
+			return true;
+		}
+
+		boolean podeConter = filtros.get(campo).podeConter(chave);
+		(podeConter ? positivos : negativos).get(campo).increment();
+		return podeConter;
+	}
+
+	/**
+	 * Registra que um positivo do filtro não foi confirmado pelo banco
+	 */
+	public void registrarFalsoPositivo(Campo campo) {
+		if (atual != null) {
+			falsosPositivos.get(campo).increment();
+		}
+	}
+
+	/**
+	 * Adiciona as chaves de um cliente gravado; deve ser chamado após a escrita
+	 * ser confirmada para não se perder em uma reconstrução concorrente
+	 */
+	public void registrar(String cpf, String email) {
+		// emConstrucao é lido antes de atual: na troca, atual é publicado antes de emConstrucao ser limpo
+		Map<Campo, FiltroBloom> novos = emConstrucao;
+		Map<Campo, FiltroBloom> filtros = atual;
+		adicionar(novos, cpf, email);
+		if (filtros != novos) {
+			adicionar(filtros, cpf, email);
+		}
+	}
+
+	public boolean isPronto() {
+		return atual != null;
+	}
+
+	// Ciclo de vida
+
+	/**
+	 * Reconstrói o filtro a partir dos índices de CPF e e-mail
+	 */
+	public void reconstruir() {
+		reconstrucao.lock();
+		try {
+			if (desativado) {
+				log.warn("Filtro de existência de clientes desativado; reconstrução ignorada");
+				return;
+			}
+
+			long total = mongoTemplate.estimatedCount(COLECAO);
+			long capacidade = Math.max(properties.getExpectedInsertions(), total * 2);
+
+			Map<Campo, FiltroBloom> novos = new EnumMap<>(Campo.class);
+			for (Campo campo : Campo.values()) {
+				novos.put(campo, new FiltroBloom(capacidade, properties.getFalsePositiveRate()));
+			}
+
+			emConstrucao = novos;
+			try {
+				for (Campo campo : Campo.values()) {
+					carregarIndice(campo, novos.get(campo));
+				}
+				atual = novos;
+			} finally {
+				emConstrucao = null;
+			}
+
+			ultimaReconstrucao = LocalDateTime.now();
+			log.info("Filtro de existência de clientes reconstruído: {} CPFs, {} e-mails, capacidade {}",
+					novos.get(Campo.CPF).getQuantidadeElementos(), novos.get(Campo.EMAIL).getQuantidadeElementos(),
+					capacidade);
+		} finally {
+			reconstrucao.unlock();
+		}
+	}
+
+	/**
+	 * Agenda a reconstrução em uma thread própria; pedidos feitos durante uma
+	 * reconstrução em andamento geram uma nova rodada ao final dela
+	 */
+	public void reconstruirEmSegundoPlano() {
+		reconstrucaoPendente.set(true);
+		if (!reconstrucaoAgendada.compareAndSet(false, true)) {
+			return;
+		}
+
+		Thread thread = new Thread(() -> {
+			try {
+				while (reconstrucaoPendente.getAndSet(false)) {
+					reconstruir();
+				}
+			} catch (RuntimeException e) {
+				log.warn("Falha ao reconstruir o filtro de existência de clientes: {}", e.getMessage());
+			} finally {
+				reconstrucaoAgendada.set(false);
+				if (reconstrucaoPendente.get()) {
+					reconstruirEmSegundoPlano();
+				}
+			}
+		}, "clientes-bloom-rebuild");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Descarta o filtro em definitivo: todas as consultas voltam a ir ao banco
+	 */
+	public void desativar() {
+		desativado = true;
+		atual = null;
+	}
+
+	// Estatísticas
+
+	public double getTaxaFalsoPositivoEstimada(Campo campo) {
+		Map<Campo, FiltroBloom> filtros = atual;
+		return filtros == null ? 0 : filtros.get(campo).getTaxaFalsoPositivoEstimada();
+	}
+
+	public long getQuantidadeElementos(Campo campo) {
+		Map<Campo, FiltroBloom> filtros = atual;
+		return filtros == null ? 0 : filtros.get(campo).getQuantidadeElementos();
+	}
+
+	/**
+	 * Resumo para o endpoint de administração
+	 */
+	public Map<String, Object> getEstatisticas() {
+		Map<Campo, FiltroBloom> filtros = atual;
+		Map<String, Object> estatisticas = new LinkedHashMap<>();
+		estatisticas.put("pronto", filtros != null);
+		estatisticas.put("ultimaReconstrucao", ultimaReconstrucao);
+
+		for (Campo campo : Campo.values()) {
+			Map<String, Object> porCampo = new LinkedHashMap<>();
+			double negativosConsultados = negativos.get(campo).count();
+			double falsos = falsosPositivos.get(campo).count();
+
+			if (filtros != null) {
+				FiltroBloom filtro = filtros.get(campo);
+				porCampo.put("elementos", filtro.getQuantidadeElementos());
+				porCampo.put("bits", filtro.getQuantidadeBits());
+				porCampo.put("hashes", filtro.getQuantidadeHashes());
+				porCampo.put("taxaFalsoPositivoEstimada", filtro.getTaxaFalsoPositivoEstimada());
+			}
+			porCampo.put("negativos", (long) negativosConsultados);
+			porCampo.put("positivos", (long) positivos.get(campo).count());
+			porCampo.put("falsosPositivos", (long) falsos);
+			porCampo.put("taxaFalsoPositivoObservada",
+					negativosConsultados + falsos == 0 ? 0 : falsos / (negativosConsultados + falsos));
+			estatisticas.put(campo.tag, porCampo);
+		}
+		return estatisticas;
+	}
+
+	// Funções auxiliares
+
+	/**
+	 * Percorre o índice único do campo com projeção coberta (sem ler os documentos)
+	 */
+	private void carregarIndice(Campo campo, FiltroBloom filtro) {
+		Query query = new Query()
+				.withHint(new Document(campo.campoDocumento, 1))
+				.cursorBatchSize(properties.getBatchSize());
+		query.fields().include(campo.campoDocumento).exclude("_id");
+
+		try (Stream<Document> documentos = mongoTemplate.stream(query, Document.class, COLECAO)) {
+			Iterator<Document> iterator = documentos.iterator();
+			while (iterator.hasNext()) {
+				Object valor = iterator.next().get(campo.campoDocumento);
+				if (valor instanceof String chave) {
+					filtro.adicionar(chave);
+				}
+			}
+		}
+	}
+
+	private static void adicionar(Map<Campo, FiltroBloom> filtros, String cpf, String email) {
+		if (filtros != null) {
+			filtros.get(Campo.CPF).adicionar(cpf);
+			filtros.get(Campo.EMAIL).adicionar(email);
+		}
+	}
+
+	private static Counter contador(MeterRegistry registry, Campo campo, String resultado) {
+		return Counter.builder(METRICA_CONSULTAS)
+				.description("Consultas de existência respondidas pelo filtro de Bloom")
+				.tag("campo", campo.tag)
+				.tag("resultado", resultado)
+				.register(registry);
+	}
+}
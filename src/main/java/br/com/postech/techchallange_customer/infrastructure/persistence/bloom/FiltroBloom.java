@@ -0,0 +1,141 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para chaves texto, seguro para uso concorrente
+ *
+ * Responde "com certeza não contém" ou "talvez contenha". Não suporta remoção:
+ * chaves de clientes apagados continuam como positivos até a próxima
+ * reconstrução.
+ */
+public class FiltroBloom {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final AtomicLongArray bits;
+	private final long quantidadeBits;
+	private final int quantidadeHashes;
+	private final AtomicLong quantidadeElementos = new AtomicLong();
+
+	/**
+	 * Dimensiona o filtro para a quantidade esperada de elementos e a taxa de
+	 * falso positivo desejada (m = -n ln p / ln²2, k = m/n ln 2)
+	 */
+	public FiltroBloom(long elementosEsperados, double taxaFalsoPositivo) {
+		if (elementosEsperados <= 0) {
+			throw new IllegalArgumentException("elementosEsperados deve ser positivo");
+		}
+		if (taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+			throw new IllegalArgumentException("taxaFalsoPositivo deve estar entre 0 e 1");
+		}
+
+		long m = (long) Math.ceil(-elementosEsperados * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+		int palavras = (int) Math.min(Integer.MAX_VALUE - 8L, (m + 63) / 64);
+		this.bits = new AtomicLongArray(palavras);
+		this.quantidadeBits = palavras * 64L;
+		this.quantidadeHashes = Math.max(1, (int) Math.round((double) quantidadeBits / elementosEsperados * Math.log(2)));
+	}
+
+	/**
+	 * Adiciona a chave ao filtro; chaves nulas são ignoradas
+	 */
+	public void adicionar(String chave) {
+		if (chave == null) {
+			return;
+		}
+
+		long hash = hash(chave);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		boolean alterou = false;
+
+		for (int i = 1; i <= quantidadeHashes; i++) {
+			long indice = indice(h1 + (long) i * h2);
+			int palavra = (int) (indice >>> 6);
+			long mascara = 1L << indice;
+			long atual = bits.get(palavra);
+			while ((atual & mascara) == 0) {
+				if (bits.compareAndSet(palavra, atual, atual | mascara)) {
+					alterou = true;
+					break;
+				}
+				atual = bits.get(palavra);
+			}
+		}
+
+		if (alterou) {
+			quantidadeElementos.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Retorna false apenas quando a chave com certeza nunca foi adicionada
+	 */
+	public boolean podeConter(String chave) {
+		if (chave == null) {
+			return false;
+		}
+
+		long hash = hash(chave);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+
+		for (int i = 1; i <= quantidadeHashes; i++) {
+			long indice = indice(h1 + (long) i * h2);
+			if ((bits.get((int) (indice >>> 6)) & (1L << indice)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Taxa de falso positivo esperada para a ocupação atual: (1 - e^(-kn/m))^k
+	 */
+	public double getTaxaFalsoPositivoEstimada() {
+		double expoente = -(double) quantidadeHashes * quantidadeElementos.get() / quantidadeBits;
+		return Math.pow(1 - Math.exp(expoente), quantidadeHashes);
+	}
+
+	/**
+	 * Quantidade aproximada de chaves distintas adicionadas
+	 */
+	public long getQuantidadeElementos() {
+		return quantidadeElementos.get();
+	}
+
+	public long getQuantidadeBits() {
+		return quantidadeBits;
+	}
+
+	public int getQuantidadeHashes() {
+		return quantidadeHashes;
+	}
+
+	private long indice(long combinado) {
+		return (combinado & Long.MAX_VALUE) % quantidadeBits;
+	}
+
+	/**
+	 * FNV-1a 64 bits sobre os bytes UTF-8, seguido do finalizador do MurmurHash3
+	 * para espalhar os bits entre as duas metades usadas no double hashing
+	 */
+	private static long hash(String chave) {
+		long hash = FNV_OFFSET;
+		for (byte b : chave.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= FNV_PRIME;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
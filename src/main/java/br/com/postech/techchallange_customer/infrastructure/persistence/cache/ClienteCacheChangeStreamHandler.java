@@ -0,0 +1,59 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.cache;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.changestream.ClienteChangeStreamHandler;
+
+/**
+ * Invalida o cache local quando outro pod altera ou remove um cliente
+ */
+public class ClienteCacheChangeStreamHandler implements ClienteChangeStreamHandler {
+
+	private final ClienteCacheRepositoryAdapter cache;
+
+	public ClienteCacheChangeStreamHandler(ClienteCacheRepositoryAdapter cache) {
+		this.cache = cache;
+	}
+
+	@Override
+	public void aoReceber(ChangeStreamDocument<Document> evento) {
+		// Inserções não tornam entradas obsoletas: resultados vazios não são armazenados
+		if (evento.getOperationType() != OperationType.INSERT) {
+			cache.invalidarPorId(toId(evento.getDocumentKey()));
+		}
+	}
+
+	@Override
+	public void aoPerderEventos() {
+		cache.invalidarTudo();
+	}
+
+	@Override
+	public void aoInterromper() {
+		// Enquanto o stream está fora, escritas de outros pods não chegam
+		cache.invalidarTudo();
+	}
+
+	@Override
+	public void aoEncerrar() {
+		// Sem change stream, escritas de outros pods nunca invalidariam o cache
+		cache.desativar();
+	}
+
+	private static String toId(BsonDocument documentKey) {
+		if (documentKey == null || !documentKey.containsKey("_id")) {
+			return null;
+		}
+
+		BsonValue id = documentKey.get("_id");
+		if (id.isObjectId()) {
+			return id.asObjectId().getValue().toHexString();
+		}
+		return id.isString() ? id.asString().getValue() : id.toString();
+	}
+}
@@ -0,0 +1,481 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.config.CacheProperties;
+
+/**
+ * Decorador de ClienteRepositoryPort com cache local (read-through) para as
+ * consultas pontuais por clienteId, CPF, e-mail e _id
+ *
+ * O cache principal é indexado por clienteId; CPF, e-mail e _id são índices
+ * secundários que apontam para o clienteId e são mantidos em sincronia pelo
+ * listener de remoção do cache principal. Listagens e contagens não passam
+ * pelo cache.
+ */
+public class ClienteCacheRepositoryAdapter implements ClienteRepositoryPort {
+
+	private final ClienteRepositoryPort delegate;
+	private final StatsCounter stats = new ConcurrentStatsCounter();
+	private final Cache<String, Cliente> porClienteId;
+	private final Map<String, String> porCpf = new ConcurrentHashMap<>();
+	private final Map<String, String> porEmail = new ConcurrentHashMap<>();
+	private final Map<String, String> porId = new ConcurrentHashMap<>();
+
+	/**
+	 * Incrementada a cada invalidação; uma leitura só é armazenada se nenhuma
+	 * invalidação ocorreu enquanto ela ia ao banco
+	 */
+	private final AtomicLong geracao = new AtomicLong();
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Sem change stream, escritas de outros pods não invalidariam as entradas;
+	 * desativado, o cache não armazena mais nada e todas as leituras vão ao banco
+	 */
+	private volatile boolean desativado;
+
+	public ClienteCacheRepositoryAdapter(ClienteRepositoryPort delegate, CacheProperties properties) {
+		this.delegate = delegate;
+		this.porClienteId = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfterWrite(properties.getTtl())
+				.recordStats(() -> stats)
+				.executor(Runnable::run)
+				.removalListener(this::removerIndices)
+				.build();
+	}
+
+	/**
+	 * Cache principal, exposto para publicação de métricas
+	 */
+	public Cache<String, Cliente> getCache() {
+		return porClienteId;
+	}
+
+	// Consultas pontuais (read-through)
+
+	@Override
+	public Optional<Cliente> findByClienteId(String clienteId) {
+		if (clienteId == null) {
+			return delegate.findByClienteId(null);
+		}
+
+		Cliente cliente = porClienteId.getIfPresent(clienteId);
+		if (cliente != null) {
+			return Optional.of(copiar(cliente));
+		}
+		return carregar(() -> delegate.findByClienteId(clienteId));
+	}
+
+	@Override
+	public Optional<Cliente> findByCpf(String cpf) {
+		Cliente cliente = buscarPorIndice(porCpf, cpf);
+		if (cliente != null && cpf.equals(cliente.getCpfCliente())) {
+			return Optional.of(copiar(cliente));
+		}
+		return carregar(() -> delegate.findByCpf(cpf));
+	}
+
+	@Override
+	public Optional<Cliente> findByEmail(String email) {
+		Cliente cliente = buscarPorIndice(porEmail, email);
+		if (cliente != null && email.equals(cliente.getEmailCliente())) {
+			return Optional.of(copiar(cliente));
+		}
+		return carregar(() -> delegate.findByEmail(email));
+	}
+
+	@Override
+	public Optional<Cliente> findById(String id) {
+		Cliente cliente = buscarPorIndice(porId, id);
+		if (cliente != null) {
+			return Optional.of(copiar(cliente));
+		}
+		return carregar(() -> delegate.findById(id));
+	}
+
+	// Consultas pontuais com projeção: um acerto devolve o cliente completo (a
+	// projeção é aplicada na resposta); uma falta lê só os campos pedidos e, por
+	// ser parcial, o resultado não é armazenado
+
+	@Override
+	public Optional<Cliente> findByClienteId(String clienteId, ProjecaoCliente projecao) {
+		if (projecao.isCompleta()) {
+			return findByClienteId(clienteId);
+		}
+
+		Cliente cliente = clienteId == null ? null : porClienteId.getIfPresent(clienteId);
+		if (cliente != null) {
+			return Optional.of(copiar(cliente));
+		}
+		return delegate.findByClienteId(clienteId, projecao);
+	}
+
+	@Override
+	public Optional<Cliente> findByCpf(String cpf, ProjecaoCliente projecao) {
+		if (projecao.isCompleta()) {
+			return findByCpf(cpf);
+		}
+
+		Cliente cliente = buscarPorIndice(porCpf, cpf);
+		if (cliente != null && cpf.equals(cliente.getCpfCliente())) {
+			return Optional.of(copiar(cliente));
+		}
+		return delegate.findByCpf(cpf, projecao);
+	}
+
+	@Override
+	public Optional<Cliente> findByEmail(String email, ProjecaoCliente projecao) {
+		if (projecao.isCompleta()) {
+			return findByEmail(email);
+		}
+
+		Cliente cliente = buscarPorIndice(porEmail, email);
+		if (cliente != null && email.equals(cliente.getEmailCliente())) {
+			return Optional.of(copiar(cliente));
+		}
+		return delegate.findByEmail(email, projecao);
+	}
+
+	// Escritas (invalidam após a gravação)
+
+	@Override
+	public Cliente save(Cliente cliente) {
+		Cliente salvo = delegate.save(cliente);
+		invalidar(salvo);
+		return salvo;
+	}
+
+	@Override
+	public Cliente insert(Cliente cliente) {
+		// Resultados vazios não são armazenados: um cliente novo não tem entrada a invalidar
+		return delegate.insert(cliente);
+	}
+
+	@Override
+	public List<ResultadoItemLote> insertAll(List<Cliente> clientes) {
+		return delegate.insertAll(clientes);
+	}
+
+	@Override
+	public Cliente update(Cliente cliente) {
+		Cliente atualizado = delegate.update(cliente);
+		invalidar(cliente);
+		invalidar(atualizado);
+		return atualizado;
+	}
+
+	@Override
+	public Optional<Cliente> updateCampos(String clienteId, Integer versao, AlteracaoCliente alteracao,
+			LocalDateTime dataAtualizacao) {
+		// invalida também quando a versão não confere: a entrada em cache pode ser a desatualizada
+		Optional<Cliente> alterado = delegate.updateCampos(clienteId, versao, alteracao, dataAtualizacao);
+		invalidarPorClienteId(clienteId);
+		return alterado;
+	}
+
+	@Override
+	public void delete(Cliente cliente) {
+		delegate.delete(cliente);
+		invalidar(cliente);
+	}
+
+	@Override
+	public boolean deleteByClienteId(String clienteId) {
+		boolean removido = delegate.deleteByClienteId(clienteId);
+		invalidarPorClienteId(clienteId);
+		return removido;
+	}
+
+	@Override
+	public boolean desativarByClienteId(String clienteId, LocalDateTime dataDesativacao) {
+		boolean alterado = delegate.desativarByClienteId(clienteId, dataDesativacao);
+		invalidarPorClienteId(clienteId);
+		return alterado;
+	}
+
+	@Override
+	public boolean reativarByClienteId(String clienteId, LocalDateTime dataAtualizacao) {
+		boolean alterado = delegate.reativarByClienteId(clienteId, dataAtualizacao);
+		invalidarPorClienteId(clienteId);
+		return alterado;
+	}
+
+	@Override
+	public ResultadoAlteracaoEmMassa updateByFiltro(FiltroCliente filtro, AlteracaoEmMassa alteracao,
+			LocalDateTime dataAtualizacao) {
+		ResultadoAlteracaoEmMassa resultado = delegate.updateByFiltro(filtro, alteracao, dataAtualizacao);
+		// Os clientes alterados não são conhecidos individualmente
+		if (resultado.getAlterados() > 0) {
+			invalidarTudo();
+		}
+		return resultado;
+	}
+
+	// Consultas sem cache
+
+	@Override
+	public long countParaAlteracao(FiltroCliente filtro, AlteracaoEmMassa alteracao) {
+		return delegate.countParaAlteracao(filtro, alteracao);
+	}
+
+	@Override
+	public Pagina<Cliente> findAll(ConsultaPaginada consulta) {
+		return delegate.findAll(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findAllAtivos(ConsultaPaginada consulta) {
+		return delegate.findAllAtivos(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findAllInativos(ConsultaPaginada consulta) {
+		return delegate.findAllInativos(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findByCidadeAndEstado(String cidade, String estado, ConsultaPaginada consulta) {
+		return delegate.findByCidadeAndEstado(cidade, estado, consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findByTag(String tag, ConsultaPaginada consulta) {
+		return delegate.findByTag(tag, consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findClientesAtivosPorCidade(String cidade, ConsultaPaginada consulta) {
+		return delegate.findClientesAtivosPorCidade(cidade, consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> findClientesVipAtivos(ConsultaPaginada consulta) {
+		return delegate.findClientesVipAtivos(consulta);
+	}
+
+	@Override
+	public Pagina<Cliente> searchByNome(String texto, FiltroCliente filtro, ConsultaPaginada consulta) {
+		return delegate.searchByNome(texto, filtro, consulta);
+	}
+
+	@Override
+	public long streamByFiltro(FiltroCliente filtro, Consumer<Cliente> consumidor) {
+		return delegate.streamByFiltro(filtro, consumidor);
+	}
+
+	@Override
+	public long countAtivos() {
+		return delegate.countAtivos();
+	}
+
+	@Override
+	public boolean existsByCpf(String cpf) {
+		return delegate.existsByCpf(cpf);
+	}
+
+	@Override
+	public boolean existsByEmail(String email) {
+		return delegate.existsByEmail(email);
+	}
+
+	// Invalidação
+
+	/**
+	 * Remove o cliente do cache, usado pelas escritas locais
+	 */
+	public void invalidarPorClienteId(String clienteId) {
+		if (clienteId == null) {
+			return;
+		}
+
+		lock.lock();
+		try {
+			geracao.incrementAndGet();
+			porClienteId.invalidate(clienteId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove o cliente do cache a partir do _id do documento, usado pelos
+	 * eventos do change stream (que trazem apenas o documentKey)
+	 */
+	public void invalidarPorId(String id) {
+		lock.lock();
+		try {
+			geracao.incrementAndGet();
+			String clienteId = id != null ? porId.get(id) : null;
+			if (clienteId != null) {
+				porClienteId.invalidate(clienteId);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Esvazia o cache, usado quando eventos do change stream podem ter sido
+	 * perdidos e após alterações em massa
+	 */
+	public void invalidarTudo() {
+		lock.lock();
+		try {
+			geracao.incrementAndGet();
+			porClienteId.invalidateAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Esvazia o cache e deixa de armazenar leituras, em definitivo
+	 */
+	public void desativar() {
+		lock.lock();
+		try {
+			desativado = true;
+			geracao.incrementAndGet();
+			porClienteId.invalidateAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void invalidar(Cliente cliente) {
+		if (cliente != null) {
+			invalidarPorClienteId(cliente.getClienteId());
+		}
+	}
+
+	// Funções auxiliares
+
+	private Cliente buscarPorIndice(Map<String, String> indice, String chave) {
+		String clienteId = chave != null ? indice.get(chave) : null;
+		if (clienteId == null) {
+			stats.recordMisses(1);
+			return null;
+		}
+		return porClienteId.getIfPresent(clienteId);
+	}
+
+	private Optional<Cliente> carregar(Supplier<Optional<Cliente>> consulta) {
+		long geracaoInicial = geracao.get();
+		Optional<Cliente> resultado = consulta.get();
+		resultado.ifPresent(cliente -> armazenar(cliente, geracaoInicial));
+		return resultado;
+	}
+
+	private void armazenar(Cliente cliente, long geracaoInicial) {
+		if (cliente.getClienteId() == null) {
+			return;
+		}
+
+		lock.lock();
+		try {
+			if (desativado || geracao.get() != geracaoInicial) {
+				return;
+			}
+
+			Cliente copia = copiar(cliente);
+			porClienteId.put(copia.getClienteId(), copia);
+			indexar(porCpf, copia.getCpfCliente(), copia.getClienteId());
+			indexar(porEmail, copia.getEmailCliente(), copia.getClienteId());
+			indexar(porId, copia.getId(), copia.getClienteId());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static void indexar(Map<String, String> indice, String chave, String clienteId) {
+		if (chave != null) {
+			indice.put(chave, clienteId);
+		}
+	}
+
+	private void removerIndices(String clienteId, Cliente cliente, RemovalCause causa) {
+		if (clienteId == null || cliente == null || causa == RemovalCause.REPLACED) {
+			return;
+		}
+		if (cliente.getCpfCliente() != null) {
+			porCpf.remove(cliente.getCpfCliente(), clienteId);
+		}
+		if (cliente.getEmailCliente() != null) {
+			porEmail.remove(cliente.getEmailCliente(), clienteId);
+		}
+		if (cliente.getId() != null) {
+			porId.remove(cliente.getId(), clienteId);
+		}
+	}
+
+	/**
+	 * Cópia profunda: os serviços alteram o cliente retornado antes de gravá-lo,
+	 * então a instância guardada no cache nunca é entregue diretamente
+	 */
+	private static Cliente copiar(Cliente origem) {
+		Cliente cliente = new Cliente();
+		cliente.setId(origem.getId());
+		cliente.setClienteId(origem.getClienteId());
+		cliente.setNomeCliente(origem.getNomeCliente());
+		cliente.setEmailCliente(origem.getEmailCliente());
+		cliente.setCpfCliente(origem.getCpfCliente());
+		cliente.setTelefone(origem.getTelefone());
+		cliente.setAtivo(origem.getAtivo());
+		cliente.setDataCadastro(origem.getDataCadastro());
+		cliente.setDataUltimaAtualizacao(origem.getDataUltimaAtualizacao());
+		cliente.setVersao(origem.getVersao());
+
+		if (origem.getEndereco() != null) {
+			Endereco endereco = origem.getEndereco();
+			Endereco copia = new Endereco(endereco.getRua(), endereco.getNumero(), endereco.getCidade(),
+					endereco.getEstado(), endereco.getCep());
+			copia.setComplemento(endereco.getComplemento());
+			copia.setBairro(endereco.getBairro());
+			cliente.setEndereco(copia);
+		} else {
+			cliente.setEndereco(null);
+		}
+
+		if (origem.getMetadata() != null) {
+			Metadata metadata = origem.getMetadata();
+			Metadata copia = new Metadata(metadata.getOrigem(), metadata.getCanal());
+			copia.setTags(metadata.getTags() != null ? new ArrayList<>(metadata.getTags()) : null);
+			copia.setNotas(metadata.getNotas());
+			copia.setDataDesativacao(metadata.getDataDesativacao());
+			cliente.setMetadata(copia);
+		} else {
+			cliente.setMetadata(null);
+		}
+
+		return cliente;
+	}
+}
@@ -0,0 +1,34 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.changestream;
+
+import org.bson.Document;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+/**
+ * Consumidor dos eventos do change stream da coleção de clientes
+ */
+public interface ClienteChangeStreamHandler {
+
+	/**
+	 * Evento de insert, update, replace ou delete
+	 */
+	void aoReceber(ChangeStreamDocument<Document> evento);
+
+	/**
+	 * O stream foi aberto sem ponto de retomada: escritas anteriores podem não
+	 * ter sido recebidas
+	 */
+	void aoPerderEventos();
+
+	/**
+	 * O stream falhou e será retomado após o backoff
+	 */
+	default void aoInterromper() {
+	}
+
+	/**
+	 * Change streams não são suportados pelo MongoDB; nenhum evento será recebido
+	 */
+	default void aoEncerrar() {
+	}
+}
@@ -0,0 +1,182 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.changestream;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+/**
+ * Escuta o change stream da coleção de clientes e repassa os eventos aos
+ * handlers (cache local, filtro de existência), mantendo o estado em memória
+ * de cada pod coerente com escritas feitas por outros pods
+ *
+ * Falhas de conexão não derrubam a aplicação: o listener registra o erro e
+ * retoma o stream a partir do último resume token, com backoff. Em instâncias
+ * standalone, sem suporte a change streams, o listener é encerrado.
+ */
+public class ClienteChangeStreamListener implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(ClienteChangeStreamListener.class);
+
+	private static final String COLECAO = "clientes";
+	private static final long BACKOFF_INICIAL_MS = 1_000;
+	private static final long BACKOFF_MAXIMO_MS = 60_000;
+
+	// Códigos de erro do servidor
+	private static final int CHANGE_STREAM_NAO_SUPORTADO = 40573;
+	private static final int CHANGE_STREAM_HISTORICO_PERDIDO = 286;
+	private static final int CHANGE_STREAM_FATAL = 280;
+
+	private final MongoTemplate mongoTemplate;
+	private final List<ClienteChangeStreamHandler> handlers;
+
+	private volatile boolean running;
+	private volatile Thread thread;
+	private BsonDocument resumeToken;
+
+	public ClienteChangeStreamListener(MongoTemplate mongoTemplate, List<ClienteChangeStreamHandler> handlers) {
+		this.mongoTemplate = mongoTemplate;
+		this.handlers = List.copyOf(handlers);
+	}
+
+	@Override
+	public void start() {
+		if (handlers.isEmpty()) {
+			return;
+		}
+
+		running = true;
+		thread = new Thread(this::escutar, "clientes-change-stream");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		Thread atual = thread;
+		if (atual != null) {
+			atual.interrupt();
+			try {
+				atual.join(TimeUnit.SECONDS.toMillis(2));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void escutar() {
+		long backoff = BACKOFF_INICIAL_MS;
+
+		while (running) {
+			try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = abrir()) {
+				if (resumeToken == null) {
+					notificar(ClienteChangeStreamHandler::aoPerderEventos);
+				}
+				backoff = BACKOFF_INICIAL_MS;
+
+				while (running) {
+					ChangeStreamDocument<Document> evento = cursor.tryNext();
+					if (evento != null && !processar(evento)) {
+						break;
+					}
+					if (cursor.getResumeToken() != null) {
+						resumeToken = cursor.getResumeToken();
+					}
+				}
+			} catch (MongoException e) {
+				if (!running) {
+					return;
+				}
+				if (codigo(e) == CHANGE_STREAM_NAO_SUPORTADO) {
+					log.warn("Change streams não suportados pelo MongoDB (requer replica set); "
+							+ "estado em memória dos clientes não receberá escritas de outros pods");
+					notificar(ClienteChangeStreamHandler::aoEncerrar);
+					running = false;
+					return;
+				}
+				if (codigo(e) == CHANGE_STREAM_HISTORICO_PERDIDO || codigo(e) == CHANGE_STREAM_FATAL) {
+					resumeToken = null;
+				}
+
+				log.warn("Falha no change stream de clientes, nova tentativa em {} ms: {}", backoff, e.getMessage());
+				notificar(ClienteChangeStreamHandler::aoInterromper);
+				aguardar(backoff);
+				backoff = Math.min(backoff * 2, BACKOFF_MAXIMO_MS);
+			}
+		}
+	}
+
+	private MongoChangeStreamCursor<ChangeStreamDocument<Document>> abrir() {
+		ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(COLECAO)
+				.watch(List.of(Aggregates.match(Filters.in("operationType",
+						"insert", "update", "replace", "delete", "drop", "rename", "dropDatabase", "invalidate"))))
+				.maxAwaitTime(1, TimeUnit.SECONDS);
+
+		if (resumeToken != null) {
+			stream = stream.resumeAfter(resumeToken);
+		}
+		return stream.cursor();
+	}
+
+	/**
+	 * Repassa um evento do change stream aos handlers
+	 * Retorna false quando o evento encerra o stream e ele precisa ser reaberto
+	 */
+	boolean processar(ChangeStreamDocument<Document> evento) {
+		OperationType tipo = evento.getOperationType();
+
+		if (tipo == OperationType.INSERT || tipo == OperationType.UPDATE
+				|| tipo == OperationType.REPLACE || tipo == OperationType.DELETE) {
+			notificar(handler -> handler.aoReceber(evento));
+			return true;
+		}
+
+		// drop, rename, invalidate: o stream termina e é reaberto sem ponto de retomada
+		resumeToken = null;
+		return false;
+	}
+
+	private void notificar(Consumer<ClienteChangeStreamHandler> acao) {
+		for (ClienteChangeStreamHandler handler : handlers) {
+			try {
+				acao.accept(handler);
+			} catch (RuntimeException e) {
+				log.warn("Falha ao processar evento do change stream em {}: {}",
+						handler.getClass().getSimpleName(), e.getMessage());
+			}
+		}
+	}
+
+	private static int codigo(MongoException e) {
+		return e instanceof MongoCommandException comando ? comando.getErrorCode() : e.getCode();
+	}
+
+	private static void aguardar(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
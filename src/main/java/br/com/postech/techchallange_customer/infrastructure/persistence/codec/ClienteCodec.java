@@ -0,0 +1,276 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.codec;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonObjectId;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+
+/**
+ * Codec BSON da entidade Cliente, sem reflexão nem objetos intermediários
+ *
+ * Lê e grava o mesmo formato de ClienteDocument pelo MappingMongoConverter:
+ * _id como ObjectId quando o id é um hexadecimal válido, datas como BSON Date
+ * no fuso padrão da JVM (como os conversores JSR-310 do Spring Data), campos
+ * nulos omitidos e o _class do documento. Campos desconhecidos são ignorados.
+ */
+public class ClienteCodec implements CollectibleCodec<Cliente> {
+
+	private static final String CAMPO_ID = "_id";
+	private static final String CAMPO_CLASSE = "_class";
+	private static final String CLASSE_DOCUMENTO = ClienteDocument.class.getName();
+
+	private final ZoneId zona;
+
+	public ClienteCodec() {
+		this(ZoneId.systemDefault());
+	}
+
+	ClienteCodec(ZoneId zona) {
+		this.zona = zona;
+	}
+
+	@Override
+	public Class<Cliente> getEncoderClass() {
+		return Cliente.class;
+	}
+
+	// Codificação
+
+	@Override
+	public void encode(BsonWriter writer, Cliente cliente, EncoderContext encoderContext) {
+		writer.writeStartDocument();
+		if (cliente.getId() != null) {
+			writer.writeName(CAMPO_ID);
+			if (ObjectId.isValid(cliente.getId())) {
+				writer.writeObjectId(new ObjectId(cliente.getId()));
+			} else {
+				writer.writeString(cliente.getId());
+			}
+		}
+		escreverTexto(writer, "clienteId", cliente.getClienteId());
+		escreverTexto(writer, "nomeCliente", cliente.getNomeCliente());
+		escreverTexto(writer, "emailCliente", cliente.getEmailCliente());
+		escreverTexto(writer, "cpfCliente", cliente.getCpfCliente());
+		escreverTexto(writer, "telefone", cliente.getTelefone());
+		if (cliente.getEndereco() != null) {
+			escreverEndereco(writer, cliente.getEndereco());
+		}
+		if (cliente.getAtivo() != null) {
+			writer.writeBoolean("ativo", cliente.getAtivo());
+		}
+		escreverData(writer, "dataCadastro", cliente.getDataCadastro());
+		escreverData(writer, "dataUltimaAtualizacao", cliente.getDataUltimaAtualizacao());
+		if (cliente.getVersao() != null) {
+			writer.writeInt32("versao", cliente.getVersao());
+		}
+		if (cliente.getMetadata() != null) {
+			escreverMetadata(writer, cliente.getMetadata());
+		}
+		writer.writeString(CAMPO_CLASSE, CLASSE_DOCUMENTO);
+		writer.writeEndDocument();
+	}
+
+	private void escreverEndereco(BsonWriter writer, Endereco endereco) {
+		writer.writeStartDocument("endereco");
+		escreverTexto(writer, "rua", endereco.getRua());
+		escreverTexto(writer, "numero", endereco.getNumero());
+		escreverTexto(writer, "complemento", endereco.getComplemento());
+		escreverTexto(writer, "bairro", endereco.getBairro());
+		escreverTexto(writer, "cidade", endereco.getCidade());
+		escreverTexto(writer, "estado", endereco.getEstado());
+		escreverTexto(writer, "cep", endereco.getCep());
+		writer.writeEndDocument();
+	}
+
+	private void escreverMetadata(BsonWriter writer, Metadata metadata) {
+		writer.writeStartDocument("metadata");
+		escreverTexto(writer, "origem", metadata.getOrigem());
+		escreverTexto(writer, "canal", metadata.getCanal());
+		if (metadata.getTags() != null) {
+			writer.writeStartArray("tags");
+			for (String tag : metadata.getTags()) {
+				if (tag == null) {
+					writer.writeNull();
+				} else {
+					writer.writeString(tag);
+				}
+			}
+			writer.writeEndArray();
+		}
+		escreverTexto(writer, "notas", metadata.getNotas());
+		escreverData(writer, "dataDesativacao", metadata.getDataDesativacao());
+		writer.writeEndDocument();
+	}
+
+	private static void escreverTexto(BsonWriter writer, String campo, String valor) {
+		if (valor != null) {
+			writer.writeString(campo, valor);
+		}
+	}
+
+	private void escreverData(BsonWriter writer, String campo, LocalDateTime valor) {
+		if (valor != null) {
+			writer.writeDateTime(campo, valor.atZone(zona).toInstant().toEpochMilli());
+		}
+	}
+
+	// Decodificação
+
+	@Override
+	public Cliente decode(BsonReader reader, DecoderContext decoderContext) {
+		Cliente cliente = new Cliente();
+		// o construtor preenche padrões de cadastro novo; aqui vale apenas o que está no documento
+		cliente.setAtivo(null);
+		cliente.setDataCadastro(null);
+		cliente.setDataUltimaAtualizacao(null);
+
+		reader.readStartDocument();
+		while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+			String campo = reader.readName();
+			if (reader.getCurrentBsonType() == BsonType.NULL) {
+				reader.readNull();
+				continue;
+			}
+			switch (campo) {
+				case CAMPO_ID -> cliente.setId(lerId(reader));
+				case "clienteId" -> cliente.setClienteId(reader.readString());
+				case "nomeCliente" -> cliente.setNomeCliente(reader.readString());
+				case "emailCliente" -> cliente.setEmailCliente(reader.readString());
+				case "cpfCliente" -> cliente.setCpfCliente(reader.readString());
+				case "telefone" -> cliente.setTelefone(reader.readString());
+				case "endereco" -> cliente.setEndereco(lerEndereco(reader));
+				case "ativo" -> cliente.setAtivo(reader.readBoolean());
+				case "dataCadastro" -> cliente.setDataCadastro(lerData(reader));
+				case "dataUltimaAtualizacao" -> cliente.setDataUltimaAtualizacao(lerData(reader));
+				case "versao" -> cliente.setVersao(lerInteiro(reader));
+				case "metadata" -> cliente.setMetadata(lerMetadata(reader));
+				default -> reader.skipValue();
+			}
+		}
+		reader.readEndDocument();
+		return cliente;
+	}
+
+	private Endereco lerEndereco(BsonReader reader) {
+		Endereco endereco = new Endereco();
+		reader.readStartDocument();
+		while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+			String campo = reader.readName();
+			if (reader.getCurrentBsonType() == BsonType.NULL) {
+				reader.readNull();
+				continue;
+			}
+			switch (campo) {
+				case "rua" -> endereco.setRua(reader.readString());
+				case "numero" -> endereco.setNumero(reader.readString());
+				case "complemento" -> endereco.setComplemento(reader.readString());
+				case "bairro" -> endereco.setBairro(reader.readString());
+				case "cidade" -> endereco.setCidade(reader.readString());
+				case "estado" -> endereco.setEstado(reader.readString());
+				case "cep" -> endereco.setCep(reader.readString());
+				default -> reader.skipValue();
+			}
+		}
+		reader.readEndDocument();
+		return endereco;
+	}
+
+	private Metadata lerMetadata(BsonReader reader) {
+		Metadata metadata = new Metadata();
+		// como em ClienteDocumentMapper, tags ausentes ficam nulas
+		metadata.setTags(null);
+		reader.readStartDocument();
+		while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+			String campo = reader.readName();
+			if (reader.getCurrentBsonType() == BsonType.NULL) {
+				reader.readNull();
+				continue;
+			}
+			switch (campo) {
+				case "origem" -> metadata.setOrigem(reader.readString());
+				case "canal" -> metadata.setCanal(reader.readString());
+				case "tags" -> metadata.setTags(lerTags(reader));
+				case "notas" -> metadata.setNotas(reader.readString());
+				case "dataDesativacao" -> metadata.setDataDesativacao(lerData(reader));
+				default -> reader.skipValue();
+			}
+		}
+		reader.readEndDocument();
+		return metadata;
+	}
+
+	private static List<String> lerTags(BsonReader reader) {
+		List<String> tags = new ArrayList<>();
+		reader.readStartArray();
+		while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+			if (reader.getCurrentBsonType() == BsonType.NULL) {
+				reader.readNull();
+				tags.add(null);
+			} else {
+				tags.add(reader.readString());
+			}
+		}
+		reader.readEndArray();
+		return tags;
+	}
+
+	private static String lerId(BsonReader reader) {
+		if (reader.getCurrentBsonType() == BsonType.OBJECT_ID) {
+			return reader.readObjectId().toHexString();
+		}
+		return reader.readString();
+	}
+
+	private LocalDateTime lerData(BsonReader reader) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), zona);
+	}
+
+	private static Integer lerInteiro(BsonReader reader) {
+		return switch (reader.getCurrentBsonType()) {
+			case INT64 -> (int) reader.readInt64();
+			case DOUBLE -> (int) reader.readDouble();
+			default -> reader.readInt32();
+		};
+	}
+
+	// Identificador (inserção pelo driver)
+
+	@Override
+	public boolean documentHasId(Cliente cliente) {
+		return cliente.getId() != null;
+	}
+
+	@Override
+	public BsonValue getDocumentId(Cliente cliente) {
+		if (cliente.getId() == null) {
+			throw new IllegalStateException("Cliente sem _id");
+		}
+		return ObjectId.isValid(cliente.getId()) ? new BsonObjectId(new ObjectId(cliente.getId()))
+				: new BsonString(cliente.getId());
+	}
+
+	@Override
+	public Cliente generateIdIfAbsentFromDocument(Cliente cliente) {
+		if (cliente.getId() == null) {
+			cliente.setId(new ObjectId().toHexString());
+		}
+		return cliente;
+	}
+}
@@ -0,0 +1,148 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.infrastructure.config.ExportProperties;
+import br.com.postech.techchallange_customer.infrastructure.config.LoteProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.adapter.ClienteRepositoryAdapter;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import br.com.postech.techchallange_customer.infrastructure.persistence.repository.ClienteMongoRepository;
+
+/**
+ * Adaptador de persistência que lê e cadastra clientes com ClienteCodec
+ *
+ * O driver decodifica o BSON direto na entidade de domínio, sem o
+ * MappingMongoConverter e sem ClienteDocument. Filtros, ordenação e projeção
+ * continuam montados com Query (os mesmos do adaptador base, com o mesmo
+ * roteamento de leituras) e passam pelo QueryMapper, de modo que os
+ * valores enviados (ObjectId, datas) também são os mesmos. As
+ * demais escritas (save/update com versão, lote, alterações em massa) seguem
+ * pelo adaptador base.
+ */
+public class ClienteCodecRepositoryAdapter extends ClienteRepositoryAdapter {
+
+	private static final String CAMPO_ID = "id";
+
+	private final MongoTemplate mongoTemplate;
+	private final RoteamentoLeitura roteamento;
+	private final MongoCollection<Cliente> colecao;
+	private final QueryMapper queryMapper;
+	private final MongoPersistentEntity<?> entidade;
+
+	/**
+	 * A coleção usa o registro de codecs do MongoClient, onde ClienteCodec é
+	 * registrado (MongoConfig)
+	 */
+	public ClienteCodecRepositoryAdapter(ClienteMongoRepository mongoRepository, MongoTemplate mongoTemplate,
+			ExportProperties exportProperties, LoteProperties loteProperties, RoteamentoLeitura roteamento) {
+		super(mongoRepository, mongoTemplate, exportProperties, loteProperties, roteamento);
+		this.mongoTemplate = mongoTemplate;
+		this.roteamento = roteamento;
+		this.colecao = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ClienteDocument.class))
+				.withDocumentClass(Cliente.class);
+		this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+		this.entidade = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(ClienteDocument.class);
+	}
+
+	@Override
+	public Cliente insert(Cliente cliente) {
+		if (cliente.getVersao() == null) {
+			cliente.setVersao(0);
+		}
+		try {
+			// o codec atribui o _id antes do envio, como o Spring Data
+			colecao.insertOne(cliente);
+			return cliente;
+		} catch (MongoWriteException e) {
+			if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+				ClienteAlreadyExistsException existente = toClienteAlreadyExists(e.getError().getMessage(), cliente);
+				if (existente != null) {
+					throw existente;
+				}
+			}
+			throw toDocumentoRejeitado(e);
+		}
+	}
+
+	@Override
+	public Optional<Cliente> findById(String id) {
+		return buscarUm(new Query(Criteria.where(CAMPO_ID).is(id)));
+	}
+
+	// Leitura dos documentos pelo codec
+
+	@Override
+	protected Optional<Cliente> buscarUm(Query query) {
+		return roteamento.pontual(mongoTemplate, (sessao, preferencia) -> Optional
+				.ofNullable(find(sessao, query.withReadPreference(preferencia)).limit(1).first()));
+	}
+
+	@Override
+	protected List<Cliente> buscar(Query query) {
+		return find(null, query).into(new ArrayList<>());
+	}
+
+	@Override
+	protected long percorrer(Query query, Consumer<Cliente> consumidor) {
+		long total = 0;
+		try (MongoCursor<Cliente> cursor = find(null, query).cursor()) {
+			while (cursor.hasNext()) {
+				consumidor.accept(cursor.next());
+				total++;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Traduz a Query (filtro, ordenação, projeção, limite, lote do cursor, read
+	 * concern e read preference) para o find do driver, na sessão informada
+	 * quando não for null
+	 */
+	private FindIterable<Cliente> find(ClientSession sessao, Query query) {
+		MongoCollection<Cliente> alvo = query.hasReadConcern() ? colecao.withReadConcern(query.getReadConcern())
+				: colecao;
+		if (query.hasReadPreference()) {
+			alvo = alvo.withReadPreference(query.getReadPreference());
+		}
+
+		Document filtro = queryMapper.getMappedObject(query.getQueryObject(), entidade);
+		FindIterable<Cliente> find = sessao == null ? alvo.find(filtro) : alvo.find(sessao, filtro);
+		Document ordenacao = query.getSortObject();
+		if (!ordenacao.isEmpty()) {
+			find.sort(queryMapper.getMappedSort(ordenacao, entidade));
+		}
+		Document campos = query.getFieldsObject();
+		if (!campos.isEmpty()) {
+			find.projection(queryMapper.getMappedFields(campos, entidade));
+		}
+		if (query.isLimited()) {
+			find.limit(query.getLimit());
+		}
+		Integer tamanhoLote = query.getMeta().getCursorBatchSize();
+		if (tamanhoLote != null) {
+			find.batchSize(tamanhoLote);
+		}
+		return find;
+	}
+}
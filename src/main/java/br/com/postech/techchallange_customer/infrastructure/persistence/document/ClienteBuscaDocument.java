@@ -0,0 +1,21 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.document;
+
+/**
+ * Resultado da busca textual por nome: o documento do cliente acrescido da
+ * relevância calculada pelo servidor ({ $meta: "textScore" })
+ */
+public class ClienteBuscaDocument extends ClienteDocument {
+
+	private Double pontuacao;
+
+	public ClienteBuscaDocument() {
+	}
+
+	public Double getPontuacao() {
+		return pontuacao;
+	}
+
+	public void setPontuacao(Double pontuacao) {
+		this.pontuacao = pontuacao;
+	}
+}
@@ -2,8 +2,6 @@ package br.com.postech.techchallange_customer.infrastructure.persistence.documen
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
-import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -12,6 +10,7 @@ import java.util.List;
 /**
  * Documento MongoDB para Cliente
  * Collection: clientes
+ * Índices declarados em ClienteIndices
  */
 @Document(collection = "clientes")
 public class ClienteDocument {
@@ -19,16 +18,12 @@ public class ClienteDocument {
 	@Id
 	private String id;
 
-	@Indexed(unique = true)
 	private String clienteId;
 
-	@TextIndexed
 	private String nomeCliente;
 
-	@Indexed(unique = true)
 	private String emailCliente;
 
-	@Indexed(unique = true)
 	private String cpfCliente;
 
 	private String telefone;
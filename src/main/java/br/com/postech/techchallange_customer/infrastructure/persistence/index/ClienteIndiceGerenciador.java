@@ -0,0 +1,142 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+/**
+ * Mantém os índices da coleção de clientes alinhados ao catálogo declarado
+ * em {@link ClienteIndices}
+ *
+ * Na inicialização os índices de consulta ausentes são criados em uma thread
+ * própria, sem atrasar a subida da aplicação. Os índices únicos entram no
+ * relatório, mas não são criados aqui: deles depende a rejeição de duplicados,
+ * e por isso são garantidos de forma síncrona por {@link ClienteIndicesUnicos}.
+ * Índices divergentes ou não declarados nunca são alterados nem removidos
+ * automaticamente: aparecem no relatório e no log para tratamento manual.
+ */
+public class ClienteIndiceGerenciador implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(ClienteIndiceGerenciador.class);
+
+	private final MongoTemplate mongoTemplate;
+	private final List<IndiceCliente> declarados;
+	private final boolean criarNaInicializacao;
+
+	private volatile boolean running;
+
+	public ClienteIndiceGerenciador(MongoTemplate mongoTemplate, List<IndiceCliente> declarados,
+			boolean criarNaInicializacao) {
+		this.mongoTemplate = mongoTemplate;
+		this.declarados = List.copyOf(declarados);
+		this.criarNaInicializacao = criarNaInicializacao;
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		Thread thread = new Thread(this::inicializar, "clientes-indices");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void inicializar() {
+		try {
+			RelatorioIndices relatorio = criarNaInicializacao ? criarAusentes() : verificar();
+			registrar(relatorio);
+		} catch (RuntimeException e) {
+			log.warn("Falha ao verificar os índices da coleção de clientes: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Compara os índices existentes com os declarados
+	 */
+	public RelatorioIndices verificar() {
+		List<IndexInfo> existentes = new ArrayList<>(indexOps().getIndexInfo());
+		existentes.removeIf(indice -> ClienteIndices.INDICE_ID.equals(indice.getName()));
+
+		List<String> ausentes = new ArrayList<>();
+		List<String> divergentes = new ArrayList<>();
+
+		for (IndiceCliente declarado : declarados) {
+			Optional<IndexInfo> existente = porNome(existentes, declarado.getNome())
+					.or(() -> existentes.stream().filter(declarado::temMesmasChaves).findFirst());
+
+			if (existente.isEmpty()) {
+				ausentes.add(declarado.getNome());
+				continue;
+			}
+
+			IndexInfo indice = existente.get();
+			existentes.remove(indice);
+			if (!declarado.getNome().equals(indice.getName())) {
+				divergentes.add(declarado.getNome() + ": existe como " + indice.getName());
+			} else if (!declarado.isEquivalente(indice)) {
+				divergentes.add(declarado.getNome() + ": esperado " + declarado.descrever());
+			}
+		}
+
+		List<String> naoDeclarados = existentes.stream().map(IndexInfo::getName).toList();
+		return new RelatorioIndices(ausentes, divergentes, naoDeclarados);
+	}
+
+	/**
+	 * Cria os índices de consulta declarados que não existem na coleção (os
+	 * únicos ficam com {@link ClienteIndicesUnicos})
+	 * Falhas em um índice não interrompem a criação dos demais
+	 */
+	public RelatorioIndices criarAusentes() {
+		List<String> ausentes = verificar().getAusentes();
+		IndexOperations indexOps = indexOps();
+
+		for (IndiceCliente declarado : declarados) {
+			if (declarado.isUnico() || !ausentes.contains(declarado.getNome())) {
+				continue;
+			}
+			try {
+				indexOps.createIndex(declarado.toIndexDefinition());
+				log.info("Índice {} criado na coleção de clientes: {}", declarado.getNome(), declarado.descrever());
+			} catch (RuntimeException e) {
+				log.warn("Falha ao criar o índice {} na coleção de clientes: {}", declarado.getNome(), e.getMessage());
+			}
+		}
+		return verificar();
+	}
+
+	// Funções auxiliares
+
+	private IndexOperations indexOps() {
+		return mongoTemplate.indexOps(ClienteIndices.COLECAO);
+	}
+
+	private static Optional<IndexInfo> porNome(List<IndexInfo> existentes, String nome) {
+		return existentes.stream().filter(indice -> nome.equals(indice.getName())).findFirst();
+	}
+
+	private static void registrar(RelatorioIndices relatorio) {
+		if (relatorio.isSincronizado()) {
+			log.info("Índices da coleção de clientes de acordo com o catálogo");
+			return;
+		}
+		log.warn("Índices da coleção de clientes divergem do catálogo: ausentes={}, divergentes={}, naoDeclarados={}",
+				relatorio.getAusentes(), relatorio.getDivergentes(), relatorio.getNaoDeclarados());
+	}
+}
@@ -0,0 +1,59 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+
+/**
+ * Índices declarados da coleção de clientes, um por formato de consulta
+ *
+ * As listagens paginam por _id ou por (dataCadastro, _id); por isso os índices
+ * de filtro terminam em _id, permitindo que o mesmo índice atenda o filtro, a
+ * ordenação e o critério do cursor sem ordenação em memória.
+ */
+public final class ClienteIndices {
+
+	public static final String COLECAO = "clientes";
+
+	/**
+	 * Índice implícito da chave primária, nunca declarado nem removido
+	 */
+	public static final String INDICE_ID = "_id_";
+
+	private static final Document SOMENTE_ATIVOS = new Document("ativo", true);
+
+	/**
+	 * Consultas pontuais e unicidade (duplicidade detectada pelo erro 11000),
+	 * garantidos na inicialização por {@link ClienteIndicesUnicos}
+	 */
+	public static final List<IndiceCliente> UNICOS = List.of(
+			IndiceCliente.em("clienteId", "clienteId").unico(),
+			IndiceCliente.em("cpfCliente", "cpfCliente").unico(),
+			IndiceCliente.em("emailCliente", "emailCliente").unico());
+
+	/**
+	 * Catálogo completo; a ordem é a ordem de criação
+	 */
+	public static final List<IndiceCliente> DECLARADOS = Stream.concat(UNICOS.stream(), Stream.of(
+			// busca por nome ($text), com stemming e stopwords do português
+			IndiceCliente.texto("nomeCliente_text", "nomeCliente").idioma("portuguese"),
+			// listagem geral ordenada por data de cadastro
+			IndiceCliente.em("dataCadastro_id", "dataCadastro", "_id"),
+			// ativos/inativos e contagem de ativos
+			IndiceCliente.em("ativo_id", "ativo", "_id"),
+			IndiceCliente.em("ativo_dataCadastro_id", "ativo", "dataCadastro", "_id"),
+			// cidade e estado
+			IndiceCliente.em("cidade_estado_id", "endereco.cidade", "endereco.estado", "_id"),
+			// ativos por cidade
+			IndiceCliente.em("ativo_cidade_id", "ativo", "endereco.cidade", "_id"),
+			// clientes por tag (multikey)
+			IndiceCliente.em("tags_id", "metadata.tags", "_id"),
+			// clientes ativos por tag (VIPs): só documentos ativos entram no índice; ativo fica na
+			// chave para que o padrão não coincida com tags_id
+			IndiceCliente.em("ativos_tags_id", "ativo", "metadata.tags", "_id").parcial(SOMENTE_ATIVOS)))
+			.toList();
+
+	private ClienteIndices() {
+	}
+}
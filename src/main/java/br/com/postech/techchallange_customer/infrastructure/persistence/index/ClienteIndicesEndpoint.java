@@ -0,0 +1,30 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Endpoint de administração dos índices da coleção de clientes
+ * GET /actuator/clientesindices: diferenças entre catálogo e banco
+ * POST /actuator/clientesindices: cria os índices ausentes (migração manual)
+ */
+@Endpoint(id = "clientesindices")
+public class ClienteIndicesEndpoint {
+
+	private final ClienteIndiceGerenciador gerenciador;
+
+	public ClienteIndicesEndpoint(ClienteIndiceGerenciador gerenciador) {
+		this.gerenciador = gerenciador;
+	}
+
+	@ReadOperation
+	public RelatorioIndices relatorio() {
+		return gerenciador.verificar();
+	}
+
+	@WriteOperation
+	public RelatorioIndices criarAusentes() {
+		return gerenciador.criarAusentes();
+	}
+}
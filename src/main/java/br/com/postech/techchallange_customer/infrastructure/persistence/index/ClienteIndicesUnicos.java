@@ -0,0 +1,73 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+/**
+ * Garante, antes da aplicação aceitar requisições, os índices únicos da
+ * coleção de clientes (clienteId, cpfCliente e emailCliente)
+ *
+ * São a única proteção contra CPF e e-mail duplicados: o cadastro não consulta
+ * o banco antes de inserir e depende do erro 11000. Por isso a verificação é
+ * síncrona e qualquer falha (banco inacessível, índice sem unicidade ou
+ * duplicidades impedindo a criação) interrompe a inicialização.
+ */
+public class ClienteIndicesUnicos implements InitializingBean {
+
+	private static final Logger log = LoggerFactory.getLogger(ClienteIndicesUnicos.class);
+
+	private final MongoTemplate mongoTemplate;
+	private final List<IndiceCliente> unicos;
+
+	public ClienteIndicesUnicos(MongoTemplate mongoTemplate, List<IndiceCliente> unicos) {
+		this.mongoTemplate = mongoTemplate;
+		this.unicos = List.copyOf(unicos);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		garantir();
+	}
+
+	/**
+	 * Cria os índices únicos ausentes; lança IllegalStateException se algum não
+	 * existir com unicidade ao final
+	 */
+	public void garantir() {
+		IndexOperations indexOps = mongoTemplate.indexOps(ClienteIndices.COLECAO);
+		List<IndexInfo> existentes;
+		try {
+			existentes = indexOps.getIndexInfo();
+		} catch (RuntimeException e) {
+			throw new IllegalStateException("Não foi possível ler os índices da coleção de clientes", e);
+		}
+
+		for (IndiceCliente unico : unicos) {
+			Optional<IndexInfo> existente = existentes.stream().filter(unico::temMesmasChaves).findFirst();
+			if (existente.isPresent()) {
+				if (!existente.get().isUnique()) {
+					throw new IllegalStateException(String.format(
+							"O índice %s da coleção de clientes existe sem unicidade; remova-o para que %s seja criado",
+							existente.get().getName(), unico.descrever()));
+				}
+				continue;
+			}
+
+			try {
+				indexOps.createIndex(unico.toIndexDefinition());
+				log.info("Índice único {} criado na coleção de clientes: {}", unico.getNome(), unico.descrever());
+			} catch (RuntimeException e) {
+				throw new IllegalStateException(String.format(
+						"Falha ao criar o índice único %s na coleção de clientes (há valores duplicados?)",
+						unico.getNome()), e);
+			}
+		}
+	}
+}
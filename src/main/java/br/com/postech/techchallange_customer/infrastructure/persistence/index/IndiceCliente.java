@@ -0,0 +1,191 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition.TextIndexDefinitionBuilder;
+
+/**
+ * Declaração de um índice da coleção de clientes
+ * Mantém chaves, unicidade, filtro parcial e, nos índices de texto, o idioma
+ * para criar o índice e comparar com o que existe no banco
+ */
+public final class IndiceCliente {
+
+	private static final String PREFIXO_CAMPO_TEXTO = "_fts";
+
+	private final String nome;
+	private final Map<String, Sort.Direction> chaves;
+	private final boolean unico;
+	private final boolean texto;
+	private final Document filtroParcial;
+	private final String idioma;
+
+	private IndiceCliente(String nome, Map<String, Sort.Direction> chaves, boolean unico, boolean texto,
+			Document filtroParcial, String idioma) {
+		this.nome = nome;
+		this.chaves = chaves;
+		this.unico = unico;
+		this.texto = texto;
+		this.filtroParcial = filtroParcial;
+		this.idioma = idioma;
+	}
+
+	/**
+	 * Índice ascendente nos campos informados, na ordem dada
+	 */
+	public static IndiceCliente em(String nome, String... campos) {
+		Map<String, Sort.Direction> chaves = new LinkedHashMap<>();
+		for (String campo : campos) {
+			chaves.put(campo, Sort.Direction.ASC);
+		}
+		return new IndiceCliente(nome, chaves, false, false, null, null);
+	}
+
+	/**
+	 * Índice de texto no campo informado
+	 */
+	public static IndiceCliente texto(String nome, String campo) {
+		Map<String, Sort.Direction> chaves = new LinkedHashMap<>();
+		chaves.put(campo, Sort.Direction.ASC);
+		return new IndiceCliente(nome, chaves, false, true, null, null);
+	}
+
+	/**
+	 * Cópia do índice com restrição de unicidade
+	 */
+	public IndiceCliente unico() {
+		return new IndiceCliente(nome, chaves, true, texto, filtroParcial, idioma);
+	}
+
+	/**
+	 * Cópia do índice restrita aos documentos que atendem ao filtro
+	 */
+	public IndiceCliente parcial(Document filtro) {
+		return new IndiceCliente(nome, chaves, unico, texto, filtro, idioma);
+	}
+
+	/**
+	 * Cópia do índice de texto com o idioma padrão (default_language) usado em
+	 * stopwords e stemming
+	 */
+	public IndiceCliente idioma(String idiomaPadrao) {
+		return new IndiceCliente(nome, chaves, unico, texto, filtroParcial, idiomaPadrao);
+	}
+
+	/**
+	 * Definição usada na criação; construído em segundo plano em servidores
+	 * anteriores ao 4.2 (nos demais a opção é ignorada e o build já não bloqueia
+	 * a coleção)
+	 */
+	public IndexDefinition toIndexDefinition() {
+		if (texto) {
+			TextIndexDefinitionBuilder builder = new TextIndexDefinitionBuilder().named(nome);
+			chaves.keySet().forEach(builder::onField);
+			if (idioma != null) {
+				builder.withDefaultLanguage(idioma);
+			}
+			if (filtroParcial != null) {
+				builder.partial(PartialIndexFilter.of(filtroParcial));
+			}
+			return builder.build();
+		}
+
+		Index index = new Index().named(nome).background();
+		chaves.forEach(index::on);
+		if (unico) {
+			index.unique();
+		}
+		if (filtroParcial != null) {
+			index.partial(PartialIndexFilter.of(filtroParcial));
+		}
+		return index;
+	}
+
+	/**
+	 * Verifica se o índice existente tem as mesmas chaves (na mesma ordem)
+	 */
+	public boolean temMesmasChaves(IndexInfo existente) {
+		List<String> campos = new ArrayList<>();
+		for (IndexField campo : existente.getIndexFields()) {
+			if (campo.getKey().startsWith(PREFIXO_CAMPO_TEXTO)) {
+				// _fts/_ftsx: chaves internas de todo índice de texto
+				continue;
+			}
+			if (texto != campo.isText()) {
+				return false;
+			}
+			if (!texto && campo.getDirection() != chaves.get(campo.getKey())) {
+				return false;
+			}
+			campos.add(campo.getKey());
+		}
+		// índices de texto não preservam a ordem dos campos
+		return texto ? campos.size() == chaves.size() && chaves.keySet().containsAll(campos)
+				: campos.equals(List.copyOf(chaves.keySet()));
+	}
+
+	/**
+	 * Verifica se o índice existente é equivalente ao declarado
+	 */
+	public boolean isEquivalente(IndexInfo existente) {
+		Document parcialExistente = existente.getPartialFilterExpression() == null ? null
+				: Document.parse(existente.getPartialFilterExpression());
+		return temMesmasChaves(existente) && unico == existente.isUnique()
+				&& Objects.equals(filtroParcial, parcialExistente)
+				&& (idioma == null || idioma.equals(existente.getLanguage()));
+	}
+
+	/**
+	 * Descrição legível para logs e relatório
+	 */
+	public String descrever() {
+		Document chavesDocumento = new Document();
+		chaves.forEach((campo, direcao) -> chavesDocumento.append(campo,
+				texto ? "text" : (direcao == Sort.Direction.ASC ? 1 : -1)));
+
+		StringBuilder descricao = new StringBuilder(chavesDocumento.toJson());
+		if (unico) {
+			descricao.append(" unique");
+		}
+		if (filtroParcial != null) {
+			descricao.append(" partial ").append(filtroParcial.toJson());
+		}
+		if (idioma != null) {
+			descricao.append(" default_language ").append(idioma);
+		}
+		return descricao.toString();
+	}
+
+	// Getters
+
+	public String getNome() {
+		return nome;
+	}
+
+	public boolean isUnico() {
+		return unico;
+	}
+
+	public boolean isTexto() {
+		return texto;
+	}
+
+	public Document getFiltroParcial() {
+		return filtroParcial;
+	}
+
+	public String getIdioma() {
+		return idioma;
+	}
+}
@@ -0,0 +1,49 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import java.util.List;
+
+/**
+ * Diferenças entre os índices declarados e os existentes na coleção
+ */
+public class RelatorioIndices {
+
+	private final List<String> ausentes;
+	private final List<String> divergentes;
+	private final List<String> naoDeclarados;
+
+	public RelatorioIndices(List<String> ausentes, List<String> divergentes, List<String> naoDeclarados) {
+		this.ausentes = List.copyOf(ausentes);
+		this.divergentes = List.copyOf(divergentes);
+		this.naoDeclarados = List.copyOf(naoDeclarados);
+	}
+
+	/**
+	 * Verifica se a coleção tem exatamente os índices declarados
+	 */
+	public boolean isSincronizado() {
+		return ausentes.isEmpty() && divergentes.isEmpty() && naoDeclarados.isEmpty();
+	}
+
+	// Getters
+
+	/**
+	 * Índices declarados que não existem (nem com outro nome)
+	 */
+	public List<String> getAusentes() {
+		return ausentes;
+	}
+
+	/**
+	 * Índices declarados que existem com outras opções ou outro nome
+	 */
+	public List<String> getDivergentes() {
+		return divergentes;
+	}
+
+	/**
+	 * Índices existentes que não estão no catálogo
+	 */
+	public List<String> getNaoDeclarados() {
+		return naoDeclarados;
+	}
+}
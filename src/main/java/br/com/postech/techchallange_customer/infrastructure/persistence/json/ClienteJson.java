@@ -0,0 +1,15 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.json;
+
+import java.time.Instant;
+
+/**
+ * JSON de um cliente lido por ClienteJsonReader, com os campos usados nos
+ * validadores HTTP (ETag e Last-Modified) mesmo quando fora da projeção
+ *
+ * @param corpo              JSON (UTF-8) com os campos da projeção pedida
+ * @param clienteId          UUID do cliente
+ * @param versao             versão do documento (@Version); nula em documentos antigos
+ * @param ultimaAtualizacao  dataUltimaAtualizacao como instante
+ */
+public record ClienteJson(byte[] corpo, String clienteId, Integer versao, Instant ultimaAtualizacao) {
+}
@@ -0,0 +1,112 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.json;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.client.MongoCollection;
+
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+
+/**
+ * Consultas pontuais que devolvem o cliente já no JSON de ClienteDTO
+ *
+ * O documento chega do driver como RawBsonDocument (os bytes da resposta,
+ * sem decodificação) e é transcodificado direto para JSON por
+ * ClienteJsonTranscoder. Não passa pelo cache, pelo filtro de Bloom nem pelos
+ * casos de uso: é o caminho alternativo às buscas mapeadas para comparação
+ * (clientes.json-direto.enabled).
+ *
+ * Projeções parciais leem também clienteId, versao e dataUltimaAtualizacao
+ * para os validadores HTTP; esses campos só entram no JSON quando pedidos.
+ */
+public class ClienteJsonReader {
+
+	private static final String CAMPO_ID = "_id";
+	private static final String CAMPO_CLIENTE_ID = "clienteId";
+	private static final String CAMPO_CPF = "cpfCliente";
+	private static final String CAMPO_EMAIL = "emailCliente";
+	private static final String CAMPO_VERSAO = "versao";
+	private static final String CAMPO_DATA_ULTIMA_ATUALIZACAO = "dataUltimaAtualizacao";
+
+	private static final ProjecaoCliente VALIDADORES = ProjecaoCliente.of(
+			CAMPO_CLIENTE_ID, CAMPO_VERSAO, CAMPO_DATA_ULTIMA_ATUALIZACAO);
+
+	private final MongoTemplate mongoTemplate;
+	private final MongoCollection<RawBsonDocument> colecao;
+	private final ClienteJsonTranscoder transcoder;
+	private final RoteamentoLeitura roteamento;
+
+	public ClienteJsonReader(MongoTemplate mongoTemplate, ClienteJsonTranscoder transcoder,
+			RoteamentoLeitura roteamento) {
+		this.mongoTemplate = mongoTemplate;
+		this.colecao = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ClienteDocument.class))
+				.withDocumentClass(RawBsonDocument.class);
+		this.transcoder = transcoder;
+		this.roteamento = roteamento;
+	}
+
+	public Optional<ClienteJson> porClienteId(String clienteId, ProjecaoCliente projecao) {
+		return buscarUm(CAMPO_CLIENTE_ID, clienteId, projecao);
+	}
+
+	public Optional<ClienteJson> porCpf(String cpf, ProjecaoCliente projecao) {
+		return buscarUm(CAMPO_CPF, cpf, projecao);
+	}
+
+	public Optional<ClienteJson> porEmail(String email, ProjecaoCliente projecao) {
+		return buscarUm(CAMPO_EMAIL, email, projecao);
+	}
+
+	/**
+	 * Busca com a read preference (e a sessão causal, fora do primary) das
+	 * buscas pontuais de RoteamentoLeitura
+	 */
+	private Optional<ClienteJson> buscarUm(String campo, String valor, ProjecaoCliente projecao) {
+		Document filtro = new Document(campo, valor);
+		RawBsonDocument documento = roteamento.pontual(mongoTemplate, (sessao, preferencia) -> {
+			MongoCollection<RawBsonDocument> alvo = colecao.withReadPreference(preferencia);
+			return (sessao == null ? alvo.find(filtro) : alvo.find(sessao, filtro))
+					.projection(toProjecao(projecao.com(VALIDADORES)))
+					.limit(1)
+					.first();
+		});
+		return Optional.ofNullable(documento).map(lido -> toClienteJson(lido, projecao));
+	}
+
+	private ClienteJson toClienteJson(RawBsonDocument documento, ProjecaoCliente projecao) {
+		BsonValue clienteId = documento.get(CAMPO_CLIENTE_ID);
+		BsonValue versao = documento.get(CAMPO_VERSAO);
+		BsonValue data = documento.get(CAMPO_DATA_ULTIMA_ATUALIZACAO);
+
+		return new ClienteJson(transcoder.toJson(documento, projecao),
+				clienteId != null && clienteId.isString() ? clienteId.asString().getValue() : null,
+				versao != null && versao.isNumber() ? versao.asNumber().intValue() : null,
+				data != null && data.isDateTime() ? Instant.ofEpochMilli(data.asDateTime().getValue()) : null);
+	}
+
+	/**
+	 * Projeção do find; o _id, devolvido pelo servidor por padrão, é excluído
+	 * quando id não foi pedido para que a resposta tenha só os campos de fields
+	 */
+	static Document toProjecao(ProjecaoCliente projecao) {
+		if (projecao.isCompleta()) {
+			return null;
+		}
+
+		Document campos = new Document();
+		for (String campo : projecao.getCampos()) {
+			campos.append("id".equals(campo) ? CAMPO_ID : campo, 1);
+		}
+		if (!campos.containsKey(CAMPO_ID)) {
+			campos.append(CAMPO_ID, 0);
+		}
+		return campos;
+	}
+}
@@ -0,0 +1,262 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+
+/**
+ * Converte o documento BSON de um cliente direto no JSON de ClienteDTO, sem
+ * ClienteDocument, Cliente nem ClienteDTO intermediários
+ *
+ * Segue as regras de serialização de ClienteDTO: _id vira id (hexadecimal),
+ * _class e campos desconhecidos são descartados, campos de primeiro nível
+ * nulos ou ausentes saem como null na resposta completa e são omitidos na
+ * parcial (ClienteParcialDTO), endereço e metadata trazem todas as chaves
+ * (nulas quando ausentes) e datas saem no formato yyyy-MM-dd'T'HH:mm:ss no fuso
+ * da JVM, o mesmo usado pelo Spring Data ao ler LocalDateTime. Os campos de
+ * primeiro nível saem na ordem do documento, que é a de ClienteDTO nos
+ * documentos gravados pela aplicação; os ausentes entram na posição que têm em
+ * ClienteDTO.
+ */
+public class ClienteJsonTranscoder {
+
+	private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+	private static final List<String> CAMPOS_CLIENTE = List.of("id", "clienteId", "nomeCliente", "emailCliente",
+			"cpfCliente", "telefone", "endereco", "ativo", "dataCadastro", "dataUltimaAtualizacao", "versao",
+			"metadata");
+
+	private static final List<String> CAMPOS_ENDERECO = List.of(
+			"rua", "numero", "complemento", "bairro", "cidade", "estado", "cep");
+
+	private final JsonFactory jsonFactory;
+	private final ZoneId zona;
+
+	public ClienteJsonTranscoder(JsonFactory jsonFactory) {
+		this(jsonFactory, ZoneId.systemDefault());
+	}
+
+	ClienteJsonTranscoder(JsonFactory jsonFactory, ZoneId zona) {
+		this.jsonFactory = jsonFactory;
+		this.zona = zona;
+	}
+
+	/**
+	 * Gera o JSON (UTF-8) do cliente contido no documento
+	 */
+	public byte[] toJson(RawBsonDocument documento) {
+		return toJson(documento, ProjecaoCliente.completa());
+	}
+
+	/**
+	 * Gera o JSON (UTF-8) apenas com os campos da projeção; campos lidos do
+	 * banco só para uso interno (ex.: validadores HTTP) ficam de fora
+	 */
+	public byte[] toJson(RawBsonDocument documento, ProjecaoCliente projecao) {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream(documento.getByteBuffer().remaining());
+		try (JsonGenerator generator = jsonFactory.createGenerator(saida)) {
+			escreverCliente(documento, generator, projecao);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return saida.toByteArray();
+	}
+
+	private void escreverCliente(RawBsonDocument documento, JsonGenerator generator, ProjecaoCliente projecao)
+			throws IOException {
+		// Na resposta completa, as chaves ausentes do documento são escritas como null
+		boolean[] ausentes = projecao.isCompleta() ? ausentes(documento) : new boolean[CAMPOS_CLIENTE.size()];
+		int proximo = 0;
+
+		generator.writeStartObject();
+		try (BsonReader reader = documento.asBsonReader()) {
+			reader.readStartDocument();
+			while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+				String campo = reader.readName();
+				int posicao = posicao(campo);
+				if (posicao < 0 || !projecao.inclui(CAMPOS_CLIENTE.get(posicao))) {
+					reader.skipValue();
+					continue;
+				}
+				proximo = escreverAusentes(generator, ausentes, proximo, posicao);
+				if (reader.getCurrentBsonType() == BsonType.NULL) {
+					reader.readNull();
+					if (projecao.isCompleta()) {
+						generator.writeNullField(CAMPOS_CLIENTE.get(posicao));
+					}
+					continue;
+				}
+				switch (campo) {
+					case "_id" -> generator.writeStringField("id", lerId(reader));
+					case "clienteId", "nomeCliente", "emailCliente", "cpfCliente", "telefone" ->
+							generator.writeStringField(campo, reader.readString());
+					case "ativo" -> generator.writeBooleanField(campo, reader.readBoolean());
+					case "dataCadastro", "dataUltimaAtualizacao" -> generator.writeStringField(campo, lerData(reader));
+					case "versao" -> generator.writeNumberField(campo, lerInteiro(reader));
+					case "endereco" -> {
+						generator.writeFieldName(campo);
+						escreverEndereco(reader, generator);
+					}
+					case "metadata" -> {
+						generator.writeFieldName(campo);
+						escreverMetadata(reader, generator);
+					}
+					default -> reader.skipValue();
+				}
+			}
+			reader.readEndDocument();
+		}
+		escreverAusentes(generator, ausentes, proximo, CAMPOS_CLIENTE.size());
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Campos de ClienteDTO que não estão no documento, lidos só pelos nomes
+	 */
+	private static boolean[] ausentes(RawBsonDocument documento) {
+		boolean[] ausentes = new boolean[CAMPOS_CLIENTE.size()];
+		Arrays.fill(ausentes, true);
+		try (BsonReader reader = documento.asBsonReader()) {
+			reader.readStartDocument();
+			while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+				int posicao = posicao(reader.readName());
+				if (posicao >= 0) {
+					ausentes[posicao] = false;
+				}
+				reader.skipValue();
+			}
+		}
+		return ausentes;
+	}
+
+	/**
+	 * Escreve como null os campos ausentes que antecedem a posição e devolve a
+	 * próxima posição ainda não coberta
+	 */
+	private static int escreverAusentes(JsonGenerator generator, boolean[] ausentes, int proximo, int posicao)
+			throws IOException {
+		for (int i = proximo; i < posicao; i++) {
+			if (ausentes[i]) {
+				generator.writeNullField(CAMPOS_CLIENTE.get(i));
+			}
+		}
+		return Math.max(proximo, posicao + 1);
+	}
+
+	private static int posicao(String campo) {
+		return CAMPOS_CLIENTE.indexOf("_id".equals(campo) ? "id" : campo);
+	}
+
+	private static void escreverEndereco(BsonReader reader, JsonGenerator generator) throws IOException {
+		String[] valores = new String[CAMPOS_ENDERECO.size()];
+		reader.readStartDocument();
+		while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+			int indice = CAMPOS_ENDERECO.indexOf(reader.readName());
+			if (indice < 0 || reader.getCurrentBsonType() != BsonType.STRING) {
+				reader.skipValue();
+			} else {
+				valores[indice] = reader.readString();
+			}
+		}
+		reader.readEndDocument();
+
+		generator.writeStartObject();
+		for (int i = 0; i < valores.length; i++) {
+			generator.writeStringField(CAMPOS_ENDERECO.get(i), valores[i]);
+		}
+		generator.writeEndObject();
+	}
+
+	private void escreverMetadata(BsonReader reader, JsonGenerator generator) throws IOException {
+		String origem = null;
+		String canal = null;
+		List<String> tags = null;
+		String notas = null;
+		String dataDesativacao = null;
+
+		reader.readStartDocument();
+		while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+			String campo = reader.readName();
+			if (reader.getCurrentBsonType() == BsonType.NULL) {
+				reader.readNull();
+				continue;
+			}
+			switch (campo) {
+				case "origem" -> origem = reader.readString();
+				case "canal" -> canal = reader.readString();
+				case "tags" -> tags = lerTags(reader);
+				case "notas" -> notas = reader.readString();
+				case "dataDesativacao" -> dataDesativacao = lerData(reader);
+				default -> reader.skipValue();
+			}
+		}
+		reader.readEndDocument();
+
+		generator.writeStartObject();
+		generator.writeStringField("origem", origem);
+		generator.writeStringField("canal", canal);
+		generator.writeFieldName("tags");
+		if (tags == null) {
+			generator.writeNull();
+		} else {
+			generator.writeStartArray();
+			for (String tag : tags) {
+				generator.writeString(tag);
+			}
+			generator.writeEndArray();
+		}
+		generator.writeStringField("notas", notas);
+		generator.writeStringField("dataDesativacao", dataDesativacao);
+		generator.writeEndObject();
+	}
+
+	private static List<String> lerTags(BsonReader reader) {
+		List<String> tags = new ArrayList<>();
+		reader.readStartArray();
+		while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+			if (reader.getCurrentBsonType() == BsonType.NULL) {
+				reader.readNull();
+				tags.add(null);
+			} else {
+				tags.add(reader.readString());
+			}
+		}
+		reader.readEndArray();
+		return tags;
+	}
+
+	private static String lerId(BsonReader reader) {
+		if (reader.getCurrentBsonType() == BsonType.OBJECT_ID) {
+			return reader.readObjectId().toHexString();
+		}
+		return reader.readString();
+	}
+
+	private String lerData(BsonReader reader) {
+		return FORMATO_DATA.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), zona));
+	}
+
+	private static int lerInteiro(BsonReader reader) {
+		return switch (reader.getCurrentBsonType()) {
+			case INT64 -> (int) reader.readInt64();
+			case DOUBLE -> (int) reader.readDouble();
+			default -> reader.readInt32();
+		};
+	}
+}
@@ -0,0 +1,96 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.leitura;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bson.BsonTimestamp;
+
+/**
+ * Momentos (operationTime do servidor) que as leituras pontuais fora do
+ * primary precisam enxergar para que o cliente leia as próprias escritas
+ *
+ * Guarda a última escrita desta instância e, durante uma requisição HTTP, o
+ * token recebido do cliente (escrita feita em outra instância) e a última
+ * escrita da própria requisição, devolvida como novo token.
+ */
+public class ConsistenciaCausal {
+
+	private final AtomicReference<BsonTimestamp> ultimaEscrita = new AtomicReference<>();
+	private final ThreadLocal<Requisicao> requisicao = new ThreadLocal<>();
+
+	/**
+	 * Registra o operationTime de uma escrita confirmada pelo servidor
+	 */
+	public void registrarEscrita(BsonTimestamp operationTime) {
+		ultimaEscrita.accumulateAndGet(operationTime, ConsistenciaCausal::maior);
+		Requisicao atual = requisicao.get();
+		if (atual != null) {
+			atual.escrita = maior(atual.escrita, operationTime);
+		}
+	}
+
+	/**
+	 * Momento a partir do qual a leitura deve ser feita; null quando não há
+	 * escrita conhecida
+	 */
+	public BsonTimestamp getTokenLeitura() {
+		Requisicao atual = requisicao.get();
+		return maior(ultimaEscrita.get(), atual != null ? atual.recebido : null);
+	}
+
+	/**
+	 * Associa à thread da requisição o token enviado pelo cliente (pode ser null)
+	 */
+	public void iniciarRequisicao(BsonTimestamp recebido) {
+		Requisicao nova = new Requisicao();
+		nova.recebido = recebido;
+		requisicao.set(nova);
+	}
+
+	/**
+	 * Última escrita feita pela requisição em andamento; null se não escreveu
+	 */
+	public BsonTimestamp getEscritaDaRequisicao() {
+		Requisicao atual = requisicao.get();
+		return atual != null ? atual.escrita : null;
+	}
+
+	public void encerrarRequisicao() {
+		requisicao.remove();
+	}
+
+	/**
+	 * Representação do momento trocada com o cliente HTTP
+	 */
+	public static String toToken(BsonTimestamp momento) {
+		return Long.toUnsignedString(momento.getValue());
+	}
+
+	/**
+	 * Lê o token enviado pelo cliente; null quando ausente ou inválido
+	 */
+	public static BsonTimestamp fromToken(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			return new BsonTimestamp(Long.parseUnsignedLong(token.trim()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static BsonTimestamp maior(BsonTimestamp a, BsonTimestamp b) {
+		if (a == null) {
+			return b;
+		}
+		if (b == null) {
+			return a;
+		}
+		return a.compareTo(b) >= 0 ? a : b;
+	}
+
+	private static final class Requisicao {
+		private BsonTimestamp recebido;
+		private BsonTimestamp escrita;
+	}
+}
@@ -0,0 +1,38 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.leitura;
+
+import java.util.Set;
+
+import org.bson.BsonValue;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Registra em ConsistenciaCausal o operationTime devolvido pelo servidor em
+ * cada escrita, sem que os adaptadores precisem abrir sessões explícitas
+ *
+ * No driver síncrono o evento é entregue na thread que executou o comando, a
+ * mesma da requisição HTTP.
+ */
+public class EscritaCausalListener implements CommandListener {
+
+	private static final Set<String> ESCRITAS = Set.of("insert", "update", "delete", "findAndModify");
+	private static final String CAMPO_OPERATION_TIME = "operationTime";
+
+	private final ConsistenciaCausal consistencia;
+
+	public EscritaCausalListener(ConsistenciaCausal consistencia) {
+		this.consistencia = consistencia;
+	}
+
+	@Override
+	public void commandSucceeded(CommandSucceededEvent event) {
+		if (!ESCRITAS.contains(event.getCommandName())) {
+			return;
+		}
+		BsonValue operationTime = event.getResponse().get(CAMPO_OPERATION_TIME);
+		if (operationTime != null && operationTime.isTimestamp()) {
+			consistencia.registrarEscrita(operationTime.asTimestamp());
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.leitura;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.bson.BsonTimestamp;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
+import com.mongodb.ReadPreferenceHedgeOptions;
+import com.mongodb.TaggableReadPreference;
+import com.mongodb.client.ClientSession;
+
+/**
+ * Para onde vai cada tipo de leitura da coleção de clientes
+ *
+ * Listagens, contagens e exportações aceitam dados levemente atrasados e vão
+ * para secundários (limitados por maxStaleness), aliviando o primary das
+ * escritas de cadastro. Buscas pontuais fora do primary rodam em uma sessão
+ * causalmente consistente avançada até a última escrita conhecida
+ * (ConsistenciaCausal): o secundário só responde depois de replicá-la.
+ * Existência de CPF/e-mail e leituras de escrita continuam no primary.
+ */
+public class RoteamentoLeitura {
+
+	private static final Duration MENOR_MAX_STALENESS = Duration.ofSeconds(90);
+	private static final ClientSessionOptions SESSAO_CAUSAL = ClientSessionOptions.builder()
+			.causallyConsistent(true)
+			.build();
+
+	private final ReadPreference listagem;
+	private final ReadPreference pontual;
+	private final ConsistenciaCausal consistencia;
+
+	public RoteamentoLeitura(ReadPreference listagem, ReadPreference pontual, ConsistenciaCausal consistencia) {
+		this.listagem = listagem;
+		this.pontual = pontual;
+		this.consistencia = consistencia;
+	}
+
+	/**
+	 * Todas as leituras no primary
+	 */
+	public static RoteamentoLeitura primario() {
+		return new RoteamentoLeitura(ReadPreference.primary(), ReadPreference.primary(), new ConsistenciaCausal());
+	}
+
+	/**
+	 * Monta a read preference pelo nome (primary, primaryPreferred, secondary,
+	 * secondaryPreferred, nearest); maxStaleness e hedge valem apenas fora do
+	 * primary
+	 */
+	@SuppressWarnings("deprecation")
+	public static ReadPreference preferencia(String modo, Duration maxStaleness, boolean hedged) {
+		ReadPreference base = ReadPreference.valueOf(modo);
+		if (!(base instanceof TaggableReadPreference taggable)) {
+			return base;
+		}
+		if (maxStaleness != null && maxStaleness.isPositive()) {
+			if (maxStaleness.compareTo(MENOR_MAX_STALENESS) < 0) {
+				throw new IllegalArgumentException(
+						"maxStaleness deve ser de pelo menos " + MENOR_MAX_STALENESS.toSeconds() + "s: " + maxStaleness);
+			}
+			taggable = ReadPreference.valueOf(modo, List.of(), maxStaleness.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		// hedged reads estão obsoletos a partir do MongoDB 8.0, mas seguem aceitos pelo mongos
+		return hedged ? taggable.withHedgeOptions(ReadPreferenceHedgeOptions.builder().enabled(true).build())
+				: taggable;
+	}
+
+	/**
+	 * Aplica à consulta a read preference das listagens
+	 */
+	public Query listagem(Query query) {
+		return query.withReadPreference(listagem);
+	}
+
+	/**
+	 * Aplica à agregação a read preference das listagens
+	 */
+	public Aggregation listagem(Aggregation aggregation) {
+		return aggregation.withOptions(AggregationOptions.builder().readPreference(listagem).build());
+	}
+
+	/**
+	 * Executa a busca pontual com a read preference configurada; fora do
+	 * primary, e havendo escrita conhecida, passa uma sessão causalmente
+	 * consistente (senão a sessão é null)
+	 */
+	public <T> T pontual(MongoTemplate mongoTemplate, BiFunction<ClientSession, ReadPreference, T> leitura) {
+		BsonTimestamp apos = isPontualNoPrimario() ? null : consistencia.getTokenLeitura();
+		if (apos == null) {
+			return leitura.apply(null, pontual);
+		}
+		try (ClientSession sessao = mongoTemplate.getMongoDatabaseFactory().getSession(SESSAO_CAUSAL)) {
+			sessao.advanceOperationTime(apos);
+			return leitura.apply(sessao, pontual);
+		}
+	}
+
+	public boolean isPontualNoPrimario() {
+		return ReadPreference.primary().equals(pontual);
+	}
+
+	public ReadPreference getListagem() {
+		return listagem;
+	}
+
+	public ReadPreference getPontual() {
+		return pontual;
+	}
+}
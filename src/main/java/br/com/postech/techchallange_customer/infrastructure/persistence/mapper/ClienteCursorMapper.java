@@ -0,0 +1,142 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Mapper para conversão entre a posição do último documento de uma página e o
+ * cursor opaco devolvido à API
+ * Formato (antes do Base64 URL-safe): ordenacao|dataCadastro|_id; na busca
+ * textual, busca|pontuacao|_id
+ */
+public class ClienteCursorMapper {
+
+	private static final String SEPARADOR = "|";
+	private static final String PREFIXO_BUSCA = "busca";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private ClienteCursorMapper() {
+		// Construtor privado para evitar instanciação
+	}
+
+	/**
+	 * Gera o cursor a partir do último cliente da página
+	 */
+	public static String toCursor(Cliente cliente, OrdenacaoCliente ordenacao) {
+		if (cliente == null) {
+			return null;
+		}
+
+		String dataCadastro = cliente.getDataCadastro() != null ? cliente.getDataCadastro().toString() : "";
+		String conteudo = ordenacao.getParametro() + SEPARADOR + dataCadastro + SEPARADOR + cliente.getId();
+		return ENCODER.encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Interpreta o cursor recebido, validando que pertence à mesma ordenação
+	 */
+	public static Posicao toPosicao(String cursor, OrdenacaoCliente ordenacao) {
+		if (cursor == null) {
+			return null;
+		}
+
+		try {
+			String conteudo = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+			String[] partes = conteudo.split("\\|", -1);
+
+			if (partes.length != 3 || !partes[0].equals(ordenacao.getParametro()) || partes[2].isEmpty()) {
+				throw cursorInvalido();
+			}
+
+			LocalDateTime dataCadastro = partes[1].isEmpty() ? null : LocalDateTime.parse(partes[1]);
+			return new Posicao(dataCadastro, partes[2]);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw cursorInvalido();
+		}
+	}
+
+	/**
+	 * Gera o cursor da busca textual a partir da relevância e do _id do último
+	 * documento da página
+	 */
+	public static String toCursorBusca(double pontuacao, String id) {
+		String conteudo = PREFIXO_BUSCA + SEPARADOR + pontuacao + SEPARADOR + id;
+		return ENCODER.encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Interpreta o cursor recebido na busca textual
+	 */
+	public static PosicaoBusca toPosicaoBusca(String cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		try {
+			String conteudo = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+			String[] partes = conteudo.split("\\|", -1);
+
+			if (partes.length != 3 || !partes[0].equals(PREFIXO_BUSCA) || partes[2].isEmpty()) {
+				throw cursorInvalido();
+			}
+
+			return new PosicaoBusca(Double.parseDouble(partes[1]), partes[2]);
+		} catch (IllegalArgumentException e) {
+			// NumberFormatException também é IllegalArgumentException
+			throw cursorInvalido();
+		}
+	}
+
+	private static InvalidClienteException cursorInvalido() {
+		return new InvalidClienteException("after", "cursor inválido ou de outra ordenação");
+	}
+
+	/**
+	 * Posição (chave de ordenação) do último documento lido
+	 */
+	public static class Posicao {
+		private final LocalDateTime dataCadastro;
+		private final String id;
+
+		public Posicao(LocalDateTime dataCadastro, String id) {
+			this.dataCadastro = dataCadastro;
+			this.id = id;
+		}
+
+		public LocalDateTime getDataCadastro() {
+			return dataCadastro;
+		}
+
+		public String getId() {
+			return id;
+		}
+	}
+
+	/**
+	 * Posição (relevância e _id) do último documento lido na busca textual
+	 */
+	public static class PosicaoBusca {
+		private final double pontuacao;
+		private final String id;
+
+		public PosicaoBusca(double pontuacao, String id) {
+			this.pontuacao = pontuacao;
+			this.id = id;
+		}
+
+		public double getPontuacao() {
+			return pontuacao;
+		}
+
+		public String getId() {
+			return id;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.pool;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.connection.ClusterSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.SocketSettings;
+
+/**
+ * Endpoint com a configuração efetiva do cliente do MongoDB
+ * GET /actuator/mongodbsettings: valores aplicados ao MongoClientSettings
+ * (URI, propriedades mongodb.* e padrões do driver) e conexões abertas por
+ * servidor. Credenciais não são expostas
+ */
+@Endpoint(id = "mongodbsettings")
+public class MongoConfiguracaoEndpoint {
+
+	private final MongoClientSettings settings;
+	private final MongoPoolConexoes conexoes;
+
+	public MongoConfiguracaoEndpoint(MongoClientSettings settings, MongoPoolConexoes conexoes) {
+		this.settings = settings;
+		this.conexoes = conexoes;
+	}
+
+	@ReadOperation
+	public Map<String, Object> configuracao() {
+		ClusterSettings cluster = settings.getClusterSettings();
+		ConnectionPoolSettings pool = settings.getConnectionPoolSettings();
+		SocketSettings socket = settings.getSocketSettings();
+		ServerSettings servidor = settings.getServerSettings();
+
+		Map<String, Object> poolInfo = new LinkedHashMap<>();
+		poolInfo.put("minSize", pool.getMinSize());
+		poolInfo.put("maxSize", pool.getMaxSize());
+		poolInfo.put("maxConnecting", pool.getMaxConnecting());
+		poolInfo.put("maxConnectionIdleTime", duracao(pool.getMaxConnectionIdleTime(TimeUnit.MILLISECONDS)));
+		poolInfo.put("maxConnectionLifeTime", duracao(pool.getMaxConnectionLifeTime(TimeUnit.MILLISECONDS)));
+		poolInfo.put("waitQueueTimeout", duracao(pool.getMaxWaitTime(TimeUnit.MILLISECONDS)));
+		poolInfo.put("conexoesAbertas", conexoes.getAbertas());
+
+		Map<String, Object> configuracao = new LinkedHashMap<>();
+		configuracao.put("hosts", cluster.getHosts().stream().map(Object::toString).toList());
+		configuracao.put("replicaSet", cluster.getRequiredReplicaSetName());
+		configuracao.put("pool", poolInfo);
+		configuracao.put("connectTimeout", duracao(socket.getConnectTimeout(TimeUnit.MILLISECONDS)));
+		configuracao.put("socketTimeout", duracao(socket.getReadTimeout(TimeUnit.MILLISECONDS)));
+		configuracao.put("serverSelectionTimeout",
+				duracao(cluster.getServerSelectionTimeout(TimeUnit.MILLISECONDS)));
+		configuracao.put("heartbeatFrequency", duracao(servidor.getHeartbeatFrequency(TimeUnit.MILLISECONDS)));
+		configuracao.put("compressors",
+				settings.getCompressorList().stream().map(MongoCompressor::getName).toList());
+		configuracao.put("readPreference", settings.getReadPreference().getName());
+		configuracao.put("readConcern", settings.getReadConcern().asDocument().toJson());
+		configuracao.put("writeConcern", settings.getWriteConcern().asDocument().toJson());
+		configuracao.put("retryWrites", settings.getRetryWrites());
+		configuracao.put("retryReads", settings.getRetryReads());
+		configuracao.put("tls", settings.getSslSettings().isEnabled());
+		return configuracao;
+	}
+
+	private static String duracao(long millis) {
+		return Duration.ofMillis(millis).toString();
+	}
+}
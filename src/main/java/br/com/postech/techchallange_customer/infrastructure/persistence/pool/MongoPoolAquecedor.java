@@ -0,0 +1,63 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.pool;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Segura a inicialização até o pool de cada servidor ter minPoolSize conexões
+ *
+ * O próprio driver abre as conexões mínimas em segundo plano assim que o
+ * servidor responde ao primeiro heartbeat; aqui só se espera por elas, para
+ * que as primeiras requisições não paguem a abertura de conexões (TCP, TLS e
+ * autenticação). Se o limite de espera acabar, a aplicação sobe mesmo assim e
+ * o driver continua completando o pool.
+ */
+public class MongoPoolAquecedor implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(MongoPoolAquecedor.class);
+
+	private final MongoPoolConexoes conexoes;
+	private final int minimo;
+	private final Duration limite;
+
+	private volatile boolean running;
+
+	public MongoPoolAquecedor(MongoPoolConexoes conexoes, int minimo, Duration limite) {
+		this.conexoes = conexoes;
+		this.minimo = minimo;
+		this.limite = limite;
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		if (minimo <= 0) {
+			return;
+		}
+		long inicio = System.nanoTime();
+		try {
+			if (conexoes.aguardarMinimo(minimo, limite)) {
+				log.info("Pool do MongoDB aquecido com {} conexões por servidor em {} ms: {}", minimo,
+						Duration.ofNanos(System.nanoTime() - inicio).toMillis(), conexoes.getAbertas());
+			} else {
+				log.warn("Pool do MongoDB não chegou a {} conexões por servidor em {}: {}", minimo, limite,
+						conexoes.getAbertas());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+}
@@ -0,0 +1,103 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.pool;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+/**
+ * Conexões abertas no pool de cada servidor, acompanhadas pelos eventos do
+ * driver
+ *
+ * Usado no pré-aquecimento (espera até cada pool ter o mínimo de conexões) e
+ * no relatório do endpoint mongodbsettings
+ */
+public class MongoPoolConexoes implements ConnectionPoolListener {
+
+	private final Map<ServerId, AtomicInteger> abertas = new ConcurrentHashMap<>();
+	private final ReentrantLock trava = new ReentrantLock();
+	private final Condition alterado = trava.newCondition();
+
+	@Override
+	public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+		abertas.putIfAbsent(event.getServerId(), new AtomicInteger());
+		sinalizar();
+	}
+
+	@Override
+	public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+		abertas.remove(event.getServerId());
+		sinalizar();
+	}
+
+	@Override
+	public void connectionCreated(ConnectionCreatedEvent event) {
+		abertas.computeIfAbsent(event.getConnectionId().getServerId(), chave -> new AtomicInteger())
+				.incrementAndGet();
+		sinalizar();
+	}
+
+	@Override
+	public void connectionClosed(ConnectionClosedEvent event) {
+		AtomicInteger contador = abertas.get(event.getConnectionId().getServerId());
+		if (contador != null) {
+			contador.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Conexões abertas por endereço de servidor, somando os clientes que usam
+	 * este listener (bloqueante e, no perfil reactive, reativo)
+	 */
+	public Map<String, Integer> getAbertas() {
+		Map<String, Integer> porServidor = new TreeMap<>();
+		abertas.forEach((servidor, contador) -> porServidor.merge(servidor.getAddress().toString(), contador.get(),
+				Integer::sum));
+		return porServidor;
+	}
+
+	/**
+	 * Aguarda até que exista ao menos um pool e todos (um por servidor e
+	 * cliente) tenham o mínimo de conexões abertas
+	 *
+	 * @return false se o limite de espera acabar antes
+	 */
+	public boolean aguardarMinimo(int minimo, Duration limite) throws InterruptedException {
+		long restante = limite.toNanos();
+		trava.lock();
+		try {
+			while (!atingiuMinimo(minimo)) {
+				if (restante <= 0) {
+					return false;
+				}
+				restante = alterado.awaitNanos(restante);
+			}
+			return true;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	private boolean atingiuMinimo(int minimo) {
+		return !abertas.isEmpty() && abertas.values().stream().allMatch(contador -> contador.get() >= minimo);
+	}
+
+	private void sinalizar() {
+		trava.lock();
+		try {
+			alterado.signalAll();
+		} finally {
+			trava.unlock();
+		}
+	}
+}
@@ -78,7 +78,7 @@ public interface ClienteMongoRepository extends MongoRepository<ClienteDocument,
 	boolean existsByEmailCliente(String emailCliente);
 
 	/**
-	 * Deleta por clienteId
+	 * Deleta por clienteId, retornando a quantidade removida
 	 */
-	void deleteByClienteId(String clienteId);
+	long deleteByClienteId(String clienteId);
 }
@@ -1,11 +1,17 @@
 package br.com.postech.techchallange_customer.infrastructure.rest.adapter;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,60 +20,128 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.postech.techchallange_customer.application.dto.AlteracaoEmMassaDTO;
 import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoAlteracaoEmMassaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoLoteDTO;
 import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClientesEmMassaUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.AtualizarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.AutocompletarClienteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.BuscarClienteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.CriarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.CriarClientesEmLoteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.DeletarClienteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.DesativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ExportarClientesUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.ListarClientesUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.ReativarClienteUseCase;
+import br.com.postech.techchallange_customer.infrastructure.config.ReactiveConfig;
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJson;
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJsonReader;
+import br.com.postech.techchallange_customer.infrastructure.rest.cache.ValidadorCliente;
+import br.com.postech.techchallange_customer.infrastructure.rest.cache.ValidadoresHttp;
+import br.com.postech.techchallange_customer.infrastructure.rest.export.ClienteExportWriter;
+import br.com.postech.techchallange_customer.infrastructure.rest.export.FormatoExportacao;
+import br.com.postech.techchallange_customer.infrastructure.rest.json.ClienteMergePatch;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 
 /**
  * Adaptador REST (Controller)
- * Expõe as APIs REST e delega para os casos de uso
+ * Expõe as APIs REST e delega para os casos de uso; no perfil reactive as
+ * mesmas rotas são atendidas por ReactiveClienteRestAdapter
  */
 @RestController
 @RequestMapping("/api/v1/clientes")
+@Profile("!" + ReactiveConfig.PERFIL)
 @Tag(name = "Clientes", description = "Endpoints para gerenciamento de clientes")
 public class ClienteRestAdapter {
 
 	private static final Logger log = LoggerFactory.getLogger(ClienteRestAdapter.class);
+	private static final ProjecaoCliente SUGESTAO = ProjecaoCliente.of("clienteId", "nomeCliente", "emailCliente");
+	private static final ProjecaoCliente VALIDADORES = ProjecaoCliente.of("clienteId", "versao", "dataUltimaAtualizacao");
 
 	private final CriarClienteUseCase criarClienteUseCase;
+	private final CriarClientesEmLoteUseCase criarClientesEmLoteUseCase;
 	private final BuscarClienteUseCase buscarClienteUseCase;
 	private final ListarClientesUseCase listarClientesUseCase;
 	private final AtualizarClienteUseCase atualizarClienteUseCase;
+	private final AlterarClienteUseCase alterarClienteUseCase;
 	private final DesativarClienteUseCase desativarClienteUseCase;
 	private final ReativarClienteUseCase reativarClienteUseCase;
 	private final DeletarClienteUseCase deletarClienteUseCase;
+	private final AlterarClientesEmMassaUseCase alterarClientesEmMassaUseCase;
+	private final ExportarClientesUseCase exportarClientesUseCase;
+	private final AutocompletarClienteUseCase autocompletarClienteUseCase;
+	private final ClienteExportWriter exportWriter;
+	private final Validator validator;
+	private final ValidadoresHttp validadoresHttp;
+
+	/**
+	 * Buscas pontuais com o BSON transcodificado direto em JSON; nulo quando
+	 * clientes.json-direto.enabled está desligado
+	 */
+	private final ClienteJsonReader clienteJsonReader;
 
 	public ClienteRestAdapter(
 			CriarClienteUseCase criarClienteUseCase,
+			CriarClientesEmLoteUseCase criarClientesEmLoteUseCase,
 			BuscarClienteUseCase buscarClienteUseCase,
 			ListarClientesUseCase listarClientesUseCase,
 			AtualizarClienteUseCase atualizarClienteUseCase,
+			AlterarClienteUseCase alterarClienteUseCase,
 			DesativarClienteUseCase desativarClienteUseCase,
 			ReativarClienteUseCase reativarClienteUseCase,
-			DeletarClienteUseCase deletarClienteUseCase) {
+			DeletarClienteUseCase deletarClienteUseCase,
+			AlterarClientesEmMassaUseCase alterarClientesEmMassaUseCase,
+			ExportarClientesUseCase exportarClientesUseCase,
+			AutocompletarClienteUseCase autocompletarClienteUseCase,
+			ClienteExportWriter exportWriter,
+			ValidadoresHttp validadoresHttp,
+			ObjectProvider<ClienteJsonReader> clienteJsonReader,
+			Validator validator) {
 		this.criarClienteUseCase = criarClienteUseCase;
+		this.criarClientesEmLoteUseCase = criarClientesEmLoteUseCase;
 		this.buscarClienteUseCase = buscarClienteUseCase;
 		this.listarClientesUseCase = listarClientesUseCase;
 		this.atualizarClienteUseCase = atualizarClienteUseCase;
+		this.alterarClienteUseCase = alterarClienteUseCase;
 		this.desativarClienteUseCase = desativarClienteUseCase;
 		this.reativarClienteUseCase = reativarClienteUseCase;
 		this.deletarClienteUseCase = deletarClienteUseCase;
+		this.alterarClientesEmMassaUseCase = alterarClientesEmMassaUseCase;
+		this.exportarClientesUseCase = exportarClientesUseCase;
+		this.autocompletarClienteUseCase = autocompletarClienteUseCase;
+		this.exportWriter = exportWriter;
+		this.validadoresHttp = validadoresHttp;
+		this.clienteJsonReader = clienteJsonReader.getIfAvailable();
+		this.validator = validator;
 	}
 
 	@Operation(summary = "Criar novo cliente", description = "Cria um novo cliente no sistema")
@@ -87,95 +161,230 @@ public class ClienteRestAdapter {
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	@Operation(summary = "Criar clientes em lote", description = "Valida e grava vários clientes em escritas em lote; "
+			+ "itens inválidos ou com CPF/e-mail já cadastrado são informados individualmente sem interromper o lote")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "201", description = "Todos os clientes criados"),
+			@ApiResponse(responseCode = "207", description = "Lote processado com itens rejeitados"),
+			@ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite")
+	})
+	@PostMapping("/batch")
+	public ResponseEntity<ResultadoLoteDTO> criarEmLote(@RequestBody List<ClienteDTO> clientesDTO) {
+		log.info("POST /api/v1/clientes/batch - Criar {} clientes em lote", clientesDTO == null ? 0 : clientesDTO.size());
+
+		List<Cliente> clientes = clientesDTO == null ? List.of()
+				: clientesDTO.stream().map(ClienteMapper::toDomain).toList();
+		Map<Integer, String> invalidos = ValidacaoLote.invalidos(validator, clientesDTO);
+		List<ResultadoItemLote> resultados = criarClientesEmLoteUseCase.execute(clientes, invalidos);
+		ResultadoLoteDTO response = ClienteMapper.toResultadoLoteDTO(resultados);
+
+		HttpStatus status = response.getRejeitados() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+		return ResponseEntity.status(status).body(response);
+	}
+
 	@Operation(summary = "Buscar cliente por ID", description = "Retorna os dados de um cliente pelo clienteId (UUID)")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+			@ApiResponse(responseCode = "200", description = "Cliente encontrado", content = @Content(schema = @Schema(implementation = ClienteDTO.class))),
+			@ApiResponse(responseCode = "304", description = "Cliente não modificado (If-None-Match/If-Modified-Since)"),
 			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
 	})
 	@GetMapping("/{clienteId}")
-	public ResponseEntity<ClienteDTO> buscarPorId(
-			@Parameter(description = "UUID do cliente") @PathVariable String clienteId) {
+	public ResponseEntity<?> buscarPorId(
+			@Parameter(description = "UUID do cliente") @PathVariable String clienteId,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields,
+			@Parameter(hidden = true) @RequestHeader HttpHeaders cabecalhos) {
 		log.info("GET /api/v1/clientes/{} - Buscar por ID", clienteId);
 
-		return buscarClienteUseCase.porClienteId(clienteId)
-				.map(ClienteMapper::toDTO)
-				.map(ResponseEntity::ok)
-				.orElse(ResponseEntity.notFound().build());
+		return this.buscarUm(ProjecaoCliente.fromParametro(fields), cabecalhos,
+				projecao -> buscarClienteUseCase.porClienteId(clienteId, projecao),
+				projecao -> clienteJsonReader.porClienteId(clienteId, projecao));
 	}
 
 	@Operation(summary = "Buscar cliente por CPF", description = "Retorna os dados de um cliente pelo CPF")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+			@ApiResponse(responseCode = "200", description = "Cliente encontrado", content = @Content(schema = @Schema(implementation = ClienteDTO.class))),
+			@ApiResponse(responseCode = "304", description = "Cliente não modificado (If-None-Match/If-Modified-Since)"),
 			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
 	})
 	@GetMapping("/cpf/{cpf}")
-	public ResponseEntity<ClienteDTO> buscarPorCpf(
-			@Parameter(description = "CPF do cliente (11 dígitos)") @PathVariable String cpf) {
+	public ResponseEntity<?> buscarPorCpf(
+			@Parameter(description = "CPF do cliente (11 dígitos)") @PathVariable String cpf,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields,
+			@Parameter(hidden = true) @RequestHeader HttpHeaders cabecalhos) {
 		log.info("GET /api/v1/clientes/cpf/{} - Buscar por CPF", cpf);
 
-		return buscarClienteUseCase.porCpf(cpf)
-				.map(ClienteMapper::toDTO)
-				.map(ResponseEntity::ok)
-				.orElse(ResponseEntity.notFound().build());
+		return this.buscarUm(ProjecaoCliente.fromParametro(fields), cabecalhos,
+				projecao -> buscarClienteUseCase.porCpf(cpf, projecao),
+				projecao -> clienteJsonReader.porCpf(cpf, projecao));
 	}
 
 	@Operation(summary = "Buscar cliente por e-mail", description = "Retorna os dados de um cliente pelo e-mail")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+			@ApiResponse(responseCode = "200", description = "Cliente encontrado", content = @Content(schema = @Schema(implementation = ClienteDTO.class))),
+			@ApiResponse(responseCode = "304", description = "Cliente não modificado (If-None-Match/If-Modified-Since)"),
 			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
 	})
 	@GetMapping("/email/{email}")
-	public ResponseEntity<ClienteDTO> buscarPorEmail(
-			@Parameter(description = "E-mail do cliente") @PathVariable String email) {
+	public ResponseEntity<?> buscarPorEmail(
+			@Parameter(description = "E-mail do cliente") @PathVariable String email,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields,
+			@Parameter(hidden = true) @RequestHeader HttpHeaders cabecalhos) {
 		log.info("GET /api/v1/clientes/email/{} - Buscar por e-mail", email);
 
-		return buscarClienteUseCase.porEmail(email)
-				.map(ClienteMapper::toDTO)
-				.map(ResponseEntity::ok)
-				.orElse(ResponseEntity.notFound().build());
+		return this.buscarUm(ProjecaoCliente.fromParametro(fields), cabecalhos,
+				projecao -> buscarClienteUseCase.porEmail(email, projecao),
+				projecao -> clienteJsonReader.porEmail(email, projecao));
 	}
 
-	@Operation(summary = "Listar clientes ativos", description = "Retorna lista de todos os clientes ativos")
+	@Operation(summary = "Listar clientes ativos", description = "Retorna uma página de clientes ativos (paginação por cursor)")
 	@GetMapping("/ativos")
-	public ResponseEntity<List<ClienteDTO>> listarAtivos() {
+	public ResponseEntity<PaginaDTO<ClienteDTO>> listarAtivos(
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
 		log.info("GET /api/v1/clientes/ativos - Listar clientes ativos");
 
-		List<ClienteDTO> clientes = listarClientesUseCase.ativos().stream()
-				.map(ClienteMapper::toDTO)
-				.collect(Collectors.toList());
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
 
-		return ResponseEntity.ok(clientes);
+		return ResponseEntity.ok(
+				ClienteMapper.toPaginaDTO(listarClientesUseCase.ativos(consulta), consulta.getProjecao()));
 	}
 
-	@Operation(summary = "Listar todos os clientes", description = "Retorna lista de todos os clientes")
+	@Operation(summary = "Listar todos os clientes", description = "Retorna uma página de clientes (paginação por cursor)")
 	@GetMapping
-	public ResponseEntity<List<ClienteDTO>> listarTodos() {
+	public ResponseEntity<PaginaDTO<ClienteDTO>> listarTodos(
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
 		log.info("GET /api/v1/clientes - Listar todos");
 
-		List<ClienteDTO> clientes = listarClientesUseCase.todos().stream()
-				.map(ClienteMapper::toDTO)
-				.collect(Collectors.toList());
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
+
+		return ResponseEntity.ok(
+				ClienteMapper.toPaginaDTO(listarClientesUseCase.todos(consulta), consulta.getProjecao()));
+	}
+
+	@Operation(summary = "Buscar clientes por nome", description = "Busca textual no nome, ordenada por relevância (paginação por cursor)")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Página de clientes encontrados"),
+			@ApiResponse(responseCode = "400", description = "Texto da busca ausente ou cursor inválido")
+	})
+	@GetMapping("/search")
+	public ResponseEntity<PaginaDTO<ClienteDTO>> buscarPorNome(
+			@Parameter(description = "Palavras do nome; aceita \"frase exata\" e -exclusão") @RequestParam(required = false) String q,
+			@Parameter(description = "Filtra por status ativo/inativo") @RequestParam(required = false) Boolean ativo,
+			@Parameter(description = "Filtra por estado (UF)") @RequestParam(required = false) String estado,
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/search - Buscar por nome");
+
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, null, fields);
+		FiltroCliente filtro = new FiltroCliente(ativo, null, estado, null);
+
+		return ResponseEntity.ok(ClienteMapper.toPaginaDTO(listarClientesUseCase.porNome(q, filtro, consulta),
+				consulta.getProjecao()));
+	}
 
-		return ResponseEntity.ok(clientes);
+	@Operation(summary = "Autocompletar clientes", description = "Sugestões de clientes ativos pelo início do nome ou e-mail, tolerando um erro de digitação")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Sugestões (clienteId, nomeCliente e emailCliente)"),
+			@ApiResponse(responseCode = "400", description = "Texto ausente")
+	})
+	@GetMapping("/autocomplete")
+	public ResponseEntity<List<ClienteDTO>> autocompletar(
+			@Parameter(description = "Início do nome (uma ou mais palavras) ou do e-mail") @RequestParam(required = false) String q,
+			@Parameter(description = "Quantidade de sugestões (padrão 10, máximo 20)") @RequestParam(required = false) Integer limit) {
+		// uma requisição por tecla digitada: fica fora do log de info
+		log.debug("GET /api/v1/clientes/autocomplete - Autocompletar");
+
+		List<ClienteDTO> sugestoes = autocompletarClienteUseCase.sugerir(q, limit).stream()
+				.map(cliente -> ClienteMapper.toDTO(cliente, SUGESTAO))
+				.toList();
+
+		return ResponseEntity.ok(sugestoes);
+	}
+
+	@Operation(summary = "Exportar clientes", description = "Exporta clientes em fluxo contínuo (NDJSON ou CSV), com filtros opcionais")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+			@ApiResponse(responseCode = "400", description = "Formato inválido")
+	})
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportar(
+			@Parameter(description = "Formato: ndjson (padrão) ou csv") @RequestParam(required = false) String formato,
+			@Parameter(description = "Filtra por status ativo/inativo") @RequestParam(required = false) Boolean ativo,
+			@Parameter(description = "Filtra por cidade") @RequestParam(required = false) String cidade,
+			@Parameter(description = "Filtra por estado (UF)") @RequestParam(required = false) String estado,
+			@Parameter(description = "Filtra por tag") @RequestParam(required = false) String tag) {
+		log.info("GET /api/v1/clientes/export - Exportar clientes (formato={})", formato);
+
+		FormatoExportacao formatoExportacao = FormatoExportacao.fromParametro(formato);
+		FiltroCliente filtro = new FiltroCliente(ativo, cidade, estado, tag);
+
+		StreamingResponseBody body = outputStream -> {
+			try (ClienteExportWriter.Escritor escritor = exportWriter.abrir(formatoExportacao, outputStream)) {
+				long total = exportarClientesUseCase.execute(filtro, escritor::escrever);
+				log.info("Exportação concluída: {} clientes", total);
+			}
+		};
+
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(formatoExportacao.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"clientes." + formatoExportacao.getExtensao() + "\"")
+				.body(body);
 	}
 
 	@Operation(summary = "Atualizar cliente", description = "Atualiza os dados de um cliente")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Cliente atualizado com sucesso"),
 			@ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
-			@ApiResponse(responseCode = "400", description = "Dados inválidos")
+			@ApiResponse(responseCode = "400", description = "Dados inválidos"),
+			@ApiResponse(responseCode = "409", description = "Cliente alterado por outra requisição durante a atualização"),
+			@ApiResponse(responseCode = "412", description = "Cliente não está na versão informada em If-Match")
 	})
 	@PutMapping("/{clienteId}")
 	public ResponseEntity<ClienteDTO> atualizar(
 			@Parameter(description = "UUID do cliente") @PathVariable String clienteId,
-			@Valid @RequestBody ClienteDTO clienteDTO) {
+			@Valid @RequestBody ClienteDTO clienteDTO,
+			@Parameter(hidden = true) @RequestHeader HttpHeaders cabecalhos) {
 		log.info("PUT /api/v1/clientes/{} - Atualizar", clienteId);
 
 		Cliente cliente = ClienteMapper.toDomain(clienteDTO);
-		Cliente updated = atualizarClienteUseCase.execute(clienteId, cliente);
+		Cliente updated = atualizarClienteUseCase.execute(clienteId, cliente,
+				validadoresHttp.versaoEsperada(cabecalhos, clienteId));
 		ClienteDTO response = ClienteMapper.toDTO(updated);
 
-		return ResponseEntity.ok(response);
+		return validadoresHttp.ok(ValidadorCliente.of(updated)).body(response);
+	}
+
+	@Operation(summary = "Alterar cliente parcialmente",
+			description = "Aplica um JSON Merge Patch (RFC 7396): campos com valor são substituídos, campos null "
+					+ "removidos e os ausentes mantidos; endereco e metadata são mesclados. Com If-Match (ETag do "
+					+ "GET), a alteração só é gravada se o cliente ainda estiver naquela versão")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Cliente alterado com sucesso"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+			@ApiResponse(responseCode = "400", description = "Patch inválido ou cliente resultante inválido"),
+			@ApiResponse(responseCode = "409", description = "Campos alterados também mudaram em outra requisição"),
+			@ApiResponse(responseCode = "412", description = "Cliente não está na versão informada em If-Match")
+	})
+	@PatchMapping(value = "/{clienteId}", consumes = { "application/merge-patch+json",
+			MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<ClienteDTO> alterar(
+			@Parameter(description = "UUID do cliente") @PathVariable String clienteId,
+			@RequestBody JsonNode patch,
+			@Parameter(hidden = true) @RequestHeader HttpHeaders cabecalhos) {
+		log.info("PATCH /api/v1/clientes/{} - Alterar parcialmente", clienteId);
+
+		AlteracaoCliente alteracao = ClienteMergePatch.toAlteracao(patch);
+		Cliente alterado = alterarClienteUseCase.execute(clienteId, alteracao,
+				validadoresHttp.versaoEsperada(cabecalhos, clienteId));
+
+		return validadoresHttp.ok(ValidadorCliente.of(alterado)).body(ClienteMapper.toDTO(alterado));
 	}
 
 	@Operation(summary = "Desativar cliente", description = "Desativa um cliente (soft delete)")
@@ -206,6 +415,31 @@ public class ClienteRestAdapter {
 		return ResponseEntity.noContent().build();
 	}
 
+	@Operation(summary = "Alterar clientes em massa", description = "Desativa, reativa, adiciona ou remove uma tag "
+			+ "de todos os clientes do filtro em uma única operação no banco; com dryRun=true apenas conta os "
+			+ "clientes que seriam alterados")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Alteração aplicada (ou simulada)"),
+			@ApiResponse(responseCode = "400", description = "Operação inválida, tag ausente ou filtro vazio")
+	})
+	@PatchMapping("/bulk")
+	public ResponseEntity<ResultadoAlteracaoEmMassaDTO> alterarEmMassa(
+			@Valid @RequestBody AlteracaoEmMassaDTO alteracaoDTO,
+			@Parameter(description = "Filtra por status ativo/inativo") @RequestParam(required = false) Boolean ativo,
+			@Parameter(description = "Filtra por cidade") @RequestParam(required = false) String cidade,
+			@Parameter(description = "Filtra por estado (UF)") @RequestParam(required = false) String estado,
+			@Parameter(description = "Filtra por tag") @RequestParam(required = false) String tag,
+			@Parameter(description = "Apenas conta os clientes que seriam alterados") @RequestParam(defaultValue = "false") boolean dryRun) {
+		log.info("PATCH /api/v1/clientes/bulk - Operação {} (dryRun={})", alteracaoDTO.getOperacao(), dryRun);
+
+		FiltroCliente filtro = new FiltroCliente(ativo, cidade, estado, tag);
+		ResultadoAlteracaoEmMassa resultado = alterarClientesEmMassaUseCase.execute(filtro,
+				ClienteMapper.toAlteracaoEmMassa(alteracaoDTO), dryRun);
+		log.info("Alteração em massa: {} encontrados, {} alterados", resultado.getEncontrados(), resultado.getAlterados());
+
+		return ResponseEntity.ok(ClienteMapper.toResultadoAlteracaoEmMassaDTO(resultado));
+	}
+
 	@Operation(summary = "Deletar cliente permanentemente", description = "Remove permanentemente um cliente do banco (CUIDADO!)")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "204", description = "Cliente deletado permanentemente"),
@@ -220,28 +454,35 @@ public class ClienteRestAdapter {
 		return ResponseEntity.noContent().build();
 	}
 
-	@Operation(summary = "Buscar clientes por cidade", description = "Lista clientes ativos de uma cidade")
+	@Operation(summary = "Buscar clientes por cidade", description = "Lista clientes ativos de uma cidade (paginação por cursor)")
 	@GetMapping("/cidade/{cidade}")
-	public ResponseEntity<List<ClienteDTO>> buscarPorCidade(@PathVariable String cidade) {
+	public ResponseEntity<PaginaDTO<ClienteDTO>> buscarPorCidade(
+			@PathVariable String cidade,
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
 		log.info("GET /api/v1/clientes/cidade/{}", cidade);
 
-		List<ClienteDTO> clientes = listarClientesUseCase.porCidade(cidade).stream()
-				.map(ClienteMapper::toDTO)
-				.collect(Collectors.toList());
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
 
-		return ResponseEntity.ok(clientes);
+		return ResponseEntity.ok(
+				ClienteMapper.toPaginaDTO(listarClientesUseCase.porCidade(cidade, consulta), consulta.getProjecao()));
 	}
 
-	@Operation(summary = "Buscar clientes VIP", description = "Lista todos os clientes VIP ativos")
+	@Operation(summary = "Buscar clientes VIP", description = "Lista clientes VIP ativos (paginação por cursor)")
 	@GetMapping("/vip")
-	public ResponseEntity<List<ClienteDTO>> buscarClientesVip() {
+	public ResponseEntity<PaginaDTO<ClienteDTO>> buscarClientesVip(
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
 		log.info("GET /api/v1/clientes/vip");
 
-		List<ClienteDTO> clientes = listarClientesUseCase.vipAtivos().stream()
-				.map(ClienteMapper::toDTO)
-				.collect(Collectors.toList());
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
 
-		return ResponseEntity.ok(clientes);
+		return ResponseEntity.ok(
+				ClienteMapper.toPaginaDTO(listarClientesUseCase.vipAtivos(consulta), consulta.getProjecao()));
 	}
 
 	@Operation(summary = "Contar clientes ativos", description = "Retorna o total de clientes ativos")
@@ -251,4 +492,42 @@ public class ClienteRestAdapter {
 
 		return ResponseEntity.ok(listarClientesUseCase.contarAtivos());
 	}
+
+	/**
+	 * Busca pontual com ETag/Last-Modified; em requisição condicional compara
+	 * antes a versão lida só com os campos dos validadores e, se o cliente não
+	 * mudou, responde 304 sem ler nem serializar o documento completo
+	 */
+	private ResponseEntity<?> buscarUm(ProjecaoCliente projecao, HttpHeaders cabecalhos,
+			Function<ProjecaoCliente, Optional<Cliente>> busca,
+			Function<ProjecaoCliente, Optional<ClienteJson>> buscaJson) {
+		if (validadoresHttp.isCondicional(cabecalhos)) {
+			Optional<ValidadorCliente> atual = clienteJsonReader != null
+					? buscaJson.apply(VALIDADORES).map(ValidadorCliente::of)
+					: busca.apply(VALIDADORES).map(ValidadorCliente::of);
+			if (atual.isPresent() && validadoresHttp.naoModificado(cabecalhos, atual.get())) {
+				return validadoresHttp.naoModificado(atual.get());
+			}
+		}
+
+		if (clienteJsonReader != null) {
+			return buscaJson.apply(projecao)
+					.map(json -> validadoresHttp.ok(ValidadorCliente.of(json))
+							.contentType(MediaType.APPLICATION_JSON)
+							.body(json.corpo()))
+					.orElse(ResponseEntity.notFound().build());
+		}
+
+		// os campos dos validadores são lidos mesmo fora de fields, mas não vão ao corpo
+		ProjecaoCliente leitura = validadoresHttp.isAtivo() ? projecao.com(VALIDADORES) : projecao;
+		return busca.apply(leitura)
+				.map(cliente -> validadoresHttp.ok(ValidadorCliente.of(cliente))
+						.body(ClienteMapper.toDTO(cliente, projecao)))
+				.orElse(ResponseEntity.notFound().build());
+	}
+
+	private ConsultaPaginada toConsultaPaginada(Integer limit, String after, String sort, String fields) {
+		return new ConsultaPaginada(limit, after, OrdenacaoCliente.fromParametro(sort),
+				ProjecaoCliente.fromParametro(fields));
+	}
 }
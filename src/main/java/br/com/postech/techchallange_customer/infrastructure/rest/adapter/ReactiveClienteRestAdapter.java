@@ -0,0 +1,433 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.adapter;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.postech.techchallange_customer.application.dto.AlteracaoEmMassaDTO;
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoAlteracaoEmMassaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoLoteDTO;
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClientesEmMassaUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.CriarClientesEmLoteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveAtualizarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveBuscarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveCriarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDeletarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDesativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveListarClientesUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveReativarClienteUseCase;
+import br.com.postech.techchallange_customer.infrastructure.config.ReactiveConfig;
+import br.com.postech.techchallange_customer.infrastructure.rest.export.ClienteExportWriter;
+import br.com.postech.techchallange_customer.infrastructure.rest.export.FormatoExportacao;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Adaptador REST reativo (WebFlux), ativo no perfil reactive
+ * Mesmas rotas e contratos de ClienteRestAdapter, delegando para os casos de
+ * uso Mono/Flux: nenhuma thread do servidor fica presa aguardando o MongoDB.
+ * As listagens também atendem Accept: application/x-ndjson, emitindo todos os
+ * clientes da rota conforme o cliente HTTP consome (backpressure até o cursor
+ * do banco). Lote e alteração em massa continuam nos casos de uso
+ * bloqueantes, executados no scheduler boundedElastic.
+ */
+@RestController
+@RequestMapping("/api/v1/clientes")
+@Profile(ReactiveConfig.PERFIL)
+@Tag(name = "Clientes", description = "Endpoints para gerenciamento de clientes")
+public class ReactiveClienteRestAdapter {
+
+	private static final Logger log = LoggerFactory.getLogger(ReactiveClienteRestAdapter.class);
+
+	private final ReactiveCriarClienteUseCase criarClienteUseCase;
+	private final CriarClientesEmLoteUseCase criarClientesEmLoteUseCase;
+	private final ReactiveBuscarClienteUseCase buscarClienteUseCase;
+	private final ReactiveListarClientesUseCase listarClientesUseCase;
+	private final ReactiveAtualizarClienteUseCase atualizarClienteUseCase;
+	private final ReactiveDesativarClienteUseCase desativarClienteUseCase;
+	private final ReactiveReativarClienteUseCase reativarClienteUseCase;
+	private final ReactiveDeletarClienteUseCase deletarClienteUseCase;
+	private final AlterarClientesEmMassaUseCase alterarClientesEmMassaUseCase;
+	private final ClienteExportWriter exportWriter;
+	private final Validator validator;
+
+	public ReactiveClienteRestAdapter(
+			ReactiveCriarClienteUseCase criarClienteUseCase,
+			CriarClientesEmLoteUseCase criarClientesEmLoteUseCase,
+			ReactiveBuscarClienteUseCase buscarClienteUseCase,
+			ReactiveListarClientesUseCase listarClientesUseCase,
+			ReactiveAtualizarClienteUseCase atualizarClienteUseCase,
+			ReactiveDesativarClienteUseCase desativarClienteUseCase,
+			ReactiveReativarClienteUseCase reativarClienteUseCase,
+			ReactiveDeletarClienteUseCase deletarClienteUseCase,
+			AlterarClientesEmMassaUseCase alterarClientesEmMassaUseCase,
+			ClienteExportWriter exportWriter,
+			Validator validator) {
+		this.criarClienteUseCase = criarClienteUseCase;
+		this.criarClientesEmLoteUseCase = criarClientesEmLoteUseCase;
+		this.buscarClienteUseCase = buscarClienteUseCase;
+		this.listarClientesUseCase = listarClientesUseCase;
+		this.atualizarClienteUseCase = atualizarClienteUseCase;
+		this.desativarClienteUseCase = desativarClienteUseCase;
+		this.reativarClienteUseCase = reativarClienteUseCase;
+		this.deletarClienteUseCase = deletarClienteUseCase;
+		this.alterarClientesEmMassaUseCase = alterarClientesEmMassaUseCase;
+		this.exportWriter = exportWriter;
+		this.validator = validator;
+	}
+
+	@Operation(summary = "Criar novo cliente", description = "Cria um novo cliente no sistema")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "201", description = "Cliente criado com sucesso"),
+			@ApiResponse(responseCode = "400", description = "Dados inválidos"),
+			@ApiResponse(responseCode = "409", description = "CPF ou e-mail já cadastrado")
+	})
+	@PostMapping
+	public Mono<ResponseEntity<ClienteDTO>> criar(@Valid @RequestBody ClienteDTO clienteDTO) {
+		log.info("POST /api/v1/clientes - Criar novo cliente");
+
+		return criarClienteUseCase.execute(ClienteMapper.toDomain(clienteDTO))
+				.map(created -> ResponseEntity.status(HttpStatus.CREATED).body(ClienteMapper.toDTO(created)));
+	}
+
+	@Operation(summary = "Criar clientes em lote", description = "Valida e grava vários clientes em escritas em lote; "
+			+ "itens inválidos ou com CPF/e-mail já cadastrado são informados individualmente sem interromper o lote")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "201", description = "Todos os clientes criados"),
+			@ApiResponse(responseCode = "207", description = "Lote processado com itens rejeitados"),
+			@ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite")
+	})
+	@PostMapping("/batch")
+	public Mono<ResponseEntity<ResultadoLoteDTO>> criarEmLote(@RequestBody List<ClienteDTO> clientesDTO) {
+		log.info("POST /api/v1/clientes/batch - Criar {} clientes em lote", clientesDTO == null ? 0 : clientesDTO.size());
+
+		List<Cliente> clientes = clientesDTO == null ? List.of()
+				: clientesDTO.stream().map(ClienteMapper::toDomain).toList();
+		Map<Integer, String> invalidos = ValidacaoLote.invalidos(validator, clientesDTO);
+
+		return Mono.fromCallable(() -> ClienteMapper.toResultadoLoteDTO(criarClientesEmLoteUseCase.execute(clientes, invalidos)))
+				.subscribeOn(Schedulers.boundedElastic())
+				.map(response -> ResponseEntity
+						.status(response.getRejeitados() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+						.body(response));
+	}
+
+	@Operation(summary = "Buscar cliente por ID", description = "Retorna os dados de um cliente pelo clienteId (UUID)")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+	})
+	@GetMapping("/{clienteId}")
+	public Mono<ResponseEntity<ClienteDTO>> buscarPorId(
+			@Parameter(description = "UUID do cliente") @PathVariable String clienteId,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/{} - Buscar por ID", clienteId);
+
+		ProjecaoCliente projecao = ProjecaoCliente.fromParametro(fields);
+		return this.toResposta(buscarClienteUseCase.porClienteId(clienteId, projecao), projecao);
+	}
+
+	@Operation(summary = "Buscar cliente por CPF", description = "Retorna os dados de um cliente pelo CPF")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+	})
+	@GetMapping("/cpf/{cpf}")
+	public Mono<ResponseEntity<ClienteDTO>> buscarPorCpf(
+			@Parameter(description = "CPF do cliente (11 dígitos)") @PathVariable String cpf,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/cpf/{} - Buscar por CPF", cpf);
+
+		ProjecaoCliente projecao = ProjecaoCliente.fromParametro(fields);
+		return this.toResposta(buscarClienteUseCase.porCpf(cpf, projecao), projecao);
+	}
+
+	@Operation(summary = "Buscar cliente por e-mail", description = "Retorna os dados de um cliente pelo e-mail")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+	})
+	@GetMapping("/email/{email}")
+	public Mono<ResponseEntity<ClienteDTO>> buscarPorEmail(
+			@Parameter(description = "E-mail do cliente") @PathVariable String email,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/email/{} - Buscar por e-mail", email);
+
+		ProjecaoCliente projecao = ProjecaoCliente.fromParametro(fields);
+		return this.toResposta(buscarClienteUseCase.porEmail(email, projecao), projecao);
+	}
+
+	@Operation(summary = "Listar clientes ativos", description = "Retorna uma página de clientes ativos (paginação por cursor)")
+	@GetMapping("/ativos")
+	public Mono<ResponseEntity<PaginaDTO<ClienteDTO>>> listarAtivos(
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/ativos - Listar clientes ativos");
+
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
+
+		return listarClientesUseCase.ativos(consulta)
+				.map(pagina -> ResponseEntity.ok(ClienteMapper.toPaginaDTO(pagina, consulta.getProjecao())));
+	}
+
+	@Operation(summary = "Transmitir clientes ativos", description = "Emite todos os clientes ativos em NDJSON, conforme o consumo")
+	@GetMapping(value = "/ativos", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<ClienteDTO> transmitirAtivos(
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/ativos - Transmitir clientes ativos");
+
+		return this.transmitir(new FiltroCliente(true, null, null, null), fields);
+	}
+
+	@Operation(summary = "Listar todos os clientes", description = "Retorna uma página de clientes (paginação por cursor)")
+	@GetMapping
+	public Mono<ResponseEntity<PaginaDTO<ClienteDTO>>> listarTodos(
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes - Listar todos");
+
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
+
+		return listarClientesUseCase.todos(consulta)
+				.map(pagina -> ResponseEntity.ok(ClienteMapper.toPaginaDTO(pagina, consulta.getProjecao())));
+	}
+
+	@Operation(summary = "Transmitir todos os clientes", description = "Emite todos os clientes em NDJSON, conforme o consumo")
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<ClienteDTO> transmitirTodos(
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes - Transmitir todos");
+
+		return this.transmitir(FiltroCliente.todos(), fields);
+	}
+
+	@Operation(summary = "Exportar clientes", description = "Exporta clientes em fluxo contínuo (NDJSON ou CSV), com filtros opcionais")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+			@ApiResponse(responseCode = "400", description = "Formato inválido")
+	})
+	@GetMapping("/export")
+	public ResponseEntity<Flux<DataBuffer>> exportar(
+			@Parameter(description = "Formato: ndjson (padrão) ou csv") @RequestParam(required = false) String formato,
+			@Parameter(description = "Filtra por status ativo/inativo") @RequestParam(required = false) Boolean ativo,
+			@Parameter(description = "Filtra por cidade") @RequestParam(required = false) String cidade,
+			@Parameter(description = "Filtra por estado (UF)") @RequestParam(required = false) String estado,
+			@Parameter(description = "Filtra por tag") @RequestParam(required = false) String tag) {
+		log.info("GET /api/v1/clientes/export - Exportar clientes (formato={})", formato);
+
+		FormatoExportacao formatoExportacao = FormatoExportacao.fromParametro(formato);
+		FiltroCliente filtro = new FiltroCliente(ativo, cidade, estado, tag);
+
+		Flux<DataBuffer> body = exportWriter
+				.serializar(formatoExportacao, listarClientesUseCase.fluxo(filtro, ProjecaoCliente.completa()))
+				.map(DefaultDataBufferFactory.sharedInstance::wrap);
+
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(formatoExportacao.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"clientes." + formatoExportacao.getExtensao() + "\"")
+				.body(body);
+	}
+
+	@Operation(summary = "Atualizar cliente", description = "Atualiza os dados de um cliente")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Cliente atualizado com sucesso"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+			@ApiResponse(responseCode = "400", description = "Dados inválidos")
+	})
+	@PutMapping("/{clienteId}")
+	public Mono<ResponseEntity<ClienteDTO>> atualizar(
+			@Parameter(description = "UUID do cliente") @PathVariable String clienteId,
+			@Valid @RequestBody ClienteDTO clienteDTO) {
+		log.info("PUT /api/v1/clientes/{} - Atualizar", clienteId);
+
+		return atualizarClienteUseCase.execute(clienteId, ClienteMapper.toDomain(clienteDTO))
+				.map(updated -> ResponseEntity.ok(ClienteMapper.toDTO(updated)));
+	}
+
+	@Operation(summary = "Desativar cliente", description = "Desativa um cliente (soft delete)")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "204", description = "Cliente desativado com sucesso"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+	})
+	@PatchMapping("/{clienteId}/desativar")
+	public Mono<ResponseEntity<Void>> desativar(@PathVariable String clienteId) {
+		log.info("PATCH /api/v1/clientes/{}/desativar", clienteId);
+
+		return desativarClienteUseCase.execute(clienteId)
+				.then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+	}
+
+	@Operation(summary = "Reativar cliente", description = "Reativa um cliente desativado")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "204", description = "Cliente reativado com sucesso"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+	})
+	@PatchMapping("/{clienteId}/reativar")
+	public Mono<ResponseEntity<Void>> reativar(@PathVariable String clienteId) {
+		log.info("PATCH /api/v1/clientes/{}/reativar", clienteId);
+
+		return reativarClienteUseCase.execute(clienteId)
+				.then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+	}
+
+	@Operation(summary = "Alterar clientes em massa", description = "Desativa, reativa, adiciona ou remove uma tag "
+			+ "de todos os clientes do filtro em uma única operação no banco; com dryRun=true apenas conta os "
+			+ "clientes que seriam alterados")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Alteração aplicada (ou simulada)"),
+			@ApiResponse(responseCode = "400", description = "Operação inválida, tag ausente ou filtro vazio")
+	})
+	@PatchMapping("/bulk")
+	public Mono<ResponseEntity<ResultadoAlteracaoEmMassaDTO>> alterarEmMassa(
+			@Valid @RequestBody AlteracaoEmMassaDTO alteracaoDTO,
+			@Parameter(description = "Filtra por status ativo/inativo") @RequestParam(required = false) Boolean ativo,
+			@Parameter(description = "Filtra por cidade") @RequestParam(required = false) String cidade,
+			@Parameter(description = "Filtra por estado (UF)") @RequestParam(required = false) String estado,
+			@Parameter(description = "Filtra por tag") @RequestParam(required = false) String tag,
+			@Parameter(description = "Apenas conta os clientes que seriam alterados") @RequestParam(defaultValue = "false") boolean dryRun) {
+		log.info("PATCH /api/v1/clientes/bulk - Operação {} (dryRun={})", alteracaoDTO.getOperacao(), dryRun);
+
+		FiltroCliente filtro = new FiltroCliente(ativo, cidade, estado, tag);
+
+		return Mono.fromCallable(() -> alterarClientesEmMassaUseCase.execute(filtro,
+						ClienteMapper.toAlteracaoEmMassa(alteracaoDTO), dryRun))
+				.subscribeOn(Schedulers.boundedElastic())
+				.map(resultado -> {
+					log.info("Alteração em massa: {} encontrados, {} alterados", resultado.getEncontrados(),
+							resultado.getAlterados());
+					return ResponseEntity.ok(ClienteMapper.toResultadoAlteracaoEmMassaDTO(resultado));
+				});
+	}
+
+	@Operation(summary = "Deletar cliente permanentemente", description = "Remove permanentemente um cliente do banco (CUIDADO!)")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "204", description = "Cliente deletado permanentemente"),
+			@ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+	})
+	@DeleteMapping("/{clienteId}")
+	public Mono<ResponseEntity<Void>> deletar(@PathVariable String clienteId) {
+		log.warn("DELETE /api/v1/clientes/{} - DELETANDO PERMANENTEMENTE", clienteId);
+
+		return deletarClienteUseCase.execute(clienteId)
+				.then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+	}
+
+	@Operation(summary = "Buscar clientes por cidade", description = "Lista clientes ativos de uma cidade (paginação por cursor)")
+	@GetMapping("/cidade/{cidade}")
+	public Mono<ResponseEntity<PaginaDTO<ClienteDTO>>> buscarPorCidade(
+			@PathVariable String cidade,
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/cidade/{}", cidade);
+
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
+
+		return listarClientesUseCase.porCidade(cidade, consulta)
+				.map(pagina -> ResponseEntity.ok(ClienteMapper.toPaginaDTO(pagina, consulta.getProjecao())));
+	}
+
+	@Operation(summary = "Transmitir clientes por cidade", description = "Emite os clientes ativos de uma cidade em NDJSON, conforme o consumo")
+	@GetMapping(value = "/cidade/{cidade}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<ClienteDTO> transmitirPorCidade(
+			@PathVariable String cidade,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/cidade/{} - Transmitir", cidade);
+
+		return this.transmitir(new FiltroCliente(true, cidade, null, null), fields);
+	}
+
+	@Operation(summary = "Buscar clientes VIP", description = "Lista clientes VIP ativos (paginação por cursor)")
+	@GetMapping("/vip")
+	public Mono<ResponseEntity<PaginaDTO<ClienteDTO>>> buscarClientesVip(
+			@Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(required = false) Integer limit,
+			@Parameter(description = "Cursor retornado em proximoCursor") @RequestParam(required = false) String after,
+			@Parameter(description = "Ordenação: id, dataCadastro ou -dataCadastro") @RequestParam(required = false) String sort,
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/vip");
+
+		ConsultaPaginada consulta = this.toConsultaPaginada(limit, after, sort, fields);
+
+		return listarClientesUseCase.vipAtivos(consulta)
+				.map(pagina -> ResponseEntity.ok(ClienteMapper.toPaginaDTO(pagina, consulta.getProjecao())));
+	}
+
+	@Operation(summary = "Transmitir clientes VIP", description = "Emite os clientes VIP ativos em NDJSON, conforme o consumo")
+	@GetMapping(value = "/vip", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<ClienteDTO> transmitirClientesVip(
+			@Parameter(description = "Campos a devolver, separados por vírgula (ex.: clienteId,nomeCliente,ativo)") @RequestParam(required = false) String fields) {
+		log.info("GET /api/v1/clientes/vip - Transmitir");
+
+		return this.transmitir(new FiltroCliente(true, null, null, "vip"), fields);
+	}
+
+	@Operation(summary = "Contar clientes ativos", description = "Retorna o total de clientes ativos")
+	@GetMapping("/count/ativos")
+	public Mono<ResponseEntity<Long>> contarAtivos() {
+		log.info("GET /api/v1/clientes/count/ativos");
+
+		return listarClientesUseCase.contarAtivos().map(ResponseEntity::ok);
+	}
+
+	private Mono<ResponseEntity<ClienteDTO>> toResposta(Mono<Cliente> cliente, ProjecaoCliente projecao) {
+		return cliente
+				.map(encontrado -> ResponseEntity.ok(ClienteMapper.toDTO(encontrado, projecao)))
+				.defaultIfEmpty(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * Emite os clientes do filtro um a um; o WebFlux só pede o próximo quando o
+	 * anterior foi escrito na conexão
+	 */
+	private Flux<ClienteDTO> transmitir(FiltroCliente filtro, String fields) {
+		ProjecaoCliente projecao = ProjecaoCliente.fromParametro(fields);
+		return listarClientesUseCase.fluxo(filtro, projecao)
+				.map(cliente -> ClienteMapper.toDTO(cliente, projecao));
+	}
+
+	private ConsultaPaginada toConsultaPaginada(Integer limit, String after, String sort, String fields) {
+		return new ConsultaPaginada(limit, after, OrdenacaoCliente.fromParametro(sort),
+				ProjecaoCliente.fromParametro(fields));
+	}
+}
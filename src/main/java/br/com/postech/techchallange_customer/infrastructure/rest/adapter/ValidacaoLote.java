@@ -0,0 +1,46 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.adapter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Validação de bean (as mesmas restrições do @Valid do cadastro individual)
+ * aplicada item a item ao lote, que não pode ser rejeitado por inteiro
+ */
+final class ValidacaoLote {
+
+	private ValidacaoLote() {
+	}
+
+	/**
+	 * Itens com violações, por posição no lote, com as mensagens no formato
+	 * "campo: mensagem" ordenadas pelo campo
+	 */
+	static Map<Integer, String> invalidos(Validator validator, List<ClienteDTO> clientesDTO) {
+		Map<Integer, String> invalidos = new HashMap<>();
+		if (clientesDTO == null) {
+			return invalidos;
+		}
+		for (int i = 0; i < clientesDTO.size(); i++) {
+			ClienteDTO dto = clientesDTO.get(i);
+			if (dto == null) {
+				continue;
+			}
+			Set<ConstraintViolation<ClienteDTO>> violacoes = validator.validate(dto);
+			if (!violacoes.isEmpty()) {
+				invalidos.put(i, violacoes.stream()
+						.map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+						.sorted()
+						.collect(Collectors.joining("; ")));
+			}
+		}
+		return invalidos;
+	}
+}
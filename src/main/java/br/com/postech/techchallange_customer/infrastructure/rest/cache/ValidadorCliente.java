@@ -0,0 +1,44 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.cache;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.springframework.http.ETag;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJson;
+
+/**
+ * Validadores HTTP de um cliente
+ *
+ * A ETag (forte) combina clienteId e versao, incrementada pelo @Version e
+ * pelas atualizações feitas direto no banco; Last-Modified vem de
+ * dataUltimaAtualizacao. Campos ausentes (ex.: documentos antigos sem versão)
+ * apenas deixam o validador correspondente de fora.
+ */
+public record ValidadorCliente(String clienteId, Integer versao, Instant ultimaAtualizacao) {
+
+	/**
+	 * Validadores do cliente mapeado; as datas do domínio estão no fuso da JVM,
+	 * o mesmo usado pelo Spring Data ao ler LocalDateTime
+	 */
+	public static ValidadorCliente of(Cliente cliente) {
+		return new ValidadorCliente(cliente.getClienteId(), cliente.getVersao(),
+				cliente.getDataUltimaAtualizacao() == null ? null
+						: cliente.getDataUltimaAtualizacao().atZone(ZoneId.systemDefault()).toInstant());
+	}
+
+	/**
+	 * Validadores lidos junto com o JSON direto
+	 */
+	public static ValidadorCliente of(ClienteJson json) {
+		return new ValidadorCliente(json.clienteId(), json.versao(), json.ultimaAtualizacao());
+	}
+
+	/**
+	 * ETag forte ("clienteId-versao"); nula sem clienteId ou versão
+	 */
+	public ETag etag() {
+		return clienteId == null || versao == null ? null : new ETag(clienteId + "-" + versao, false);
+	}
+}
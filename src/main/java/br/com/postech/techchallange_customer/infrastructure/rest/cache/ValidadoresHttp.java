@@ -0,0 +1,130 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.cache;
+
+import java.util.List;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import br.com.postech.techchallange_customer.infrastructure.config.CacheHttpProperties;
+
+/**
+ * GET condicional das buscas pontuais (clientes.cache-http) e If-Match das
+ * escritas
+ *
+ * Avalia If-None-Match/If-Modified-Since contra os validadores do cliente e
+ * monta as respostas 200/304 com ETag, Last-Modified e Cache-Control. Com a
+ * propriedade desligada nenhuma requisição é tratada como condicional e as
+ * respostas saem sem validadores.
+ */
+@Component
+public class ValidadoresHttp {
+
+	private final CacheHttpProperties properties;
+
+	public ValidadoresHttp(CacheHttpProperties properties) {
+		this.properties = properties;
+	}
+
+	public boolean isAtivo() {
+		return properties.isEnabled();
+	}
+
+	/**
+	 * Verifica se a requisição traz alguma pré-condição de GET condicional
+	 */
+	public boolean isCondicional(HttpHeaders requisicao) {
+		return isAtivo() && (requisicao.containsKey(HttpHeaders.IF_NONE_MATCH)
+				|| requisicao.containsKey(HttpHeaders.IF_MODIFIED_SINCE));
+	}
+
+	/**
+	 * Avalia as pré-condições como na RFC 9110 (13.2.2): If-None-Match, com
+	 * comparação fraca, tem precedência e If-Modified-Since só vale sem ele,
+	 * comparado em segundos (a precisão do cabeçalho)
+	 */
+	public boolean naoModificado(HttpHeaders requisicao, ValidadorCliente validador) {
+		List<String> ifNoneMatch = requisicao.get(HttpHeaders.IF_NONE_MATCH);
+		if (ifNoneMatch != null) {
+			ETag etag = validador.etag();
+			return etag != null && ifNoneMatch.stream()
+					.flatMap(valor -> ETag.parse(valor).stream())
+					.anyMatch(candidata -> candidata.isWildcard() || candidata.compare(etag, false));
+		}
+
+		long desde = requisicao.getIfModifiedSince();
+		return desde >= 0 && validador.ultimaAtualizacao() != null
+				&& validador.ultimaAtualizacao().getEpochSecond() <= desde / 1000;
+	}
+
+	/**
+	 * Versão exigida pelo If-Match de uma escrita, no formato da ETag emitida
+	 * ("clienteId-versao"); nula sem o cabeçalho ou com "*" (o cliente existir já
+	 * basta). ETag fraca, de outro cliente ou em outro formato nunca casa por
+	 * comparação forte (RFC 9110, 13.1.1) e resulta em 412.
+	 */
+	public Integer versaoEsperada(HttpHeaders requisicao, String clienteId) {
+		List<String> ifMatch = requisicao.get(HttpHeaders.IF_MATCH);
+		if (ifMatch == null) {
+			return null;
+		}
+
+		List<ETag> etags = ifMatch.stream().flatMap(valor -> ETag.parse(valor).stream()).toList();
+		if (etags.size() != 1) {
+			throw new InvalidClienteException(HttpHeaders.IF_MATCH, "informe uma única ETag do cliente");
+		}
+		ETag etag = etags.get(0);
+		if (etag.isWildcard()) {
+			return null;
+		}
+
+		String prefixo = clienteId + "-";
+		if (!etag.weak() && etag.tag().startsWith(prefixo)) {
+			try {
+				return Integer.valueOf(etag.tag().substring(prefixo.length()));
+			} catch (NumberFormatException e) {
+				// cai na divergência abaixo
+			}
+		}
+		throw new VersaoDivergenteException(clienteId, etag.formattedTag());
+	}
+
+	/**
+	 * Resposta 200 com os validadores do cliente
+	 */
+	public ResponseEntity.BodyBuilder ok(ValidadorCliente validador) {
+		return aplicar(ResponseEntity.ok(), validador);
+	}
+
+	/**
+	 * Resposta 304, sem corpo, com os validadores atuais
+	 */
+	public <T> ResponseEntity<T> naoModificado(ValidadorCliente validador) {
+		return aplicar(ResponseEntity.status(HttpStatus.NOT_MODIFIED), validador).build();
+	}
+
+	// Funções auxiliares
+
+	private ResponseEntity.BodyBuilder aplicar(ResponseEntity.BodyBuilder resposta, ValidadorCliente validador) {
+		if (!isAtivo()) {
+			return resposta;
+		}
+
+		ETag etag = validador.etag();
+		if (etag != null) {
+			resposta.eTag(etag.formattedTag());
+		}
+		if (validador.ultimaAtualizacao() != null) {
+			resposta.lastModified(validador.ultimaAtualizacao());
+		}
+		if (StringUtils.hasText(properties.getCacheControl())) {
+			resposta.header(HttpHeaders.CACHE_CONTROL, properties.getCacheControl());
+		}
+		return resposta;
+	}
+}
@@ -1,31 +1,41 @@
 package br.com.postech.techchallange_customer.infrastructure.rest.exception;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
 import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
 import br.com.postech.techchallange_customer.domain.exception.DomainException;
 import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import br.com.postech.techchallange_customer.infrastructure.config.ReactiveConfig;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * Handler global de exceções para a API REST
+ * No perfil reactive o equivalente WebFlux é ReactiveExceptionHandler
  */
 @RestControllerAdvice
+@Profile("!" + ReactiveConfig.PERFIL)
 public class GlobalExceptionHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+	private final RespostasDeErro respostas;
+
+	public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+		this.respostas = new RespostasDeErro(meterRegistry);
+	}
+
 	/**
 	 * Trata exceção de cliente não encontrado
 	 */
@@ -36,13 +46,8 @@ public class GlobalExceptionHandler {
 
 		log.error("Cliente não encontrado: {}", ex.getMessage());
 
-		ErrorResponse error = new ErrorResponse(
-				HttpStatus.NOT_FOUND.value(),
-				"Not Found",
-				ex.getMessage(),
+		return respostas.responder(ex, HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(),
 				request.getRequestURI());
-
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
 	}
 
 	/**
@@ -55,13 +60,51 @@ public class GlobalExceptionHandler {
 
 		log.error("Conflito: {}", ex.getMessage());
 
-		ErrorResponse error = new ErrorResponse(
-				HttpStatus.CONFLICT.value(),
-				"Conflict",
-				ex.getMessage(),
+		return respostas.responder(ex, HttpStatus.CONFLICT, "Conflict", ex.getMessage(),
+				request.getRequestURI());
+	}
+
+	/**
+	 * Trata exceção de versão divergente da informada em If-Match
+	 */
+	@ExceptionHandler(VersaoDivergenteException.class)
+	public ResponseEntity<ErrorResponse> handleVersaoDivergente(
+			VersaoDivergenteException ex,
+			HttpServletRequest request) {
+
+		log.warn("Pré-condição falhou: {}", ex.getMessage());
+
+		return respostas.responder(ex, HttpStatus.PRECONDITION_FAILED, "Precondition Failed", ex.getMessage(),
+				request.getRequestURI());
+	}
+
+	/**
+	 * Trata exceção de alteração concorrente (controle otimista pela versão)
+	 */
+	@ExceptionHandler(AlteracaoConcorrenteException.class)
+	public ResponseEntity<ErrorResponse> handleAlteracaoConcorrente(
+			AlteracaoConcorrenteException ex,
+			HttpServletRequest request) {
+
+		log.warn("Alteração concorrente: {}", ex.getMessage());
+
+		return respostas.responder(ex, HttpStatus.CONFLICT, "Conflict", ex.getMessage(),
 				request.getRequestURI());
+	}
+
+	/**
+	 * Trata falha de @Version não traduzida pelo adaptador de persistência
+	 */
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleOptimisticLocking(
+			OptimisticLockingFailureException ex,
+			HttpServletRequest request) {
 
-		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+		log.warn("Alteração concorrente: {}", ex.getMessage());
+
+		return respostas.responder(ex, HttpStatus.CONFLICT, "Conflict",
+				"O cliente foi alterado por outra requisição; releia o cliente e tente novamente",
+				request.getRequestURI());
 	}
 
 	/**
@@ -74,13 +117,8 @@ public class GlobalExceptionHandler {
 
 		log.error("Dados inválidos: {}", ex.getMessage());
 
-		ErrorResponse error = new ErrorResponse(
-				HttpStatus.BAD_REQUEST.value(),
-				"Bad Request",
-				ex.getMessage(),
+		return respostas.responder(ex, HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(),
 				request.getRequestURI());
-
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
 	}
 
 	/**
@@ -93,13 +131,8 @@ public class GlobalExceptionHandler {
 
 		log.error("Erro de domínio: {}", ex.getMessage());
 
-		ErrorResponse error = new ErrorResponse(
-				HttpStatus.BAD_REQUEST.value(),
-				"Domain Error",
-				ex.getMessage(),
+		return respostas.responder(ex, HttpStatus.BAD_REQUEST, "Domain Error", ex.getMessage(),
 				request.getRequestURI());
-
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
 	}
 
 	/**
@@ -112,23 +145,7 @@ public class GlobalExceptionHandler {
 
 		log.error("Erro de validação: {}", ex.getMessage());
 
-		ErrorResponse error = new ErrorResponse(
-				HttpStatus.BAD_REQUEST.value(),
-				"Validation Error",
-				"Erro de validação nos campos",
-				request.getRequestURI());
-
-		// Adicionar erros de campo
-		List<ErrorResponse.FieldError> fieldErrors = new ArrayList<>();
-		for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
-			fieldErrors.add(new ErrorResponse.FieldError(
-					fieldError.getField(),
-					fieldError.getDefaultMessage(),
-					fieldError.getRejectedValue()));
-		}
-		error.setFieldErrors(fieldErrors);
-
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+		return respostas.responderValidacao(ex, ex.getBindingResult(), request.getRequestURI());
 	}
 
 	/**
@@ -141,12 +158,7 @@ public class GlobalExceptionHandler {
 
 		log.error("Erro interno: ", ex);
 
-		ErrorResponse error = new ErrorResponse(
-				HttpStatus.INTERNAL_SERVER_ERROR.value(),
-				"Internal Server Error",
-				"Ocorreu um erro interno no servidor",
-				request.getRequestURI());
-
-		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+		return respostas.responder(ex, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+				"Ocorreu um erro interno no servidor", request.getRequestURI());
 	}
 }
@@ -0,0 +1,119 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.exception.DomainException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.infrastructure.config.ReactiveConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Handler de exceções da API no perfil reactive (WebFlux)
+ * Devolve os mesmos status e corpos de GlobalExceptionHandler; os erros
+ * sinalizados pelos Mono/Flux dos casos de uso chegam aqui como exceções
+ */
+@RestControllerAdvice
+@Profile(ReactiveConfig.PERFIL)
+public class ReactiveExceptionHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+	private final RespostasDeErro respostas;
+
+	public ReactiveExceptionHandler(MeterRegistry meterRegistry) {
+		this.respostas = new RespostasDeErro(meterRegistry);
+	}
+
+	/**
+	 * Trata exceção de cliente não encontrado
+	 */
+	@ExceptionHandler(ClienteNotFoundException.class)
+	public ResponseEntity<ErrorResponse> handleClienteNotFound(
+			ClienteNotFoundException ex,
+			ServerHttpRequest request) {
+
+		log.error("Cliente não encontrado: {}", ex.getMessage());
+
+		return respostas.responder(ex, HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), caminho(request));
+	}
+
+	/**
+	 * Trata exceção de cliente já existente (conflito)
+	 */
+	@ExceptionHandler(ClienteAlreadyExistsException.class)
+	public ResponseEntity<ErrorResponse> handleClienteAlreadyExists(
+			ClienteAlreadyExistsException ex,
+			ServerHttpRequest request) {
+
+		log.error("Conflito: {}", ex.getMessage());
+
+		return respostas.responder(ex, HttpStatus.CONFLICT, "Conflict", ex.getMessage(), caminho(request));
+	}
+
+	/**
+	 * Trata exceção de dados inválidos
+	 */
+	@ExceptionHandler(InvalidClienteException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidCliente(
+			InvalidClienteException ex,
+			ServerHttpRequest request) {
+
+		log.error("Dados inválidos: {}", ex.getMessage());
+
+		return respostas.responder(ex, HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), caminho(request));
+	}
+
+	/**
+	 * Trata exceções gerais de domínio
+	 */
+	@ExceptionHandler(DomainException.class)
+	public ResponseEntity<ErrorResponse> handleDomainException(
+			DomainException ex,
+			ServerHttpRequest request) {
+
+		log.error("Erro de domínio: {}", ex.getMessage());
+
+		return respostas.responder(ex, HttpStatus.BAD_REQUEST, "Domain Error", ex.getMessage(), caminho(request));
+	}
+
+	/**
+	 * Trata erros de validação do Bean Validation (@Valid no corpo)
+	 */
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ErrorResponse> handleValidationErrors(
+			WebExchangeBindException ex,
+			ServerHttpRequest request) {
+
+		log.error("Erro de validação: {}", ex.getMessage());
+
+		return respostas.responderValidacao(ex, ex.getBindingResult(), caminho(request));
+	}
+
+	/**
+	 * Trata exceções genéricas não tratadas
+	 */
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<ErrorResponse> handleGenericException(
+			Exception ex,
+			ServerHttpRequest request) {
+
+		log.error("Erro interno: ", ex);
+
+		return respostas.responder(ex, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+				"Ocorreu um erro interno no servidor", caminho(request));
+	}
+
+	private static String caminho(ServerHttpRequest request) {
+		return request.getPath().value();
+	}
+}
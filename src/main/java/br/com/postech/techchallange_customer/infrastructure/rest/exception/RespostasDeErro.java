@@ -0,0 +1,72 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Monta as respostas de erro da API e conta as exceções tratadas
+ * Compartilhado pelos handlers do Spring MVC (GlobalExceptionHandler) e do
+ * WebFlux (ReactiveExceptionHandler), que diferem só em como obtêm o caminho
+ * da requisição
+ */
+final class RespostasDeErro {
+
+	private static final String METRICA_ERROS = "clientes.erros";
+
+	private final MeterRegistry meterRegistry;
+
+	RespostasDeErro(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	ResponseEntity<ErrorResponse> responder(Exception ex, HttpStatus status, String erro, String mensagem,
+			String caminho) {
+		ErrorResponse error = new ErrorResponse(status.value(), erro, mensagem, caminho);
+
+		contar(ex, status);
+		return ResponseEntity.status(status).body(error);
+	}
+
+	/**
+	 * Resposta 400 com um item por campo rejeitado pelo Bean Validation
+	 */
+	ResponseEntity<ErrorResponse> responderValidacao(Exception ex, BindingResult resultado, String caminho) {
+		ErrorResponse error = new ErrorResponse(
+				HttpStatus.BAD_REQUEST.value(),
+				"Validation Error",
+				"Erro de validação nos campos",
+				caminho);
+
+		List<ErrorResponse.FieldError> fieldErrors = new ArrayList<>();
+		for (FieldError fieldError : resultado.getFieldErrors()) {
+			fieldErrors.add(new ErrorResponse.FieldError(
+					fieldError.getField(),
+					fieldError.getDefaultMessage(),
+					fieldError.getRejectedValue()));
+		}
+		error.setFieldErrors(fieldErrors);
+
+		contar(ex, HttpStatus.BAD_REQUEST);
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+	}
+
+	/**
+	 * Conta as exceções tratadas por tipo e status devolvido
+	 */
+	private void contar(Exception ex, HttpStatus status) {
+		Counter.builder(METRICA_ERROS)
+				.description("Exceções tratadas pela API")
+				.tag("excecao", ex.getClass().getSimpleName())
+				.tag("status", String.valueOf(status.value()))
+				.register(meterRegistry)
+				.increment();
+	}
+}
@@ -0,0 +1,244 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.export;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serializa clientes, um a um, direto no corpo da resposta de exportação
+ * Nenhuma lista é acumulada: cada cliente é escrito assim que lido do cursor
+ */
+@Component
+public class ClienteExportWriter {
+
+	private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+	/**
+	 * Tamanho mínimo dos blocos emitidos na exportação reativa
+	 */
+	private static final int TAMANHO_BLOCO = 8 * 1024;
+
+	private static final String CABECALHO_CSV = "clienteId,nomeCliente,emailCliente,cpfCliente,telefone,ativo,"
+			+ "rua,numero,complemento,bairro,cidade,estado,cep,origem,canal,tags,dataCadastro,dataUltimaAtualizacao";
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Escrita dos DTOs sem o flush após cada valor (FLUSH_AFTER_WRITE_VALUE):
+	 * o gerador só descarrega quando o buffer enche, no flush explícito ou ao fechar
+	 */
+	private final ObjectWriter dtoWriter;
+
+	public ClienteExportWriter(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		this.dtoWriter = objectMapper.writerFor(ClienteDTO.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	/**
+	 * Abre um escritor no formato solicitado sobre o stream da resposta
+	 * Fechar o escritor apenas descarrega o buffer; o stream é fechado pelo Spring
+	 */
+	public Escritor abrir(FormatoExportacao formato, OutputStream outputStream) throws IOException {
+		if (formato == FormatoExportacao.CSV) {
+			return new CsvEscritor(outputStream);
+		}
+		return new NdjsonEscritor(outputStream);
+	}
+
+	/**
+	 * Serializa o fluxo de clientes no formato solicitado, para respostas WebFlux
+	 * Os clientes são escritos sem flush; um bloco de bytes é emitido quando o
+	 * que os buffers do escritor já descarregaram chega a TAMANHO_BLOCO, e o
+	 * restante ao fim do fluxo. Nada além de um bloco é acumulado em memória
+	 */
+	public Flux<byte[]> serializar(FormatoExportacao formato, Flux<Cliente> clientes) {
+		return Flux.defer(() -> {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			Escritor escritor;
+			try {
+				escritor = abrir(formato, buffer);
+			} catch (IOException e) {
+				return Flux.error(new UncheckedIOException(e));
+			}
+
+			Mono<byte[]> restante = Mono.fromCallable(() -> {
+				escritor.close();
+				return descarregar(buffer);
+			}).filter(bytes -> bytes.length > 0);
+			return clientes.<byte[]>handle((cliente, sink) -> {
+				escritor.escrever(cliente);
+				if (buffer.size() >= TAMANHO_BLOCO) {
+					sink.next(descarregar(buffer));
+				}
+			}).concatWith(restante);
+		});
+	}
+
+	private static byte[] descarregar(ByteArrayOutputStream buffer) {
+		byte[] bytes = buffer.toByteArray();
+		buffer.reset();
+		return bytes;
+	}
+
+	/**
+	 * Escritor de um formato de exportação
+	 */
+	public interface Escritor extends Closeable, Flushable {
+
+		/**
+		 * Escreve um cliente; falhas de I/O são propagadas como UncheckedIOException
+		 */
+		void escrever(Cliente cliente);
+	}
+
+	private class NdjsonEscritor implements Escritor {
+
+		private final JsonGenerator generator;
+
+		NdjsonEscritor(OutputStream outputStream) throws IOException {
+			this.generator = objectMapper.getFactory().createGenerator(outputStream);
+			this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			this.generator.setRootValueSeparator(null);
+		}
+
+		@Override
+		public void escrever(Cliente cliente) {
+			try {
+				dtoWriter.writeValue(generator, ClienteMapper.toDTO(cliente));
+				generator.writeRaw('\n');
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			generator.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+
+	private static class CsvEscritor implements Escritor {
+
+		private final Writer writer;
+
+		CsvEscritor(OutputStream outputStream) throws IOException {
+			this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			this.writer.write(CABECALHO_CSV);
+			this.writer.write('\n');
+		}
+
+		@Override
+		public void escrever(Cliente cliente) {
+			Endereco endereco = cliente.getEndereco() != null ? cliente.getEndereco() : new Endereco();
+			Metadata metadata = cliente.getMetadata() != null ? cliente.getMetadata() : new Metadata();
+
+			try {
+				campo(cliente.getClienteId(), false);
+				campo(cliente.getNomeCliente(), false);
+				campo(cliente.getEmailCliente(), false);
+				campo(cliente.getCpfCliente(), false);
+				campo(cliente.getTelefone(), false);
+				campo(cliente.getAtivo() != null ? cliente.getAtivo().toString() : null, false);
+				campo(endereco.getRua(), false);
+				campo(endereco.getNumero(), false);
+				campo(endereco.getComplemento(), false);
+				campo(endereco.getBairro(), false);
+				campo(endereco.getCidade(), false);
+				campo(endereco.getEstado(), false);
+				campo(endereco.getCep(), false);
+				campo(metadata.getOrigem(), false);
+				campo(metadata.getCanal(), false);
+				campo(juntarTags(metadata.getTags()), false);
+				campo(formatarData(cliente.getDataCadastro()), false);
+				campo(formatarData(cliente.getDataUltimaAtualizacao()), true);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private void campo(String valor, boolean ultimo) throws IOException {
+			if (valor != null) {
+				boolean aspas = precisaAspas(valor);
+				if (aspas) {
+					writer.write('"');
+				}
+				if (pareceFormula(valor)) {
+					// planilhas executariam o valor como fórmula (CSV injection)
+					writer.write('\'');
+				}
+				writer.write(aspas ? valor.replace("\"", "\"\"") : valor);
+				if (aspas) {
+					writer.write('"');
+				}
+			}
+			writer.write(ultimo ? '\n' : ',');
+		}
+
+		private static boolean pareceFormula(String valor) {
+			if (valor.isEmpty()) {
+				return false;
+			}
+			char c = valor.charAt(0);
+			return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+		}
+
+		private static boolean precisaAspas(String valor) {
+			for (int i = 0; i < valor.length(); i++) {
+				char c = valor.charAt(i);
+				if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static String juntarTags(List<String> tags) {
+			return tags == null || tags.isEmpty() ? null : String.join(";", tags);
+		}
+
+		private static String formatarData(LocalDateTime data) {
+			return data != null ? FORMATO_DATA.format(data) : null;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.flush();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.export;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Formatos suportados pela exportação de clientes
+ */
+public enum FormatoExportacao {
+
+	NDJSON("ndjson", "application/x-ndjson"),
+	CSV("csv", "text/csv;charset=UTF-8");
+
+	private final String extensao;
+	private final String contentType;
+
+	FormatoExportacao(String extensao, String contentType) {
+		this.extensao = extensao;
+		this.contentType = contentType;
+	}
+
+	public String getExtensao() {
+		return extensao;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Converte o parâmetro "formato" da API; vazio resulta em NDJSON
+	 */
+	public static FormatoExportacao fromParametro(String parametro) {
+		if (parametro == null || parametro.isBlank()) {
+			return NDJSON;
+		}
+
+		for (FormatoExportacao formato : values()) {
+			if (formato.extensao.equalsIgnoreCase(parametro)) {
+				return formato;
+			}
+		}
+
+		throw new InvalidClienteException("formato", "valores aceitos: ndjson, csv");
+	}
+}
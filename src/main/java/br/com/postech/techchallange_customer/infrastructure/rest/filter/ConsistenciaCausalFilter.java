@@ -0,0 +1,90 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.filter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.bson.BsonTimestamp;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.ConsistenciaCausal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Troca com o cliente HTTP o token de consistência causal (X-Causal-Token)
+ *
+ * Respostas de requisições que escreveram trazem o operationTime da última
+ * escrita; enviado de volta nas leituras seguintes, ele faz as buscas pontuais
+ * em secundários esperarem por essa escrita, mesmo que a requisição caia em
+ * outra instância da aplicação.
+ */
+public class ConsistenciaCausalFilter extends OncePerRequestFilter {
+
+	public static final String CABECALHO = "X-Causal-Token";
+
+	private final ConsistenciaCausal consistencia;
+
+	public ConsistenciaCausalFilter(ConsistenciaCausal consistencia) {
+		this.consistencia = consistencia;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		consistencia.iniciarRequisicao(ConsistenciaCausal.fromToken(request.getHeader(CABECALHO)));
+		RespostaComToken resposta = new RespostaComToken(response);
+		try {
+			chain.doFilter(request, resposta);
+			// respostas sem corpo (204) só são confirmadas depois da cadeia
+			resposta.escreverToken();
+		} finally {
+			consistencia.encerrarRequisicao();
+		}
+	}
+
+	/**
+	 * Inclui o cabeçalho antes do primeiro byte do corpo, quando a resposta
+	 * ainda não foi confirmada
+	 */
+	private final class RespostaComToken extends HttpServletResponseWrapper {
+
+		private boolean escrito;
+
+		RespostaComToken(HttpServletResponse response) {
+			super(response);
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			escreverToken();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			escreverToken();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			escreverToken();
+			super.flushBuffer();
+		}
+
+		void escreverToken() {
+			if (escrito || isCommitted()) {
+				return;
+			}
+			BsonTimestamp escrita = consistencia.getEscritaDaRequisicao();
+			if (escrita != null) {
+				setHeader(CABECALHO, ConsistenciaCausal.toToken(escrita));
+				escrito = true;
+			}
+		}
+	}
+}
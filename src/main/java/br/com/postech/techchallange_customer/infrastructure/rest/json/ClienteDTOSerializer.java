@@ -0,0 +1,106 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.ClienteParcialDTO;
+
+/**
+ * Serializador de ClienteDTO com os nomes dos campos pré-codificados, sem
+ * introspecção por reflexão
+ *
+ * Mesma saída da serialização padrão do DTO: campos na ordem de declaração,
+ * nulos escritos como null em ClienteDTO e omitidos em ClienteParcialDTO
+ * (@JsonInclude NON_NULL das respostas parciais de fields=) e datas no formato
+ * do @JsonFormat. Alterações nos campos ou nas anotações de ClienteDTO precisam
+ * ser refletidas aqui (ver o teste de saída).
+ */
+public class ClienteDTOSerializer extends StdSerializer<ClienteDTO> {
+
+	private static final SerializedString ID = new SerializedString("id");
+	private static final SerializedString CLIENTE_ID = new SerializedString("clienteId");
+	private static final SerializedString NOME_CLIENTE = new SerializedString("nomeCliente");
+	private static final SerializedString EMAIL_CLIENTE = new SerializedString("emailCliente");
+	private static final SerializedString CPF_CLIENTE = new SerializedString("cpfCliente");
+	private static final SerializedString TELEFONE = new SerializedString("telefone");
+	private static final SerializedString ENDERECO = new SerializedString("endereco");
+	private static final SerializedString ATIVO = new SerializedString("ativo");
+	private static final SerializedString DATA_CADASTRO = new SerializedString("dataCadastro");
+	private static final SerializedString DATA_ULTIMA_ATUALIZACAO = new SerializedString("dataUltimaAtualizacao");
+	private static final SerializedString VERSAO = new SerializedString("versao");
+	private static final SerializedString METADATA = new SerializedString("metadata");
+
+	private final EnderecoDTOSerializer enderecoSerializer;
+	private final MetadataDTOSerializer metadataSerializer;
+
+	public ClienteDTOSerializer(EnderecoDTOSerializer enderecoSerializer, MetadataDTOSerializer metadataSerializer) {
+		super(ClienteDTO.class);
+		this.enderecoSerializer = enderecoSerializer;
+		this.metadataSerializer = metadataSerializer;
+	}
+
+	@Override
+	public void serialize(ClienteDTO cliente, JsonGenerator generator, SerializerProvider provider)
+			throws IOException {
+		boolean omitirNulos = cliente instanceof ClienteParcialDTO;
+		generator.writeStartObject(cliente);
+		escreverTexto(generator, ID, cliente.getId(), omitirNulos);
+		escreverTexto(generator, CLIENTE_ID, cliente.getClienteId(), omitirNulos);
+		escreverTexto(generator, NOME_CLIENTE, cliente.getNomeCliente(), omitirNulos);
+		escreverTexto(generator, EMAIL_CLIENTE, cliente.getEmailCliente(), omitirNulos);
+		escreverTexto(generator, CPF_CLIENTE, cliente.getCpfCliente(), omitirNulos);
+		escreverTexto(generator, TELEFONE, cliente.getTelefone(), omitirNulos);
+		if (escreverCampo(generator, ENDERECO, cliente.getEndereco(), omitirNulos)) {
+			enderecoSerializer.serialize(cliente.getEndereco(), generator, provider);
+		}
+		if (escreverCampo(generator, ATIVO, cliente.getAtivo(), omitirNulos)) {
+			generator.writeBoolean(cliente.getAtivo());
+		}
+		escreverData(generator, DATA_CADASTRO, cliente.getDataCadastro(), omitirNulos);
+		escreverData(generator, DATA_ULTIMA_ATUALIZACAO, cliente.getDataUltimaAtualizacao(), omitirNulos);
+		if (escreverCampo(generator, VERSAO, cliente.getVersao(), omitirNulos)) {
+			generator.writeNumber(cliente.getVersao());
+		}
+		if (escreverCampo(generator, METADATA, cliente.getMetadata(), omitirNulos)) {
+			metadataSerializer.serialize(cliente.getMetadata(), generator, provider);
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Escreve o nome do campo e indica se o valor ainda precisa ser escrito;
+	 * nulos saem como null ou são omitidos
+	 */
+	private static boolean escreverCampo(JsonGenerator generator, SerializedString campo, Object valor,
+			boolean omitirNulos) throws IOException {
+		if (valor == null) {
+			if (!omitirNulos) {
+				generator.writeFieldName(campo);
+				generator.writeNull();
+			}
+			return false;
+		}
+		generator.writeFieldName(campo);
+		return true;
+	}
+
+	private static void escreverTexto(JsonGenerator generator, SerializedString campo, String valor,
+			boolean omitirNulos) throws IOException {
+		if (escreverCampo(generator, campo, valor, omitirNulos)) {
+			generator.writeString(valor);
+		}
+	}
+
+	private static void escreverData(JsonGenerator generator, SerializedString campo, LocalDateTime valor,
+			boolean omitirNulos) throws IOException {
+		if (escreverCampo(generator, campo, valor, omitirNulos)) {
+			DataJson.escrever(generator, valor);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
+import br.com.postech.techchallange_customer.application.dto.MetadataDTO;
+
+/**
+ * Módulo Jackson com os serializadores dedicados de ClienteDTO, EnderecoDTO e
+ * MetadataDTO; vale para respostas individuais, páginas e exportação NDJSON
+ * A desserialização das requisições continua pela introspecção padrão
+ */
+public class ClienteJacksonModule extends SimpleModule {
+
+	private static final long serialVersionUID = 1L;
+
+	public ClienteJacksonModule() {
+		super(ClienteJacksonModule.class.getSimpleName());
+		EnderecoDTOSerializer enderecoSerializer = new EnderecoDTOSerializer();
+		MetadataDTOSerializer metadataSerializer = new MetadataDTOSerializer();
+		addSerializer(EnderecoDTO.class, enderecoSerializer);
+		addSerializer(MetadataDTO.class, metadataSerializer);
+		addSerializer(ClienteDTO.class, new ClienteDTOSerializer(enderecoSerializer, metadataSerializer));
+	}
+}
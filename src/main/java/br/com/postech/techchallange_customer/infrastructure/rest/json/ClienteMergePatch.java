@@ -0,0 +1,128 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+/**
+ * Conversão de um documento JSON Merge Patch (RFC 7396) em AlteracaoCliente
+ *
+ * Membros com valor substituem o campo, membros null o removem e campos
+ * ausentes ficam como estão. endereco e metadata são mesclados subcampo a
+ * subcampo; tags é uma lista e, como o RFC define, é substituída inteira.
+ * Campos de identidade e de controle (clienteId, cpfCliente, ativo, datas,
+ * versao) não são alteráveis por aqui.
+ */
+public final class ClienteMergePatch {
+
+	private static final Set<String> TEXTO = Set.of("nomeCliente", "emailCliente", "telefone");
+	private static final Set<String> ENDERECO = Set.of("rua", "numero", "complemento", "bairro", "cidade", "estado",
+			"cep");
+	private static final Set<String> METADATA = Set.of("origem", "canal", "tags", "notas");
+	private static final Set<String> NAO_ALTERAVEIS = Set.of("id", "clienteId", "cpfCliente", "ativo",
+			"dataCadastro", "dataUltimaAtualizacao", "versao");
+
+	private ClienteMergePatch() {
+	}
+
+	public static AlteracaoCliente toAlteracao(JsonNode patch) {
+		if (patch == null || !patch.isObject()) {
+			throw new InvalidClienteException("O corpo do merge patch deve ser um objeto JSON");
+		}
+
+		AlteracaoCliente alteracao = new AlteracaoCliente();
+		for (Map.Entry<String, JsonNode> membro : patch.properties()) {
+			String campo = membro.getKey();
+			JsonNode valor = membro.getValue();
+
+			if (TEXTO.contains(campo)) {
+				alteracao.definir(campo, texto(campo, valor));
+			} else if (AlteracaoCliente.ENDERECO.equals(campo)) {
+				endereco(alteracao, valor);
+			} else if ("metadata".equals(campo)) {
+				metadata(alteracao, valor);
+			} else if (NAO_ALTERAVEIS.contains(campo)) {
+				throw new InvalidClienteException(campo, "não pode ser alterado");
+			} else {
+				throw new InvalidClienteException(campo, "campo desconhecido");
+			}
+		}
+		return alteracao;
+	}
+
+	// Funções auxiliares
+
+	private static void endereco(AlteracaoCliente alteracao, JsonNode endereco) {
+		if (endereco.isNull()) {
+			alteracao.removerEndereco();
+			return;
+		}
+		for (Map.Entry<String, JsonNode> membro : objeto("endereco", endereco)) {
+			String campo = "endereco." + membro.getKey();
+			if (!ENDERECO.contains(membro.getKey())) {
+				throw new InvalidClienteException(campo, "campo desconhecido");
+			}
+			alteracao.definir(campo, texto(campo, membro.getValue()));
+		}
+	}
+
+	private static void metadata(AlteracaoCliente alteracao, JsonNode metadata) {
+		if (metadata.isNull()) {
+			// dataDesativacao é controlada pela desativação e fica preservada
+			alteracao.definir("metadata.origem", null).definir("metadata.canal", null)
+					.definir("metadata.notas", null).definirTags(null);
+			return;
+		}
+		for (Map.Entry<String, JsonNode> membro : objeto("metadata", metadata)) {
+			String campo = "metadata." + membro.getKey();
+			if (!METADATA.contains(membro.getKey())) {
+				throw new InvalidClienteException(campo, "não pode ser alterado");
+			}
+			if ("tags".equals(membro.getKey())) {
+				alteracao.definirTags(tags(membro.getValue()));
+			} else {
+				alteracao.definir(campo, texto(campo, membro.getValue()));
+			}
+		}
+	}
+
+	private static Set<Map.Entry<String, JsonNode>> objeto(String campo, JsonNode valor) {
+		if (!valor.isObject()) {
+			throw new InvalidClienteException(campo, "deve ser um objeto ou null");
+		}
+		return valor.properties();
+	}
+
+	private static String texto(String campo, JsonNode valor) {
+		if (valor.isNull()) {
+			return null;
+		}
+		if (!valor.isTextual()) {
+			throw new InvalidClienteException(campo, "deve ser texto ou null");
+		}
+		return valor.textValue();
+	}
+
+	private static List<String> tags(JsonNode valor) {
+		if (valor.isNull()) {
+			return null;
+		}
+		if (!valor.isArray()) {
+			throw new InvalidClienteException("metadata.tags", "deve ser uma lista de textos ou null");
+		}
+		List<String> tags = new ArrayList<>(valor.size());
+		for (JsonNode tag : valor) {
+			if (!tag.isTextual()) {
+				throw new InvalidClienteException("metadata.tags", "deve ser uma lista de textos ou null");
+			}
+			tags.add(tag.textValue());
+		}
+		return tags;
+	}
+}
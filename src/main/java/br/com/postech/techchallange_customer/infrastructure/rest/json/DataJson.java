@@ -0,0 +1,51 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Escrita de LocalDateTime no formato yyyy-MM-dd'T'HH:mm:ss dos DTOs
+ * (@JsonFormat), montando os 19 caracteres direto, sem DateTimeFormatter
+ * Anos fora de 1..9999 (sinal ou mais de quatro dígitos) usam o formatter
+ */
+final class DataJson {
+
+	static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+	private static final int TAMANHO = 19;
+
+	private DataJson() {
+	}
+
+	static void escrever(JsonGenerator generator, LocalDateTime data) throws IOException {
+		int ano = data.getYear();
+		if (ano < 1 || ano > 9999) {
+			generator.writeString(FORMATO.format(data));
+			return;
+		}
+
+		char[] texto = new char[TAMANHO];
+		digitos(texto, 0, ano, 4);
+		texto[4] = '-';
+		digitos(texto, 5, data.getMonthValue(), 2);
+		texto[7] = '-';
+		digitos(texto, 8, data.getDayOfMonth(), 2);
+		texto[10] = 'T';
+		digitos(texto, 11, data.getHour(), 2);
+		texto[13] = ':';
+		digitos(texto, 14, data.getMinute(), 2);
+		texto[16] = ':';
+		digitos(texto, 17, data.getSecond(), 2);
+		generator.writeString(texto, 0, TAMANHO);
+	}
+
+	private static void digitos(char[] texto, int inicio, int valor, int quantidade) {
+		for (int i = inicio + quantidade - 1; i >= inicio; i--) {
+			texto[i] = (char) ('0' + valor % 10);
+			valor /= 10;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
+
+/**
+ * Serializador de EnderecoDTO com os nomes dos campos pré-codificados
+ * Mesma saída da serialização por reflexão: todos os campos, na ordem de
+ * declaração, inclusive os nulos
+ */
+public class EnderecoDTOSerializer extends StdSerializer<EnderecoDTO> {
+
+	private static final SerializedString RUA = new SerializedString("rua");
+	private static final SerializedString NUMERO = new SerializedString("numero");
+	private static final SerializedString COMPLEMENTO = new SerializedString("complemento");
+	private static final SerializedString BAIRRO = new SerializedString("bairro");
+	private static final SerializedString CIDADE = new SerializedString("cidade");
+	private static final SerializedString ESTADO = new SerializedString("estado");
+	private static final SerializedString CEP = new SerializedString("cep");
+
+	public EnderecoDTOSerializer() {
+		super(EnderecoDTO.class);
+	}
+
+	@Override
+	public void serialize(EnderecoDTO endereco, JsonGenerator generator, SerializerProvider provider)
+			throws IOException {
+		generator.writeStartObject(endereco);
+		escrever(generator, RUA, endereco.getRua());
+		escrever(generator, NUMERO, endereco.getNumero());
+		escrever(generator, COMPLEMENTO, endereco.getComplemento());
+		escrever(generator, BAIRRO, endereco.getBairro());
+		escrever(generator, CIDADE, endereco.getCidade());
+		escrever(generator, ESTADO, endereco.getEstado());
+		escrever(generator, CEP, endereco.getCep());
+		generator.writeEndObject();
+	}
+
+	private static void escrever(JsonGenerator generator, SerializedString campo, String valor) throws IOException {
+		generator.writeFieldName(campo);
+		generator.writeString(valor);
+	}
+}
@@ -0,0 +1,61 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import br.com.postech.techchallange_customer.application.dto.MetadataDTO;
+
+/**
+ * Serializador de MetadataDTO com os nomes dos campos pré-codificados
+ * Mesma saída da serialização por reflexão: todos os campos, na ordem de
+ * declaração, inclusive os nulos, e dataDesativacao no formato do @JsonFormat
+ */
+public class MetadataDTOSerializer extends StdSerializer<MetadataDTO> {
+
+	private static final SerializedString ORIGEM = new SerializedString("origem");
+	private static final SerializedString CANAL = new SerializedString("canal");
+	private static final SerializedString TAGS = new SerializedString("tags");
+	private static final SerializedString NOTAS = new SerializedString("notas");
+	private static final SerializedString DATA_DESATIVACAO = new SerializedString("dataDesativacao");
+
+	public MetadataDTOSerializer() {
+		super(MetadataDTO.class);
+	}
+
+	@Override
+	public void serialize(MetadataDTO metadata, JsonGenerator generator, SerializerProvider provider)
+			throws IOException {
+		generator.writeStartObject(metadata);
+		generator.writeFieldName(ORIGEM);
+		generator.writeString(metadata.getOrigem());
+		generator.writeFieldName(CANAL);
+		generator.writeString(metadata.getCanal());
+
+		generator.writeFieldName(TAGS);
+		List<String> tags = metadata.getTags();
+		if (tags == null) {
+			generator.writeNull();
+		} else {
+			generator.writeStartArray(tags, tags.size());
+			for (String tag : tags) {
+				generator.writeString(tag);
+			}
+			generator.writeEndArray();
+		}
+
+		generator.writeFieldName(NOTAS);
+		generator.writeString(metadata.getNotas());
+		generator.writeFieldName(DATA_DESATIVACAO);
+		if (metadata.getDataDesativacao() == null) {
+			generator.writeNull();
+		} else {
+			DataJson.escrever(generator, metadata.getDataDesativacao());
+		}
+		generator.writeEndObject();
+	}
+}
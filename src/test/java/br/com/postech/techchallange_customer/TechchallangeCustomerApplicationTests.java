@@ -10,10 +10,17 @@ import static org.mockito.Mockito.mockStatic;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndicesUnicos;
 
 @SpringBootTest
 class TechchallangeCustomerApplicationTests {
 
+	// sem MongoDB no ambiente de testes: a verificação síncrona dos índices únicos derrubaria o contexto
+	@MockitoBean
+	private ClienteIndicesUnicos clienteIndicesUnicos;
+
 	@Test
 	void contextLoads() {
 	}
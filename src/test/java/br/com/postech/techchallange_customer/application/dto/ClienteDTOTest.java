@@ -43,7 +43,7 @@ class ClienteDTOTest {
 	void deveValidarClienteDTOValido() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertTrue(violations.isEmpty());
@@ -53,7 +53,7 @@ class ClienteDTOTest {
 	@DisplayName("Deve falhar quando nome é null")
 	void deveFalharQuandoNomeEhNull() {
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
@@ -66,7 +66,7 @@ class ClienteDTOTest {
 	void deveFalharQuandoNomeEhVazio() {
 		clienteDTO.setNomeCliente("");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
@@ -78,7 +78,7 @@ class ClienteDTOTest {
 	void deveFalharQuandoNomeEhApenasEspacos() {
 		clienteDTO.setNomeCliente("   ");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
@@ -89,7 +89,7 @@ class ClienteDTOTest {
 	@DisplayName("Deve falhar quando email é null")
 	void deveFalharQuandoEmailEhNull() {
 		clienteDTO.setNomeCliente("João Silva");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
@@ -102,7 +102,7 @@ class ClienteDTOTest {
 	void deveFalharQuandoEmailEhVazio() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
@@ -114,7 +114,7 @@ class ClienteDTOTest {
 	void deveFalharQuandoEmailTemFormatoInvalido() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("email-invalido");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
@@ -126,7 +126,7 @@ class ClienteDTOTest {
 	void deveAceitarEmailValido() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao.silva@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertTrue(violations.isEmpty());
@@ -166,7 +166,7 @@ class ClienteDTOTest {
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
 		assertTrue(violations.stream()
-				.anyMatch(v -> v.getMessage().equals("O CPF deve conter exatamente 11 dígitos numéricos")));
+				.anyMatch(v -> v.getMessage().equals("O CPF deve conter 11 dígitos numéricos com dígitos verificadores válidos")));
 	}
 
 	@Test
@@ -179,7 +179,7 @@ class ClienteDTOTest {
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
 		assertTrue(violations.stream()
-				.anyMatch(v -> v.getMessage().equals("O CPF deve conter exatamente 11 dígitos numéricos")));
+				.anyMatch(v -> v.getMessage().equals("O CPF deve conter 11 dígitos numéricos com dígitos verificadores válidos")));
 	}
 
 	@Test
@@ -192,7 +192,7 @@ class ClienteDTOTest {
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertFalse(violations.isEmpty());
 		assertTrue(violations.stream()
-				.anyMatch(v -> v.getMessage().equals("O CPF deve conter exatamente 11 dígitos numéricos")));
+				.anyMatch(v -> v.getMessage().equals("O CPF deve conter 11 dígitos numéricos com dígitos verificadores válidos")));
 	}
 
 	@Test
@@ -200,18 +200,43 @@ class ClienteDTOTest {
 	void deveAceitarCpfValido() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
 		assertTrue(violations.isEmpty());
 	}
 
+	@Test
+	@DisplayName("Deve falhar quando CPF tem dígitos verificadores inválidos")
+	void deveFalharQuandoCpfTemDigitosVerificadoresInvalidos() {
+		clienteDTO.setNomeCliente("João Silva");
+		clienteDTO.setEmailCliente("joao@example.com");
+		clienteDTO.setCpfCliente("12345678901");
+
+		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
+		assertEquals(1, violations.size());
+		assertEquals("O CPF deve conter 11 dígitos numéricos com dígitos verificadores válidos",
+				violations.iterator().next().getMessage());
+	}
+
+	@Test
+	@DisplayName("Deve reportar apenas obrigatoriedade quando CPF está em branco")
+	void deveReportarApenasObrigatoriedadeQuandoCpfEmBranco() {
+		clienteDTO.setNomeCliente("João Silva");
+		clienteDTO.setEmailCliente("joao@example.com");
+		clienteDTO.setCpfCliente("");
+
+		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
+		assertEquals(1, violations.size());
+		assertEquals("O CPF é obrigatório", violations.iterator().next().getMessage());
+	}
+
 	@Test
 	@DisplayName("Deve validar endereço quando presente e válido")
 	void deveValidarEnderecoQuandoPresenteEValido() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		EnderecoDTO endereco = new EnderecoDTO();
 		endereco.setRua("Rua das Flores");
@@ -232,7 +257,7 @@ class ClienteDTOTest {
 	void deveFalharQuandoEnderecoTemEstadoInvalido() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		EnderecoDTO endereco = new EnderecoDTO();
 		endereco.setEstado("São Paulo");
@@ -249,7 +274,7 @@ class ClienteDTOTest {
 	void deveFalharQuandoEnderecoTemCepInvalido() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		EnderecoDTO endereco = new EnderecoDTO();
 		endereco.setEstado("SP");
@@ -266,7 +291,7 @@ class ClienteDTOTest {
 	void deveValidarMetadataQuandoPresenteEValida() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 
 		MetadataDTO metadata = new MetadataDTO();
 		metadata.setOrigem("Web");
@@ -315,7 +340,7 @@ class ClienteDTOTest {
 	@Test
 	@DisplayName("Deve testar getter e setter de cpfCliente")
 	void deveTestarGetterSetterDeCpfCliente() {
-		String cpf = "12345678901";
+		String cpf = "12345678909";
 		clienteDTO.setCpfCliente(cpf);
 		assertEquals(cpf, clienteDTO.getCpfCliente());
 	}
@@ -390,7 +415,7 @@ class ClienteDTOTest {
 	void deveAceitarTelefoneNull() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 		clienteDTO.setTelefone(null);
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
@@ -402,7 +427,7 @@ class ClienteDTOTest {
 	void deveAceitarEnderecoNull() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 		clienteDTO.setEndereco(null);
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
@@ -414,7 +439,7 @@ class ClienteDTOTest {
 	void deveAceitarMetadataNull() {
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 		clienteDTO.setMetadata(null);
 
 		Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(clienteDTO);
@@ -453,7 +478,7 @@ class ClienteDTOTest {
 		clienteDTO.setClienteId("cliente-456");
 		clienteDTO.setNomeCliente("João Silva");
 		clienteDTO.setEmailCliente("joao@example.com");
-		clienteDTO.setCpfCliente("12345678901");
+		clienteDTO.setCpfCliente("12345678909");
 		clienteDTO.setTelefone("11987654321");
 		clienteDTO.setEndereco(endereco);
 		clienteDTO.setAtivo(true);
@@ -469,7 +494,7 @@ class ClienteDTOTest {
 		assertEquals("cliente-456", clienteDTO.getClienteId());
 		assertEquals("João Silva", clienteDTO.getNomeCliente());
 		assertEquals("joao@example.com", clienteDTO.getEmailCliente());
-		assertEquals("12345678901", clienteDTO.getCpfCliente());
+		assertEquals("12345678909", clienteDTO.getCpfCliente());
 		assertEquals("11987654321", clienteDTO.getTelefone());
 		assertNotNull(clienteDTO.getEndereco());
 		assertTrue(clienteDTO.getAtivo());
@@ -12,12 +12,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import br.com.postech.techchallange_customer.application.dto.AlteracaoEmMassaDTO;
 import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
 import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
 import br.com.postech.techchallange_customer.application.dto.MetadataDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoAlteracaoEmMassaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoLoteDTO;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
 import br.com.postech.techchallange_customer.domain.entity.Endereco;
 import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.entity.TipoAlteracaoEmMassa;
 
 @DisplayName("ClienteMapper Tests")
 class ClienteMapperTest {
@@ -626,4 +637,104 @@ class ClienteMapperTest {
 		ClienteMapper mapper = new ClienteMapper();
 		assertNotNull(mapper);
 	}
+
+	@Test
+	@DisplayName("Deve converter resultados do lote numerando pela posição")
+	void deveConverterResultadosDoLote() {
+		Cliente criado = new Cliente("João Silva", "joao@email.com", "12345678901");
+		criado.setClienteId("uuid-1");
+		Cliente duplicado = new Cliente("Maria Souza", "maria@email.com", "10987654321");
+		duplicado.setClienteId("uuid-nao-gravado");
+
+		ResultadoLoteDTO dto = ClienteMapper.toResultadoLoteDTO(List.of(
+				ResultadoItemLote.criado(criado),
+				ResultadoItemLote.rejeitado(StatusItemLote.CPF_DUPLICADO, duplicado, "CPF duplicado"),
+				ResultadoItemLote.rejeitado(StatusItemLote.INVALIDO, null, "Cliente não pode ser nulo")));
+
+		assertEquals(3, dto.getTotal());
+		assertEquals(1, dto.getCriados());
+		assertEquals(2, dto.getRejeitados());
+		assertEquals(0, dto.getItens().get(0).getIndice());
+		assertEquals("CRIADO", dto.getItens().get(0).getStatus());
+		assertEquals("uuid-1", dto.getItens().get(0).getClienteId());
+		assertEquals("CPF_DUPLICADO", dto.getItens().get(1).getStatus());
+		assertNull(dto.getItens().get(1).getClienteId());
+		assertEquals("10987654321", dto.getItens().get(1).getCpfCliente());
+		assertEquals(2, dto.getItens().get(2).getIndice());
+		assertNull(dto.getItens().get(2).getCpfCliente());
+	}
+
+	@Test
+	@DisplayName("Deve retornar null ao converter resultados de lote nulos")
+	void deveRetornarNullParaResultadosDeLoteNulos() {
+		assertNull(ClienteMapper.toResultadoLoteDTO(null));
+	}
+
+	@Test
+	@DisplayName("Deve converter alteração em massa da API")
+	void deveConverterAlteracaoEmMassa() {
+		AlteracaoEmMassa alteracao = ClienteMapper.toAlteracaoEmMassa(new AlteracaoEmMassaDTO("remover-tag", "vip"));
+
+		assertEquals(TipoAlteracaoEmMassa.REMOVER_TAG, alteracao.getTipo());
+		assertEquals("vip", alteracao.getTag());
+		assertNull(ClienteMapper.toAlteracaoEmMassa(null));
+	}
+
+	@Test
+	@DisplayName("Deve converter resultado de alteração em massa para DTO")
+	void deveConverterResultadoAlteracaoEmMassa() {
+		ResultadoAlteracaoEmMassaDTO dto = ClienteMapper
+				.toResultadoAlteracaoEmMassaDTO(new ResultadoAlteracaoEmMassa(10, 4, false));
+
+		assertEquals(10, dto.getEncontrados());
+		assertEquals(4, dto.getAlterados());
+		assertFalse(dto.isSimulacao());
+		assertNull(ClienteMapper.toResultadoAlteracaoEmMassaDTO(null));
+	}
+
+	@Test
+	@DisplayName("Deve preencher apenas os campos da projeção")
+	void devePreencherApenasCamposDaProjecao() {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678901");
+		cliente.setClienteId("uuid-1");
+		cliente.setAtivo(true);
+		cliente.setEndereco(new Endereco("Rua A", "1", "São Paulo", "SP", "01234567"));
+		cliente.setMetadata(new Metadata("Web", "Site"));
+
+		ClienteDTO dto = ClienteMapper.toDTO(cliente, ProjecaoCliente.of("clienteId", "nomeCliente", "endereco"));
+
+		assertEquals("uuid-1", dto.getClienteId());
+		assertEquals("João Silva", dto.getNomeCliente());
+		assertEquals("São Paulo", dto.getEndereco().getCidade());
+		assertNull(dto.getCpfCliente());
+		assertNull(dto.getAtivo());
+		assertNull(dto.getMetadata());
+	}
+
+	@Test
+	@DisplayName("Deve converter todos os campos com a projeção completa")
+	void deveConverterTodosOsCamposComProjecaoCompleta() {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678901");
+
+		ClienteDTO dto = ClienteMapper.toDTO(cliente, ProjecaoCliente.completa());
+
+		assertEquals("joao@email.com", dto.getEmailCliente());
+		assertEquals("12345678901", dto.getCpfCliente());
+		assertNull(ClienteMapper.toDTO(null, ProjecaoCliente.of("clienteId")));
+	}
+
+	@Test
+	@DisplayName("Deve aplicar a projeção aos itens da página preservando o cursor")
+	void deveAplicarProjecaoAosItensDaPagina() {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678901");
+		cliente.setClienteId("uuid-1");
+
+		PaginaDTO<ClienteDTO> dto = ClienteMapper.toPaginaDTO(new Pagina<>(List.of(cliente), "proximo"),
+				ProjecaoCliente.of("clienteId"));
+
+		assertEquals("uuid-1", dto.getItens().get(0).getClienteId());
+		assertNull(dto.getItens().get(0).getNomeCliente());
+		assertEquals("proximo", dto.getProximoCursor());
+		assertNull(ClienteMapper.toPaginaDTO(null, ProjecaoCliente.completa()));
+	}
 }
@@ -0,0 +1,216 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlterarClienteService Tests")
+class AlterarClienteServiceTest {
+
+	private static final String CLIENTE_ID = "cliente-123";
+
+	@Mock
+	private ClienteRepositoryPort clienteRepository;
+
+	@Mock
+	private ClienteAutocompletarPort autocompletar;
+
+	private AlterarClienteService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new AlterarClienteService(clienteRepository, autocompletar, 2);
+	}
+
+	@Test
+	@DisplayName("Deve gravar apenas os campos alterados condicionados à versão lida")
+	void deveGravarCamposAlteradosNaVersaoLida() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", "11888888888");
+		Cliente alterado = cliente(4);
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenReturn(Optional.of(cliente(3)));
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(3), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.of(alterado));
+
+		Cliente resultado = service.execute(CLIENTE_ID, alteracao, null);
+
+		assertSame(alterado, resultado);
+		verify(autocompletar).registrar(alterado);
+		verify(clienteRepository, never()).update(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve aceitar If-Match com a versão atual")
+	void deveAceitarIfMatchComVersaoAtual() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", "11888888888");
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenReturn(Optional.of(cliente(3)));
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(3), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.of(cliente(4)));
+
+		assertEquals(4, service.execute(CLIENTE_ID, alteracao, 3).getVersao());
+	}
+
+	@Test
+	@DisplayName("Deve lançar exceção quando o cliente não existir")
+	void deveLancarExcecaoQuandoClienteNaoExistir() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", null);
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenReturn(Optional.empty());
+
+		assertThrows(ClienteNotFoundException.class, () -> service.execute(CLIENTE_ID, alteracao, null));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar If-Match com versão diferente da lida sem gravar")
+	void deveRejeitarIfMatchComVersaoDiferente() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", null);
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenReturn(Optional.of(cliente(3)));
+
+		assertThrows(VersaoDivergenteException.class, () -> service.execute(CLIENTE_ID, alteracao, 2));
+		verify(clienteRepository, never()).updateCampos(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve devolver o cliente lido sem gravar quando a alteração é vazia")
+	void deveDevolverClienteLidoQuandoAlteracaoVazia() {
+		Cliente lido = cliente(3);
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenReturn(Optional.of(lido));
+
+		assertSame(lido, service.execute(CLIENTE_ID, new AlteracaoCliente(), null));
+		verify(clienteRepository, never()).updateCampos(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve validar o cliente resultante antes de gravar")
+	void deveValidarClienteResultante() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("emailCliente", "sem-arroba");
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenReturn(Optional.of(cliente(3)));
+
+		assertThrows(InvalidClienteException.class, () -> service.execute(CLIENTE_ID, alteracao, null));
+		verify(clienteRepository, never()).updateCampos(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar estado, CEP e telefone fora do schema antes de gravar")
+	void deveRejeitarCamposForaDoSchema() {
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenAnswer(invocation -> Optional.of(cliente(3)));
+
+		for (AlteracaoCliente alteracao : List.of(
+				new AlteracaoCliente().definir("endereco.estado", "São Paulo"),
+				new AlteracaoCliente().definir("endereco.cep", "01310-100"),
+				new AlteracaoCliente().definir("telefone", "(11) 98888-8888"))) {
+			assertThrows(InvalidClienteException.class, () -> service.execute(CLIENTE_ID, alteracao, null));
+		}
+		verify(clienteRepository, never()).updateCampos(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve refazer a alteração sobre a nova leitura quando outra escrita mudou outros campos")
+	void deveRefazerAlteracaoQuandoOutraEscritaMudouOutrosCampos() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", "11888888888");
+		Cliente concorrente = cliente(4);
+		concorrente.setNomeCliente("Maria Souza");
+		Cliente alterado = cliente(5);
+		when(clienteRepository.findByClienteId(CLIENTE_ID))
+				.thenReturn(Optional.of(cliente(3)), Optional.of(concorrente));
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(3), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.empty());
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(4), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.of(alterado));
+
+		assertSame(alterado, service.execute(CLIENTE_ID, alteracao, null));
+	}
+
+	@Test
+	@DisplayName("Deve lançar alteração concorrente quando outra escrita mudou o mesmo campo")
+	void deveLancarAlteracaoConcorrenteQuandoOutraEscritaMudouMesmoCampo() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("endereco.cidade", "Recife");
+		Cliente concorrente = cliente(4);
+		concorrente.setEndereco(null);
+		when(clienteRepository.findByClienteId(CLIENTE_ID))
+				.thenReturn(Optional.of(comEndereco(cliente(3))), Optional.of(concorrente));
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(3), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.empty());
+
+		assertThrows(AlteracaoConcorrenteException.class, () -> service.execute(CLIENTE_ID, alteracao, null));
+		verify(autocompletar, never()).registrar(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve lançar versão divergente sem refazer quando a escrita com If-Match colide")
+	void deveLancarVersaoDivergenteQuandoEscritaComIfMatchColide() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", "11888888888");
+		when(clienteRepository.findByClienteId(CLIENTE_ID))
+				.thenReturn(Optional.of(cliente(3)), Optional.of(cliente(4)));
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(3), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.empty());
+
+		assertThrows(VersaoDivergenteException.class, () -> service.execute(CLIENTE_ID, alteracao, 3));
+		verify(clienteRepository, times(1)).updateCampos(any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve lançar alteração concorrente ao esgotar as tentativas")
+	void deveLancarAlteracaoConcorrenteAoEsgotarTentativas() {
+		service = new AlterarClienteService(clienteRepository, autocompletar, 0);
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", "11888888888");
+		Cliente concorrente = cliente(4);
+		concorrente.setNomeCliente("Maria Souza");
+		when(clienteRepository.findByClienteId(CLIENTE_ID))
+				.thenReturn(Optional.of(cliente(3)), Optional.of(concorrente));
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(3), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.empty());
+
+		assertThrows(AlteracaoConcorrenteException.class, () -> service.execute(CLIENTE_ID, alteracao, null));
+	}
+
+	@Test
+	@DisplayName("Deve lançar cliente não encontrado quando ele é removido entre leitura e gravação")
+	void deveLancarNaoEncontradoQuandoClienteRemovidoNaGravacao() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", "11888888888");
+		when(clienteRepository.findByClienteId(CLIENTE_ID)).thenReturn(Optional.of(cliente(3)), Optional.empty());
+		when(clienteRepository.updateCampos(eq(CLIENTE_ID), eq(3), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.empty());
+
+		assertThrows(ClienteNotFoundException.class, () -> service.execute(CLIENTE_ID, alteracao, null));
+	}
+
+	// Funções auxiliares
+
+	private static Cliente cliente(Integer versao) {
+		Cliente cliente = new Cliente("Maria", "maria@email.com", "12345678909");
+		cliente.setClienteId(CLIENTE_ID);
+		cliente.setVersao(versao);
+		return cliente;
+	}
+
+	private static Cliente comEndereco(Cliente cliente) {
+		cliente.setEndereco(new Endereco("Rua A", "10", "Olinda", "PE", "53000000"));
+		return cliente;
+	}
+}
@@ -0,0 +1,142 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.TipoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlterarClientesEmMassaService Tests")
+class AlterarClientesEmMassaServiceTest {
+
+	@Mock
+	private ClienteRepositoryPort clienteRepository;
+
+	@Mock
+	private ClienteAutocompletarPort clienteAutocompletar;
+
+	private AlterarClientesEmMassaService service;
+
+	private final FiltroCliente filtro = new FiltroCliente(true, "São Paulo", null, null);
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new AlterarClientesEmMassaService(clienteRepository, clienteAutocompletar, true);
+	}
+
+	@Test
+	@DisplayName("Deve aplicar a alteração com uma única chamada ao repositório")
+	void deveAplicarAlteracaoComUmaUnicaChamada() {
+		AlteracaoEmMassa alteracao = AlteracaoEmMassa.adicionarTag("vip");
+		ResultadoAlteracaoEmMassa esperado = new ResultadoAlteracaoEmMassa(10, 7, false);
+		when(clienteRepository.updateByFiltro(eq(filtro), eq(alteracao), any(LocalDateTime.class))).thenReturn(esperado);
+
+		ResultadoAlteracaoEmMassa resultado = service.execute(filtro, alteracao, false);
+
+		assertSame(esperado, resultado);
+		verify(clienteRepository, never()).countParaAlteracao(any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve recarregar o autocompletar após desativar ou reativar clientes")
+	void deveRecarregarAutocompletarAposAlterarStatus() {
+		when(clienteRepository.updateByFiltro(eq(filtro), any(AlteracaoEmMassa.class), any(LocalDateTime.class)))
+				.thenReturn(new ResultadoAlteracaoEmMassa(5, 5, false));
+
+		service.execute(filtro, AlteracaoEmMassa.desativar(), false);
+		service.execute(filtro, AlteracaoEmMassa.reativar(), false);
+
+		verify(clienteAutocompletar, times(2)).reconstruirEmSegundoPlano();
+	}
+
+	@Test
+	@DisplayName("Não deve recarregar o autocompletar em alterações de tag ou sem clientes alterados")
+	void naoDeveRecarregarAutocompletarSemMudancaDeStatus() {
+		when(clienteRepository.updateByFiltro(eq(filtro), any(AlteracaoEmMassa.class), any(LocalDateTime.class)))
+				.thenReturn(new ResultadoAlteracaoEmMassa(5, 5, false))
+				.thenReturn(new ResultadoAlteracaoEmMassa(0, 0, false));
+
+		service.execute(filtro, AlteracaoEmMassa.adicionarTag("vip"), false);
+		service.execute(filtro, AlteracaoEmMassa.desativar(), false);
+
+		verify(clienteAutocompletar, never()).reconstruirEmSegundoPlano();
+	}
+
+	@Test
+	@DisplayName("Não deve recarregar o autocompletar quando o change stream o mantém atualizado")
+	void naoDeveRecarregarAutocompletarComChangeStream() {
+		AlterarClientesEmMassaService comChangeStream = new AlterarClientesEmMassaService(clienteRepository,
+				clienteAutocompletar, false);
+		when(clienteRepository.updateByFiltro(eq(filtro), any(AlteracaoEmMassa.class), any(LocalDateTime.class)))
+				.thenReturn(new ResultadoAlteracaoEmMassa(5, 5, false));
+
+		comChangeStream.execute(filtro, AlteracaoEmMassa.desativar(), false);
+
+		verify(clienteAutocompletar, never()).reconstruirEmSegundoPlano();
+	}
+
+	@Test
+	@DisplayName("Deve apenas contar os clientes na simulação")
+	void deveApenasContarNaSimulacao() {
+		AlteracaoEmMassa alteracao = AlteracaoEmMassa.desativar();
+		when(clienteRepository.countParaAlteracao(filtro, alteracao)).thenReturn(15L);
+
+		ResultadoAlteracaoEmMassa resultado = service.execute(filtro, alteracao, true);
+
+		assertTrue(resultado.isSimulacao());
+		assertEquals(15L, resultado.getEncontrados());
+		assertEquals(15L, resultado.getAlterados());
+		verify(clienteRepository, never()).updateByFiltro(any(), any(), any());
+		verify(clienteAutocompletar, never()).reconstruirEmSegundoPlano();
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar filtro vazio")
+	void deveRejeitarFiltroVazio() {
+		assertThrows(InvalidClienteException.class,
+				() -> service.execute(FiltroCliente.todos(), AlteracaoEmMassa.desativar(), false));
+		assertThrows(InvalidClienteException.class,
+				() -> service.execute(null, AlteracaoEmMassa.desativar(), true));
+		verify(clienteRepository, never()).updateByFiltro(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve exigir tag nas operações de tag")
+	void deveExigirTagNasOperacoesDeTag() {
+		assertThrows(InvalidClienteException.class,
+				() -> service.execute(filtro, AlteracaoEmMassa.adicionarTag(" "), false));
+		assertThrows(InvalidClienteException.class,
+				() -> service.execute(filtro, new AlteracaoEmMassa(TipoAlteracaoEmMassa.REMOVER_TAG, null), false));
+	}
+
+	@Test
+	@DisplayName("Deve exigir a operação")
+	void deveExigirOperacao() {
+		assertThrows(InvalidClienteException.class, () -> service.execute(filtro, null, false));
+		assertThrows(InvalidClienteException.class,
+				() -> service.execute(filtro, new AlteracaoEmMassa(null, null), false));
+	}
+}
@@ -24,8 +24,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
 import br.com.postech.techchallange_customer.domain.entity.Endereco;
 import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
 import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +38,14 @@ class AtualizarClienteServiceTest {
 	@Mock
 	private ClienteRepositoryPort clienteRepository;
 
+	@Mock
+	private ClienteAutocompletarPort autocompletar;
+
 	private AtualizarClienteService service;
 
 	@BeforeEach
 	void setUp() {
-		service = new AtualizarClienteService(clienteRepository);
+		service = new AtualizarClienteService(clienteRepository, autocompletar);
 	}
 
 	@Test
@@ -541,7 +547,60 @@ class AtualizarClienteServiceTest {
 	@Test
 	@DisplayName("Deve criar instância do serviço com construtor")
 	void deveCriarInstanciaDoServicoComConstrutor() {
-		AtualizarClienteService novoService = new AtualizarClienteService(clienteRepository);
+		AtualizarClienteService novoService = new AtualizarClienteService(clienteRepository, autocompletar);
 		assertNotNull(novoService);
 	}
+
+	@Test
+	@DisplayName("Deve registrar o cliente atualizado no índice de autocompletar")
+	void deveRegistrarClienteAtualizadoNoAutocompletar() {
+		Cliente existente = new Cliente("Nome Antigo", "antigo@example.com", "12345678909");
+		existente.setClienteId("cliente-123");
+		Cliente atualizacao = new Cliente("Nome Novo", "novo@example.com", "12345678909");
+		when(clienteRepository.findByClienteId("cliente-123")).thenReturn(Optional.of(existente));
+		when(clienteRepository.update(existente)).thenReturn(existente);
+
+		service.execute("cliente-123", atualizacao);
+
+		verify(autocompletar).registrar(existente);
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar a atualização quando o cliente não está na versão do If-Match")
+	void deveRejeitarAtualizacaoComVersaoDivergente() {
+		Cliente existente = new Cliente("Nome Antigo", "antigo@example.com", "12345678909");
+		existente.setClienteId("cliente-123");
+		existente.setVersao(3);
+		Cliente atualizacao = new Cliente("Nome Novo", "novo@example.com", "12345678909");
+		when(clienteRepository.findByClienteId("cliente-123")).thenReturn(Optional.of(existente));
+
+		assertThrows(VersaoDivergenteException.class, () -> service.execute("cliente-123", atualizacao, 2));
+		verify(clienteRepository, never()).update(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve converter a escrita concorrente em versão divergente quando há If-Match")
+	void deveConverterEscritaConcorrenteEmVersaoDivergenteComIfMatch() {
+		Cliente existente = new Cliente("Nome Antigo", "antigo@example.com", "12345678909");
+		existente.setClienteId("cliente-123");
+		existente.setVersao(2);
+		Cliente atualizacao = new Cliente("Nome Novo", "novo@example.com", "12345678909");
+		when(clienteRepository.findByClienteId("cliente-123")).thenReturn(Optional.of(existente));
+		when(clienteRepository.update(existente)).thenThrow(new AlteracaoConcorrenteException("cliente-123"));
+
+		assertThrows(VersaoDivergenteException.class, () -> service.execute("cliente-123", atualizacao, 2));
+	}
+
+	@Test
+	@DisplayName("Deve propagar a escrita concorrente quando não há If-Match")
+	void devePropagarEscritaConcorrenteSemIfMatch() {
+		Cliente existente = new Cliente("Nome Antigo", "antigo@example.com", "12345678909");
+		existente.setClienteId("cliente-123");
+		Cliente atualizacao = new Cliente("Nome Novo", "novo@example.com", "12345678909");
+		when(clienteRepository.findByClienteId("cliente-123")).thenReturn(Optional.of(existente));
+		when(clienteRepository.update(existente)).thenThrow(new AlteracaoConcorrenteException("cliente-123"));
+
+		assertThrows(AlteracaoConcorrenteException.class, () -> service.execute("cliente-123", atualizacao));
+		verify(autocompletar, never()).registrar(any(Cliente.class));
+	}
 }
@@ -0,0 +1,57 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutocompletarClienteService Tests")
+class AutocompletarClienteServiceTest {
+
+	@Mock
+	private ClienteAutocompletarPort autocompletar;
+
+	@InjectMocks
+	private AutocompletarClienteService service;
+
+	@Test
+	@DisplayName("Deve sugerir com o texto aparado e o limite padrão")
+	void deveSugerirComLimitePadrao() {
+		List<Cliente> sugestoes = List.of(new Cliente());
+		when(autocompletar.sugerir("joão", 10)).thenReturn(sugestoes);
+
+		assertSame(sugestoes, service.sugerir("  joão ", null));
+	}
+
+	@Test
+	@DisplayName("Deve limitar a quantidade de sugestões ao máximo")
+	void deveLimitarQuantidadeDeSugestoes() {
+		service.sugerir("jo", 500);
+		service.sugerir("jo", 5);
+
+		verify(autocompletar).sugerir("jo", 20);
+		verify(autocompletar).sugerir("jo", 5);
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar texto ausente")
+	void deveRejeitarTextoAusente() {
+		assertThrows(InvalidClienteException.class, () -> service.sugerir(null, null));
+		assertThrows(InvalidClienteException.class, () -> service.sugerir("  ", 5));
+		verifyNoInteractions(autocompletar);
+	}
+}
@@ -24,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
 import br.com.postech.techchallange_customer.domain.entity.Endereco;
 import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
@@ -468,4 +469,24 @@ class BuscarClienteServiceTest {
 		assertEquals(cpf, porCpf.get().getCpfCliente());
 		assertEquals(email, porEmail.get().getEmailCliente());
 	}
+
+	@Test
+	@DisplayName("Deve repassar a projeção ao repositório nas buscas pontuais")
+	void deveRepassarProjecaoAoRepositorio() {
+		ProjecaoCliente projecao = ProjecaoCliente.of("clienteId", "nomeCliente");
+		Cliente cliente = new Cliente();
+		cliente.setClienteId("cliente-1");
+
+		when(clienteRepository.findByClienteId("cliente-1", projecao)).thenReturn(Optional.of(cliente));
+		when(clienteRepository.findByCpf("11111111111", projecao)).thenReturn(Optional.empty());
+		when(clienteRepository.findByEmail("cliente1@example.com", projecao)).thenReturn(Optional.of(cliente));
+
+		assertSame(cliente, service.porClienteId("cliente-1", projecao).orElseThrow());
+		assertTrue(service.porCpf("11111111111", projecao).isEmpty());
+		assertSame(cliente, service.porEmail("cliente1@example.com", projecao).orElseThrow());
+
+		verify(clienteRepository, never()).findByClienteId(anyString());
+		verify(clienteRepository, never()).findByCpf(anyString());
+		verify(clienteRepository, never()).findByEmail(anyString());
+	}
 }
@@ -28,6 +28,7 @@ import br.com.postech.techchallange_customer.domain.entity.Endereco;
 import br.com.postech.techchallange_customer.domain.entity.Metadata;
 import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
 import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,12 +38,15 @@ class CriarClienteServiceTest {
 	@Mock
 	private ClienteRepositoryPort clienteRepository;
 
+	@Mock
+	private ClienteAutocompletarPort autocompletar;
+
 	private CriarClienteService service;
 
 	@BeforeEach
 	@SuppressWarnings("unused")
 	void setUp() {
-		service = new CriarClienteService(clienteRepository);
+		service = new CriarClienteService(clienteRepository, autocompletar);
 	}
 
 	@Test
@@ -51,26 +55,24 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
 		assertNotNull(resultado);
 		assertEquals("João Silva", resultado.getNomeCliente());
 		assertEquals("joao@example.com", resultado.getEmailCliente());
-		assertEquals("12345678901", resultado.getCpfCliente());
+		assertEquals("12345678909", resultado.getCpfCliente());
 		assertNotNull(resultado.getClienteId());
 		assertTrue(resultado.getAtivo());
 		assertNotNull(resultado.getDataCadastro());
 		assertNotNull(resultado.getDataUltimaAtualizacao());
 
-		verify(clienteRepository).existsByCpf("12345678901");
-		verify(clienteRepository).existsByEmail("joao@example.com");
-		verify(clienteRepository).save(any(Cliente.class));
+		verify(clienteRepository, never()).existsByCpf(anyString());
+		verify(clienteRepository, never()).existsByEmail(anyString());
+		verify(clienteRepository).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -90,14 +92,12 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("Maria Santos");
 		cliente.setEmailCliente("maria@example.com");
-		cliente.setCpfCliente("98765432109");
+		cliente.setCpfCliente("98765432100");
 		cliente.setTelefone("11987654321");
 		cliente.setEndereco(endereco);
 		cliente.setMetadata(metadata);
 
-		when(clienteRepository.existsByCpf("98765432109")).thenReturn(false);
-		when(clienteRepository.existsByEmail("maria@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -118,7 +118,7 @@ class CriarClienteServiceTest {
 				() -> service.execute(null));
 
 		assertEquals("Cliente não pode ser nulo", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 		verify(clienteRepository, never()).existsByCpf(anyString());
 		verify(clienteRepository, never()).existsByEmail(anyString());
 	}
@@ -136,7 +136,7 @@ class CriarClienteServiceTest {
 				() -> service.execute(cliente));
 
 		assertEquals("Dados do cliente inválidos", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -145,14 +145,14 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente(null);
 		cliente.setEmailCliente("teste@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
 				() -> service.execute(cliente));
 
 		assertEquals("Dados do cliente inválidos", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -161,14 +161,14 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("");
 		cliente.setEmailCliente("teste@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
 				() -> service.execute(cliente));
 
 		assertEquals("Dados do cliente inválidos", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -177,14 +177,14 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente(null);
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
 				() -> service.execute(cliente));
 
 		assertEquals("Dados do cliente inválidos", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -193,14 +193,14 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
 				() -> service.execute(cliente));
 
 		assertEquals("Dados do cliente inválidos", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -216,7 +216,7 @@ class CriarClienteServiceTest {
 				() -> service.execute(cliente));
 
 		assertEquals("Dados do cliente inválidos", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -232,7 +232,7 @@ class CriarClienteServiceTest {
 				() -> service.execute(cliente));
 
 		assertEquals("Dados do cliente inválidos", exception.getMessage());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -248,7 +248,7 @@ class CriarClienteServiceTest {
 				() -> service.execute(cliente));
 
 		assertTrue(exception.getMessage().contains("CPF") || exception.getMessage().contains("inválido"));
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -264,7 +264,7 @@ class CriarClienteServiceTest {
 				() -> service.execute(cliente));
 
 		assertTrue(exception.getMessage().contains("CPF") || exception.getMessage().contains("inválido"));
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -273,14 +273,14 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("email-invalido");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
 				() -> service.execute(cliente));
 
 		assertTrue(exception.getMessage().contains("E-mail") || exception.getMessage().contains("inválido"));
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -289,19 +289,19 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(true);
+		when(clienteRepository.insert(any(Cliente.class)))
+				.thenThrow(new ClienteAlreadyExistsException("CPF", "12345678909"));
 
 		ClienteAlreadyExistsException exception = assertThrows(
 				ClienteAlreadyExistsException.class,
 				() -> service.execute(cliente));
 
 		assertTrue(exception.getMessage().contains("CPF"));
-		assertTrue(exception.getMessage().contains("12345678901"));
-		verify(clienteRepository).existsByCpf("12345678901");
+		assertTrue(exception.getMessage().contains("12345678909"));
+		verify(clienteRepository, never()).existsByCpf(anyString());
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
 	}
 
 	@Test
@@ -310,10 +310,10 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(true);
+		when(clienteRepository.insert(any(Cliente.class)))
+				.thenThrow(new ClienteAlreadyExistsException("e-mail", "joao@example.com"));
 
 		ClienteAlreadyExistsException exception = assertThrows(
 				ClienteAlreadyExistsException.class,
@@ -321,9 +321,7 @@ class CriarClienteServiceTest {
 
 		assertTrue(exception.getMessage().contains("e-mail"));
 		assertTrue(exception.getMessage().contains("joao@example.com"));
-		verify(clienteRepository).existsByCpf("12345678901");
-		verify(clienteRepository).existsByEmail("joao@example.com");
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).existsByEmail(anyString());
 	}
 
 	@Test
@@ -332,12 +330,10 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		cliente.setClienteId(null);
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -353,12 +349,10 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		cliente.setClienteId(clienteIdExistente);
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -371,12 +365,10 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		cliente.setAtivo(false);
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -391,11 +383,9 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -414,11 +404,9 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -430,20 +418,20 @@ class CriarClienteServiceTest {
 	}
 
 	@Test
-	@DisplayName("Deve verificar existência de CPF antes de email")
-	void deveVerificarExistenciaDeCpfAntesDeEmail() {
+	@DisplayName("Deve criar cliente com uma única escrita, sem consultas prévias de duplicidade")
+	void deveCriarClienteComUmaUnicaEscrita() {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(true);
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
-				() -> service.execute(cliente));
+		service.execute(cliente);
 
-		assertNotNull(exception);
-		verify(clienteRepository).existsByCpf("12345678901");
+		verify(clienteRepository).insert(cliente);
+		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).existsByCpf(anyString());
 		verify(clienteRepository, never()).existsByEmail(anyString());
 	}
 
@@ -453,22 +441,20 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		cliente.setTelefone("11987654321");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		service.execute(cliente);
 
 		ArgumentCaptor<Cliente> clienteCaptor = ArgumentCaptor.forClass(Cliente.class);
-		verify(clienteRepository).save(clienteCaptor.capture());
+		verify(clienteRepository).insert(clienteCaptor.capture());
 
 		Cliente clienteSalvo = clienteCaptor.getValue();
 		assertEquals("João Silva", clienteSalvo.getNomeCliente());
 		assertEquals("joao@example.com", clienteSalvo.getEmailCliente());
-		assertEquals("12345678901", clienteSalvo.getCpfCliente());
+		assertEquals("12345678909", clienteSalvo.getCpfCliente());
 		assertEquals("11987654321", clienteSalvo.getTelefone());
 		assertTrue(clienteSalvo.getAtivo());
 		assertNotNull(clienteSalvo.getClienteId());
@@ -482,11 +468,9 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("user.name+tag@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("user.name+tag@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -500,12 +484,10 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		cliente.setTelefone(null);
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -519,12 +501,10 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		cliente.setEndereco(null);
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -538,12 +518,10 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		cliente.setMetadata(null);
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(clienteRepository.insert(any(Cliente.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		Cliente resultado = service.execute(cliente);
 
@@ -565,13 +543,13 @@ class CriarClienteServiceTest {
 
 		verify(clienteRepository, never()).existsByCpf(anyString());
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
 	@DisplayName("Deve criar instância do serviço com construtor")
 	void deveCriarInstanciaDoServicoComConstrutor() {
-		CriarClienteService novoService = new CriarClienteService(clienteRepository);
+		CriarClienteService novoService = new CriarClienteService(clienteRepository, autocompletar);
 		assertNotNull(novoService);
 	}
 
@@ -581,18 +559,16 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		Cliente clienteSalvo = new Cliente();
 		clienteSalvo.setId("id-gerado-123");
 		clienteSalvo.setClienteId("cliente-gerado-456");
 		clienteSalvo.setNomeCliente("João Silva");
 		clienteSalvo.setEmailCliente("joao@example.com");
-		clienteSalvo.setCpfCliente("12345678901");
+		clienteSalvo.setCpfCliente("12345678909");
 
-		when(clienteRepository.existsByCpf("12345678901")).thenReturn(false);
-		when(clienteRepository.existsByEmail("joao@example.com")).thenReturn(false);
-		when(clienteRepository.save(any(Cliente.class))).thenReturn(clienteSalvo);
+		when(clienteRepository.insert(any(Cliente.class))).thenReturn(clienteSalvo);
 
 		Cliente resultado = service.execute(cliente);
 
@@ -615,7 +591,7 @@ class CriarClienteServiceTest {
 		// isValido() retorna false, então lança exceção genérica primeiro
 		assertTrue(exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByCpf(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -633,7 +609,7 @@ class CriarClienteServiceTest {
 		// isValido() retorna false, então lança exceção genérica primeiro
 		assertTrue(exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByCpf(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -651,7 +627,7 @@ class CriarClienteServiceTest {
 		assertTrue(exception.getMessage().contains("CPF") ||
 				exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByCpf(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -660,7 +636,7 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("emailinvalido.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
@@ -669,7 +645,7 @@ class CriarClienteServiceTest {
 		// isValido() retorna false, então lança exceção genérica primeiro
 		assertTrue(exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -678,7 +654,7 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("email@");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
@@ -687,7 +663,7 @@ class CriarClienteServiceTest {
 		// isValido() retorna false, então lança exceção genérica primeiro
 		assertTrue(exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -696,7 +672,7 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
@@ -706,7 +682,7 @@ class CriarClienteServiceTest {
 				exception.getMessage().contains("email") ||
 				exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -725,7 +701,7 @@ class CriarClienteServiceTest {
 				exception.getMessage().contains("inválid"));
 		// Não deve chamar existsByCpf se CPF é inválido
 		verify(clienteRepository, never()).existsByCpf(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -734,7 +710,7 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("emailinvalido"); // Email inválido
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
@@ -745,7 +721,7 @@ class CriarClienteServiceTest {
 				exception.getMessage().contains("inválid"));
 		// Não deve chamar existsByEmail se email é inválido
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -762,7 +738,7 @@ class CriarClienteServiceTest {
 
 		// A validação deve falhar
 		assertNotNull(exception);
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -780,7 +756,7 @@ class CriarClienteServiceTest {
 		// A validação deve falhar porque CPF é inválido
 		assertNotNull(exception);
 		assertTrue(exception.getMessage().contains("inválid"));
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -798,7 +774,7 @@ class CriarClienteServiceTest {
 		// isValido() falha porque isCpfValido() retorna false
 		assertTrue(exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByCpf(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -807,7 +783,7 @@ class CriarClienteServiceTest {
 		Cliente cliente = new Cliente();
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joaoexample.com"); // Email sem @
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		InvalidClienteException exception = assertThrows(
 				InvalidClienteException.class,
@@ -816,7 +792,7 @@ class CriarClienteServiceTest {
 		// isValido() falha porque isEmailValido() retorna false
 		assertTrue(exception.getMessage().contains("inválid"));
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -825,7 +801,7 @@ class CriarClienteServiceTest {
 		Cliente cliente = spy(new Cliente());
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		// Mockando para isValido retornar true mas isCpfValido retornar false
 		when(cliente.isValido()).thenReturn(true);
@@ -835,9 +811,9 @@ class CriarClienteServiceTest {
 				InvalidClienteException.class,
 				() -> service.execute(cliente));
 
-		assertEquals("Campo 'CPF' inválido: formato inválido (deve conter 11 dígitos)", exception.getMessage());
+		assertEquals("Campo 'CPF' inválido: formato inválido (11 dígitos com verificadores válidos)", exception.getMessage());
 		verify(clienteRepository, never()).existsByCpf(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
 	}
 
 	@Test
@@ -846,7 +822,7 @@ class CriarClienteServiceTest {
 		Cliente cliente = spy(new Cliente());
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		// Mockando para isValido e isCpfValido retornarem true mas isEmailValido
 		// retornar false
@@ -860,6 +836,18 @@ class CriarClienteServiceTest {
 
 		assertEquals("Campo 'E-mail' inválido: formato inválido", exception.getMessage());
 		verify(clienteRepository, never()).existsByEmail(anyString());
-		verify(clienteRepository, never()).save(any(Cliente.class));
+		verify(clienteRepository, never()).insert(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve registrar o cliente criado no índice de autocompletar")
+	void deveRegistrarClienteCriadoNoAutocompletar() {
+		Cliente cliente = new Cliente("João Silva", "joao@example.com", "12345678909");
+		Cliente criado = new Cliente("João Silva", "joao@example.com", "12345678909");
+		when(clienteRepository.insert(cliente)).thenReturn(criado);
+
+		service.execute(cliente);
+
+		verify(autocompletar).registrar(criado);
 	}
 }
@@ -0,0 +1,167 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CriarClientesEmLoteService Tests")
+class CriarClientesEmLoteServiceTest {
+
+	@Mock
+	private ClienteRepositoryPort clienteRepository;
+
+	@Mock
+	private ClienteAutocompletarPort autocompletar;
+
+	private CriarClientesEmLoteService service;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new CriarClientesEmLoteService(clienteRepository, autocompletar, 3);
+	}
+
+	@Test
+	@DisplayName("Deve preparar e inserir todos os clientes válidos em uma chamada")
+	@SuppressWarnings("unchecked")
+	void devePrepararEInserirClientesValidos() {
+		Cliente primeiro = new Cliente("João Silva", "joao@email.com", "12345678909");
+		Cliente segundo = new Cliente("Maria Souza", "maria@email.com", "10987654357");
+		when(clienteRepository.insertAll(anyList())).thenAnswer(invocation -> criados(invocation.getArgument(0)));
+
+		List<ResultadoItemLote> resultados = service.execute(List.of(primeiro, segundo));
+
+		ArgumentCaptor<List<Cliente>> captor = ArgumentCaptor.forClass(List.class);
+		verify(clienteRepository).insertAll(captor.capture());
+		assertEquals(List.of(primeiro, segundo), captor.getValue());
+		assertEquals(2, resultados.size());
+		assertTrue(resultados.stream().allMatch(ResultadoItemLote::isCriado));
+		assertNotNull(primeiro.getClienteId());
+		assertTrue(primeiro.getAtivo());
+		assertNotNull(primeiro.getDataCadastro());
+		assertEquals(primeiro.getDataCadastro(), segundo.getDataCadastro());
+		verify(autocompletar).registrar(primeiro);
+		verify(autocompletar).registrar(segundo);
+	}
+
+	@Test
+	@DisplayName("Deve marcar itens inválidos sem enviá-los ao repositório")
+	@SuppressWarnings("unchecked")
+	void deveMarcarItensInvalidosSemEnviarAoRepositorio() {
+		Cliente invalido = new Cliente("João Silva", "joao@email.com", "123");
+		Cliente valido = new Cliente("Maria Souza", "maria@email.com", "10987654357");
+		when(clienteRepository.insertAll(anyList())).thenAnswer(invocation -> criados(invocation.getArgument(0)));
+
+		List<ResultadoItemLote> resultados = service.execute(Arrays.asList(invalido, null, valido));
+
+		ArgumentCaptor<List<Cliente>> captor = ArgumentCaptor.forClass(List.class);
+		verify(clienteRepository).insertAll(captor.capture());
+		assertEquals(List.of(valido), captor.getValue());
+		assertEquals(StatusItemLote.INVALIDO, resultados.get(0).getStatus());
+		assertNotNull(resultados.get(0).getMensagem());
+		assertSame(invalido, resultados.get(0).getCliente());
+		assertEquals(StatusItemLote.INVALIDO, resultados.get(1).getStatus());
+		assertEquals(StatusItemLote.CRIADO, resultados.get(2).getStatus());
+		assertSame(valido, resultados.get(2).getCliente());
+	}
+
+	@Test
+	@DisplayName("Deve devolver os resultados do repositório na posição original")
+	void deveDevolverResultadosDoRepositorioNaPosicaoOriginal() {
+		Cliente invalido = new Cliente("João Silva", "email-invalido", "12345678909");
+		Cliente duplicado = new Cliente("Maria Souza", "maria@email.com", "10987654357");
+		Cliente criado = new Cliente("Ana Lima", "ana@email.com", "11122233396");
+		when(clienteRepository.insertAll(List.of(duplicado, criado))).thenReturn(List.of(
+				ResultadoItemLote.rejeitado(StatusItemLote.EMAIL_DUPLICADO, duplicado, "e-mail duplicado"),
+				ResultadoItemLote.criado(criado)));
+
+		List<ResultadoItemLote> resultados = service.execute(List.of(invalido, duplicado, criado));
+
+		assertEquals(StatusItemLote.INVALIDO, resultados.get(0).getStatus());
+		assertEquals(StatusItemLote.EMAIL_DUPLICADO, resultados.get(1).getStatus());
+		assertEquals(StatusItemLote.CRIADO, resultados.get(2).getStatus());
+	}
+
+	@Test
+	@DisplayName("Deve marcar como inválidos os itens rejeitados pela validação do DTO")
+	@SuppressWarnings("unchecked")
+	void deveMarcarItensRejeitadosPelaValidacaoDoDto() {
+		Cliente rejeitado = new Cliente("João Silva", "joao@email.com", "12345678909");
+		Cliente valido = new Cliente("Maria Souza", "maria@email.com", "10987654357");
+		when(clienteRepository.insertAll(anyList())).thenAnswer(invocation -> criados(invocation.getArgument(0)));
+
+		List<ResultadoItemLote> resultados = service.execute(List.of(rejeitado, valido),
+				Map.of(0, "endereco.estado: Estado deve ter 2 caracteres"));
+
+		ArgumentCaptor<List<Cliente>> captor = ArgumentCaptor.forClass(List.class);
+		verify(clienteRepository).insertAll(captor.capture());
+		assertEquals(List.of(valido), captor.getValue());
+		assertEquals(StatusItemLote.INVALIDO, resultados.get(0).getStatus());
+		assertEquals("endereco.estado: Estado deve ter 2 caracteres", resultados.get(0).getMensagem());
+		assertSame(rejeitado, resultados.get(0).getCliente());
+		assertEquals(StatusItemLote.CRIADO, resultados.get(1).getStatus());
+	}
+
+	@Test
+	@DisplayName("Não deve chamar o repositório quando todos os itens são inválidos")
+	void naoDeveChamarRepositorioQuandoTodosInvalidos() {
+		List<ResultadoItemLote> resultados = service.execute(List.of(new Cliente()));
+
+		assertEquals(StatusItemLote.INVALIDO, resultados.get(0).getStatus());
+		verify(clienteRepository, never()).insertAll(any());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar lote vazio")
+	void deveRejeitarLoteVazio() {
+		assertThrows(InvalidClienteException.class, () -> service.execute(Collections.emptyList()));
+		assertThrows(InvalidClienteException.class, () -> service.execute(null));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar lote acima do limite")
+	void deveRejeitarLoteAcimaDoLimite() {
+		List<Cliente> clientes = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			clientes.add(new Cliente("Cliente " + i, "cliente" + i + "@email.com", String.format("%011d", i)));
+		}
+
+		InvalidClienteException exception = assertThrows(InvalidClienteException.class,
+				() -> service.execute(clientes));
+
+		assertTrue(exception.getMessage().contains("3"));
+		verify(clienteRepository, never()).insertAll(any());
+	}
+
+	private static List<ResultadoItemLote> criados(List<Cliente> clientes) {
+		return clientes.stream().map(ResultadoItemLote::criado).toList();
+	}
+}
@@ -1,8 +1,7 @@
 package br.com.postech.techchallange_customer.application.service;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -12,8 +11,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.Mock;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,8 +18,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import br.com.postech.techchallange_customer.domain.entity.Cliente;
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
 import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,11 +29,15 @@ class DeletarClienteServiceTest {
 	@Mock
 	private ClienteRepositoryPort clienteRepository;
 
+	@Mock
+	private ClienteAutocompletarPort autocompletar;
+
 	private DeletarClienteService service;
 
 	@BeforeEach
+	@SuppressWarnings("unused")
 	void setUp() {
-		service = new DeletarClienteService(clienteRepository);
+		service = new DeletarClienteService(clienteRepository, autocompletar);
 	}
 
 	@Test
@@ -44,18 +45,10 @@ class DeletarClienteServiceTest {
 	void deveDeletarClienteComSucessoQuandoClienteExiste() {
 		String clienteId = "cliente-123";
 
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-		cliente.setNomeCliente("João Silva");
-		cliente.setEmailCliente("joao@example.com");
-		cliente.setCpfCliente("12345678901");
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
+		when(clienteRepository.deleteByClienteId(clienteId)).thenReturn(true);
 
 		assertDoesNotThrow(() -> service.execute(clienteId));
 
-		verify(clienteRepository).findByClienteId(clienteId);
 		verify(clienteRepository).deleteByClienteId(clienteId);
 	}
 
@@ -64,311 +57,86 @@ class DeletarClienteServiceTest {
 	void deveLancarExcecaoQuandoClienteNaoExiste() {
 		String clienteId = "cliente-inexistente";
 
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.empty());
+		when(clienteRepository.deleteByClienteId(clienteId)).thenReturn(false);
 
 		ClienteNotFoundException exception = assertThrows(
 				ClienteNotFoundException.class,
 				() -> service.execute(clienteId));
 
 		assertTrue(exception.getMessage().contains(clienteId));
-		verify(clienteRepository).findByClienteId(clienteId);
-		verify(clienteRepository, never()).deleteByClienteId(anyString());
 	}
 
 	@Test
-	@DisplayName("Deve verificar existência do cliente antes de deletar")
-	void deveVerificarExistenciaDoClienteAntesDeDeletar() {
+	@DisplayName("Deve deletar com uma única operação, sem buscar o cliente antes")
+	void deveDeletarComUmaUnicaOperacao() {
 		String clienteId = "cliente-123";
 
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
+		when(clienteRepository.deleteByClienteId(clienteId)).thenReturn(true);
 
 		service.execute(clienteId);
 
-		verify(clienteRepository).findByClienteId(clienteId);
-		verify(clienteRepository).deleteByClienteId(clienteId);
+		verify(clienteRepository, times(1)).deleteByClienteId(clienteId);
+		verify(clienteRepository, never()).findByClienteId(anyString());
 		verifyNoMoreInteractions(clienteRepository);
 	}
 
-	@Test
-	@DisplayName("Deve deletar cliente ativo")
-	void deveDeletarClienteAtivo() {
-		String clienteId = "cliente-ativo";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-		cliente.setNomeCliente("Cliente Ativo");
-		cliente.setAtivo(true);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
-
-		assertDoesNotThrow(() -> service.execute(clienteId));
-
-		verify(clienteRepository).deleteByClienteId(clienteId);
-	}
-
-	@Test
-	@DisplayName("Deve deletar cliente inativo")
-	void deveDeletarClienteInativo() {
-		String clienteId = "cliente-inativo";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-		cliente.setNomeCliente("Cliente Inativo");
-		cliente.setAtivo(false);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
-
-		assertDoesNotThrow(() -> service.execute(clienteId));
-
-		verify(clienteRepository).deleteByClienteId(clienteId);
-	}
-
-	@Test
-	@DisplayName("Deve chamar deleteByClienteId com ID correto")
-	void deveChamarDeleteByClienteIdComIdCorreto() {
-		String clienteId = "cliente-especifico-456";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
-
-		service.execute(clienteId);
-
-		verify(clienteRepository).deleteByClienteId(clienteId);
-	}
-
 	@Test
 	@DisplayName("Deve aceitar clienteId null e lançar exceção")
 	void deveAceitarClienteIdNullELancarExcecao() {
-		when(clienteRepository.findByClienteId(null)).thenReturn(Optional.empty());
-
-		ClienteNotFoundException exception = assertThrows(
-				ClienteNotFoundException.class,
-				() -> service.execute(null));
+		when(clienteRepository.deleteByClienteId(null)).thenReturn(false);
 
-		assertNotNull(exception);
-		verify(clienteRepository).findByClienteId(null);
-		verify(clienteRepository, never()).deleteByClienteId(anyString());
+		assertThrows(ClienteNotFoundException.class, () -> service.execute(null));
 	}
 
 	@Test
 	@DisplayName("Deve aceitar clienteId vazio e lançar exceção")
 	void deveAceitarClienteIdVazioELancarExcecao() {
-		String clienteId = "";
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.empty());
-
-		ClienteNotFoundException exception = assertThrows(
-				ClienteNotFoundException.class,
-				() -> service.execute(clienteId));
-
-		assertNotNull(exception);
-		verify(clienteRepository).findByClienteId(clienteId);
-		verify(clienteRepository, never()).deleteByClienteId(anyString());
-	}
+		when(clienteRepository.deleteByClienteId("")).thenReturn(false);
 
-	@Test
-	@DisplayName("Deve deletar cliente com dados completos")
-	void deveDeletarClienteComDadosCompletos() {
-		String clienteId = "cliente-completo";
-
-		Cliente cliente = new Cliente();
-		cliente.setId("id-123");
-		cliente.setClienteId(clienteId);
-		cliente.setNomeCliente("João Silva Completo");
-		cliente.setEmailCliente("completo@example.com");
-		cliente.setCpfCliente("12345678901");
-		cliente.setTelefone("11987654321");
-		cliente.setAtivo(true);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
-
-		assertDoesNotThrow(() -> service.execute(clienteId));
-
-		verify(clienteRepository).findByClienteId(clienteId);
-		verify(clienteRepository).deleteByClienteId(clienteId);
-	}
-
-	@Test
-	@DisplayName("Deve deletar cliente com dados mínimos")
-	void deveDeletarClienteComDadosMinimos() {
-		String clienteId = "cliente-minimo";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
-
-		assertDoesNotThrow(() -> service.execute(clienteId));
-
-		verify(clienteRepository).deleteByClienteId(clienteId);
-	}
-
-	@Test
-	@DisplayName("Deve executar deleção sem retornar valor")
-	void deveExecutarDelecaoSemRetornarValor() {
-		String clienteId = "cliente-123";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
-
-		// O método execute é void, então não deve retornar nada
-		service.execute(clienteId);
-
-		verify(clienteRepository).deleteByClienteId(clienteId);
-	}
-
-	@Test
-	@DisplayName("Deve chamar repositório exatamente uma vez para verificar e uma vez para deletar")
-	void deveChamarRepositorioExatamenteUmaVezParaVerificarEUmaVezParaDeletar() {
-		String clienteId = "cliente-123";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
-
-		service.execute(clienteId);
-
-		verify(clienteRepository, times(1)).findByClienteId(clienteId);
-		verify(clienteRepository, times(1)).deleteByClienteId(clienteId);
-	}
-
-	@Test
-	@DisplayName("Deve lançar exceção com mensagem contendo o clienteId")
-	void deveLancarExcecaoComMensagemContendoOClienteId() {
-		String clienteId = "cliente-nao-encontrado-789";
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.empty());
-
-		ClienteNotFoundException exception = assertThrows(
-				ClienteNotFoundException.class,
-				() -> service.execute(clienteId));
-
-		assertTrue(exception.getMessage().contains(clienteId));
-		assertTrue(exception.getMessage().contains("não encontrado") ||
-				exception.getMessage().contains("não existe"));
+		assertThrows(ClienteNotFoundException.class, () -> service.execute(""));
 	}
 
 	@Test
 	@DisplayName("Deve deletar múltiplos clientes em sequência")
 	void deveDeletarMultiplosClientesEmSequencia() {
-		String clienteId1 = "cliente-1";
-		String clienteId2 = "cliente-2";
-		String clienteId3 = "cliente-3";
-
-		Cliente cliente1 = new Cliente();
-		cliente1.setClienteId(clienteId1);
-
-		Cliente cliente2 = new Cliente();
-		cliente2.setClienteId(clienteId2);
-
-		Cliente cliente3 = new Cliente();
-		cliente3.setClienteId(clienteId3);
+		when(clienteRepository.deleteByClienteId(anyString())).thenReturn(true);
 
-		when(clienteRepository.findByClienteId(clienteId1)).thenReturn(Optional.of(cliente1));
-		when(clienteRepository.findByClienteId(clienteId2)).thenReturn(Optional.of(cliente2));
-		when(clienteRepository.findByClienteId(clienteId3)).thenReturn(Optional.of(cliente3));
+		service.execute("cliente-1");
+		service.execute("cliente-2");
 
-		doNothing().when(clienteRepository).deleteByClienteId(anyString());
-
-		assertDoesNotThrow(() -> service.execute(clienteId1));
-		assertDoesNotThrow(() -> service.execute(clienteId2));
-		assertDoesNotThrow(() -> service.execute(clienteId3));
-
-		verify(clienteRepository).deleteByClienteId(clienteId1);
-		verify(clienteRepository).deleteByClienteId(clienteId2);
-		verify(clienteRepository).deleteByClienteId(clienteId3);
+		verify(clienteRepository).deleteByClienteId("cliente-1");
+		verify(clienteRepository).deleteByClienteId("cliente-2");
 	}
 
 	@Test
 	@DisplayName("Deve criar instância do serviço com construtor")
 	void deveCriarInstanciaDoServicoComConstrutor() {
-		DeletarClienteService novoService = new DeletarClienteService(clienteRepository);
+		DeletarClienteService novoService = new DeletarClienteService(clienteRepository, autocompletar);
 		assertNotNull(novoService);
 	}
 
-	@Test
-	@DisplayName("Deve propagar exceção do repositório se houver erro ao verificar existência")
-	void devePropagararExcecaoDoRepositorioSeHouverErroAoVerificarExistencia() {
-		String clienteId = "cliente-com-erro";
-
-		when(clienteRepository.findByClienteId(clienteId))
-				.thenThrow(new RuntimeException("Erro no banco de dados"));
-
-		assertThrows(RuntimeException.class, () -> service.execute(clienteId));
-
-		verify(clienteRepository).findByClienteId(clienteId);
-		verify(clienteRepository, never()).deleteByClienteId(anyString());
-	}
-
 	@Test
 	@DisplayName("Deve propagar exceção do repositório se houver erro ao deletar")
-	void devePropagararExcecaoDoRepositorioSeHouverErroAoDeletar() {
-		String clienteId = "cliente-erro-delete";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doThrow(new RuntimeException("Erro ao deletar")).when(clienteRepository).deleteByClienteId(clienteId);
-
-		assertThrows(RuntimeException.class, () -> service.execute(clienteId));
-
-		verify(clienteRepository).findByClienteId(clienteId);
-		verify(clienteRepository).deleteByClienteId(clienteId);
-	}
-
-	@Test
-	@DisplayName("Deve deletar cliente independente do estado dos dados")
-	void deveDeletarClienteIndependenteDoEstadoDosDados() {
-		String clienteId = "cliente-qualquer-estado";
-
-		// Cliente com alguns campos null
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
-		cliente.setNomeCliente(null);
-		cliente.setEmailCliente(null);
-		cliente.setCpfCliente(null);
+	void devePropagarExcecaoDoRepositorioSeHouverErroAoDeletar() {
+		String clienteId = "cliente-123";
 
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(Optional.of(cliente));
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
+		when(clienteRepository.deleteByClienteId(clienteId)).thenThrow(new RuntimeException("Erro ao deletar"));
 
-		assertDoesNotThrow(() -> service.execute(clienteId));
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> service.execute(clienteId));
 
-		verify(clienteRepository).deleteByClienteId(clienteId);
+		assertEquals("Erro ao deletar", exception.getMessage());
 	}
 
 	@Test
-	@DisplayName("Deve usar Optional.isPresent para verificar existência")
-	void deveUsarOptionalIsPresentParaVerificarExistencia() {
-		String clienteId = "cliente-present";
-
-		Cliente cliente = new Cliente();
-		cliente.setClienteId(clienteId);
+	@DisplayName("Deve remover do índice de autocompletar apenas quando o cliente existe")
+	void deveRemoverDoAutocompletarApenasQuandoClienteExiste() {
+		when(clienteRepository.deleteByClienteId("cliente-123")).thenReturn(true);
+		when(clienteRepository.deleteByClienteId("cliente-inexistente")).thenReturn(false);
 
-		Optional<Cliente> optionalCliente = Optional.of(cliente);
-		when(clienteRepository.findByClienteId(clienteId)).thenReturn(optionalCliente);
-		doNothing().when(clienteRepository).deleteByClienteId(clienteId);
+		service.execute("cliente-123");
+		assertThrows(ClienteNotFoundException.class, () -> service.execute("cliente-inexistente"));
 
-		service.execute(clienteId);
-
-		// Verifica que o método foi chamado e que isPresent() retornou true
-		verify(clienteRepository).findByClienteId(clienteId);
-		verify(clienteRepository).deleteByClienteId(clienteId);
+		verify(autocompletar).remover("cliente-123");
+		verifyNoMoreInteractions(autocompletar);
 	}
 }
@@ -0,0 +1,71 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportarClientesService Tests")
+class ExportarClientesServiceTest {
+
+	@Mock
+	private ClienteRepositoryPort clienteRepository;
+
+	private ExportarClientesService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new ExportarClientesService(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve repassar filtro e consumidor ao repositório")
+	@SuppressWarnings("unchecked")
+	void deveRepassarFiltroEConsumidorAoRepositorio() {
+		FiltroCliente filtro = new FiltroCliente(true, "São Paulo", "SP", "vip");
+		List<Cliente> recebidos = new ArrayList<>();
+		when(clienteRepository.streamByFiltro(eq(filtro), any(Consumer.class))).thenAnswer(invocation -> {
+			Consumer<Cliente> consumidor = invocation.getArgument(1);
+			consumidor.accept(new Cliente());
+			consumidor.accept(new Cliente());
+			return 2L;
+		});
+
+		long total = service.execute(filtro, recebidos::add);
+
+		assertEquals(2L, total);
+		assertEquals(2, recebidos.size());
+	}
+
+	@Test
+	@DisplayName("Deve exportar todos os clientes quando filtro é nulo")
+	@SuppressWarnings("unchecked")
+	void deveExportarTodosQuandoFiltroNulo() {
+		ArgumentCaptor<FiltroCliente> captor = ArgumentCaptor.forClass(FiltroCliente.class);
+		when(clienteRepository.streamByFiltro(captor.capture(), any(Consumer.class))).thenReturn(0L);
+
+		service.execute(null, cliente -> {
+		});
+
+		assertTrue(captor.getValue().isVazio());
+		verify(clienteRepository).streamByFiltro(any(FiltroCliente.class), any(Consumer.class));
+	}
+}
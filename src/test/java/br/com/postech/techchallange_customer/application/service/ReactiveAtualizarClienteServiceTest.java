@@ -0,0 +1,134 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveAtualizarClienteService Tests")
+class ReactiveAtualizarClienteServiceTest {
+
+	@Mock
+	private ReactiveClienteRepositoryPort clienteRepository;
+
+	private ReactiveAtualizarClienteService service;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new ReactiveAtualizarClienteService(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve atualizar campos editáveis e preservar os demais")
+	void deveAtualizarCamposEditaveisEPreservarDemais() {
+		Cliente existente = clienteExistente();
+		when(clienteRepository.findByClienteId(eq("cliente-123"), any(ProjecaoCliente.class)))
+				.thenReturn(Mono.just(existente));
+		when(clienteRepository.update(any(Cliente.class)))
+				.thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+		StepVerifier.create(service.execute("cliente-123", atualizacao("Maria Souza", "maria@example.com")))
+				.assertNext(atualizado -> {
+					assertEquals("Maria Souza", atualizado.getNomeCliente());
+					assertEquals("maria@example.com", atualizado.getEmailCliente());
+					assertEquals("12345678909", atualizado.getCpfCliente());
+					assertEquals("cliente-123", atualizado.getClienteId());
+					assertTrue(atualizado.getDataUltimaAtualizacao().isAfter(LocalDateTime.of(2024, 1, 1, 0, 0)));
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve ler o documento completo antes de regravar")
+	void deveLerDocumentoCompletoAntesDeRegravar() {
+		when(clienteRepository.findByClienteId(eq("cliente-123"), any(ProjecaoCliente.class)))
+				.thenReturn(Mono.just(clienteExistente()));
+		when(clienteRepository.update(any(Cliente.class)))
+				.thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+		StepVerifier.create(service.execute("cliente-123", atualizacao("Maria Souza", "maria@example.com")))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		verify(clienteRepository).findByClienteId(eq("cliente-123"),
+				argThat(ProjecaoCliente::isCompleta));
+	}
+
+	@Test
+	@DisplayName("Deve emitir ClienteNotFoundException quando cliente não existe")
+	void deveEmitirClienteNotFoundExceptionQuandoClienteNaoExiste() {
+		when(clienteRepository.findByClienteId(eq("inexistente"), any(ProjecaoCliente.class)))
+				.thenReturn(Mono.empty());
+
+		StepVerifier.create(service.execute("inexistente", atualizacao("Maria Souza", "maria@example.com")))
+				.expectError(ClienteNotFoundException.class)
+				.verify();
+		verify(clienteRepository, never()).update(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve emitir InvalidClienteException quando e-mail tem formato inválido")
+	void deveEmitirInvalidClienteExceptionQuandoEmailTemFormatoInvalido() {
+		when(clienteRepository.findByClienteId(eq("cliente-123"), any(ProjecaoCliente.class)))
+				.thenReturn(Mono.just(clienteExistente()));
+
+		StepVerifier.create(service.execute("cliente-123", atualizacao("Maria Souza", "email-invalido")))
+				.expectError(InvalidClienteException.class)
+				.verify();
+		verify(clienteRepository, never()).update(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve emitir InvalidClienteException quando atualização é null")
+	void deveEmitirInvalidClienteExceptionQuandoAtualizacaoENull() {
+		when(clienteRepository.findByClienteId(eq("cliente-123"), any(ProjecaoCliente.class)))
+				.thenReturn(Mono.just(clienteExistente()));
+
+		StepVerifier.create(service.execute("cliente-123", null))
+				.expectError(InvalidClienteException.class)
+				.verify();
+	}
+
+	// Funções auxiliares
+
+	private Cliente clienteExistente() {
+		Cliente cliente = new Cliente();
+		cliente.setClienteId("cliente-123");
+		cliente.setNomeCliente("João Silva");
+		cliente.setEmailCliente("joao@example.com");
+		cliente.setCpfCliente("12345678909");
+		cliente.setAtivo(true);
+		cliente.setDataCadastro(LocalDateTime.of(2024, 1, 1, 0, 0));
+		cliente.setDataUltimaAtualizacao(LocalDateTime.of(2024, 1, 1, 0, 0));
+		return cliente;
+	}
+
+	private Cliente atualizacao(String nome, String email) {
+		Cliente cliente = new Cliente();
+		cliente.setNomeCliente(nome);
+		cliente.setEmailCliente(email);
+		return cliente;
+	}
+}
@@ -0,0 +1,80 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveBuscarClienteService Tests")
+class ReactiveBuscarClienteServiceTest {
+
+	@Mock
+	private ReactiveClienteRepositoryPort clienteRepository;
+
+	private ReactiveBuscarClienteService service;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new ReactiveBuscarClienteService(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve buscar por clienteId com a projeção informada")
+	void deveBuscarPorClienteIdComProjecaoInformada() {
+		Cliente cliente = new Cliente();
+		ProjecaoCliente projecao = ProjecaoCliente.completa();
+		when(clienteRepository.findByClienteId("cliente-123", projecao)).thenReturn(Mono.just(cliente));
+
+		StepVerifier.create(service.porClienteId("cliente-123", projecao))
+				.assertNext(encontrado -> assertSame(cliente, encontrado))
+				.verifyComplete();
+		verify(clienteRepository).findByClienteId("cliente-123", projecao);
+	}
+
+	@Test
+	@DisplayName("Deve buscar por CPF")
+	void deveBuscarPorCpf() {
+		Cliente cliente = new Cliente();
+		ProjecaoCliente projecao = ProjecaoCliente.completa();
+		when(clienteRepository.findByCpf("12345678909", projecao)).thenReturn(Mono.just(cliente));
+
+		StepVerifier.create(service.porCpf("12345678909", projecao))
+				.assertNext(encontrado -> assertSame(cliente, encontrado))
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve buscar por e-mail")
+	void deveBuscarPorEmail() {
+		Cliente cliente = new Cliente();
+		ProjecaoCliente projecao = ProjecaoCliente.completa();
+		when(clienteRepository.findByEmail("joao@example.com", projecao)).thenReturn(Mono.just(cliente));
+
+		StepVerifier.create(service.porEmail("joao@example.com", projecao))
+				.assertNext(encontrado -> assertSame(cliente, encontrado))
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve completar vazio quando cliente não existe")
+	void deveCompletarVazioQuandoClienteNaoExiste() {
+		ProjecaoCliente projecao = ProjecaoCliente.completa();
+		when(clienteRepository.findByClienteId("inexistente", projecao)).thenReturn(Mono.empty());
+
+		StepVerifier.create(service.porClienteId("inexistente", projecao))
+				.verifyComplete();
+	}
+}
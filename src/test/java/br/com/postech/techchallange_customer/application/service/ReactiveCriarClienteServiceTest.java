@@ -0,0 +1,100 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveCriarClienteService Tests")
+class ReactiveCriarClienteServiceTest {
+
+	@Mock
+	private ReactiveClienteRepositoryPort clienteRepository;
+
+	private ReactiveCriarClienteService service;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new ReactiveCriarClienteService(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve criar cliente ativo, com id e datas preenchidos")
+	void deveCriarClienteAtivoComIdEDatasPreenchidos() {
+		when(clienteRepository.insert(any(Cliente.class)))
+				.thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+		StepVerifier.create(service.execute(clienteValido()))
+				.assertNext(criado -> {
+					assertNotNull(criado.getClienteId());
+					assertTrue(criado.getAtivo());
+					assertNotNull(criado.getDataCadastro());
+					assertNotNull(criado.getDataUltimaAtualizacao());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve validar apenas na assinatura")
+	void deveValidarApenasNaAssinatura() {
+		Mono<Cliente> resultado = service.execute(new Cliente());
+
+		verifyNoInteractions(clienteRepository);
+		StepVerifier.create(resultado)
+				.expectError(InvalidClienteException.class)
+				.verify();
+		verify(clienteRepository, never()).insert(any(Cliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve emitir erro quando cliente é null")
+	void deveEmitirErroQuandoClienteENull() {
+		StepVerifier.create(service.execute(null))
+				.expectError(InvalidClienteException.class)
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Deve propagar duplicidade informada pelo repositório")
+	void devePropagarDuplicidadeInformadaPeloRepositorio() {
+		Cliente cliente = clienteValido();
+		when(clienteRepository.insert(any(Cliente.class)))
+				.thenReturn(Mono.error(new ClienteAlreadyExistsException("CPF", cliente.getCpfCliente())));
+
+		StepVerifier.create(service.execute(cliente))
+				.expectErrorSatisfies(erro -> {
+					assertEquals(ClienteAlreadyExistsException.class, erro.getClass());
+					assertTrue(erro.getMessage().contains(cliente.getCpfCliente()));
+				})
+				.verify();
+	}
+
+	// Funções auxiliares
+
+	private Cliente clienteValido() {
+		Cliente cliente = new Cliente();
+		cliente.setNomeCliente("João Silva");
+		cliente.setEmailCliente("joao@example.com");
+		cliente.setCpfCliente("12345678909");
+		return cliente;
+	}
+}
@@ -0,0 +1,68 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveDeletarClienteService Tests")
+class ReactiveDeletarClienteServiceTest {
+
+	@Mock
+	private ReactiveClienteRepositoryPort clienteRepository;
+
+	private ReactiveDeletarClienteService service;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new ReactiveDeletarClienteService(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve deletar com uma única operação e completar vazio")
+	void deveDeletarComUmaUnicaOperacao() {
+		when(clienteRepository.deleteByClienteId("cliente-123")).thenReturn(Mono.just(true));
+
+		StepVerifier.create(service.execute("cliente-123")).verifyComplete();
+
+		verify(clienteRepository).deleteByClienteId("cliente-123");
+		verifyNoMoreInteractions(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve emitir ClienteNotFoundException quando nada foi removido")
+	void deveEmitirClienteNotFoundExceptionQuandoNadaFoiRemovido() {
+		when(clienteRepository.deleteByClienteId("inexistente")).thenReturn(Mono.just(false));
+
+		StepVerifier.create(service.execute("inexistente"))
+				.expectErrorSatisfies(erro -> {
+					assertTrue(erro instanceof ClienteNotFoundException);
+					assertTrue(erro.getMessage().contains("inexistente"));
+				})
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Deve propagar erro do repositório")
+	void devePropagarErroDoRepositorio() {
+		when(clienteRepository.deleteByClienteId("cliente-123"))
+				.thenReturn(Mono.error(new RuntimeException("Erro no banco de dados")));
+
+		StepVerifier.create(service.execute("cliente-123"))
+				.expectErrorMessage("Erro no banco de dados")
+				.verify();
+	}
+}
@@ -0,0 +1,98 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveListarClientesService Tests")
+class ReactiveListarClientesServiceTest {
+
+	@Mock
+	private ReactiveClienteRepositoryPort clienteRepository;
+
+	private ReactiveListarClientesService service;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new ReactiveListarClientesService(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve delegar as listagens paginadas ao repositório")
+	void deveDelegarListagensPaginadasAoRepositorio() {
+		ConsultaPaginada consulta = ConsultaPaginada.primeiraPagina();
+		Pagina<Cliente> pagina = new Pagina<>(List.of(new Cliente()), null);
+		when(clienteRepository.findAll(consulta)).thenReturn(Mono.just(pagina));
+		when(clienteRepository.findAllAtivos(consulta)).thenReturn(Mono.just(pagina));
+		when(clienteRepository.findClientesAtivosPorCidade("São Paulo", consulta)).thenReturn(Mono.just(pagina));
+		when(clienteRepository.findClientesVipAtivos(consulta)).thenReturn(Mono.just(pagina));
+
+		StepVerifier.create(service.todos(consulta)).expectNext(pagina).verifyComplete();
+		StepVerifier.create(service.ativos(consulta)).expectNext(pagina).verifyComplete();
+		StepVerifier.create(service.porCidade("São Paulo", consulta)).expectNext(pagina).verifyComplete();
+		StepVerifier.create(service.vipAtivos(consulta)).expectNext(pagina).verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve transmitir os clientes do filtro com a projeção informada")
+	void deveTransmitirClientesDoFiltroComProjecaoInformada() {
+		FiltroCliente filtro = FiltroCliente.todos();
+		ProjecaoCliente projecao = ProjecaoCliente.completa();
+		Cliente primeiro = new Cliente();
+		Cliente segundo = new Cliente();
+		when(clienteRepository.streamByFiltro(same(filtro), same(projecao))).thenReturn(Flux.just(primeiro, segundo));
+
+		StepVerifier.create(service.fluxo(filtro, projecao))
+				.expectNext(primeiro, segundo)
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve usar filtro e projeção completos quando não informados")
+	void deveUsarFiltroEProjecaoCompletosQuandoNaoInformados() {
+		when(clienteRepository.streamByFiltro(any(FiltroCliente.class), any(ProjecaoCliente.class)))
+				.thenReturn(Flux.empty());
+
+		StepVerifier.create(service.fluxo(null, null)).verifyComplete();
+
+		ArgumentCaptor<FiltroCliente> filtro = ArgumentCaptor.forClass(FiltroCliente.class);
+		ArgumentCaptor<ProjecaoCliente> projecao = ArgumentCaptor.forClass(ProjecaoCliente.class);
+		verify(clienteRepository).streamByFiltro(filtro.capture(), projecao.capture());
+		assertEquals(null, filtro.getValue().getAtivo());
+		assertTrue(projecao.getValue().isCompleta());
+	}
+
+	@Test
+	@DisplayName("Deve contar clientes ativos")
+	void deveContarClientesAtivos() {
+		when(clienteRepository.countAtivos()).thenReturn(Mono.just(42L));
+
+		StepVerifier.create(service.contarAtivos())
+				.assertNext(total -> assertEquals(42L, total))
+				.verifyComplete();
+	}
+}
@@ -0,0 +1,94 @@
+package br.com.postech.techchallange_customer.application.service;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveReativarClienteService Tests")
+class ReactiveReativarClienteServiceTest {
+
+	@Mock
+	private ReactiveClienteRepositoryPort clienteRepository;
+
+	private ReactiveReativarClienteService service;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		service = new ReactiveReativarClienteService(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve reativar com uma única operação atômica e completar vazio")
+	void deveReativarComUmaUnicaOperacaoAtomica() {
+		when(clienteRepository.reativarByClienteId(eq("cliente-123"), any(LocalDateTime.class)))
+				.thenReturn(Mono.just(true));
+
+		StepVerifier.create(service.execute("cliente-123")).verifyComplete();
+
+		verify(clienteRepository).reativarByClienteId(eq("cliente-123"), any(LocalDateTime.class));
+		verifyNoMoreInteractions(clienteRepository);
+	}
+
+	@Test
+	@DisplayName("Deve emitir ClienteNotFoundException quando cliente não existe")
+	void deveEmitirClienteNotFoundExceptionQuandoClienteNaoExiste() {
+		when(clienteRepository.reativarByClienteId(eq("inexistente"), any(LocalDateTime.class)))
+				.thenReturn(Mono.just(false));
+
+		StepVerifier.create(service.execute("inexistente"))
+				.expectErrorSatisfies(erro -> {
+					assertTrue(erro instanceof ClienteNotFoundException);
+					assertTrue(erro.getMessage().contains("inexistente"));
+				})
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Deve informar a data da alteração no momento da assinatura")
+	void deveInformarDataDaAlteracaoNoMomentoDaAssinatura() {
+		when(clienteRepository.reativarByClienteId(eq("cliente-123"), any(LocalDateTime.class)))
+				.thenReturn(Mono.just(true));
+
+		Mono<Void> resultado = service.execute("cliente-123");
+		verifyNoInteractions(clienteRepository);
+
+		LocalDateTime antes = LocalDateTime.now();
+		StepVerifier.create(resultado).verifyComplete();
+
+		ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(clienteRepository).reativarByClienteId(eq("cliente-123"), captor.capture());
+		assertFalse(captor.getValue().isBefore(antes));
+	}
+
+	@Test
+	@DisplayName("Deve propagar erro do repositório")
+	void devePropagarErroDoRepositorio() {
+		when(clienteRepository.reativarByClienteId(eq("cliente-123"), any(LocalDateTime.class)))
+				.thenReturn(Mono.error(new RuntimeException("Erro no banco de dados")));
+
+		StepVerifier.create(service.execute("cliente-123"))
+				.expectErrorMessage("Erro no banco de dados")
+				.verify();
+	}
+}
@@ -0,0 +1,108 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+@DisplayName("AlteracaoCliente Tests")
+class AlteracaoClienteTest {
+
+	@Test
+	@DisplayName("Deve guardar os campos na ordem recebida, com null para remoção")
+	void deveGuardarCamposNaOrdemRecebida() {
+		AlteracaoCliente alteracao = new AlteracaoCliente()
+				.definir("telefone", "11999999999")
+				.definir("endereco.complemento", null)
+				.definirTags(List.of("vip"));
+
+		assertFalse(alteracao.isVazia());
+		assertEquals(List.of("telefone", "endereco.complemento", "metadata.tags"),
+				List.copyOf(alteracao.getValores().keySet()));
+		assertNull(alteracao.getValores().get("endereco.complemento"));
+		assertTrue(new AlteracaoCliente().isVazia());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar campos fora da alteração parcial")
+	void deveRejeitarCamposNaoEditaveis() {
+		AlteracaoCliente alteracao = new AlteracaoCliente();
+
+		assertThrows(InvalidClienteException.class, () -> alteracao.definir("cpfCliente", "12345678909"));
+		assertThrows(InvalidClienteException.class, () -> alteracao.definir("metadata.dataDesativacao", null));
+		assertThrows(InvalidClienteException.class, () -> alteracao.definir("metadata.tags", "vip"));
+	}
+
+	@Test
+	@DisplayName("Deve aplicar a alteração criando endereço e metadata ausentes")
+	void deveAplicarAlteracaoCriandoEnderecoEMetadata() {
+		Cliente cliente = new Cliente("Maria", "maria@email.com", "12345678909");
+		cliente.setEndereco(null);
+		cliente.setMetadata(null);
+
+		new AlteracaoCliente()
+				.definir("nomeCliente", "Maria Souza")
+				.definir("endereco.cidade", "Recife")
+				.definir("metadata.canal", "app")
+				.definirTags(List.of("vip"))
+				.aplicar(cliente);
+
+		assertEquals("Maria Souza", cliente.getNomeCliente());
+		assertEquals("Recife", cliente.getEndereco().getCidade());
+		assertEquals("app", cliente.getMetadata().getCanal());
+		assertEquals(List.of("vip"), cliente.getMetadata().getTags());
+	}
+
+	@Test
+	@DisplayName("Deve remover o endereço inteiro e campos individuais")
+	void deveRemoverEnderecoECamposIndividuais() {
+		Cliente cliente = new Cliente("Maria", "maria@email.com", "12345678909");
+		cliente.setTelefone("11999999999");
+		cliente.setEndereco(new Endereco("Rua A", "10", "Recife", "PE", "50000000"));
+
+		new AlteracaoCliente().definir("telefone", null).removerEndereco().aplicar(cliente);
+
+		assertNull(cliente.getTelefone());
+		assertNull(cliente.getEndereco());
+	}
+
+	@Test
+	@DisplayName("Deve identificar sobreposição por campo e por subcampo")
+	void deveIdentificarSobreposicao() {
+		AlteracaoCliente telefone = new AlteracaoCliente().definir("telefone", "11999999999");
+		AlteracaoCliente endereco = new AlteracaoCliente().removerEndereco();
+		AlteracaoCliente cidade = new AlteracaoCliente().definir("endereco.cidade", "Recife");
+
+		assertTrue(telefone.sobrepoe(Set.of("telefone")));
+		assertFalse(telefone.sobrepoe(Set.of("nomeCliente", "endereco.cidade")));
+		assertTrue(endereco.sobrepoe(Set.of("endereco.cep")));
+		assertFalse(cidade.sobrepoe(Set.of("endereco.cep")));
+		assertFalse(cidade.sobrepoe(Set.of()));
+	}
+
+	@Test
+	@DisplayName("Deve listar os campos editáveis que mudaram entre duas leituras")
+	void deveListarCamposDiferentesEntreLeituras() {
+		Cliente cliente = new Cliente("Maria", "maria@email.com", "12345678909");
+		Metadata metadata = new Metadata();
+		metadata.setTags(new ArrayList<>(List.of("vip")));
+		cliente.setMetadata(metadata);
+		Map<String, Object> antes = AlteracaoCliente.valoresEditaveis(cliente);
+
+		cliente.setTelefone("11999999999");
+		cliente.getMetadata().getTags().add("premium");
+
+		assertEquals(Set.of("telefone", "metadata.tags"),
+				AlteracaoCliente.camposDiferentes(antes, AlteracaoCliente.valoresEditaveis(cliente)));
+	}
+}
@@ -0,0 +1,62 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+@DisplayName("AlteracaoEmMassa Tests")
+class AlteracaoEmMassaTest {
+
+	@Test
+	@DisplayName("Deve criar alterações pelas fábricas")
+	void deveCriarAlteracoesPelasFabricas() {
+		assertEquals(TipoAlteracaoEmMassa.DESATIVAR, AlteracaoEmMassa.desativar().getTipo());
+		assertEquals(TipoAlteracaoEmMassa.REATIVAR, AlteracaoEmMassa.reativar().getTipo());
+		assertEquals("vip", AlteracaoEmMassa.adicionarTag("vip").getTag());
+		assertEquals(TipoAlteracaoEmMassa.REMOVER_TAG, AlteracaoEmMassa.removerTag("vip").getTipo());
+	}
+
+	@Test
+	@DisplayName("Deve identificar alterações de tag")
+	void deveIdentificarAlteracoesDeTag() {
+		assertTrue(AlteracaoEmMassa.adicionarTag("vip").isAlteracaoDeTag());
+		assertTrue(AlteracaoEmMassa.removerTag("vip").isAlteracaoDeTag());
+		assertFalse(AlteracaoEmMassa.desativar().isAlteracaoDeTag());
+	}
+
+	@Test
+	@DisplayName("Deve tratar tag em branco como ausente")
+	void deveTratarTagEmBrancoComoAusente() {
+		assertNull(AlteracaoEmMassa.adicionarTag("  ").getTag());
+	}
+
+	@Test
+	@DisplayName("Deve converter a operação recebida na API")
+	void deveConverterOperacaoRecebidaNaApi() {
+		assertEquals(TipoAlteracaoEmMassa.ADICIONAR_TAG, TipoAlteracaoEmMassa.fromParametro("adicionar-tag"));
+		assertEquals(TipoAlteracaoEmMassa.DESATIVAR, TipoAlteracaoEmMassa.fromParametro("desativar"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar operação desconhecida")
+	void deveRejeitarOperacaoDesconhecida() {
+		assertThrows(InvalidClienteException.class, () -> TipoAlteracaoEmMassa.fromParametro("apagar"));
+		assertThrows(InvalidClienteException.class, () -> TipoAlteracaoEmMassa.fromParametro(null));
+	}
+
+	@Test
+	@DisplayName("Deve criar resultado simulado com as duas contagens iguais")
+	void deveCriarResultadoSimulado() {
+		ResultadoAlteracaoEmMassa resultado = ResultadoAlteracaoEmMassa.simulado(3);
+
+		assertTrue(resultado.isSimulacao());
+		assertEquals(3, resultado.getEncontrados());
+		assertEquals(3, resultado.getAlterados());
+	}
+}
@@ -42,12 +42,12 @@ class ClienteTest {
 	@Test
 	@DisplayName("Deve criar cliente com construtor parametrizado")
 	void deveCriarClienteComConstrutorParametrizado() {
-		Cliente clienteCompleto = new Cliente("João Silva", "joao@email.com", "12345678901");
+		Cliente clienteCompleto = new Cliente("João Silva", "joao@email.com", "12345678909");
 
 		assertNotNull(clienteCompleto);
 		assertEquals("João Silva", clienteCompleto.getNomeCliente());
 		assertEquals("joao@email.com", clienteCompleto.getEmailCliente());
-		assertEquals("12345678901", clienteCompleto.getCpfCliente());
+		assertEquals("12345678909", clienteCompleto.getCpfCliente());
 		assertNotNull(clienteCompleto.getClienteId());
 		assertTrue(clienteCompleto.getAtivo());
 		assertNotNull(clienteCompleto.getDataCadastro());
@@ -57,7 +57,7 @@ class ClienteTest {
 	@Test
 	@DisplayName("Deve gerar clienteId automaticamente no construtor parametrizado")
 	void deveGerarClienteIdAutomaticamenteNoConstrutorParametrizado() {
-		Cliente clienteCompleto = new Cliente("João Silva", "joao@email.com", "12345678901");
+		Cliente clienteCompleto = new Cliente("João Silva", "joao@email.com", "12345678909");
 
 		assertNotNull(clienteCompleto.getClienteId());
 		assertFalse(clienteCompleto.getClienteId().isEmpty());
@@ -194,7 +194,7 @@ class ClienteTest {
 	@Test
 	@DisplayName("Deve validar CPF válido com 11 dígitos")
 	void deveValidarCpfValidoCom11Digitos() {
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		assertTrue(cliente.isCpfValido());
 	}
 
@@ -273,7 +273,7 @@ class ClienteTest {
 	void deveValidarClienteValidoComTodosDadosObrigatorios() {
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@email.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		assertTrue(cliente.isValido());
 	}
@@ -283,7 +283,7 @@ class ClienteTest {
 	void deveValidarClienteInvalidoQuandoNomeVazio() {
 		cliente.setNomeCliente("");
 		cliente.setEmailCliente("joao@email.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		assertFalse(cliente.isValido());
 	}
@@ -293,7 +293,7 @@ class ClienteTest {
 	void deveValidarClienteInvalidoQuandoNomeNulo() {
 		cliente.setNomeCliente(null);
 		cliente.setEmailCliente("joao@email.com");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		assertFalse(cliente.isValido());
 	}
@@ -303,7 +303,7 @@ class ClienteTest {
 	void deveValidarClienteInvalidoQuandoEmailVazio() {
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		assertFalse(cliente.isValido());
 	}
@@ -313,7 +313,7 @@ class ClienteTest {
 	void deveValidarClienteInvalidoQuandoEmailNulo() {
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente(null);
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		assertFalse(cliente.isValido());
 	}
@@ -353,7 +353,7 @@ class ClienteTest {
 	void deveValidarClienteInvalidoQuandoEmailTemFormatoInvalido() {
 		cliente.setNomeCliente("João Silva");
 		cliente.setEmailCliente("joao@");
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 
 		assertFalse(cliente.isValido());
 	}
@@ -559,7 +559,7 @@ class ClienteTest {
 	@DisplayName("Deve validar todos os cenários de CPF")
 	void deveValidarTodosCenariosDeCpf() {
 		// CPF válido
-		cliente.setCpfCliente("12345678901");
+		cliente.setCpfCliente("12345678909");
 		assertTrue(cliente.isCpfValido());
 
 		// CPF com menos dígitos
@@ -0,0 +1,97 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+class ConsultaPaginadaTest {
+
+	@Test
+	@DisplayName("Deve aplicar valores padrão na primeira página")
+	void deveAplicarValoresPadraoNaPrimeiraPagina() {
+		ConsultaPaginada consulta = ConsultaPaginada.primeiraPagina();
+
+		assertEquals(ConsultaPaginada.LIMITE_PADRAO, consulta.getLimite());
+		assertNull(consulta.getCursor());
+		assertEquals(OrdenacaoCliente.ID, consulta.getOrdenacao());
+		assertTrue(consulta.isPrimeiraPagina());
+	}
+
+	@Test
+	@DisplayName("Deve limitar o tamanho da página ao máximo")
+	void deveLimitarTamanhoDaPaginaAoMaximo() {
+		ConsultaPaginada consulta = new ConsultaPaginada(1000, "abc", OrdenacaoCliente.DATA_CADASTRO_DESC);
+
+		assertEquals(ConsultaPaginada.LIMITE_MAXIMO, consulta.getLimite());
+		assertEquals("abc", consulta.getCursor());
+		assertFalse(consulta.isPrimeiraPagina());
+	}
+
+	@Test
+	@DisplayName("Deve usar limite padrão para valores não positivos e ignorar cursor em branco")
+	void deveUsarLimitePadraoParaValoresNaoPositivos() {
+		ConsultaPaginada consulta = new ConsultaPaginada(0, "  ", null);
+
+		assertEquals(ConsultaPaginada.LIMITE_PADRAO, consulta.getLimite());
+		assertNull(consulta.getCursor());
+	}
+
+	@Test
+	@DisplayName("Deve converter parâmetros de ordenação")
+	void deveConverterParametrosDeOrdenacao() {
+		assertEquals(OrdenacaoCliente.ID, OrdenacaoCliente.fromParametro(null));
+		assertEquals(OrdenacaoCliente.ID, OrdenacaoCliente.fromParametro("id"));
+		assertEquals(OrdenacaoCliente.DATA_CADASTRO_ASC, OrdenacaoCliente.fromParametro("dataCadastro"));
+		assertEquals(OrdenacaoCliente.DATA_CADASTRO_DESC, OrdenacaoCliente.fromParametro("-dataCadastro"));
+		assertThrows(InvalidClienteException.class, () -> OrdenacaoCliente.fromParametro("nome"));
+	}
+
+	@Test
+	@DisplayName("Deve converter itens da página preservando o cursor")
+	void deveConverterItensDaPaginaPreservandoCursor() {
+		Pagina<Integer> pagina = new Pagina<>(Arrays.asList(1, 2, 3), "proximo");
+
+		Pagina<String> convertida = pagina.map(String::valueOf);
+
+		assertEquals(List.of("1", "2", "3"), convertida.getItens());
+		assertEquals("proximo", convertida.getProximoCursor());
+		assertTrue(convertida.temProxima());
+	}
+
+	@Test
+	@DisplayName("Deve criar página vazia sem próxima página")
+	void deveCriarPaginaVaziaSemProximaPagina() {
+		Pagina<Cliente> pagina = Pagina.vazia();
+
+		assertTrue(pagina.getItens().isEmpty());
+		assertFalse(pagina.temProxima());
+	}
+
+	@Test
+	@DisplayName("Deve usar projeção completa quando não informada")
+	void deveUsarProjecaoCompletaQuandoNaoInformada() {
+		assertTrue(ConsultaPaginada.primeiraPagina().getProjecao().isCompleta());
+		assertTrue(new ConsultaPaginada(10, null, null, null).getProjecao().isCompleta());
+	}
+
+	@Test
+	@DisplayName("Deve manter a projeção informada")
+	void deveManterProjecaoInformada() {
+		ProjecaoCliente projecao = ProjecaoCliente.of("clienteId");
+
+		ConsultaPaginada consulta = new ConsultaPaginada(10, "abc", OrdenacaoCliente.ID, projecao);
+
+		assertSame(projecao, consulta.getProjecao());
+		assertEquals(10, consulta.getLimite());
+	}
+}
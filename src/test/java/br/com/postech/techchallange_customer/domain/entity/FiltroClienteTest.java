@@ -0,0 +1,42 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FiltroClienteTest {
+
+	@Test
+	@DisplayName("Deve criar filtro vazio para todos os clientes")
+	void deveCriarFiltroVazioParaTodosOsClientes() {
+		FiltroCliente filtro = FiltroCliente.todos();
+
+		assertTrue(filtro.isVazio());
+		assertNull(filtro.getAtivo());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar valores em branco")
+	void deveIgnorarValoresEmBranco() {
+		FiltroCliente filtro = new FiltroCliente(null, " ", "", null);
+
+		assertTrue(filtro.isVazio());
+		assertNull(filtro.getCidade());
+		assertNull(filtro.getEstado());
+	}
+
+	@Test
+	@DisplayName("Deve manter critérios informados")
+	void deveManterCriteriosInformados() {
+		FiltroCliente filtro = new FiltroCliente(false, "Campinas", "SP", "vip");
+
+		assertFalse(filtro.isVazio());
+		assertEquals(Boolean.FALSE, filtro.getAtivo());
+		assertEquals("Campinas", filtro.getCidade());
+		assertEquals("SP", filtro.getEstado());
+		assertEquals("vip", filtro.getTag());
+	}
+}
@@ -0,0 +1,85 @@
+package br.com.postech.techchallange_customer.domain.entity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+@DisplayName("ProjecaoCliente Tests")
+class ProjecaoClienteTest {
+
+	@Test
+	@DisplayName("Deve usar a projeção completa quando o parâmetro não é informado")
+	void deveUsarProjecaoCompletaQuandoParametroNaoInformado() {
+		assertSame(ProjecaoCliente.completa(), ProjecaoCliente.fromParametro(null));
+		assertSame(ProjecaoCliente.completa(), ProjecaoCliente.fromParametro("  "));
+		assertSame(ProjecaoCliente.completa(), ProjecaoCliente.fromParametro(" , "));
+	}
+
+	@Test
+	@DisplayName("Deve incluir todos os campos na projeção completa")
+	void deveIncluirTodosOsCamposNaProjecaoCompleta() {
+		ProjecaoCliente projecao = ProjecaoCliente.completa();
+
+		assertTrue(projecao.isCompleta());
+		assertTrue(projecao.getCampos().isEmpty());
+		for (String campo : ProjecaoCliente.CAMPOS) {
+			assertTrue(projecao.inclui(campo));
+		}
+	}
+
+	@Test
+	@DisplayName("Deve converter campos separados por vírgula preservando a ordem")
+	void deveConverterCamposSeparadosPorVirgula() {
+		ProjecaoCliente projecao = ProjecaoCliente.fromParametro(" nomeCliente, clienteId ,ativo,nomeCliente");
+
+		assertFalse(projecao.isCompleta());
+		assertEquals(List.of("nomeCliente", "clienteId", "ativo"), List.copyOf(projecao.getCampos()));
+		assertTrue(projecao.inclui("clienteId"));
+		assertFalse(projecao.inclui("cpfCliente"));
+	}
+
+	@Test
+	@DisplayName("Deve criar projeção a partir dos campos informados")
+	void deveCriarProjecaoAPartirDosCampos() {
+		ProjecaoCliente projecao = ProjecaoCliente.of("id", "endereco");
+
+		assertTrue(projecao.inclui("id"));
+		assertTrue(projecao.inclui("endereco"));
+		assertFalse(projecao.inclui("metadata"));
+	}
+
+	@Test
+	@DisplayName("Deve unir os campos de duas projeções mantendo a ordem")
+	void deveUnirCamposDeDuasProjecoes() {
+		ProjecaoCliente projecao = ProjecaoCliente.of("nomeCliente", "versao")
+				.com(ProjecaoCliente.of("clienteId", "versao"));
+
+		assertEquals(List.of("nomeCliente", "versao", "clienteId"), List.copyOf(projecao.getCampos()));
+		assertTrue(ProjecaoCliente.completa().com(projecao).isCompleta());
+		assertTrue(projecao.com(ProjecaoCliente.completa()).isCompleta());
+		assertSame(projecao, projecao.com(ProjecaoCliente.of("clienteId")));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar campo desconhecido")
+	void deveRejeitarCampoDesconhecido() {
+		InvalidClienteException exception = assertThrows(InvalidClienteException.class,
+				() -> ProjecaoCliente.fromParametro("clienteId,senha"));
+
+		assertTrue(exception.getMessage().contains("fields"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar campos aninhados")
+	void deveRejeitarCamposAninhados() {
+		assertThrows(InvalidClienteException.class, () -> ProjecaoCliente.fromParametro("endereco.cidade"));
+	}
+}
@@ -0,0 +1,19 @@
+package br.com.postech.techchallange_customer.domain.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AlteracaoConcorrenteExceptionTest {
+
+	@Test
+	@DisplayName("Deve criar AlteracaoConcorrenteException com clienteId")
+	void deveCriarAlteracaoConcorrenteExceptionComClienteId() {
+		AlteracaoConcorrenteException exception = new AlteracaoConcorrenteException("cliente-123");
+
+		assertEquals("Cliente cliente-123 foi alterado por outra requisição; releia o cliente e tente novamente",
+				exception.getMessage());
+		assertInstanceOf(DomainException.class, exception);
+	}
+}
@@ -0,0 +1,28 @@
+package br.com.postech.techchallange_customer.domain.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VersaoDivergenteExceptionTest {
+
+	@Test
+	@DisplayName("Deve criar VersaoDivergenteException com a versão esperada")
+	void deveCriarVersaoDivergenteExceptionComVersaoEsperada() {
+		VersaoDivergenteException exception = new VersaoDivergenteException("cliente-123", 4);
+
+		assertEquals("Cliente cliente-123 não está na versão 4; releia o cliente e tente novamente",
+				exception.getMessage());
+		assertInstanceOf(DomainException.class, exception);
+	}
+
+	@Test
+	@DisplayName("Deve criar VersaoDivergenteException com a ETag informada")
+	void deveCriarVersaoDivergenteExceptionComEtagInformada() {
+		VersaoDivergenteException exception = new VersaoDivergenteException("cliente-123", "W/\"cliente-123-4\"");
+
+		assertEquals("A ETag W/\"cliente-123-4\" não corresponde a uma versão do cliente cliente-123; "
+				+ "releia o cliente e tente novamente", exception.getMessage());
+	}
+}
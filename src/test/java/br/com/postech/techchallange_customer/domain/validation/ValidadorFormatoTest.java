@@ -0,0 +1,135 @@
+package br.com.postech.techchallange_customer.domain.validation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ValidadorFormato - Testes Unitários")
+class ValidadorFormatoTest {
+
+	@Test
+	@DisplayName("Deve aceitar CPFs com dígitos verificadores corretos")
+	void deveAceitarCpfsComDigitosVerificadoresCorretos() {
+		assertTrue(ValidadorFormato.isCpfValido("12345678909"));
+		assertTrue(ValidadorFormato.isCpfValido("98765432100"));
+		assertTrue(ValidadorFormato.isCpfValido("52998224725"));
+		assertTrue(ValidadorFormato.isCpfValido("11144477735"));
+		// primeiro dígito verificador com resto menor que 2
+		assertTrue(ValidadorFormato.isCpfValido("00000000191"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar CPFs com dígitos verificadores incorretos")
+	void deveRejeitarCpfsComDigitosVerificadoresIncorretos() {
+		assertFalse(ValidadorFormato.isCpfValido("12345678901"));
+		assertFalse(ValidadorFormato.isCpfValido("12345678919"));
+		assertFalse(ValidadorFormato.isCpfValido("52998224724"));
+		assertFalse(ValidadorFormato.isCpfValido("98765432109"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar CPFs com todos os dígitos repetidos")
+	void deveRejeitarCpfsRepetidos() {
+		assertFalse(ValidadorFormato.isCpfValido("00000000000"));
+		assertFalse(ValidadorFormato.isCpfValido("11111111111"));
+		assertFalse(ValidadorFormato.isCpfValido("55555555555"));
+		assertFalse(ValidadorFormato.isCpfValido("99999999999"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar CPFs fora do formato de 11 dígitos")
+	void deveRejeitarCpfsForaDoFormato() {
+		assertFalse(ValidadorFormato.isCpfValido(null));
+		assertFalse(ValidadorFormato.isCpfValido(""));
+		assertFalse(ValidadorFormato.isCpfValido("1234567890"));
+		assertFalse(ValidadorFormato.isCpfValido("123456789090"));
+		assertFalse(ValidadorFormato.isCpfValido("123.456.789-09"));
+		assertFalse(ValidadorFormato.isCpfValido("1234567890a"));
+		assertFalse(ValidadorFormato.isCpfValido("a2345678909"));
+		// dígitos não ASCII (arábico-índicos)
+		assertFalse(ValidadorFormato.isCpfValido("١٢٣٤٥٦٧٨٩٠٩"));
+	}
+
+	@Test
+	@DisplayName("Deve aceitar e-mails bem formados")
+	void deveAceitarEmailsBemFormados() {
+		assertTrue(ValidadorFormato.isEmailValido("joao@email.com"));
+		assertTrue(ValidadorFormato.isEmailValido("joao.silva+tag@email.com"));
+		assertTrue(ValidadorFormato.isEmailValido("j_o-a.o@sub.email.com.br"));
+		assertTrue(ValidadorFormato.isEmailValido("a@b.co"));
+		assertTrue(ValidadorFormato.isEmailValido("joao@123.email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar e-mails sem arroba, parte local ou domínio")
+	void deveRejeitarEmailsIncompletos() {
+		assertFalse(ValidadorFormato.isEmailValido(null));
+		assertFalse(ValidadorFormato.isEmailValido(""));
+		assertFalse(ValidadorFormato.isEmailValido("joaoemail.com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@"));
+		assertFalse(ValidadorFormato.isEmailValido("@email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@@email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar parte local com pontos nas pontas, pontos repetidos ou caracteres inválidos")
+	void deveRejeitarParteLocalInvalida() {
+		assertFalse(ValidadorFormato.isEmailValido(".joao@email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao.@email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("jo..ao@email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("jo ao@email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("joão@email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar domínio com rótulos vazios, hífen nas pontas ou caracteres inválidos")
+	void deveRejeitarDominioInvalido() {
+		assertFalse(ValidadorFormato.isEmailValido("joao@email..com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@.email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@email.com."));
+		assertFalse(ValidadorFormato.isEmailValido("joao@-email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@email-.com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@email com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@email_com.br"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@email.com\n"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar domínio sem TLD alfabético e domínio internacionalizado, como o schema da coleção")
+	void deveRejeitarDominioForaDoSchema() {
+		assertFalse(ValidadorFormato.isEmailValido("joao@localhost"));
+		assertFalse(ValidadorFormato.isEmailValido("a@b"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@email.c"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@email.c0m"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@10.0.0.1"));
+		assertFalse(ValidadorFormato.isEmailValido("maria@ação.com.br"));
+		assertFalse(ValidadorFormato.isEmailValido("maria@email.çom"));
+	}
+
+	@Test
+	@DisplayName("Deve respeitar os limites de tamanho da parte local, dos rótulos e do total")
+	void deveRespeitarLimitesDeTamanho() {
+		assertTrue(ValidadorFormato.isEmailValido("a".repeat(64) + "@email.com"));
+		assertFalse(ValidadorFormato.isEmailValido("a".repeat(65) + "@email.com"));
+
+		assertTrue(ValidadorFormato.isEmailValido("joao@" + "a".repeat(63) + ".com"));
+		assertFalse(ValidadorFormato.isEmailValido("joao@" + "a".repeat(64) + ".com"));
+
+		String dominio = ("a".repeat(60) + ".").repeat(5);
+		assertFalse(ValidadorFormato.isEmailValido("joao@" + dominio + "com"));
+	}
+
+	@Test
+	@DisplayName("Deve aceitar telefone com 10 ou 11 dígitos e rejeitar os demais formatos")
+	void deveValidarTelefone() {
+		assertTrue(ValidadorFormato.isTelefoneValido("1133334444"));
+		assertTrue(ValidadorFormato.isTelefoneValido("11987654321"));
+		assertFalse(ValidadorFormato.isTelefoneValido("113333444"));
+		assertFalse(ValidadorFormato.isTelefoneValido("119876543210"));
+		assertFalse(ValidadorFormato.isTelefoneValido("(11) 98765-4321"));
+		assertFalse(ValidadorFormato.isTelefoneValido("1198765432a"));
+		assertFalse(ValidadorFormato.isTelefoneValido(""));
+		assertFalse(ValidadorFormato.isTelefoneValido(null));
+	}
+}
@@ -0,0 +1,91 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+
+@DisplayName("MongoConfig - Testes Unitários")
+class MongoConfigTest {
+
+	private MongoProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new MongoProperties();
+	}
+
+	@Test
+	@DisplayName("Deve manter as opções da URI quando nenhum ajuste é informado")
+	void deveManterOpcoesDaUriSemAjustes() {
+		MongoClientSettings settings = aplicar("mongodb://localhost:27017/tc?maxPoolSize=50&connectTimeoutMS=1500");
+
+		assertEquals(50, settings.getConnectionPoolSettings().getMaxSize());
+		assertEquals(0, settings.getConnectionPoolSettings().getMinSize());
+		assertEquals(1500, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+		assertTrue(settings.getCompressorList().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve aplicar os ajustes de pool, timeouts e heartbeat sobre a URI")
+	void deveAplicarAjustesSobreUri() {
+		properties.getPool().setMinSize(10);
+		properties.getPool().setMaxSize(40);
+		properties.getPool().setMaxConnectionIdleTime(Duration.ofMinutes(5));
+		properties.getPool().setWaitQueueTimeout(Duration.ofMillis(500));
+		properties.setConnectTimeout(Duration.ofSeconds(2));
+		properties.setSocketTimeout(Duration.ofSeconds(15));
+		properties.setServerSelectionTimeout(Duration.ofSeconds(5));
+		properties.setHeartbeatFrequency(Duration.ofSeconds(20));
+
+		MongoClientSettings settings = aplicar("mongodb://localhost:27017/tc?maxPoolSize=50");
+
+		assertEquals(10, settings.getConnectionPoolSettings().getMinSize());
+		assertEquals(40, settings.getConnectionPoolSettings().getMaxSize());
+		assertEquals(300_000, settings.getConnectionPoolSettings().getMaxConnectionIdleTime(TimeUnit.MILLISECONDS));
+		assertEquals(500, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+		assertEquals(2_000, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+		assertEquals(15_000, settings.getSocketSettings().getReadTimeout(TimeUnit.MILLISECONDS));
+		assertEquals(5_000, settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS));
+		assertEquals(20_000, settings.getServerSettings().getHeartbeatFrequency(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	@DisplayName("Deve aplicar os compressores na ordem informada")
+	void deveAplicarCompressoresNaOrdemInformada() {
+		properties.setCompressors(List.of("zstd", " Snappy ", "zlib"));
+
+		MongoClientSettings settings = aplicar("mongodb://localhost:27017/tc");
+
+		assertEquals(List.of("zstd", "snappy", "zlib"),
+				settings.getCompressorList().stream().map(MongoCompressor::getName).toList());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar compressor desconhecido")
+	void deveRejeitarCompressorDesconhecido() {
+		IllegalArgumentException erro = assertThrows(IllegalArgumentException.class,
+				() -> MongoConfig.compressor("lz4"));
+
+		assertTrue(erro.getMessage().contains("lz4"));
+	}
+
+	// Funções auxiliares
+
+	private MongoClientSettings aplicar(String uri) {
+		MongoClientSettings.Builder builder = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(uri));
+		MongoConfig.aplicarAjustes(builder, properties);
+		return builder.build();
+	}
+}
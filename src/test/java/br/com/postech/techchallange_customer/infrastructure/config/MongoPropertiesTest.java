@@ -1,8 +1,11 @@
 package br.com.postech.techchallange_customer.infrastructure.config;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -271,4 +274,25 @@ class MongoPropertiesTest {
 
 		assertEquals(uriReplicaSet, mongoProperties.getUri());
 	}
+
+	@Test
+	@DisplayName("Deve deixar os ajustes do cliente vazios para manter a URI e os padrões do driver")
+	void deveDeixarAjustesDoClienteVazios() {
+		assertNull(mongoProperties.getConnectTimeout());
+		assertNull(mongoProperties.getSocketTimeout());
+		assertNull(mongoProperties.getServerSelectionTimeout());
+		assertNull(mongoProperties.getHeartbeatFrequency());
+		assertTrue(mongoProperties.getCompressors().isEmpty());
+		assertNull(mongoProperties.getPool().getMinSize());
+		assertNull(mongoProperties.getPool().getMaxSize());
+		assertNull(mongoProperties.getPool().getMaxConnectionIdleTime());
+		assertNull(mongoProperties.getPool().getWaitQueueTimeout());
+	}
+
+	@Test
+	@DisplayName("Deve pré-aquecer o pool por padrão com limite de 10 segundos")
+	void devePreAquecerPoolPorPadrao() {
+		assertTrue(mongoProperties.getPool().isPrewarm());
+		assertEquals(Duration.ofSeconds(10), mongoProperties.getPool().getPrewarmTimeout());
+	}
 }
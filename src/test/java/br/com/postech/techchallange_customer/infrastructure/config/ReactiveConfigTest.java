@@ -0,0 +1,56 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.DispatcherHandler;
+
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveListarClientesUseCase;
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndicesUnicos;
+import br.com.postech.techchallange_customer.infrastructure.rest.adapter.ClienteRestAdapter;
+import br.com.postech.techchallange_customer.infrastructure.rest.adapter.ReactiveClienteRestAdapter;
+import br.com.postech.techchallange_customer.infrastructure.rest.exception.GlobalExceptionHandler;
+import br.com.postech.techchallange_customer.infrastructure.rest.exception.ReactiveExceptionHandler;
+
+@SpringBootTest
+@ActiveProfiles(ReactiveConfig.PERFIL)
+@DisplayName("ReactiveConfig - Contexto do perfil reactive")
+class ReactiveConfigTest {
+
+	// sem MongoDB no ambiente de testes: a verificação síncrona dos índices únicos derrubaria o contexto
+	@MockitoBean
+	private ClienteIndicesUnicos clienteIndicesUnicos;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	@DisplayName("Deve subir o WebFlux com o adaptador e o tratador de erros reativos")
+	void deveSubirWebFluxComAdaptadorETratadorReativos() {
+		assertThat(context.getBeanNamesForType(DispatcherHandler.class)).isNotEmpty();
+		assertThat(context.getBeanNamesForType(ReactiveClienteRestAdapter.class)).hasSize(1);
+		assertThat(context.getBeanNamesForType(ReactiveExceptionHandler.class)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("Não deve registrar o adaptador nem o tratador de erros do Spring MVC")
+	void naoDeveRegistrarAdaptadorNemTratadorDoSpringMvc() {
+		assertThat(context.getBeanNamesForType(ClienteRestAdapter.class)).isEmpty();
+		assertThat(context.getBeanNamesForType(GlobalExceptionHandler.class)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Deve instrumentar os casos de uso reativos")
+	void deveInstrumentarCasosDeUsoReativos() {
+		ReactiveListarClientesUseCase useCase = context.getBean(ReactiveListarClientesUseCase.class);
+
+		assertThat(Proxy.isProxyClass(useCase.getClass())).isTrue();
+	}
+}
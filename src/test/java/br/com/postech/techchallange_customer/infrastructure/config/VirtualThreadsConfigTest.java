@@ -0,0 +1,64 @@
+package br.com.postech.techchallange_customer.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.postech.techchallange_customer.infrastructure.metrics.ThreadVirtualFixadaMonitor;
+import br.com.postech.techchallange_customer.infrastructure.persistence.index.ClienteIndicesUnicos;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.threads.virtual.enabled=true")
+@DisplayName("VirtualThreadsConfig - Contexto com threads virtuais")
+class VirtualThreadsConfigTest {
+
+	// sem MongoDB no ambiente de testes: a verificação síncrona dos índices únicos derrubaria o contexto
+	@MockitoBean
+	private ClienteIndicesUnicos clienteIndicesUnicos;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	@DisplayName("Deve atender as requisições do Tomcat em threads virtuais")
+	void deveAtenderRequisicoesDoTomcatEmThreadsVirtuais() {
+		assertThat(restTemplate.getForObject("/teste/thread-virtual", Boolean.class)).isTrue();
+	}
+
+	@Test
+	@DisplayName("Deve iniciar o monitor de threads virtuais fixadas")
+	void deveIniciarMonitorDeThreadsVirtuaisFixadas() {
+		ThreadVirtualFixadaMonitor monitor = context.getBean(ThreadVirtualFixadaMonitor.class);
+
+		assertThat(monitor.isRunning()).isTrue();
+	}
+
+	@TestConfiguration
+	static class ThreadDaRequisicaoConfig {
+
+		@Bean
+		ThreadDaRequisicaoController threadDaRequisicaoController() {
+			return new ThreadDaRequisicaoController();
+		}
+	}
+
+	@RestController
+	static class ThreadDaRequisicaoController {
+
+		@GetMapping("/teste/thread-virtual")
+		boolean threadVirtual() {
+			return Thread.currentThread().isVirtual();
+		}
+	}
+}
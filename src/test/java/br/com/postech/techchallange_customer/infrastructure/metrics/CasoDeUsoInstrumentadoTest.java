@@ -0,0 +1,162 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.application.service.BuscarClienteService;
+import br.com.postech.techchallange_customer.application.service.ListarClientesService;
+import br.com.postech.techchallange_customer.application.service.ReactiveDesativarClienteService;
+import br.com.postech.techchallange_customer.application.service.ReactiveListarClientesService;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.port.in.BuscarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ListarClientesUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDesativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveListarClientesUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import br.com.postech.techchallange_customer.domain.port.out.ReactiveClienteRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CasoDeUsoInstrumentado - Testes Unitários")
+class CasoDeUsoInstrumentadoTest {
+
+	@Mock
+	private ClienteRepositoryPort clienteRepository;
+
+	@Mock
+	private ReactiveClienteRepositoryPort reactiveClienteRepository;
+
+	private SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("Deve medir a chamada por caso de uso e método")
+	void deveMedirChamadaPorCasoDeUsoEMetodo() {
+		Cliente cliente = new Cliente();
+		when(clienteRepository.findByCpf("12345678901")).thenReturn(Optional.of(cliente));
+		BuscarClienteUseCase useCase = (BuscarClienteUseCase) CasoDeUsoInstrumentado
+				.instrumentar(new BuscarClienteService(clienteRepository), registry);
+
+		assertSame(cliente, useCase.porCpf("12345678901").orElseThrow());
+
+		assertEquals(1, registry.get(CasoDeUsoInstrumentado.METRICA_DURACAO)
+				.tags("caso_de_uso", "BuscarClienteService", "metodo", "porCpf", "resultado", "sucesso",
+						"excecao", "none")
+				.timer().count());
+	}
+
+	@Test
+	@DisplayName("Deve registrar a quantidade de itens das páginas")
+	void deveRegistrarQuantidadeDeItensDasPaginas() {
+		when(clienteRepository.findAllAtivos(any(ConsultaPaginada.class)))
+				.thenReturn(new Pagina<>(List.of(new Cliente(), new Cliente()), null));
+		ListarClientesUseCase useCase = (ListarClientesUseCase) CasoDeUsoInstrumentado
+				.instrumentar(new ListarClientesService(clienteRepository), registry);
+
+		useCase.ativos(ConsultaPaginada.primeiraPagina());
+
+		assertEquals(2.0, registry.get(CasoDeUsoInstrumentado.METRICA_ITENS)
+				.tags("caso_de_uso", "ListarClientesService", "metodo", "ativos")
+				.summary().totalAmount());
+	}
+
+	@Test
+	@DisplayName("Deve repassar a exceção original e marcar a chamada como erro")
+	void deveRepassarExcecaoOriginalEMarcarErro() {
+		when(clienteRepository.findByEmail("x")).thenThrow(new InvalidClienteException("inválido"));
+		BuscarClienteUseCase useCase = (BuscarClienteUseCase) CasoDeUsoInstrumentado
+				.instrumentar(new BuscarClienteService(clienteRepository), registry);
+
+		assertThrows(InvalidClienteException.class, () -> useCase.porEmail("x"));
+
+		assertEquals(1, registry.get(CasoDeUsoInstrumentado.METRICA_DURACAO)
+				.tags("metodo", "porEmail", "resultado", "erro", "excecao", "InvalidClienteException")
+				.timer().count());
+	}
+
+	@Test
+	@DisplayName("Deve medir o Mono só a partir da assinatura e registrar a página emitida")
+	void deveMedirMonoApartirDaAssinatura() {
+		when(reactiveClienteRepository.findAllAtivos(any(ConsultaPaginada.class)))
+				.thenReturn(Mono.just(new Pagina<>(List.of(new Cliente(), new Cliente(), new Cliente()), null)));
+		ReactiveListarClientesUseCase useCase = (ReactiveListarClientesUseCase) CasoDeUsoInstrumentado
+				.instrumentar(new ReactiveListarClientesService(reactiveClienteRepository), registry);
+
+		Mono<Pagina<Cliente>> resultado = useCase.ativos(ConsultaPaginada.primeiraPagina());
+		assertTrue(registry.getMeters().isEmpty());
+
+		StepVerifier.create(resultado).expectNextCount(1).verifyComplete();
+
+		assertEquals(1, registry.get(CasoDeUsoInstrumentado.METRICA_DURACAO)
+				.tags("caso_de_uso", "ReactiveListarClientesService", "metodo", "ativos", "resultado", "sucesso")
+				.timer().count());
+		assertEquals(3.0, registry.get(CasoDeUsoInstrumentado.METRICA_ITENS)
+				.tags("metodo", "ativos").summary().totalAmount());
+	}
+
+	@Test
+	@DisplayName("Deve contar os itens emitidos pelo Flux ao completar")
+	void deveContarItensEmitidosPeloFluxAoCompletar() {
+		when(reactiveClienteRepository.streamByFiltro(any(FiltroCliente.class), any(ProjecaoCliente.class)))
+				.thenReturn(Flux.just(new Cliente(), new Cliente()));
+		ReactiveListarClientesUseCase useCase = (ReactiveListarClientesUseCase) CasoDeUsoInstrumentado
+				.instrumentar(new ReactiveListarClientesService(reactiveClienteRepository), registry);
+
+		StepVerifier.create(useCase.fluxo(null, null)).expectNextCount(2).verifyComplete();
+
+		assertEquals(2.0, registry.get(CasoDeUsoInstrumentado.METRICA_ITENS)
+				.tags("metodo", "fluxo").summary().totalAmount());
+		assertEquals(1, registry.get(CasoDeUsoInstrumentado.METRICA_DURACAO)
+				.tags("metodo", "fluxo", "resultado", "sucesso").timer().count());
+	}
+
+	@Test
+	@DisplayName("Deve marcar como erro o sinal de erro do Mono")
+	void deveMarcarComoErroSinalDeErroDoMono() {
+		when(reactiveClienteRepository.desativarByClienteId(any(String.class), any()))
+				.thenReturn(Mono.just(false));
+		ReactiveDesativarClienteUseCase useCase = (ReactiveDesativarClienteUseCase) CasoDeUsoInstrumentado
+				.instrumentar(new ReactiveDesativarClienteService(reactiveClienteRepository), registry);
+
+		StepVerifier.create(useCase.execute("inexistente")).expectError(ClienteNotFoundException.class).verify();
+
+		assertEquals(1, registry.get(CasoDeUsoInstrumentado.METRICA_DURACAO)
+				.tags("metodo", "execute", "resultado", "erro", "excecao", "ClienteNotFoundException")
+				.timer().count());
+	}
+
+	@Test
+	@DisplayName("Não deve medir métodos de Object")
+	void naoDeveMedirMetodosDeObject() {
+		Object useCase = CasoDeUsoInstrumentado.instrumentar(new BuscarClienteService(clienteRepository), registry);
+
+		assertTrue(useCase.toString().contains("BuscarClienteService"));
+		assertTrue(registry.getMeters().isEmpty());
+	}
+}
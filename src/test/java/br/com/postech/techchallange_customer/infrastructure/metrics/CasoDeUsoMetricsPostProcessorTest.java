@@ -0,0 +1,51 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.ObjectProvider;
+
+import br.com.postech.techchallange_customer.application.service.CriarClienteService;
+import br.com.postech.techchallange_customer.domain.port.in.CriarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteAutocompletarPort;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CasoDeUsoMetricsPostProcessor - Testes Unitários")
+class CasoDeUsoMetricsPostProcessorTest {
+
+	@Test
+	@DisplayName("Deve decorar beans que implementam portas de entrada")
+	@SuppressWarnings("unchecked")
+	void deveDecorarCasosDeUso() {
+		ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+		when(provider.getIfAvailable()).thenReturn(new SimpleMeterRegistry());
+		CasoDeUsoMetricsPostProcessor postProcessor = new CasoDeUsoMetricsPostProcessor(provider);
+
+		Object bean = postProcessor.postProcessAfterInitialization(
+				new CriarClienteService(mock(ClienteRepositoryPort.class), mock(ClienteAutocompletarPort.class)), "criarClienteUseCase");
+
+		assertTrue(Proxy.isProxyClass(bean.getClass()));
+		assertInstanceOf(CriarClienteUseCase.class, bean);
+	}
+
+	@Test
+	@DisplayName("Não deve decorar outros beans nem decorar sem registry")
+	@SuppressWarnings("unchecked")
+	void naoDeveDecorarOutrosBeans() {
+		ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+		CasoDeUsoMetricsPostProcessor postProcessor = new CasoDeUsoMetricsPostProcessor(provider);
+		Object outro = new Object();
+		CriarClienteService servico = new CriarClienteService(mock(ClienteRepositoryPort.class), mock(ClienteAutocompletarPort.class));
+
+		assertSame(outro, postProcessor.postProcessAfterInitialization(outro, "outro"));
+		assertSame(servico, postProcessor.postProcessAfterInitialization(servico, "criarClienteUseCase"));
+	}
+}
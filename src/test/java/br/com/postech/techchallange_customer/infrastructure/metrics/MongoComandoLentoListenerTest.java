@@ -0,0 +1,122 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.time.Duration;
+
+import org.bson.BsonDocument;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("MongoComandoLentoListener - Testes Unitários")
+class MongoComandoLentoListenerTest {
+
+	@Test
+	@DisplayName("Deve redigir valores literais mantendo campos e operadores")
+	void deveRedigirValoresLiterais() {
+		BsonDocument comando = BsonDocument.parse("{find: 'clientes', "
+				+ "filter: {cpfCliente: '12345678901', ativo: true, $or: [{'endereco.cidade': 'São Paulo'}, "
+				+ "{dataCadastro: {$gt: {$date: '2025-01-10T12:00:00Z'}}}], 'metadata.tags': {$in: ['vip', 'gold']}}, "
+				+ "sort: {_id: 1}, limit: 21, $db: 'tc-customer'}");
+
+		BsonDocument formato = MongoComandoLentoListener.formato(comando, "filter");
+
+		assertEquals(BsonDocument.parse("{find: 'clientes', filter: {cpfCliente: '?', ativo: '?', "
+				+ "$or: [{'endereco.cidade': '?'}, {dataCadastro: {$gt: '?'}}], 'metadata.tags': {$in: '?'}}, "
+				+ "sort: {_id: 1}, limit: 21}"), formato);
+		assertFalse(formato.toJson().contains("12345678901"));
+	}
+
+	@Test
+	@DisplayName("Deve usar o filtro da primeira instrução em updates")
+	void deveUsarFiltroDaPrimeiraInstrucaoEmUpdates() {
+		BsonDocument comando = BsonDocument.parse("{update: 'clientes', updates: ["
+				+ "{q: {clienteId: 'uuid-1', versao: 3}, u: {$set: {nomeCliente: 'João'}}}]}");
+
+		BsonDocument formato = MongoComandoLentoListener.formato(comando, "updates");
+
+		assertEquals(BsonDocument.parse("{update: 'clientes', updates: {clienteId: '?', versao: '?'}}"), formato);
+	}
+
+	@Test
+	@DisplayName("Deve redigir estágios de pipeline")
+	void deveRedigirEstagiosDePipeline() {
+		BsonDocument comando = BsonDocument.parse("{aggregate: 'clientes', pipeline: ["
+				+ "{$match: {emailCliente: 'joao@email.com'}}, {$limit: 1}], cursor: {}}");
+
+		BsonDocument formato = MongoComandoLentoListener.formato(comando, "pipeline");
+
+		assertEquals(BsonDocument.parse("{aggregate: 'clientes', pipeline: [{$match: {emailCliente: '?'}}, "
+				+ "{$limit: '?'}]}"), formato);
+	}
+
+	@Test
+	@DisplayName("Deve concluir comandos lentos e rápidos sem falhar")
+	void deveConcluirComandosSemFalhar() {
+		MongoComandoLentoListener listener = new MongoComandoLentoListener(Duration.ofMillis(100));
+		ConnectionDescription conexao = new ConnectionDescription(
+				new ServerId(new ClusterId(), new ServerAddress("localhost", 27017)));
+		BsonDocument comando = BsonDocument.parse("{find: 'clientes', filter: {cpfCliente: '123'}}");
+
+		listener.commandStarted(new CommandStartedEvent(null, 1L, 10, conexao, "tc-customer", "find", comando));
+
+		assertDoesNotThrow(() -> listener.commandSucceeded(new CommandSucceededEvent(null, 1L, 10, conexao,
+				"tc-customer", "find", new BsonDocument(), Duration.ofMillis(250).toNanos())));
+		assertDoesNotThrow(() -> listener.commandSucceeded(new CommandSucceededEvent(null, 2L, 11, conexao,
+				"tc-customer", "insert", new BsonDocument(), Duration.ofMillis(5).toNanos())));
+	}
+
+	@Test
+	@DisplayName("Deve redigir o comando lento a partir da cópia guardada no início")
+	void deveRedigirComandoLentoAPartirDaCopia(CapturedOutput saida) {
+		MongoComandoLentoListener listener = new MongoComandoLentoListener(Duration.ofMillis(100));
+		BsonDocument comando = BsonDocument.parse("{find: 'clientes', filter: {cpfCliente: '12345678901'}}");
+
+		listener.commandStarted(new CommandStartedEvent(null, 1L, 10, conexao(), "tc-customer", "find", comando));
+		// o documento do driver não é mais válido depois do evento
+		comando.clear();
+		listener.commandSucceeded(new CommandSucceededEvent(null, 1L, 10, conexao(), "tc-customer", "find",
+				new BsonDocument(), Duration.ofMillis(250).toNanos()));
+
+		assertTrue(saida.getOut().contains("{\"find\": \"clientes\", \"filter\": {\"cpfCliente\": \"?\"}}"));
+		assertFalse(saida.getOut().contains("12345678901"));
+		assertEquals(0, listener.getQuantidadeEmAndamento());
+	}
+
+	@Test
+	@DisplayName("Deve limitar os comandos em andamento descartando os que nunca terminaram")
+	void deveLimitarComandosEmAndamento() {
+		MongoComandoLentoListener semIdade = new MongoComandoLentoListener(Duration.ofMillis(100), 2, Duration.ZERO);
+		MongoComandoLentoListener comIdade = new MongoComandoLentoListener(Duration.ofMillis(100), 2,
+				Duration.ofMinutes(10));
+
+		for (int requestId = 1; requestId <= 3; requestId++) {
+			CommandStartedEvent evento = new CommandStartedEvent(null, 1L, requestId, conexao(), "tc-customer", "find",
+					BsonDocument.parse("{find: 'clientes', filter: {ativo: true}}"));
+			semIdade.commandStarted(evento);
+			comIdade.commandStarted(evento);
+		}
+
+		assertEquals(1, semIdade.getQuantidadeEmAndamento());
+		assertEquals(2, comIdade.getQuantidadeEmAndamento());
+	}
+
+	// Funções auxiliares
+
+	private static ConnectionDescription conexao() {
+		return new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress("localhost", 27017)));
+	}
+}
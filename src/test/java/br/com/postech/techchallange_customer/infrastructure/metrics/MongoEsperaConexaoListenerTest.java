@@ -0,0 +1,51 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("MongoEsperaConexaoListener - Testes Unitários")
+class MongoEsperaConexaoListenerTest {
+
+	private final ServerId servidor = new ServerId(new ClusterId(), new ServerAddress("localhost", 27017));
+
+	@Test
+	@DisplayName("Deve registrar a espera por conexão obtida")
+	void deveRegistrarEsperaPorConexaoObtida() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MongoEsperaConexaoListener listener = new MongoEsperaConexaoListener(registry);
+
+		listener.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(servidor), 1L,
+				TimeUnit.MILLISECONDS.toNanos(15)));
+
+		Timer timer = registry.get(MongoEsperaConexaoListener.METRICA_ESPERA)
+				.tags("server.address", "localhost:27017", "resultado", "sucesso").timer();
+		assertEquals(1, timer.count());
+		assertEquals(15.0, timer.totalTime(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	@DisplayName("Deve registrar a espera de checkouts que falharam pelo motivo")
+	void deveRegistrarEsperaDeCheckoutsQueFalharam() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MongoEsperaConexaoListener listener = new MongoEsperaConexaoListener(registry);
+
+		listener.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(servidor, 1L,
+				ConnectionCheckOutFailedEvent.Reason.TIMEOUT, TimeUnit.SECONDS.toNanos(2)));
+
+		assertEquals(1, registry.get(MongoEsperaConexaoListener.METRICA_ESPERA)
+				.tags("resultado", "timeout").timer().count());
+	}
+}
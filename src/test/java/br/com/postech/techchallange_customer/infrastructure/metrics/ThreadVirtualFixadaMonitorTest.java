@@ -0,0 +1,106 @@
+package br.com.postech.techchallange_customer.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ThreadVirtualFixadaMonitor - Testes Unitários")
+class ThreadVirtualFixadaMonitorTest {
+
+	private SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("Deve atribuir a fixação ao driver quando o quadro mais interno conhecido é do driver")
+	void deveAtribuirFixacaoAoDriver() {
+		assertEquals("mongodb-driver", ThreadVirtualFixadaMonitor.origem(List.of(
+				"java.lang.Object.wait0:-1",
+				"com.mongodb.internal.connection.DefaultConnectionPool.get:190",
+				"br.com.postech.techchallange_customer.infrastructure.persistence.adapter.ClienteRepositoryAdapter.findByCpf:120")));
+	}
+
+	@Test
+	@DisplayName("Deve atribuir a fixação à aplicação e a outras bibliotecas")
+	void deveAtribuirFixacaoAAplicacaoEAOutrasBibliotecas() {
+		assertEquals("aplicacao", ThreadVirtualFixadaMonitor.origem(List.of(
+				"java.lang.Thread.sleep:509",
+				"br.com.postech.techchallange_customer.infrastructure.persistence.bloom.FiltroBloom.adicionar:80")));
+		assertEquals("outra", ThreadVirtualFixadaMonitor.origem(List.of("java.lang.Thread.sleep:509")));
+		assertEquals("outra", ThreadVirtualFixadaMonitor.origem(List.of()));
+	}
+
+	@Test
+	@DisplayName("Deve medir cada fixação com a origem")
+	void deveMedirCadaFixacaoComOrigem() {
+		ThreadVirtualFixadaMonitor monitor = new ThreadVirtualFixadaMonitor(registry, Duration.ofMillis(20));
+		List<String> quadros = List.of("com.mongodb.internal.connection.SocketStream.read:100");
+
+		monitor.registrar(Duration.ofMillis(30), quadros);
+		monitor.registrar(Duration.ofMillis(50), quadros);
+
+		Timer timer = registry.get(ThreadVirtualFixadaMonitor.METRICA_FIXACAO).tags("origem", "mongodb-driver").timer();
+		assertEquals(2, timer.count());
+		assertEquals(80.0, timer.totalTime(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	@DisplayName("Deve receber do JFR a fixação de uma thread virtual que dorme dentro de synchronized")
+	void deveReceberDoJfrFixacaoDeThreadVirtualDentroDeSynchronized() throws Exception {
+		ThreadVirtualFixadaMonitor monitor = new ThreadVirtualFixadaMonitor(registry, Duration.ofMillis(10));
+		monitor.start();
+		try {
+			assertTrue(monitor.isRunning());
+			Object trava = new Object();
+
+			Thread.ofVirtual().start(() -> {
+				synchronized (trava) {
+					dormir(50);
+				}
+			}).join();
+
+			Timer timer = aguardarFixacao(Duration.ofSeconds(15));
+			assertNotNull(timer);
+			assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 40);
+		} finally {
+			monitor.stop();
+		}
+		assertFalse(monitor.isRunning());
+	}
+
+	// Funções auxiliares
+
+	private Timer aguardarFixacao(Duration prazo) throws InterruptedException {
+		long fim = System.nanoTime() + prazo.toNanos();
+		while (System.nanoTime() < fim) {
+			Timer timer = registry.find(ThreadVirtualFixadaMonitor.METRICA_FIXACAO).tags("origem", "aplicacao").timer();
+			if (timer != null && timer.count() > 0) {
+				return timer;
+			}
+			Thread.sleep(100);
+		}
+		return null;
+	}
+
+	private static void dormir(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
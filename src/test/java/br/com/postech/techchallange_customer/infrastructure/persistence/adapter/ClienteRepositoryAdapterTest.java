@@ -1,31 +1,85 @@
 package br.com.postech.techchallange_customer.infrastructure.persistence.adapter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import com.mongodb.MongoCommandException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
 import br.com.postech.techchallange_customer.domain.entity.Endereco;
 import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.infrastructure.config.ExportProperties;
+import br.com.postech.techchallange_customer.infrastructure.config.LoteProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteBuscaDocument;
 import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.ConsistenciaCausal;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteCursorMapper;
 import br.com.postech.techchallange_customer.infrastructure.persistence.repository.ClienteMongoRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +88,19 @@ class ClienteRepositoryAdapterTest {
 	@Mock
 	private ClienteMongoRepository mongoRepository;
 
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Spy
+	private ExportProperties exportProperties = new ExportProperties();
+
+	@Spy
+	private LoteProperties loteProperties = new LoteProperties();
+
+	@Spy
+	private RoteamentoLeitura roteamento = new RoteamentoLeitura(ReadPreference.secondaryPreferred(),
+			ReadPreference.primary(), new ConsistenciaCausal());
+
 	@InjectMocks
 	private ClienteRepositoryAdapter adapter;
 
@@ -79,6 +146,200 @@ class ClienteRepositoryAdapterTest {
 		verify(mongoRepository, times(1)).save(any(ClienteDocument.class));
 	}
 
+	@Test
+	@DisplayName("Deve inserir cliente com uma única escrita")
+	void deveInserirClienteComSucesso() {
+		when(mongoRepository.insert(any(ClienteDocument.class))).thenReturn(clienteDocument);
+
+		Cliente resultado = adapter.insert(cliente);
+
+		assertNotNull(resultado);
+		assertEquals("12345678901", resultado.getCpfCliente());
+		verify(mongoRepository, times(1)).insert(any(ClienteDocument.class));
+		verify(mongoRepository, never()).save(any(ClienteDocument.class));
+	}
+
+	@Test
+	@DisplayName("Deve traduzir CPF duplicado na inserção para ClienteAlreadyExistsException")
+	void deveTraduzirCpfDuplicadoNaInsercao() {
+		when(mongoRepository.insert(any(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: cpfCliente dup key: { cpfCliente: \"12345678901\" }"));
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.insert(cliente));
+
+		assertTrue(exception.getMessage().contains("CPF"));
+		assertTrue(exception.getMessage().contains("12345678901"));
+	}
+
+	@Test
+	@DisplayName("Deve traduzir e-mail duplicado na inserção para ClienteAlreadyExistsException")
+	void deveTraduzirEmailDuplicadoNaInsercao() {
+		when(mongoRepository.insert(any(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: emailCliente dup key: { emailCliente: \"joao@email.com\" }"));
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.insert(cliente));
+
+		assertTrue(exception.getMessage().contains("e-mail"));
+		assertTrue(exception.getMessage().contains("joao@email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve identificar o campo pelo índice violado e não pelo valor duplicado")
+	void deveIdentificarCampoPeloIndiceVioladoENaoPeloValor() {
+		cliente.setEmailCliente("cpfCliente@email.com");
+		when(mongoRepository.insert(any(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: emailCliente dup key: { emailCliente: \"cpfCliente@email.com\" }"));
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.insert(cliente));
+
+		assertTrue(exception.getMessage().contains("e-mail"));
+		assertFalse(exception.getMessage().contains("CPF"));
+	}
+
+	@Test
+	@DisplayName("Deve traduzir duplicidade em índice único com o nome padrão do MongoDB")
+	void deveTraduzirDuplicidadeEmIndiceComNomePadrao() {
+		when(mongoRepository.insert(any(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: cpfCliente_1 dup key: { cpfCliente: \"12345678901\" }"));
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.insert(cliente));
+
+		assertTrue(exception.getMessage().contains("CPF"));
+	}
+
+	@Test
+	@DisplayName("Deve usar o nome do índice quando o servidor não informa o campo da chave")
+	void deveUsarNomeDoIndiceSemCampoNaChave() {
+		when(mongoRepository.insert(any(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: emailCliente_1 dup key: { : \"joao@email.com\" }"));
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.insert(cliente));
+
+		assertTrue(exception.getMessage().contains("e-mail"));
+	}
+
+	@Test
+	@DisplayName("Deve propagar duplicidade em índice não mapeado")
+	void devePropagarDuplicidadeEmIndiceNaoMapeado() {
+		when(mongoRepository.insert(any(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: _id_ dup key: { _id: 1 }"));
+
+		assertThrows(DuplicateKeyException.class, () -> adapter.insert(cliente));
+	}
+
+	// ==================== Testes de inserção em lote ====================
+
+	@Test
+	@DisplayName("Deve inserir lote com uma escrita não ordenada e atribuir _id e versão")
+	void deveInserirLoteComEscritaNaoOrdenada() {
+		BulkOperations bulk = mockBulkOperations();
+		List<Cliente> clientes = List.of(novoCliente(1), novoCliente(2));
+
+		List<ResultadoItemLote> resultados = adapter.insertAll(clientes);
+
+		assertEquals(2, resultados.size());
+		assertTrue(resultados.stream().allMatch(ResultadoItemLote::isCriado));
+		assertTrue(ObjectId.isValid(resultados.get(0).getCliente().getId()));
+		assertEquals(0, resultados.get(0).getCliente().getVersao());
+		assertEquals("00000000002", resultados.get(1).getCliente().getCpfCliente());
+		verify(mongoTemplate).bulkOps(BulkMode.UNORDERED, ClienteDocument.class);
+		verify(bulk).execute();
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar apenas os itens com CPF ou e-mail duplicado")
+	void deveRejeitarApenasItensDuplicadosNoLote() {
+		BulkOperations bulk = mockBulkOperations();
+		BulkOperationException erro = bulkOperationException(
+				new BulkWriteError(11000, "E11000 duplicate key error collection: tc-customer.clientes index: cpfCliente dup key",
+						new BsonDocument(), 1),
+				new BulkWriteError(11000, "E11000 duplicate key error collection: tc-customer.clientes index: emailCliente dup key",
+						new BsonDocument(), 2));
+		when(bulk.execute()).thenThrow(erro);
+
+		List<ResultadoItemLote> resultados = adapter.insertAll(List.of(novoCliente(1), novoCliente(2), novoCliente(3)));
+
+		assertEquals(StatusItemLote.CRIADO, resultados.get(0).getStatus());
+		assertEquals(StatusItemLote.CPF_DUPLICADO, resultados.get(1).getStatus());
+		assertTrue(resultados.get(1).getMensagem().contains("00000000002"));
+		assertEquals(StatusItemLote.EMAIL_DUPLICADO, resultados.get(2).getStatus());
+		assertTrue(resultados.get(2).getMensagem().contains("cliente3@email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve classificar o item do lote pelo índice violado e não pelo valor duplicado")
+	void deveClassificarItemDoLotePeloIndiceViolado() {
+		BulkOperations bulk = mockBulkOperations();
+		BulkOperationException erro = bulkOperationException(new BulkWriteError(11000,
+				"E11000 duplicate key error collection: tc-customer.clientes index: emailCliente dup key: { emailCliente: \"cpfCliente@email.com\" }",
+				new BsonDocument(), 0));
+		when(bulk.execute()).thenThrow(erro);
+
+		List<ResultadoItemLote> resultados = adapter.insertAll(List.of(novoCliente(1)));
+
+		assertEquals(StatusItemLote.EMAIL_DUPLICADO, resultados.get(0).getStatus());
+	}
+
+	@Test
+	@DisplayName("Deve classificar como duplicado o item que viola índice com o nome padrão")
+	void deveClassificarItemDuplicadoEmIndiceComNomePadrao() {
+		BulkOperations bulk = mockBulkOperations();
+		BulkOperationException erro = bulkOperationException(new BulkWriteError(11000,
+				"E11000 duplicate key error collection: tc-customer.clientes index: cpfCliente_1 dup key: { cpfCliente: \"00000000001\" }",
+				new BsonDocument(), 0));
+		when(bulk.execute()).thenThrow(erro);
+
+		List<ResultadoItemLote> resultados = adapter.insertAll(List.of(novoCliente(1)));
+
+		assertEquals(StatusItemLote.CPF_DUPLICADO, resultados.get(0).getStatus());
+	}
+
+	@Test
+	@DisplayName("Deve classificar erro que não é de duplicidade como falha do item")
+	void deveClassificarErroNaoDuplicidadeComoFalha() {
+		BulkOperations bulk = mockBulkOperations();
+		BulkOperationException erro = bulkOperationException(
+				new BulkWriteError(121, "Document failed validation", new BsonDocument(), 0));
+		when(bulk.execute()).thenThrow(erro);
+
+		List<ResultadoItemLote> resultados = adapter.insertAll(List.of(novoCliente(1)));
+
+		assertEquals(StatusItemLote.FALHA, resultados.get(0).getStatus());
+		assertEquals("Document failed validation", resultados.get(0).getMensagem());
+	}
+
+	@Test
+	@DisplayName("Deve dividir o lote conforme o chunk-size e manter a posição dos erros")
+	@SuppressWarnings("unchecked")
+	void deveDividirLoteConformeChunkSize() {
+		loteProperties.setChunkSize(2);
+		BulkOperations bulk = mockBulkOperations();
+		BulkOperationException erro = bulkOperationException(
+				new BulkWriteError(11000, "index: cpfCliente", new BsonDocument(), 0));
+		when(bulk.execute())
+				.thenReturn(null)
+				.thenThrow(erro)
+				.thenReturn(null);
+
+		List<Cliente> clientes = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			clientes.add(novoCliente(i));
+		}
+		List<ResultadoItemLote> resultados = adapter.insertAll(clientes);
+
+		ArgumentCaptor<List<ClienteDocument>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bulk, times(3)).insert(captor.capture());
+		assertEquals(List.of(2, 2, 1), captor.getAllValues().stream().map(List::size).toList());
+		assertEquals(5, resultados.size());
+		assertEquals(StatusItemLote.CPF_DUPLICADO, resultados.get(2).getStatus());
+		assertEquals(4, resultados.stream().filter(ResultadoItemLote::isCriado).count());
+	}
+
 	@Test
 	@DisplayName("Deve atualizar cliente com sucesso")
 	void deveAtualizarClienteComSucesso() {
@@ -91,73 +352,243 @@ class ClienteRepositoryAdapterTest {
 		verify(mongoRepository, times(1)).save(any(ClienteDocument.class));
 	}
 
+	@Test
+	@DisplayName("Deve traduzir falha de @Version na atualização para AlteracaoConcorrenteException")
+	void deveTraduzirFalhaDeVersaoNaAtualizacao() {
+		when(mongoRepository.save(any(ClienteDocument.class)))
+				.thenThrow(new OptimisticLockingFailureException("versão 2 esperada"));
+
+		AlteracaoConcorrenteException exception = assertThrows(AlteracaoConcorrenteException.class,
+				() -> adapter.update(cliente));
+
+		assertTrue(exception.getMessage().contains("cliente-uuid-123"));
+	}
+
+	@Test
+	@DisplayName("Deve traduzir e-mail duplicado na atualização para ClienteAlreadyExistsException")
+	void deveTraduzirEmailDuplicadoNaAtualizacao() {
+		when(mongoRepository.save(any(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: emailCliente dup key: { emailCliente: \"joao@email.com\" }"));
+
+		assertThrows(ClienteAlreadyExistsException.class, () -> adapter.update(cliente));
+	}
+
+	@Test
+	@DisplayName("Deve alterar campos com findAndModify condicionado à versão, com $set, $unset e incremento")
+	void deveAlterarCamposComFindAndModifyCondicionadoAVersao() {
+		LocalDateTime agora = LocalDateTime.now();
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", "11888888888")
+				.definir("endereco.complemento", null);
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(ClienteDocument.class))).thenReturn(clienteDocument);
+
+		Optional<Cliente> resultado = adapter.updateCampos("cliente-uuid-123", 3, alteracao, agora);
+
+		assertTrue(resultado.isPresent());
+		ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		ArgumentCaptor<FindAndModifyOptions> opcoesCaptor = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+		verify(mongoTemplate).findAndModify(queryCaptor.capture(), updateCaptor.capture(), opcoesCaptor.capture(),
+				eq(ClienteDocument.class));
+		assertEquals(new Document("clienteId", "cliente-uuid-123").append("versao", 3),
+				queryCaptor.getValue().getQueryObject());
+		Document update = updateCaptor.getValue().getUpdateObject();
+		assertEquals("11888888888", update.get("$set", Document.class).get("telefone"));
+		assertEquals(agora, update.get("$set", Document.class).get("dataUltimaAtualizacao"));
+		assertTrue(update.get("$unset", Document.class).containsKey("endereco.complemento"));
+		assertEquals(1, update.get("$inc", Document.class).get("versao"));
+		assertTrue(opcoesCaptor.getValue().isReturnNew());
+		verify(mongoRepository, never()).save(any(ClienteDocument.class));
+	}
+
+	@Test
+	@DisplayName("Deve retornar vazio quando o cliente não está mais na versão informada")
+	void deveRetornarVazioQuandoClienteNaoEstaNaVersao() {
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(ClienteDocument.class))).thenReturn(null);
+
+		assertTrue(adapter.updateCampos("cliente-uuid-123", 3, new AlteracaoCliente().definir("telefone", null),
+				LocalDateTime.now()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve traduzir e-mail duplicado na alteração parcial com o e-mail enviado")
+	void deveTraduzirEmailDuplicadoNaAlteracaoParcial() {
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+						"E11000 duplicate key error collection: tc-customer.clientes index: emailCliente dup key: { emailCliente: \"maria@email.com\" }"));
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("emailCliente", "maria@email.com");
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.updateCampos("cliente-uuid-123", 3, alteracao, LocalDateTime.now()));
+
+		assertTrue(exception.getMessage().contains("maria@email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve traduzir e-mail duplicado na alteração parcial com índice de nome padrão")
+	void deveTraduzirEmailDuplicadoNaAlteracaoParcialComIndicePadrao() {
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(ClienteDocument.class))).thenThrow(new DuplicateKeyException(
+						"E11000 duplicate key error collection: tc-customer.clientes index: emailCliente_1 dup key: { emailCliente: \"maria@email.com\" }"));
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("emailCliente", "maria@email.com");
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.updateCampos("cliente-uuid-123", 3, alteracao, LocalDateTime.now()));
+
+		assertTrue(exception.getMessage().contains("e-mail"));
+	}
+
+	@Test
+	@DisplayName("Deve traduzir a recusa do schema da coleção na alteração parcial em erro de validação")
+	void deveTraduzirRecusaDoSchemaNaAlteracaoParcial() {
+		MongoCommandException recusa = new MongoCommandException(
+				new BsonDocument("ok", new BsonInt32(0)).append("code", new BsonInt32(121))
+						.append("errmsg", new BsonString("Document failed validation")),
+				new ServerAddress());
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(ClienteDocument.class))).thenThrow(new DataIntegrityViolationException(recusa.getMessage(), recusa));
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("endereco.estado", "São Paulo");
+
+		assertThrows(InvalidClienteException.class,
+				() -> adapter.updateCampos("cliente-uuid-123", 3, alteracao, LocalDateTime.now()));
+	}
+
+	@Test
+	@DisplayName("Deve propagar falhas de escrita que não são recusa do schema")
+	void devePropagarFalhasDeEscritaQueNaoSaoRecusaDoSchema() {
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(ClienteDocument.class))).thenThrow(new DataIntegrityViolationException("write concern"));
+
+		assertThrows(DataIntegrityViolationException.class, () -> adapter.updateCampos("cliente-uuid-123", 3,
+				new AlteracaoCliente().definir("telefone", "11888888888"), LocalDateTime.now()));
+	}
+
 	@Test
 	@DisplayName("Deve encontrar cliente por clienteId")
 	void deveEncontrarClientePorClienteId() {
-		when(mongoRepository.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(clienteDocument));
+		when(mongoTemplate.findOne(consultaPor(new Document("clienteId", "cliente-uuid-123")), eq(ClienteDocument.class)))
+				.thenReturn(clienteDocument);
 
 		Optional<Cliente> resultado = adapter.findByClienteId("cliente-uuid-123");
 
 		assertTrue(resultado.isPresent());
 		assertEquals("João Silva", resultado.get().getNomeCliente());
-		verify(mongoRepository, times(1)).findByClienteId("cliente-uuid-123");
+		verify(mongoTemplate).findOne(consultaPor(new Document("clienteId", "cliente-uuid-123")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar vazio quando cliente não encontrado por clienteId")
 	void deveRetornarVazioQuandoClienteNaoEncontradoPorClienteId() {
-		when(mongoRepository.findByClienteId("cliente-inexistente")).thenReturn(Optional.empty());
+		when(mongoTemplate.findOne(consultaPor(new Document("clienteId", "cliente-inexistente")), eq(ClienteDocument.class)))
+				.thenReturn(null);
 
 		Optional<Cliente> resultado = adapter.findByClienteId("cliente-inexistente");
 
 		assertFalse(resultado.isPresent());
-		verify(mongoRepository, times(1)).findByClienteId("cliente-inexistente");
+		verify(mongoTemplate).findOne(consultaPor(new Document("clienteId", "cliente-inexistente")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve encontrar cliente por CPF")
 	void deveEncontrarClientePorCpf() {
-		when(mongoRepository.findByCpfCliente("12345678901")).thenReturn(Optional.of(clienteDocument));
+		when(mongoTemplate.findOne(consultaPor(new Document("cpfCliente", "12345678901")), eq(ClienteDocument.class)))
+				.thenReturn(clienteDocument);
 
 		Optional<Cliente> resultado = adapter.findByCpf("12345678901");
 
 		assertTrue(resultado.isPresent());
 		assertEquals("12345678901", resultado.get().getCpfCliente());
-		verify(mongoRepository, times(1)).findByCpfCliente("12345678901");
+		verify(mongoTemplate).findOne(consultaPor(new Document("cpfCliente", "12345678901")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar vazio quando cliente não encontrado por CPF")
 	void deveRetornarVazioQuandoClienteNaoEncontradoPorCpf() {
-		when(mongoRepository.findByCpfCliente("99999999999")).thenReturn(Optional.empty());
+		when(mongoTemplate.findOne(consultaPor(new Document("cpfCliente", "99999999999")), eq(ClienteDocument.class)))
+				.thenReturn(null);
 
 		Optional<Cliente> resultado = adapter.findByCpf("99999999999");
 
 		assertFalse(resultado.isPresent());
-		verify(mongoRepository, times(1)).findByCpfCliente("99999999999");
+		verify(mongoTemplate).findOne(consultaPor(new Document("cpfCliente", "99999999999")), eq(ClienteDocument.class));
+	}
+
+	@Test
+	@DisplayName("Deve buscar cliente por CPF lendo apenas os campos da projeção")
+	void deveBuscarClientePorCpfLendoApenasCamposDaProjecao() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.findOne(captor.capture(), eq(ClienteDocument.class))).thenReturn(clienteDocument);
+
+		Optional<Cliente> resultado = adapter.findByCpf("12345678901", ProjecaoCliente.of("id", "nomeCliente"));
+
+		assertTrue(resultado.isPresent());
+		assertEquals(new Document("cpfCliente", "12345678901"), captor.getValue().getQueryObject());
+		assertEquals(new Document("_id", 1).append("nomeCliente", 1), captor.getValue().getFieldsObject());
+	}
+
+	@Test
+	@DisplayName("Deve ler o documento inteiro quando a projeção é completa")
+	void deveLerDocumentoInteiroQuandoProjecaoCompleta() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.findOne(captor.capture(), eq(ClienteDocument.class))).thenReturn(clienteDocument);
+
+		Optional<Cliente> resultado = adapter.findByClienteId("cliente-uuid-123", ProjecaoCliente.completa());
+
+		assertTrue(resultado.isPresent());
+		assertTrue(captor.getValue().getFieldsObject().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve listar e contar com a read preference das listagens e buscar pontualmente no primary")
+	void deveAplicarRoteamentoDeLeitura() {
+		ArgumentCaptor<Query> listagem = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Query> contagem = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Query> pontual = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.find(listagem.capture(), eq(ClienteDocument.class))).thenReturn(List.of(clienteDocument));
+		when(mongoTemplate.count(contagem.capture(), eq(ClienteDocument.class))).thenReturn(1L);
+		when(mongoTemplate.findOne(pontual.capture(), eq(ClienteDocument.class))).thenReturn(clienteDocument);
+
+		adapter.findAllAtivos(ConsultaPaginada.primeiraPagina());
+		adapter.countAtivos();
+		adapter.findByEmail("joao@email.com");
+
+		assertEquals(ReadPreference.secondaryPreferred(), listagem.getValue().getReadPreference());
+		assertEquals(ReadPreference.secondaryPreferred(), contagem.getValue().getReadPreference());
+		assertEquals(ReadPreference.primary(), pontual.getValue().getReadPreference());
+	}
+
+	@Test
+	@DisplayName("Deve retornar vazio na busca projetada por e-mail inexistente")
+	void deveRetornarVazioNaBuscaProjetadaPorEmailInexistente() {
+		when(mongoTemplate.findOne(any(Query.class), eq(ClienteDocument.class))).thenReturn(null);
+
+		assertTrue(adapter.findByEmail("nada@email.com", ProjecaoCliente.of("clienteId")).isEmpty());
 	}
 
 	@Test
 	@DisplayName("Deve encontrar cliente por email")
 	void deveEncontrarClientePorEmail() {
-		when(mongoRepository.findByEmailCliente("joao@email.com")).thenReturn(Optional.of(clienteDocument));
+		when(mongoTemplate.findOne(consultaPor(new Document("emailCliente", "joao@email.com")), eq(ClienteDocument.class)))
+				.thenReturn(clienteDocument);
 
 		Optional<Cliente> resultado = adapter.findByEmail("joao@email.com");
 
 		assertTrue(resultado.isPresent());
 		assertEquals("joao@email.com", resultado.get().getEmailCliente());
-		verify(mongoRepository, times(1)).findByEmailCliente("joao@email.com");
+		verify(mongoTemplate).findOne(consultaPor(new Document("emailCliente", "joao@email.com")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar vazio quando cliente não encontrado por email")
 	void deveRetornarVazioQuandoClienteNaoEncontradoPorEmail() {
-		when(mongoRepository.findByEmailCliente("inexistente@email.com")).thenReturn(Optional.empty());
+		when(mongoTemplate.findOne(consultaPor(new Document("emailCliente", "inexistente@email.com")), eq(ClienteDocument.class)))
+				.thenReturn(null);
 
 		Optional<Cliente> resultado = adapter.findByEmail("inexistente@email.com");
 
 		assertFalse(resultado.isPresent());
-		verify(mongoRepository, times(1)).findByEmailCliente("inexistente@email.com");
+		verify(mongoTemplate).findOne(consultaPor(new Document("emailCliente", "inexistente@email.com")), eq(ClienteDocument.class));
 	}
 
 	@Test
@@ -183,172 +614,142 @@ class ClienteRepositoryAdapterTest {
 		verify(mongoRepository, times(1)).findById("id-inexistente");
 	}
 
-	@Test
-	@DisplayName("Deve listar todos os clientes")
-	void deveListarTodosOsClientes() {
-		ClienteDocument doc2 = new ClienteDocument();
-		doc2.setId("id-456");
-		doc2.setNomeCliente("Maria Santos");
-		doc2.setEmailCliente("maria@email.com");
-		doc2.setCpfCliente("98765432109");
-
-		when(mongoRepository.findAll()).thenReturn(Arrays.asList(clienteDocument, doc2));
-
-		List<Cliente> resultado = adapter.findAll();
-
-		assertNotNull(resultado);
-		assertEquals(2, resultado.size());
-		verify(mongoRepository, times(1)).findAll();
-	}
-
-	@Test
-	@DisplayName("Deve retornar lista vazia quando não há clientes")
-	void deveRetornarListaVaziaQuandoNaoHaClientes() {
-		when(mongoRepository.findAll()).thenReturn(Collections.emptyList());
-
-		List<Cliente> resultado = adapter.findAll();
-
-		assertNotNull(resultado);
-		assertTrue(resultado.isEmpty());
-		verify(mongoRepository, times(1)).findAll();
-	}
-
 	@Test
 	@DisplayName("Deve listar clientes ativos")
 	void deveListarClientesAtivos() {
-		when(mongoRepository.findByAtivoTrue()).thenReturn(Collections.singletonList(clienteDocument));
+		when(mongoTemplate.find(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class))).thenReturn(Collections.singletonList(clienteDocument));
 
-		List<Cliente> resultado = adapter.findAllAtivos();
+		List<Cliente> resultado = adapter.findAllAtivos(ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(1, resultado.size());
 		assertTrue(resultado.get(0).getAtivo());
-		verify(mongoRepository, times(1)).findByAtivoTrue();
+		verify(mongoTemplate).find(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve listar clientes inativos")
 	void deveListarClientesInativos() {
 		clienteDocument.setAtivo(false);
-		when(mongoRepository.findByAtivoFalse()).thenReturn(Collections.singletonList(clienteDocument));
+		when(mongoTemplate.find(consultaPor(new Document("ativo", false)), eq(ClienteDocument.class))).thenReturn(Collections.singletonList(clienteDocument));
 
-		List<Cliente> resultado = adapter.findAllInativos();
+		List<Cliente> resultado = adapter.findAllInativos(ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(1, resultado.size());
-		verify(mongoRepository, times(1)).findByAtivoFalse();
+		verify(mongoTemplate).find(consultaPor(new Document("ativo", false)), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve buscar clientes por cidade e estado")
 	void deveBuscarClientesPorCidadeEEstado() {
-		when(mongoRepository.findByEnderecoCidadeAndEnderecoEstado("São Paulo", "SP"))
+		when(mongoTemplate.find(consultaPor(new Document("endereco.cidade", "São Paulo").append("endereco.estado", "SP")), eq(ClienteDocument.class)))
 				.thenReturn(Collections.singletonList(clienteDocument));
 
-		List<Cliente> resultado = adapter.findByCidadeAndEstado("São Paulo", "SP");
+		List<Cliente> resultado = adapter.findByCidadeAndEstado("São Paulo", "SP", ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(1, resultado.size());
-		verify(mongoRepository, times(1)).findByEnderecoCidadeAndEnderecoEstado("São Paulo", "SP");
+		verify(mongoTemplate).find(consultaPor(new Document("endereco.cidade", "São Paulo").append("endereco.estado", "SP")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar lista vazia quando não há clientes na cidade e estado")
 	void deveRetornarListaVaziaQuandoNaoHaClientesNaCidadeEEstado() {
-		when(mongoRepository.findByEnderecoCidadeAndEnderecoEstado("Rio de Janeiro", "RJ"))
+		when(mongoTemplate.find(consultaPor(new Document("endereco.cidade", "Rio de Janeiro").append("endereco.estado", "RJ")), eq(ClienteDocument.class)))
 				.thenReturn(Collections.emptyList());
 
-		List<Cliente> resultado = adapter.findByCidadeAndEstado("Rio de Janeiro", "RJ");
+		List<Cliente> resultado = adapter.findByCidadeAndEstado("Rio de Janeiro", "RJ", ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertTrue(resultado.isEmpty());
-		verify(mongoRepository, times(1)).findByEnderecoCidadeAndEnderecoEstado("Rio de Janeiro", "RJ");
+		verify(mongoTemplate).find(consultaPor(new Document("endereco.cidade", "Rio de Janeiro").append("endereco.estado", "RJ")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve buscar clientes por tag")
 	void deveBuscarClientesPorTag() {
-		when(mongoRepository.findByMetadataTagsContaining("VIP"))
+		when(mongoTemplate.find(consultaPor(new Document("metadata.tags", "VIP")), eq(ClienteDocument.class)))
 				.thenReturn(Collections.singletonList(clienteDocument));
 
-		List<Cliente> resultado = adapter.findByTag("VIP");
+		List<Cliente> resultado = adapter.findByTag("VIP", ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(1, resultado.size());
-		verify(mongoRepository, times(1)).findByMetadataTagsContaining("VIP");
+		verify(mongoTemplate).find(consultaPor(new Document("metadata.tags", "VIP")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar lista vazia quando não há clientes com a tag")
 	void deveRetornarListaVaziaQuandoNaoHaClientesComTag() {
-		when(mongoRepository.findByMetadataTagsContaining("Premium"))
+		when(mongoTemplate.find(consultaPor(new Document("metadata.tags", "Premium")), eq(ClienteDocument.class)))
 				.thenReturn(Collections.emptyList());
 
-		List<Cliente> resultado = adapter.findByTag("Premium");
+		List<Cliente> resultado = adapter.findByTag("Premium", ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertTrue(resultado.isEmpty());
-		verify(mongoRepository, times(1)).findByMetadataTagsContaining("Premium");
+		verify(mongoTemplate).find(consultaPor(new Document("metadata.tags", "Premium")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve buscar clientes ativos por cidade")
 	void deveBuscarClientesAtivosPorCidade() {
-		when(mongoRepository.findClientesAtivosPorCidade("São Paulo"))
+		when(mongoTemplate.find(consultaPor(new Document("ativo", true).append("endereco.cidade", "São Paulo")), eq(ClienteDocument.class)))
 				.thenReturn(Collections.singletonList(clienteDocument));
 
-		List<Cliente> resultado = adapter.findClientesAtivosPorCidade("São Paulo");
+		List<Cliente> resultado = adapter.findClientesAtivosPorCidade("São Paulo", ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(1, resultado.size());
-		verify(mongoRepository, times(1)).findClientesAtivosPorCidade("São Paulo");
+		verify(mongoTemplate).find(consultaPor(new Document("ativo", true).append("endereco.cidade", "São Paulo")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve buscar clientes VIP ativos")
 	void deveBuscarClientesVipAtivos() {
-		when(mongoRepository.findClientesVipAtivos())
+		when(mongoTemplate.find(consultaPor(new Document("ativo", true).append("metadata.tags", "vip")), eq(ClienteDocument.class)))
 				.thenReturn(Collections.singletonList(clienteDocument));
 
-		List<Cliente> resultado = adapter.findClientesVipAtivos();
+		List<Cliente> resultado = adapter.findClientesVipAtivos(ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(1, resultado.size());
-		verify(mongoRepository, times(1)).findClientesVipAtivos();
+		verify(mongoTemplate).find(consultaPor(new Document("ativo", true).append("metadata.tags", "vip")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar lista vazia quando não há clientes VIP ativos")
 	void deveRetornarListaVaziaQuandoNaoHaClientesVipAtivos() {
-		when(mongoRepository.findClientesVipAtivos()).thenReturn(Collections.emptyList());
+		when(mongoTemplate.find(consultaPor(new Document("ativo", true).append("metadata.tags", "vip")), eq(ClienteDocument.class))).thenReturn(Collections.emptyList());
 
-		List<Cliente> resultado = adapter.findClientesVipAtivos();
+		List<Cliente> resultado = adapter.findClientesVipAtivos(ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertTrue(resultado.isEmpty());
-		verify(mongoRepository, times(1)).findClientesVipAtivos();
+		verify(mongoTemplate).find(consultaPor(new Document("ativo", true).append("metadata.tags", "vip")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve contar clientes ativos")
 	void deveContarClientesAtivos() {
-		when(mongoRepository.countByAtivoTrue()).thenReturn(5L);
+		when(mongoTemplate.count(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class))).thenReturn(5L);
 
 		long resultado = adapter.countAtivos();
 
 		assertEquals(5L, resultado);
-		verify(mongoRepository, times(1)).countByAtivoTrue();
+		verify(mongoTemplate).count(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar zero quando não há clientes ativos")
 	void deveRetornarZeroQuandoNaoHaClientesAtivos() {
-		when(mongoRepository.countByAtivoTrue()).thenReturn(0L);
+		when(mongoTemplate.count(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class))).thenReturn(0L);
 
 		long resultado = adapter.countAtivos();
 
 		assertEquals(0L, resultado);
-		verify(mongoRepository, times(1)).countByAtivoTrue();
+		verify(mongoTemplate).count(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class));
 	}
 
 	@Test
@@ -408,13 +809,224 @@ class ClienteRepositoryAdapterTest {
 	@Test
 	@DisplayName("Deve deletar cliente por clienteId")
 	void deveDeletarClientePorClienteId() {
-		doNothing().when(mongoRepository).deleteByClienteId("cliente-uuid-123");
+		when(mongoRepository.deleteByClienteId("cliente-uuid-123")).thenReturn(1L);
 
-		adapter.deleteByClienteId("cliente-uuid-123");
+		assertTrue(adapter.deleteByClienteId("cliente-uuid-123"));
 
 		verify(mongoRepository, times(1)).deleteByClienteId("cliente-uuid-123");
 	}
 
+	@Test
+	@DisplayName("Deve informar quando nenhum cliente foi deletado")
+	void deveInformarQuandoNenhumClienteFoiDeletado() {
+		when(mongoRepository.deleteByClienteId("inexistente")).thenReturn(0L);
+
+		assertFalse(adapter.deleteByClienteId("inexistente"));
+	}
+
+	@Test
+	@DisplayName("Deve desativar cliente com updateOne de $set e incremento de versão")
+	void deveDesativarClienteComUpdateOne() {
+		LocalDateTime agora = LocalDateTime.now();
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		assertTrue(adapter.desativarByClienteId("cliente-uuid-123", agora));
+
+		ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(ClienteDocument.class));
+		assertEquals(new Document("clienteId", "cliente-uuid-123"), queryCaptor.getValue().getQueryObject());
+		Document update = updateCaptor.getValue().getUpdateObject();
+		Document set = update.get("$set", Document.class);
+		assertEquals(false, set.get("ativo"));
+		assertEquals(agora, set.get("metadata.dataDesativacao"));
+		assertEquals(agora, set.get("dataUltimaAtualizacao"));
+		assertEquals(1, update.get("$inc", Document.class).get("versao"));
+		verify(mongoRepository, never()).save(any(ClienteDocument.class));
+	}
+
+	@Test
+	@DisplayName("Deve reativar cliente com $unset da data de desativação")
+	void deveReativarClienteComUnsetDaDataDeDesativacao() {
+		LocalDateTime agora = LocalDateTime.now();
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		assertTrue(adapter.reativarByClienteId("cliente-uuid-123", agora));
+
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(ClienteDocument.class));
+		Document update = updateCaptor.getValue().getUpdateObject();
+		assertEquals(true, update.get("$set", Document.class).get("ativo"));
+		assertTrue(update.get("$unset", Document.class).containsKey("metadata.dataDesativacao"));
+		assertEquals(1, update.get("$inc", Document.class).get("versao"));
+	}
+
+	@Test
+	@DisplayName("Deve informar quando nenhum cliente foi encontrado para desativar")
+	void deveInformarQuandoNenhumClienteFoiEncontradoParaDesativar() {
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+		assertFalse(adapter.desativarByClienteId("inexistente", LocalDateTime.now()));
+	}
+
+	// ==================== Testes da busca por nome ====================
+
+	@Test
+	@DisplayName("Deve buscar por nome com $text, relevância e filtros em agregação nos secundários")
+	void deveBuscarPorNomeComTextScoreEFiltros() {
+		ClienteBuscaDocument primeiro = documentoBusca("665f1c2e8b3e4a1d2c3b4a01", 2.5);
+		ClienteBuscaDocument segundo = documentoBusca("665f1c2e8b3e4a1d2c3b4a02", 1.5);
+		ClienteBuscaDocument excedente = documentoBusca("665f1c2e8b3e4a1d2c3b4a03", 1.0);
+		ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+		when(mongoTemplate.aggregate(captor.capture(), eq(ClienteDocument.class), eq(ClienteBuscaDocument.class)))
+				.thenReturn(new AggregationResults<>(List.of(primeiro, segundo, excedente), new Document()));
+
+		Pagina<Cliente> pagina = adapter.searchByNome("joão silva", new FiltroCliente(true, null, "SP", null),
+				new ConsultaPaginada(2, null, OrdenacaoCliente.ID));
+
+		assertEquals(2, pagina.getItens().size());
+		assertEquals("665f1c2e8b3e4a1d2c3b4a02", pagina.getItens().get(1).getId());
+		ClienteCursorMapper.PosicaoBusca posicao = ClienteCursorMapper.toPosicaoBusca(pagina.getProximoCursor());
+		assertEquals(1.5, posicao.getPontuacao());
+		assertEquals("665f1c2e8b3e4a1d2c3b4a02", posicao.getId());
+
+		Aggregation aggregation = captor.getValue();
+		assertEquals(ReadPreference.secondaryPreferred(), aggregation.getOptions().getReadPreference());
+		List<Document> etapas = aggregation.toPipeline(Aggregation.DEFAULT_CONTEXT);
+		assertEquals(4, etapas.size());
+		Document match = etapas.get(0).get("$match", Document.class);
+		assertEquals(new Document("$search", "joão silva"), match.get("$text"));
+		assertEquals(true, match.get("ativo"));
+		assertEquals("SP", match.get("endereco.estado"));
+		assertEquals(new Document("pontuacao", new Document("$meta", "textScore")), etapas.get(1).get("$addFields"));
+		assertEquals(new Document("pontuacao", -1).append("_id", 1), etapas.get(2).get("$sort"));
+		assertEquals(3, etapas.get(3).get("$limit"));
+	}
+
+	@Test
+	@DisplayName("Deve continuar a busca por nome a partir do cursor e projetar os campos pedidos")
+	void deveContinuarBuscaPorNomeAPartirDoCursor() {
+		ArgumentCaptor<Aggregation> captor = ArgumentCaptor.forClass(Aggregation.class);
+		when(mongoTemplate.aggregate(captor.capture(), eq(ClienteDocument.class), eq(ClienteBuscaDocument.class)))
+				.thenReturn(new AggregationResults<>(List.of(), new Document()));
+		String cursor = ClienteCursorMapper.toCursorBusca(1.5, "665f1c2e8b3e4a1d2c3b4a02");
+
+		Pagina<Cliente> pagina = adapter.searchByNome("silva", new FiltroCliente(null, null, null, null),
+				new ConsultaPaginada(10, cursor, OrdenacaoCliente.ID, ProjecaoCliente.of("nomeCliente")));
+
+		assertTrue(pagina.getItens().isEmpty());
+		assertNull(pagina.getProximoCursor());
+		List<Document> etapas = captor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+		assertEquals(new Document("$text", new Document("$search", "silva")), etapas.get(0).get("$match"));
+		Document posicao = new Document("$or", List.of(
+				new Document("pontuacao", new Document("$lt", 1.5)),
+				new Document("pontuacao", 1.5).append("_id", new Document("$gt", new ObjectId("665f1c2e8b3e4a1d2c3b4a02")))));
+		assertEquals(posicao, etapas.get(2).get("$match"));
+		Document projecao = etapas.get(etapas.size() - 1).get("$project", Document.class);
+		assertEquals(1, projecao.get("nomeCliente"));
+		assertEquals(1, projecao.get("pontuacao"));
+	}
+
+	// ==================== Testes de alteração em massa ====================
+
+	@Test
+	@DisplayName("Deve adicionar tag em massa com $addToSet apenas onde ela falta")
+	void deveAdicionarTagEmMassaComAddToSet() {
+		LocalDateTime agora = LocalDateTime.now();
+		when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(UpdateResult.acknowledged(10, 8L, null));
+
+		ResultadoAlteracaoEmMassa resultado = adapter.updateByFiltro(new FiltroCliente(true, "São Paulo", null, null),
+				AlteracaoEmMassa.adicionarTag("vip"), agora);
+
+		assertEquals(10, resultado.getEncontrados());
+		assertEquals(8, resultado.getAlterados());
+		assertFalse(resultado.isSimulacao());
+
+		ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(ClienteDocument.class));
+		List<?> condicoes = queryCaptor.getValue().getQueryObject().get("$and", List.class);
+		assertEquals(new Document("ativo", true).append("endereco.cidade", "São Paulo"), condicoes.get(0));
+		assertEquals(new Document("metadata.tags", new Document("$ne", "vip")), condicoes.get(1));
+		Document update = updateCaptor.getValue().getUpdateObject();
+		assertEquals("vip", update.get("$addToSet", Document.class).get("metadata.tags"));
+		assertEquals(agora, update.get("$set", Document.class).get("dataUltimaAtualizacao"));
+		assertEquals(1, update.get("$inc", Document.class).get("versao"));
+	}
+
+	@Test
+	@DisplayName("Deve remover tag em massa com $pull apenas onde ela existe")
+	void deveRemoverTagEmMassaComPull() {
+		when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(UpdateResult.acknowledged(3, 3L, null));
+
+		adapter.updateByFiltro(new FiltroCliente(null, null, "SP", null), AlteracaoEmMassa.removerTag("vip"),
+				LocalDateTime.now());
+
+		ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(ClienteDocument.class));
+		List<?> condicoes = queryCaptor.getValue().getQueryObject().get("$and", List.class);
+		assertEquals(new Document("metadata.tags", "vip"), condicoes.get(1));
+		assertEquals("vip", updateCaptor.getValue().getUpdateObject().get("$pull", Document.class).get("metadata.tags"));
+	}
+
+	@Test
+	@DisplayName("Deve desativar em massa apenas clientes ainda ativos")
+	void deveDesativarEmMassaApenasClientesAtivos() {
+		LocalDateTime agora = LocalDateTime.now();
+		when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+		adapter.updateByFiltro(new FiltroCliente(null, null, null, "inadimplente"), AlteracaoEmMassa.desativar(), agora);
+
+		ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(ClienteDocument.class));
+		List<?> condicoes = queryCaptor.getValue().getQueryObject().get("$and", List.class);
+		assertEquals(new Document("metadata.tags", "inadimplente"), condicoes.get(0));
+		assertEquals(new Document("ativo", new Document("$ne", false)), condicoes.get(1));
+		Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+		assertEquals(false, set.get("ativo"));
+		assertEquals(agora, set.get("metadata.dataDesativacao"));
+	}
+
+	@Test
+	@DisplayName("Deve reativar em massa com $unset da data de desativação")
+	void deveReativarEmMassaComUnset() {
+		when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		adapter.updateByFiltro(new FiltroCliente(null, "Campinas", null, null), AlteracaoEmMassa.reativar(),
+				LocalDateTime.now());
+
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateMulti(any(Query.class), updateCaptor.capture(), eq(ClienteDocument.class));
+		Document update = updateCaptor.getValue().getUpdateObject();
+		assertEquals(true, update.get("$set", Document.class).get("ativo"));
+		assertTrue(update.get("$unset", Document.class).containsKey("metadata.dataDesativacao"));
+	}
+
+	@Test
+	@DisplayName("Deve contar os clientes que seriam alterados com a mesma consulta da alteração")
+	void deveContarClientesParaAlteracao() {
+		when(mongoTemplate.count(any(Query.class), eq(ClienteDocument.class))).thenReturn(42L);
+
+		long total = adapter.countParaAlteracao(new FiltroCliente(true, null, null, null),
+				AlteracaoEmMassa.adicionarTag("vip"));
+
+		assertEquals(42L, total);
+		ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate).count(queryCaptor.capture(), eq(ClienteDocument.class));
+		List<?> condicoes = queryCaptor.getValue().getQueryObject().get("$and", List.class);
+		assertEquals(new Document("metadata.tags", new Document("$ne", "vip")), condicoes.get(1));
+		verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(ClienteDocument.class));
+	}
+
 	@Test
 	@DisplayName("Deve listar múltiplos clientes ativos")
 	void deveListarMultiplosClientesAtivos() {
@@ -428,13 +1040,13 @@ class ClienteRepositoryAdapterTest {
 		doc3.setNomeCliente("Pedro Oliveira");
 		doc3.setAtivo(true);
 
-		when(mongoRepository.findByAtivoTrue()).thenReturn(Arrays.asList(clienteDocument, doc2, doc3));
+		when(mongoTemplate.find(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class))).thenReturn(Arrays.asList(clienteDocument, doc2, doc3));
 
-		List<Cliente> resultado = adapter.findAllAtivos();
+		List<Cliente> resultado = adapter.findAllAtivos(ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(3, resultado.size());
-		verify(mongoRepository, times(1)).findByAtivoTrue();
+		verify(mongoTemplate).find(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class));
 	}
 
 	@Test
@@ -444,37 +1056,216 @@ class ClienteRepositoryAdapterTest {
 		doc2.setId("id-456");
 		doc2.setNomeCliente("Maria Santos");
 
-		when(mongoRepository.findByMetadataTagsContaining("VIP"))
+		when(mongoTemplate.find(consultaPor(new Document("metadata.tags", "VIP")), eq(ClienteDocument.class)))
 				.thenReturn(Arrays.asList(clienteDocument, doc2));
 
-		List<Cliente> resultado = adapter.findByTag("VIP");
+		List<Cliente> resultado = adapter.findByTag("VIP", ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
 		assertEquals(2, resultado.size());
-		verify(mongoRepository, times(1)).findByMetadataTagsContaining("VIP");
+		verify(mongoTemplate).find(consultaPor(new Document("metadata.tags", "VIP")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve buscar clientes por diferentes cidades e estados")
 	void deveBuscarClientesPorDiferentesCidadesEEstados() {
-		when(mongoRepository.findByEnderecoCidadeAndEnderecoEstado("Rio de Janeiro", "RJ"))
+		when(mongoTemplate.find(consultaPor(new Document("endereco.cidade", "Rio de Janeiro").append("endereco.estado", "RJ")), eq(ClienteDocument.class)))
 				.thenReturn(Collections.singletonList(clienteDocument));
 
-		List<Cliente> resultado = adapter.findByCidadeAndEstado("Rio de Janeiro", "RJ");
+		List<Cliente> resultado = adapter.findByCidadeAndEstado("Rio de Janeiro", "RJ", ConsultaPaginada.primeiraPagina()).getItens();
 
 		assertNotNull(resultado);
-		verify(mongoRepository, times(1)).findByEnderecoCidadeAndEnderecoEstado("Rio de Janeiro", "RJ");
+		verify(mongoTemplate).find(consultaPor(new Document("endereco.cidade", "Rio de Janeiro").append("endereco.estado", "RJ")), eq(ClienteDocument.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar contagem maior que zero para clientes ativos")
 	void deveRetornarContagemMaiorQueZeroParaClientesAtivos() {
-		when(mongoRepository.countByAtivoTrue()).thenReturn(10L);
+		when(mongoTemplate.count(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class))).thenReturn(10L);
 
 		long resultado = adapter.countAtivos();
 
 		assertEquals(10L, resultado);
 		assertTrue(resultado > 0);
-		verify(mongoRepository, times(1)).countByAtivoTrue();
+		verify(mongoTemplate).count(consultaPor(new Document("ativo", true)), eq(ClienteDocument.class));
+	}
+
+	@Test
+	@DisplayName("Deve retornar página sem próximo cursor quando há menos documentos que o limite")
+	void deveRetornarPaginaSemProximoCursorQuandoHaMenosDocumentosQueLimite() {
+		when(mongoTemplate.find(any(Query.class), eq(ClienteDocument.class)))
+				.thenReturn(Collections.singletonList(clienteDocument));
+
+		Pagina<Cliente> resultado = adapter.findAll(new ConsultaPaginada(10, null, OrdenacaoCliente.ID));
+
+		assertEquals(1, resultado.getItens().size());
+		assertFalse(resultado.temProxima());
+	}
+
+	@Test
+	@DisplayName("Deve ler um documento a mais e gerar cursor quando há próxima página")
+	void deveLerUmDocumentoAMaisEGerarCursorQuandoHaProximaPagina() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		ClienteDocument doc2 = new ClienteDocument();
+		doc2.setId("665f1c2e8b3e4a1d2c3b4a5f");
+		doc2.setDataCadastro(LocalDateTime.of(2025, 1, 10, 12, 0));
+		ClienteDocument doc3 = new ClienteDocument();
+		doc3.setId("665f1c2e8b3e4a1d2c3b4a60");
+
+		when(mongoTemplate.find(captor.capture(), eq(ClienteDocument.class)))
+				.thenReturn(new ArrayList<>(Arrays.asList(clienteDocument, doc2, doc3)));
+
+		Pagina<Cliente> resultado = adapter.findAllAtivos(new ConsultaPaginada(2, null, OrdenacaoCliente.DATA_CADASTRO_ASC));
+
+		assertEquals(2, resultado.getItens().size());
+		assertTrue(resultado.temProxima());
+		assertEquals(3, captor.getValue().getLimit());
+		assertEquals(true, captor.getValue().getQueryObject().get("ativo"));
+		assertEquals(new Document("dataCadastro", 1).append("_id", 1), captor.getValue().getSortObject());
+
+		ClienteCursorMapper.Posicao posicao = ClienteCursorMapper.toPosicao(resultado.getProximoCursor(),
+				OrdenacaoCliente.DATA_CADASTRO_ASC);
+		assertEquals("665f1c2e8b3e4a1d2c3b4a5f", posicao.getId());
+		assertEquals(LocalDateTime.of(2025, 1, 10, 12, 0), posicao.getDataCadastro());
+	}
+
+	@Test
+	@DisplayName("Deve filtrar a partir do cursor pelo _id na ordenação padrão")
+	void deveFiltrarAPartirDoCursorPeloIdNaOrdenacaoPadrao() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		Cliente ultimo = new Cliente();
+		ultimo.setId("665f1c2e8b3e4a1d2c3b4a5f");
+		String cursor = ClienteCursorMapper.toCursor(ultimo, OrdenacaoCliente.ID);
+
+		when(mongoTemplate.find(captor.capture(), eq(ClienteDocument.class))).thenReturn(Collections.emptyList());
+
+		adapter.findClientesVipAtivos(new ConsultaPaginada(20, cursor, OrdenacaoCliente.ID));
+
+		Document filtro = captor.getValue().getQueryObject();
+		assertEquals(new Document("$gt", new ObjectId("665f1c2e8b3e4a1d2c3b4a5f")), filtro.get("_id"));
+		assertEquals("vip", filtro.get("metadata.tags"));
+	}
+
+	@Test
+	@DisplayName("Deve usar desempate por _id na ordenação decrescente por data de cadastro")
+	void deveUsarDesempatePorIdNaOrdenacaoDecrescentePorDataCadastro() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		Cliente ultimo = new Cliente();
+		ultimo.setId("665f1c2e8b3e4a1d2c3b4a5f");
+		ultimo.setDataCadastro(LocalDateTime.of(2025, 1, 10, 12, 0));
+		String cursor = ClienteCursorMapper.toCursor(ultimo, OrdenacaoCliente.DATA_CADASTRO_DESC);
+
+		when(mongoTemplate.find(captor.capture(), eq(ClienteDocument.class))).thenReturn(Collections.emptyList());
+
+		adapter.findClientesAtivosPorCidade("São Paulo", new ConsultaPaginada(20, cursor, OrdenacaoCliente.DATA_CADASTRO_DESC));
+
+		Document filtro = captor.getValue().getQueryObject();
+		assertTrue(filtro.containsKey("$or"));
+		assertEquals("São Paulo", filtro.get("endereco.cidade"));
+		assertEquals(new Document("dataCadastro", -1).append("_id", -1), captor.getValue().getSortObject());
+	}
+
+	@Test
+	@DisplayName("Deve projetar a página incluindo a data de cadastro usada no cursor")
+	void deveProjetarPaginaIncluindoDataCadastroDoCursor() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.find(captor.capture(), eq(ClienteDocument.class))).thenReturn(Collections.emptyList());
+
+		adapter.findAll(new ConsultaPaginada(20, null, OrdenacaoCliente.DATA_CADASTRO_DESC,
+				ProjecaoCliente.of("clienteId")));
+
+		assertEquals(new Document("clienteId", 1).append("dataCadastro", 1), captor.getValue().getFieldsObject());
+	}
+
+	@Test
+	@DisplayName("Deve ler documentos completos na página sem projeção")
+	void deveLerDocumentosCompletosNaPaginaSemProjecao() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.find(captor.capture(), eq(ClienteDocument.class))).thenReturn(Collections.emptyList());
+
+		adapter.findAll(new ConsultaPaginada(20, null, OrdenacaoCliente.ID));
+
+		assertTrue(captor.getValue().getFieldsObject().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar cursor gerado para outra ordenação")
+	void deveRejeitarCursorGeradoParaOutraOrdenacao() {
+		Cliente ultimo = new Cliente();
+		ultimo.setId("665f1c2e8b3e4a1d2c3b4a5f");
+		String cursor = ClienteCursorMapper.toCursor(ultimo, OrdenacaoCliente.ID);
+		ConsultaPaginada consulta = new ConsultaPaginada(20, cursor, OrdenacaoCliente.DATA_CADASTRO_ASC);
+
+		assertThrows(InvalidClienteException.class, () -> adapter.findByTag("vip", consulta));
+	}
+
+	@Test
+	@DisplayName("Deve percorrer o cursor entregando cada cliente ao consumidor")
+	void devePercorrerCursorEntregandoCadaClienteAoConsumidor() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		List<Cliente> recebidos = new ArrayList<>();
+		exportProperties.setBatchSize(250);
+		when(mongoTemplate.stream(captor.capture(), eq(ClienteDocument.class)))
+				.thenReturn(Stream.of(clienteDocument, clienteDocument));
+
+		long total = adapter.streamByFiltro(new FiltroCliente(true, null, "SP", "vip"), recebidos::add);
+
+		assertEquals(2L, total);
+		assertEquals(2, recebidos.size());
+		Query query = captor.getValue();
+		assertEquals(250, query.getMeta().getCursorBatchSize());
+		assertEquals(new Document("ativo", true).append("endereco.estado", "SP").append("metadata.tags", "vip"),
+				query.getQueryObject());
+		assertFalse(query.hasReadConcern());
+	}
+
+	@Test
+	@DisplayName("Deve usar read concern snapshot quando configurado")
+	void deveUsarReadConcernSnapshotQuandoConfigurado() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		exportProperties.setSnapshotRead(true);
+		when(mongoTemplate.stream(captor.capture(), eq(ClienteDocument.class))).thenReturn(Stream.empty());
+
+		long total = adapter.streamByFiltro(FiltroCliente.todos(), cliente -> {
+		});
+
+		assertEquals(0L, total);
+		assertEquals(ReadConcern.SNAPSHOT, captor.getValue().getReadConcern());
+		assertTrue(captor.getValue().getQueryObject().isEmpty());
+	}
+
+	/**
+	 * Casa a Query pelo filtro, ignorando projeção e read preference
+	 */
+	private static ClienteBuscaDocument documentoBusca(String id, double pontuacao) {
+		ClienteBuscaDocument documento = new ClienteBuscaDocument();
+		documento.setId(id);
+		documento.setNomeCliente("João Silva");
+		documento.setPontuacao(pontuacao);
+		return documento;
+	}
+
+	private static Query consultaPor(Document filtro) {
+		return argThat(query -> filtro.equals(query.getQueryObject()));
+	}
+
+	private BulkOperations mockBulkOperations() {
+		BulkOperations bulk = mock(BulkOperations.class);
+		when(mongoTemplate.bulkOps(BulkMode.UNORDERED, ClienteDocument.class)).thenReturn(bulk);
+		when(bulk.insert(anyList())).thenReturn(bulk);
+		return bulk;
+	}
+
+	private static BulkOperationException bulkOperationException(BulkWriteError... erros) {
+		BulkOperationException exception = mock(BulkOperationException.class);
+		when(exception.getErrors()).thenReturn(List.of(erros));
+		return exception;
+	}
+
+	private static Cliente novoCliente(int numero) {
+		Cliente novo = new Cliente("Cliente " + numero, "cliente" + numero + "@email.com",
+				String.format("%011d", numero));
+		novo.generateClienteIdIfNeeded();
+		return novo;
 	}
 }
@@ -0,0 +1,231 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.infrastructure.config.ExportProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveClienteRepositoryAdapter Tests")
+class ReactiveClienteRepositoryAdapterTest {
+
+	@Mock
+	private ReactiveMongoTemplate mongoTemplate;
+
+	private ExportProperties exportProperties;
+
+	private ReactiveClienteRepositoryAdapter adapter;
+
+	private Cliente cliente;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		exportProperties = new ExportProperties();
+		adapter = new ReactiveClienteRepositoryAdapter(mongoTemplate, exportProperties, RoteamentoLeitura.primario());
+
+		cliente = new Cliente("João Silva", "joao@email.com", "12345678901");
+		cliente.setClienteId("cliente-uuid-123");
+		cliente.setAtivo(true);
+	}
+
+	@Test
+	@DisplayName("Deve inserir cliente e devolver o documento gravado")
+	void deveInserirClienteEDevolverDocumentoGravado() {
+		when(mongoTemplate.insert(any(ClienteDocument.class)))
+				.thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+		StepVerifier.create(adapter.insert(cliente))
+				.assertNext(inserido -> assertEquals("cliente-uuid-123", inserido.getClienteId()))
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve traduzir CPF duplicado na inserção para ClienteAlreadyExistsException")
+	void deveTraduzirCpfDuplicadoNaInsercao() {
+		when(mongoTemplate.insert(any(ClienteDocument.class))).thenReturn(Mono.error(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: cpfCliente dup key: { cpfCliente: \"12345678901\" }")));
+
+		StepVerifier.create(adapter.insert(cliente))
+				.expectErrorSatisfies(erro -> {
+					assertTrue(erro instanceof ClienteAlreadyExistsException);
+					assertTrue(erro.getMessage().contains("12345678901"));
+				})
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Deve propagar duplicidade em índice não mapeado")
+	void devePropagarDuplicidadeEmIndiceNaoMapeado() {
+		when(mongoTemplate.insert(any(ClienteDocument.class))).thenReturn(Mono.error(new DuplicateKeyException(
+				"E11000 duplicate key error collection: tc-customer.clientes index: _id_ dup key: { _id: 1 }")));
+
+		StepVerifier.create(adapter.insert(cliente))
+				.expectError(DuplicateKeyException.class)
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Deve buscar por clienteId trazendo só os campos da projeção")
+	void deveBuscarPorClienteIdTrazendoSoCamposDaProjecao() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.findOne(captor.capture(), eq(ClienteDocument.class))).thenReturn(Mono.empty());
+
+		StepVerifier.create(adapter.findByClienteId("cliente-uuid-123", ProjecaoCliente.of("id", "nomeCliente")))
+				.verifyComplete();
+
+		assertEquals(new Document("clienteId", "cliente-uuid-123"), captor.getValue().getQueryObject());
+		assertEquals(new Document("_id", 1).append("nomeCliente", 1), captor.getValue().getFieldsObject());
+	}
+
+	@Test
+	@DisplayName("Deve ler página com um documento a mais e montar o próximo cursor")
+	void deveLerPaginaComUmDocumentoAMaisEMontarProximoCursor() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.find(captor.capture(), eq(ClienteDocument.class)))
+				.thenReturn(Flux.just(documento("665f1c2e8b3e4a1d2c3b4a5e"), documento("665f1c2e8b3e4a1d2c3b4a5f"),
+						documento("665f1c2e8b3e4a1d2c3b4a60")));
+
+		StepVerifier.create(adapter.findAllAtivos(new ConsultaPaginada(2, null, OrdenacaoCliente.ID)))
+				.assertNext(pagina -> {
+					assertEquals(2, pagina.getItens().size());
+					assertTrue(pagina.temProxima());
+				})
+				.verifyComplete();
+
+		assertEquals(3, captor.getValue().getLimit());
+		assertEquals(true, captor.getValue().getQueryObject().get("ativo"));
+		assertEquals(new Document("_id", 1), captor.getValue().getSortObject());
+	}
+
+	@Test
+	@DisplayName("Deve encerrar a paginação quando não houver documento excedente")
+	void deveEncerrarPaginacaoQuandoNaoHouverDocumentoExcedente() {
+		when(mongoTemplate.find(any(Query.class), eq(ClienteDocument.class)))
+				.thenReturn(Flux.just(documento("665f1c2e8b3e4a1d2c3b4a5e")));
+
+		StepVerifier.create(adapter.findAll(new ConsultaPaginada(2, null, OrdenacaoCliente.ID)))
+				.assertNext(pagina -> {
+					assertEquals(1, pagina.getItens().size());
+					assertFalse(pagina.temProxima());
+					assertNull(pagina.getProximoCursor());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve percorrer o filtro em ordem de _id com o lote configurado")
+	void devePercorrerFiltroEmOrdemDeIdComLoteConfigurado() {
+		exportProperties.setBatchSize(250);
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.find(captor.capture(), eq(ClienteDocument.class)))
+				.thenReturn(Flux.just(documento("665f1c2e8b3e4a1d2c3b4a5e"), documento("665f1c2e8b3e4a1d2c3b4a5f")));
+
+		StepVerifier.create(adapter.streamByFiltro(new FiltroCliente(true, "São Paulo", null, null),
+				ProjecaoCliente.completa()))
+				.expectNextCount(2)
+				.verifyComplete();
+
+		assertEquals(new Document("ativo", true).append("endereco.cidade", "São Paulo"),
+				captor.getValue().getQueryObject());
+		assertEquals(new Document("_id", 1), captor.getValue().getSortObject());
+		assertEquals(250, captor.getValue().getMeta().getCursorBatchSize());
+	}
+
+	@Test
+	@DisplayName("Deve contar clientes ativos")
+	void deveContarClientesAtivos() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.count(captor.capture(), eq(ClienteDocument.class))).thenReturn(Mono.just(7L));
+
+		StepVerifier.create(adapter.countAtivos()).expectNext(7L).verifyComplete();
+
+		assertEquals(new Document("ativo", true), captor.getValue().getQueryObject());
+	}
+
+	@Test
+	@DisplayName("Deve informar se o documento foi removido")
+	void deveInformarSeDocumentoFoiRemovido() {
+		when(mongoTemplate.remove(any(Query.class), eq(ClienteDocument.class)))
+				.thenReturn(Mono.just(DeleteResult.acknowledged(1)), Mono.just(DeleteResult.acknowledged(0)));
+
+		StepVerifier.create(adapter.deleteByClienteId("cliente-uuid-123")).expectNext(true).verifyComplete();
+		StepVerifier.create(adapter.deleteByClienteId("inexistente")).expectNext(false).verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve desativar no servidor com updateOne e incremento de versão")
+	void deveDesativarNoServidorComUpdateOne() {
+		LocalDateTime agora = LocalDateTime.of(2025, 1, 10, 12, 0);
+		ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+		when(mongoTemplate.updateFirst(any(Query.class), captor.capture(), eq(ClienteDocument.class)))
+				.thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+		StepVerifier.create(adapter.desativarByClienteId("cliente-uuid-123", agora)).expectNext(true).verifyComplete();
+
+		Document alteracao = captor.getValue().getUpdateObject();
+		assertEquals(false, alteracao.get("$set", Document.class).get("ativo"));
+		assertEquals(agora, alteracao.get("$set", Document.class).get("metadata.dataDesativacao"));
+		assertEquals(1, alteracao.get("$inc", Document.class).get("versao"));
+	}
+
+	@Test
+	@DisplayName("Deve informar que o cliente não existe quando a reativação não encontra documento")
+	void deveInformarClienteInexistenteNaReativacao() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.updateFirst(captor.capture(), any(Update.class), eq(ClienteDocument.class)))
+				.thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)));
+
+		StepVerifier.create(adapter.reativarByClienteId("inexistente", LocalDateTime.now()))
+				.expectNext(false)
+				.verifyComplete();
+
+		assertEquals(new Document("clienteId", "inexistente"), captor.getValue().getQueryObject());
+		verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(ClienteDocument.class));
+	}
+
+	// Funções auxiliares
+
+	private ClienteDocument documento(String id) {
+		ClienteDocument documento = new ClienteDocument();
+		documento.setId(id);
+		documento.setClienteId("cliente-" + id);
+		documento.setNomeCliente("João Silva");
+		documento.setAtivo(true);
+		return documento;
+	}
+}
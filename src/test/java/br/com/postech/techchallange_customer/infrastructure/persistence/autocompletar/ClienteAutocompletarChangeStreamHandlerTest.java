@@ -0,0 +1,133 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar;
+
+import java.util.List;
+
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteAutocompletarChangeStreamHandler - Testes Unitários")
+class ClienteAutocompletarChangeStreamHandlerTest {
+
+	private static final ObjectId ID = new ObjectId("665f1c2e8b3e4a1d2c3b4a01");
+
+	@Mock
+	private ClienteAutocompletarIndice indice;
+
+	@Mock
+	private ChangeStreamDocument<Document> evento;
+
+	@InjectMocks
+	private ClienteAutocompletarChangeStreamHandler handler;
+
+	@Test
+	@DisplayName("Deve registrar cliente inserido por outro pod")
+	void deveRegistrarClienteInserido() {
+		Document documento = new Document("_id", ID).append("clienteId", "c-1").append("nomeCliente", "João");
+		when(evento.getOperationType()).thenReturn(OperationType.INSERT);
+		when(evento.getFullDocument()).thenReturn(documento);
+
+		handler.aoReceber(evento);
+
+		verify(indice).registrar(documento);
+	}
+
+	@Test
+	@DisplayName("Deve aplicar nome alterado sem reler o cliente")
+	void deveAplicarNomeAlterado() {
+		atualizacao(new BsonDocument("nomeCliente", new BsonString("João Campos")), null);
+
+		handler.aoReceber(evento);
+
+		verify(indice).atualizarPorId(ID.toHexString(), "João Campos", null);
+		verify(indice, never()).recarregarPorId(any());
+	}
+
+	@Test
+	@DisplayName("Deve remover cliente desativado")
+	void deveRemoverClienteDesativado() {
+		atualizacao(new BsonDocument("ativo", BsonBoolean.FALSE), null);
+
+		handler.aoReceber(evento);
+
+		verify(indice).removerPorId(ID.toHexString());
+	}
+
+	@Test
+	@DisplayName("Deve reler cliente reativado")
+	void deveRelerClienteReativado() {
+		atualizacao(new BsonDocument("ativo", BsonBoolean.TRUE), null);
+
+		handler.aoReceber(evento);
+
+		verify(indice).recarregarPorId(ID);
+	}
+
+	@Test
+	@DisplayName("Deve ignorar updates de outros campos")
+	void deveIgnorarUpdatesDeOutrosCampos() {
+		atualizacao(new BsonDocument("telefone", new BsonString("11999999999")), List.of("metadata"));
+
+		handler.aoReceber(evento);
+
+		verifyNoInteractions(indice);
+	}
+
+	@Test
+	@DisplayName("Deve remover cliente excluído")
+	void deveRemoverClienteExcluido() {
+		when(evento.getOperationType()).thenReturn(OperationType.DELETE);
+		when(evento.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(ID)));
+
+		handler.aoReceber(evento);
+
+		verify(indice).removerPorId(ID.toHexString());
+	}
+
+	@Test
+	@DisplayName("Deve reconstruir o índice quando eventos podem ter sido perdidos")
+	void deveReconstruirAoPerderEventos() {
+		handler.aoPerderEventos();
+
+		verify(indice).reconstruirEmSegundoPlano();
+	}
+
+	@Test
+	@DisplayName("Deve fazer a carga inicial quando change streams não são suportados")
+	void deveCarregarAoEncerrar() {
+		when(indice.isPronto()).thenReturn(false, true);
+
+		handler.aoEncerrar();
+		handler.aoEncerrar();
+
+		verify(indice).reconstruirEmSegundoPlano();
+	}
+
+	// Funções auxiliares
+
+	private void atualizacao(BsonDocument alterados, List<String> removidos) {
+		when(evento.getOperationType()).thenReturn(OperationType.UPDATE);
+		when(evento.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(ID)));
+		when(evento.getUpdateDescription()).thenReturn(new UpdateDescription(removidos, alterados));
+	}
+}
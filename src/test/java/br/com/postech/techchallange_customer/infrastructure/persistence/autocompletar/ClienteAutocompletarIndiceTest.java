@@ -0,0 +1,187 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.infrastructure.config.AutocompletarProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteAutocompletarIndice - Testes Unitários")
+class ClienteAutocompletarIndiceTest {
+
+	private static final ObjectId ID = new ObjectId("665f1c2e8b3e4a1d2c3b4a01");
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	private SimpleMeterRegistry registry;
+	private ClienteAutocompletarIndice indice;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		indice = new ClienteAutocompletarIndice(mongoTemplate, new AutocompletarProperties(), registry, false);
+	}
+
+	@Test
+	@DisplayName("Deve carregar os clientes ativos lendo apenas os campos indexados")
+	void deveCarregarClientesAtivos() {
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.stream(query.capture(), eq(Document.class), eq("clientes")))
+				.thenReturn(Stream.of(documento(ID, "c-1", "João Silva", "joao@email.com")));
+
+		assertFalse(indice.isPronto());
+		indice.reconstruir();
+
+		assertTrue(indice.isPronto());
+		assertEquals(new Document("ativo", true), query.getValue().getQueryObject());
+		assertEquals(new Document("clienteId", 1).append("nomeCliente", 1).append("emailCliente", 1),
+				query.getValue().getFieldsObject());
+		assertEquals(5_000, query.getValue().getMeta().getCursorBatchSize());
+		assertEquals(1.0, registry.get("clientes.autocompletar.entradas").gauge().value());
+
+		Cliente sugestao = indice.sugerir("joa", 10).get(0);
+		assertEquals(ID.toHexString(), sugestao.getId());
+		assertEquals("c-1", sugestao.getClienteId());
+		assertEquals("João Silva", sugestao.getNomeCliente());
+		assertEquals("joao@email.com", sugestao.getEmailCliente());
+	}
+
+	@Test
+	@DisplayName("Deve registrar cliente ativo e remover cliente inativo")
+	void deveRegistrarERemoverCliente() {
+		Cliente cliente = cliente("c-1", "Maria Souza", true);
+		indice.registrar(cliente);
+		assertEquals(1, indice.sugerir("souza", 10).size());
+
+		cliente.setAtivo(false);
+		indice.registrar(cliente);
+		assertTrue(indice.sugerir("souza", 10).isEmpty());
+
+		indice.registrar(cliente("c-2", "Maria Prado", true));
+		indice.remover("c-2");
+		assertTrue(indice.sugerir("prado", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve manter alterações feitas durante a reconstrução")
+	void deveManterAlteracoesDuranteReconstrucao() {
+		when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("clientes"))).thenAnswer(invocacao -> {
+			// cadastro confirmado enquanto a coleção é percorrida
+			indice.registrar(cliente("c-2", "Joana Prado", true));
+			return Stream.of(documento(ID, "c-1", "João Silva", "joao@email.com"));
+		});
+
+		indice.reconstruir();
+
+		assertEquals(2, indice.sugerir("jo", 10).size());
+	}
+
+	@Test
+	@DisplayName("Deve recarregar cliente reativado pelo clienteId")
+	void deveRecarregarClienteReativado() {
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.findOne(query.capture(), eq(Document.class), eq("clientes")))
+				.thenReturn(documento(ID, "c-1", "João Silva", "joao@email.com").append("ativo", true));
+
+		indice.recarregar("c-1");
+
+		assertEquals(new Document("clienteId", "c-1"), query.getValue().getQueryObject());
+		assertEquals(1, indice.sugerir("silva", 10).size());
+	}
+
+	@Test
+	@DisplayName("Deve remover cliente que não existe mais ao recarregar por _id")
+	void deveRemoverClienteInexistenteAoRecarregar() {
+		indice.registrar(documento(ID, "c-1", "João Silva", "joao@email.com"));
+
+		indice.recarregarPorId(ID);
+
+		verify(mongoTemplate).findOne(any(Query.class), eq(Document.class), eq("clientes"));
+		assertTrue(indice.sugerir("silva", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Não deve propagar falha do banco ao recarregar")
+	void naoDevePropagarFalhaAoRecarregar() {
+		when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("clientes")))
+				.thenThrow(new DataAccessResourceFailureException("indisponível"));
+
+		indice.recarregar("c-1");
+
+		assertTrue(indice.sugerir("silva", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve aplicar nome alterado e remover por _id")
+	void deveAtualizarERemoverPorId() {
+		indice.registrar(documento(ID, "c-1", "João Silva", "joao@email.com"));
+
+		indice.atualizarPorId(ID.toHexString(), "João Campos", null);
+		assertEquals("João Campos", indice.sugerir("campos", 10).get(0).getNomeCliente());
+
+		indice.removerPorId(ID.toHexString());
+		assertTrue(indice.sugerir("campos", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar documento inativo e cliente nulo")
+	void deveIgnorarDocumentoInativo() {
+		indice.registrar(documento(ID, "c-1", "João Silva", "joao@email.com").append("ativo", false));
+		indice.registrar((Cliente) null);
+
+		assertTrue(indice.sugerir("joao", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve carregar na inicialização apenas quando configurado")
+	void deveCarregarNaInicializacaoQuandoConfigurado() {
+		indice.start();
+
+		assertTrue(indice.isRunning());
+		assertFalse(indice.isPronto());
+		indice.stop();
+		assertFalse(indice.isRunning());
+	}
+
+	// Funções auxiliares
+
+	private static Document documento(ObjectId id, String clienteId, String nome, String email) {
+		return new Document("_id", id)
+				.append("clienteId", clienteId)
+				.append("nomeCliente", nome)
+				.append("emailCliente", email);
+	}
+
+	private static Cliente cliente(String clienteId, String nome, boolean ativo) {
+		Cliente cliente = new Cliente();
+		cliente.setClienteId(clienteId);
+		cliente.setNomeCliente(nome);
+		cliente.setEmailCliente(clienteId + "@email.com");
+		cliente.setAtivo(ativo);
+		return cliente;
+	}
+}
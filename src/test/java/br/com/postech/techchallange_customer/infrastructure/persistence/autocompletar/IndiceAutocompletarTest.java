@@ -0,0 +1,150 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.autocompletar.IndiceAutocompletar.Entrada;
+
+@DisplayName("IndiceAutocompletar - Testes Unitários")
+class IndiceAutocompletarTest {
+
+	private IndiceAutocompletar indice;
+
+	@BeforeEach
+	void setUp() {
+		indice = new IndiceAutocompletar();
+		indice.adicionar("id-1", "c-1", "João da Silva", "joao.silva@email.com");
+		indice.adicionar("id-2", "c-2", "Maria Souza", "maria@email.com");
+		indice.adicionar("id-3", "c-3", "Joana Prado", "joana@email.com");
+		indice.adicionar("id-4", "c-4", "Márcio Silveira", "marcio@email.com");
+	}
+
+	@Test
+	@DisplayName("Deve sugerir por prefixo de qualquer palavra do nome, sem acentos")
+	void deveSugerirPorPrefixoSemAcentos() {
+		assertEquals(List.of("c-1", "c-4"), ids(buscar("silv")));
+		assertEquals(List.of("c-4", "c-2"), ids(buscar("MAR")));
+		assertEquals(List.of("c-2"), ids(buscar("souza")));
+	}
+
+	@Test
+	@DisplayName("Deve sugerir completamentos mais curtos primeiro")
+	void deveSugerirCompletamentosMaisCurtosPrimeiro() {
+		indice.adicionar("id-5", "c-5", "Jo Lima", "jo@email.com");
+
+		assertEquals(List.of("c-5", "c-3", "c-1"), ids(buscar("jo")));
+	}
+
+	@Test
+	@DisplayName("Deve sugerir pelo início do e-mail")
+	void deveSugerirPeloEmail() {
+		assertEquals(List.of("c-1"), ids(buscar("joao.si")));
+		assertEquals(List.of("c-2"), ids(buscar("maria@em")));
+	}
+
+	@Test
+	@DisplayName("Deve exigir que todas as palavras digitadas casem com o cliente")
+	void deveExigirTodasAsPalavras() {
+		assertEquals(List.of("c-1"), ids(buscar("jo silv")));
+		assertEquals(List.of("c-3"), ids(buscar("prado jo")));
+		assertTrue(buscar("joana souza").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve tolerar um erro de digitação em termos longos, depois dos exatos")
+	void deveTolerarUmErroDeDigitacao() {
+		// troca, omissão e transposição de letras
+		assertEquals(List.of("c-2"), ids(buscar("souxa")));
+		assertEquals(List.of("c-2"), ids(buscar("suza")));
+		assertEquals(List.of("c-3"), ids(buscar("prdao")));
+		// "silve" casa exato com Silveira e com uma edição com Silva
+		assertEquals(List.of("c-4", "c-1"), ids(buscar("silve")));
+		// dois erros não são tolerados
+		assertTrue(buscar("sxuxa").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Não deve tolerar erros em termos curtos nem quando desligado")
+	void naoDeveTolerarErrosEmTermosCurtos() {
+		assertTrue(indice.buscar("jpa", 10, 1, 4).isEmpty());
+		assertTrue(indice.buscar("souxa", 10, 0, 4).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve respeitar o limite de sugestões")
+	void deveRespeitarLimite() {
+		assertEquals(1, indice.buscar("jo", 1, 1, 4).size());
+		assertTrue(indice.buscar("jo", 0, 1, 4).isEmpty());
+		assertTrue(indice.buscar("   ", 10, 1, 4).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve substituir a entrada ao registrar o mesmo cliente")
+	void deveSubstituirEntrada() {
+		indice.adicionar("id-2", "c-2", "Maria Oliveira", "maria@email.com");
+
+		assertTrue(buscar("souza").isEmpty());
+		assertEquals(List.of("c-2"), ids(buscar("olive")));
+		assertEquals(4, indice.getQuantidadeEntradas());
+	}
+
+	@Test
+	@DisplayName("Deve atualizar nome pelo _id mantendo o e-mail")
+	void deveAtualizarNomePorId() {
+		assertTrue(indice.atualizarPorId("id-3", "Joana Campos", null));
+		assertFalse(indice.atualizarPorId("id-inexistente", "Outro", null));
+
+		Entrada entrada = buscar("campos").get(0);
+		assertEquals("c-3", entrada.getClienteId());
+		assertEquals("joana@email.com", entrada.getEmail());
+		assertTrue(buscar("prado").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve remover por clienteId e por _id podando os nós vazios")
+	void deveRemoverPodandoNos() {
+		IndiceAutocompletar vazio = new IndiceAutocompletar();
+		vazio.adicionar("id-1", "c-1", "Ana", "ana@email.com");
+		assertTrue(vazio.getQuantidadeNos() > 1);
+
+		assertTrue(vazio.remover("c-1"));
+		assertFalse(vazio.remover("c-1"));
+		assertEquals(0, vazio.getQuantidadeEntradas());
+		assertEquals(1, vazio.getQuantidadeNos());
+
+		assertTrue(indice.removerPorId("id-1"));
+		assertEquals(List.of("c-4"), ids(buscar("silv")));
+	}
+
+	@Test
+	@DisplayName("Deve normalizar acentos, caixa e espaços")
+	void deveNormalizar() {
+		assertEquals("joao conceicao", IndiceAutocompletar.normalizar("  JOÃO Conceição "));
+		assertEquals("", IndiceAutocompletar.normalizar(null));
+	}
+
+	@Test
+	@DisplayName("Deve calcular a distância do termo digitado ao melhor início do termo do cliente")
+	void deveCalcularDistanciaDePrefixo() {
+		assertEquals(0, IndiceAutocompletar.distanciaPrefixo("silveira", "silv", 1));
+		assertEquals(1, IndiceAutocompletar.distanciaPrefixo("silveira", "slv", 1));
+		assertEquals(1, IndiceAutocompletar.distanciaPrefixo("prado", "prdao", 1));
+		assertEquals(2, IndiceAutocompletar.distanciaPrefixo("prado", "xxxx", 1));
+	}
+
+	// Funções auxiliares
+
+	private List<Entrada> buscar(String texto) {
+		return indice.buscar(texto, 10, 1, 4);
+	}
+
+	private static List<String> ids(List<Entrada> entradas) {
+		return entradas.stream().map(Entrada::getClienteId).toList();
+	}
+}
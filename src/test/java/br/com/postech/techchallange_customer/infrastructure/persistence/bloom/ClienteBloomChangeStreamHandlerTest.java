@@ -0,0 +1,84 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteBloomChangeStreamHandler - Testes Unitários")
+class ClienteBloomChangeStreamHandlerTest {
+
+	@Mock
+	private ClienteExistenciaFiltro filtro;
+
+	@Mock
+	private ChangeStreamDocument<Document> evento;
+
+	@InjectMocks
+	private ClienteBloomChangeStreamHandler handler;
+
+	@Test
+	@DisplayName("Deve registrar CPF e e-mail de cliente inserido por outro pod")
+	void deveRegistrarClienteInserido() {
+		when(evento.getOperationType()).thenReturn(OperationType.INSERT);
+		when(evento.getFullDocument()).thenReturn(new Document("cpfCliente", "12345678901")
+				.append("emailCliente", "joao@email.com"));
+
+		handler.aoReceber(evento);
+
+		verify(filtro).registrar("12345678901", "joao@email.com");
+	}
+
+	@Test
+	@DisplayName("Deve registrar e-mail alterado por outro pod")
+	void deveRegistrarEmailAlterado() {
+		when(evento.getOperationType()).thenReturn(OperationType.UPDATE);
+		when(evento.getUpdateDescription()).thenReturn(
+				new UpdateDescription(null, new BsonDocument("emailCliente", new BsonString("novo@email.com"))));
+
+		handler.aoReceber(evento);
+
+		verify(filtro).registrar(null, "novo@email.com");
+	}
+
+	@Test
+	@DisplayName("Deve ignorar remoções")
+	void deveIgnorarRemocoes() {
+		when(evento.getOperationType()).thenReturn(OperationType.DELETE);
+
+		handler.aoReceber(evento);
+
+		verify(filtro, never()).registrar(any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve reconstruir o filtro quando eventos podem ter sido perdidos")
+	void deveReconstruirAoPerderEventos() {
+		handler.aoPerderEventos();
+
+		verify(filtro).reconstruirEmSegundoPlano();
+	}
+
+	@Test
+	@DisplayName("Deve desativar o filtro quando change streams não são suportados")
+	void deveDesativarAoEncerrar() {
+		handler.aoEncerrar();
+
+		verify(filtro).desativar();
+	}
+}
@@ -0,0 +1,174 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteExistenciaFiltro.Campo;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteBloomRepositoryAdapter - Testes Unitários")
+class ClienteBloomRepositoryAdapterTest {
+
+	@Mock
+	private ClienteRepositoryPort delegate;
+
+	@Mock
+	private ClienteExistenciaFiltro filtro;
+
+	@InjectMocks
+	private ClienteBloomRepositoryAdapter adapter;
+
+	@Test
+	@DisplayName("Deve responder CPF inexistente sem consultar o banco")
+	void deveResponderCpfInexistenteSemConsultarBanco() {
+		when(filtro.podeExistir(Campo.CPF, "00000000000")).thenReturn(false);
+
+		assertFalse(adapter.existsByCpf("00000000000"));
+		assertFalse(adapter.findByCpf("00000000000").isPresent());
+		verify(delegate, never()).existsByCpf(any());
+		verify(delegate, never()).findByCpf(any());
+	}
+
+	@Test
+	@DisplayName("Deve responder e-mail inexistente sem consultar o banco")
+	void deveResponderEmailInexistenteSemConsultarBanco() {
+		when(filtro.podeExistir(Campo.EMAIL, "ninguem@email.com")).thenReturn(false);
+
+		assertFalse(adapter.existsByEmail("ninguem@email.com"));
+		assertFalse(adapter.findByEmail("ninguem@email.com").isPresent());
+		verify(delegate, never()).existsByEmail(any());
+		verify(delegate, never()).findByEmail(any());
+	}
+
+	@Test
+	@DisplayName("Deve responder buscas projetadas inexistentes sem consultar o banco")
+	void deveResponderBuscasProjetadasInexistentesSemConsultarBanco() {
+		ProjecaoCliente projecao = ProjecaoCliente.of("clienteId");
+		when(filtro.podeExistir(Campo.CPF, "00000000000")).thenReturn(false);
+		when(filtro.podeExistir(Campo.EMAIL, "joao@email.com")).thenReturn(true);
+		when(delegate.findByEmail("joao@email.com", projecao)).thenReturn(Optional.empty());
+
+		assertFalse(adapter.findByCpf("00000000000", projecao).isPresent());
+		assertFalse(adapter.findByEmail("joao@email.com", projecao).isPresent());
+		verify(delegate, never()).findByCpf(any(), any());
+		verify(filtro).registrarFalsoPositivo(Campo.EMAIL);
+	}
+
+	@Test
+	@DisplayName("Deve confirmar no banco quando o filtro indica possível existência")
+	void deveConfirmarNoBancoQuandoPossivel() {
+		when(filtro.podeExistir(Campo.CPF, "12345678901")).thenReturn(true);
+		when(delegate.existsByCpf("12345678901")).thenReturn(true);
+
+		assertTrue(adapter.existsByCpf("12345678901"));
+		verify(filtro, never()).registrarFalsoPositivo(any());
+	}
+
+	@Test
+	@DisplayName("Deve registrar falso positivo quando o banco não confirma")
+	void deveRegistrarFalsoPositivo() {
+		when(filtro.podeExistir(Campo.EMAIL, "joao@email.com")).thenReturn(true);
+		when(delegate.findByEmail("joao@email.com")).thenReturn(Optional.empty());
+
+		assertFalse(adapter.findByEmail("joao@email.com").isPresent());
+		verify(filtro).registrarFalsoPositivo(Campo.EMAIL);
+	}
+
+	@Test
+	@DisplayName("Deve registrar as chaves do cliente gravado")
+	void deveRegistrarChavesDoClienteGravado() {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678901");
+		when(delegate.save(cliente)).thenReturn(cliente);
+
+		adapter.save(cliente);
+
+		verify(filtro).registrar("12345678901", "joao@email.com");
+	}
+
+	@Test
+	@DisplayName("Deve registrar as chaves do cliente inserido")
+	void deveRegistrarChavesDoClienteInserido() {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678901");
+		when(delegate.insert(cliente)).thenReturn(cliente);
+
+		adapter.insert(cliente);
+
+		verify(filtro).registrar("12345678901", "joao@email.com");
+	}
+
+	@Test
+	@DisplayName("Deve registrar as chaves do cliente alterado parcialmente")
+	void deveRegistrarChavesDoClienteAlteradoParcialmente() {
+		Cliente cliente = new Cliente("João Silva", "joao.novo@email.com", "12345678901");
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("emailCliente", "joao.novo@email.com");
+		LocalDateTime agora = LocalDateTime.now();
+		when(delegate.updateCampos("cliente-uuid-123", 1, alteracao, agora)).thenReturn(Optional.of(cliente));
+
+		adapter.updateCampos("cliente-uuid-123", 1, alteracao, agora);
+
+		verify(filtro).registrar("12345678901", "joao.novo@email.com");
+	}
+
+	@Test
+	@DisplayName("Deve registrar apenas as chaves dos clientes criados no lote")
+	void deveRegistrarApenasChavesDosClientesCriadosNoLote() {
+		Cliente criado = new Cliente("João Silva", "joao@email.com", "12345678901");
+		Cliente duplicado = new Cliente("Maria Souza", "maria@email.com", "10987654321");
+		List<Cliente> clientes = List.of(criado, duplicado);
+		when(delegate.insertAll(clientes)).thenReturn(List.of(ResultadoItemLote.criado(criado),
+				ResultadoItemLote.rejeitado(StatusItemLote.CPF_DUPLICADO, duplicado, "CPF duplicado")));
+
+		adapter.insertAll(clientes);
+
+		verify(filtro).registrar("12345678901", "joao@email.com");
+		verify(filtro, never()).registrar("10987654321", "maria@email.com");
+	}
+
+	@Test
+	@DisplayName("Deve delegar a alteração em massa sem tocar no filtro")
+	void deveDelegarAlteracaoEmMassaSemTocarNoFiltro() {
+		FiltroCliente filtroCliente = new FiltroCliente(null, "São Paulo", null, null);
+		AlteracaoEmMassa alteracao = AlteracaoEmMassa.desativar();
+		when(delegate.countParaAlteracao(filtroCliente, alteracao)).thenReturn(7L);
+
+		adapter.countParaAlteracao(filtroCliente, alteracao);
+		adapter.updateByFiltro(filtroCliente, alteracao, null);
+
+		verify(delegate).countParaAlteracao(filtroCliente, alteracao);
+		verify(delegate).updateByFiltro(filtroCliente, alteracao, null);
+		verify(filtro, never()).registrar(any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve registrar as chaves do cliente atualizado")
+	void deveRegistrarChavesDoClienteAtualizado() {
+		Cliente cliente = new Cliente("João Silva", "novo@email.com", "12345678901");
+		when(delegate.update(cliente)).thenReturn(cliente);
+
+		adapter.update(cliente);
+
+		verify(filtro).registrar("12345678901", "novo@email.com");
+	}
+}
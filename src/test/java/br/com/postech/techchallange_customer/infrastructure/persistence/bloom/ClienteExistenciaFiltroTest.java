@@ -0,0 +1,141 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import br.com.postech.techchallange_customer.infrastructure.config.BloomProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.bloom.ClienteExistenciaFiltro.Campo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteExistenciaFiltro - Testes Unitários")
+class ClienteExistenciaFiltroTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	private SimpleMeterRegistry registry;
+	private ClienteExistenciaFiltro filtro;
+
+	@BeforeEach
+	void setUp() {
+		BloomProperties properties = new BloomProperties();
+		properties.setExpectedInsertions(1_000);
+		registry = new SimpleMeterRegistry();
+		filtro = new ClienteExistenciaFiltro(mongoTemplate, properties, registry);
+	}
+
+	private void carregar() {
+		when(mongoTemplate.estimatedCount("clientes")).thenReturn(1L);
+		when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("clientes")))
+				.thenReturn(Stream.of(new Document("cpfCliente", "12345678901")),
+						Stream.of(new Document("emailCliente", "joao@email.com")));
+		filtro.reconstruir();
+	}
+
+	@Test
+	@DisplayName("Deve tratar toda chave como possível antes da carga")
+	void deveTratarChavesComoPossiveisAntesDaCarga() {
+		assertFalse(filtro.isPronto());
+		assertTrue(filtro.podeExistir(Campo.CPF, "00000000000"));
+		assertTrue(filtro.podeExistir(Campo.EMAIL, "ninguem@email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve responder negativo definitivo após a carga dos índices")
+	void deveResponderNegativoAposCarga() {
+		carregar();
+
+		assertTrue(filtro.isPronto());
+		assertTrue(filtro.podeExistir(Campo.CPF, "12345678901"));
+		assertTrue(filtro.podeExistir(Campo.EMAIL, "joao@email.com"));
+		assertFalse(filtro.podeExistir(Campo.CPF, "00000000000"));
+		assertFalse(filtro.podeExistir(Campo.EMAIL, "ninguem@email.com"));
+		assertEquals(1.0, registry.counter("clientes.bloom.consultas", "campo", "cpf", "resultado", "negativo").count());
+	}
+
+	@Test
+	@DisplayName("Deve ler os índices de CPF e e-mail com projeção coberta")
+	void deveLerIndicesComProjecaoCoberta() {
+		carregar();
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate, times(2)).stream(captor.capture(), eq(Document.class), eq("clientes"));
+		List<Query> queries = captor.getAllValues();
+		assertEquals(new Document("cpfCliente", 1).toJson(), queries.get(0).getHint());
+		assertEquals(new Document("cpfCliente", 1).append("_id", 0), queries.get(0).getFieldsObject());
+		assertEquals(new Document("emailCliente", 1).toJson(), queries.get(1).getHint());
+	}
+
+	@Test
+	@DisplayName("Deve incluir chaves registradas após a carga")
+	void deveIncluirChavesRegistradas() {
+		carregar();
+
+		filtro.registrar("98765432100", "maria@email.com");
+
+		assertTrue(filtro.podeExistir(Campo.CPF, "98765432100"));
+		assertTrue(filtro.podeExistir(Campo.EMAIL, "maria@email.com"));
+	}
+
+	@Test
+	@DisplayName("Deve calcular a taxa de falso positivo observada")
+	@SuppressWarnings("unchecked")
+	void deveCalcularTaxaObservada() {
+		carregar();
+		filtro.podeExistir(Campo.CPF, "00000000000");
+		filtro.registrarFalsoPositivo(Campo.CPF);
+
+		Map<String, Object> estatisticas = filtro.getEstatisticas();
+		Map<String, Object> cpf = (Map<String, Object>) estatisticas.get("cpf");
+
+		assertEquals(true, estatisticas.get("pronto"));
+		assertEquals(1L, cpf.get("negativos"));
+		assertEquals(1L, cpf.get("falsosPositivos"));
+		assertEquals(0.5, cpf.get("taxaFalsoPositivoObservada"));
+	}
+
+	@Test
+	@DisplayName("Deve deixar de responder negativos após ser desativado")
+	void deveIgnorarFiltroDesativado() {
+		carregar();
+
+		filtro.desativar();
+		filtro.reconstruir();
+
+		assertFalse(filtro.isPronto());
+		assertTrue(filtro.podeExistir(Campo.CPF, "00000000000"));
+		verify(mongoTemplate, times(1)).estimatedCount("clientes");
+	}
+
+	@Test
+	@DisplayName("Não deve contar falso positivo antes da carga")
+	void naoDeveContarFalsoPositivoAntesDaCarga() {
+		filtro.registrarFalsoPositivo(Campo.EMAIL);
+
+		assertEquals(0.0, registry.counter("clientes.bloom.consultas", "campo", "email", "resultado", "falso_positivo").count());
+		verify(mongoTemplate, never()).estimatedCount(any(String.class));
+	}
+}
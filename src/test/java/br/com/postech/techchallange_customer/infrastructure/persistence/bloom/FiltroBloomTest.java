@@ -0,0 +1,75 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.bloom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FiltroBloom - Testes Unitários")
+class FiltroBloomTest {
+
+	@Test
+	@DisplayName("Deve conter todas as chaves adicionadas")
+	void deveConterChavesAdicionadas() {
+		FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+
+		for (int i = 0; i < 10_000; i++) {
+			filtro.adicionar(String.format("%011d", i));
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filtro.podeConter(String.format("%011d", i)));
+		}
+	}
+
+	@Test
+	@DisplayName("Deve respeitar a taxa de falso positivo dimensionada")
+	void deveRespeitarTaxaDeFalsoPositivo() {
+		FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filtro.adicionar("cliente" + i + "@email.com");
+		}
+
+		int falsosPositivos = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filtro.podeConter("outro" + i + "@email.com")) {
+				falsosPositivos++;
+			}
+		}
+
+		assertTrue(falsosPositivos < 2_000, "falsos positivos: " + falsosPositivos);
+		assertTrue(filtro.getTaxaFalsoPositivoEstimada() < 0.02);
+	}
+
+	@Test
+	@DisplayName("Deve responder negativo para filtro vazio e chave nula")
+	void deveResponderNegativoParaFiltroVazio() {
+		FiltroBloom filtro = new FiltroBloom(100, 0.01);
+		filtro.adicionar(null);
+
+		assertFalse(filtro.podeConter("12345678901"));
+		assertFalse(filtro.podeConter(null));
+		assertEquals(0, filtro.getQuantidadeElementos());
+	}
+
+	@Test
+	@DisplayName("Não deve contar chave repetida")
+	void naoDeveContarChaveRepetida() {
+		FiltroBloom filtro = new FiltroBloom(100, 0.01);
+
+		filtro.adicionar("12345678901");
+		filtro.adicionar("12345678901");
+
+		assertEquals(1, filtro.getQuantidadeElementos());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar parâmetros de dimensionamento inválidos")
+	void deveRejeitarParametrosInvalidos() {
+		assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+		assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(100, 0));
+		assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(100, 1));
+	}
+}
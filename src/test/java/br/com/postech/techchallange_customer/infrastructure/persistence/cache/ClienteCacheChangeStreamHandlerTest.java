@@ -0,0 +1,93 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.cache;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteCacheChangeStreamHandler - Testes Unitários")
+class ClienteCacheChangeStreamHandlerTest {
+
+	@Mock
+	private ClienteCacheRepositoryAdapter cache;
+
+	@Mock
+	private ChangeStreamDocument<Document> evento;
+
+	@InjectMocks
+	private ClienteCacheChangeStreamHandler handler;
+
+	@Test
+	@DisplayName("Deve invalidar o cliente alterado por outro pod")
+	void deveInvalidarClienteAlterado() {
+		ObjectId id = new ObjectId();
+		when(evento.getOperationType()).thenReturn(OperationType.UPDATE);
+		when(evento.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(id)));
+
+		handler.aoReceber(evento);
+
+		verify(cache).invalidarPorId(id.toHexString());
+		verify(cache, never()).invalidarTudo();
+	}
+
+	@Test
+	@DisplayName("Deve invalidar o cliente removido")
+	void deveInvalidarClienteRemovido() {
+		ObjectId id = new ObjectId();
+		when(evento.getOperationType()).thenReturn(OperationType.DELETE);
+		when(evento.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(id)));
+
+		handler.aoReceber(evento);
+
+		verify(cache).invalidarPorId(id.toHexString());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar inserções")
+	void deveIgnorarInsercoes() {
+		when(evento.getOperationType()).thenReturn(OperationType.INSERT);
+
+		handler.aoReceber(evento);
+
+		verify(cache, never()).invalidarPorId(any());
+	}
+
+	@Test
+	@DisplayName("Deve esvaziar o cache quando eventos podem ter sido perdidos")
+	void deveEsvaziarCacheAoPerderEventos() {
+		handler.aoPerderEventos();
+
+		verify(cache).invalidarTudo();
+	}
+
+	@Test
+	@DisplayName("Deve esvaziar o cache quando o stream é interrompido")
+	void deveEsvaziarCacheAoInterromper() {
+		handler.aoInterromper();
+
+		verify(cache).invalidarTudo();
+	}
+
+	@Test
+	@DisplayName("Deve desativar o cache quando change streams não são suportados")
+	void deveDesativarCacheAoEncerrar() {
+		handler.aoEncerrar();
+
+		verify(cache).desativar();
+	}
+}
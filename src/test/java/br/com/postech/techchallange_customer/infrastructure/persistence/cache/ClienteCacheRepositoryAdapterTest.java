@@ -0,0 +1,315 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.port.out.ClienteRepositoryPort;
+import br.com.postech.techchallange_customer.infrastructure.config.CacheProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteCacheRepositoryAdapter - Testes Unitários")
+class ClienteCacheRepositoryAdapterTest {
+
+	@Mock
+	private ClienteRepositoryPort delegate;
+
+	private ClienteCacheRepositoryAdapter adapter;
+	private Cliente cliente;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new ClienteCacheRepositoryAdapter(delegate, new CacheProperties());
+
+		cliente = new Cliente("João Silva", "joao@email.com", "12345678901");
+		cliente.setId("65a1b2c3d4e5f6a7b8c9d0e1");
+		cliente.setClienteId("cliente-uuid-123");
+		cliente.setAtivo(true);
+		cliente.setEndereco(new Endereco("Rua das Flores", "123", "São Paulo", "SP", "01234567"));
+		Metadata metadata = new Metadata("Web", "Site");
+		metadata.adicionarTag("VIP");
+		cliente.setMetadata(metadata);
+	}
+
+	@Test
+	@DisplayName("Deve consultar o banco apenas na primeira busca por clienteId")
+	void deveConsultarBancoApenasNaPrimeiraBuscaPorClienteId() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+
+		Optional<Cliente> primeira = adapter.findByClienteId("cliente-uuid-123");
+		Optional<Cliente> segunda = adapter.findByClienteId("cliente-uuid-123");
+
+		assertTrue(primeira.isPresent());
+		assertTrue(segunda.isPresent());
+		assertEquals("João Silva", segunda.get().getNomeCliente());
+		verify(delegate, times(1)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Deve reaproveitar a entrada do cache nas buscas por CPF, e-mail e id")
+	void deveReaproveitarEntradaNasBuscasPorIndicesSecundarios() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		adapter.findByClienteId("cliente-uuid-123");
+
+		assertTrue(adapter.findByCpf("12345678901").isPresent());
+		assertTrue(adapter.findByEmail("joao@email.com").isPresent());
+		assertTrue(adapter.findById("65a1b2c3d4e5f6a7b8c9d0e1").isPresent());
+		verify(delegate, never()).findByCpf(any());
+		verify(delegate, never()).findByEmail(any());
+		verify(delegate, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("Deve retornar cópia independente da entrada armazenada")
+	void deveRetornarCopiaIndependente() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+
+		Cliente primeira = adapter.findByClienteId("cliente-uuid-123").orElseThrow();
+		primeira.setNomeCliente("Alterado");
+		primeira.getEndereco().setCidade("Campinas");
+		primeira.adicionarTag("NOVA");
+
+		Cliente segunda = adapter.findByClienteId("cliente-uuid-123").orElseThrow();
+		assertNotSame(primeira, segunda);
+		assertEquals("João Silva", segunda.getNomeCliente());
+		assertEquals("São Paulo", segunda.getEndereco().getCidade());
+		assertEquals(List.of("VIP"), segunda.getMetadata().getTags());
+	}
+
+	@Test
+	@DisplayName("Deve responder busca projetada com a entrada do cache")
+	void deveResponderBuscaProjetadaComEntradaDoCache() {
+		ProjecaoCliente projecao = ProjecaoCliente.of("clienteId", "nomeCliente");
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		adapter.findByClienteId("cliente-uuid-123");
+
+		assertTrue(adapter.findByClienteId("cliente-uuid-123", projecao).isPresent());
+		assertTrue(adapter.findByCpf("12345678901", projecao).isPresent());
+		assertTrue(adapter.findByEmail("joao@email.com", projecao).isPresent());
+		verify(delegate, never()).findByClienteId(any(), any());
+		verify(delegate, never()).findByCpf(any(), any());
+		verify(delegate, never()).findByEmail(any(), any());
+	}
+
+	@Test
+	@DisplayName("Não deve armazenar o resultado parcial de uma busca projetada")
+	void naoDeveArmazenarResultadoParcial() {
+		ProjecaoCliente projecao = ProjecaoCliente.of("nomeCliente");
+		Cliente parcial = new Cliente();
+		parcial.setNomeCliente("João Silva");
+		when(delegate.findByCpf("12345678901", projecao)).thenReturn(Optional.of(parcial));
+		when(delegate.findByCpf("12345678901")).thenReturn(Optional.of(cliente));
+
+		assertEquals("João Silva", adapter.findByCpf("12345678901", projecao).orElseThrow().getNomeCliente());
+		assertEquals("cliente-uuid-123", adapter.findByCpf("12345678901").orElseThrow().getClienteId());
+		verify(delegate).findByCpf("12345678901");
+	}
+
+	@Test
+	@DisplayName("Deve usar a busca em cache quando a projeção é completa")
+	void deveUsarBuscaEmCacheQuandoProjecaoCompleta() {
+		when(delegate.findByEmail("joao@email.com")).thenReturn(Optional.of(cliente));
+
+		adapter.findByEmail("joao@email.com", ProjecaoCliente.completa());
+		adapter.findByEmail("joao@email.com", ProjecaoCliente.completa());
+
+		verify(delegate, times(1)).findByEmail("joao@email.com");
+		verify(delegate, never()).findByEmail(any(), any());
+	}
+
+	@Test
+	@DisplayName("Não deve armazenar resultado vazio")
+	void naoDeveArmazenarResultadoVazio() {
+		when(delegate.findByCpf("00000000000")).thenReturn(Optional.empty());
+
+		assertFalse(adapter.findByCpf("00000000000").isPresent());
+		assertFalse(adapter.findByCpf("00000000000").isPresent());
+		verify(delegate, times(2)).findByCpf("00000000000");
+	}
+
+	@Test
+	@DisplayName("Deve delegar a inserção")
+	void deveDelegarInsercao() {
+		when(delegate.insert(cliente)).thenReturn(cliente);
+
+		assertEquals(cliente, adapter.insert(cliente));
+		verify(delegate).insert(cliente);
+	}
+
+	@Test
+	@DisplayName("Deve delegar a inserção em lote")
+	void deveDelegarInsercaoEmLote() {
+		List<ResultadoItemLote> resultados = List.of(ResultadoItemLote.criado(cliente));
+		when(delegate.insertAll(List.of(cliente))).thenReturn(resultados);
+
+		assertEquals(resultados, adapter.insertAll(List.of(cliente)));
+		verify(delegate).insertAll(List.of(cliente));
+	}
+
+	@Test
+	@DisplayName("Deve esvaziar o cache após alteração em massa que alterou clientes")
+	void deveEsvaziarCacheAposAlteracaoEmMassa() {
+		FiltroCliente filtro = new FiltroCliente(true, null, null, null);
+		AlteracaoEmMassa alteracao = AlteracaoEmMassa.adicionarTag("vip");
+		LocalDateTime agora = LocalDateTime.now();
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(delegate.updateByFiltro(filtro, alteracao, agora)).thenReturn(new ResultadoAlteracaoEmMassa(5, 5, false));
+		adapter.findByClienteId("cliente-uuid-123");
+
+		adapter.updateByFiltro(filtro, alteracao, agora);
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(2)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Deve manter o cache quando a alteração em massa não alterou clientes")
+	void deveManterCacheQuandoAlteracaoEmMassaNaoAlterou() {
+		FiltroCliente filtro = new FiltroCliente(true, null, null, null);
+		AlteracaoEmMassa alteracao = AlteracaoEmMassa.adicionarTag("vip");
+		LocalDateTime agora = LocalDateTime.now();
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(delegate.updateByFiltro(filtro, alteracao, agora)).thenReturn(new ResultadoAlteracaoEmMassa(0, 0, false));
+		adapter.findByClienteId("cliente-uuid-123");
+
+		adapter.updateByFiltro(filtro, alteracao, agora);
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(1)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Deve invalidar a entrada ao atualizar")
+	void deveInvalidarAoAtualizar() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(delegate.update(cliente)).thenReturn(cliente);
+		adapter.findByClienteId("cliente-uuid-123");
+
+		adapter.update(cliente);
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(2)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Deve invalidar ao alterar campos, mesmo quando a versão não confere")
+	void deveInvalidarAoAlterarCampos() {
+		AlteracaoCliente alteracao = new AlteracaoCliente().definir("telefone", null);
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(delegate.updateCampos(eq("cliente-uuid-123"), eq(1), eq(alteracao), any(LocalDateTime.class)))
+				.thenReturn(Optional.empty());
+		adapter.findByClienteId("cliente-uuid-123");
+
+		adapter.updateCampos("cliente-uuid-123", 1, alteracao, LocalDateTime.now());
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(2)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Deve remover índices secundários ao deletar")
+	void deveRemoverIndicesSecundariosAoDeletar() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(delegate.findByCpf("12345678901")).thenReturn(Optional.empty());
+		adapter.findByClienteId("cliente-uuid-123");
+
+		adapter.deleteByClienteId("cliente-uuid-123");
+
+		assertFalse(adapter.findByCpf("12345678901").isPresent());
+		verify(delegate).deleteByClienteId("cliente-uuid-123");
+		verify(delegate).findByCpf("12345678901");
+	}
+
+	@Test
+	@DisplayName("Deve invalidar a entrada ao desativar no banco")
+	void deveInvalidarAoDesativar() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(delegate.desativarByClienteId(eq("cliente-uuid-123"), any(LocalDateTime.class))).thenReturn(true);
+		adapter.findByClienteId("cliente-uuid-123");
+
+		assertTrue(adapter.desativarByClienteId("cliente-uuid-123", LocalDateTime.now()));
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(2)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Deve invalidar pelo id do documento")
+	void deveInvalidarPeloIdDoDocumento() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		adapter.findByClienteId("cliente-uuid-123");
+
+		adapter.invalidarPorId("65a1b2c3d4e5f6a7b8c9d0e1");
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(2)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Não deve armazenar leitura concorrente a uma invalidação")
+	void naoDeveArmazenarLeituraConcorrenteAInvalidacao() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenAnswer(invocation -> {
+			adapter.invalidarTudo();
+			return Optional.of(cliente);
+		});
+
+		adapter.findByClienteId("cliente-uuid-123");
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(2)).findByClienteId("cliente-uuid-123");
+	}
+
+	@Test
+	@DisplayName("Deve esvaziar o cache e não armazenar mais leituras depois de desativado")
+	void deveEsvaziarENaoArmazenarDepoisDeDesativado() {
+		when(delegate.findByClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		adapter.findByClienteId("cliente-uuid-123");
+
+		adapter.desativar();
+		adapter.findByClienteId("cliente-uuid-123");
+		adapter.findByClienteId("cliente-uuid-123");
+
+		verify(delegate, times(3)).findByClienteId("cliente-uuid-123");
+		assertEquals(0, adapter.getCache().estimatedSize());
+	}
+
+	@Test
+	@DisplayName("Deve delegar listagens sem usar o cache")
+	void deveDelegarListagens() {
+		ConsultaPaginada consulta = ConsultaPaginada.primeiraPagina();
+		Pagina<Cliente> pagina = new Pagina<>(List.of(cliente), null);
+		when(delegate.findAll(consulta)).thenReturn(pagina);
+
+		assertEquals(pagina, adapter.findAll(consulta));
+		assertEquals(pagina, adapter.findAll(consulta));
+		verify(delegate, times(2)).findAll(consulta);
+	}
+}
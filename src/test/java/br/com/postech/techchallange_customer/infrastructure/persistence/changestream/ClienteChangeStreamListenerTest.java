@@ -0,0 +1,97 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.changestream;
+
+import java.util.List;
+
+import org.bson.Document;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteChangeStreamListener - Testes Unitários")
+class ClienteChangeStreamListenerTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private ClienteChangeStreamHandler primeiro;
+
+	@Mock
+	private ClienteChangeStreamHandler segundo;
+
+	@Mock
+	private ChangeStreamDocument<Document> evento;
+
+	private ClienteChangeStreamListener listener;
+
+	@BeforeEach
+	void setUp() {
+		listener = new ClienteChangeStreamListener(mongoTemplate, List.of(primeiro, segundo));
+	}
+
+	@Test
+	@DisplayName("Deve repassar eventos de escrita a todos os handlers")
+	void deveRepassarEventosDeEscrita() {
+		when(evento.getOperationType()).thenReturn(OperationType.INSERT);
+
+		assertTrue(listener.processar(evento));
+
+		verify(primeiro).aoReceber(evento);
+		verify(segundo).aoReceber(evento);
+	}
+
+	@Test
+	@DisplayName("Deve continuar repassando quando um handler falha")
+	void deveContinuarQuandoHandlerFalha() {
+		when(evento.getOperationType()).thenReturn(OperationType.UPDATE);
+		doThrow(new IllegalStateException("falha")).when(primeiro).aoReceber(evento);
+
+		assertTrue(listener.processar(evento));
+
+		verify(segundo).aoReceber(evento);
+	}
+
+	@Test
+	@DisplayName("Deve pedir reabertura do stream em eventos de invalidação")
+	void devePedirReaberturaEmEventoDeInvalidacao() {
+		when(evento.getOperationType()).thenReturn(OperationType.INVALIDATE);
+
+		assertFalse(listener.processar(evento));
+
+		verify(primeiro, never()).aoReceber(any());
+	}
+
+	@Test
+	@DisplayName("Não deve iniciar sem handlers")
+	void naoDeveIniciarSemHandlers() {
+		ClienteChangeStreamListener semHandlers = new ClienteChangeStreamListener(mongoTemplate, List.of());
+
+		semHandlers.start();
+
+		assertFalse(semHandlers.isRunning());
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	@DisplayName("Não deve estar em execução antes de iniciar")
+	void naoDeveEstarEmExecucaoAntesDeIniciar() {
+		assertFalse(listener.isRunning());
+	}
+}
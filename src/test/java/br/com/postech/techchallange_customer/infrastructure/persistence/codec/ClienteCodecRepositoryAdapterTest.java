@@ -0,0 +1,301 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.codec;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.infrastructure.config.ExportProperties;
+import br.com.postech.techchallange_customer.infrastructure.config.LoteProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.ConsistenciaCausal;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteCursorMapper;
+import br.com.postech.techchallange_customer.infrastructure.persistence.repository.ClienteMongoRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteCodecRepositoryAdapter - Testes Unitários")
+class ClienteCodecRepositoryAdapterTest {
+
+	private static final String ID = "665f1c2e8b3e4a1d2c3b4a5f";
+
+	@Mock
+	private ClienteMongoRepository mongoRepository;
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private MongoCollection<Document> colecaoDocumentos;
+
+	@Mock
+	private MongoCollection<Cliente> colecao;
+
+	private FindIterable<Cliente> find;
+	private ExportProperties exportProperties;
+	private ClienteCodecRepositoryAdapter adapter;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		find = mock(FindIterable.class, RETURNS_SELF);
+		when(mongoTemplate.getCollectionName(ClienteDocument.class)).thenReturn("clientes");
+		when(mongoTemplate.getCollection("clientes")).thenReturn(colecaoDocumentos);
+		when(colecaoDocumentos.withDocumentClass(Cliente.class)).thenReturn(colecao);
+		when(mongoTemplate.getConverter()).thenReturn(ClienteCodecTest.converterPadrao());
+
+		lenient().when(colecao.withReadPreference(any(ReadPreference.class))).thenReturn(colecao);
+
+		exportProperties = new ExportProperties();
+		adapter = new ClienteCodecRepositoryAdapter(mongoRepository, mongoTemplate, exportProperties,
+				new LoteProperties(), RoteamentoLeitura.primario());
+	}
+
+	@Test
+	@DisplayName("Deve buscar por clienteId com o codec, sem passar pelo repositório Spring Data")
+	void deveBuscarPorClienteIdComCodec() {
+		Cliente cliente = cliente(ID);
+		ArgumentCaptor<Bson> filtro = ArgumentCaptor.forClass(Bson.class);
+		when(colecao.find(filtro.capture())).thenReturn(find);
+		when(find.first()).thenReturn(cliente);
+
+		Optional<Cliente> resultado = adapter.findByClienteId("abc-123");
+
+		assertSame(cliente, resultado.orElseThrow());
+		assertEquals(new Document("clienteId", "abc-123"), filtro.getValue());
+		verify(find).limit(1);
+	}
+
+	@Test
+	@DisplayName("Deve converter o id hexadecimal em ObjectId no filtro por _id")
+	void deveConverterIdEmObjectId() {
+		ArgumentCaptor<Bson> filtro = ArgumentCaptor.forClass(Bson.class);
+		when(colecao.find(filtro.capture())).thenReturn(find);
+		when(find.first()).thenReturn(null);
+
+		assertFalse(adapter.findById(ID).isPresent());
+		assertEquals(new Document("_id", new ObjectId(ID)), filtro.getValue());
+	}
+
+	@Test
+	@DisplayName("Deve enviar ao driver a projeção mapeada nas buscas pontuais projetadas")
+	void deveEnviarProjecaoMapeada() {
+		when(colecao.find(any(Bson.class))).thenReturn(find);
+		when(find.first()).thenReturn(cliente(ID));
+
+		adapter.findByCpf("12345678909", ProjecaoCliente.of("id", "nomeCliente"));
+
+		ArgumentCaptor<Bson> projecao = ArgumentCaptor.forClass(Bson.class);
+		verify(find).projection(projecao.capture());
+		assertEquals(new Document("_id", 1).append("nomeCliente", 1), projecao.getValue());
+	}
+
+	@Test
+	@DisplayName("Deve listar clientes VIP ativos com o mesmo filtro da consulta do repositório")
+	void deveListarVipsAtivos() {
+		ArgumentCaptor<Bson> filtro = ArgumentCaptor.forClass(Bson.class);
+		when(colecao.find(filtro.capture())).thenReturn(find);
+		devolver(List.of(cliente(ID)));
+
+		List<Cliente> clientes = adapter.findClientesVipAtivos(ConsultaPaginada.primeiraPagina()).getItens();
+
+		assertEquals(1, clientes.size());
+		assertEquals(new Document("ativo", true).append("metadata.tags", "vip"), filtro.getValue());
+	}
+
+	@Test
+	@DisplayName("Deve paginar com ordenação, limite e cursor calculado a partir do Cliente decodificado")
+	void devePaginarComCursor() {
+		when(colecao.find(any(Bson.class))).thenReturn(find);
+		devolver(List.of(cliente("665f1c2e8b3e4a1d2c3b4a50"), cliente("665f1c2e8b3e4a1d2c3b4a51"),
+				cliente("665f1c2e8b3e4a1d2c3b4a52")));
+
+		Pagina<Cliente> pagina = adapter.findAll(new ConsultaPaginada(2, null, OrdenacaoCliente.ID));
+
+		assertEquals(2, pagina.getItens().size());
+		assertEquals("665f1c2e8b3e4a1d2c3b4a51",
+				ClienteCursorMapper.toPosicao(pagina.getProximoCursor(), OrdenacaoCliente.ID).getId());
+		ArgumentCaptor<Bson> ordenacao = ArgumentCaptor.forClass(Bson.class);
+		verify(find).sort(ordenacao.capture());
+		assertEquals(new Document("_id", 1), ordenacao.getValue());
+		verify(find).limit(3);
+	}
+
+	@Test
+	@DisplayName("Deve enviar a data do cursor como Date, como o caminho com Spring Data")
+	void deveEnviarDataDoCursorComoDate() {
+		LocalDateTime data = LocalDateTime.of(2025, 1, 10, 12, 0);
+		Cliente ultimo = cliente(ID);
+		ultimo.setDataCadastro(data);
+		String cursor = ClienteCursorMapper.toCursor(ultimo, OrdenacaoCliente.DATA_CADASTRO_ASC);
+		ArgumentCaptor<Bson> filtro = ArgumentCaptor.forClass(Bson.class);
+		when(colecao.find(filtro.capture())).thenReturn(find);
+		devolver(List.of());
+
+		adapter.findAllAtivos(new ConsultaPaginada(20, cursor, OrdenacaoCliente.DATA_CADASTRO_ASC));
+
+		Date esperado = Date.from(data.atZone(ZoneId.systemDefault()).toInstant());
+		Document filtroEsperado = new Document("ativo", true).append("$or",
+				List.of(new Document("dataCadastro", new Document("$gt", esperado)),
+						new Document("dataCadastro", esperado).append("_id", new Document("$gt", new ObjectId(ID)))));
+		assertEquals(filtroEsperado, filtro.getValue());
+	}
+
+	@Test
+	@DisplayName("Deve listar com a read preference das listagens e buscar pontualmente no primary")
+	void deveAplicarRoteamentoDeLeitura() {
+		ReadPreference secundario = ReadPreference.secondaryPreferred();
+		adapter = new ClienteCodecRepositoryAdapter(mongoRepository, mongoTemplate, exportProperties,
+				new LoteProperties(), new RoteamentoLeitura(secundario, ReadPreference.primary(),
+						new ConsistenciaCausal()));
+		@SuppressWarnings("unchecked")
+		MongoCollection<Cliente> secundaria = mock(MongoCollection.class);
+		when(colecao.withReadPreference(secundario)).thenReturn(secundaria);
+		when(secundaria.find(any(Bson.class))).thenReturn(find);
+		when(find.into(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(colecao.find(any(Bson.class))).thenReturn(find);
+		when(find.first()).thenReturn(cliente(ID));
+
+		adapter.findAllAtivos(ConsultaPaginada.primeiraPagina());
+		adapter.findByCpf("12345678901");
+
+		verify(secundaria).find(any(Bson.class));
+		verify(colecao).withReadPreference(ReadPreference.primary());
+	}
+
+	@Test
+	@DisplayName("Deve buscar por _id com a read preference pontual do roteamento")
+	void deveBuscarPorIdComRoteamentoDeLeitura() {
+		ReadPreference pontual = ReadPreference.primaryPreferred();
+		adapter = new ClienteCodecRepositoryAdapter(mongoRepository, mongoTemplate, exportProperties,
+				new LoteProperties(), new RoteamentoLeitura(ReadPreference.secondaryPreferred(), pontual,
+						new ConsistenciaCausal()));
+		@SuppressWarnings("unchecked")
+		MongoCollection<Cliente> roteada = mock(MongoCollection.class);
+		when(colecao.withReadPreference(pontual)).thenReturn(roteada);
+		when(roteada.find(any(Bson.class))).thenReturn(find);
+		when(find.first()).thenReturn(cliente(ID));
+
+		assertTrue(adapter.findById(ID).isPresent());
+
+		verify(roteada).find(any(Bson.class));
+		verify(colecao, never()).find(any(Bson.class));
+	}
+
+	@Test
+	@DisplayName("Deve percorrer a exportação com lote do cursor e read concern snapshot")
+	void devePercorrerExportacaoComLoteEReadConcern() {
+		exportProperties.setBatchSize(250);
+		exportProperties.setSnapshotRead(true);
+		@SuppressWarnings("unchecked")
+		MongoCollection<Cliente> snapshot = mock(MongoCollection.class);
+		@SuppressWarnings("unchecked")
+		MongoCursor<Cliente> cursor = mock(MongoCursor.class);
+		when(colecao.withReadConcern(ReadConcern.SNAPSHOT)).thenReturn(snapshot);
+		when(snapshot.withReadPreference(ReadPreference.primary())).thenReturn(snapshot);
+		when(snapshot.find(any(Bson.class))).thenReturn(find);
+		when(find.cursor()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(cliente(ID), cliente(ID));
+
+		AtomicInteger recebidos = new AtomicInteger();
+		long total = adapter.streamByFiltro(new FiltroCliente(true, "São Paulo", null, null),
+				c -> recebidos.incrementAndGet());
+
+		assertEquals(2, total);
+		assertEquals(2, recebidos.get());
+		verify(find).batchSize(250);
+		verify(cursor).close();
+	}
+
+	@Test
+	@DisplayName("Deve cadastrar pelo codec com versão inicial")
+	void deveCadastrarPeloCodec() {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678909");
+
+		Cliente inserido = adapter.insert(cliente);
+
+		assertSame(cliente, inserido);
+		assertEquals(0, inserido.getVersao());
+		verify(colecao).insertOne(cliente);
+	}
+
+	@Test
+	@DisplayName("Deve traduzir chave duplicada no cadastro para ClienteAlreadyExistsException")
+	void deveTraduzirChaveDuplicadaNoCadastro() {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678909");
+		WriteError erro = new WriteError(11000,
+				"E11000 duplicate key error collection: customer_db.clientes index: cpfCliente dup key",
+				new BsonDocument());
+		when(colecao.insertOne(cliente)).thenThrow(new MongoWriteException(erro, new ServerAddress(), List.of()));
+
+		ClienteAlreadyExistsException exception = assertThrows(ClienteAlreadyExistsException.class,
+				() -> adapter.insert(cliente));
+
+		assertNotNull(exception.getMessage());
+		assertTrue(exception.getMessage().contains("12345678909"));
+	}
+
+	// Funções auxiliares
+
+	private static Cliente cliente(String id) {
+		Cliente cliente = new Cliente("Maria Oliveira", "maria@email.com", "12345678909");
+		cliente.setId(id);
+		return cliente;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void devolver(List<Cliente> clientes) {
+		when(find.into(any(Collection.class))).thenAnswer(invocation -> {
+			Collection<Cliente> destino = invocation.getArgument(0);
+			destino.addAll(new ArrayList<>(clientes));
+			return destino;
+		});
+	}
+}
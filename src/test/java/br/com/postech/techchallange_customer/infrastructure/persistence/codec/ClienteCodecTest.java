@@ -0,0 +1,232 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.codec;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.mapper.ClienteDocumentMapper;
+
+@DisplayName("ClienteCodec - Testes Unitários")
+class ClienteCodecTest {
+
+	private static final String ID = "65f4a1c2e4b0a1b2c3d4e5f6";
+
+	private ClienteCodec codec;
+	private MappingMongoConverter converter;
+
+	@BeforeEach
+	void setUp() {
+		codec = new ClienteCodec();
+		converter = converterPadrao();
+	}
+
+	@Test
+	@DisplayName("Deve codificar o mesmo documento que o MappingMongoConverter grava")
+	void deveCodificarComoMappingMongoConverter() {
+		Cliente cliente = clienteCompleto();
+
+		Document gravadoPeloSpring = new Document();
+		converter.write(ClienteDocumentMapper.toDocument(cliente), gravadoPeloSpring);
+
+		assertEquals(gravadoPeloSpring, toDocument(codificar(cliente)));
+	}
+
+	@Test
+	@DisplayName("Deve decodificar o documento gravado pelo Spring Data no mesmo Cliente do caminho atual")
+	void deveDecodificarComoCaminhoAtual() {
+		Document gravadoPeloSpring = new Document();
+		converter.write(ClienteDocumentMapper.toDocument(clienteCompleto()), gravadoPeloSpring);
+		BsonDocument bson = gravadoPeloSpring.toBsonDocument();
+
+		Cliente pelaConversao = ClienteDocumentMapper.toDomain(converter.read(ClienteDocument.class, gravadoPeloSpring));
+		Cliente peloCodec = decodificar(bson);
+
+		assertEquals(codificar(pelaConversao), codificar(peloCodec));
+		assertEquals(ID, peloCodec.getId());
+		assertEquals(LocalDateTime.of(2024, 3, 15, 10, 30, 45), peloCodec.getDataCadastro());
+		assertEquals(List.of("vip", "premium"), peloCodec.getMetadata().getTags());
+		assertEquals("Bela Vista", peloCodec.getEndereco().getBairro());
+	}
+
+	@Test
+	@DisplayName("Deve manter ausentes os campos que não vieram no documento (projeção)")
+	void deveManterAusentesCamposNaoProjetados() {
+		BsonDocument parcial = new BsonDocument("clienteId", new BsonString("abc-123"))
+				.append("nomeCliente", new BsonString("João Silva"));
+
+		Cliente cliente = decodificar(parcial);
+
+		assertEquals("abc-123", cliente.getClienteId());
+		assertEquals("João Silva", cliente.getNomeCliente());
+		assertNull(cliente.getId());
+		assertNull(cliente.getAtivo());
+		assertNull(cliente.getDataCadastro());
+		assertNull(cliente.getDataUltimaAtualizacao());
+		assertNull(cliente.getEndereco());
+		assertNull(cliente.getMetadata());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar valores nulos e campos desconhecidos")
+	void deveIgnorarNulosECamposDesconhecidos() {
+		BsonDocument documento = new BsonDocument("_id", new BsonString("id-legado"))
+				.append("telefone", BsonNull.VALUE)
+				.append("campoNovo", new BsonDocument("x", new BsonString("y")))
+				.append("versao", new BsonInt64(7))
+				.append("metadata", new BsonDocument("origem", new BsonString("api")));
+
+		Cliente cliente = decodificar(documento);
+
+		assertEquals("id-legado", cliente.getId());
+		assertNull(cliente.getTelefone());
+		assertEquals(7, cliente.getVersao());
+		assertEquals("api", cliente.getMetadata().getOrigem());
+		assertNull(cliente.getMetadata().getTags());
+	}
+
+	@Test
+	@DisplayName("Deve omitir campos nulos e gravar id não hexadecimal como texto")
+	void deveOmitirCamposNulos() {
+		Cliente cliente = new Cliente();
+		cliente.setId("id-legado");
+		cliente.setNomeCliente("João Silva");
+		cliente.setAtivo(null);
+		cliente.setDataCadastro(null);
+		cliente.setDataUltimaAtualizacao(null);
+
+		BsonDocument bson = codificar(cliente);
+
+		assertEquals(new BsonString("id-legado"), bson.get("_id"));
+		assertEquals(3, bson.size());
+		assertTrue(bson.containsKey("nomeCliente"));
+		assertTrue(bson.containsKey("_class"));
+	}
+
+	@Test
+	@DisplayName("Deve converter datas no fuso informado")
+	void deveConverterDatasNoFusoInformado() {
+		ClienteCodec codecSaoPaulo = new ClienteCodec(ZoneId.of("America/Sao_Paulo"));
+		Cliente cliente = new Cliente();
+		cliente.setDataCadastro(LocalDateTime.of(2024, 3, 15, 10, 0));
+
+		BsonDocument bson = new BsonDocument();
+		codecSaoPaulo.encode(new BsonDocumentWriter(bson), cliente, EncoderContext.builder().build());
+
+		assertEquals(LocalDateTime.of(2024, 3, 15, 13, 0).toInstant(ZoneOffset.UTC).toEpochMilli(),
+				bson.getDateTime("dataCadastro").getValue());
+		assertEquals(cliente.getDataCadastro(), codecSaoPaulo
+				.decode(new BsonDocumentReader(bson), DecoderContext.builder().build()).getDataCadastro());
+	}
+
+	@Test
+	@DisplayName("Deve gerar _id apenas quando ausente")
+	void deveGerarIdApenasQuandoAusente() {
+		Cliente novo = new Cliente();
+		assertFalse(codec.documentHasId(novo));
+
+		codec.generateIdIfAbsentFromDocument(novo);
+
+		assertTrue(ObjectId.isValid(novo.getId()));
+		assertEquals(new ObjectId(novo.getId()), codec.getDocumentId(novo).asObjectId().getValue());
+
+		Cliente existente = new Cliente();
+		existente.setId(ID);
+		codec.generateIdIfAbsentFromDocument(existente);
+		assertEquals(ID, existente.getId());
+	}
+
+	@Test
+	@DisplayName("Deve ler datas gravadas como java.util.Date pelo driver")
+	void deveLerDatasGravadasPeloDriver() {
+		LocalDateTime data = LocalDateTime.of(2023, 12, 31, 23, 59, 59);
+		Document documento = new Document("dataCadastro", Date.from(data.atZone(ZoneId.systemDefault()).toInstant()))
+				.append("metadata", new Document("tags", Arrays.asList("a", null)));
+
+		Cliente cliente = decodificar(documento.toBsonDocument());
+
+		assertEquals(data, cliente.getDataCadastro());
+		assertEquals(Arrays.asList("a", null), cliente.getMetadata().getTags());
+	}
+
+	// Funções auxiliares
+
+	/**
+	 * Mesma configuração do conversor padrão do MongoTemplate criado em MongoConfig
+	 */
+	static MappingMongoConverter converterPadrao() {
+		MongoCustomConversions conversions = new MongoCustomConversions(Collections.emptyList());
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		mappingContext.afterPropertiesSet();
+
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.setCustomConversions(conversions);
+		converter.afterPropertiesSet();
+		return converter;
+	}
+
+	private static Cliente clienteCompleto() {
+		Cliente cliente = new Cliente("Maria Oliveira", "maria@email.com", "12345678909");
+		cliente.setId(ID);
+		cliente.setTelefone("11987654321");
+		cliente.setDataCadastro(LocalDateTime.of(2024, 3, 15, 10, 30, 45));
+		cliente.setDataUltimaAtualizacao(LocalDateTime.of(2024, 4, 1, 8, 0, 0, 123_000_000));
+		cliente.setVersao(3);
+
+		Endereco endereco = new Endereco("Avenida Paulista", "1000", "São Paulo", "SP", "01310100");
+		endereco.setBairro("Bela Vista");
+		cliente.setEndereco(endereco);
+
+		Metadata metadata = new Metadata("site", "web");
+		metadata.setTags(List.of("vip", "premium"));
+		metadata.setNotas("Prefere contato por e-mail");
+		metadata.setDataDesativacao(LocalDateTime.of(2024, 5, 2, 9, 15));
+		cliente.setMetadata(metadata);
+		return cliente;
+	}
+
+	private BsonDocument codificar(Cliente cliente) {
+		BsonDocument bson = new BsonDocument();
+		codec.encode(new BsonDocumentWriter(bson), cliente, EncoderContext.builder().build());
+		return bson;
+	}
+
+	private Cliente decodificar(BsonDocument bson) {
+		return codec.decode(new BsonDocumentReader(bson), DecoderContext.builder().build());
+	}
+
+	private static Document toDocument(BsonDocument bson) {
+		return new DocumentCodec().decode(new BsonDocumentReader(bson), DecoderContext.builder().build());
+	}
+}
@@ -0,0 +1,180 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteIndiceGerenciador - Testes Unitários")
+class ClienteIndiceGerenciadorTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private IndexOperations indexOps;
+
+	private ClienteIndiceGerenciador gerenciador;
+
+	@BeforeEach
+	void setUp() {
+		when(mongoTemplate.indexOps(ClienteIndices.COLECAO)).thenReturn(indexOps);
+		gerenciador = new ClienteIndiceGerenciador(mongoTemplate, ClienteIndices.DECLARADOS, true);
+	}
+
+	@Test
+	@DisplayName("Deve reportar coleção sincronizada quando todos os índices declarados existem")
+	void deveReportarColecaoSincronizada() {
+		when(indexOps.getIndexInfo()).thenReturn(existentes(ClienteIndices.DECLARADOS));
+
+		RelatorioIndices relatorio = gerenciador.verificar();
+
+		assertTrue(relatorio.isSincronizado());
+	}
+
+	@Test
+	@DisplayName("Deve reportar índices ausentes, divergentes e não declarados")
+	void deveReportarDiferencas() {
+		List<IndexInfo> indices = existentes(ClienteIndices.DECLARADOS.subList(0, 4));
+		indices.add(info("ativo_id", new Document("ativo", 1).append("_id", -1), false, null));
+		indices.add(info("cidade_antigo", new Document("endereco.cidade", 1).append("endereco.estado", 1)
+				.append("_id", 1), false, null));
+		indices.add(info("telefone_1", new Document("telefone", 1), false, null));
+		when(indexOps.getIndexInfo()).thenReturn(indices);
+
+		RelatorioIndices relatorio = gerenciador.verificar();
+
+		assertFalse(relatorio.isSincronizado());
+		assertTrue(relatorio.getAusentes().contains("dataCadastro_id"));
+		assertTrue(relatorio.getAusentes().contains("ativos_tags_id"));
+		assertFalse(relatorio.getAusentes().contains("cidade_estado_id"));
+		assertEquals(List.of("ativo_id: esperado {\"ativo\": 1, \"_id\": 1}",
+				"cidade_estado_id: existe como cidade_antigo"), relatorio.getDivergentes());
+		assertEquals(List.of("telefone_1"), relatorio.getNaoDeclarados());
+	}
+
+	@Test
+	@DisplayName("Deve apontar índice parcial sem o filtro declarado como divergente")
+	void deveApontarIndiceParcialSemFiltroComoDivergente() {
+		List<IndexInfo> indices = existentes(ClienteIndices.DECLARADOS.subList(0, ClienteIndices.DECLARADOS.size() - 1));
+		indices.add(info("ativos_tags_id", new Document("ativo", 1).append("metadata.tags", 1).append("_id", 1),
+				false, null));
+		when(indexOps.getIndexInfo()).thenReturn(indices);
+
+		RelatorioIndices relatorio = gerenciador.verificar();
+
+		assertEquals(1, relatorio.getDivergentes().size());
+		assertTrue(relatorio.getDivergentes().get(0).startsWith("ativos_tags_id"));
+	}
+
+	@Test
+	@DisplayName("Deve criar apenas os índices ausentes")
+	void deveCriarApenasIndicesAusentes() {
+		List<IndiceCliente> declarados = ClienteIndices.DECLARADOS;
+		when(indexOps.getIndexInfo())
+				.thenReturn(existentes(declarados.subList(0, declarados.size() - 2)))
+				.thenReturn(existentes(declarados));
+
+		RelatorioIndices relatorio = gerenciador.criarAusentes();
+
+		assertTrue(relatorio.isSincronizado());
+		verify(indexOps, times(2)).createIndex(any(IndexDefinition.class));
+		verify(indexOps).createIndex(argThat(definicao -> "tags_id".equals(definicao.getIndexOptions().get("name"))));
+		verify(indexOps).createIndex(argThat(definicao -> "ativos_tags_id".equals(definicao.getIndexOptions().get("name"))
+				&& new Document("ativo", true).equals(definicao.getIndexOptions().get("partialFilterExpression"))));
+	}
+
+	@Test
+	@DisplayName("Deve continuar a criação quando um índice falha")
+	void deveContinuarCriacaoQuandoIndiceFalha() {
+		when(indexOps.getIndexInfo()).thenReturn(new ArrayList<>());
+		when(indexOps.createIndex(any(IndexDefinition.class))).thenAnswer(invocation -> {
+			IndexDefinition definicao = invocation.getArgument(0);
+			if ("nomeCliente_text".equals(definicao.getIndexOptions().get("name"))) {
+				throw new IllegalStateException("Index build failed");
+			}
+			return definicao.getIndexOptions().getString("name");
+		});
+
+		RelatorioIndices relatorio = gerenciador.criarAusentes();
+
+		verify(indexOps, times(ClienteIndices.DECLARADOS.size() - ClienteIndices.UNICOS.size()))
+				.createIndex(any(IndexDefinition.class));
+		assertEquals(ClienteIndices.DECLARADOS.size(), relatorio.getAusentes().size());
+	}
+
+	@Test
+	@DisplayName("Não deve criar os índices únicos, apenas reportá-los como ausentes")
+	void naoDeveCriarIndicesUnicos() {
+		List<IndiceCliente> consultas = ClienteIndices.DECLARADOS.subList(ClienteIndices.UNICOS.size(),
+				ClienteIndices.DECLARADOS.size());
+		when(indexOps.getIndexInfo()).thenReturn(existentes(consultas));
+
+		RelatorioIndices relatorio = gerenciador.criarAusentes();
+
+		verify(indexOps, never()).createIndex(any(IndexDefinition.class));
+		assertEquals(List.of("clienteId", "cpfCliente", "emailCliente"), relatorio.getAusentes());
+	}
+
+	@Test
+	@DisplayName("Não deve criar índices quando nada está ausente")
+	void naoDeveCriarIndicesQuandoNadaAusente() {
+		when(indexOps.getIndexInfo()).thenReturn(existentes(ClienteIndices.DECLARADOS));
+
+		gerenciador.criarAusentes();
+
+		verify(indexOps, never()).createIndex(any(IndexDefinition.class));
+	}
+
+	// Funções auxiliares
+
+	/**
+	 * Índices como o servidor os lista (incluindo _id_) a partir das declarações
+	 */
+	private static List<IndexInfo> existentes(List<IndiceCliente> declarados) {
+		List<IndexInfo> indices = new ArrayList<>();
+		indices.add(info(ClienteIndices.INDICE_ID, new Document("_id", 1), false, null));
+		for (IndiceCliente declarado : declarados) {
+			Document chaves = declarado.toIndexDefinition().getIndexKeys();
+			if (declarado.isTexto()) {
+				Document pesos = new Document();
+				chaves.keySet().forEach(campo -> pesos.append(campo, 1));
+				indices.add(IndexInfo.indexInfoOf(new Document("name", declarado.getNome())
+						.append("key", new Document("_fts", "text").append("_ftsx", 1))
+						.append("weights", pesos)
+						.append("default_language", declarado.getIdioma())));
+			} else {
+				indices.add(info(declarado.getNome(), chaves, declarado.isUnico(), declarado.getFiltroParcial()));
+			}
+		}
+		return indices;
+	}
+
+	private static IndexInfo info(String nome, Document chaves, boolean unico, Document parcial) {
+		Document indice = new Document("name", nome).append("key", chaves).append("unique", unico);
+		if (parcial != null) {
+			indice.append("partialFilterExpression", parcial);
+		}
+		return IndexInfo.indexInfoOf(indice);
+	}
+}
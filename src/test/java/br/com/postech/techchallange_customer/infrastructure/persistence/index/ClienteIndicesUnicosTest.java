@@ -0,0 +1,119 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteIndicesUnicos - Testes Unitários")
+class ClienteIndicesUnicosTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private IndexOperations indexOps;
+
+	private ClienteIndicesUnicos indicesUnicos;
+
+	@BeforeEach
+	void setUp() {
+		when(mongoTemplate.indexOps(ClienteIndices.COLECAO)).thenReturn(indexOps);
+		indicesUnicos = new ClienteIndicesUnicos(mongoTemplate, ClienteIndices.UNICOS);
+	}
+
+	@Test
+	@DisplayName("Deve criar os índices únicos ausentes")
+	void deveCriarIndicesUnicosAusentes() {
+		when(indexOps.getIndexInfo()).thenReturn(existentes(ClienteIndices.UNICOS.subList(0, 1)));
+
+		indicesUnicos.afterPropertiesSet();
+
+		verify(indexOps, times(2)).createIndex(any(IndexDefinition.class));
+		verify(indexOps).createIndex(argThat(definicao -> "cpfCliente".equals(definicao.getIndexOptions().get("name"))
+				&& Boolean.TRUE.equals(definicao.getIndexOptions().get("unique"))));
+		verify(indexOps).createIndex(argThat(definicao -> "emailCliente".equals(definicao.getIndexOptions().get("name"))
+				&& Boolean.TRUE.equals(definicao.getIndexOptions().get("unique"))));
+	}
+
+	@Test
+	@DisplayName("Não deve criar nada quando os índices únicos já existem")
+	void naoDeveCriarQuandoIndicesUnicosExistem() {
+		when(indexOps.getIndexInfo()).thenReturn(existentes(ClienteIndices.UNICOS));
+
+		indicesUnicos.garantir();
+
+		verify(indexOps, never()).createIndex(any(IndexDefinition.class));
+	}
+
+	@Test
+	@DisplayName("Deve falhar quando o índice existe sem unicidade")
+	void deveFalharQuandoIndiceExisteSemUnicidade() {
+		List<IndexInfo> indices = existentes(ClienteIndices.UNICOS.subList(0, 1));
+		indices.add(info("cpf_antigo", new Document("cpfCliente", 1), false));
+		when(indexOps.getIndexInfo()).thenReturn(indices);
+
+		IllegalStateException erro = assertThrows(IllegalStateException.class, indicesUnicos::garantir);
+
+		assertTrue(erro.getMessage().contains("cpf_antigo"));
+		verify(indexOps, never()).createIndex(any(IndexDefinition.class));
+	}
+
+	@Test
+	@DisplayName("Deve falhar quando a criação do índice único é rejeitada")
+	void deveFalharQuandoCriacaoRejeitada() {
+		when(indexOps.getIndexInfo()).thenReturn(existentes(List.of()));
+		when(indexOps.createIndex(any(IndexDefinition.class)))
+				.thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+		IllegalStateException erro = assertThrows(IllegalStateException.class, indicesUnicos::garantir);
+
+		assertTrue(erro.getMessage().contains("clienteId"));
+	}
+
+	@Test
+	@DisplayName("Deve falhar quando não consegue ler os índices da coleção")
+	void deveFalharQuandoNaoConsegueLerIndices() {
+		when(indexOps.getIndexInfo()).thenThrow(new UncategorizedMongoDbException("timeout", null));
+
+		assertThrows(IllegalStateException.class, indicesUnicos::garantir);
+
+		verify(indexOps, never()).createIndex(any(IndexDefinition.class));
+	}
+
+	// Funções auxiliares
+
+	private static List<IndexInfo> existentes(List<IndiceCliente> unicos) {
+		List<IndexInfo> indices = new ArrayList<>();
+		indices.add(info(ClienteIndices.INDICE_ID, new Document("_id", 1), false));
+		for (IndiceCliente unico : unicos) {
+			indices.add(info(unico.getNome(), unico.toIndexDefinition().getIndexKeys(), true));
+		}
+		return indices;
+	}
+
+	private static IndexInfo info(String nome, Document chaves, boolean unico) {
+		return IndexInfo.indexInfoOf(new Document("name", nome).append("key", chaves).append("unique", unico));
+	}
+}
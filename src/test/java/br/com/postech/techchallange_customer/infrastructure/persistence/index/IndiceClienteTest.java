@@ -0,0 +1,91 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.index;
+
+import org.bson.Document;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+@DisplayName("IndiceCliente - Testes Unitários")
+class IndiceClienteTest {
+
+	@Test
+	@DisplayName("Deve gerar definição composta com unicidade e nome")
+	void deveGerarDefinicaoCompostaComUnicidade() {
+		IndexDefinition definicao = IndiceCliente.em("cpfCliente", "cpfCliente").unico().toIndexDefinition();
+
+		assertEquals(new Document("cpfCliente", 1), definicao.getIndexKeys());
+		assertEquals("cpfCliente", definicao.getIndexOptions().get("name"));
+		assertEquals(true, definicao.getIndexOptions().get("unique"));
+		assertNull(definicao.getIndexOptions().get("partialFilterExpression"));
+	}
+
+	@Test
+	@DisplayName("Deve gerar definição parcial preservando a ordem das chaves")
+	void deveGerarDefinicaoParcial() {
+		IndexDefinition definicao = IndiceCliente.em("ativos_tags_id", "ativo", "metadata.tags", "_id")
+				.parcial(new Document("ativo", true)).toIndexDefinition();
+
+		assertEquals(new Document("ativo", 1).append("metadata.tags", 1).append("_id", 1), definicao.getIndexKeys());
+		assertEquals(new Document("ativo", true), definicao.getIndexOptions().get("partialFilterExpression"));
+	}
+
+	@Test
+	@DisplayName("Deve gerar definição de texto")
+	void deveGerarDefinicaoDeTexto() {
+		IndexDefinition definicao = IndiceCliente.texto("nomeCliente_text", "nomeCliente").toIndexDefinition();
+
+		assertEquals("text", definicao.getIndexKeys().get("nomeCliente"));
+		assertEquals("nomeCliente_text", definicao.getIndexOptions().get("name"));
+	}
+
+	@Test
+	@DisplayName("Deve gerar o índice de texto com o idioma e exigi-lo na equivalência")
+	void deveGerarIndiceDeTextoComIdioma() {
+		IndiceCliente declarado = IndiceCliente.texto("nomeCliente_text", "nomeCliente").idioma("portuguese");
+		Document existente = new Document("name", "nomeCliente_text")
+				.append("key", new Document("_fts", "text").append("_ftsx", 1))
+				.append("weights", new Document("nomeCliente", 1));
+
+		assertEquals("portuguese", declarado.toIndexDefinition().getIndexOptions().get("default_language"));
+		assertTrue(declarado.isEquivalente(IndexInfo.indexInfoOf(new Document(existente)
+				.append("default_language", "portuguese"))));
+		assertFalse(declarado.isEquivalente(IndexInfo.indexInfoOf(new Document(existente)
+				.append("default_language", "english"))));
+	}
+
+	@Test
+	@DisplayName("Deve considerar ordem das chaves, unicidade e filtro parcial na equivalência")
+	void deveConsiderarOpcoesNaEquivalencia() {
+		IndiceCliente declarado = IndiceCliente.em("ativo_cidade_id", "ativo", "endereco.cidade", "_id");
+
+		assertTrue(declarado.isEquivalente(info(new Document("ativo", 1).append("endereco.cidade", 1).append("_id", 1),
+				false, null)));
+		assertFalse(declarado.isEquivalente(info(new Document("endereco.cidade", 1).append("ativo", 1).append("_id", 1),
+				false, null)));
+		assertFalse(declarado.isEquivalente(info(new Document("ativo", 1).append("endereco.cidade", 1).append("_id", 1),
+				true, null)));
+		assertFalse(declarado.isEquivalente(info(new Document("ativo", 1).append("endereco.cidade", 1).append("_id", 1),
+				false, new Document("ativo", true))));
+	}
+
+	@Test
+	@DisplayName("Deve descrever o índice para o relatório")
+	void deveDescreverIndice() {
+		assertEquals("{\"ativo\": 1, \"_id\": 1} partial {\"ativo\": true}",
+				IndiceCliente.em("x", "ativo", "_id").parcial(new Document("ativo", true)).descrever());
+		assertEquals("{\"emailCliente\": 1} unique", IndiceCliente.em("x", "emailCliente").unico().descrever());
+	}
+
+	private static IndexInfo info(Document chaves, boolean unico, Document parcial) {
+		Document indice = new Document("name", "indice").append("key", chaves).append("unique", unico);
+		if (parcial != null) {
+			indice.append("partialFilterExpression", parcial);
+		}
+		return IndexInfo.indexInfoOf(indice);
+	}
+}
@@ -0,0 +1,138 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.conversions.Bson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.infrastructure.persistence.document.ClienteDocument;
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.RoteamentoLeitura;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteJsonReader - Testes Unitários")
+class ClienteJsonReaderTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private MongoCollection<Document> colecaoDocumentos;
+
+	@Mock
+	private MongoCollection<RawBsonDocument> colecao;
+
+	private FindIterable<RawBsonDocument> find;
+	private ClienteJsonReader reader;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		find = mock(FindIterable.class, RETURNS_SELF);
+		when(mongoTemplate.getCollectionName(ClienteDocument.class)).thenReturn("clientes");
+		when(mongoTemplate.getCollection("clientes")).thenReturn(colecaoDocumentos);
+		when(colecaoDocumentos.withDocumentClass(RawBsonDocument.class)).thenReturn(colecao);
+
+		lenient().when(colecao.withReadPreference(any(ReadPreference.class))).thenReturn(colecao);
+
+		reader = new ClienteJsonReader(mongoTemplate, new ClienteJsonTranscoder(new JsonFactory()),
+				RoteamentoLeitura.primario());
+	}
+
+	@Test
+	@DisplayName("Deve buscar por clienteId e devolver o JSON do documento")
+	void deveBuscarPorClienteIdEDevolverJson() {
+		ArgumentCaptor<Bson> filtro = ArgumentCaptor.forClass(Bson.class);
+		when(colecao.find(filtro.capture())).thenReturn(find);
+		when(find.first()).thenReturn(raw(new BsonDocument("clienteId", new BsonString("abc-123"))));
+
+		Optional<ClienteJson> json = reader.porClienteId("abc-123", ProjecaoCliente.completa());
+
+		assertEquals("{\"id\":null,\"clienteId\":\"abc-123\",\"nomeCliente\":null,\"emailCliente\":null,"
+				+ "\"cpfCliente\":null,\"telefone\":null,\"endereco\":null,\"ativo\":null,\"dataCadastro\":null,"
+				+ "\"dataUltimaAtualizacao\":null,\"versao\":null,\"metadata\":null}",
+				new String(json.orElseThrow().corpo()));
+		assertEquals("abc-123", json.get().clienteId());
+		assertEquals(new Document("clienteId", "abc-123"), filtro.getValue());
+		verify(find).limit(1);
+		verify(find).projection(null);
+	}
+
+	@Test
+	@DisplayName("Deve buscar por CPF e e-mail pelos campos do documento")
+	void deveBuscarPorCpfEEmail() {
+		ArgumentCaptor<Bson> filtro = ArgumentCaptor.forClass(Bson.class);
+		when(colecao.find(filtro.capture())).thenReturn(find);
+
+		assertFalse(reader.porCpf("12345678909", ProjecaoCliente.completa()).isPresent());
+		assertEquals(new Document("cpfCliente", "12345678909"), filtro.getValue());
+
+		assertFalse(reader.porEmail("joao@email.com", ProjecaoCliente.completa()).isPresent());
+		assertEquals(new Document("emailCliente", "joao@email.com"), filtro.getValue());
+	}
+
+	@Test
+	@DisplayName("Deve ler os campos dos validadores HTTP sem incluí-los no JSON")
+	void deveLerCamposDosValidadoresForaDoJson() {
+		when(colecao.find(any(Bson.class))).thenReturn(find);
+		when(find.first()).thenReturn(raw(new BsonDocument("nomeCliente", new BsonString("João"))
+				.append("clienteId", new BsonString("abc-123"))
+				.append("versao", new BsonInt32(3))
+				.append("dataUltimaAtualizacao", new BsonDateTime(1_700_000_000_000L))));
+
+		ClienteJson json = reader.porEmail("joao@email.com", ProjecaoCliente.of("nomeCliente")).orElseThrow();
+
+		assertEquals("{\"nomeCliente\":\"João\"}", new String(json.corpo(), StandardCharsets.UTF_8));
+		assertEquals("abc-123", json.clienteId());
+		assertEquals(3, json.versao());
+		assertEquals(Instant.ofEpochMilli(1_700_000_000_000L), json.ultimaAtualizacao());
+		verify(find).projection(new Document("nomeCliente", 1).append("clienteId", 1).append("versao", 1)
+				.append("dataUltimaAtualizacao", 1).append("_id", 0));
+	}
+
+	@Test
+	@DisplayName("Deve montar a projeção excluindo _id quando id não foi pedido")
+	void deveMontarProjecaoExcluindoId() {
+		assertNull(ClienteJsonReader.toProjecao(ProjecaoCliente.completa()));
+		assertEquals(new Document("nomeCliente", 1).append("ativo", 1).append("_id", 0),
+				ClienteJsonReader.toProjecao(ProjecaoCliente.of("nomeCliente", "ativo")));
+		assertEquals(new Document("_id", 1).append("nomeCliente", 1),
+				ClienteJsonReader.toProjecao(ProjecaoCliente.of("id", "nomeCliente")));
+	}
+
+	// Funções auxiliares
+
+	private static RawBsonDocument raw(BsonDocument documento) {
+		return new RawBsonDocument(documento, new BsonDocumentCodec());
+	}
+}
@@ -0,0 +1,227 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.infrastructure.persistence.codec.ClienteCodec;
+
+@DisplayName("ClienteJsonTranscoder - Testes Unitários")
+class ClienteJsonTranscoderTest {
+
+	private static final String ID = "65f4a1c2e4b0a1b2c3d4e5f6";
+
+	private ObjectMapper objectMapper;
+	private ClienteJsonTranscoder transcoder;
+
+	@BeforeEach
+	void setUp() {
+		// mesmos padrões do ObjectMapper auto-configurado pelo Spring Boot
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		transcoder = new ClienteJsonTranscoder(objectMapper.getFactory());
+	}
+
+	@Test
+	@DisplayName("Deve gerar o mesmo JSON do caminho mapeado para um cliente completo")
+	void deveGerarMesmoJsonDoCaminhoMapeado() throws Exception {
+		Cliente cliente = clienteCompleto();
+
+		JsonNode direto = objectMapper.readTree(transcoder.toJson(gravado(cliente)));
+
+		assertEquals(objectMapper.valueToTree(ClienteMapper.toDTO(cliente)), direto);
+		assertEquals(ID, direto.get("id").asText());
+		assertEquals("2024-03-15T10:30:45", direto.get("dataCadastro").asText());
+		assertEquals("2024-04-01T08:00:00", direto.get("dataUltimaAtualizacao").asText());
+		assertTrue(direto.get("versao").isInt());
+	}
+
+	@Test
+	@DisplayName("Deve gerar os campos de primeiro nível na ordem de ClienteDTO")
+	void deveGerarCamposNaOrdemDoDto() throws Exception {
+		Cliente cliente = clienteCompleto();
+
+		String direto = new String(transcoder.toJson(gravado(cliente)), StandardCharsets.UTF_8);
+
+		assertEquals(objectMapper.writeValueAsString(ClienteMapper.toDTO(cliente)), direto);
+	}
+
+	@Test
+	@DisplayName("Deve preencher com null as chaves ausentes de endereço e metadata, como o caminho mapeado")
+	void devePreencherChavesAusentesDeEnderecoEMetadata() throws Exception {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678909");
+		cliente.setId(ID);
+		Endereco endereco = new Endereco();
+		endereco.setCidade("São Paulo");
+		cliente.setEndereco(endereco);
+		Metadata metadata = new Metadata();
+		metadata.setTags(null);
+		cliente.setMetadata(metadata);
+
+		JsonNode direto = objectMapper.readTree(transcoder.toJson(gravado(cliente)));
+
+		assertEquals(objectMapper.valueToTree(ClienteMapper.toDTO(cliente)), direto);
+		assertTrue(direto.get("endereco").get("rua").isNull());
+		assertTrue(direto.get("metadata").get("tags").isNull());
+	}
+
+	@Test
+	@DisplayName("Deve gerar apenas os campos presentes em um documento projetado")
+	void deveGerarApenasCamposProjetados() throws Exception {
+		Cliente cliente = clienteCompleto();
+		BsonDocument projetado = new BsonDocument("nomeCliente", new BsonString(cliente.getNomeCliente()))
+				.append("ativo", BsonBoolean.TRUE);
+
+		ProjecaoCliente projecao = ProjecaoCliente.of("nomeCliente", "ativo");
+
+		JsonNode direto = objectMapper.readTree(transcoder.toJson(raw(projetado), projecao));
+
+		assertEquals(objectMapper.valueToTree(ClienteMapper.toDTO(cliente, projecao)), direto);
+		assertEquals(2, direto.size());
+	}
+
+	@Test
+	@DisplayName("Deve omitir os campos lidos do banco que não estão na projeção pedida")
+	void deveOmitirCamposForaDaProjecao() throws Exception {
+		Cliente cliente = clienteCompleto();
+		ProjecaoCliente projecao = ProjecaoCliente.of("id", "nomeCliente");
+
+		JsonNode direto = objectMapper.readTree(transcoder.toJson(gravado(cliente), projecao));
+
+		assertEquals(objectMapper.valueToTree(ClienteMapper.toDTO(cliente, projecao)), direto);
+		assertEquals(2, direto.size());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar _class, valores nulos e campos desconhecidos")
+	void deveIgnorarClasseNulosECamposDesconhecidos() throws Exception {
+		BsonDocument documento = new BsonDocument("_id", new BsonString("id-legado"))
+				.append("telefone", BsonNull.VALUE)
+				.append("campoNovo", new BsonDocument("x", new BsonString("y")))
+				.append("versao", new BsonInt64(7))
+				.append("_class", new BsonString("br.com.Qualquer"));
+
+		JsonNode direto = objectMapper.readTree(transcoder.toJson(raw(documento), ProjecaoCliente.of("id", "telefone",
+				"versao")));
+
+		assertEquals(2, direto.size());
+		assertEquals("id-legado", direto.get("id").asText());
+		assertEquals(7, direto.get("versao").asInt());
+	}
+
+	@Test
+	@DisplayName("Deve escrever como null os campos nulos ou ausentes na resposta completa")
+	void deveEscreverNulosNaRespostaCompleta() throws Exception {
+		BsonDocument documento = new BsonDocument("_id", new BsonString("id-legado"))
+				.append("telefone", BsonNull.VALUE)
+				.append("campoNovo", new BsonDocument("x", new BsonString("y")))
+				.append("versao", new BsonInt64(7))
+				.append("_class", new BsonString("br.com.Qualquer"));
+
+		String direto = new String(transcoder.toJson(raw(documento)), StandardCharsets.UTF_8);
+
+		assertEquals("{\"id\":\"id-legado\",\"clienteId\":null,\"nomeCliente\":null,\"emailCliente\":null,"
+				+ "\"cpfCliente\":null,\"telefone\":null,\"endereco\":null,\"ativo\":null,\"dataCadastro\":null,"
+				+ "\"dataUltimaAtualizacao\":null,\"versao\":7,\"metadata\":null}", direto);
+	}
+
+	@Test
+	@DisplayName("Deve trazer todas as chaves uma única vez quando o documento está fora da ordem de ClienteDTO")
+	void deveTrazerTodasAsChavesComDocumentoForaDeOrdem() throws Exception {
+		Cliente cliente = new Cliente("João Silva", "joao@email.com", "12345678909");
+		cliente.setId(ID);
+		cliente.setTelefone("11987654321");
+		// campo incluído depois por $set vai para o fim do documento
+		BsonDocument documento = gravado(cliente).decode(new BsonDocumentCodec());
+		documento.remove("telefone");
+		documento.append("telefone", new BsonString(cliente.getTelefone()));
+
+		String direto = new String(transcoder.toJson(raw(documento)), StandardCharsets.UTF_8);
+
+		assertEquals(objectMapper.valueToTree(ClienteMapper.toDTO(cliente)), objectMapper.readTree(direto));
+		assertEquals(1, direto.split("\"telefone\"", -1).length - 1);
+	}
+
+	@Test
+	@DisplayName("Deve escapar caracteres especiais como o Jackson")
+	void deveEscaparCaracteresEspeciais() throws Exception {
+		Cliente cliente = new Cliente("Ana \"Nina\" D'Ávila\n\\  ", "ana@email.com", "12345678909");
+		cliente.setId(ID);
+
+		assertEquals(objectMapper.writeValueAsString(ClienteMapper.toDTO(cliente)),
+				new String(transcoder.toJson(gravado(cliente)), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("Deve formatar datas no fuso informado")
+	void deveFormatarDatasNoFusoInformado() throws Exception {
+		ClienteJsonTranscoder transcoderSaoPaulo = new ClienteJsonTranscoder(objectMapper.getFactory(),
+				ZoneId.of("America/Sao_Paulo"));
+		long instante = LocalDateTime.of(2024, 3, 15, 13, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+		BsonDocument documento = new BsonDocument("dataCadastro", new BsonDateTime(instante))
+				.append("metadata", new BsonDocument("dataDesativacao", new BsonDateTime(instante)));
+
+		JsonNode direto = objectMapper.readTree(transcoderSaoPaulo.toJson(raw(documento)));
+
+		assertEquals("2024-03-15T10:00:00", direto.get("dataCadastro").asText());
+		assertEquals("2024-03-15T10:00:00", direto.get("metadata").get("dataDesativacao").asText());
+	}
+
+	// Funções auxiliares
+
+	private static Cliente clienteCompleto() {
+		Cliente cliente = new Cliente("Maria Oliveira", "maria@email.com", "12345678909");
+		cliente.setId(ID);
+		cliente.setTelefone("11987654321");
+		cliente.setDataCadastro(LocalDateTime.of(2024, 3, 15, 10, 30, 45));
+		cliente.setDataUltimaAtualizacao(LocalDateTime.of(2024, 4, 1, 8, 0, 0));
+		cliente.setVersao(3);
+
+		Endereco endereco = new Endereco("Avenida Paulista", "1000", "São Paulo", "SP", "01310100");
+		endereco.setBairro("Bela Vista");
+		cliente.setEndereco(endereco);
+
+		Metadata metadata = new Metadata("site", "web");
+		metadata.setTags(Arrays.asList("vip", null, "premium"));
+		metadata.setNotas("Prefere contato por e-mail");
+		metadata.setDataDesativacao(LocalDateTime.of(2024, 5, 2, 9, 15));
+		cliente.setMetadata(metadata);
+		return cliente;
+	}
+
+	/**
+	 * Documento no formato gravado pelo Spring Data (ClienteCodec grava o mesmo
+	 * formato, ver ClienteCodecTest)
+	 */
+	private static RawBsonDocument gravado(Cliente cliente) {
+		return new RawBsonDocument(cliente, new ClienteCodec());
+	}
+
+	private static RawBsonDocument raw(BsonDocument documento) {
+		return new RawBsonDocument(documento, new BsonDocumentCodec());
+	}
+}
@@ -0,0 +1,93 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.leitura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConsistenciaCausal - Testes Unitários")
+class ConsistenciaCausalTest {
+
+	private ConsistenciaCausal consistencia;
+
+	@BeforeEach
+	void setUp() {
+		consistencia = new ConsistenciaCausal();
+	}
+
+	@AfterEach
+	void tearDown() {
+		consistencia.encerrarRequisicao();
+	}
+
+	@Test
+	@DisplayName("Deve manter a maior escrita registrada")
+	void deveManterMaiorEscritaRegistrada() {
+		consistencia.registrarEscrita(momento(20));
+		consistencia.registrarEscrita(momento(10));
+
+		assertEquals(momento(20), consistencia.getTokenLeitura());
+	}
+
+	@Test
+	@DisplayName("Deve ler a partir do token recebido quando ele é mais recente que a última escrita local")
+	void deveLerAPartirDoTokenRecebidoMaisRecente() {
+		consistencia.registrarEscrita(momento(10));
+
+		consistencia.iniciarRequisicao(momento(30));
+
+		assertEquals(momento(30), consistencia.getTokenLeitura());
+	}
+
+	@Test
+	@DisplayName("Deve devolver apenas as escritas da própria requisição")
+	void deveDevolverApenasEscritasDaPropriaRequisicao() {
+		consistencia.registrarEscrita(momento(10));
+		consistencia.iniciarRequisicao(null);
+		assertNull(consistencia.getEscritaDaRequisicao());
+
+		consistencia.registrarEscrita(momento(15));
+
+		assertEquals(momento(15), consistencia.getEscritaDaRequisicao());
+		consistencia.encerrarRequisicao();
+		assertNull(consistencia.getEscritaDaRequisicao());
+	}
+
+	@Test
+	@DisplayName("Deve retornar nulo sem escrita local nem token recebido")
+	void deveRetornarNuloSemEscritaNemToken() {
+		consistencia.iniciarRequisicao(null);
+
+		assertNull(consistencia.getTokenLeitura());
+	}
+
+	@Test
+	@DisplayName("Deve converter o momento em token e de volta")
+	void deveConverterMomentoEmTokenEDeVolta() {
+		BsonTimestamp momento = new BsonTimestamp(1_760_000_000, 7);
+
+		String token = ConsistenciaCausal.toToken(momento);
+
+		assertEquals(momento, ConsistenciaCausal.fromToken(token));
+		assertEquals(momento, ConsistenciaCausal.fromToken(" " + token + " "));
+	}
+
+	@Test
+	@DisplayName("Deve ignorar token ausente ou inválido")
+	void deveIgnorarTokenAusenteOuInvalido() {
+		assertNull(ConsistenciaCausal.fromToken(null));
+		assertNull(ConsistenciaCausal.fromToken(" "));
+		assertNull(ConsistenciaCausal.fromToken("abc"));
+		assertNull(ConsistenciaCausal.fromToken("-1"));
+	}
+
+	// Funções auxiliares
+
+	private static BsonTimestamp momento(int segundos) {
+		return new BsonTimestamp(segundos, 1);
+	}
+}
@@ -0,0 +1,61 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.leitura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandSucceededEvent;
+
+@DisplayName("EscritaCausalListener - Testes Unitários")
+class EscritaCausalListenerTest {
+
+	private static final BsonTimestamp OPERATION_TIME = new BsonTimestamp(1_760_000_000, 3);
+
+	private ConsistenciaCausal consistencia;
+	private EscritaCausalListener listener;
+
+	@BeforeEach
+	void setUp() {
+		consistencia = new ConsistenciaCausal();
+		listener = new EscritaCausalListener(consistencia);
+	}
+
+	@Test
+	@DisplayName("Deve registrar o operationTime devolvido por uma escrita")
+	void deveRegistrarOperationTimeDeEscrita() {
+		listener.commandSucceeded(evento("update", respostaCom(OPERATION_TIME)));
+
+		assertEquals(OPERATION_TIME, consistencia.getTokenLeitura());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar leituras e respostas sem operationTime")
+	void deveIgnorarLeiturasERespostasSemOperationTime() {
+		listener.commandSucceeded(evento("find", respostaCom(OPERATION_TIME)));
+		listener.commandSucceeded(evento("insert", new BsonDocument("ok", new BsonInt32(1))));
+
+		assertNull(consistencia.getTokenLeitura());
+	}
+
+	// Funções auxiliares
+
+	private static BsonDocument respostaCom(BsonTimestamp operationTime) {
+		return new BsonDocument("ok", new BsonInt32(1)).append("operationTime", operationTime);
+	}
+
+	private static CommandSucceededEvent evento(String comando, BsonDocument resposta) {
+		ConnectionDescription conexao = new ConnectionDescription(
+				new ServerId(new ClusterId(), new ServerAddress("mongo-0", 27017)));
+		return new CommandSucceededEvent(null, 1L, 1, conexao, "tc-customer", comando, resposta, 1_000L);
+	}
+}
@@ -0,0 +1,139 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.leitura;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+import com.mongodb.client.ClientSession;
+
+@DisplayName("RoteamentoLeitura - Testes Unitários")
+class RoteamentoLeituraTest {
+
+	private static final BsonTimestamp ESCRITA = new BsonTimestamp(1_760_000_000, 1);
+
+	private MongoTemplate mongoTemplate;
+	private MongoDatabaseFactory fabrica;
+	private ClientSession sessao;
+	private ConsistenciaCausal consistencia;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		fabrica = mock(MongoDatabaseFactory.class);
+		sessao = mock(ClientSession.class);
+		consistencia = new ConsistenciaCausal();
+	}
+
+	@Test
+	@DisplayName("Deve montar a read preference com maxStaleness")
+	void deveMontarReadPreferenceComMaxStaleness() {
+		ReadPreference preferencia = RoteamentoLeitura.preferencia("secondaryPreferred", Duration.ofSeconds(120), false);
+
+		assertEquals("secondaryPreferred", preferencia.getName());
+		assertEquals(120L, ((TaggableReadPreference) preferencia).getMaxStaleness(TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar maxStaleness abaixo de 90 segundos")
+	void deveRejeitarMaxStalenessAbaixoDe90Segundos() {
+		assertThrows(IllegalArgumentException.class,
+				() -> RoteamentoLeitura.preferencia("secondary", Duration.ofSeconds(30), false));
+	}
+
+	@Test
+	@DisplayName("Deve habilitar hedged reads quando configurado")
+	@SuppressWarnings("deprecation")
+	void deveHabilitarHedgedReads() {
+		TaggableReadPreference preferencia = (TaggableReadPreference) RoteamentoLeitura.preferencia("nearest",
+				Duration.ofSeconds(90), true);
+
+		assertTrue(preferencia.getHedgeOptions().isEnabled());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar maxStaleness e hedge no primary")
+	void deveIgnorarOpcoesNoPrimary() {
+		assertEquals(ReadPreference.primary(), RoteamentoLeitura.preferencia("primary", Duration.ofSeconds(90), true));
+	}
+
+	@Test
+	@DisplayName("Deve aplicar a read preference das listagens na consulta")
+	void deveAplicarReadPreferenceDasListagens() {
+		RoteamentoLeitura roteamento = new RoteamentoLeitura(ReadPreference.secondaryPreferred(),
+				ReadPreference.primary(), consistencia);
+
+		Query query = roteamento.listagem(new Query());
+
+		assertEquals(ReadPreference.secondaryPreferred(), query.getReadPreference());
+	}
+
+	@Test
+	@DisplayName("Deve buscar no primary sem sessão mesmo havendo escrita")
+	void deveBuscarNoPrimarySemSessao() {
+		consistencia.registrarEscrita(ESCRITA);
+		RoteamentoLeitura roteamento = RoteamentoLeitura.primario();
+
+		ReadPreference usada = roteamento.pontual(mongoTemplate, (s, preferencia) -> {
+			assertNull(s);
+			return preferencia;
+		});
+
+		assertEquals(ReadPreference.primary(), usada);
+		assertTrue(roteamento.isPontualNoPrimario());
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	@DisplayName("Deve buscar no secundário sem sessão enquanto não há escrita conhecida")
+	void deveBuscarNoSecundarioSemSessaoSemEscrita() {
+		RoteamentoLeitura roteamento = new RoteamentoLeitura(ReadPreference.secondaryPreferred(),
+				ReadPreference.secondaryPreferred(), consistencia);
+
+		roteamento.pontual(mongoTemplate, (s, preferencia) -> {
+			assertNull(s);
+			return null;
+		});
+
+		assertFalse(roteamento.isPontualNoPrimario());
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	@DisplayName("Deve buscar no secundário em sessão causal avançada até a última escrita")
+	void deveBuscarEmSessaoCausalAvancadaAteUltimaEscrita() {
+		when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(fabrica);
+		when(fabrica.getSession(any(ClientSessionOptions.class))).thenReturn(sessao);
+		consistencia.registrarEscrita(ESCRITA);
+		RoteamentoLeitura roteamento = new RoteamentoLeitura(ReadPreference.secondaryPreferred(),
+				ReadPreference.secondaryPreferred(), consistencia);
+
+		ClientSession usada = roteamento.pontual(mongoTemplate, (s, preferencia) -> s);
+
+		assertSame(sessao, usada);
+		verify(fabrica).getSession(ClientSessionOptions.builder().causallyConsistent(true).build());
+		verify(sessao).advanceOperationTime(ESCRITA);
+		verify(sessao).close();
+	}
+}
@@ -0,0 +1,82 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.mapper;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+class ClienteCursorMapperTest {
+
+	@Test
+	@DisplayName("Deve gerar e interpretar cursor com data de cadastro e _id")
+	void deveGerarEInterpretarCursor() {
+		Cliente cliente = new Cliente();
+		cliente.setId("665f1c2e8b3e4a1d2c3b4a5f");
+		cliente.setDataCadastro(LocalDateTime.of(2025, 3, 1, 8, 30, 15));
+
+		String cursor = ClienteCursorMapper.toCursor(cliente, OrdenacaoCliente.DATA_CADASTRO_DESC);
+		ClienteCursorMapper.Posicao posicao = ClienteCursorMapper.toPosicao(cursor, OrdenacaoCliente.DATA_CADASTRO_DESC);
+
+		assertEquals("665f1c2e8b3e4a1d2c3b4a5f", posicao.getId());
+		assertEquals(LocalDateTime.of(2025, 3, 1, 8, 30, 15), posicao.getDataCadastro());
+	}
+
+	@Test
+	@DisplayName("Deve retornar nulo para cliente ou cursor nulos")
+	void deveRetornarNuloParaClienteOuCursorNulos() {
+		assertNull(ClienteCursorMapper.toCursor(null, OrdenacaoCliente.ID));
+		assertNull(ClienteCursorMapper.toPosicao(null, OrdenacaoCliente.ID));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar cursor malformado")
+	void deveRejeitarCursorMalformado() {
+		assertThrows(InvalidClienteException.class,
+				() -> ClienteCursorMapper.toPosicao("%%%nao-base64%%%", OrdenacaoCliente.ID));
+		assertThrows(InvalidClienteException.class,
+				() -> ClienteCursorMapper.toPosicao("YWJj", OrdenacaoCliente.ID));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar cursor de outra ordenação")
+	void deveRejeitarCursorDeOutraOrdenacao() {
+		Cliente cliente = new Cliente();
+		cliente.setId("665f1c2e8b3e4a1d2c3b4a5f");
+
+		String cursor = ClienteCursorMapper.toCursor(cliente, OrdenacaoCliente.ID);
+
+		assertThrows(InvalidClienteException.class,
+				() -> ClienteCursorMapper.toPosicao(cursor, OrdenacaoCliente.DATA_CADASTRO_ASC));
+	}
+
+	@Test
+	@DisplayName("Deve gerar e interpretar cursor da busca textual")
+	void deveGerarEInterpretarCursorDaBusca() {
+		String cursor = ClienteCursorMapper.toCursorBusca(1.75, "665f1c2e8b3e4a1d2c3b4a5f");
+		ClienteCursorMapper.PosicaoBusca posicao = ClienteCursorMapper.toPosicaoBusca(cursor);
+
+		assertEquals(1.75, posicao.getPontuacao());
+		assertEquals("665f1c2e8b3e4a1d2c3b4a5f", posicao.getId());
+		assertNull(ClienteCursorMapper.toPosicaoBusca(null));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar cursor de listagem na busca textual e vice-versa")
+	void deveRejeitarCursorTrocadoEntreBuscaEListagem() {
+		Cliente cliente = new Cliente();
+		cliente.setId("665f1c2e8b3e4a1d2c3b4a5f");
+		String cursorListagem = ClienteCursorMapper.toCursor(cliente, OrdenacaoCliente.ID);
+		String cursorBusca = ClienteCursorMapper.toCursorBusca(1.0, "665f1c2e8b3e4a1d2c3b4a5f");
+
+		assertThrows(InvalidClienteException.class, () -> ClienteCursorMapper.toPosicaoBusca(cursorListagem));
+		assertThrows(InvalidClienteException.class, () -> ClienteCursorMapper.toPosicao(cursorBusca, OrdenacaoCliente.ID));
+		assertThrows(InvalidClienteException.class, () -> ClienteCursorMapper.toPosicaoBusca("%%%nao-base64%%%"));
+	}
+}
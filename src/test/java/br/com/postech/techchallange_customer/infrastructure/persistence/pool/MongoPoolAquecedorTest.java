@@ -0,0 +1,52 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.pool;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MongoPoolAquecedor - Testes Unitários")
+class MongoPoolAquecedorTest {
+
+	@Test
+	@DisplayName("Deve aguardar o mínimo de conexões com o limite configurado")
+	void deveAguardarMinimoComLimiteConfigurado() throws Exception {
+		MongoPoolConexoes conexoes = mock(MongoPoolConexoes.class);
+		when(conexoes.aguardarMinimo(anyInt(), any(Duration.class))).thenReturn(true);
+		MongoPoolAquecedor aquecedor = new MongoPoolAquecedor(conexoes, 10, Duration.ofSeconds(3));
+
+		aquecedor.start();
+
+		verify(conexoes).aguardarMinimo(10, Duration.ofSeconds(3));
+		assertTrue(aquecedor.isRunning());
+	}
+
+	@Test
+	@DisplayName("Deve concluir a inicialização quando o limite de espera acaba")
+	void deveConcluirInicializacaoQuandoLimiteAcaba() {
+		MongoPoolAquecedor aquecedor = new MongoPoolAquecedor(new MongoPoolConexoes(), 5, Duration.ofMillis(20));
+
+		aquecedor.start();
+		aquecedor.stop();
+
+		assertFalse(aquecedor.isRunning());
+	}
+
+	@Test
+	@DisplayName("Não deve aguardar quando o pool não tem mínimo de conexões")
+	void naoDeveAguardarSemMinimoDeConexoes() {
+		MongoPoolConexoes conexoes = mock(MongoPoolConexoes.class);
+
+		new MongoPoolAquecedor(conexoes, 0, Duration.ofSeconds(3)).start();
+
+		verifyNoInteractions(conexoes);
+	}
+}
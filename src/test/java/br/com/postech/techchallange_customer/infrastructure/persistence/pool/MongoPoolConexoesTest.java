@@ -0,0 +1,122 @@
+package br.com.postech.techchallange_customer.infrastructure.persistence.pool;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+
+@DisplayName("MongoPoolConexoes - Testes Unitários")
+class MongoPoolConexoesTest {
+
+	private MongoPoolConexoes conexoes;
+	private ServerId primario;
+	private ServerId secundario;
+
+	@BeforeEach
+	void setUp() {
+		conexoes = new MongoPoolConexoes();
+		ClusterId cluster = new ClusterId();
+		primario = new ServerId(cluster, new ServerAddress("mongo-0", 27017));
+		secundario = new ServerId(cluster, new ServerAddress("mongo-1", 27017));
+	}
+
+	@Test
+	@DisplayName("Deve contar conexões abertas e fechadas por servidor")
+	void deveContarConexoesAbertasEFechadasPorServidor() {
+		criarPool(primario);
+		criarPool(secundario);
+		abrir(primario, 3);
+		abrir(secundario, 1);
+		conexoes.connectionClosed(new ConnectionClosedEvent(new ConnectionId(primario), ConnectionClosedEvent.Reason.IDLE));
+
+		assertEquals(Map.of("mongo-0:27017", 2, "mongo-1:27017", 1), conexoes.getAbertas());
+	}
+
+	@Test
+	@DisplayName("Deve somar no mesmo endereço as conexões de clientes diferentes")
+	void deveSomarConexoesDeClientesDiferentesNoMesmoEndereco() {
+		ServerId reativo = new ServerId(new ClusterId(), new ServerAddress("mongo-0", 27017));
+		abrir(primario, 2);
+		abrir(reativo, 2);
+
+		assertEquals(Map.of("mongo-0:27017", 4), conexoes.getAbertas());
+	}
+
+	@Test
+	@DisplayName("Deve esquecer o servidor quando o pool é fechado")
+	void deveEsquecerServidorQuandoPoolEFechado() {
+		abrir(primario, 2);
+
+		conexoes.connectionPoolClosed(new ConnectionPoolClosedEvent(primario));
+
+		assertTrue(conexoes.getAbertas().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve liberar a espera quando todos os pools atingem o mínimo")
+	void deveLiberarEsperaQuandoTodosOsPoolsAtingemMinimo() throws Exception {
+		criarPool(primario);
+		criarPool(secundario);
+		abrir(primario, 2);
+
+		CompletableFuture<Boolean> espera = CompletableFuture.supplyAsync(() -> aguardar(2, Duration.ofSeconds(5)));
+		abrir(secundario, 2);
+
+		assertTrue(espera.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("Deve desistir da espera quando um pool não atinge o mínimo no limite")
+	void deveDesistirDaEsperaQuandoPoolNaoAtingeMinimo() throws Exception {
+		criarPool(primario);
+		criarPool(secundario);
+		abrir(primario, 2);
+		abrir(secundario, 1);
+
+		assertFalse(conexoes.aguardarMinimo(2, Duration.ofMillis(50)));
+	}
+
+	@Test
+	@DisplayName("Deve aguardar enquanto nenhum pool foi criado")
+	void deveAguardarEnquantoNenhumPoolFoiCriado() throws Exception {
+		assertFalse(conexoes.aguardarMinimo(0, Duration.ofMillis(20)));
+	}
+
+	// Funções auxiliares
+
+	private void criarPool(ServerId servidor) {
+		conexoes.connectionPoolCreated(new ConnectionPoolCreatedEvent(servidor, ConnectionPoolSettings.builder().build()));
+	}
+
+	private void abrir(ServerId servidor, int quantidade) {
+		for (int i = 0; i < quantidade; i++) {
+			conexoes.connectionCreated(new ConnectionCreatedEvent(new ConnectionId(servidor)));
+		}
+	}
+
+	private boolean aguardar(int minimo, Duration limite) {
+		try {
+			return conexoes.aguardarMinimo(minimo, limite);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -1,41 +1,92 @@
 package br.com.postech.techchallange_customer.infrastructure.rest.adapter;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import br.com.postech.techchallange_customer.application.dto.AlteracaoEmMassaDTO;
 import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
 import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
 import br.com.postech.techchallange_customer.application.dto.MetadataDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoAlteracaoEmMassaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoLoteDTO;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.AlteracaoEmMassa;
 import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
 import br.com.postech.techchallange_customer.domain.entity.Endereco;
 import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.entity.OrdenacaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.entity.TipoAlteracaoEmMassa;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClientesEmMassaUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.AtualizarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.AutocompletarClienteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.BuscarClienteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.CriarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.CriarClientesEmLoteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.DeletarClienteUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.DesativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ExportarClientesUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.ListarClientesUseCase;
 import br.com.postech.techchallange_customer.domain.port.in.ReativarClienteUseCase;
+import br.com.postech.techchallange_customer.infrastructure.config.CacheHttpProperties;
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJson;
+import br.com.postech.techchallange_customer.infrastructure.persistence.json.ClienteJsonReader;
+import br.com.postech.techchallange_customer.infrastructure.rest.cache.ValidadoresHttp;
+import br.com.postech.techchallange_customer.infrastructure.rest.export.ClienteExportWriter;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes Unitários - ClienteRestAdapter")
@@ -44,6 +95,9 @@ class ClienteRestAdapterTest {
 	@Mock
 	private CriarClienteUseCase criarClienteUseCase;
 
+	@Mock
+	private CriarClientesEmLoteUseCase criarClientesEmLoteUseCase;
+
 	@Mock
 	private BuscarClienteUseCase buscarClienteUseCase;
 
@@ -53,6 +107,9 @@ class ClienteRestAdapterTest {
 	@Mock
 	private AtualizarClienteUseCase atualizarClienteUseCase;
 
+	@Mock
+	private AlterarClienteUseCase alterarClienteUseCase;
+
 	@Mock
 	private DesativarClienteUseCase desativarClienteUseCase;
 
@@ -62,6 +119,30 @@ class ClienteRestAdapterTest {
 	@Mock
 	private DeletarClienteUseCase deletarClienteUseCase;
 
+	@Mock
+	private ExportarClientesUseCase exportarClientesUseCase;
+
+	@Mock
+	private AlterarClientesEmMassaUseCase alterarClientesEmMassaUseCase;
+
+	@Mock
+	private AutocompletarClienteUseCase autocompletarClienteUseCase;
+
+	@Spy
+	private ClienteExportWriter exportWriter = new ClienteExportWriter(JsonMapper.builder().findAndAddModules().build());
+
+	@Spy
+	private ValidadoresHttp validadoresHttp = new ValidadoresHttp(new CacheHttpProperties());
+
+	@Mock
+	private ObjectProvider<ClienteJsonReader> clienteJsonReaderProvider;
+
+	@Spy
+	private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+	@Mock
+	private ClienteJsonReader clienteJsonReader;
+
 	@InjectMocks
 	private ClienteRestAdapter adapter;
 
@@ -71,9 +152,12 @@ class ClienteRestAdapterTest {
 	private EnderecoDTO enderecoDTO;
 	private Metadata metadata;
 	private MetadataDTO metadataDTO;
+	private HttpHeaders cabecalhos;
 
 	@BeforeEach
 	void setUp() {
+		cabecalhos = new HttpHeaders();
+
 		// Setup Endereco
 		endereco = new Endereco();
 		endereco.setRua("Rua Teste");
@@ -207,53 +291,53 @@ class ClienteRestAdapterTest {
 	@Test
 	@DisplayName("Deve buscar cliente por ID com sucesso e retornar 200")
 	void deveBuscarClientePorIdComSucesso() {
-		when(buscarClienteUseCase.porClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(buscarClienteUseCase.porClienteId("cliente-uuid-123", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorId("cliente-uuid-123");
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-uuid-123", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals("João Silva", response.getBody().getNomeCliente());
-		verify(buscarClienteUseCase).porClienteId("cliente-uuid-123");
+		assertEquals("João Silva", ((ClienteDTO) response.getBody()).getNomeCliente());
+		verify(buscarClienteUseCase).porClienteId("cliente-uuid-123", ProjecaoCliente.completa());
 	}
 
 	@Test
 	@DisplayName("Deve retornar 404 quando cliente não encontrado por ID")
 	void deveRetornar404QuandoClienteNaoEncontradoPorId() {
-		when(buscarClienteUseCase.porClienteId("cliente-inexistente")).thenReturn(Optional.empty());
+		when(buscarClienteUseCase.porClienteId("cliente-inexistente", ProjecaoCliente.completa())).thenReturn(Optional.empty());
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorId("cliente-inexistente");
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-inexistente", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-		verify(buscarClienteUseCase).porClienteId("cliente-inexistente");
+		verify(buscarClienteUseCase).porClienteId("cliente-inexistente", ProjecaoCliente.completa());
 	}
 
 	@Test
 	@DisplayName("Deve buscar cliente por ID sem endereco")
 	void deveBuscarClientePorIdSemEndereco() {
 		cliente.setEndereco(null);
-		when(buscarClienteUseCase.porClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(buscarClienteUseCase.porClienteId("cliente-uuid-123", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorId("cliente-uuid-123");
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-uuid-123", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		verify(buscarClienteUseCase).porClienteId("cliente-uuid-123");
+		verify(buscarClienteUseCase).porClienteId("cliente-uuid-123", ProjecaoCliente.completa());
 	}
 
 	@Test
 	@DisplayName("Deve buscar cliente por ID sem metadata")
 	void deveBuscarClientePorIdSemMetadata() {
 		cliente.setMetadata(null);
-		when(buscarClienteUseCase.porClienteId("cliente-uuid-123")).thenReturn(Optional.of(cliente));
+		when(buscarClienteUseCase.porClienteId("cliente-uuid-123", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorId("cliente-uuid-123");
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-uuid-123", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		verify(buscarClienteUseCase).porClienteId("cliente-uuid-123");
+		verify(buscarClienteUseCase).porClienteId("cliente-uuid-123", ProjecaoCliente.completa());
 	}
 
 	// ==================== Testes do método buscarPorCpf ====================
@@ -261,41 +345,41 @@ class ClienteRestAdapterTest {
 	@Test
 	@DisplayName("Deve buscar cliente por CPF com sucesso e retornar 200")
 	void deveBuscarClientePorCpfComSucesso() {
-		when(buscarClienteUseCase.porCpf("12345678901")).thenReturn(Optional.of(cliente));
+		when(buscarClienteUseCase.porCpf("12345678901", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorCpf("12345678901");
+		ResponseEntity<?> response = adapter.buscarPorCpf("12345678901", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals("12345678901", response.getBody().getCpfCliente());
-		verify(buscarClienteUseCase).porCpf("12345678901");
+		assertEquals("12345678901", ((ClienteDTO) response.getBody()).getCpfCliente());
+		verify(buscarClienteUseCase).porCpf("12345678901", ProjecaoCliente.completa());
 	}
 
 	@Test
 	@DisplayName("Deve retornar 404 quando cliente não encontrado por CPF")
 	void deveRetornar404QuandoClienteNaoEncontradoPorCpf() {
-		when(buscarClienteUseCase.porCpf("99999999999")).thenReturn(Optional.empty());
+		when(buscarClienteUseCase.porCpf("99999999999", ProjecaoCliente.completa())).thenReturn(Optional.empty());
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorCpf("99999999999");
+		ResponseEntity<?> response = adapter.buscarPorCpf("99999999999", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-		verify(buscarClienteUseCase).porCpf("99999999999");
+		verify(buscarClienteUseCase).porCpf("99999999999", ProjecaoCliente.completa());
 	}
 
 	@Test
 	@DisplayName("Deve buscar cliente por CPF com endereco completo")
 	void deveBuscarClientePorCpfComEnderecoCompleto() {
-		when(buscarClienteUseCase.porCpf("12345678901")).thenReturn(Optional.of(cliente));
+		when(buscarClienteUseCase.porCpf("12345678901", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorCpf("12345678901");
+		ResponseEntity<?> response = adapter.buscarPorCpf("12345678901", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertNotNull(response.getBody().getEndereco());
-		assertEquals("São Paulo", response.getBody().getEndereco().getCidade());
-		verify(buscarClienteUseCase).porCpf("12345678901");
+		assertNotNull(((ClienteDTO) response.getBody()).getEndereco());
+		assertEquals("São Paulo", ((ClienteDTO) response.getBody()).getEndereco().getCidade());
+		verify(buscarClienteUseCase).porCpf("12345678901", ProjecaoCliente.completa());
 	}
 
 	// ==================== Testes do método buscarPorEmail ====================
@@ -303,41 +387,41 @@ class ClienteRestAdapterTest {
 	@Test
 	@DisplayName("Deve buscar cliente por email com sucesso e retornar 200")
 	void deveBuscarClientePorEmailComSucesso() {
-		when(buscarClienteUseCase.porEmail("joao@example.com")).thenReturn(Optional.of(cliente));
+		when(buscarClienteUseCase.porEmail("joao@example.com", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorEmail("joao@example.com");
+		ResponseEntity<?> response = adapter.buscarPorEmail("joao@example.com", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals("joao@example.com", response.getBody().getEmailCliente());
-		verify(buscarClienteUseCase).porEmail("joao@example.com");
+		assertEquals("joao@example.com", ((ClienteDTO) response.getBody()).getEmailCliente());
+		verify(buscarClienteUseCase).porEmail("joao@example.com", ProjecaoCliente.completa());
 	}
 
 	@Test
 	@DisplayName("Deve retornar 404 quando cliente não encontrado por email")
 	void deveRetornar404QuandoClienteNaoEncontradoPorEmail() {
-		when(buscarClienteUseCase.porEmail("inexistente@example.com")).thenReturn(Optional.empty());
+		when(buscarClienteUseCase.porEmail("inexistente@example.com", ProjecaoCliente.completa())).thenReturn(Optional.empty());
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorEmail("inexistente@example.com");
+		ResponseEntity<?> response = adapter.buscarPorEmail("inexistente@example.com", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-		verify(buscarClienteUseCase).porEmail("inexistente@example.com");
+		verify(buscarClienteUseCase).porEmail("inexistente@example.com", ProjecaoCliente.completa());
 	}
 
 	@Test
 	@DisplayName("Deve buscar cliente por email com metadata completa")
 	void deveBuscarClientePorEmailComMetadataCompleta() {
-		when(buscarClienteUseCase.porEmail("joao@example.com")).thenReturn(Optional.of(cliente));
+		when(buscarClienteUseCase.porEmail("joao@example.com", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
 
-		ResponseEntity<ClienteDTO> response = adapter.buscarPorEmail("joao@example.com");
+		ResponseEntity<?> response = adapter.buscarPorEmail("joao@example.com", null, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertNotNull(response.getBody().getMetadata());
-		assertEquals("Web", response.getBody().getMetadata().getOrigem());
-		verify(buscarClienteUseCase).porEmail("joao@example.com");
+		assertNotNull(((ClienteDTO) response.getBody()).getMetadata());
+		assertEquals("Web", ((ClienteDTO) response.getBody()).getMetadata().getOrigem());
+		verify(buscarClienteUseCase).porEmail("joao@example.com", ProjecaoCliente.completa());
 	}
 
 	// ==================== Testes do método listarAtivos ====================
@@ -351,45 +435,45 @@ class ClienteRestAdapterTest {
 		cliente2.setEmailCliente("maria@example.com");
 		cliente2.setCpfCliente("98765432100");
 
-		when(listarClientesUseCase.ativos()).thenReturn(Arrays.asList(cliente, cliente2));
+		when(listarClientesUseCase.ativos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Arrays.asList(cliente, cliente2), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.listarAtivos();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarAtivos(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals(2, response.getBody().size());
-		assertEquals("João Silva", response.getBody().get(0).getNomeCliente());
-		assertEquals("Maria Santos", response.getBody().get(1).getNomeCliente());
-		verify(listarClientesUseCase).ativos();
+		assertEquals(2, response.getBody().getItens().size());
+		assertEquals("João Silva", response.getBody().getItens().get(0).getNomeCliente());
+		assertEquals("Maria Santos", response.getBody().getItens().get(1).getNomeCliente());
+		verify(listarClientesUseCase).ativos(any(ConsultaPaginada.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar lista vazia quando não há clientes ativos")
 	void deveRetornarListaVaziaQuandoNaoHaClientesAtivos() {
-		when(listarClientesUseCase.ativos()).thenReturn(Collections.emptyList());
+		when(listarClientesUseCase.ativos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Collections.emptyList(), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.listarAtivos();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarAtivos(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertTrue(response.getBody().isEmpty());
-		verify(listarClientesUseCase).ativos();
+		assertTrue(response.getBody().getItens().isEmpty());
+		verify(listarClientesUseCase).ativos(any(ConsultaPaginada.class));
 	}
 
 	@Test
 	@DisplayName("Deve listar um único cliente ativo")
 	void deveListarUmUnicoClienteAtivo() {
-		when(listarClientesUseCase.ativos()).thenReturn(Collections.singletonList(cliente));
+		when(listarClientesUseCase.ativos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Collections.singletonList(cliente), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.listarAtivos();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarAtivos(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals(1, response.getBody().size());
-		verify(listarClientesUseCase).ativos();
+		assertEquals(1, response.getBody().getItens().size());
+		verify(listarClientesUseCase).ativos(any(ConsultaPaginada.class));
 	}
 
 	// ==================== Testes do método listarTodos ====================
@@ -411,29 +495,29 @@ class ClienteRestAdapterTest {
 		cliente3.setCpfCliente("11111111111");
 		cliente3.setAtivo(true);
 
-		when(listarClientesUseCase.todos()).thenReturn(Arrays.asList(cliente, cliente2, cliente3));
+		when(listarClientesUseCase.todos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Arrays.asList(cliente, cliente2, cliente3), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.listarTodos();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarTodos(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals(3, response.getBody().size());
-		verify(listarClientesUseCase).todos();
+		assertEquals(3, response.getBody().getItens().size());
+		verify(listarClientesUseCase).todos(any(ConsultaPaginada.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar lista vazia quando não há clientes cadastrados")
 	void deveRetornarListaVaziaQuandoNaoHaClientes() {
-		when(listarClientesUseCase.todos()).thenReturn(Collections.emptyList());
+		when(listarClientesUseCase.todos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Collections.emptyList(), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.listarTodos();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarTodos(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertTrue(response.getBody().isEmpty());
-		verify(listarClientesUseCase).todos();
+		assertTrue(response.getBody().getItens().isEmpty());
+		verify(listarClientesUseCase).todos(any(ConsultaPaginada.class));
 	}
 
 	@Test
@@ -449,14 +533,136 @@ class ClienteRestAdapterTest {
 		clienteInativo.setNomeCliente("Cliente Inativo");
 		clienteInativo.setAtivo(false);
 
-		when(listarClientesUseCase.todos()).thenReturn(Arrays.asList(clienteAtivo, clienteInativo));
+		when(listarClientesUseCase.todos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Arrays.asList(clienteAtivo, clienteInativo), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.listarTodos();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarTodos(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(2, response.getBody().size());
-		verify(listarClientesUseCase).todos();
+		assertEquals(2, response.getBody().getItens().size());
+		verify(listarClientesUseCase).todos(any(ConsultaPaginada.class));
+	}
+
+	@Test
+	@DisplayName("Deve repassar limite, cursor e ordenação para o caso de uso")
+	void deveRepassarLimiteCursorEOrdenacaoParaCasoDeUso() {
+		ArgumentCaptor<ConsultaPaginada> captor = ArgumentCaptor.forClass(ConsultaPaginada.class);
+		when(listarClientesUseCase.todos(any(ConsultaPaginada.class)))
+				.thenReturn(new Pagina<>(Collections.singletonList(cliente), "cursor-proximo"));
+
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarTodos(10, "cursor-atual", "-dataCadastro", null);
+
+		verify(listarClientesUseCase).todos(captor.capture());
+		assertEquals(10, captor.getValue().getLimite());
+		assertEquals("cursor-atual", captor.getValue().getCursor());
+		assertEquals(OrdenacaoCliente.DATA_CADASTRO_DESC, captor.getValue().getOrdenacao());
+		assertEquals("cursor-proximo", response.getBody().getProximoCursor());
+		assertTrue(response.getBody().isTemProxima());
+	}
+
+	@Test
+	@DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+	void deveLimitarTamanhoDaPaginaAoMaximoPermitido() {
+		ArgumentCaptor<ConsultaPaginada> captor = ArgumentCaptor.forClass(ConsultaPaginada.class);
+		when(listarClientesUseCase.ativos(any(ConsultaPaginada.class))).thenReturn(Pagina.vazia());
+
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarAtivos(5000, null, null, null);
+
+		verify(listarClientesUseCase).ativos(captor.capture());
+		assertEquals(ConsultaPaginada.LIMITE_MAXIMO, captor.getValue().getLimite());
+		assertFalse(response.getBody().isTemProxima());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar ordenação desconhecida")
+	void deveRejeitarOrdenacaoDesconhecida() {
+		assertThrows(InvalidClienteException.class, () -> adapter.listarTodos(null, null, "nomeCliente", null));
+	}
+
+	@Test
+	@DisplayName("Deve repassar a projeção da listagem e devolver apenas os campos pedidos")
+	void deveRepassarProjecaoDaListagem() {
+		ArgumentCaptor<ConsultaPaginada> captor = ArgumentCaptor.forClass(ConsultaPaginada.class);
+		when(listarClientesUseCase.ativos(any(ConsultaPaginada.class)))
+				.thenReturn(new Pagina<>(Collections.singletonList(cliente), null));
+
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.listarAtivos(null, null, null, "clienteId,ativo");
+
+		verify(listarClientesUseCase).ativos(captor.capture());
+		assertTrue(captor.getValue().getProjecao().inclui("ativo"));
+		assertFalse(captor.getValue().getProjecao().inclui("nomeCliente"));
+		ClienteDTO item = response.getBody().getItens().get(0);
+		assertEquals("cliente-uuid-123", item.getClienteId());
+		assertNull(item.getNomeCliente());
+		assertNull(item.getEndereco());
+	}
+
+	@Test
+	@DisplayName("Deve buscar cliente por ID com projeção")
+	void deveBuscarClientePorIdComProjecao() {
+		ArgumentCaptor<ProjecaoCliente> captor = ArgumentCaptor.forClass(ProjecaoCliente.class);
+		when(buscarClienteUseCase.porClienteId(eq("cliente-uuid-123"), captor.capture()))
+				.thenReturn(Optional.of(cliente));
+
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-uuid-123", "nomeCliente", cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("João Silva", ((ClienteDTO) response.getBody()).getNomeCliente());
+		assertNull(((ClienteDTO) response.getBody()).getCpfCliente());
+		assertTrue(captor.getValue().inclui("nomeCliente"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar campo desconhecido em fields")
+	void deveRejeitarCampoDesconhecidoEmFields() {
+		assertThrows(InvalidClienteException.class, () -> adapter.buscarPorCpf("12345678901", "senha", cabecalhos));
+		assertThrows(InvalidClienteException.class, () -> adapter.listarTodos(null, null, null, "senha"));
+	}
+
+	// ==================== Testes do método exportar ====================
+
+	@Test
+	@DisplayName("Deve exportar clientes em NDJSON com filtros")
+	@SuppressWarnings("unchecked")
+	void deveExportarClientesEmNdjsonComFiltros() throws Exception {
+		ArgumentCaptor<FiltroCliente> captor = ArgumentCaptor.forClass(FiltroCliente.class);
+		when(exportarClientesUseCase.execute(captor.capture(), any(Consumer.class))).thenAnswer(invocation -> {
+			Consumer<Cliente> consumidor = invocation.getArgument(1);
+			consumidor.accept(cliente);
+			return 1L;
+		});
+
+		ResponseEntity<StreamingResponseBody> response = adapter.exportar(null, true, "São Paulo", null, "vip");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.getBody().writeTo(out);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+		assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("clientes.ndjson"));
+		assertTrue(out.toString(StandardCharsets.UTF_8).contains("\"clienteId\":\"cliente-uuid-123\""));
+		assertEquals(Boolean.TRUE, captor.getValue().getAtivo());
+		assertEquals("São Paulo", captor.getValue().getCidade());
+		assertEquals("vip", captor.getValue().getTag());
+	}
+
+	@Test
+	@DisplayName("Deve exportar clientes em CSV")
+	@SuppressWarnings("unchecked")
+	void deveExportarClientesEmCsv() throws Exception {
+		when(exportarClientesUseCase.execute(any(FiltroCliente.class), any(Consumer.class))).thenReturn(0L);
+
+		ResponseEntity<StreamingResponseBody> response = adapter.exportar("csv", null, null, null, null);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		response.getBody().writeTo(out);
+
+		assertEquals("text/csv;charset=UTF-8", response.getHeaders().getContentType().toString());
+		assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("clienteId,"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar formato de exportação desconhecido")
+	void deveRejeitarFormatoDeExportacaoDesconhecido() {
+		assertThrows(InvalidClienteException.class, () -> adapter.exportar("xml", null, null, null, null));
 	}
 
 	// ==================== Testes do método atualizar ====================
@@ -464,15 +670,15 @@ class ClienteRestAdapterTest {
 	@Test
 	@DisplayName("Deve atualizar cliente com sucesso e retornar 200")
 	void deveAtualizarClienteComSucesso() {
-		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class))).thenReturn(cliente);
+		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class), isNull())).thenReturn(cliente);
 
-		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO);
+		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
 		assertEquals("João Silva", response.getBody().getNomeCliente());
-		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class));
+		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class), isNull());
 	}
 
 	@Test
@@ -481,14 +687,14 @@ class ClienteRestAdapterTest {
 		cliente.setNomeCliente("João Silva Atualizado");
 		clienteDTO.setNomeCliente("João Silva Atualizado");
 
-		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class))).thenReturn(cliente);
+		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class), isNull())).thenReturn(cliente);
 
-		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO);
+		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertEquals("João Silva Atualizado", response.getBody().getNomeCliente());
-		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class));
+		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class), isNull());
 	}
 
 	@Test
@@ -497,14 +703,14 @@ class ClienteRestAdapterTest {
 		endereco.setCidade("Rio de Janeiro");
 		enderecoDTO.setCidade("Rio de Janeiro");
 
-		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class))).thenReturn(cliente);
+		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class), isNull())).thenReturn(cliente);
 
-		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO);
+		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertEquals("Rio de Janeiro", response.getBody().getEndereco().getCidade());
-		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class));
+		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class), isNull());
 	}
 
 	@Test
@@ -513,27 +719,94 @@ class ClienteRestAdapterTest {
 		cliente.setEndereco(null);
 		clienteDTO.setEndereco(null);
 
-		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class))).thenReturn(cliente);
+		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class), isNull())).thenReturn(cliente);
 
-		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO);
+		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class));
+		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class), isNull());
 	}
 
 	@Test
 	@DisplayName("Deve atualizar cliente com todos os campos")
 	void deveAtualizarClienteComTodosCampos() {
-		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class))).thenReturn(cliente);
+		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class), isNull())).thenReturn(cliente);
 
-		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO);
+		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO, cabecalhos);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody().getEndereco());
 		assertNotNull(response.getBody().getMetadata());
-		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class));
+		verify(atualizarClienteUseCase).execute(eq("cliente-uuid-123"), any(Cliente.class), isNull());
+	}
+
+	@Test
+	@DisplayName("Deve repassar a versão do If-Match na atualização e devolver a nova ETag")
+	void deveRepassarVersaoDoIfMatchNaAtualizacao() {
+		cabecalhos.setIfMatch("\"cliente-uuid-123-1\"");
+		cliente.setVersao(2);
+		when(atualizarClienteUseCase.execute(eq("cliente-uuid-123"), any(Cliente.class), eq(1))).thenReturn(cliente);
+
+		ResponseEntity<ClienteDTO> response = adapter.atualizar("cliente-uuid-123", clienteDTO, cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("\"cliente-uuid-123-2\"", response.getHeaders().getETag());
+	}
+
+	// ==================== Testes do método alterar (merge patch) ====================
+
+	@Test
+	@DisplayName("Deve converter o merge patch e devolver o cliente alterado com a nova ETag")
+	void deveAlterarClienteComMergePatch() throws Exception {
+		cliente.setTelefone("11888888888");
+		cliente.setVersao(2);
+		when(alterarClienteUseCase.execute(eq("cliente-uuid-123"), any(AlteracaoCliente.class), isNull()))
+				.thenReturn(cliente);
+
+		ResponseEntity<ClienteDTO> response = adapter.alterar("cliente-uuid-123",
+				patch("{\"telefone\":\"11888888888\",\"endereco\":{\"complemento\":null}}"), cabecalhos);
+
+		ArgumentCaptor<AlteracaoCliente> captor = ArgumentCaptor.forClass(AlteracaoCliente.class);
+		verify(alterarClienteUseCase).execute(eq("cliente-uuid-123"), captor.capture(), isNull());
+		assertEquals("11888888888", captor.getValue().getValores().get("telefone"));
+		assertTrue(captor.getValue().getValores().containsKey("endereco.complemento"));
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("11888888888", response.getBody().getTelefone());
+		assertEquals("\"cliente-uuid-123-2\"", response.getHeaders().getETag());
+	}
+
+	@Test
+	@DisplayName("Deve repassar a versão do If-Match no merge patch")
+	void deveRepassarVersaoDoIfMatchNoMergePatch() throws Exception {
+		cabecalhos.setIfMatch("\"cliente-uuid-123-1\"");
+		when(alterarClienteUseCase.execute(eq("cliente-uuid-123"), any(AlteracaoCliente.class), eq(1)))
+				.thenReturn(cliente);
+
+		ResponseEntity<ClienteDTO> response = adapter.alterar("cliente-uuid-123", patch("{\"telefone\":null}"),
+				cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar If-Match de outro cliente sem chamar o caso de uso")
+	void deveRejeitarIfMatchDeOutroCliente() throws Exception {
+		cabecalhos.setIfMatch("\"outro-cliente-1\"");
+		JsonNode patch = patch("{\"telefone\":null}");
+
+		assertThrows(VersaoDivergenteException.class, () -> adapter.alterar("cliente-uuid-123", patch, cabecalhos));
+		verify(alterarClienteUseCase, never()).execute(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar merge patch com campo não alterável sem chamar o caso de uso")
+	void deveRejeitarMergePatchComCampoNaoAlteravel() throws Exception {
+		JsonNode patch = patch("{\"cpfCliente\":\"98765432100\"}");
+
+		assertThrows(InvalidClienteException.class, () -> adapter.alterar("cliente-uuid-123", patch, cabecalhos));
+		verify(alterarClienteUseCase, never()).execute(any(), any(), any());
 	}
 
 	// ==================== Testes do método desativar ====================
@@ -647,29 +920,29 @@ class ClienteRestAdapterTest {
 		endereco2.setCidade("São Paulo");
 		cliente2.setEndereco(endereco2);
 
-		when(listarClientesUseCase.porCidade("São Paulo")).thenReturn(Arrays.asList(cliente, cliente2));
+		when(listarClientesUseCase.porCidade(eq("São Paulo"), any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Arrays.asList(cliente, cliente2), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.buscarPorCidade("São Paulo");
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.buscarPorCidade("São Paulo", null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals(2, response.getBody().size());
-		verify(listarClientesUseCase).porCidade("São Paulo");
+		assertEquals(2, response.getBody().getItens().size());
+		verify(listarClientesUseCase).porCidade(eq("São Paulo"), any(ConsultaPaginada.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar lista vazia quando não há clientes na cidade")
 	void deveRetornarListaVaziaQuandoNaoHaClientesNaCidade() {
-		when(listarClientesUseCase.porCidade("Cidade Inexistente")).thenReturn(Collections.emptyList());
+		when(listarClientesUseCase.porCidade(eq("Cidade Inexistente"), any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Collections.emptyList(), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.buscarPorCidade("Cidade Inexistente");
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.buscarPorCidade("Cidade Inexistente", null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertTrue(response.getBody().isEmpty());
-		verify(listarClientesUseCase).porCidade("Cidade Inexistente");
+		assertTrue(response.getBody().getItens().isEmpty());
+		verify(listarClientesUseCase).porCidade(eq("Cidade Inexistente"), any(ConsultaPaginada.class));
 	}
 
 	@Test
@@ -682,14 +955,14 @@ class ClienteRestAdapterTest {
 		enderecoRio.setCidade("Rio de Janeiro");
 		clienteRio.setEndereco(enderecoRio);
 
-		when(listarClientesUseCase.porCidade("Rio de Janeiro")).thenReturn(Collections.singletonList(clienteRio));
+		when(listarClientesUseCase.porCidade(eq("Rio de Janeiro"), any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Collections.singletonList(clienteRio), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.buscarPorCidade("Rio de Janeiro");
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.buscarPorCidade("Rio de Janeiro", null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(1, response.getBody().size());
-		verify(listarClientesUseCase).porCidade("Rio de Janeiro");
+		assertEquals(1, response.getBody().getItens().size());
+		verify(listarClientesUseCase).porCidade(eq("Rio de Janeiro"), any(ConsultaPaginada.class));
 	}
 
 	// ==================== Testes do método buscarClientesVip ====================
@@ -704,42 +977,73 @@ class ClienteRestAdapterTest {
 		metadataVip2.setTags(Arrays.asList("VIP"));
 		clienteVip2.setMetadata(metadataVip2);
 
-		when(listarClientesUseCase.vipAtivos()).thenReturn(Arrays.asList(cliente, clienteVip2));
+		when(listarClientesUseCase.vipAtivos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Arrays.asList(cliente, clienteVip2), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.buscarClientesVip();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.buscarClientesVip(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertEquals(2, response.getBody().size());
-		verify(listarClientesUseCase).vipAtivos();
+		assertEquals(2, response.getBody().getItens().size());
+		verify(listarClientesUseCase).vipAtivos(any(ConsultaPaginada.class));
 	}
 
 	@Test
 	@DisplayName("Deve retornar lista vazia quando não há clientes VIP")
 	void deveRetornarListaVaziaQuandoNaoHaClientesVip() {
-		when(listarClientesUseCase.vipAtivos()).thenReturn(Collections.emptyList());
+		when(listarClientesUseCase.vipAtivos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Collections.emptyList(), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.buscarClientesVip();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.buscarClientesVip(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertNotNull(response.getBody());
-		assertTrue(response.getBody().isEmpty());
-		verify(listarClientesUseCase).vipAtivos();
+		assertTrue(response.getBody().getItens().isEmpty());
+		verify(listarClientesUseCase).vipAtivos(any(ConsultaPaginada.class));
 	}
 
 	@Test
 	@DisplayName("Deve buscar apenas um cliente VIP")
 	void deveBuscarApenasUmClienteVip() {
-		when(listarClientesUseCase.vipAtivos()).thenReturn(Collections.singletonList(cliente));
+		when(listarClientesUseCase.vipAtivos(any(ConsultaPaginada.class))).thenReturn(new Pagina<>(Collections.singletonList(cliente), null));
 
-		ResponseEntity<List<ClienteDTO>> response = adapter.buscarClientesVip();
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.buscarClientesVip(null, null, null, null);
 
 		assertNotNull(response);
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals(1, response.getBody().size());
-		verify(listarClientesUseCase).vipAtivos();
+		assertEquals(1, response.getBody().getItens().size());
+		verify(listarClientesUseCase).vipAtivos(any(ConsultaPaginada.class));
+	}
+
+	// ==================== Testes do método buscarPorNome ====================
+
+	@Test
+	@DisplayName("Deve buscar clientes por nome com filtros e cursor")
+	void deveBuscarClientesPorNomeComFiltrosECursor() {
+		ArgumentCaptor<FiltroCliente> filtro = ArgumentCaptor.forClass(FiltroCliente.class);
+		ArgumentCaptor<ConsultaPaginada> consulta = ArgumentCaptor.forClass(ConsultaPaginada.class);
+		when(listarClientesUseCase.porNome(eq("joão"), filtro.capture(), consulta.capture()))
+				.thenReturn(new Pagina<>(Collections.singletonList(cliente), "cursor-busca"));
+
+		ResponseEntity<PaginaDTO<ClienteDTO>> response = adapter.buscarPorNome("joão", true, "SP", 5, "cursor-anterior", null);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(1, response.getBody().getItens().size());
+		assertEquals("cursor-busca", response.getBody().getProximoCursor());
+		assertEquals(Boolean.TRUE, filtro.getValue().getAtivo());
+		assertEquals("SP", filtro.getValue().getEstado());
+		assertNull(filtro.getValue().getCidade());
+		assertEquals(5, consulta.getValue().getLimite());
+		assertEquals("cursor-anterior", consulta.getValue().getCursor());
+	}
+
+	@Test
+	@DisplayName("Deve propagar erro de busca por nome sem texto")
+	void devePropagarErroDeBuscaPorNomeSemTexto() {
+		when(listarClientesUseCase.porNome(any(), any(FiltroCliente.class), any(ConsultaPaginada.class)))
+				.thenThrow(new InvalidClienteException("q", "informe o texto da busca"));
+
+		assertThrows(InvalidClienteException.class, () -> adapter.buscarPorNome(null, null, null, null, null, null));
 	}
 
 	// ==================== Testes do método contarAtivos ====================
@@ -797,6 +1101,306 @@ class ClienteRestAdapterTest {
 		verify(listarClientesUseCase).contarAtivos();
 	}
 
+	// ==================== Testes de criação em lote ====================
+
+	@Test
+	@DisplayName("Deve retornar 201 quando todos os clientes do lote forem criados")
+	void deveRetornar201QuandoTodosCriados() {
+		ClienteDTO dto = new ClienteDTO();
+		dto.setNomeCliente("João Silva");
+		dto.setEmailCliente("joao@email.com");
+		dto.setCpfCliente("12345678901");
+		when(criarClientesEmLoteUseCase.execute(anyList(), anyMap())).thenAnswer(invocation -> {
+			List<Cliente> clientes = invocation.getArgument(0);
+			return clientes.stream().map(ResultadoItemLote::criado).toList();
+		});
+
+		ResponseEntity<ResultadoLoteDTO> response = adapter.criarEmLote(List.of(dto));
+
+		assertEquals(HttpStatus.CREATED, response.getStatusCode());
+		assertNotNull(response.getBody());
+		assertEquals(1, response.getBody().getCriados());
+		assertEquals("12345678901", response.getBody().getItens().get(0).getCpfCliente());
+	}
+
+	@Test
+	@DisplayName("Deve retornar 207 quando algum cliente do lote for rejeitado")
+	void deveRetornar207QuandoAlgumRejeitado() {
+		ClienteDTO dto = new ClienteDTO();
+		dto.setCpfCliente("12345678901");
+		when(criarClientesEmLoteUseCase.execute(anyList(), anyMap())).thenAnswer(invocation -> {
+			List<Cliente> clientes = invocation.getArgument(0);
+			return List.of(ResultadoItemLote.criado(clientes.get(0)),
+					ResultadoItemLote.rejeitado(StatusItemLote.CPF_DUPLICADO, clientes.get(1), "CPF duplicado"));
+		});
+
+		ResponseEntity<ResultadoLoteDTO> response = adapter.criarEmLote(List.of(new ClienteDTO(), dto));
+
+		assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+		assertEquals(1, response.getBody().getRejeitados());
+		assertEquals("CPF_DUPLICADO", response.getBody().getItens().get(1).getStatus());
+	}
+
+	@Test
+	@DisplayName("Deve repassar ao caso de uso os itens que violam as restrições do DTO")
+	void deveRepassarItensQueViolamRestricoesDoDto() {
+		ClienteDTO valido = new ClienteDTO();
+		valido.setNomeCliente("João Silva");
+		valido.setEmailCliente("joao@email.com");
+		valido.setCpfCliente("52998224725");
+		ClienteDTO invalido = new ClienteDTO();
+		invalido.setNomeCliente("Maria");
+		invalido.setEmailCliente("maria@email.com");
+		invalido.setCpfCliente("52998224725");
+		EnderecoDTO endereco = new EnderecoDTO();
+		endereco.setEstado("sp");
+		endereco.setCep("0131-100");
+		invalido.setEndereco(endereco);
+		when(criarClientesEmLoteUseCase.execute(anyList(), anyMap())).thenReturn(List.of());
+
+		adapter.criarEmLote(List.of(valido, invalido));
+
+		verify(criarClientesEmLoteUseCase).execute(anyList(), eq(Map.of(1,
+				"endereco.cep: CEP deve conter 8 dígitos; endereco.estado: Estado deve ter 2 caracteres")));
+	}
+
+	@Test
+	@DisplayName("Deve repassar lote vazio ao caso de uso para validação")
+	void deveRepassarLoteVazioAoCasoDeUso() {
+		when(criarClientesEmLoteUseCase.execute(List.of(), Map.of()))
+				.thenThrow(new InvalidClienteException("O lote deve conter ao menos um cliente"));
+
+		assertThrows(InvalidClienteException.class, () -> adapter.criarEmLote(null));
+	}
+
+	// ==================== Testes de alteração em massa ====================
+
+	@Test
+	@DisplayName("Deve aplicar alteração em massa com o filtro das listagens")
+	void deveAplicarAlteracaoEmMassaComFiltro() {
+		when(alterarClientesEmMassaUseCase.execute(any(FiltroCliente.class), any(AlteracaoEmMassa.class), eq(false)))
+				.thenReturn(new ResultadoAlteracaoEmMassa(20, 12, false));
+
+		ResponseEntity<ResultadoAlteracaoEmMassaDTO> response = adapter.alterarEmMassa(
+				new AlteracaoEmMassaDTO("adicionar-tag", "vip"), true, "São Paulo", null, null, false);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(20, response.getBody().getEncontrados());
+		assertEquals(12, response.getBody().getAlterados());
+
+		ArgumentCaptor<FiltroCliente> filtroCaptor = ArgumentCaptor.forClass(FiltroCliente.class);
+		ArgumentCaptor<AlteracaoEmMassa> alteracaoCaptor = ArgumentCaptor.forClass(AlteracaoEmMassa.class);
+		verify(alterarClientesEmMassaUseCase).execute(filtroCaptor.capture(), alteracaoCaptor.capture(), eq(false));
+		assertEquals(true, filtroCaptor.getValue().getAtivo());
+		assertEquals("São Paulo", filtroCaptor.getValue().getCidade());
+		assertEquals(TipoAlteracaoEmMassa.ADICIONAR_TAG, alteracaoCaptor.getValue().getTipo());
+		assertEquals("vip", alteracaoCaptor.getValue().getTag());
+	}
+
+	@Test
+	@DisplayName("Deve repassar a simulação (dry-run) ao caso de uso")
+	void deveRepassarSimulacaoAoCasoDeUso() {
+		when(alterarClientesEmMassaUseCase.execute(any(FiltroCliente.class), any(AlteracaoEmMassa.class), eq(true)))
+				.thenReturn(ResultadoAlteracaoEmMassa.simulado(5));
+
+		ResponseEntity<ResultadoAlteracaoEmMassaDTO> response = adapter.alterarEmMassa(
+				new AlteracaoEmMassaDTO("desativar", null), null, null, "SP", null, true);
+
+		assertTrue(response.getBody().isSimulacao());
+		assertEquals(5, response.getBody().getAlterados());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar operação de alteração em massa desconhecida")
+	void deveRejeitarOperacaoDeAlteracaoEmMassaDesconhecida() {
+		assertThrows(InvalidClienteException.class, () -> adapter.alterarEmMassa(
+				new AlteracaoEmMassaDTO("apagar", null), null, "São Paulo", null, null, false));
+	}
+
+	// ==================== Testes das buscas com JSON direto ====================
+
+	@Test
+	@DisplayName("Deve responder a busca por ID com o JSON transcodificado, sem passar pelo caso de uso")
+	void deveBuscarPorIdComJsonDireto() {
+		byte[] json = "{\"clienteId\":\"cliente-uuid-123\"}".getBytes(StandardCharsets.UTF_8);
+		when(clienteJsonReader.porClienteId("cliente-uuid-123", ProjecaoCliente.completa()))
+				.thenReturn(Optional.of(new ClienteJson(json, "cliente-uuid-123", 2, null)));
+
+		ResponseEntity<?> response = this.adapterComJsonDireto().buscarPorId("cliente-uuid-123", null, cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+		assertEquals(json, response.getBody());
+		assertEquals("\"cliente-uuid-123-2\"", response.getHeaders().getETag());
+		verify(buscarClienteUseCase, never()).porClienteId(any(), any());
+	}
+
+	@Test
+	@DisplayName("Deve retornar 404 na busca por CPF com JSON direto quando o cliente não existe")
+	void deveRetornar404NaBuscaPorCpfComJsonDireto() {
+		when(clienteJsonReader.porCpf("99999999999", ProjecaoCliente.completa())).thenReturn(Optional.empty());
+
+		ResponseEntity<?> response = this.adapterComJsonDireto().buscarPorCpf("99999999999", null, cabecalhos);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertNull(response.getBody());
+	}
+
+	@Test
+	@DisplayName("Deve repassar a projeção à busca por e-mail com JSON direto")
+	void deveRepassarProjecaoNaBuscaPorEmailComJsonDireto() {
+		byte[] json = "{\"nomeCliente\":\"João Silva\"}".getBytes(StandardCharsets.UTF_8);
+		ArgumentCaptor<ProjecaoCliente> captor = ArgumentCaptor.forClass(ProjecaoCliente.class);
+		when(clienteJsonReader.porEmail(eq("joao@example.com"), captor.capture()))
+				.thenReturn(Optional.of(new ClienteJson(json, "cliente-uuid-123", 1, null)));
+
+		ResponseEntity<?> response = this.adapterComJsonDireto().buscarPorEmail("joao@example.com", "nomeCliente", cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(json, response.getBody());
+		assertTrue(captor.getValue().inclui("nomeCliente"));
+		assertFalse(captor.getValue().inclui("cpfCliente"));
+	}
+
+	// ==================== Testes do GET condicional ====================
+
+	@Test
+	@DisplayName("Deve enviar ETag, Last-Modified e Cache-Control na busca por ID")
+	void deveEnviarValidadoresNaBuscaPorId() {
+		cliente.setDataUltimaAtualizacao(LocalDateTime.of(2024, 5, 10, 14, 30, 15));
+		when(buscarClienteUseCase.porClienteId("cliente-uuid-123", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
+
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-uuid-123", null, cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("\"cliente-uuid-123-1\"", response.getHeaders().getETag());
+		assertEquals(instante(cliente.getDataUltimaAtualizacao()).toEpochMilli(), response.getHeaders().getLastModified());
+		assertEquals("private, no-cache", response.getHeaders().getCacheControl());
+	}
+
+	@Test
+	@DisplayName("Deve ler os campos dos validadores sem devolvê-los fora de fields")
+	void deveLerValidadoresForaDaProjecao() {
+		ArgumentCaptor<ProjecaoCliente> captor = ArgumentCaptor.forClass(ProjecaoCliente.class);
+		when(buscarClienteUseCase.porClienteId(eq("cliente-uuid-123"), captor.capture())).thenReturn(Optional.of(cliente));
+
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-uuid-123", "nomeCliente", cabecalhos);
+
+		assertTrue(captor.getValue().inclui("versao"));
+		assertFalse(captor.getValue().inclui("cpfCliente"));
+		assertNull(((ClienteDTO) response.getBody()).getVersao());
+		assertEquals("\"cliente-uuid-123-1\"", response.getHeaders().getETag());
+	}
+
+	@Test
+	@DisplayName("Deve responder 304 com If-None-Match lendo apenas os validadores")
+	void deveResponder304ComIfNoneMatch() {
+		cabecalhos.setIfNoneMatch("\"cliente-uuid-123-1\"");
+		ArgumentCaptor<ProjecaoCliente> captor = ArgumentCaptor.forClass(ProjecaoCliente.class);
+		when(buscarClienteUseCase.porClienteId(eq("cliente-uuid-123"), captor.capture())).thenReturn(Optional.of(cliente));
+
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-uuid-123", null, cabecalhos);
+
+		assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+		assertNull(response.getBody());
+		assertEquals("\"cliente-uuid-123-1\"", response.getHeaders().getETag());
+		assertEquals(List.of("clienteId", "versao", "dataUltimaAtualizacao"), List.copyOf(captor.getValue().getCampos()));
+	}
+
+	@Test
+	@DisplayName("Deve responder 200 com o cliente completo quando a versão mudou")
+	void deveResponder200QuandoVersaoMudou() {
+		cabecalhos.setIfNoneMatch("\"cliente-uuid-123-0\"");
+		when(buscarClienteUseCase.porEmail(eq("joao@example.com"), any())).thenReturn(Optional.of(cliente));
+
+		ResponseEntity<?> response = adapter.buscarPorEmail("joao@example.com", null, cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("João Silva", ((ClienteDTO) response.getBody()).getNomeCliente());
+		verify(buscarClienteUseCase).porEmail("joao@example.com", ProjecaoCliente.completa());
+	}
+
+	@Test
+	@DisplayName("Deve responder 304 com If-Modified-Since na busca por CPF")
+	void deveResponder304ComIfModifiedSince() {
+		cliente.setDataUltimaAtualizacao(LocalDateTime.of(2024, 5, 10, 14, 30, 15, 500_000_000));
+		cabecalhos.setIfModifiedSince(instante(LocalDateTime.of(2024, 5, 10, 14, 30, 15)).toEpochMilli());
+		when(buscarClienteUseCase.porCpf(eq("12345678901"), any())).thenReturn(Optional.of(cliente));
+
+		ResponseEntity<?> response = adapter.buscarPorCpf("12345678901", null, cabecalhos);
+
+		assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+		verify(buscarClienteUseCase, never()).porCpf("12345678901", ProjecaoCliente.completa());
+	}
+
+	@Test
+	@DisplayName("Deve responder 404 em requisição condicional para cliente inexistente")
+	void deveResponder404EmRequisicaoCondicionalSemCliente() {
+		cabecalhos.setIfNoneMatch("*");
+		when(buscarClienteUseCase.porClienteId(eq("cliente-inexistente"), any())).thenReturn(Optional.empty());
+
+		ResponseEntity<?> response = adapter.buscarPorId("cliente-inexistente", null, cabecalhos);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+	}
+
+	@Test
+	@DisplayName("Deve responder 304 com JSON direto comparando apenas os validadores")
+	void deveResponder304ComJsonDireto() {
+		cabecalhos.setIfNoneMatch("W/\"cliente-uuid-123-2\"");
+		byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+		when(clienteJsonReader.porClienteId(eq("cliente-uuid-123"), any()))
+				.thenReturn(Optional.of(new ClienteJson(json, "cliente-uuid-123", 2, null)));
+
+		ResponseEntity<?> response = this.adapterComJsonDireto().buscarPorId("cliente-uuid-123", null, cabecalhos);
+
+		assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+		verify(clienteJsonReader, never()).porClienteId("cliente-uuid-123", ProjecaoCliente.completa());
+	}
+
+	@Test
+	@DisplayName("Deve ignorar pré-condições e omitir validadores quando desligado")
+	void deveIgnorarPreCondicoesQuandoDesligado() {
+		CacheHttpProperties properties = new CacheHttpProperties();
+		properties.setEnabled(false);
+		validadoresHttp = new ValidadoresHttp(properties);
+		cabecalhos.setIfNoneMatch("\"cliente-uuid-123-1\"");
+		when(buscarClienteUseCase.porClienteId("cliente-uuid-123", ProjecaoCliente.completa())).thenReturn(Optional.of(cliente));
+
+		ResponseEntity<?> response = this.novoAdapter().buscarPorId("cliente-uuid-123", null, cabecalhos);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertNull(response.getHeaders().getETag());
+		assertNull(response.getHeaders().getCacheControl());
+	}
+
+	// ==================== Testes do método autocompletar ====================
+
+	@Test
+	@DisplayName("Deve devolver sugestões só com clienteId, nome e e-mail")
+	void deveDevolverSugestoesProjetadas() {
+		when(autocompletarClienteUseCase.sugerir("jo", 5)).thenReturn(List.of(cliente));
+
+		ResponseEntity<List<ClienteDTO>> response = adapter.autocompletar("jo", 5);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		ClienteDTO sugestao = response.getBody().get(0);
+		assertEquals("cliente-uuid-123", sugestao.getClienteId());
+		assertEquals("João Silva", sugestao.getNomeCliente());
+		assertEquals("joao@example.com", sugestao.getEmailCliente());
+		assertNull(sugestao.getCpfCliente());
+		assertNull(sugestao.getEndereco());
+	}
+
+	@Test
+	@DisplayName("Deve propagar erro de autocompletar sem texto")
+	void devePropagarErroDeAutocompletarSemTexto() {
+		when(autocompletarClienteUseCase.sugerir(null, null))
+				.thenThrow(new InvalidClienteException("q", "informe o início do nome ou e-mail"));
+
+		assertThrows(InvalidClienteException.class, () -> adapter.autocompletar(null, null));
+	}
+
 	// ==================== Testes do construtor ====================
 
 	@Test
@@ -804,13 +1408,45 @@ class ClienteRestAdapterTest {
 	void deveCriarInstanciaDoAdapterComTodosUseCases() {
 		ClienteRestAdapter newAdapter = new ClienteRestAdapter(
 				criarClienteUseCase,
+				criarClientesEmLoteUseCase,
 				buscarClienteUseCase,
 				listarClientesUseCase,
 				atualizarClienteUseCase,
+				alterarClienteUseCase,
 				desativarClienteUseCase,
 				reativarClienteUseCase,
-				deletarClienteUseCase);
+				deletarClienteUseCase,
+				alterarClientesEmMassaUseCase,
+				exportarClientesUseCase,
+				autocompletarClienteUseCase,
+				exportWriter,
+				validadoresHttp,
+				clienteJsonReaderProvider,
+				validator);
 
 		assertNotNull(newAdapter);
 	}
+
+	private ClienteRestAdapter adapterComJsonDireto() {
+		when(clienteJsonReaderProvider.getIfAvailable()).thenReturn(clienteJsonReader);
+		return this.novoAdapter();
+	}
+
+	private ClienteRestAdapter novoAdapter() {
+		return new ClienteRestAdapter(criarClienteUseCase, criarClientesEmLoteUseCase, buscarClienteUseCase,
+				listarClientesUseCase, atualizarClienteUseCase, alterarClienteUseCase, desativarClienteUseCase, reativarClienteUseCase,
+				deletarClienteUseCase, alterarClientesEmMassaUseCase, exportarClientesUseCase, autocompletarClienteUseCase,
+				exportWriter,
+				validadoresHttp,
+				clienteJsonReaderProvider,
+				validator);
+	}
+
+	private static JsonNode patch(String json) throws Exception {
+		return JsonMapper.builder().build().readTree(json);
+	}
+
+	private static Instant instante(LocalDateTime data) {
+		return data.atZone(ZoneId.systemDefault()).toInstant();
+	}
 }
@@ -0,0 +1,354 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.adapter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
+import br.com.postech.techchallange_customer.application.dto.ItemLoteDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.dto.ResultadoLoteDTO;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ConsultaPaginada;
+import br.com.postech.techchallange_customer.domain.entity.FiltroCliente;
+import br.com.postech.techchallange_customer.domain.entity.Pagina;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+import br.com.postech.techchallange_customer.domain.entity.ResultadoItemLote;
+import br.com.postech.techchallange_customer.domain.entity.StatusItemLote;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.port.in.AlterarClientesEmMassaUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.CriarClientesEmLoteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveAtualizarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveBuscarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveCriarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDeletarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveDesativarClienteUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveListarClientesUseCase;
+import br.com.postech.techchallange_customer.domain.port.in.ReactiveReativarClienteUseCase;
+import br.com.postech.techchallange_customer.infrastructure.rest.exception.ReactiveExceptionHandler;
+import br.com.postech.techchallange_customer.infrastructure.rest.export.ClienteExportWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - ReactiveClienteRestAdapter")
+class ReactiveClienteRestAdapterTest {
+
+	@Mock
+	private ReactiveCriarClienteUseCase criarClienteUseCase;
+
+	@Mock
+	private CriarClientesEmLoteUseCase criarClientesEmLoteUseCase;
+
+	@Mock
+	private ReactiveBuscarClienteUseCase buscarClienteUseCase;
+
+	@Mock
+	private ReactiveListarClientesUseCase listarClientesUseCase;
+
+	@Mock
+	private ReactiveAtualizarClienteUseCase atualizarClienteUseCase;
+
+	@Mock
+	private ReactiveDesativarClienteUseCase desativarClienteUseCase;
+
+	@Mock
+	private ReactiveReativarClienteUseCase reativarClienteUseCase;
+
+	@Mock
+	private ReactiveDeletarClienteUseCase deletarClienteUseCase;
+
+	@Mock
+	private AlterarClientesEmMassaUseCase alterarClientesEmMassaUseCase;
+
+	private ReactiveClienteRestAdapter adapter;
+
+	private WebTestClient client;
+
+	@BeforeEach
+	@SuppressWarnings("unused")
+	void setUp() {
+		adapter = new ReactiveClienteRestAdapter(criarClienteUseCase, criarClientesEmLoteUseCase,
+				buscarClienteUseCase, listarClientesUseCase, atualizarClienteUseCase, desativarClienteUseCase,
+				reativarClienteUseCase, deletarClienteUseCase, alterarClientesEmMassaUseCase,
+				new ClienteExportWriter(JsonMapper.builder().findAndAddModules().build()),
+				Validation.buildDefaultValidatorFactory().getValidator());
+		client = WebTestClient.bindToController(adapter)
+				.controllerAdvice(new ReactiveExceptionHandler(new SimpleMeterRegistry()))
+				.build();
+	}
+
+	@Test
+	@DisplayName("Deve criar cliente e retornar 201")
+	void deveCriarClienteERetornar201() {
+		when(criarClienteUseCase.execute(any(Cliente.class))).thenReturn(Mono.just(cliente("cliente-1")));
+
+		StepVerifier.create(adapter.criar(clienteDTO()))
+				.assertNext(response -> {
+					assertEquals(HttpStatus.CREATED, response.getStatusCode());
+					assertEquals("cliente-1", response.getBody().getClienteId());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve retornar 404 quando a busca por ID completa vazia")
+	void deveRetornar404QuandoBuscaPorIdCompletaVazia() {
+		when(buscarClienteUseCase.porClienteId(eq("inexistente"), any(ProjecaoCliente.class))).thenReturn(Mono.empty());
+
+		StepVerifier.create(adapter.buscarPorId("inexistente", null))
+				.assertNext(response -> assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode()))
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve devolver apenas os campos pedidos na busca por CPF")
+	void deveDevolverApenasCamposPedidosNaBuscaPorCpf() {
+		when(buscarClienteUseCase.porCpf(eq("12345678909"), any(ProjecaoCliente.class)))
+				.thenReturn(Mono.just(cliente("cliente-1")));
+
+		StepVerifier.create(adapter.buscarPorCpf("12345678909", "clienteId"))
+				.assertNext(response -> {
+					assertEquals(HttpStatus.OK, response.getStatusCode());
+					assertEquals("cliente-1", response.getBody().getClienteId());
+					assertNull(response.getBody().getNomeCliente());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve listar página de ativos com limite e cursor informados")
+	void deveListarPaginaDeAtivosComLimiteECursorInformados() {
+		ArgumentCaptor<ConsultaPaginada> captor = ArgumentCaptor.forClass(ConsultaPaginada.class);
+		when(listarClientesUseCase.ativos(captor.capture()))
+				.thenReturn(Mono.just(new Pagina<>(List.of(cliente("cliente-1")), "proximo")));
+
+		StepVerifier.create(adapter.listarAtivos(10, null, null, null))
+				.assertNext(response -> {
+					PaginaDTO<ClienteDTO> pagina = response.getBody();
+					assertEquals(1, pagina.getItens().size());
+					assertEquals("proximo", pagina.getProximoCursor());
+				})
+				.verifyComplete();
+		assertEquals(10, captor.getValue().getLimite());
+	}
+
+	@Test
+	@DisplayName("Deve transmitir clientes VIP ativos com o filtro da rota")
+	void deveTransmitirClientesVipAtivosComFiltroDaRota() {
+		ArgumentCaptor<FiltroCliente> captor = ArgumentCaptor.forClass(FiltroCliente.class);
+		when(listarClientesUseCase.fluxo(captor.capture(), any(ProjecaoCliente.class)))
+				.thenReturn(Flux.just(cliente("cliente-1"), cliente("cliente-2")));
+
+		StepVerifier.create(adapter.transmitirClientesVip(null))
+				.assertNext(dto -> assertEquals("cliente-1", dto.getClienteId()))
+				.assertNext(dto -> assertEquals("cliente-2", dto.getClienteId()))
+				.verifyComplete();
+		assertEquals(Boolean.TRUE, captor.getValue().getAtivo());
+		assertEquals("vip", captor.getValue().getTag());
+	}
+
+	@Test
+	@DisplayName("Deve responder 204 ao desativar e propagar cliente inexistente")
+	void deveResponder204AoDesativarEPropagarClienteInexistente() {
+		when(desativarClienteUseCase.execute("cliente-1")).thenReturn(Mono.empty());
+		when(desativarClienteUseCase.execute("inexistente"))
+				.thenReturn(Mono.error(new ClienteNotFoundException("inexistente")));
+
+		StepVerifier.create(adapter.desativar("cliente-1"))
+				.assertNext(response -> assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode()))
+				.verifyComplete();
+		StepVerifier.create(adapter.desativar("inexistente"))
+				.expectError(ClienteNotFoundException.class)
+				.verify();
+	}
+
+	@Test
+	@DisplayName("Deve executar o lote fora do event loop e responder 207 com rejeitados")
+	void deveExecutarLoteForaDoEventLoopEResponder207ComRejeitados() {
+		String[] thread = new String[1];
+		when(criarClientesEmLoteUseCase.execute(anyList(), anyMap())).thenAnswer(invocation -> {
+			thread[0] = Thread.currentThread().getName();
+			return List.of(
+					ResultadoItemLote.criado(cliente("cliente-1")),
+					ResultadoItemLote.rejeitado(StatusItemLote.CPF_DUPLICADO, cliente(null), "CPF já cadastrado"));
+		});
+
+		StepVerifier.create(adapter.criarEmLote(List.of(clienteDTO(), clienteDTO())))
+				.assertNext(response -> {
+					assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+					ResultadoLoteDTO lote = response.getBody();
+					assertEquals(1, lote.getRejeitados());
+				})
+				.verifyComplete();
+		assertTrue(thread[0].startsWith("boundedElastic"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar como INVALIDO o item do lote que viola as restrições do DTO")
+	void deveRejeitarItemDoLoteQueViolaRestricoesDoDto() {
+		ClienteDTO invalido = clienteDTO();
+		EnderecoDTO endereco = new EnderecoDTO();
+		endereco.setEstado("São Paulo");
+		invalido.setEndereco(endereco);
+		when(criarClientesEmLoteUseCase.execute(anyList(), anyMap())).thenAnswer(invocation -> {
+			List<Cliente> clientes = invocation.getArgument(0);
+			Map<Integer, String> invalidos = invocation.getArgument(1);
+			return List.of(ResultadoItemLote.criado(clientes.get(0)),
+					ResultadoItemLote.rejeitado(StatusItemLote.INVALIDO, clientes.get(1), invalidos.get(1)));
+		});
+
+		StepVerifier.create(adapter.criarEmLote(List.of(clienteDTO(), invalido)))
+				.assertNext(response -> {
+					ItemLoteDTO item = response.getBody().getItens().get(1);
+					assertEquals("INVALIDO", item.getStatus());
+					assertEquals("endereco.estado: Estado deve ter 2 caracteres", item.getMensagem());
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve exportar NDJSON em fluxo de buffers")
+	void deveExportarNdjsonEmFluxoDeBuffers() {
+		when(listarClientesUseCase.fluxo(any(FiltroCliente.class), any(ProjecaoCliente.class)))
+				.thenReturn(Flux.just(cliente("cliente-1"), cliente("cliente-2")));
+
+		ResponseEntity<Flux<DataBuffer>> response = adapter.exportar(null, true, null, null, null);
+
+		assertEquals("attachment; filename=\"clientes.ndjson\"",
+				response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+		String corpo = String.join("", response.getBody()
+				.map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+				.collectList()
+				.block());
+		String[] linhas = corpo.split("\n");
+		assertEquals(2, linhas.length);
+		assertTrue(linhas[0].contains("\"clienteId\":\"cliente-1\""));
+	}
+
+	@Test
+	@DisplayName("Deve contar clientes ativos")
+	void deveContarClientesAtivos() {
+		when(listarClientesUseCase.contarAtivos()).thenReturn(Mono.just(5L));
+
+		StepVerifier.create(adapter.contarAtivos())
+				.assertNext(response -> assertEquals(5L, response.getBody()))
+				.verifyComplete();
+	}
+
+	// ==================== Negociação de conteúdo e erros ====================
+
+	@Test
+	@DisplayName("Deve responder página JSON quando o cliente não pede NDJSON")
+	void deveResponderPaginaJsonQuandoClienteNaoPedeNdjson() {
+		when(listarClientesUseCase.ativos(any(ConsultaPaginada.class)))
+				.thenReturn(Mono.just(new Pagina<>(List.of(cliente("cliente-1")), null)));
+
+		client.get().uri("/api/v1/clientes/ativos")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+				.expectBody()
+				.jsonPath("$.itens[0].clienteId").isEqualTo("cliente-1");
+
+		verify(listarClientesUseCase, never()).fluxo(any(FiltroCliente.class), any(ProjecaoCliente.class));
+	}
+
+	@Test
+	@DisplayName("Deve transmitir NDJSON quando o cliente pede application/x-ndjson")
+	void deveTransmitirNdjsonQuandoClientePedeNdjson() {
+		when(listarClientesUseCase.fluxo(any(FiltroCliente.class), any(ProjecaoCliente.class)))
+				.thenReturn(Flux.just(cliente("cliente-1"), cliente("cliente-2")));
+
+		List<ClienteDTO> recebidos = client.get().uri("/api/v1/clientes/ativos?fields=clienteId")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.returnResult(ClienteDTO.class)
+				.getResponseBody()
+				.collectList()
+				.block();
+
+		assertNotNull(recebidos);
+		assertEquals(2, recebidos.size());
+		assertEquals("cliente-2", recebidos.get(1).getClienteId());
+		verify(listarClientesUseCase, never()).ativos(any(ConsultaPaginada.class));
+	}
+
+	@Test
+	@DisplayName("Deve responder 404 com ErrorResponse quando o caso de uso sinaliza cliente inexistente")
+	void deveResponder404ComErrorResponseQuandoCasoDeUsoSinalizaClienteInexistente() {
+		when(reativarClienteUseCase.execute("inexistente"))
+				.thenReturn(Mono.error(new ClienteNotFoundException("inexistente")));
+
+		client.patch().uri("/api/v1/clientes/inexistente/reativar")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(404)
+				.jsonPath("$.path").isEqualTo("/api/v1/clientes/inexistente/reativar");
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar corpo inválido com 400 antes de chamar o caso de uso")
+	void deveRejeitarCorpoInvalidoCom400AntesDeChamarCasoDeUso() {
+		client.post().uri("/api/v1/clientes")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"nomeCliente\":\"\"}")
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.error").isEqualTo("Validation Error");
+
+		verify(criarClienteUseCase, never()).execute(any(Cliente.class));
+	}
+
+	// Funções auxiliares
+
+	private Cliente cliente(String clienteId) {
+		Cliente cliente = new Cliente("João Silva", "joao@example.com", "12345678909");
+		cliente.setClienteId(clienteId);
+		cliente.setAtivo(true);
+		return cliente;
+	}
+
+	private ClienteDTO clienteDTO() {
+		ClienteDTO dto = new ClienteDTO();
+		dto.setNomeCliente("João Silva");
+		dto.setEmailCliente("joao@example.com");
+		dto.setCpfCliente("12345678909");
+		return dto;
+	}
+}
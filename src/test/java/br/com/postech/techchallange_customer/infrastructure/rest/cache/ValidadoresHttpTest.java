@@ -0,0 +1,164 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.cache;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import br.com.postech.techchallange_customer.infrastructure.config.CacheHttpProperties;
+
+@DisplayName("ValidadoresHttp - Testes Unitários")
+class ValidadoresHttpTest {
+
+	private static final Instant ATUALIZACAO = Instant.parse("2024-05-10T14:30:15.400Z");
+
+	private CacheHttpProperties properties;
+	private ValidadoresHttp validadores;
+	private ValidadorCliente validador;
+	private HttpHeaders requisicao;
+
+	@BeforeEach
+	void setUp() {
+		properties = new CacheHttpProperties();
+		validadores = new ValidadoresHttp(properties);
+		validador = new ValidadorCliente("abc-123", 4, ATUALIZACAO);
+		requisicao = new HttpHeaders();
+	}
+
+	@Test
+	@DisplayName("Deve montar ETag forte com clienteId e versão")
+	void deveMontarEtagForte() {
+		assertEquals("\"abc-123-4\"", validador.etag().formattedTag());
+		assertNull(new ValidadorCliente("abc-123", null, ATUALIZACAO).etag());
+	}
+
+	@Test
+	@DisplayName("Deve converter a data do cliente no fuso da JVM")
+	void deveConverterDataDoCliente() {
+		Cliente cliente = new Cliente();
+		cliente.setClienteId("abc-123");
+		cliente.setVersao(4);
+		cliente.setDataUltimaAtualizacao(LocalDateTime.ofInstant(ATUALIZACAO, ZoneId.systemDefault()));
+
+		assertEquals(validador, ValidadorCliente.of(cliente));
+	}
+
+	@Test
+	@DisplayName("Deve tratar como condicional apenas requisições com pré-condições")
+	void deveIdentificarRequisicaoCondicional() {
+		assertFalse(validadores.isCondicional(requisicao));
+
+		requisicao.setIfModifiedSince(ATUALIZACAO.toEpochMilli());
+		assertTrue(validadores.isCondicional(requisicao));
+
+		properties.setEnabled(false);
+		assertFalse(validadores.isCondicional(requisicao));
+	}
+
+	@Test
+	@DisplayName("Deve comparar If-None-Match de forma fraca, aceitando listas e curinga")
+	void deveCompararIfNoneMatch() {
+		requisicao.set(HttpHeaders.IF_NONE_MATCH, "\"abc-123-3\", W/\"abc-123-4\"");
+		assertTrue(validadores.naoModificado(requisicao, validador));
+
+		requisicao.set(HttpHeaders.IF_NONE_MATCH, "*");
+		assertTrue(validadores.naoModificado(requisicao, validador));
+
+		requisicao.set(HttpHeaders.IF_NONE_MATCH, "\"abc-123-3\"");
+		assertFalse(validadores.naoModificado(requisicao, validador));
+	}
+
+	@Test
+	@DisplayName("Deve dar precedência a If-None-Match sobre If-Modified-Since")
+	void deveDarPrecedenciaAIfNoneMatch() {
+		requisicao.setIfNoneMatch("\"abc-123-3\"");
+		requisicao.setIfModifiedSince(ATUALIZACAO.plusSeconds(60).toEpochMilli());
+
+		assertFalse(validadores.naoModificado(requisicao, validador));
+	}
+
+	@Test
+	@DisplayName("Deve comparar If-Modified-Since em segundos")
+	void deveCompararIfModifiedSinceEmSegundos() {
+		requisicao.setIfModifiedSince(Instant.parse("2024-05-10T14:30:15Z").toEpochMilli());
+		assertTrue(validadores.naoModificado(requisicao, validador));
+
+		requisicao.setIfModifiedSince(Instant.parse("2024-05-10T14:30:14Z").toEpochMilli());
+		assertFalse(validadores.naoModificado(requisicao, validador));
+
+		assertFalse(validadores.naoModificado(requisicao, new ValidadorCliente("abc-123", 4, null)));
+	}
+
+	@Test
+	@DisplayName("Deve montar respostas 200 e 304 com os validadores e o Cache-Control configurado")
+	void deveMontarRespostasComValidadores() {
+		properties.setCacheControl("private, max-age=30");
+
+		ResponseEntity<String> ok = validadores.ok(validador).body("{}");
+		ResponseEntity<String> naoModificado = validadores.naoModificado(validador);
+
+		assertEquals(HttpStatus.OK, ok.getStatusCode());
+		assertEquals(HttpStatus.NOT_MODIFIED, naoModificado.getStatusCode());
+		assertNull(naoModificado.getBody());
+		for (ResponseEntity<String> resposta : List.of(ok, naoModificado)) {
+			assertEquals("\"abc-123-4\"", resposta.getHeaders().getETag());
+			assertEquals(Instant.parse("2024-05-10T14:30:15Z").toEpochMilli(), resposta.getHeaders().getLastModified());
+			assertEquals("private, max-age=30", resposta.getHeaders().getCacheControl());
+		}
+	}
+
+	@Test
+	@DisplayName("Deve omitir validadores quando desligado")
+	void deveOmitirValidadoresQuandoDesligado() {
+		properties.setEnabled(false);
+
+		ResponseEntity<String> ok = validadores.ok(validador).body("{}");
+
+		assertTrue(ok.getHeaders().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deve extrair a versão da ETag informada em If-Match")
+	void deveExtrairVersaoDoIfMatch() {
+		assertNull(validadores.versaoEsperada(requisicao, "abc-123"));
+
+		requisicao.setIfMatch("\"abc-123-4\"");
+		assertEquals(4, validadores.versaoEsperada(requisicao, "abc-123"));
+
+		requisicao.setIfMatch("*");
+		assertNull(validadores.versaoEsperada(requisicao, "abc-123"));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar If-Match fraco, de outro cliente ou fora do formato")
+	void deveRejeitarIfMatchQueNaoIdentificaVersao() {
+		for (String ifMatch : List.of("W/\"abc-123-4\"", "\"xyz-9-4\"", "\"abc-123-x\"", "\"abc-123\"")) {
+			requisicao.setIfMatch(ifMatch);
+			assertThrows(VersaoDivergenteException.class, () -> validadores.versaoEsperada(requisicao, "abc-123"),
+					ifMatch);
+		}
+	}
+
+	@Test
+	@DisplayName("Deve exigir uma única ETag em If-Match")
+	void deveExigirUmaUnicaEtagNoIfMatch() {
+		requisicao.setIfMatch(List.of("\"abc-123-4\"", "\"abc-123-5\""));
+
+		assertThrows(InvalidClienteException.class, () -> validadores.versaoEsperada(requisicao, "abc-123"));
+	}
+}
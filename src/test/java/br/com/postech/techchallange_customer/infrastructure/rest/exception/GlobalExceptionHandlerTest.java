@@ -11,16 +11,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import br.com.postech.techchallange_customer.domain.exception.AlteracaoConcorrenteException;
 import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
 import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
 import br.com.postech.techchallange_customer.domain.exception.DomainException;
 import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import br.com.postech.techchallange_customer.domain.exception.VersaoDivergenteException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 @DisplayName("Testes Unitários - GlobalExceptionHandler")
@@ -28,10 +32,12 @@ class GlobalExceptionHandlerTest {
 
 	private GlobalExceptionHandler handler;
 	private HttpServletRequest request;
+	private SimpleMeterRegistry meterRegistry;
 
 	@BeforeEach
 	void setUp() {
-		handler = new GlobalExceptionHandler();
+		meterRegistry = new SimpleMeterRegistry();
+		handler = new GlobalExceptionHandler(meterRegistry);
 		request = mock(HttpServletRequest.class);
 		when(request.getRequestURI()).thenReturn("/api/v1/clientes");
 	}
@@ -86,6 +92,44 @@ class GlobalExceptionHandlerTest {
 		assertEquals("/api/v1/clientes/123", response.getBody().getPath());
 	}
 
+	// ==================== Testes de concorrência (If-Match / versão) ====================
+
+	@Test
+	@DisplayName("Deve tratar VersaoDivergenteException e retornar 412")
+	void deveTratarVersaoDivergenteExceptionRetornar412() {
+		VersaoDivergenteException exception = new VersaoDivergenteException("123", 2);
+
+		ResponseEntity<ErrorResponse> response = handler.handleVersaoDivergente(exception, request);
+
+		assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+		assertEquals(412, response.getBody().getStatus());
+		assertEquals("Precondition Failed", response.getBody().getError());
+		assertTrue(response.getBody().getMessage().contains("versão 2"));
+	}
+
+	@Test
+	@DisplayName("Deve tratar AlteracaoConcorrenteException e retornar 409")
+	void deveTratarAlteracaoConcorrenteExceptionRetornar409() {
+		AlteracaoConcorrenteException exception = new AlteracaoConcorrenteException("123");
+
+		ResponseEntity<ErrorResponse> response = handler.handleAlteracaoConcorrente(exception, request);
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals("Conflict", response.getBody().getError());
+		assertTrue(response.getBody().getMessage().contains("123"));
+	}
+
+	@Test
+	@DisplayName("Deve tratar OptimisticLockingFailureException e retornar 409 em vez de 500")
+	void deveTratarOptimisticLockingFailureExceptionRetornar409() {
+		OptimisticLockingFailureException exception = new OptimisticLockingFailureException("versão 3 esperada");
+
+		ResponseEntity<ErrorResponse> response = handler.handleOptimisticLocking(exception, request);
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals(409, response.getBody().getStatus());
+	}
+
 	// ==================== Testes ClienteAlreadyExistsException
 	// ====================
 
@@ -438,4 +482,22 @@ class GlobalExceptionHandlerTest {
 		assertNotNull(response.getBody().getPath());
 		assertEquals("/api/v1/clientes", response.getBody().getPath());
 	}
+
+	// ==================== Testes de métricas ====================
+
+	@Test
+	@DisplayName("Deve contar exceções tratadas por tipo e status")
+	void deveContarExcecoesTratadasPorTipoEStatus() {
+		handler.handleInvalidCliente(new InvalidClienteException("inválido"), request);
+		handler.handleInvalidCliente(new InvalidClienteException("inválido"), request);
+		handler.handleClienteNotFound(new ClienteNotFoundException("123"), request);
+		handler.handleGenericException(new IllegalStateException("falha"), request);
+
+		assertEquals(2.0, meterRegistry.get("clientes.erros")
+				.tags("excecao", "InvalidClienteException", "status", "400").counter().count());
+		assertEquals(1.0, meterRegistry.get("clientes.erros")
+				.tags("excecao", "ClienteNotFoundException", "status", "404").counter().count());
+		assertEquals(1.0, meterRegistry.get("clientes.erros")
+				.tags("excecao", "IllegalStateException", "status", "500").counter().count());
+	}
 }
@@ -0,0 +1,122 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.exception;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import br.com.postech.techchallange_customer.domain.exception.ClienteAlreadyExistsException;
+import br.com.postech.techchallange_customer.domain.exception.ClienteNotFoundException;
+import br.com.postech.techchallange_customer.domain.exception.DomainException;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Testes Unitários - ReactiveExceptionHandler")
+class ReactiveExceptionHandlerTest {
+
+	private ReactiveExceptionHandler handler;
+	private ServerHttpRequest request;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		handler = new ReactiveExceptionHandler(meterRegistry);
+		request = MockServerHttpRequest.get("/api/v1/clientes/123").build();
+	}
+
+	@Test
+	@DisplayName("Deve tratar ClienteNotFoundException e retornar 404 com o caminho da requisição")
+	void deveTratarClienteNotFoundExceptionRetornar404() {
+		ResponseEntity<ErrorResponse> response = handler.handleClienteNotFound(new ClienteNotFoundException("123"),
+				request);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertEquals("Not Found", response.getBody().getError());
+		assertEquals("Cliente não encontrado com ID: 123", response.getBody().getMessage());
+		assertEquals("/api/v1/clientes/123", response.getBody().getPath());
+	}
+
+	@Test
+	@DisplayName("Deve tratar ClienteAlreadyExistsException e retornar 409")
+	void deveTratarClienteAlreadyExistsExceptionRetornar409() {
+		ResponseEntity<ErrorResponse> response = handler.handleClienteAlreadyExists(
+				new ClienteAlreadyExistsException("CPF", "12345678909"), request);
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals("Conflict", response.getBody().getError());
+	}
+
+	@Test
+	@DisplayName("Deve tratar InvalidClienteException e retornar 400")
+	void deveTratarInvalidClienteExceptionRetornar400() {
+		ResponseEntity<ErrorResponse> response = handler.handleInvalidCliente(
+				new InvalidClienteException("e-mail", "formato inválido"), request);
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals("Bad Request", response.getBody().getError());
+	}
+
+	@Test
+	@DisplayName("Deve tratar DomainException e retornar 400")
+	void deveTratarDomainExceptionRetornar400() {
+		ResponseEntity<ErrorResponse> response = handler.handleDomainException(
+				new DomainException("Regra de negócio violada"), request);
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals("Domain Error", response.getBody().getError());
+		assertEquals("Regra de negócio violada", response.getBody().getMessage());
+	}
+
+	@Test
+	@DisplayName("Deve tratar WebExchangeBindException com os erros de campo")
+	void deveTratarWebExchangeBindExceptionComErrosDeCampo() {
+		WebExchangeBindException exception = mock(WebExchangeBindException.class);
+		BindingResult bindingResult = mock(BindingResult.class);
+		when(exception.getBindingResult()).thenReturn(bindingResult);
+		when(bindingResult.getFieldErrors()).thenReturn(List.of(
+				new FieldError("clienteDTO", "emailCliente", "invalido", false, null, null, "E-mail inválido")));
+
+		ResponseEntity<ErrorResponse> response = handler.handleValidationErrors(exception, request);
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals("Validation Error", response.getBody().getError());
+		assertNotNull(response.getBody().getFieldErrors());
+		assertEquals(1, response.getBody().getFieldErrors().size());
+		assertEquals("emailCliente", response.getBody().getFieldErrors().get(0).getField());
+	}
+
+	@Test
+	@DisplayName("Deve tratar Exception genérica e retornar 500 sem expor a mensagem")
+	void deveTratarExceptionGenericaRetornar500() {
+		ResponseEntity<ErrorResponse> response = handler.handleGenericException(
+				new IllegalStateException("detalhe interno"), request);
+
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+		assertEquals("Ocorreu um erro interno no servidor", response.getBody().getMessage());
+	}
+
+	@Test
+	@DisplayName("Deve contar exceções tratadas por tipo e status")
+	void deveContarExcecoesTratadasPorTipoEStatus() {
+		handler.handleClienteNotFound(new ClienteNotFoundException("123"), request);
+		handler.handleGenericException(new IllegalStateException("falha"), request);
+
+		assertEquals(1.0, meterRegistry.get("clientes.erros")
+				.tags("excecao", "ClienteNotFoundException", "status", "404").counter().count());
+		assertEquals(1.0, meterRegistry.get("clientes.erros")
+				.tags("excecao", "IllegalStateException", "status", "500").counter().count());
+	}
+}
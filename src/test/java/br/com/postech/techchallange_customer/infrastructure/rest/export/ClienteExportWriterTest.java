@@ -0,0 +1,205 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.export;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.Endereco;
+import br.com.postech.techchallange_customer.domain.entity.Metadata;
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class ClienteExportWriterTest {
+
+	private ObjectMapper objectMapper;
+	private ClienteExportWriter writer;
+	private Cliente cliente;
+
+	@BeforeEach
+	void setUp() {
+		objectMapper = JsonMapper.builder().findAndAddModules().build();
+		writer = new ClienteExportWriter(objectMapper);
+
+		cliente = new Cliente("João, \"Jota\" Silva", "joao@email.com", "12345678901");
+		cliente.setClienteId("cliente-uuid-123");
+		cliente.setDataCadastro(LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+		cliente.setDataUltimaAtualizacao(LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+		cliente.setEndereco(new Endereco("Rua A", "10", "São Paulo", "SP", "01234567"));
+		Metadata metadata = new Metadata("web", "site");
+		metadata.adicionarTag("vip");
+		metadata.adicionarTag("premium");
+		cliente.setMetadata(metadata);
+	}
+
+	@Test
+	@DisplayName("Deve escrever um JSON por linha no formato NDJSON")
+	void deveEscreverUmJsonPorLinhaNoFormatoNdjson() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ClienteExportWriter.Escritor escritor = writer.abrir(FormatoExportacao.NDJSON, out)) {
+			escritor.escrever(cliente);
+			escritor.escrever(cliente);
+		}
+
+		String[] linhas = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, linhas.length);
+		JsonNode json = objectMapper.readTree(linhas[0]);
+		assertEquals("cliente-uuid-123", json.get("clienteId").asText());
+		assertEquals("2025-01-02T03:04:05", json.get("dataCadastro").asText());
+		assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+	}
+
+	@Test
+	@DisplayName("Deve descarregar o NDJSON no stream apenas no flush ou ao fechar, não a cada cliente")
+	void deveDescarregarNdjsonApenasNoFlushOuAoFechar() throws Exception {
+		ContadorDeFlush out = new ContadorDeFlush();
+
+		try (ClienteExportWriter.Escritor escritor = writer.abrir(FormatoExportacao.NDJSON, out)) {
+			for (int i = 0; i < 100; i++) {
+				escritor.escrever(cliente);
+			}
+			assertEquals(0, out.flushes);
+		}
+
+		assertEquals(100, out.toString(StandardCharsets.UTF_8).split("\n").length);
+	}
+
+	@Test
+	@DisplayName("Deve escrever cabeçalho e escapar valores no formato CSV")
+	void deveEscreverCabecalhoEEscaparValoresNoFormatoCsv() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (ClienteExportWriter.Escritor escritor = writer.abrir(FormatoExportacao.CSV, out)) {
+			escritor.escrever(cliente);
+		}
+
+		String[] linhas = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, linhas.length);
+		assertTrue(linhas[0].startsWith("clienteId,nomeCliente,emailCliente"));
+		assertEquals("cliente-uuid-123,\"João, \"\"Jota\"\" Silva\",joao@email.com,12345678901,,true,"
+				+ "Rua A,10,,,São Paulo,SP,01234567,web,site,vip;premium,2025-01-02T03:04:05,2025-01-02T03:04:05",
+				linhas[1]);
+	}
+
+	@Test
+	@DisplayName("Deve neutralizar valores CSV que planilhas interpretariam como fórmula")
+	void deveNeutralizarFormulasNoCsv() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		cliente.setNomeCliente("=HYPERLINK(\"http://x\",\"y\")");
+		cliente.setEmailCliente("@SUM(1+1)");
+		cliente.setEndereco(new Endereco("+Rua A", "-10", "São Paulo", "SP", "01234567"));
+		cliente.setMetadata(null);
+
+		try (ClienteExportWriter.Escritor escritor = writer.abrir(FormatoExportacao.CSV, out)) {
+			escritor.escrever(cliente);
+		}
+
+		String linha = out.toString(StandardCharsets.UTF_8).split("\n")[1];
+		assertTrue(linha.startsWith("cliente-uuid-123,\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'@SUM(1+1),12345678901,"));
+		assertTrue(linha.contains(",'+Rua A,'-10,"));
+	}
+
+	@Test
+	@DisplayName("Deve escrever cliente sem endereço e metadata no CSV")
+	void deveEscreverClienteSemEnderecoEMetadataNoCsv() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		cliente.setEndereco(null);
+		cliente.setMetadata(null);
+		cliente.setNomeCliente("Maria");
+
+		try (ClienteExportWriter.Escritor escritor = writer.abrir(FormatoExportacao.CSV, out)) {
+			escritor.escrever(cliente);
+		}
+
+		String linha = out.toString(StandardCharsets.UTF_8).split("\n")[1];
+		assertEquals(18, linha.split(",", -1).length);
+	}
+
+	@Test
+	@DisplayName("Deve agrupar clientes pequenos do fluxo em um único bloco NDJSON")
+	void deveAgruparClientesPequenosEmUmBloco() {
+		StepVerifier.create(writer.serializar(FormatoExportacao.NDJSON, Flux.just(cliente, cliente))
+				.map(bloco -> new String(bloco, StandardCharsets.UTF_8)))
+				.assertNext(bloco -> {
+					String[] linhas = bloco.split("\n");
+					assertEquals(2, linhas.length);
+					assertTrue(linhas[0].startsWith("{\"id\":null,\"clienteId\":\"cliente-uuid-123\""));
+					assertTrue(bloco.endsWith("}\n"));
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve emitir blocos por volume e não um bloco por cliente")
+	void deveEmitirBlocosPorVolumeENaoPorCliente() {
+		int quantidade = 1_000;
+
+		List<String> blocos = writer.serializar(FormatoExportacao.NDJSON, Flux.range(0, quantidade).map(i -> cliente))
+				.map(bloco -> new String(bloco, StandardCharsets.UTF_8))
+				.collectList()
+				.block();
+
+		assertTrue(blocos.size() > 1);
+		assertTrue(blocos.size() < quantidade / 10);
+		assertEquals(quantidade, String.join("", blocos).split("\n").length);
+	}
+
+	@Test
+	@DisplayName("Deve serializar fluxo CSV com cabeçalho no primeiro bloco")
+	void deveSerializarFluxoCsvComCabecalhoNoPrimeiroBloco() {
+		List<String> blocos = writer.serializar(FormatoExportacao.CSV, Flux.just(cliente))
+				.map(bloco -> new String(bloco, StandardCharsets.UTF_8))
+				.collectList()
+				.block();
+
+		assertEquals(1, blocos.size());
+		String[] linhas = blocos.get(0).split("\n");
+		assertEquals(2, linhas.length);
+		assertTrue(linhas[0].startsWith("clienteId,nomeCliente,emailCliente"));
+	}
+
+	@Test
+	@DisplayName("Deve emitir só o cabeçalho CSV quando o fluxo é vazio")
+	void deveEmitirSoCabecalhoCsvQuandoFluxoEVazio() {
+		StepVerifier.create(writer.serializar(FormatoExportacao.CSV, Flux.empty())
+				.map(bloco -> new String(bloco, StandardCharsets.UTF_8)))
+				.assertNext(cabecalho -> assertTrue(cabecalho.startsWith("clienteId,")))
+				.verifyComplete();
+		StepVerifier.create(writer.serializar(FormatoExportacao.NDJSON, Flux.empty()))
+				.verifyComplete();
+	}
+
+	@Test
+	@DisplayName("Deve converter parâmetro de formato")
+	void deveConverterParametroDeFormato() {
+		assertEquals(FormatoExportacao.NDJSON, FormatoExportacao.fromParametro(null));
+		assertEquals(FormatoExportacao.CSV, FormatoExportacao.fromParametro("CSV"));
+		assertThrows(InvalidClienteException.class, () -> FormatoExportacao.fromParametro("xml"));
+	}
+
+	// Funções auxiliares
+
+	private static class ContadorDeFlush extends ByteArrayOutputStream {
+
+		private int flushes;
+
+		@Override
+		public void flush() {
+			flushes++;
+		}
+	}
+}
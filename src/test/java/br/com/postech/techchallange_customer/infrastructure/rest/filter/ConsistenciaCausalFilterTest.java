@@ -0,0 +1,67 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import br.com.postech.techchallange_customer.infrastructure.persistence.leitura.ConsistenciaCausal;
+
+@DisplayName("ConsistenciaCausalFilter - Testes Unitários")
+class ConsistenciaCausalFilterTest {
+
+	private static final BsonTimestamp ESCRITA = new BsonTimestamp(1_760_000_000, 2);
+
+	private ConsistenciaCausal consistencia;
+	private ConsistenciaCausalFilter filter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+		consistencia = new ConsistenciaCausal();
+		filter = new ConsistenciaCausalFilter(consistencia);
+		request = new MockHttpServletRequest("PUT", "/api/clientes/abc-123");
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	@DisplayName("Deve devolver o token antes do corpo quando a requisição escreveu")
+	void deveDevolverTokenAntesDoCorpoQuandoRequisicaoEscreveu() throws Exception {
+		filter.doFilter(request, response, (req, res) -> {
+			consistencia.registrarEscrita(ESCRITA);
+			res.getWriter().write("{}");
+			res.flushBuffer();
+		});
+
+		assertEquals(ConsistenciaCausal.toToken(ESCRITA), response.getHeader(ConsistenciaCausalFilter.CABECALHO));
+	}
+
+	@Test
+	@DisplayName("Deve devolver o token em respostas sem corpo")
+	void deveDevolverTokenEmRespostasSemCorpo() throws Exception {
+		filter.doFilter(request, response, (req, res) -> consistencia.registrarEscrita(ESCRITA));
+
+		assertEquals(ConsistenciaCausal.toToken(ESCRITA), response.getHeader(ConsistenciaCausalFilter.CABECALHO));
+	}
+
+	@Test
+	@DisplayName("Deve usar o token recebido durante a requisição sem devolvê-lo")
+	void deveUsarTokenRecebidoSemDevolver() throws Exception {
+		request.addHeader(ConsistenciaCausalFilter.CABECALHO, ConsistenciaCausal.toToken(ESCRITA));
+		AtomicReference<BsonTimestamp> lido = new AtomicReference<>();
+
+		filter.doFilter(request, response, (req, res) -> lido.set(consistencia.getTokenLeitura()));
+
+		assertEquals(ESCRITA, lido.get());
+		assertNull(response.getHeader(ConsistenciaCausalFilter.CABECALHO));
+		assertNull(consistencia.getTokenLeitura());
+	}
+}
@@ -0,0 +1,182 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.application.dto.ClienteDTO;
+import br.com.postech.techchallange_customer.application.dto.ClienteParcialDTO;
+import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
+import br.com.postech.techchallange_customer.application.dto.MetadataDTO;
+import br.com.postech.techchallange_customer.application.dto.PaginaDTO;
+import br.com.postech.techchallange_customer.application.mapper.ClienteMapper;
+import br.com.postech.techchallange_customer.domain.entity.Cliente;
+import br.com.postech.techchallange_customer.domain.entity.ProjecaoCliente;
+
+/**
+ * Saída de referência: a serialização por reflexão do ObjectMapper nos padrões
+ * do Spring Boot deve ser reproduzida byte a byte pelo módulo
+ */
+@DisplayName("ClienteDTOSerializer - Testes Unitários")
+class ClienteDTOSerializerTest {
+
+	private ObjectMapper padrao;
+	private ObjectMapper dedicado;
+
+	@BeforeEach
+	void setUp() {
+		padrao = Jackson2ObjectMapperBuilder.json().build();
+		dedicado = Jackson2ObjectMapperBuilder.json().modulesToInstall(new ClienteJacksonModule()).build();
+	}
+
+	@Test
+	@DisplayName("Deve registrar o serializador dedicado pelo módulo")
+	void deveRegistrarSerializadorPeloModulo() throws Exception {
+		assertInstanceOf(ClienteDTOSerializer.class,
+				dedicado.getSerializerProviderInstance().findValueSerializer(ClienteDTO.class));
+		assertInstanceOf(EnderecoDTOSerializer.class,
+				dedicado.getSerializerProviderInstance().findValueSerializer(EnderecoDTO.class));
+		assertInstanceOf(MetadataDTOSerializer.class,
+				dedicado.getSerializerProviderInstance().findValueSerializer(MetadataDTO.class));
+	}
+
+	@Test
+	@DisplayName("Deve gerar os mesmos bytes da serialização padrão para um cliente completo")
+	void deveGerarMesmosBytesParaClienteCompleto() throws Exception {
+		assertMesmaSaida(completo());
+	}
+
+	@Test
+	@DisplayName("Deve escrever os campos nulos como null na resposta completa")
+	void deveEscreverCamposNulosNaRespostaCompleta() throws Exception {
+		ClienteDTO dto = new ClienteDTO();
+		dto.setNomeCliente("João Silva");
+
+		assertMesmaSaida(dto);
+		assertMesmaSaida(new ClienteDTO());
+		assertEquals("{\"id\":null,\"clienteId\":null,\"nomeCliente\":\"João Silva\",\"emailCliente\":null,"
+				+ "\"cpfCliente\":null,\"telefone\":null,\"endereco\":null,\"ativo\":null,\"dataCadastro\":null,"
+				+ "\"dataUltimaAtualizacao\":null,\"versao\":null,\"metadata\":null}", dedicado.writeValueAsString(dto));
+	}
+
+	@Test
+	@DisplayName("Deve omitir os campos nulos na resposta parcial como @JsonInclude(NON_NULL)")
+	void deveOmitirCamposNulosNaRespostaParcial() throws Exception {
+		ClienteDTO dto = new ClienteParcialDTO();
+		dto.setNomeCliente("João Silva");
+
+		assertMesmaSaida(dto);
+		assertMesmaSaida(new ClienteParcialDTO());
+		assertEquals("{\"nomeCliente\":\"João Silva\"}", dedicado.writeValueAsString(dto));
+	}
+
+	@Test
+	@DisplayName("Deve gerar a mesma resposta parcial de fields=")
+	void deveGerarMesmaRespostaParcial() throws Exception {
+		Cliente cliente = ClienteMapper.toDomain(completo());
+
+		assertMesmaSaida(ClienteMapper.toDTO(cliente, ProjecaoCliente.of("clienteId", "ativo", "endereco")));
+		assertMesmaSaida(ClienteMapper.toDTO(cliente, ProjecaoCliente.of("versao", "dataCadastro")));
+
+		cliente.setEndereco(null);
+		assertEquals("{\"clienteId\":\"7b9e2c4a-1f3d-4e8b-9a6c-000000000001\",\"ativo\":false}",
+				dedicado.writeValueAsString(ClienteMapper.toDTO(cliente, ProjecaoCliente.of("clienteId", "ativo", "endereco"))));
+	}
+
+	@Test
+	@DisplayName("Deve escapar textos como a serialização padrão")
+	void deveEscaparTextos() throws Exception {
+		ClienteDTO dto = completo();
+		dto.setNomeCliente("Ana \"Nina\" D'Ávila \\ \n\t\u0001 😀 </script>");
+		dto.getMetadata().setNotas("linha 1\r\nlinha 2");
+
+		assertMesmaSaida(dto);
+	}
+
+	@Test
+	@DisplayName("Deve formatar datas de qualquer ano como o @JsonFormat")
+	void deveFormatarDatasComoJsonFormat() throws Exception {
+		ClienteDTO dto = completo();
+		for (LocalDateTime data : List.of(LocalDateTime.of(1, 1, 1, 0, 0), LocalDateTime.of(999, 12, 31, 23, 59, 59),
+				LocalDateTime.of(2024, 2, 29, 7, 5, 9, 999_999_999), LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+				LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(0, 6, 15, 12, 0),
+				LocalDateTime.of(-44, 3, 15, 12, 0))) {
+			dto.setDataCadastro(data);
+			dto.getMetadata().setDataDesativacao(data);
+
+			assertMesmaSaida(dto);
+		}
+	}
+
+	@Test
+	@DisplayName("Deve gerar os mesmos bytes em páginas e listas")
+	void deveGerarMesmosBytesEmPaginasEListas() throws Exception {
+		List<ClienteDTO> itens = new ArrayList<>();
+		itens.add(completo());
+		itens.add(new ClienteDTO());
+		itens.add(new ClienteParcialDTO());
+		itens.add(null);
+
+		assertArrayEquals(padrao.writeValueAsBytes(new PaginaDTO<>(itens, "cursor")),
+				dedicado.writeValueAsBytes(new PaginaDTO<>(itens, "cursor")));
+		assertArrayEquals(padrao.writeValueAsBytes(itens), dedicado.writeValueAsBytes(itens));
+	}
+
+	@Test
+	@DisplayName("Deve manter a leitura das requisições pela desserialização padrão")
+	void deveManterDesserializacaoPadrao() throws Exception {
+		byte[] json = padrao.writeValueAsBytes(completo());
+
+		assertArrayEquals(json, dedicado.writeValueAsBytes(dedicado.readValue(json, ClienteDTO.class)));
+	}
+
+	// Funções auxiliares
+
+	private void assertMesmaSaida(ClienteDTO dto) throws Exception {
+		assertEquals(padrao.writeValueAsString(dto), dedicado.writeValueAsString(dto));
+		assertArrayEquals(padrao.writeValueAsBytes(dto), dedicado.writeValueAsBytes(dto));
+	}
+
+	static ClienteDTO completo() {
+		ClienteDTO dto = new ClienteDTO();
+		dto.setId("65f4a1c2e4b0a1b2c3d4e5f6");
+		dto.setClienteId("7b9e2c4a-1f3d-4e8b-9a6c-000000000001");
+		dto.setNomeCliente("Maria Oliveira");
+		dto.setEmailCliente("maria@email.com");
+		dto.setCpfCliente("12345678909");
+		dto.setTelefone("11987654321");
+		dto.setAtivo(false);
+		dto.setDataCadastro(LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_000_000));
+		dto.setDataUltimaAtualizacao(LocalDateTime.of(2024, 4, 1, 8, 0));
+		dto.setVersao(3);
+
+		EnderecoDTO endereco = new EnderecoDTO();
+		endereco.setRua("Avenida Paulista");
+		endereco.setNumero("1000");
+		endereco.setBairro("Bela Vista");
+		endereco.setCidade("São Paulo");
+		endereco.setEstado("SP");
+		endereco.setCep("01310100");
+		dto.setEndereco(endereco);
+
+		MetadataDTO metadata = new MetadataDTO();
+		metadata.setOrigem("site");
+		metadata.setCanal("web");
+		metadata.setTags(Arrays.asList("vip", null, "premium"));
+		metadata.setNotas("Prefere contato por e-mail");
+		metadata.setDataDesativacao(LocalDateTime.of(2024, 5, 2, 9, 15));
+		dto.setMetadata(metadata);
+		return dto;
+	}
+}
@@ -0,0 +1,99 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.domain.exception.InvalidClienteException;
+
+@DisplayName("ClienteMergePatch - Testes Unitários")
+class ClienteMergePatchTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("Deve converter valores em definição e null em remoção")
+	void deveConverterValoresENulos() throws Exception {
+		Map<String, Object> valores = ClienteMergePatch.toAlteracao(json(
+				"{\"nomeCliente\":\"Maria\",\"telefone\":null}")).getValores();
+
+		assertEquals("Maria", valores.get("nomeCliente"));
+		assertTrue(valores.containsKey("telefone"));
+		assertNull(valores.get("telefone"));
+	}
+
+	@Test
+	@DisplayName("Deve mesclar endereço e metadata subcampo a subcampo")
+	void deveMesclarEnderecoEMetadata() throws Exception {
+		Map<String, Object> valores = ClienteMergePatch.toAlteracao(json(
+				"{\"endereco\":{\"cidade\":\"Recife\",\"complemento\":null},\"metadata\":{\"tags\":[\"vip\"]}}"))
+				.getValores();
+
+		assertEquals(List.of("endereco.cidade", "endereco.complemento", "metadata.tags"),
+				List.copyOf(valores.keySet()));
+		assertEquals("Recife", valores.get("endereco.cidade"));
+		assertEquals(List.of("vip"), valores.get("metadata.tags"));
+	}
+
+	@Test
+	@DisplayName("Deve remover o endereço inteiro e os campos editáveis de metadata quando null")
+	void deveRemoverEnderecoEMetadataQuandoNull() throws Exception {
+		Map<String, Object> valores = ClienteMergePatch.toAlteracao(json("{\"endereco\":null,\"metadata\":null}"))
+				.getValores();
+
+		assertEquals(List.of("endereco", "metadata.origem", "metadata.canal", "metadata.notas", "metadata.tags"),
+				List.copyOf(valores.keySet()));
+		assertTrue(valores.values().stream().allMatch(valor -> valor == null));
+	}
+
+	@Test
+	@DisplayName("Deve aceitar objeto vazio como alteração vazia")
+	void deveAceitarObjetoVazio() throws Exception {
+		assertTrue(ClienteMergePatch.toAlteracao(json("{}")).isVazia());
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar corpo que não é objeto")
+	void deveRejeitarCorpoQueNaoEhObjeto() throws Exception {
+		JsonNode lista = json("[]");
+
+		assertThrows(InvalidClienteException.class, () -> ClienteMergePatch.toAlteracao(lista));
+		assertThrows(InvalidClienteException.class, () -> ClienteMergePatch.toAlteracao(null));
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar campos não alteráveis e desconhecidos")
+	void deveRejeitarCamposNaoAlteraveisEDesconhecidos() throws Exception {
+		for (String patch : List.of("{\"cpfCliente\":\"12345678909\"}", "{\"versao\":3}", "{\"ativo\":false}",
+				"{\"senha\":\"x\"}", "{\"endereco\":{\"pais\":\"BR\"}}",
+				"{\"metadata\":{\"dataDesativacao\":null}}")) {
+			JsonNode corpo = json(patch);
+			assertThrows(InvalidClienteException.class, () -> ClienteMergePatch.toAlteracao(corpo), patch);
+		}
+	}
+
+	@Test
+	@DisplayName("Deve rejeitar tipos inválidos")
+	void deveRejeitarTiposInvalidos() throws Exception {
+		for (String patch : List.of("{\"telefone\":11999999999}", "{\"endereco\":\"Rua A\"}",
+				"{\"metadata\":{\"tags\":\"vip\"}}", "{\"metadata\":{\"tags\":[1]}}")) {
+			JsonNode corpo = json(patch);
+			assertThrows(InvalidClienteException.class, () -> ClienteMergePatch.toAlteracao(corpo), patch);
+		}
+	}
+
+	// Funções auxiliares
+
+	private JsonNode json(String conteudo) throws Exception {
+		return objectMapper.readTree(conteudo);
+	}
+}
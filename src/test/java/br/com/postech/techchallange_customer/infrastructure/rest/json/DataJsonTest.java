@@ -0,0 +1,43 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+@DisplayName("DataJson - Testes Unitários")
+class DataJsonTest {
+
+	@Test
+	@DisplayName("Deve escrever as datas exatamente como o DateTimeFormatter do padrão")
+	void deveEscreverComoDateTimeFormatter() throws Exception {
+		for (LocalDateTime data : List.of(LocalDateTime.of(2024, 3, 15, 10, 30, 45),
+				LocalDateTime.of(2024, 12, 1, 0, 0, 0, 999_999_999), LocalDateTime.of(1, 1, 1, 1, 1, 1),
+				LocalDateTime.of(9999, 12, 31, 23, 59, 59), LocalDateTime.of(10000, 1, 1, 0, 0),
+				LocalDateTime.of(0, 1, 1, 0, 0), LocalDateTime.of(-1, 1, 1, 0, 0))) {
+			assertEquals("\"" + DataJson.FORMATO.format(data) + "\"", escrever(data));
+		}
+	}
+
+	@Test
+	@DisplayName("Deve completar com zeros à esquerda")
+	void deveCompletarComZeros() throws Exception {
+		assertEquals("\"0042-01-02T03:04:05\"", escrever(LocalDateTime.of(42, 1, 2, 3, 4, 5)));
+	}
+
+	// Funções auxiliares
+
+	private static String escrever(LocalDateTime data) throws Exception {
+		StringWriter saida = new StringWriter();
+		try (JsonGenerator generator = new JsonFactory().createGenerator(saida)) {
+			DataJson.escrever(generator, data);
+		}
+		return saida.toString();
+	}
+}
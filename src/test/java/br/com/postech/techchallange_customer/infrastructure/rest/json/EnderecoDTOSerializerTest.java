@@ -0,0 +1,36 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.application.dto.EnderecoDTO;
+
+@DisplayName("EnderecoDTOSerializer - Testes Unitários")
+class EnderecoDTOSerializerTest {
+
+	private ObjectMapper padrao;
+	private ObjectMapper dedicado;
+
+	@BeforeEach
+	void setUp() {
+		padrao = Jackson2ObjectMapperBuilder.json().build();
+		dedicado = Jackson2ObjectMapperBuilder.json().modulesToInstall(new ClienteJacksonModule()).build();
+	}
+
+	@Test
+	@DisplayName("Deve gerar os mesmos bytes da serialização padrão, mantendo os nulos")
+	void deveGerarMesmosBytesMantendoNulos() throws Exception {
+		EnderecoDTO endereco = ClienteDTOSerializerTest.completo().getEndereco();
+
+		assertArrayEquals(padrao.writeValueAsBytes(endereco), dedicado.writeValueAsBytes(endereco));
+		assertArrayEquals(padrao.writeValueAsBytes(new EnderecoDTO()), dedicado.writeValueAsBytes(new EnderecoDTO()));
+		assertEquals("{\"rua\":null,\"numero\":null,\"complemento\":null,\"bairro\":null,\"cidade\":null,"
+				+ "\"estado\":null,\"cep\":null}", dedicado.writeValueAsString(new EnderecoDTO()));
+	}
+}
@@ -0,0 +1,50 @@
+package br.com.postech.techchallange_customer.infrastructure.rest.json;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.postech.techchallange_customer.application.dto.MetadataDTO;
+
+@DisplayName("MetadataDTOSerializer - Testes Unitários")
+class MetadataDTOSerializerTest {
+
+	private ObjectMapper padrao;
+	private ObjectMapper dedicado;
+
+	@BeforeEach
+	void setUp() {
+		padrao = Jackson2ObjectMapperBuilder.json().build();
+		dedicado = Jackson2ObjectMapperBuilder.json().modulesToInstall(new ClienteJacksonModule()).build();
+	}
+
+	@Test
+	@DisplayName("Deve gerar os mesmos bytes da serialização padrão com tags nulas, vazias e preenchidas")
+	void deveGerarMesmosBytesComTags() throws Exception {
+		MetadataDTO metadata = ClienteDTOSerializerTest.completo().getMetadata();
+		assertArrayEquals(padrao.writeValueAsBytes(metadata), dedicado.writeValueAsBytes(metadata));
+
+		metadata.setTags(Collections.emptyList());
+		assertArrayEquals(padrao.writeValueAsBytes(metadata), dedicado.writeValueAsBytes(metadata));
+
+		metadata.setTags(null);
+		metadata.setDataDesativacao(null);
+		assertArrayEquals(padrao.writeValueAsBytes(metadata), dedicado.writeValueAsBytes(metadata));
+	}
+
+	@Test
+	@DisplayName("Deve escrever todos os campos de um metadata vazio")
+	void deveEscreverTodosOsCamposDeMetadataVazio() throws Exception {
+		MetadataDTO vazio = new MetadataDTO();
+
+		assertArrayEquals(padrao.writeValueAsBytes(vazio), dedicado.writeValueAsBytes(vazio));
+		assertEquals(padrao.writeValueAsString(vazio), dedicado.writeValueAsString(vazio));
+	}
+}